@@ -0,0 +1,122 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.libav;
+
+import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort.AudioConfig;
+import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort.AudioRenderRequest;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.ffmpeg.FfmpegAudioRendererAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LibavAudioRendererAdapter Tests")
+class LibavAudioRendererAdapterTest {
+
+    @Mock private LibavFilterEncoder encoder;
+    @Mock private FfmpegAudioRendererAdapter fallback;
+
+    @TempDir
+    Path tempDir;
+
+    private LibavAudioRendererAdapter adapter;
+    private Path narration;
+    private Path music;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        adapter = new LibavAudioRendererAdapter(encoder, fallback);
+        narration = Files.writeString(tempDir.resolve("narration.mp3"), "narration");
+        music = Files.writeString(tempDir.resolve("music.mp3"), "music");
+    }
+
+    @Test
+    @DisplayName("Should build the FFmpeg CLI mix graph with music first")
+    void shouldBuildMixGraph() {
+        String graph = LibavAudioRendererAdapter.mixGraph(narration, music, 0);
+
+        assertThat(graph)
+            .startsWith("amovie=" + LibavFilterEncoder.quote(music.toString()) + ",volume=0.5[music];")
+            .contains("amovie=" + LibavFilterEncoder.quote(narration.toString()) + ",volume=1.0[speech];")
+            .endsWith("[music][speech]amix=inputs=2:duration=first:dropout_transition=0");
+    }
+
+    @Test
+    @DisplayName("Should read the narration alone when there is no music")
+    void shouldBuildNarrationOnlyGraph() {
+        assertThat(LibavAudioRendererAdapter.mixGraph(narration, null, 0))
+            .isEqualTo("amovie=" + LibavFilterEncoder.quote(narration.toString()));
+    }
+
+    @Test
+    @DisplayName("Should cut both inputs for a preview")
+    void shouldTrimPreviewInputs() {
+        String graph = LibavAudioRendererAdapter.mixGraph(narration, music, 12.5);
+
+        assertThat(graph.split("atrim=end=12\\.500", -1)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should escape file names for the option and graph parsers")
+    void shouldQuoteFileNames() {
+        assertThat(LibavFilterEncoder.quote("C:/music/a,b[1]'s.mp3"))
+            .isEqualTo("C\\\\:/music/a\\,b\\[1\\]\\\\\\'s.mp3");
+    }
+
+    @Test
+    @DisplayName("Should encode MP3 in-process and report progress")
+    void shouldRenderInProcess() throws IOException {
+        Path output = tempDir.resolve("output.mp3");
+        List<Double> progress = new ArrayList<>();
+        when(encoder.encode(anyString(), any(), eq(output), any())).thenAnswer(inv -> {
+            inv.<LibavFilterEncoder.ProgressListener>getArgument(3).onProgress(5.0);
+            return 10.0;
+        });
+
+        Path result = adapter.renderAudio(new AudioRenderRequest(
+            narration, music, output, AudioConfig.meditationAudio(), 10.0, progress::add));
+
+        assertThat(result).isEqualTo(output);
+        assertThat(progress).containsExactly(0.5);
+        verify(encoder).encode(anyString(), argThat(encoding -> encoding.codec().equals("libmp3lame")
+            && encoding.options().get("b").equals("128k")
+            && encoding.options().get("ar").equals("48000")), eq(output), any());
+        verify(fallback, never()).renderAudio(any());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the FFmpeg process when libav fails")
+    void shouldFallBackOnLibavFailure() throws IOException {
+        Path output = tempDir.resolve("output.mp3");
+        AudioRenderRequest request = new AudioRenderRequest(narration, music, output, AudioConfig.meditationAudio());
+        when(encoder.encode(anyString(), any(), any(), any()))
+            .thenThrow(new LibavException("Encoder not available: libmp3lame"));
+        when(fallback.renderAudio(request)).thenReturn(output);
+
+        assertThat(adapter.renderAudio(request)).isEqualTo(output);
+        verify(fallback).renderAudio(request);
+    }
+
+    @Test
+    @DisplayName("Should leave non-MP3 outputs to the FFmpeg process")
+    void shouldDelegateOtherFormats() {
+        Path output = tempDir.resolve("output.m4a");
+        AudioRenderRequest request = new AudioRenderRequest(narration, music, output, AudioConfig.meditationAudio());
+        when(fallback.renderAudio(request)).thenReturn(output);
+
+        assertThat(adapter.renderAudio(request)).isEqualTo(output);
+        verifyNoInteractions(encoder);
+    }
+}
@@ -0,0 +1,49 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.libav;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LibavMediaProbe Tests")
+class LibavMediaProbeTest {
+
+    @Test
+    @DisplayName("Should read the duration from av_dump_format output")
+    void shouldParseDumpedDuration() throws LibavException {
+        String dump = "Input #0, mp3, from 'memory':\n  Duration: 01:02:03.45, start: 0.025057, bitrate: 128 kb/s\n";
+
+        assertThat(LibavMediaProbe.parseDuration(dump, "memory")).isEqualTo(3723.45);
+    }
+
+    @Test
+    @DisplayName("Should fail when no duration is reported")
+    void shouldFailWithoutDuration() {
+        assertThatThrownBy(() -> LibavMediaProbe.parseDuration("  Duration: N/A, bitrate: N/A\n", "memory"))
+            .isInstanceOf(LibavException.class);
+    }
+
+    @Test
+    @DisplayName("Should serve reads and seeks from the in-memory media")
+    void shouldReadAndSeekInMemory() {
+        LibavMediaProbe.MemoryInput input =
+            new LibavMediaProbe.MemoryInput(ByteBuffer.wrap("0123456789".getBytes(StandardCharsets.US_ASCII)));
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment buffer = arena.allocate(4);
+
+            assertThat(input.seek(MemorySegment.NULL, 0, 0x10000)).isEqualTo(10);
+            assertThat(input.seek(MemorySegment.NULL, -3, 2)).isEqualTo(7);
+            assertThat(input.read(MemorySegment.NULL, buffer, 4)).isEqualTo(3);
+            assertThat(buffer.asSlice(0, 3).toArray(ValueLayout.JAVA_BYTE))
+                .isEqualTo("789".getBytes(StandardCharsets.US_ASCII));
+            assertThat(input.read(MemorySegment.NULL, buffer, 4)).isEqualTo(Libav.AVERROR_EOF);
+            assertThat(input.seek(MemorySegment.NULL, 11, 0)).isEqualTo(Libav.AVERROR_EIO);
+        }
+    }
+}
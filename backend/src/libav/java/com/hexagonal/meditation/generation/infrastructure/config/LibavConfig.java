@@ -0,0 +1,87 @@
+package com.hexagonal.meditation.generation.infrastructure.config;
+
+import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort;
+import com.hexagonal.meditation.generation.domain.ports.out.VideoRenderingPort;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.ffmpeg.FfmpegAudioRendererAdapter;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.ffmpeg.FfmpegVideoRendererAdapter;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.libav.Libav;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.libav.LibavAudioRendererAdapter;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.libav.LibavException;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.libav.LibavFilterEncoder;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.libav.LibavMediaProbe;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.libav.LibavVideoRendererAdapter;
+import com.hexagonal.meditation.generation.infrastructure.out.service.audio.MediaDurationProbe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.Optional;
+
+/**
+ * In-process media processing through libav (ffmpeg.libav.enabled=true).
+ *
+ * Registers primary rendering ports that run the FFmpeg work in the JVM and
+ * hand anything else to the FFmpeg process adapters, plus the duration probe
+ * used by AudioMetadataService and the TTS adapter.
+ *
+ * If the libraries cannot be loaded, the process adapters are used as the
+ * primary ports and no probe is registered: startup never depends on libav.
+ * Compiled only by the libav Maven profile (java.lang.foreign is a preview API in Java 21).
+ */
+@Configuration
+@ConditionalOnProperty(name = "ffmpeg.libav.enabled", havingValue = "true", matchIfMissing = false)
+public class LibavConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(LibavConfig.class);
+
+    private final FfmpegConfig ffmpegConfig;
+    private Optional<Libav> libav;
+
+    public LibavConfig(FfmpegConfig ffmpegConfig) {
+        this.ffmpegConfig = ffmpegConfig;
+    }
+
+    @Bean
+    @Primary
+    public AudioRenderingPort libavAudioRenderingPort(FfmpegAudioRendererAdapter ffmpegAudioRendererAdapter) {
+        return libav()
+            .<AudioRenderingPort>map(loaded -> new LibavAudioRendererAdapter(
+                new LibavFilterEncoder(loaded), ffmpegAudioRendererAdapter))
+            .orElse(ffmpegAudioRendererAdapter);
+    }
+
+    @Bean
+    @Primary
+    public VideoRenderingPort libavVideoRenderingPort(FfmpegVideoRendererAdapter ffmpegVideoRendererAdapter) {
+        return libav()
+            .<VideoRenderingPort>map(loaded -> new LibavVideoRendererAdapter(
+                new LibavFilterEncoder(loaded), ffmpegVideoRendererAdapter))
+            .orElse(ffmpegVideoRendererAdapter);
+    }
+
+    /**
+     * In-process duration probe; null (an absent Optional for consumers) when libav is unavailable.
+     */
+    @Bean
+    public MediaDurationProbe libavMediaDurationProbe() {
+        return libav().<MediaDurationProbe>map(LibavMediaProbe::new).orElse(null);
+    }
+
+    /**
+     * Load libav once for all beans.
+     */
+    private synchronized Optional<Libav> libav() {
+        if (libav == null) {
+            try {
+                libav = Optional.of(Libav.load(ffmpegConfig.getLibav().getLibraryPath()));
+            } catch (LibavException | RuntimeException | LinkageError e) {
+                log.warn("libav unavailable, media processing stays on the FFmpeg CLI: {}", e.getMessage());
+                libav = Optional.empty();
+            }
+        }
+        return libav;
+    }
+}
@@ -0,0 +1,735 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.libav;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static java.lang.foreign.ValueLayout.ADDRESS;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+/**
+ * Bindings to libavutil, libavcodec, libavformat and libavfilter through the
+ * Foreign Function &amp; Memory API (a preview API in Java 21: the JVM runs with
+ * {@code --enable-preview}).
+ *
+ * Only functions and the leading fields of a few structs are touched
+ * (AVFrame.nb_samples, AVPacket.data/size, AVFilterInOut, AVFormatContext.pb,
+ * AVIOContext.buffer), whose offsets have not moved in years; everything
+ * else goes through AVOptions. That keeps one binding valid for both
+ * supported releases, checked at load time:
+ * - FFmpeg 6.x: avutil 58, avcodec 60, avformat 60, avfilter 9
+ * - FFmpeg 7.x: avutil 59, avcodec 61, avformat 61, avfilter 10
+ *
+ * libav log output is routed to SLF4J (warnings and errors); a thread can
+ * capture the log lines its own calls produce with {@link #captureLog}.
+ *
+ * Loaded once per JVM (the log callback is process-wide).
+ */
+public final class Libav {
+
+    private static final Logger log = LoggerFactory.getLogger(Libav.class);
+
+    /** AVERROR_EOF = -MKTAG('E','O','F',' ') */
+    static final int AVERROR_EOF = -('E' | ('O' << 8) | ('F' << 16) | (' ' << 24));
+    /** AVERROR(EAGAIN): EAGAIN is 35 on macOS, 11 elsewhere */
+    static final int AVERROR_EAGAIN = System.getProperty("os.name", "").toLowerCase(Locale.ROOT).startsWith("mac") ? -35 : -11;
+    /** AVERROR(EIO) */
+    static final int AVERROR_EIO = -5;
+
+    private static final int AV_LOG_ERROR = 16;
+    private static final int AV_LOG_WARNING = 24;
+    private static final int AV_LOG_INFO = 32;
+    private static final int LOG_LINE_SIZE = 1024;
+    private static final int ERROR_STRING_SIZE = 256;
+
+    // Leading, ABI-stable struct fields (64-bit)
+    private static final long AVFRAME_NB_SAMPLES = 112;
+    private static final long AVPACKET_DATA = 24;
+    private static final long AVPACKET_SIZE = 32;
+    private static final long AVFILTERINOUT_NAME = 0;
+    private static final long AVFILTERINOUT_FILTER_CTX = 8;
+    private static final long AVFILTERINOUT_PAD_IDX = 16;
+    private static final long AVFILTERINOUT_NEXT = 24;
+    private static final long AVFORMATCONTEXT_PB = 32;
+    private static final long AVIOCONTEXT_BUFFER = 8;
+
+    private static final List<Library> LIBRARIES = List.of(
+        new Library("avutil", List.of(59, 58)),
+        new Library("avcodec", List.of(61, 60)),
+        new Library("avformat", List.of(61, 60)),
+        new Library("avfilter", List.of(10, 9))
+    );
+
+    private static Libav instance;
+
+    private final Linker linker = Linker.nativeLinker();
+    private final SymbolLookup symbols;
+    private final String versions;
+    private final ThreadLocal<StringBuilder> capture = new ThreadLocal<>();
+
+    // avutil
+    private final MethodHandle avStrerror;
+    private final MethodHandle avLogSetCallback;
+    private final MethodHandle avLogSetLevel;
+    private final MethodHandle avLogFormatLine2;
+    private final MethodHandle avOptSet;
+    private final MethodHandle avOptGetInt;
+    private final MethodHandle avMalloc;
+    private final MethodHandle avFree;
+    private final MethodHandle avStrdup;
+    private final MethodHandle avFrameAlloc;
+    private final MethodHandle avFrameFree;
+    private final MethodHandle avFrameUnref;
+    // avcodec
+    private final MethodHandle avcodecFindEncoderByName;
+    private final MethodHandle avcodecAllocContext3;
+    private final MethodHandle avcodecOpen2;
+    private final MethodHandle avcodecFreeContext;
+    private final MethodHandle avcodecSendFrame;
+    private final MethodHandle avcodecReceivePacket;
+    private final MethodHandle avPacketAlloc;
+    private final MethodHandle avPacketFree;
+    private final MethodHandle avPacketUnref;
+    // avformat
+    private final MethodHandle avformatAllocContext;
+    private final MethodHandle avformatOpenInput;
+    private final MethodHandle avformatFindStreamInfo;
+    private final MethodHandle avformatCloseInput;
+    private final MethodHandle avDumpFormat;
+    private final MethodHandle avioAllocContext;
+    private final MethodHandle avioContextFree;
+    // avfilter
+    private final MethodHandle avfilterGetByName;
+    private final MethodHandle avfilterGraphAlloc;
+    private final MethodHandle avfilterGraphFree;
+    private final MethodHandle avfilterGraphCreateFilter;
+    private final MethodHandle avfilterGraphParsePtr;
+    private final MethodHandle avfilterGraphConfig;
+    private final MethodHandle avfilterInoutAlloc;
+    private final MethodHandle avfilterInoutFree;
+    private final MethodHandle avBuffersinkGetFrame;
+
+    private Libav(SymbolLookup symbols, String versions) throws LibavException {
+        this.symbols = symbols;
+        this.versions = versions;
+
+        avStrerror = function("av_strerror", FunctionDescriptor.of(JAVA_INT, JAVA_INT, ADDRESS, JAVA_LONG));
+        avLogSetCallback = function("av_log_set_callback", FunctionDescriptor.ofVoid(ADDRESS));
+        avLogSetLevel = function("av_log_set_level", FunctionDescriptor.ofVoid(JAVA_INT));
+        avLogFormatLine2 = function("av_log_format_line2",
+            FunctionDescriptor.of(JAVA_INT, ADDRESS, JAVA_INT, ADDRESS, ADDRESS, ADDRESS, JAVA_INT, ADDRESS));
+        avOptSet = function("av_opt_set", FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS, ADDRESS, JAVA_INT));
+        avOptGetInt = function("av_opt_get_int", FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS, JAVA_INT, ADDRESS));
+        avMalloc = function("av_malloc", FunctionDescriptor.of(ADDRESS, JAVA_LONG));
+        avFree = function("av_free", FunctionDescriptor.ofVoid(ADDRESS));
+        avStrdup = function("av_strdup", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        avFrameAlloc = function("av_frame_alloc", FunctionDescriptor.of(ADDRESS));
+        avFrameFree = function("av_frame_free", FunctionDescriptor.ofVoid(ADDRESS));
+        avFrameUnref = function("av_frame_unref", FunctionDescriptor.ofVoid(ADDRESS));
+
+        avcodecFindEncoderByName = function("avcodec_find_encoder_by_name", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        avcodecAllocContext3 = function("avcodec_alloc_context3", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        avcodecOpen2 = function("avcodec_open2", FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS, ADDRESS));
+        avcodecFreeContext = function("avcodec_free_context", FunctionDescriptor.ofVoid(ADDRESS));
+        avcodecSendFrame = function("avcodec_send_frame", FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS));
+        avcodecReceivePacket = function("avcodec_receive_packet", FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS));
+        avPacketAlloc = function("av_packet_alloc", FunctionDescriptor.of(ADDRESS));
+        avPacketFree = function("av_packet_free", FunctionDescriptor.ofVoid(ADDRESS));
+        avPacketUnref = function("av_packet_unref", FunctionDescriptor.ofVoid(ADDRESS));
+
+        avformatAllocContext = function("avformat_alloc_context", FunctionDescriptor.of(ADDRESS));
+        avformatOpenInput = function("avformat_open_input",
+            FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS, ADDRESS, ADDRESS));
+        avformatFindStreamInfo = function("avformat_find_stream_info", FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS));
+        avformatCloseInput = function("avformat_close_input", FunctionDescriptor.ofVoid(ADDRESS));
+        avDumpFormat = function("av_dump_format", FunctionDescriptor.ofVoid(ADDRESS, JAVA_INT, ADDRESS, JAVA_INT));
+        avioAllocContext = function("avio_alloc_context",
+            FunctionDescriptor.of(ADDRESS, ADDRESS, JAVA_INT, JAVA_INT, ADDRESS, ADDRESS, ADDRESS, ADDRESS));
+        avioContextFree = function("avio_context_free", FunctionDescriptor.ofVoid(ADDRESS));
+
+        avfilterGetByName = function("avfilter_get_by_name", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        avfilterGraphAlloc = function("avfilter_graph_alloc", FunctionDescriptor.of(ADDRESS));
+        avfilterGraphFree = function("avfilter_graph_free", FunctionDescriptor.ofVoid(ADDRESS));
+        avfilterGraphCreateFilter = function("avfilter_graph_create_filter",
+            FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS));
+        avfilterGraphParsePtr = function("avfilter_graph_parse_ptr",
+            FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS));
+        avfilterGraphConfig = function("avfilter_graph_config", FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS));
+        avfilterInoutAlloc = function("avfilter_inout_alloc", FunctionDescriptor.of(ADDRESS));
+        avfilterInoutFree = function("avfilter_inout_free", FunctionDescriptor.ofVoid(ADDRESS));
+        avBuffersinkGetFrame = function("av_buffersink_get_frame", FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS));
+
+        installLogCallback();
+    }
+
+    /**
+     * Load the libraries (once per JVM) and check their versions.
+     *
+     * @param libraryDir directory holding the shared libraries; blank to use the system search path
+     * @return bindings
+     * @throws LibavException if a library is missing or of an unsupported major version
+     */
+    public static synchronized Libav load(String libraryDir) throws LibavException {
+        if (instance == null) {
+            Arena arena = Arena.global();
+            SymbolLookup lookup = null;
+            List<String> versions = new ArrayList<>();
+            for (Library library : LIBRARIES) {
+                SymbolLookup libraryLookup = library.open(libraryDir, arena);
+                int major = library.major(libraryLookup);
+                if (!library.majors().contains(major)) {
+                    throw new LibavException("Unsupported lib" + library.name() + " major version " + major
+                        + " (supported: " + library.majors() + ")");
+                }
+                versions.add("lib" + library.name() + " " + major);
+                lookup = lookup == null ? libraryLookup : lookup.or(libraryLookup);
+            }
+            instance = new Libav(lookup, String.join(", ", versions));
+            log.info("libav loaded in process: {}", instance.versions);
+        }
+        return instance;
+    }
+
+    /**
+     * @return loaded library major versions, for logs
+     */
+    public String versions() {
+        return versions;
+    }
+
+    // --- Errors ---
+
+    /**
+     * Throw if a libav return code is an error.
+     *
+     * @return the code when it is not an error
+     */
+    int check(int result, String operation) throws LibavException {
+        if (result < 0) {
+            throw new LibavException(operation + " failed: " + errorString(result), result);
+        }
+        return result;
+    }
+
+    String errorString(int errorCode) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment buffer = arena.allocate(ERROR_STRING_SIZE);
+            int result = (int) avStrerror.invokeExact(errorCode, buffer, (long) ERROR_STRING_SIZE);
+            return result < 0 ? "error " + errorCode : buffer.getUtf8String(0);
+        } catch (Throwable t) {
+            return "error " + errorCode;
+        }
+    }
+
+    // --- Logging ---
+
+    /**
+     * Run libav calls and return the log text they produced on this thread
+     * (including the INFO level, e.g. av_dump_format).
+     */
+    String captureLog(LibavCall call) throws LibavException {
+        StringBuilder captured = new StringBuilder();
+        capture.set(captured);
+        try {
+            call.run();
+        } finally {
+            capture.remove();
+        }
+        return captured.toString();
+    }
+
+    private void installLogCallback() throws LibavException {
+        try {
+            MethodHandle target = MethodHandles.lookup().findVirtual(Libav.class, "onLog",
+                    MethodType.methodType(void.class, MemorySegment.class, int.class, MemorySegment.class, MemorySegment.class))
+                .bindTo(this);
+            // va_list is passed as a pointer on every supported ABI (SysV x86-64, AAPCS64, Windows x64)
+            MemorySegment stub = linker.upcallStub(target,
+                FunctionDescriptor.ofVoid(ADDRESS, JAVA_INT, ADDRESS, ADDRESS), Arena.global());
+            avLogSetLevel.invokeExact(AV_LOG_INFO);
+            avLogSetCallback.invokeExact(stub);
+        } catch (Throwable t) {
+            throw new LibavException("Cannot install libav log callback: " + t.getMessage());
+        }
+    }
+
+    /**
+     * libav log callback. Must never throw: an exception cannot unwind into native code.
+     */
+    private void onLog(MemorySegment context, int level, MemorySegment format, MemorySegment arguments) {
+        try {
+            StringBuilder captured = capture.get();
+            if (captured == null && level > AV_LOG_WARNING) {
+                return;
+            }
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment line = arena.allocate(LOG_LINE_SIZE);
+                MemorySegment printPrefix = arena.allocate(JAVA_INT);
+                printPrefix.set(JAVA_INT, 0, 1);
+                int length = (int) avLogFormatLine2.invokeExact(
+                    context, level, format, arguments, line, LOG_LINE_SIZE, printPrefix);
+                if (length < 0) {
+                    return;
+                }
+                String text = line.getUtf8String(0);
+                if (captured != null) {
+                    captured.append(text);
+                } else if (level <= AV_LOG_ERROR) {
+                    log.warn("libav: {}", text.strip());
+                } else {
+                    log.debug("libav: {}", text.strip());
+                }
+            }
+        } catch (Throwable t) {
+            // Dropped log line
+        }
+    }
+
+    // --- Memory and strings ---
+
+    MemorySegment malloc(long size) throws LibavException {
+        try {
+            MemorySegment memory = (MemorySegment) avMalloc.invokeExact(size);
+            if (memory.equals(MemorySegment.NULL)) {
+                throw new LibavException("av_malloc(" + size + ") failed");
+            }
+            return memory;
+        } catch (LibavException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw failure("av_malloc", t);
+        }
+    }
+
+    void free(MemorySegment memory) {
+        try {
+            avFree.invokeExact(memory);
+        } catch (Throwable t) {
+            log.warn("av_free failed: {}", t.getMessage());
+        }
+    }
+
+    /**
+     * Copy a string into libav-owned memory (freed by libav along with its owner).
+     */
+    MemorySegment strdup(Arena arena, String value) throws LibavException {
+        try {
+            return (MemorySegment) avStrdup.invokeExact(arena.allocateUtf8String(value));
+        } catch (Throwable t) {
+            throw failure("av_strdup", t);
+        }
+    }
+
+    // --- AVOptions ---
+
+    void setOption(Arena arena, MemorySegment object, String name, String value) throws LibavException {
+        try {
+            int result = (int) avOptSet.invokeExact(object, arena.allocateUtf8String(name),
+                arena.allocateUtf8String(value), 0);
+            check(result, "av_opt_set(" + name + "=" + value + ")");
+        } catch (LibavException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw failure("av_opt_set", t);
+        }
+    }
+
+    long getIntOption(Arena arena, MemorySegment object, String name) throws LibavException {
+        try {
+            MemorySegment value = arena.allocate(JAVA_LONG);
+            int result = (int) avOptGetInt.invokeExact(object, arena.allocateUtf8String(name), 0, value);
+            check(result, "av_opt_get_int(" + name + ")");
+            return value.get(JAVA_LONG, 0);
+        } catch (LibavException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw failure("av_opt_get_int", t);
+        }
+    }
+
+    // --- Frames and packets ---
+
+    MemorySegment frameAlloc() throws LibavException {
+        return allocated("av_frame_alloc", avFrameAlloc);
+    }
+
+    void frameUnref(MemorySegment frame) throws LibavException {
+        invokeVoid("av_frame_unref", avFrameUnref, frame);
+    }
+
+    void frameFree(Arena arena, MemorySegment frame) {
+        freeByReference(arena, "av_frame_free", avFrameFree, frame);
+    }
+
+    /**
+     * @return AVFrame.nb_samples (audio frames)
+     */
+    static int frameSamples(MemorySegment frame) {
+        return frame.reinterpret(AVFRAME_NB_SAMPLES + JAVA_INT.byteSize()).get(JAVA_INT, AVFRAME_NB_SAMPLES);
+    }
+
+    MemorySegment packetAlloc() throws LibavException {
+        return allocated("av_packet_alloc", avPacketAlloc);
+    }
+
+    void packetUnref(MemorySegment packet) throws LibavException {
+        invokeVoid("av_packet_unref", avPacketUnref, packet);
+    }
+
+    void packetFree(Arena arena, MemorySegment packet) {
+        freeByReference(arena, "av_packet_free", avPacketFree, packet);
+    }
+
+    /**
+     * @return view of the packet payload in native memory (valid until the packet is unreferenced)
+     */
+    static ByteBuffer packetData(MemorySegment packet) {
+        MemorySegment fields = packet.reinterpret(AVPACKET_SIZE + JAVA_INT.byteSize());
+        int size = fields.get(JAVA_INT, AVPACKET_SIZE);
+        return fields.get(ADDRESS, AVPACKET_DATA).reinterpret(size).asByteBuffer();
+    }
+
+    // --- avcodec ---
+
+    MemorySegment findEncoder(Arena arena, String name) throws LibavException {
+        try {
+            MemorySegment codec = (MemorySegment) avcodecFindEncoderByName.invokeExact(arena.allocateUtf8String(name));
+            if (codec.equals(MemorySegment.NULL)) {
+                throw new LibavException("Encoder not available: " + name);
+            }
+            return codec;
+        } catch (LibavException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw failure("avcodec_find_encoder_by_name", t);
+        }
+    }
+
+    MemorySegment codecAllocContext(MemorySegment codec) throws LibavException {
+        try {
+            MemorySegment context = (MemorySegment) avcodecAllocContext3.invokeExact(codec);
+            if (context.equals(MemorySegment.NULL)) {
+                throw new LibavException("avcodec_alloc_context3 failed");
+            }
+            return context;
+        } catch (LibavException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw failure("avcodec_alloc_context3", t);
+        }
+    }
+
+    void codecOpen(MemorySegment context, MemorySegment codec) throws LibavException {
+        try {
+            check((int) avcodecOpen2.invokeExact(context, codec, MemorySegment.NULL), "avcodec_open2");
+        } catch (LibavException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw failure("avcodec_open2", t);
+        }
+    }
+
+    void codecFreeContext(Arena arena, MemorySegment context) {
+        freeByReference(arena, "avcodec_free_context", avcodecFreeContext, context);
+    }
+
+    /**
+     * @return 0, or AVERROR(EAGAIN)/AVERROR_EOF (not errors for the caller's loop)
+     */
+    int sendFrame(MemorySegment context, MemorySegment frame) throws LibavException {
+        return status("avcodec_send_frame", avcodecSendFrame, context, frame);
+    }
+
+    /**
+     * @return 0, or AVERROR(EAGAIN)/AVERROR_EOF when no packet is ready
+     */
+    int receivePacket(MemorySegment context, MemorySegment packet) throws LibavException {
+        return status("avcodec_receive_packet", avcodecReceivePacket, context, packet);
+    }
+
+    // --- avformat ---
+
+    /**
+     * Open an input and read its stream info.
+     *
+     * @param context pre-allocated context (custom I/O), or NULL to let libav allocate it
+     * @return opened format context
+     */
+    MemorySegment openInput(Arena arena, String url, MemorySegment context) throws LibavException {
+        try {
+            MemorySegment reference = arena.allocate(ADDRESS);
+            reference.set(ADDRESS, 0, context);
+            // On failure libav frees the context, including a pre-allocated one
+            check((int) avformatOpenInput.invokeExact(reference, arena.allocateUtf8String(url),
+                MemorySegment.NULL, MemorySegment.NULL), "avformat_open_input(" + url + ")");
+            MemorySegment opened = reference.get(ADDRESS, 0);
+            int result = (int) avformatFindStreamInfo.invokeExact(opened, MemorySegment.NULL);
+            if (result < 0) {
+                closeInput(arena, opened);
+                check(result, "avformat_find_stream_info(" + url + ")");
+            }
+            return opened;
+        } catch (LibavException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw failure("avformat_open_input", t);
+        }
+    }
+
+    void closeInput(Arena arena, MemorySegment context) {
+        freeByReference(arena, "avformat_close_input", avformatCloseInput, context);
+    }
+
+    void dumpFormat(Arena arena, MemorySegment context, String url) throws LibavException {
+        try {
+            avDumpFormat.invokeExact(context, 0, arena.allocateUtf8String(url), 0);
+        } catch (Throwable t) {
+            throw failure("av_dump_format", t);
+        }
+    }
+
+    MemorySegment formatAllocContext() throws LibavException {
+        return allocated("avformat_alloc_context", avformatAllocContext);
+    }
+
+    /**
+     * Attach a custom I/O context before {@link #openInput}; libav then marks it AVFMT_FLAG_CUSTOM_IO.
+     */
+    static void setFormatIo(MemorySegment formatContext, MemorySegment ioContext) {
+        formatContext.reinterpret(AVFORMATCONTEXT_PB + ADDRESS.byteSize()).set(ADDRESS, AVFORMATCONTEXT_PB, ioContext);
+    }
+
+    MemorySegment ioAllocContext(MemorySegment buffer, int bufferSize, MemorySegment read, MemorySegment seek)
+            throws LibavException {
+        try {
+            MemorySegment context = (MemorySegment) avioAllocContext.invokeExact(
+                buffer, bufferSize, 0, MemorySegment.NULL, read, MemorySegment.NULL, seek);
+            if (context.equals(MemorySegment.NULL)) {
+                throw new LibavException("avio_alloc_context failed");
+            }
+            return context;
+        } catch (LibavException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw failure("avio_alloc_context", t);
+        }
+    }
+
+    /**
+     * Free a custom I/O context and its current buffer (libav may have replaced the one it was given).
+     */
+    void ioFreeContext(Arena arena, MemorySegment context) {
+        MemorySegment buffer = context.reinterpret(AVIOCONTEXT_BUFFER + ADDRESS.byteSize())
+            .get(ADDRESS, AVIOCONTEXT_BUFFER);
+        free(buffer);
+        freeByReference(arena, "avio_context_free", avioContextFree, context);
+    }
+
+    // --- avfilter ---
+
+    MemorySegment graphAlloc() throws LibavException {
+        return allocated("avfilter_graph_alloc", avfilterGraphAlloc);
+    }
+
+    void graphFree(Arena arena, MemorySegment graph) {
+        freeByReference(arena, "avfilter_graph_free", avfilterGraphFree, graph);
+    }
+
+    /**
+     * Parse a filter graph description whose single open output, labelled {@code [out]},
+     * feeds a new buffer sink; then configure the graph.
+     *
+     * @return the buffer sink context
+     */
+    MemorySegment buildGraph(Arena arena, MemorySegment graph, String description, boolean audio)
+            throws LibavException {
+        try {
+            MemorySegment filter = (MemorySegment) avfilterGetByName.invokeExact(
+                arena.allocateUtf8String(audio ? "abuffersink" : "buffersink"));
+            MemorySegment sinkReference = arena.allocate(ADDRESS);
+            check((int) avfilterGraphCreateFilter.invokeExact(sinkReference, filter, arena.allocateUtf8String("out"),
+                MemorySegment.NULL, MemorySegment.NULL, graph), "avfilter_graph_create_filter");
+            MemorySegment sink = sinkReference.get(ADDRESS, 0);
+
+            MemorySegment inOut = allocated("avfilter_inout_alloc", avfilterInoutAlloc);
+            MemorySegment fields = inOut.reinterpret(AVFILTERINOUT_NEXT + ADDRESS.byteSize());
+            fields.set(ADDRESS, AVFILTERINOUT_NAME, strdup(arena, "out"));
+            fields.set(ADDRESS, AVFILTERINOUT_FILTER_CTX, sink);
+            fields.set(JAVA_INT, AVFILTERINOUT_PAD_IDX, 0);
+            fields.set(ADDRESS, AVFILTERINOUT_NEXT, MemorySegment.NULL);
+
+            // "inputs" of the parser are the open inputs of our side: the sink
+            MemorySegment inputs = arena.allocate(ADDRESS);
+            inputs.set(ADDRESS, 0, inOut);
+            MemorySegment outputs = arena.allocate(ADDRESS);
+            outputs.set(ADDRESS, 0, MemorySegment.NULL);
+            try {
+                check((int) avfilterGraphParsePtr.invokeExact(graph, arena.allocateUtf8String(description),
+                    inputs, outputs, MemorySegment.NULL), "avfilter_graph_parse_ptr");
+            } finally {
+                avfilterInoutFree.invokeExact(inputs);
+                avfilterInoutFree.invokeExact(outputs);
+            }
+            check((int) avfilterGraphConfig.invokeExact(graph, MemorySegment.NULL), "avfilter_graph_config");
+            return sink;
+        } catch (LibavException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw failure("filter graph", t);
+        }
+    }
+
+    /**
+     * @return 0, or AVERROR_EOF once every source is drained
+     */
+    int sinkGetFrame(MemorySegment sink, MemorySegment frame) throws LibavException {
+        return status("av_buffersink_get_frame", avBuffersinkGetFrame, sink, frame);
+    }
+
+    // --- Helpers ---
+
+    Linker linker() {
+        return linker;
+    }
+
+    private MethodHandle function(String name, FunctionDescriptor descriptor) throws LibavException {
+        MemorySegment address = symbols.find(name)
+            .orElseThrow(() -> new LibavException("libav function not found: " + name));
+        return linker.downcallHandle(address, descriptor);
+    }
+
+    private static MemorySegment allocated(String name, MethodHandle allocator) throws LibavException {
+        try {
+            MemorySegment allocated = (MemorySegment) allocator.invokeExact();
+            if (allocated.equals(MemorySegment.NULL)) {
+                throw new LibavException(name + " failed");
+            }
+            return allocated;
+        } catch (LibavException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw failure(name, t);
+        }
+    }
+
+    private int status(String name, MethodHandle function, MemorySegment first, MemorySegment second)
+            throws LibavException {
+        int result;
+        try {
+            result = (int) function.invokeExact(first, second);
+        } catch (Throwable t) {
+            throw failure(name, t);
+        }
+        if (result == AVERROR_EAGAIN || result == AVERROR_EOF) {
+            return result;
+        }
+        return check(result, name);
+    }
+
+    private static void invokeVoid(String name, MethodHandle function, MemorySegment argument) throws LibavException {
+        try {
+            function.invokeExact(argument);
+        } catch (Throwable t) {
+            throw failure(name, t);
+        }
+    }
+
+    /**
+     * Call a {@code free(T **)} style function; NULL is ignored.
+     */
+    private static void freeByReference(Arena arena, String name, MethodHandle function, MemorySegment pointer) {
+        if (pointer == null || pointer.equals(MemorySegment.NULL)) {
+            return;
+        }
+        try {
+            MemorySegment reference = arena.allocate(ADDRESS);
+            reference.set(ADDRESS, 0, pointer);
+            function.invokeExact(reference);
+        } catch (Throwable t) {
+            log.warn("{} failed: {}", name, t.getMessage());
+        }
+    }
+
+    private static LibavException failure(String name, Throwable cause) {
+        LibavException exception = new LibavException(name + " call failed: " + cause.getMessage());
+        exception.initCause(cause);
+        return exception;
+    }
+
+    /**
+     * libav calls whose log output is captured.
+     */
+    @FunctionalInterface
+    interface LibavCall {
+        void run() throws LibavException;
+    }
+
+    /**
+     * Shared library and the major versions the binding supports (newest first).
+     */
+    private record Library(String name, List<Integer> majors) {
+
+        SymbolLookup open(String libraryDir, Arena arena) throws LibavException {
+            List<String> tried = new ArrayList<>();
+            for (String fileName : fileNames()) {
+                try {
+                    if (libraryDir == null || libraryDir.isBlank()) {
+                        return SymbolLookup.libraryLookup(fileName, arena);
+                    }
+                    Path path = Path.of(libraryDir).resolve(fileName);
+                    if (Files.isRegularFile(path)) {
+                        return SymbolLookup.libraryLookup(path, arena);
+                    }
+                } catch (IllegalArgumentException e) {
+                    // Not found under this name
+                }
+                tried.add(fileName);
+            }
+            throw new LibavException("lib" + name + " not found (tried " + tried + ")");
+        }
+
+        int major(SymbolLookup lookup) throws LibavException {
+            MemorySegment address = lookup.find(name + "_version")
+                .orElseThrow(() -> new LibavException(name + "_version not found"));
+            try {
+                int version = (int) Linker.nativeLinker()
+                    .downcallHandle(address, FunctionDescriptor.of(JAVA_INT))
+                    .invokeExact();
+                return version >>> 16;
+            } catch (Throwable t) {
+                throw failure(name + "_version", t);
+            }
+        }
+
+        /**
+         * Versioned runtime names first: unversioned ones only ship with development packages.
+         */
+        private List<String> fileNames() {
+            List<String> fileNames = new ArrayList<>();
+            for (int major : majors) {
+                fileNames.add("lib" + name + ".so." + major);
+                fileNames.add("lib" + name + "." + major + ".dylib");
+                fileNames.add(name + "-" + major + ".dll");
+            }
+            fileNames.add("lib" + name + ".so");
+            fileNames.add("lib" + name + ".dylib");
+            return fileNames;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.libav;
+
+import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort;
+import com.hexagonal.meditation.generation.domain.ports.out.RenderProgressListener;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.ffmpeg.FfmpegAudioRendererAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Audio renderer running the FFmpeg mix in-process through libav.
+ *
+ * Same filter graph and encoder as the FFmpeg CLI render (music at 0.5,
+ * narration at 1.0, amix on the music duration, LAME MP3), without starting
+ * a process. WAV inputs the FFmpeg adapter would pre-mix in the JVM are
+ * pre-mixed the same way, and libav only encodes the mix.
+ *
+ * Anything it does not handle (non-MP3 profiles) or fails to render goes to the
+ * fallback renderer, the FFmpeg process adapter. Cancellation is not a failure:
+ * it propagates.
+ */
+public class LibavAudioRendererAdapter implements AudioRenderingPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(LibavAudioRendererAdapter.class);
+
+    /** LAME default, as picked by the FFmpeg CLI for .mp3 outputs */
+    private static final String BITRATE = "128k";
+    /** Previews are for a quick listen, not for keeping */
+    private static final String PREVIEW_BITRATE = "48k";
+
+    private final LibavFilterEncoder encoder;
+    private final FfmpegAudioRendererAdapter fallback;
+
+    /**
+     * @param encoder in-process filter graph encoder
+     * @param fallback FFmpeg process renderer: PCM pre-mix, and renders not possible in-process
+     */
+    public LibavAudioRendererAdapter(LibavFilterEncoder encoder, FfmpegAudioRendererAdapter fallback) {
+        this.encoder = encoder;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Path renderAudio(AudioRenderRequest request) {
+        if (!isMp3(request) || !Files.exists(request.narrationAudioPath())) {
+            return fallback.renderAudio(request);
+        }
+        Path mixedPcm = fallback.mixInJvm(request);
+        try {
+            String graph = mixedPcm != null
+                ? mixGraph(mixedPcm, null, 0)
+                : mixGraph(request.narrationAudioPath(), request.musicAudioPath(), 0);
+            render(request, graph, BITRATE, request.expectedDurationSeconds());
+            logger.info("Audio rendering completed in-process: {}", request.outputPath());
+            return request.outputPath();
+        } catch (IOException e) {
+            logger.warn("In-process audio rendering failed, using FFmpeg: {}", e.getMessage());
+            return fallback.renderAudio(request);
+        } finally {
+            deleteQuietly(mixedPcm);
+        }
+    }
+
+    @Override
+    public Path renderPreview(AudioRenderRequest request, double previewSeconds) {
+        if (previewSeconds <= 0) {
+            throw new IllegalArgumentException("Preview duration must be positive");
+        }
+        if (!isMp3(request)) {
+            return fallback.renderPreview(request, previewSeconds);
+        }
+        try {
+            render(request, mixGraph(request.narrationAudioPath(), request.musicAudioPath(), previewSeconds),
+                PREVIEW_BITRATE, previewSeconds);
+            return request.outputPath();
+        } catch (IOException e) {
+            logger.warn("In-process preview rendering failed, using FFmpeg: {}", e.getMessage());
+            return fallback.renderPreview(request, previewSeconds);
+        }
+    }
+
+    private void render(AudioRenderRequest request, String graph, String bitRate, double expectedSeconds)
+            throws IOException {
+        AudioConfig config = request.config();
+        RenderProgressListener listener = request.progressListener();
+        long started = System.nanoTime();
+        double seconds = encoder.encode(graph,
+            LibavFilterEncoder.Encoding.mp3(config.sampleRate(), config.channels(), bitRate),
+            request.outputPath(),
+            encoded -> {
+                if (expectedSeconds > 0) {
+                    listener.onProgress(Math.min(1.0, encoded / expectedSeconds));
+                }
+            });
+        logger.debug("Encoded {}s of audio in {} ms: {}",
+            String.format(Locale.ROOT, "%.2f", seconds), (System.nanoTime() - started) / 1_000_000, graph);
+    }
+
+    /**
+     * Filter graph of the FFmpeg CLI render: music first so it sets the duration.
+     *
+     * @param narration narration, or the pre-mixed audio
+     * @param music background music, or null/missing for narration only
+     * @param limitSeconds cut both inputs to this length (previews), 0 for no limit
+     */
+    static String mixGraph(Path narration, Path music, double limitSeconds) {
+        String trim = limitSeconds > 0
+            ? String.format(Locale.ROOT, ",atrim=end=%.3f", limitSeconds)
+            : "";
+        String speech = "amovie=" + LibavFilterEncoder.quote(narration.toAbsolutePath().toString()) + trim;
+        if (music == null || !Files.exists(music)) {
+            return speech;
+        }
+        return "amovie=" + LibavFilterEncoder.quote(music.toAbsolutePath().toString()) + trim + ",volume=0.5[music];"
+            + speech + ",volume=1.0[speech];"
+            + "[music][speech]amix=inputs=2:duration=first:dropout_transition=0";
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Could not delete {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static boolean isMp3(AudioRenderRequest request) {
+        return request.config().profile() == AudioProfile.MP3
+            && request.outputPath().getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".mp3");
+    }
+}
@@ -0,0 +1,28 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.libav;
+
+import java.io.IOException;
+
+/**
+ * Failure of an in-process libav* call: library missing or unsupported,
+ * or a libav function returning an error code.
+ */
+public class LibavException extends IOException {
+
+    private final int errorCode;
+
+    public LibavException(String message) {
+        this(message, 0);
+    }
+
+    public LibavException(String message, int errorCode) {
+        super(message);
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * @return negative AVERROR code, 0 if the failure does not come from a libav call
+     */
+    public int errorCode() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,190 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.libav;
+
+import com.hexagonal.meditation.generation.domain.model.CancellationToken;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Runs a libavfilter graph in-process and encodes its output with libavcodec.
+ *
+ * The graph reads its inputs itself (movie/amovie sources) and ends in an open
+ * {@code [out]} label. Encoded packets are written to the file as they are,
+ * without a muxer: right for outputs whose elementary stream is the file
+ * (an MP3 frame sequence, a single PNG image).
+ *
+ * The current generation's cancellation is checked between frames.
+ */
+public class LibavFilterEncoder {
+
+    private final Libav libav;
+
+    public LibavFilterEncoder(Libav libav) {
+        this.libav = libav;
+    }
+
+    /**
+     * Encode the output of a filter graph into a file.
+     *
+     * @param graph filter graph description ending in an open {@code [out]} label
+     * @param encoding encoder and its settings
+     * @param output file to write (replaced)
+     * @param listener receives the encoded duration in seconds (audio) or the frame count (video)
+     * @return encoded duration in seconds (audio) or number of frames (video)
+     * @throws LibavException if libav fails; the partial output is deleted
+     */
+    public double encode(String graph, Encoding encoding, Path output, ProgressListener listener) throws IOException {
+        CancellationToken token = CancellationToken.current();
+        boolean completed = false;
+        MemorySegment codecContext = MemorySegment.NULL;
+        MemorySegment filterGraph = MemorySegment.NULL;
+        MemorySegment frame = MemorySegment.NULL;
+        MemorySegment packet = MemorySegment.NULL;
+        try (Arena arena = Arena.ofConfined();
+             FileChannel channel = FileChannel.open(output, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            try {
+                MemorySegment codec = libav.findEncoder(arena, encoding.codec());
+                codecContext = libav.codecAllocContext(codec);
+                for (Map.Entry<String, String> option : encoding.options().entrySet()) {
+                    libav.setOption(arena, codecContext, option.getKey(), option.getValue());
+                }
+                libav.codecOpen(codecContext, codec);
+
+                String description = graph + "," + encoding.formatFilter();
+                if (encoding.audio()) {
+                    // Most audio encoders take fixed-size frames (1152 samples for MP3)
+                    long frameSize = libav.getIntOption(arena, codecContext, "frame_size");
+                    if (frameSize > 0) {
+                        description += ",asetnsamples=n=" + frameSize + ":p=0";
+                    }
+                }
+                filterGraph = libav.graphAlloc();
+                MemorySegment sink = libav.buildGraph(arena, filterGraph, description + "[out]", encoding.audio());
+
+                frame = libav.frameAlloc();
+                packet = libav.packetAlloc();
+                long samples = 0;
+                long frames = 0;
+                while (libav.sinkGetFrame(sink, frame) != Libav.AVERROR_EOF) {
+                    token.throwIfCancelled();
+                    samples += Libav.frameSamples(frame);
+                    frames++;
+                    int sent = libav.sendFrame(codecContext, frame);
+                    libav.frameUnref(frame);
+                    if (sent == Libav.AVERROR_EOF) {
+                        break;
+                    }
+                    drain(codecContext, packet, channel);
+                    listener.onProgress(encoding.audio() ? (double) samples / encoding.sampleRate() : frames);
+                }
+                libav.sendFrame(codecContext, MemorySegment.NULL);
+                drain(codecContext, packet, channel);
+                completed = true;
+                return encoding.audio() ? (double) samples / encoding.sampleRate() : frames;
+            } finally {
+                libav.packetFree(arena, packet);
+                libav.frameFree(arena, frame);
+                libav.graphFree(arena, filterGraph);
+                libav.codecFreeContext(arena, codecContext);
+            }
+        } finally {
+            if (!completed) {
+                Files.deleteIfExists(output);
+            }
+        }
+    }
+
+    /**
+     * Write every packet the encoder has ready.
+     */
+    private void drain(MemorySegment codecContext, MemorySegment packet, FileChannel channel) throws IOException {
+        while (libav.receivePacket(codecContext, packet) == 0) {
+            try {
+                ByteBuffer data = Libav.packetData(packet);
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+            } finally {
+                libav.packetUnref(packet);
+            }
+        }
+    }
+
+    /**
+     * Quote a value (e.g. a file name) for use as a filter option inside a graph
+     * description: escaped once for the option parser, then for the graph parser.
+     */
+    public static String quote(String value) {
+        return escape(escape(value, "\\':"), "\\'[],;");
+    }
+
+    private static String escape(String value, String special) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (char c : value.toCharArray()) {
+            if (special.indexOf(c) >= 0) {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Encoder settings, applied as AVOptions on the codec context.
+     *
+     * @param codec encoder name
+     * @param audio audio (true) or video encoder
+     * @param sampleRate output sample rate (audio), used to report durations
+     * @param options codec context options
+     * @param formatFilter filter converting the graph output to what the encoder accepts
+     */
+    public record Encoding(String codec, boolean audio, int sampleRate, Map<String, String> options, String formatFilter) {
+
+        /**
+         * MP3 (LAME) at a constant bitrate.
+         */
+        public static Encoding mp3(int sampleRate, int channels, String bitRate) {
+            String layout = channels == 1 ? "mono" : "stereo";
+            Map<String, String> options = new LinkedHashMap<>();
+            options.put("b", bitRate);
+            options.put("ar", String.valueOf(sampleRate));
+            options.put("ch_layout", layout);
+            options.put("sample_fmt", "fltp");
+            return new Encoding("libmp3lame", true, sampleRate, options,
+                "aformat=sample_fmts=fltp:sample_rates=" + sampleRate + ":channel_layouts=" + layout);
+        }
+
+        /**
+         * A single RGB PNG image.
+         */
+        public static Encoding png(int width, int height) {
+            Map<String, String> options = new LinkedHashMap<>();
+            options.put("video_size", width + "x" + height);
+            options.put("pixel_format", "rgb24");
+            options.put("time_base", "1/25");
+            return new Encoding("png", false, 0, options, "format=rgb24");
+        }
+    }
+
+    /**
+     * Progress callback, called on the encoding thread after each frame.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        ProgressListener NONE = encoded -> { };
+
+        void onProgress(double encoded);
+    }
+}
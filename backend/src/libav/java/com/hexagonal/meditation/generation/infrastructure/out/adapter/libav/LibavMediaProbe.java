@@ -0,0 +1,166 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.libav;
+
+import com.hexagonal.meditation.generation.infrastructure.out.service.audio.MediaDurationProbe;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.MemorySegment;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.lang.foreign.ValueLayout.ADDRESS;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+/**
+ * Reads media durations with libavformat in-process.
+ *
+ * The duration is the one FFprobe prints: the container duration as
+ * reported by av_dump_format ("Duration: HH:MM:SS.cc"), which is the only
+ * place it is exposed without reading AVFormatContext fields.
+ *
+ * In-memory media (e.g. a TTS response) is read through a custom AVIOContext
+ * whose read/seek callbacks copy from the buffer: nothing touches the disk.
+ */
+public class LibavMediaProbe implements MediaDurationProbe {
+
+    private static final Pattern DURATION_PATTERN =
+        Pattern.compile("Duration: (\\d+):(\\d{2}):(\\d{2})\\.(\\d{2})");
+    private static final int IO_BUFFER_SIZE = 32 * 1024;
+    private static final int AVSEEK_SIZE = 0x10000;
+    private static final int AVSEEK_FORCE = 0x20000;
+    private static final int SEEK_SET = 0;
+    private static final int SEEK_CUR = 1;
+    private static final int SEEK_END = 2;
+
+    private final Libav libav;
+
+    public LibavMediaProbe(Libav libav) {
+        this.libav = libav;
+    }
+
+    @Override
+    public double durationSeconds(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            throw new IOException("Media file does not exist: " + file);
+        }
+        // The file: prefix keeps a colon in the path from being read as a protocol
+        String url = "file:" + file.toAbsolutePath();
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment context = libav.openInput(arena, url, MemorySegment.NULL);
+            try {
+                return parseDuration(libav.captureLog(() -> libav.dumpFormat(arena, context, url)), url);
+            } finally {
+                libav.closeInput(arena, context);
+            }
+        }
+    }
+
+    @Override
+    public double durationSeconds(ByteBuffer data) throws IOException {
+        MemoryInput input = new MemoryInput(data.slice());
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment read = libav.linker().upcallStub(
+                bind(input, "read", MethodType.methodType(int.class, MemorySegment.class, MemorySegment.class, int.class)),
+                FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS, JAVA_INT), arena);
+            MemorySegment seek = libav.linker().upcallStub(
+                bind(input, "seek", MethodType.methodType(long.class, MemorySegment.class, long.class, int.class)),
+                FunctionDescriptor.of(JAVA_LONG, ADDRESS, JAVA_LONG, JAVA_INT), arena);
+
+            MemorySegment buffer = libav.malloc(IO_BUFFER_SIZE);
+            MemorySegment io;
+            try {
+                io = libav.ioAllocContext(buffer, IO_BUFFER_SIZE, read, seek);
+            } catch (LibavException e) {
+                libav.free(buffer);
+                throw e;
+            }
+            try {
+                MemorySegment context = libav.formatAllocContext();
+                Libav.setFormatIo(context, io);
+                MemorySegment opened = libav.openInput(arena, "", context);
+                try {
+                    return parseDuration(libav.captureLog(() -> libav.dumpFormat(arena, opened, "memory")), "memory");
+                } finally {
+                    libav.closeInput(arena, opened);
+                }
+            } finally {
+                libav.ioFreeContext(arena, io);
+            }
+        }
+    }
+
+    /**
+     * @return duration in seconds from av_dump_format output, rounded to 2 decimals like FFprobe's
+     */
+    static double parseDuration(String dump, String source) throws LibavException {
+        Matcher matcher = DURATION_PATTERN.matcher(dump);
+        if (!matcher.find()) {
+            throw new LibavException("No duration reported for " + source);
+        }
+        double seconds = Integer.parseInt(matcher.group(1)) * 3600.0
+            + Integer.parseInt(matcher.group(2)) * 60.0
+            + Integer.parseInt(matcher.group(3))
+            + Integer.parseInt(matcher.group(4)) / 100.0;
+        return Math.round(seconds * 100.0) / 100.0;
+    }
+
+    private static MethodHandle bind(MemoryInput input, String name, MethodType type) {
+        try {
+            return MethodHandles.lookup().findVirtual(MemoryInput.class, name, type).bindTo(input);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * AVIOContext callbacks over a byte buffer. They must never throw into native code.
+     */
+    static final class MemoryInput {
+
+        private final ByteBuffer data;
+
+        MemoryInput(ByteBuffer data) {
+            this.data = data;
+        }
+
+        int read(MemorySegment opaque, MemorySegment buffer, int size) {
+            try {
+                if (!data.hasRemaining()) {
+                    return Libav.AVERROR_EOF;
+                }
+                int length = Math.min(size, data.remaining());
+                buffer.reinterpret(length).asByteBuffer().put(data.slice(data.position(), length));
+                data.position(data.position() + length);
+                return length;
+            } catch (RuntimeException e) {
+                return Libav.AVERROR_EIO;
+            }
+        }
+
+        long seek(MemorySegment opaque, long offset, int whence) {
+            int origin = whence & ~AVSEEK_FORCE;
+            if (origin == AVSEEK_SIZE) {
+                return data.limit();
+            }
+            long target = switch (origin) {
+                case SEEK_SET -> offset;
+                case SEEK_CUR -> data.position() + offset;
+                case SEEK_END -> data.limit() + offset;
+                default -> -1;
+            };
+            if (target < 0 || target > data.limit()) {
+                return Libav.AVERROR_EIO;
+            }
+            data.position((int) target);
+            return target;
+        }
+    }
+}
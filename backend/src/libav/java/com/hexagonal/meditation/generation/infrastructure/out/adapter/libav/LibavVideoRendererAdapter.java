@@ -0,0 +1,80 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.libav;
+
+import com.hexagonal.meditation.generation.domain.ports.out.VideoRenderingPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Video renderer preparing background images in-process through libav.
+ *
+ * Renders, segments and concatenation go to the FFmpeg process adapter: they
+ * mux MP4, which needs AVStream/AVFormatContext fields whose layout differs
+ * between supported libav versions.
+ */
+public class LibavVideoRendererAdapter implements VideoRenderingPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(LibavVideoRendererAdapter.class);
+
+    private final LibavFilterEncoder encoder;
+    private final VideoRenderingPort delegate;
+
+    /**
+     * @param encoder in-process filter graph encoder
+     * @param delegate renderer for everything else, and when the in-process preparation fails
+     */
+    public LibavVideoRendererAdapter(LibavFilterEncoder encoder, VideoRenderingPort delegate) {
+        this.encoder = encoder;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Path renderVideo(VideoRenderRequest request) {
+        return delegate.renderVideo(request);
+    }
+
+    @Override
+    public Path prepareBackgroundImage(Path imagePath, VideoConfig config, Path outputPath) {
+        if (!outputPath.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".png")) {
+            return delegate.prepareBackgroundImage(imagePath, config, outputPath);
+        }
+        try {
+            encoder.encode(scaleGraph(imagePath, config),
+                LibavFilterEncoder.Encoding.png(config.width(), config.height()),
+                outputPath, LibavFilterEncoder.ProgressListener.NONE);
+            logger.info("Background image prepared in-process: {} ({} bytes)", outputPath, Files.size(outputPath));
+            return outputPath;
+        } catch (IOException e) {
+            logger.warn("In-process background image preparation failed, using FFmpeg: {}", e.getMessage());
+            return delegate.prepareBackgroundImage(imagePath, config, outputPath);
+        }
+    }
+
+    @Override
+    public boolean supportsSegmentedRendering() {
+        return delegate.supportsSegmentedRendering();
+    }
+
+    @Override
+    public Path renderVideoSegment(VideoRenderRequest request, RenderSegment segment) {
+        return delegate.renderVideoSegment(request, segment);
+    }
+
+    @Override
+    public Path concatSegments(List<Path> segmentPaths, Path outputPath) {
+        return delegate.concatSegments(segmentPaths, outputPath);
+    }
+
+    /**
+     * Single decoded frame of the image, scaled like the FFmpeg CLI preparation.
+     */
+    static String scaleGraph(Path imagePath, VideoConfig config) {
+        return "movie=" + LibavFilterEncoder.quote(imagePath.toAbsolutePath().toString())
+            + ",trim=end_frame=1,scale=" + config.width() + ":" + config.height();
+    }
+}
@@ -0,0 +1,407 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.domain.enums.GenerationStage;
+import com.hexagonal.meditation.generation.domain.enums.MediaType;
+import com.hexagonal.meditation.generation.domain.enums.RenderQualityTier;
+import com.hexagonal.meditation.generation.domain.ports.out.HostMetricsPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+/**
+ * Runtime tuning of the number of generations running at once (AIMD).
+ *
+ * The right concurrency depends on the machine and on the mix of video and
+ * audio jobs, so it is found by probing rather than configured:
+ * - additive increase: while the scheduler has queued jobs and no free slot,
+ *   the p95 of every pipeline stage stays within tolerance of its baseline and
+ *   CPU steal stays under its ceiling, the limit grows by one
+ * - multiplicative decrease: when the FFmpeg wall time per output second of
+ *   any render kind (media type and quality tier) degrades beyond its
+ *   baseline by the degradation factor, the limit is multiplied by the
+ *   decrease factor
+ *
+ * Latencies are normalized per second of output, so long and short jobs are
+ * comparable. Baselines are moving averages of the window statistics
+ * (about the last ten evaluations): each statistic is judged against the
+ * baseline before it is averaged in, so a sudden degradation stands out,
+ * while a lucky window or a lasting change of the node is forgotten
+ * instead of pulling the limit down for good. Samples are collected per
+ * decision: after each change the windows start over, so the next decision
+ * is made on jobs run under the new limit. Decisions are taken as samples
+ * come in, at most once per evaluation interval.
+ *
+ * Metrics:
+ * - generation.concurrency.limit (gauge): current limit
+ * - generation.concurrency.adjustments (counter, tag direction=increase|decrease)
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    /** Weight of a new window statistic in its baseline. */
+    static final double BASELINE_WEIGHT = 0.1;
+
+    private final GenerationScheduler scheduler;
+    private final HostMetricsPort hostMetricsPort;
+    private final Settings settings;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+
+    private final Object applyLock = new Object();
+
+    /** Guarded by {@code this}. */
+    private final Map<GenerationStage, Window> stages = new EnumMap<>(GenerationStage.class);
+    private final Map<String, Window> renders = new HashMap<>();
+    private int limit;
+    private Instant lastEvaluation;
+
+    /**
+     * @param scheduler scheduler whose capacity is tuned (set to the initial limit here)
+     * @param hostMetricsPort CPU steal readings
+     * @param settings bounds, windows and factors
+     * @param clock clock the evaluation interval is measured with
+     * @param meterRegistry registry for the limit gauge and adjustment counters
+     */
+    public AdaptiveConcurrencyLimiter(
+            GenerationScheduler scheduler,
+            HostMetricsPort hostMetricsPort,
+            Settings settings,
+            Clock clock,
+            MeterRegistry meterRegistry) {
+        this.scheduler = scheduler;
+        this.hostMetricsPort = hostMetricsPort;
+        this.settings = settings;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.limit = settings.initial();
+        this.lastEvaluation = clock.instant();
+        scheduler.setCapacity(limit);
+
+        Gauge.builder("generation.concurrency.limit", this, AdaptiveConcurrencyLimiter::limit)
+                .description("Generation jobs allowed to run at once")
+                .register(meterRegistry);
+    }
+
+    public synchronized int limit() {
+        return limit;
+    }
+
+    /**
+     * Start timing the stages of one pipeline run. Its samples count only
+     * once the run completes ({@link StageClock#finish}).
+     *
+     * @return clock of the run
+     */
+    public StageClock stageClock() {
+        return new StageClock();
+    }
+
+    /**
+     * Feed back the wall time of a finished render.
+     *
+     * @param mediaType media actually rendered (AUDIO for an audio-only fallback)
+     * @param tier tier the render ran at
+     * @param elapsed render wall time
+     * @param outputSeconds duration of the rendered output; non-positive durations are ignored
+     */
+    public void recordRender(MediaType mediaType, RenderQualityTier tier, Duration elapsed, double outputSeconds) {
+        if (outputSeconds <= 0) {
+            return;
+        }
+        synchronized (this) {
+            renders.computeIfAbsent(mediaType + "/" + tier, kind -> new Window(settings.windowSize()))
+                    .add(elapsed.toNanos() / 1e9 / outputSeconds);
+        }
+        evaluate();
+    }
+
+    /**
+     * Feed back the stage timings of a completed run.
+     *
+     * @param elapsed wall time per stage
+     * @param outputSeconds duration of the output, positive
+     */
+    void recordStages(Map<GenerationStage, Duration> elapsed, double outputSeconds) {
+        synchronized (this) {
+            elapsed.forEach((stage, duration) -> stages
+                    .computeIfAbsent(stage, key -> new Window(settings.windowSize()))
+                    .add(duration.toNanos() / 1e9 / outputSeconds));
+        }
+        evaluate();
+    }
+
+    /**
+     * Take a decision if the interval elapsed. The scheduler is updated
+     * outside the lock (a caller-runs pool would run jobs that record here).
+     */
+    void evaluate() {
+        int previous;
+        int next;
+        String reason;
+        synchronized (this) {
+            Instant now = clock.instant();
+            if (now.isBefore(lastEvaluation.plus(settings.evaluationInterval()))) {
+                return;
+            }
+            lastEvaluation = now;
+            previous = limit;
+            // Read every interval, so each reading covers the time since the previous decision
+            OptionalDouble steal = hostMetricsPort.cpuStealFraction();
+            // Both checks also move the baselines, so they run on every evaluation
+            String degraded = degradedRenderKind();
+            boolean stagesWithinTolerance = stagesWithinTolerance();
+            if (degraded != null) {
+                next = Math.max(settings.min(), Math.min(limit - 1, (int) Math.floor(limit * settings.decreaseFactor())));
+                reason = "render cost degraded for " + degraded;
+            } else if (limit < settings.max() && saturated() && stagesWithinTolerance
+                    && (steal.isEmpty() || steal.getAsDouble() <= settings.maxCpuSteal())) {
+                next = limit + 1;
+                reason = "stages within tolerance"
+                        + (steal.isPresent() ? String.format(", cpu steal %.1f%%", steal.getAsDouble() * 100) : "");
+            } else {
+                return;
+            }
+            if (next == previous) {
+                return;
+            }
+            limit = next;
+            // The next decision is made on jobs run under the new limit
+            stages.values().forEach(Window::restart);
+            renders.values().forEach(Window::restart);
+        }
+        applyLimit();
+        String direction = next > previous ? "increase" : "decrease";
+        Counter.builder("generation.concurrency.adjustments")
+                .description("Changes of the generation concurrency limit")
+                .tag("direction", direction)
+                .register(meterRegistry)
+                .increment();
+        log.info("Generation concurrency {}: {} -> {} ({})", direction, previous, next, reason);
+    }
+
+    /**
+     * Hand the current limit to the scheduler. Serialized, and always the
+     * latest value, so concurrent decisions cannot apply out of order.
+     */
+    private void applyLimit() {
+        synchronized (applyLock) {
+            scheduler.setCapacity(limit());
+        }
+    }
+
+    /**
+     * @return the first render kind whose median cost exceeds its baseline by the degradation factor, or null
+     */
+    private String degradedRenderKind() {
+        String degraded = null;
+        for (Map.Entry<String, Window> entry : renders.entrySet()) {
+            Window window = entry.getValue();
+            if (window.size() < settings.minSamples()) {
+                continue;
+            }
+            double median = window.percentile(0.5);
+            if (median > window.judgeAndLearn(median) * settings.renderDegradation() && degraded == null) {
+                degraded = entry.getKey();
+            }
+        }
+        return degraded;
+    }
+
+    /**
+     * @return true if at least one stage has enough samples and none is slower than tolerated
+     */
+    private boolean stagesWithinTolerance() {
+        boolean measured = false;
+        boolean withinTolerance = true;
+        for (Window window : stages.values()) {
+            if (window.size() < settings.minSamples()) {
+                continue;
+            }
+            measured = true;
+            double p95 = window.percentile(0.95);
+            if (p95 > window.judgeAndLearn(p95) * settings.stageTolerance()) {
+                withinTolerance = false;
+            }
+        }
+        return measured && withinTolerance;
+    }
+
+    /** More work than slots: growing is only worth probing when the limit is what holds jobs back */
+    private boolean saturated() {
+        return scheduler.queuedCount() > 0 && scheduler.runningCount() >= limit;
+    }
+
+    /**
+     * Stage timings of one pipeline run, recorded when the run completes.
+     * Used from the pipeline thread only.
+     */
+    public final class StageClock {
+
+        private final Map<GenerationStage, Duration> elapsed = new EnumMap<>(GenerationStage.class);
+        private GenerationStage current;
+        private long startedAt;
+        private double outputSeconds;
+
+        private StageClock() {
+        }
+
+        /**
+         * Close the current stage and start timing the next one.
+         *
+         * @param stage stage starting now
+         */
+        public void enter(GenerationStage stage) {
+            long now = System.nanoTime();
+            close(now);
+            current = stage;
+            startedAt = now;
+        }
+
+        /**
+         * @param seconds duration of the output, once known (latencies are normalized by it)
+         */
+        public void outputSeconds(double seconds) {
+            this.outputSeconds = seconds;
+        }
+
+        /**
+         * Close the last stage and record the run. Runs that fail or are
+         * cancelled are never finished, so they do not skew the samples.
+         */
+        public void finish() {
+            close(System.nanoTime());
+            current = null;
+            if (outputSeconds > 0 && !elapsed.isEmpty()) {
+                recordStages(elapsed, outputSeconds);
+            }
+        }
+
+        private void close(long now) {
+            if (current != null) {
+                elapsed.merge(current, Duration.ofNanos(now - startedAt), Duration::plus);
+            }
+        }
+    }
+
+    /**
+     * Samples since the last decision, and the baseline of their statistic.
+     */
+    private static final class Window {
+
+        private final int capacity;
+        private final Deque<Double> samples = new ArrayDeque<>();
+        private double baseline = Double.NaN;
+
+        Window(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void add(double sample) {
+            samples.addLast(sample);
+            if (samples.size() > capacity) {
+                samples.removeFirst();
+            }
+        }
+
+        int size() {
+            return samples.size();
+        }
+
+        void restart() {
+            samples.clear();
+        }
+
+        double percentile(double quantile) {
+            double[] sorted = samples.stream().mapToDouble(Double::doubleValue).toArray();
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)];
+        }
+
+        /**
+         * @return the baseline to judge the statistic against (the statistic
+         *         itself the first time), before the statistic is averaged in
+         */
+        double judgeAndLearn(double statistic) {
+            if (Double.isNaN(baseline)) {
+                baseline = statistic;
+                return baseline;
+            }
+            double judgedAgainst = baseline;
+            baseline += BASELINE_WEIGHT * (statistic - baseline);
+            return judgedAgainst;
+        }
+    }
+
+    /**
+     * Bounds, windows and factors of the tuning.
+     *
+     * @param min lowest limit
+     * @param max highest limit (the worker pool has this many threads)
+     * @param initial limit at startup
+     * @param evaluationInterval minimum time between two decisions
+     * @param windowSize samples kept per stage and per render kind
+     * @param minSamples samples a stage or render kind needs before it counts in a decision
+     * @param stageTolerance how far a stage's p95 may exceed its baseline for the limit to grow (e.g. 1.25)
+     * @param renderDegradation how far a render kind's median cost may exceed its baseline before the limit shrinks (e.g. 1.5)
+     * @param decreaseFactor factor applied to the limit on degradation (e.g. 0.5)
+     * @param maxCpuSteal CPU steal fraction above which the limit does not grow
+     */
+    public record Settings(
+        int min,
+        int max,
+        int initial,
+        Duration evaluationInterval,
+        int windowSize,
+        int minSamples,
+        double stageTolerance,
+        double renderDegradation,
+        double decreaseFactor,
+        double maxCpuSteal
+    ) {
+        public Settings {
+            if (min <= 0 || max < min || initial < min || initial > max) {
+                throw new IllegalArgumentException("Limits must satisfy 0 < min <= initial <= max");
+            }
+            if (evaluationInterval == null || evaluationInterval.isNegative()) {
+                throw new IllegalArgumentException("Evaluation interval must not be negative");
+            }
+            if (windowSize <= 0 || minSamples <= 0 || minSamples > windowSize) {
+                throw new IllegalArgumentException("Window size and min samples must be positive, min samples <= window size");
+            }
+            if (stageTolerance < 1 || renderDegradation < 1) {
+                throw new IllegalArgumentException("Stage tolerance and render degradation must be at least 1");
+            }
+            if (decreaseFactor <= 0 || decreaseFactor >= 1) {
+                throw new IllegalArgumentException("Decrease factor must be between 0 and 1 (exclusive)");
+            }
+            if (maxCpuSteal < 0 || maxCpuSteal > 1) {
+                throw new IllegalArgumentException("Max CPU steal must be a fraction between 0 and 1");
+            }
+        }
+
+        /**
+         * Fixed limit: never adjusted.
+         *
+         * @param limit the limit
+         * @return settings with min = max = initial
+         */
+        public static Settings fixed(int limit) {
+            return new Settings(limit, limit, limit, Duration.ofMinutes(1), 1, 1, 1, 1, 0.5, 1);
+        }
+    }
+}
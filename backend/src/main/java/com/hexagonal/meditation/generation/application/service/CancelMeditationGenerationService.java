@@ -0,0 +1,81 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.domain.enums.GenerationStatus;
+import com.hexagonal.meditation.generation.domain.model.GeneratedMeditationContent;
+import com.hexagonal.meditation.generation.domain.model.GenerationProgress;
+import com.hexagonal.meditation.generation.domain.ports.in.CancelMeditationGenerationUseCase;
+import com.hexagonal.meditation.generation.domain.ports.out.ContentRepositoryPort;
+import com.hexagonal.meditation.generation.domain.ports.out.GenerationProgressPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Application service that cancels in-flight generations.
+ * 
+ * The running pipeline is signalled first (its processes and uploads are
+ * released by the token callbacks), then the row is marked CANCELLED so the
+ * pipeline can never overwrite it with FAILED. The acknowledgement wait is
+ * bounded so the whole request stays under one second.
+ * 
+ * The row is only marked if it is still PROCESSING (conditional update):
+ * a pipeline that saved its result during the wait, here or on another
+ * node, keeps it.
+ */
+public class CancelMeditationGenerationService implements CancelMeditationGenerationUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(CancelMeditationGenerationService.class);
+
+    private static final long PIPELINE_ACK_TIMEOUT_MS = 750;
+
+    private final ContentRepositoryPort contentRepositoryPort;
+    private final GenerationJobRegistry generationJobRegistry;
+    private final GenerationProgressPort generationProgressPort;
+    private final Clock clock;
+
+    public CancelMeditationGenerationService(
+            ContentRepositoryPort contentRepositoryPort,
+            GenerationJobRegistry generationJobRegistry,
+            GenerationProgressPort generationProgressPort,
+            Clock clock) {
+        this.contentRepositoryPort = contentRepositoryPort;
+        this.generationJobRegistry = generationJobRegistry;
+        this.generationProgressPort = generationProgressPort;
+        this.clock = clock;
+    }
+
+    @Override
+    public CancellationResult cancel(UUID meditationId, UUID userId) {
+        Optional<GeneratedMeditationContent> found = contentRepositoryPort.findById(meditationId)
+                .filter(content -> content.userId().equals(userId));
+        if (found.isEmpty()) {
+            return new CancellationResult(meditationId, Outcome.NOT_FOUND, null);
+        }
+
+        GeneratedMeditationContent content = found.get();
+        if (content.status() != GenerationStatus.PROCESSING) {
+            log.info("Cancellation ignored, generation already finished: meditationId={}, status={}",
+                    meditationId, content.status());
+            return new CancellationResult(meditationId, Outcome.ALREADY_FINISHED, content.status());
+        }
+
+        boolean runningHere = generationJobRegistry.cancel(meditationId, PIPELINE_ACK_TIMEOUT_MS);
+        if (!contentRepositoryPort.cancelIfProcessing(meditationId, clock.instant())) {
+            // The pipeline finished between the read and the update
+            GenerationStatus status = contentRepositoryPort.findById(meditationId)
+                    .map(GeneratedMeditationContent::status)
+                    .orElse(content.status());
+            log.info("Cancellation ignored, generation finished meanwhile: meditationId={}, status={}",
+                    meditationId, status);
+            return new CancellationResult(meditationId, Outcome.ALREADY_FINISHED, status);
+        }
+        generationProgressPort.publish(GenerationProgress.cancelled(meditationId, clock));
+
+        log.info("Generation cancelled: meditationId={}, userId={}, runningOnThisNode={}",
+                meditationId, userId, runningHere);
+        return new CancellationResult(meditationId, Outcome.CANCELLED, GenerationStatus.CANCELLED);
+    }
+}
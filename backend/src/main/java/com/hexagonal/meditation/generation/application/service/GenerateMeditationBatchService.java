@@ -0,0 +1,432 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.application.validator.TextLengthEstimator;
+import com.hexagonal.meditation.generation.domain.enums.GenerationStatus;
+import com.hexagonal.meditation.generation.domain.enums.MediaType;
+import com.hexagonal.meditation.generation.domain.exception.GenerationCancelledException;
+import com.hexagonal.meditation.generation.domain.exception.GenerationUnavailableException;
+import com.hexagonal.meditation.generation.domain.model.GenerationProgress;
+import com.hexagonal.meditation.generation.domain.model.HandedOffGeneration;
+import com.hexagonal.meditation.generation.domain.model.PreparedGenerationAssets;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationBatchUseCase;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase.GenerationRequest;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase.GenerationResponse;
+import com.hexagonal.meditation.generation.domain.ports.out.ContentRepositoryPort;
+import com.hexagonal.meditation.generation.domain.ports.out.GenerationHandoffPort;
+import com.hexagonal.meditation.generation.domain.ports.out.GenerationProgressPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Application service that generates a batch of meditations.
+ *
+ * Items are grouped by (music, image). Each group gets one workspace where the
+ * shared music is downloaded and probed and the shared image is decoded and
+ * scaled once ({@link GenerateMeditationContentService#prepareSharedAssets});
+ * the generations of the group are then queued on the {@link GenerationScheduler}
+ * under the batch owner, so a large batch gets its fair share of workers and
+ * no more.
+ * Identical items (same text in the same group) resolve to the same idempotency
+ * key, so they share a single generation.
+ *
+ * Batch state is kept in memory on the node that accepted the batch and
+ * evicted {@link #RETENTION} after the last item finished. When that node
+ * drains, generations still queued are handed off through the
+ * {@link GenerationHandoffPort} (running ones are handed off by the drain),
+ * so every item is still generated and shows up in the user's library.
+ */
+public class GenerateMeditationBatchService implements GenerateMeditationBatchUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(GenerateMeditationBatchService.class);
+
+    static final Duration RETENTION = Duration.ofHours(1);
+
+    private final GenerateMeditationContentService contentService;
+    private final ContentRepositoryPort contentRepositoryPort;
+    private final GenerationProgressPort generationProgressPort;
+    private final GenerationScheduler generationScheduler;
+    private final GenerationHandoffPort generationHandoffPort;
+    private final TextLengthEstimator textLengthEstimator;
+    private final Clock clock;
+    private final int maxBatchSize;
+
+    private final Map<UUID, Batch> batches = new ConcurrentHashMap<>();
+
+    public GenerateMeditationBatchService(
+            GenerateMeditationContentService contentService,
+            ContentRepositoryPort contentRepositoryPort,
+            GenerationProgressPort generationProgressPort,
+            GenerationScheduler generationScheduler,
+            GenerationHandoffPort generationHandoffPort,
+            TextLengthEstimator textLengthEstimator,
+            Clock clock,
+            int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Max batch size must be positive");
+        }
+        this.contentService = contentService;
+        this.contentRepositoryPort = contentRepositoryPort;
+        this.generationProgressPort = generationProgressPort;
+        this.generationScheduler = generationScheduler;
+        this.generationHandoffPort = generationHandoffPort;
+        this.textLengthEstimator = textLengthEstimator;
+        this.clock = clock;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public BatchStatus submit(UUID userId, List<GenerationRequest> items) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one item");
+        }
+        if (items.size() > maxBatchSize) {
+            throw new IllegalArgumentException(
+                    "Batch exceeds maximum size of " + maxBatchSize + " items (got " + items.size() + ")");
+        }
+        if (items.stream().anyMatch(item -> !userId.equals(item.userId()))) {
+            throw new IllegalArgumentException("All batch items must belong to the requesting user");
+        }
+        if (generationScheduler.isDraining()) {
+            throw new GenerationUnavailableException();
+        }
+
+        evictExpired();
+
+        Batch batch = new Batch(UUID.randomUUID(), userId, clock.instant(), items);
+        batches.put(batch.id, batch);
+        log.info("Batch accepted: batchId={}, userId={}, items={}", batch.id, userId, items.size());
+
+        schedule(batch);
+        return snapshot(batch);
+    }
+
+    @Override
+    public Optional<BatchStatus> getStatus(UUID batchId, UUID userId) {
+        evictExpired();
+        return Optional.ofNullable(batches.get(batchId))
+                .filter(batch -> batch.userId.equals(userId))
+                .map(this::snapshot);
+    }
+
+    private void schedule(Batch batch) {
+        Map<AssetKey, List<BatchItem>> groups = new LinkedHashMap<>();
+        for (BatchItem item : batch.items) {
+            groups.computeIfAbsent(AssetKey.of(item.request), key -> new ArrayList<>()).add(item);
+        }
+        log.info("Batch {} grouped into {} shared asset group(s)", batch.id, groups.size());
+        groups.forEach((key, groupItems) -> scheduleGroup(batch, key, groupItems));
+    }
+
+    private void scheduleGroup(Batch batch, AssetKey key, List<BatchItem> groupItems) {
+        Path workspace;
+        try {
+            workspace = Files.createTempDirectory("meditation-batch-" + batch.id + "-");
+        } catch (IOException e) {
+            log.error("Could not create batch workspace for batchId={}: {}", batch.id, e.getMessage());
+            groupItems.forEach(item -> item.finishFailed("Could not create batch workspace: " + e.getMessage()));
+            return;
+        }
+
+        // Preparation is a download plus one frame: queued as the cheapest job.
+        // The longest narration of the group picks the music bed shared by all of them.
+        int longestNarration = groupItems.stream()
+                .mapToInt(item -> textLengthEstimator.estimateDuration(item.request.narrationText()))
+                .max()
+                .orElse(0);
+        CompletableFuture<PreparedGenerationAssets> assets = generationScheduler.submit(
+                batch.userId, 1, () -> prepare(key, longestNarration, workspace));
+
+        // Same text within a group -> same idempotency key -> one generation
+        Map<String, List<BatchItem>> twins = new LinkedHashMap<>();
+        for (BatchItem item : groupItems) {
+            twins.computeIfAbsent(item.request.narrationText(), text -> new ArrayList<>()).add(item);
+        }
+
+        List<CompletableFuture<?>> generations = new ArrayList<>();
+        for (List<BatchItem> sharing : twins.values()) {
+            GenerationRequest request = sharing.get(0).request;
+            int estimatedSeconds = textLengthEstimator.estimateDuration(request.narrationText());
+            CompletableFuture<GenerationResponse> generation = assets.thenCompose(
+                    prepared -> generationScheduler.submit(batch.userId, estimatedSeconds,
+                            () -> contentService.generate(request, prepared,
+                                    meditationId -> sharing.forEach(item -> item.started(meditationId)))));
+            generations.add(generation.whenComplete((response, error) -> {
+                if (error != null && unwrap(error) instanceof GenerationUnavailableException) {
+                    // Still queued, now on another node; this batch goes away with the node
+                    handOff(request);
+                    return;
+                }
+                sharing.forEach(item -> item.finish(response, error));
+            }));
+        }
+
+        CompletableFuture.allOf(generations.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, error) -> deleteWorkspace(workspace));
+    }
+
+    /**
+     * Queue a generation this node will not start (it is draining) for another node.
+     */
+    private void handOff(GenerationRequest request) {
+        try {
+            generationHandoffPort.handOff(HandedOffGeneration.notStarted(request.compositionId(), request.userId(),
+                    request.narrationText(), request.musicReference(), request.imageReference(), clock.instant()));
+        } catch (RuntimeException e) {
+            log.error("Could not hand off batch generation: userId={}", request.userId(), e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private PreparedGenerationAssets prepare(AssetKey key, int narrationSeconds, Path workspace) {
+        try {
+            return contentService.prepareSharedAssets(
+                    key.musicReference(), key.imageReference(), narrationSeconds, workspace);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not prepare shared assets: " + e.getMessage(), e);
+        }
+    }
+
+    private BatchStatus snapshot(Batch batch) {
+        List<BatchItemStatus> items = new ArrayList<>(batch.items.size());
+        int percentSum = 0;
+        for (BatchItem item : batch.items) {
+            refreshDetached(item);
+            BatchItemStatus status = item.toStatus(progressOf(item));
+            percentSum += status.percent();
+            items.add(status);
+        }
+
+        Instant completedAt = batch.completedAt;
+        BatchState state;
+        if (completedAt == null) {
+            state = BatchState.PROCESSING;
+        } else if (items.stream().allMatch(item -> item.state() == ItemState.COMPLETED)) {
+            state = BatchState.COMPLETED;
+        } else {
+            state = BatchState.COMPLETED_WITH_ERRORS;
+        }
+
+        int percent = (int) Math.round((double) percentSum / items.size());
+        return new BatchStatus(batch.id, batch.userId, state, percent, items, batch.createdAt, completedAt);
+    }
+
+    private int progressOf(BatchItem item) {
+        if (item.state.isTerminal()) {
+            return 100;
+        }
+        if (item.state == ItemState.PROCESSING && item.meditationId != null) {
+            return generationProgressPort.latest(item.meditationId)
+                    .map(GenerationProgress::percent)
+                    .orElse(0);
+        }
+        return 0;
+    }
+
+    /**
+     * An item whose generation was already in flight elsewhere (same idempotency key)
+     * returns immediately as PROCESSING; its outcome is read back from the repository.
+     */
+    private void refreshDetached(BatchItem item) {
+        if (!item.detached || item.state.isTerminal() || item.meditationId == null) {
+            return;
+        }
+        contentRepositoryPort.findById(item.meditationId)
+                .filter(content -> content.status() != GenerationStatus.PROCESSING)
+                .ifPresent(content -> item.finishWith(new GenerationResponse(
+                        content.meditationId(),
+                        content.compositionId(),
+                        content.userId(),
+                        content.status(),
+                        content.mediaType(),
+                        content.outputMedia() != null ? content.outputMedia().url() : null,
+                        content.subtitleFile() != null ? content.subtitleFile().url() : null,
+                        content.durationSeconds(),
+                        content.createdAt(),
+                        content.completedAt()
+                ), content.errorMessage()));
+    }
+
+    private void evictExpired() {
+        Instant threshold = clock.instant().minus(RETENTION);
+        batches.values().removeIf(batch -> batch.completedAt != null && batch.completedAt.isBefore(threshold));
+    }
+
+    private void deleteWorkspace(Path workspace) {
+        if (!Files.exists(workspace)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(workspace)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("Failed to delete batch workspace file: {}", path);
+                }
+            });
+            log.info("Batch workspace cleaned up: {}", workspace);
+        } catch (IOException e) {
+            log.warn("Failed to cleanup batch workspace: {}", workspace, e);
+        }
+    }
+
+    /**
+     * Shared asset group key: items with the same music and image share prepared files.
+     */
+    private record AssetKey(String musicReference, String imageReference) {
+        static AssetKey of(GenerationRequest request) {
+            String image = request.imageReference();
+            return new AssetKey(request.musicReference(), image == null || image.isBlank() ? null : image);
+        }
+    }
+
+    /**
+     * In-memory state of one batch.
+     */
+    private final class Batch {
+
+        private final UUID id;
+        private final UUID userId;
+        private final Instant createdAt;
+        private final List<BatchItem> items;
+        private final AtomicInteger remaining;
+        private volatile Instant completedAt;
+
+        private Batch(UUID id, UUID userId, Instant createdAt, List<GenerationRequest> requests) {
+            this.id = id;
+            this.userId = userId;
+            this.createdAt = createdAt;
+            List<BatchItem> created = new ArrayList<>(requests.size());
+            for (int i = 0; i < requests.size(); i++) {
+                created.add(new BatchItem(this, i, requests.get(i)));
+            }
+            this.items = List.copyOf(created);
+            this.remaining = new AtomicInteger(created.size());
+        }
+
+        private void itemFinished() {
+            if (remaining.decrementAndGet() == 0) {
+                completedAt = clock.instant();
+                log.info("Batch finished: batchId={}, items={}", id, items.size());
+            }
+        }
+    }
+
+    /**
+     * In-memory state of one batch item.
+     */
+    private static final class BatchItem {
+
+        private final Batch batch;
+        private final int index;
+        private final GenerationRequest request;
+        private volatile ItemState state = ItemState.QUEUED;
+        private volatile UUID meditationId;
+        private volatile boolean detached;
+        private volatile GenerationResponse response;
+        private volatile String errorMessage;
+
+        private BatchItem(Batch batch, int index, GenerationRequest request) {
+            this.batch = batch;
+            this.index = index;
+            this.request = request;
+        }
+
+        private synchronized void started(UUID id) {
+            if (state == ItemState.QUEUED) {
+                meditationId = id;
+                state = ItemState.PROCESSING;
+            }
+        }
+
+        private void finish(GenerationResponse result, Throwable error) {
+            if (error != null) {
+                Throwable cause = unwrap(error);
+                if (cause instanceof GenerationCancelledException) {
+                    complete(ItemState.CANCELLED, null, null);
+                } else {
+                    complete(ItemState.FAILED, null, cause.getMessage());
+                }
+                return;
+            }
+            finishWith(result, null);
+        }
+
+        private void finishWith(GenerationResponse result, String message) {
+            switch (result.status()) {
+                case COMPLETED -> complete(ItemState.COMPLETED, result, null);
+                case CANCELLED -> complete(ItemState.CANCELLED, result, null);
+                case FAILED, TIMEOUT -> complete(ItemState.FAILED, result, message);
+                case PROCESSING -> attach(result.id());
+            }
+        }
+
+        private void finishFailed(String message) {
+            complete(ItemState.FAILED, null, message);
+        }
+
+        private synchronized void attach(UUID id) {
+            if (!state.isTerminal()) {
+                meditationId = id;
+                detached = true;
+                state = ItemState.PROCESSING;
+            }
+        }
+
+        private synchronized void complete(ItemState terminal, GenerationResponse result, String message) {
+            if (state.isTerminal()) {
+                return;
+            }
+            state = terminal;
+            response = result;
+            errorMessage = message;
+            if (result != null) {
+                meditationId = result.id();
+            }
+            batch.itemFinished();
+        }
+
+        private BatchItemStatus toStatus(int percent) {
+            GenerationResponse result = response;
+            MediaType mediaType = result != null
+                    ? result.mediaType()
+                    : (request.imageReference() != null && !request.imageReference().isBlank()
+                            ? MediaType.VIDEO : MediaType.AUDIO);
+            return new BatchItemStatus(
+                    index,
+                    meditationId,
+                    state,
+                    percent,
+                    mediaType,
+                    result != null ? result.mediaUrl() : null,
+                    result != null ? result.subtitleUrl() : null,
+                    errorMessage
+            );
+        }
+    }
+}
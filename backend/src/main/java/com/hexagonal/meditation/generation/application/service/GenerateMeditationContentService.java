@@ -1,30 +1,56 @@
 package com.hexagonal.meditation.generation.application.service;
 
 import com.hexagonal.meditation.generation.application.validator.TextLengthEstimator;
+import com.hexagonal.meditation.generation.domain.enums.GenerationStage;
+import com.hexagonal.meditation.generation.domain.enums.GenerationStatus;
 import com.hexagonal.meditation.generation.domain.enums.MediaType;
+import com.hexagonal.meditation.generation.domain.enums.PipelineStage;
+import com.hexagonal.meditation.generation.domain.enums.RenderQualityTier;
+import com.hexagonal.meditation.generation.domain.exception.GenerationCancelledException;
 import com.hexagonal.meditation.generation.domain.exception.GenerationTimeoutException;
 import com.hexagonal.meditation.generation.domain.exception.InvalidContentException;
+import com.hexagonal.meditation.generation.domain.model.CancellationToken;
 import com.hexagonal.meditation.generation.domain.model.GeneratedMeditationContent;
+import com.hexagonal.meditation.generation.domain.model.GenerationProgress;
+import com.hexagonal.meditation.generation.domain.model.HandedOffGeneration;
 import com.hexagonal.meditation.generation.domain.model.MediaReference;
 import com.hexagonal.meditation.generation.domain.model.NarrationScript;
+import com.hexagonal.meditation.generation.domain.model.PreparedGenerationAssets;
+import com.hexagonal.meditation.generation.domain.model.StageKey;
 import com.hexagonal.meditation.generation.domain.model.SubtitleSegment;
 import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase;
 import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase.GenerationRequest;
 import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase.GenerationResponse;
 import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort;
 import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort.AudioConfig;
+import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort.AudioProfile;
 import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort.AudioRenderRequest;
+import com.hexagonal.meditation.generation.domain.ports.out.ArtifactStorePort;
 import com.hexagonal.meditation.generation.domain.ports.out.ContentRepositoryPort;
+import com.hexagonal.meditation.generation.domain.ports.out.GenerationProgressPort;
 import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort;
 import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.MediaFileType;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.PackageUploadRequest;
 import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.UploadRequest;
+import com.hexagonal.meditation.generation.domain.ports.out.MusicBedPort;
+import com.hexagonal.meditation.generation.domain.ports.out.MusicBedPort.MusicBed;
+import com.hexagonal.meditation.generation.domain.ports.out.PlaybackAssetsPort;
+import com.hexagonal.meditation.generation.domain.ports.out.PlaybackAssetsPort.PosterRequest;
+import com.hexagonal.meditation.generation.domain.ports.out.PlaybackAssetsPort.WaveformRequest;
+import com.hexagonal.meditation.generation.domain.ports.out.RenderProgressListener;
+import com.hexagonal.meditation.generation.domain.ports.out.StreamPackagingPort;
+import com.hexagonal.meditation.generation.domain.ports.out.StreamPackagingPort.HlsPackage;
+import com.hexagonal.meditation.generation.domain.ports.out.StreamPackagingPort.PackagingRequest;
+import com.hexagonal.meditation.generation.domain.ports.out.StreamPackagingPort.Variant;
 import com.hexagonal.meditation.generation.domain.ports.out.SubtitleSyncPort;
 import com.hexagonal.meditation.generation.domain.ports.out.VideoRenderingPort;
+import com.hexagonal.meditation.generation.domain.ports.out.VideoRenderingPort.Rendition;
 import com.hexagonal.meditation.generation.domain.ports.out.VideoRenderingPort.VideoConfig;
 import com.hexagonal.meditation.generation.domain.ports.out.VideoRenderingPort.VideoRenderRequest;
 import com.hexagonal.meditation.generation.domain.ports.out.VoiceSynthesisPort;
 import com.hexagonal.meditation.generation.domain.ports.out.VoiceSynthesisPort.VoiceConfig;
 import com.hexagonal.meditation.generation.infrastructure.out.service.audio.AudioMetadataService;
+import com.hexagonal.meditation.generation.infrastructure.out.service.process.CancellableProcesses;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,11 +60,14 @@ import java.io.InputStreamReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Application service that orchestrates meditation content generation.
@@ -52,6 +81,67 @@ import java.util.UUID;
  * 5. Render video (if image) or audio (if no image)
  * 6. Upload media and subtitles to S3
  * 7. Persist generation result
+ * 
+ * Stage transitions and rendering percentage are published on the
+ * {@link GenerationProgressPort} so clients can follow a generation over SSE.
+ * 
+ * Each run is registered in the {@link GenerationJobRegistry}; its cancellation
+ * token is bound to the pipeline thread and checked at every stage transition.
+ * 
+ * The render step runs at the tier picked by the {@link RenderQualityPolicy}
+ * (cheaper tiers under load); the tier is recorded on the persisted output.
+ * Videos are rendered through the {@link SegmentedVideoRenderer}.
+ * 
+ * Every stage is keyed by the hash of its inputs and upstream keys
+ * ({@link StageKey}, {@link PipelineStage}); artifacts of earlier generations
+ * are restored from the {@link ArtifactStorePort}, so an edit only recomputes
+ * the stages downstream of what changed.
+ * 
+ * Once music and image are resolved, the {@link RenderDeduplicator} looks for
+ * a FULL-quality output with the same user-independent content key; if found,
+ * its media is copied in storage and nothing is rendered.
+ * 
+ * Otherwise the {@link PreviewRenderer} publishes a short
+ * low-bitrate preview; its URL is saved on the PROCESSING row so the status
+ * endpoint serves it while the full render continues.
+ * 
+ * {@link #precomputeNarration} runs the music and TTS stages ahead of time
+ * for a composition still being edited (see {@link SpeculativeNarrationService});
+ * the pipeline then restores the narration instead of synthesizing it.
+ * 
+ * When the {@link MusicBedPort} has a prepared bed for the resolved track
+ * (loudness-normalized, cut to a standard duration with a fade-out), the bed
+ * replaces the track: its duration is known, so nothing is probed.
+ * 
+ * After the upload, the {@link StreamPackagingPort} cuts the output into an
+ * HLS presentation published next to it; players that can stream start from
+ * its master playlist. Packaging is best effort: the progressive file stays
+ * the reference output.
+ * 
+ * Full-quality videos are rendered with a rendition ladder (480p and the mix
+ * alone) in the same FFmpeg pass; the renditions are variants of the HLS
+ * presentation and the audio track is also published for background listening.
+ * 
+ * Audio outputs are encoded with the configured {@link AudioProfile}
+ * (MP3, AAC in fast-start MP4, or Opus) and stored under the matching file type.
+ * 
+ * The {@link PlaybackAssetsPort} derives waveform peaks (and a poster frame for
+ * videos) from the rendered output once; they are uploaded next to it so
+ * players draw the output without decoding it. Best effort, like packaging.
+ * 
+ * Batch generation prepares shared music/image once with
+ * {@link #prepareSharedAssets} and passes them to
+ * {@link #generate(GenerationRequest, PreparedGenerationAssets, Consumer)}.
+ * 
+ * {@link #accept} saves the PROCESSING meditation of a request and
+ * {@link #runAccepted} runs its pipeline later, so the scheduled use case
+ * can answer with the meditation ID before the generation runs.
+ * 
+ * A job stopped by a draining node ({@link GenerationJobRegistry#handOffAll})
+ * leaves its meditation PROCESSING and answers with it; another node picks
+ * it up with {@link #resume}, which runs the pipeline again on the same
+ * meditation: stages before the checkpoint are restored from the artifact
+ * store and are not published again, and an existing preview is kept.
  */
 public class GenerateMeditationContentService implements GenerateMeditationContentUseCase {
     
@@ -77,6 +167,18 @@ public class GenerateMeditationContentService implements GenerateMeditationConte
     private final MediaStoragePort mediaStoragePort;
     private final ContentRepositoryPort contentRepositoryPort;
     private final AudioMetadataService audioMetadataService;
+    private final GenerationProgressPort generationProgressPort;
+    private final GenerationJobRegistry generationJobRegistry;
+    private final RenderQualityPolicy renderQualityPolicy;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final SegmentedVideoRenderer segmentedVideoRenderer;
+    private final PreviewRenderer previewRenderer;
+    private final ArtifactStorePort artifactStorePort;
+    private final RenderDeduplicator renderDeduplicator;
+    private final MusicBedPort musicBedPort;
+    private final StreamPackagingPort streamPackagingPort;
+    private final PlaybackAssetsPort playbackAssetsPort;
+    private final AudioProfile audioProfile;
     private final Clock clock;
     
     public GenerateMeditationContentService(
@@ -89,6 +191,18 @@ public class GenerateMeditationContentService implements GenerateMeditationConte
             MediaStoragePort mediaStoragePort,
             ContentRepositoryPort contentRepositoryPort,
             AudioMetadataService audioMetadataService,
+            GenerationProgressPort generationProgressPort,
+            GenerationJobRegistry generationJobRegistry,
+            RenderQualityPolicy renderQualityPolicy,
+            AdaptiveConcurrencyLimiter concurrencyLimiter,
+            SegmentedVideoRenderer segmentedVideoRenderer,
+            PreviewRenderer previewRenderer,
+            ArtifactStorePort artifactStorePort,
+            RenderDeduplicator renderDeduplicator,
+            MusicBedPort musicBedPort,
+            StreamPackagingPort streamPackagingPort,
+            PlaybackAssetsPort playbackAssetsPort,
+            AudioProfile audioProfile,
             Clock clock) {
         this.textLengthEstimator = textLengthEstimator;
         this.idempotencyKeyGenerator = idempotencyKeyGenerator;
@@ -99,84 +213,282 @@ public class GenerateMeditationContentService implements GenerateMeditationConte
         this.mediaStoragePort = mediaStoragePort;
         this.contentRepositoryPort = contentRepositoryPort;
         this.audioMetadataService = audioMetadataService;
+        this.generationProgressPort = generationProgressPort;
+        this.generationJobRegistry = generationJobRegistry;
+        this.renderQualityPolicy = renderQualityPolicy;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.segmentedVideoRenderer = segmentedVideoRenderer;
+        this.previewRenderer = previewRenderer;
+        this.artifactStorePort = artifactStorePort;
+        this.renderDeduplicator = renderDeduplicator;
+        this.musicBedPort = musicBedPort;
+        this.streamPackagingPort = streamPackagingPort;
+        this.playbackAssetsPort = playbackAssetsPort;
+        this.audioProfile = audioProfile;
         this.clock = clock;
     }
     
     @Override
     public GenerationResponse generate(GenerationRequest request) {
-        log.info("Starting meditation generation: userId={}, compositionId={}, hasImage={}", 
-                request.userId(), request.compositionId(), request.imageReference() != null);
+        return generate(request, null, meditationId -> { });
+    }
+    
+    /**
+     * Generate meditation content, optionally reusing shared assets prepared beforehand.
+     * 
+     * @param request generation request
+     * @param preparedAssets music/image already resolved on disk (null to resolve them per generation);
+     *                       must match the request's music and image references
+     * @param onStarted invoked with the meditation ID once the PROCESSING row is saved
+     *                  (not invoked when an existing result is returned)
+     * @return generation response
+     */
+    public GenerationResponse generate(
+            GenerationRequest request,
+            PreparedGenerationAssets preparedAssets,
+            Consumer<UUID> onStarted) {
+        log.info("Starting meditation generation: userId={}, compositionId={}, hasImage={}, sharedAssets={}", 
+                request.userId(), request.compositionId(), request.imageReference() != null, preparedAssets != null);
         
         try {
-            // 1. Validate input and estimate duration
-            // This also throws GenerationTimeoutException if estimated > 187s
-            int estimatedDuration = textLengthEstimator.validateAndEstimate(request.narrationText());
-            
-            // 2. Check idempotency - return existing result if found
-            String idempotencyKey = idempotencyKeyGenerator.generate(
-                request.userId(),
-                request.narrationText(),
-                request.musicReference(),
-                request.imageReference()
-            );
-            
-            Optional<GeneratedMeditationContent> existing = contentRepositoryPort.findByIdempotencyKey(idempotencyKey);
-            if (existing.isPresent()) {
-                log.info("Returning cached generation result for idempotencyKey={}", idempotencyKey);
-                return mapToResponse(existing.get());
+            // 1-4. Validate, check idempotency and save the PROCESSING row
+            StoredGeneration stored = store(request);
+            if (!stored.created()) {
+                return mapToResponse(stored.content());
             }
+            onStarted.accept(stored.content().meditationId());
             
-            // 3. Create domain aggregate based on media type
-            MediaType mediaType = (request.imageReference() != null && !request.imageReference().isBlank()) 
-                    ? MediaType.VIDEO : MediaType.AUDIO;
+            // 5. Execute generation pipeline (cancellable through the job registry)
+            return runPipeline(stored.content(), request, preparedAssets, null);
             
-            // Explicit validation if imageReference was provided but is blank (e.g. "")
-            if (mediaType == MediaType.AUDIO && request.imageReference() != null && request.imageReference().isBlank()) {
-                 // The user provided an image field but it's empty - we'll treat this as an error for clarity
-                 // instead of silently falling back to audio if they sent a blank string.
-                 throw new InvalidContentException("imageReference", "Image reference cannot be blank if provided");
-            }
+        } catch (GenerationTimeoutException | InvalidContentException | GenerationCancelledException e) {
+            // Domain exceptions are re-thrown directly
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected error during generation: {}", e.getMessage(), e);
+            throw new RuntimeException("Generation failed: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Accept a generation without running it: validate the request and save
+     * its PROCESSING meditation, so the caller can hand out the ID right away
+     * and run the pipeline later with {@link #runAccepted}.
+     * 
+     * @param request generation request
+     * @return the PROCESSING meditation (created), or the existing result of
+     *         an identical request (not created; nothing to run)
+     * @throws GenerationTimeoutException if the estimated duration exceeds the limit
+     * @throws InvalidContentException if content validation fails
+     */
+    public AcceptedGeneration accept(GenerationRequest request) {
+        StoredGeneration stored = store(request);
+        return new AcceptedGeneration(mapToResponse(stored.content()), stored.created());
+    }
+    
+    /**
+     * Run the pipeline of a generation saved by {@link #accept}.
+     * 
+     * Does nothing if the meditation is no longer PROCESSING (cancelled
+     * while it waited for a worker).
+     * 
+     * @param meditationId meditation returned by {@link #accept}
+     * @param request request it was accepted from
+     * @return generation response, empty if the meditation was no longer pending
+     */
+    public Optional<GenerationResponse> runAccepted(UUID meditationId, GenerationRequest request) {
+        return runPending(meditationId, request, null);
+    }
+    
+    /**
+     * Resume a generation handed off by a draining node.
+     * 
+     * A generation that never started runs like a new request. A started one
+     * runs the pipeline again on its meditation, if it is still PROCESSING
+     * (it may have been cancelled in the meantime).
+     * 
+     * @param handedOff hand-off claimed from the queue
+     */
+    public void resume(HandedOffGeneration handedOff) {
+        GenerationRequest request = new GenerationRequest(handedOff.compositionId(), handedOff.userId(),
+            handedOff.narrationText(), handedOff.musicReference(), handedOff.imageReference());
+        if (!handedOff.started()) {
+            generate(request);
+            return;
+        }
+        log.info("Resuming handed-off generation at {}: meditationId={}", handedOff.checkpoint(), handedOff.meditationId());
+        runPending(handedOff.meditationId(), request, handedOff.checkpoint());
+    }
+    
+    private Optional<GenerationResponse> runPending(UUID meditationId, GenerationRequest request, GenerationStage resumedFrom) {
+        Optional<GeneratedMeditationContent> content = contentRepositoryPort.findById(meditationId)
+            .filter(found -> found.status() == GenerationStatus.PROCESSING);
+        if (content.isEmpty()) {
+            log.info("Generation no longer pending: meditationId={}", meditationId);
+            return Optional.empty();
+        }
+        return Optional.of(runPipeline(content.get(), request, null, resumedFrom));
+    }
+    
+    /**
+     * Validate a request and save its PROCESSING meditation, unless an
+     * identical request already has one.
+     */
+    private StoredGeneration store(GenerationRequest request) {
+        // 1. Validate input and estimate duration
+        // This also throws GenerationTimeoutException if estimated > 187s
+        textLengthEstimator.validateAndEstimate(request.narrationText());
+        
+        // 2. Check idempotency - return existing result if found
+        String idempotencyKey = idempotencyKeyGenerator.generate(
+            request.userId(),
+            request.narrationText(),
+            request.musicReference(),
+            request.imageReference()
+        );
+        
+        Optional<GeneratedMeditationContent> existing = contentRepositoryPort.findByIdempotencyKey(idempotencyKey);
+        if (existing.isPresent()) {
+            log.info("Returning cached generation result for idempotencyKey={}", idempotencyKey);
+            return new StoredGeneration(existing.get(), false);
+        }
+        
+        // 3. Create domain aggregate based on media type
+        MediaType mediaType = (request.imageReference() != null && !request.imageReference().isBlank()) 
+                ? MediaType.VIDEO : MediaType.AUDIO;
+        
+        // Explicit validation if imageReference was provided but is blank (e.g. "")
+        if (mediaType == MediaType.AUDIO && request.imageReference() != null && request.imageReference().isBlank()) {
+             // The user provided an image field but it's empty - we'll treat this as an error for clarity
+             // instead of silently falling back to audio if they sent a blank string.
+             throw new InvalidContentException("imageReference", "Image reference cannot be blank if provided");
+        }
 
-            GeneratedMeditationContent output = createDomainAggregate(request, mediaType, idempotencyKey);
+        GeneratedMeditationContent output = createDomainAggregate(request, mediaType, idempotencyKey);
+        
+        // 4. Save initial state (PROCESSING)
+        GeneratedMeditationContent saved = contentRepositoryPort.save(output);
+        log.info("Saved initial generation state: meditationId={}, status=PROCESSING", saved.meditationId());
+        return new StoredGeneration(saved, true);
+    }
+    
+    /**
+     * Run the pipeline on a saved PROCESSING meditation and persist the outcome.
+     * 
+     * @param saved meditation being generated
+     * @param request request it was created from
+     * @param preparedAssets shared assets (null to resolve them here)
+     * @param resumedFrom stage a handed-off generation was stopped in (null for a new one)
+     * @return completed meditation, or the PROCESSING one if the job was handed off
+     */
+    private GenerationResponse runPipeline(
+            GeneratedMeditationContent saved,
+            GenerationRequest request,
+            PreparedGenerationAssets preparedAssets,
+            GenerationStage resumedFrom) {
+        GenerationJobRegistry.RunningJob job = generationJobRegistry.register(saved.meditationId(), request, resumedFrom);
+        try (CancellationToken.Registration binding = CancellationToken.bind(job.token())) {
+            GeneratedMeditationContent completed = executeGenerationPipeline(saved, request, preparedAssets, job);
+            job.token().throwIfCancelled();
             
-            // 4. Save initial state (PROCESSING)
-            GeneratedMeditationContent saved = contentRepositoryPort.save(output);
-            log.info("Saved initial generation state: meditationId={}, status=PROCESSING", saved.meditationId());
+            // 6. Persist completed state
+            GeneratedMeditationContent persisted = contentRepositoryPort.save(completed);
+            log.info("Generation completed successfully: meditationId={}, mediaType={}", 
+                    persisted.meditationId(), persisted.mediaType());
+            generationProgressPort.publish(GenerationProgress.completed(persisted.meditationId(), clock));
             
-            // 5. Execute generation pipeline
-            try {
-                GeneratedMeditationContent completed = executeGenerationPipeline(saved, request);
-                
-                // 6. Persist completed state
-                GeneratedMeditationContent persisted = contentRepositoryPort.save(completed);
-                log.info("Generation completed successfully: meditationId={}, mediaType={}", 
-                        persisted.meditationId(), persisted.mediaType());
-                
-                return mapToResponse(persisted);
-                
-            } catch (Exception e) {
-                log.error("Generation pipeline failed: meditationId={}, error={}", 
-                        saved.meditationId(), e.getMessage(), e);
-                
-                // Mark as failed and persist
-                GeneratedMeditationContent failed = saved.markFailed(e.getMessage(), clock);
-                contentRepositoryPort.save(failed);
-                
-                throw new RuntimeException("Generation failed: " + e.getMessage(), e);
+            return mapToResponse(persisted);
+
+        } catch (Exception e) {
+            if (job.isHandedOff()) {
+                // Queued for another node by the drain; the meditation stays PROCESSING
+                log.info("Generation pipeline handed off at {}: meditationId={}", job.checkpoint(), saved.meditationId());
+                return mapToResponse(contentRepositoryPort.findById(saved.meditationId()).orElse(saved));
             }
+            if (job.token().isCancelled()) {
+                // Row and progress are updated by the cancel use case
+                log.info("Generation pipeline cancelled: meditationId={}", saved.meditationId());
+                throw new GenerationCancelledException(saved.meditationId());
+            }
+            log.error("Generation pipeline failed: meditationId={}, error={}", 
+                    saved.meditationId(), e.getMessage(), e);
+            
+            // Mark as failed and persist
+            GeneratedMeditationContent failed = saved.markFailed(e.getMessage(), clock);
+            contentRepositoryPort.save(failed);
+            generationProgressPort.publish(GenerationProgress.failed(saved.meditationId(), e.getMessage(), clock));
             
-        } catch (GenerationTimeoutException | InvalidContentException e) {
-            // Domain exceptions are re-thrown directly
-            throw e;
-        } catch (Exception e) {
-            log.error("Unexpected error during generation: {}", e.getMessage(), e);
             throw new RuntimeException("Generation failed: " + e.getMessage(), e);
+        } finally {
+            generationJobRegistry.unregister(job);
+        }
+    }
+    
+    /**
+     * Resolve music and image references into a shared workspace once:
+     * download/copy the music, probe its duration (or pick its prepared bed),
+     * decode the image and scale it to the render resolution.
+     * 
+     * The workspace is owned by the caller, which deletes it once every
+     * generation using the assets has finished.
+     * 
+     * @param musicReference music reference (file path or HTTP/HTTPS URL)
+     * @param imageReference image reference (null or blank for AUDIO)
+     * @param narrationSeconds longest estimated narration of the group (picks the music bed)
+     * @param workspace directory where downloaded/decoded files are written
+     * @return prepared assets
+     * @throws InvalidContentException if a reference cannot be resolved
+     */
+    public PreparedGenerationAssets prepareSharedAssets(
+            String musicReference,
+            String imageReference,
+            double narrationSeconds,
+            Path workspace) throws IOException {
+        
+        ResolvedMusic music = resolveMusic(musicReference, narrationSeconds, workspace);
+        
+        Path imagePath = null;
+        if (imageReference != null && !imageReference.isBlank()) {
+            imagePath = prepareImage(imageReference, imageKey(imageReference), workspace);
+        }
+        
+        log.info("Shared assets prepared: music={} ({} seconds), image={}", music.path(), music.durationSeconds(), imagePath);
+        return new PreparedGenerationAssets(music.path(), Math.max(0.0, music.durationSeconds()), imagePath, music.bedId());
+    }
+    
+    /**
+     * Speculatively run the music preparation and TTS stages for a composition
+     * that is still being edited, leaving their artifacts in the artifact store
+     * under the stage keys the pipeline derives for the same inputs.
+     * 
+     * Runs on the calling thread and honours its bound cancellation token.
+     * 
+     * @param narrationText current narration text
+     * @param musicReference current music reference
+     * @throws GenerationTimeoutException if the text is too long to be generated at all
+     */
+    public void precomputeNarration(String narrationText, String musicReference) throws IOException {
+        int estimatedDuration = textLengthEstimator.validateAndEstimate(narrationText);
+        NarrationScript script = new NarrationScript(narrationText);
+        
+        Path workDir = Files.createTempDirectory("meditation-precompute-");
+        try {
+            ResolvedMusic music = resolveMusic(musicReference, estimatedDuration, workDir);
+            CancellationToken.current().throwIfCancelled();
+            
+            StageKey ttsKey = ttsKey(music.key(), script, music.durationSeconds());
+            runStage(ttsKey, workDir, () -> synthesizeNarration(script, music.durationSeconds(), workDir));
+        } finally {
+            cleanupTempDirectory(workDir);
         }
     }
     
     /**
      * Execute the complete generation pipeline:
-     * - Resolve music and get duration
+     * - Resolve music and get duration (unless shared assets were prepared)
+     * - Prepare the background image (VIDEO)
+     * - Reuse an identical render by content key, if any
+     * - Publish a preview of the opening seconds
      * - Synthesize narration voice (TTS) with target duration matching music
      * - Generate synchronized subtitles
      * - Render video or audio
@@ -185,67 +497,87 @@ public class GenerateMeditationContentService implements GenerateMeditationConte
      */
     private GeneratedMeditationContent executeGenerationPipeline(
             GeneratedMeditationContent content,
-            GenerationRequest request) throws IOException {
+            GenerationRequest request,
+            PreparedGenerationAssets preparedAssets,
+            GenerationJobRegistry.RunningJob job) throws IOException {
         
         UUID meditationId = content.meditationId();
         UUID userId = content.userId();
         
         // Create temp directory for this generation
         Path tempDir = Files.createTempDirectory("meditation-gen-" + meditationId);
+        job.attachWorkspace(tempDir);
         
+        AdaptiveConcurrencyLimiter.StageClock stages = concurrencyLimiter.stageClock();
         try {
             log.info("Starting generation pipeline in temp directory: {}", tempDir);
             
             // Step 1: Resolve music file and get duration
             log.info("Step 1/6: Resolving music file and analyzing duration");
-            Path musicPath = resolveMusicPath(request.musicReference(), tempDir);
+            publishStage(job, GenerationStage.MUSIC_RESOLUTION, stages);
+            ResolvedMusic music;
+            if (preparedAssets != null) {
+                music = new ResolvedMusic(preparedAssets.musicPath(), preparedAssets.musicDurationSeconds(),
+                    musicKey(request.musicReference(), preparedAssets.musicBedId()), preparedAssets.musicBedId());
+                log.info("Using shared music: {} (duration: {} seconds)", music.path(), music.durationSeconds());
+            } else {
+                music = resolveMusic(request.musicReference(),
+                    textLengthEstimator.estimateDuration(request.narrationText()), tempDir);
+            }
+            StageKey musicKey = music.key();
+            Path musicPath = music.path();
+            double musicDuration = music.durationSeconds();
+            stages.outputSeconds(musicDuration);
             
-            double musicDuration = 0.0;
-            try {
-                musicDuration = audioMetadataService.getDurationSeconds(musicPath);
-                log.info("Music resolved: {} (duration: {} seconds)", musicPath, musicDuration);
-            } catch (Exception e) {
-                log.warn("Could not determine music duration: {}", e.getMessage());
-                log.info("Music resolved: {}", musicPath);
+            // Background image is part of the content key, so it is prepared up front
+            StageKey imageKey = null;
+            Path imagePath = null;
+            if (content.mediaType() == MediaType.VIDEO) {
+                imageKey = imageKey(request.imageReference());
+                imagePath = preparedAssets != null && preparedAssets.hasImage()
+                        ? preparedAssets.imagePath()
+                        : prepareImage(request.imageReference(), imageKey, tempDir);
             }
             
-            // Step 2: Synthesize voice narration with pauses distributed across music duration
-            log.info("Step 2/6: Synthesizing voice narration");
-            Path narrationAudio;
-            if (musicDuration > 0) {
-                // Synthesize with target duration to match music
-                narrationAudio = voiceSynthesisPort.synthesizeVoice(
-                    content.narrationScript(),
-                    DEFAULT_VOICE_CONFIG,
-                    musicDuration
-                );
-                log.info("Voice synthesis completed with target duration {} seconds: {}", musicDuration, narrationAudio);
-                
-                // Verify narration duration doesn't exceed music duration
-                try {
-                    double narrationDuration = audioMetadataService.getDurationSeconds(narrationAudio);
-                    log.info("Narration actual duration: {} seconds (music: {} seconds)", narrationDuration, musicDuration);
-                    
-                    if (narrationDuration > musicDuration + 0.5) { // Allow 0.5s tolerance
-                        log.warn("Narration duration ({} s) exceeds music duration ({} s). Truncating narration to match music.", 
-                            narrationDuration, musicDuration);
-                        narrationAudio = truncateAudio(narrationAudio, musicDuration, tempDir);
-                        log.info("Narration truncated to {} seconds", musicDuration);
-                    }
-                } catch (Exception e) {
-                    log.warn("Could not verify narration duration: {}", e.getMessage());
+            // Identical content already rendered (possibly for another user): copy it instead
+            String contentKey = null;
+            if (renderDeduplicator.isEnabled()) {
+                // A bed ID already covers the track content and the bed settings; no need to hash the bed
+                contentKey = music.bedId() != null
+                    ? renderDeduplicator.contentKey(content.narrationScript().text(), null, imagePath,
+                        renderProfile(content.mediaType()) + "|bed=" + music.bedId())
+                    : renderDeduplicator.contentKey(content.narrationScript().text(), musicPath, imagePath,
+                        renderProfile(content.mediaType()));
+                Optional<GeneratedMeditationContent> reused =
+                    renderDeduplicator.reuse(content, contentKey, MEDIA_URL_TTL_SECONDS, clock);
+                if (reused.isPresent()) {
+                    log.info("Generation pipeline completed from an identical render: meditationId={}", meditationId);
+                    return reused.get();
                 }
-            } else {
-                // Synthesize with natural duration
-                narrationAudio = voiceSynthesisPort.synthesizeVoice(
-                    content.narrationScript(),
-                    DEFAULT_VOICE_CONFIG
-                );
-                log.info("Voice synthesis completed with natural duration: {}", narrationAudio);
             }
             
+            // Preview: narration prefix over the music bed, saved on the PROCESSING row
+            // before the full render starts (same thread, so no race with the final save)
+            GeneratedMeditationContent inProgress = content;
+            // A resumed generation keeps the preview published before the hand-off
+            Optional<MediaReference> preview = content.previewMedia() != null
+                ? Optional.empty()
+                : previewRenderer.render(content, DEFAULT_VOICE_CONFIG, musicPath, tempDir);
+            if (preview.isPresent()) {
+                inProgress = contentRepositoryPort.save(content.withPreviewMedia(preview.get()));
+                log.info("Preview available: meditationId={}, url={}", meditationId, preview.get().url());
+            }
+            
+            // Step 2: Synthesize voice narration with pauses distributed across music duration
+            log.info("Step 2/6: Synthesizing voice narration");
+            publishStage(job, GenerationStage.VOICE_SYNTHESIS, stages);
+            StageKey ttsKey = ttsKey(musicKey, content.narrationScript(), musicDuration);
+            Path narrationAudio = runStage(ttsKey, tempDir,
+                () -> synthesizeNarration(content.narrationScript(), musicDuration, tempDir));
+            
             // Step 3: Generate synchronized subtitles distributed across music duration
             log.info("Step 3/6: Generating synchronized subtitles");
+            publishStage(job, GenerationStage.SUBTITLES, stages);
             List<SubtitleSegment> subtitleSegments;
             if (musicDuration > 0) {
                 // Distribute subtitles across entire music duration
@@ -264,33 +596,51 @@ public class GenerateMeditationContentService implements GenerateMeditationConte
             Path subtitleFile = tempDir.resolve(meditationId + ".srt");
             Path finalSubtitleFile = subtitleSyncPort.exportToSrt(subtitleSegments, subtitleFile);
             log.info("Subtitles generated: {} segments, file: {}", subtitleSegments.size(), finalSubtitleFile);
+            // Timing is computed in memory, cheaper than a store round-trip; only the key is kept
+            StageKey subtitlesKey = StageKey.derive(PipelineStage.SUBTITLES, List.of(musicKey, ttsKey),
+                request.narrationText());
             
             // Step 4: Render video or audio
-            log.info("Step 4/6: Rendering {} output", content.mediaType());
+            publishStage(job, GenerationStage.RENDERING, stages);
+            RenderQualityTier qualityTier = renderQualityPolicy.select(content.mediaType());
+            log.info("Step 4/6: Rendering {} output at {} quality", content.mediaType(), qualityTier);
             Path outputMedia;
             MediaFileType mediaFileType;
+            List<Rendition> renditions = List.of();
+            RenderProgressListener renderProgress = fraction -> generationProgressPort.publish(
+                GenerationProgress.stageProgress(meditationId, GenerationStage.RENDERING, fraction, clock));
             
-            if (content.mediaType() == MediaType.VIDEO) {
-                // Download or resolve image
-                Path imagePath = resolveImagePath(request.imageReference(), tempDir);
-                
+            if (content.mediaType() == MediaType.VIDEO && qualityTier.rendersVideo()) {
                 // Render video
                 Path videoOutput = tempDir.resolve(meditationId + ".mp4");
+                VideoConfig videoConfig = VideoConfig.forQuality(qualityTier);
+                // Degraded tiers render the output alone to keep the cost down under load
+                List<Rendition> ladder = qualityTier.isDegraded()
+                    ? List.of() : renditionLadder(videoConfig, meditationId, tempDir);
                 VideoRenderRequest videoRequest = new VideoRenderRequest(
                     narrationAudio,
                     musicPath,
                     imagePath,
                     finalSubtitleFile,
                     videoOutput,
-                    VideoConfig.hdMeditationVideo()
+                    videoConfig,
+                    musicDuration,
+                    renderProgress,
+                    ladder
                 );
-                outputMedia = videoRenderingPort.renderVideo(videoRequest);
+                StageKey videoKey = StageKey.derive(PipelineStage.VIDEO_RENDER,
+                    List.of(musicKey, ttsKey, imageKey, subtitlesKey), videoRequest.config());
+                // Long videos render as parallel segments cut at sentence boundaries
+                outputMedia = runStage(videoKey, tempDir, () -> timedRender(qualityTier, MediaType.VIDEO, musicDuration,
+                    () -> segmentedVideoRenderer.render(videoRequest, subtitleSegments, tempDir)));
                 mediaFileType = MediaFileType.VIDEO;
-                log.info("Video rendering completed: {}", outputMedia);
+                // Restored renders and fallback renderers come without renditions
+                renditions = ladder.stream().filter(rendition -> Files.exists(rendition.outputPath())).toList();
+                log.info("Video rendering completed: {} ({} renditions)", outputMedia, renditions.size());
                 
             } else {
-                // Render audio
-                Path audioOutput = tempDir.resolve(meditationId + ".mp3");
+                // Render audio (also the AUDIO_ONLY fallback for video requests)
+                Path audioOutput = tempDir.resolve(meditationId + "." + audioProfile.extension());
                 
                 // Log music path before creating request
                 log.info("Creating audio render request with music: {}", musicPath);
@@ -304,15 +654,21 @@ public class GenerateMeditationContentService implements GenerateMeditationConte
                     narrationAudio,
                     musicPath,
                     audioOutput,
-                    AudioConfig.meditationAudio()
+                    AudioConfig.forQuality(qualityTier).withProfile(audioProfile),
+                    musicDuration,
+                    renderProgress
                 );
-                outputMedia = audioRenderingPort.renderAudio(audioRequest);
-                mediaFileType = MediaFileType.AUDIO;
+                StageKey audioKey = StageKey.derive(PipelineStage.AUDIO_MIX,
+                    List.of(musicKey, ttsKey), audioRequest.config());
+                outputMedia = runStage(audioKey, tempDir, () -> timedRender(qualityTier, MediaType.AUDIO, musicDuration,
+                    () -> audioRenderingPort.renderAudio(audioRequest)));
+                mediaFileType = MediaFileType.forAudio(audioProfile);
                 log.info("Audio rendering completed: {}", outputMedia);
             }
             
             // Step 5: Upload to S3
             log.info("Step 5/6: Uploading media to S3");
+            publishStage(job, GenerationStage.MEDIA_UPLOAD, stages);
             
             // Capture real duration before uploading and deleting local file
             double realDurationSeconds = 0;
@@ -331,8 +687,22 @@ public class GenerateMeditationContentService implements GenerateMeditationConte
                 MEDIA_URL_TTL_SECONDS
             ));
             log.info("Media uploaded: {}", mediaUrl);
+            Optional<MediaReference> audioTrackRef = publishAudioTrack(renditions, userId, meditationId);
+            Optional<MediaReference> streamingRef = publishHls(outputMedia, mediaFileType, renditions,
+                userId, meditationId, tempDir);
+            WaveformRequest waveformRequest = new WaveformRequest(
+                outputMedia, tempDir.resolve(meditationId + "-waveform.json"));
+            Optional<MediaReference> waveformRef = publishAsset(MediaFileType.WAVEFORM, userId, meditationId,
+                () -> playbackAssetsPort.computeWaveform(waveformRequest));
+            PosterRequest posterRequest = new PosterRequest(
+                outputMedia, tempDir.resolve(meditationId + "-poster.jpg"), realDurationSeconds);
+            Optional<MediaReference> posterRef = mediaFileType != MediaFileType.VIDEO
+                ? Optional.empty()
+                : publishAsset(MediaFileType.POSTER, userId, meditationId,
+                    () -> playbackAssetsPort.extractPoster(posterRequest));
             
             log.info("Step 6/6: Uploading subtitles to S3");
+            publishStage(job, GenerationStage.SUBTITLE_UPLOAD, stages);
             String subtitleUrl = mediaStoragePort.uploadMedia(new UploadRequest(
                 finalSubtitleFile,
                 userId.toString(),
@@ -348,8 +718,14 @@ public class GenerateMeditationContentService implements GenerateMeditationConte
             
             // Mark as completed
             Integer finalDurationSeconds = realDurationSeconds > 0 ? (int) Math.round(realDurationSeconds) : null;
-            GeneratedMeditationContent completed = content.markCompleted(mediaRef, subtitleRef, finalDurationSeconds, clock);
+            GeneratedMeditationContent completed = inProgress.withRenderQuality(qualityTier)
+                    .withContentKey(contentKey)
+                    .withStreamingMedia(streamingRef.orElse(null))
+                    .withAudioTrack(audioTrackRef.orElse(null))
+                    .withPlaybackAssets(waveformRef.orElse(null), posterRef.orElse(null))
+                    .markCompleted(mediaRef, subtitleRef, finalDurationSeconds, clock);
             log.info("Generation pipeline completed successfully. Real duration: {}s", finalDurationSeconds);
+            stages.finish();
             
             return completed;
             
@@ -359,6 +735,311 @@ public class GenerateMeditationContentService implements GenerateMeditationConte
         }
     }
     
+    /**
+     * Renditions rendered with a full-quality video: the reduced-tier size
+     * when the output is larger, and the mix alone.
+     */
+    private static List<Rendition> renditionLadder(VideoConfig config, UUID meditationId, Path tempDir) {
+        List<Rendition> ladder = new ArrayList<>();
+        VideoConfig reduced = VideoConfig.forQuality(RenderQualityTier.REDUCED);
+        if (config.height() > reduced.height()) {
+            String name = reduced.height() + "p";
+            ladder.add(Rendition.video(name, reduced.width(), reduced.height(),
+                tempDir.resolve(meditationId + "-" + name + ".mp4")));
+        }
+        ladder.add(Rendition.audioOnly("audio", tempDir.resolve(meditationId + "-audio.m4a")));
+        return ladder;
+    }
+    
+    /**
+     * Upload the audio-only rendition, if one was rendered.
+     * 
+     * @return the audio track, or empty if there is none or the upload failed
+     */
+    private Optional<MediaReference> publishAudioTrack(List<Rendition> renditions, UUID userId, UUID meditationId) {
+        Optional<Rendition> track = renditions.stream().filter(Rendition::isAudioOnly).findFirst();
+        if (track.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            String trackUrl = mediaStoragePort.uploadMedia(new UploadRequest(
+                track.get().outputPath(),
+                userId.toString(),
+                meditationId,
+                MediaFileType.AUDIO_AAC,
+                MEDIA_URL_TTL_SECONDS
+            ));
+            log.info("Audio track uploaded: {}", trackUrl);
+            return Optional.of(new MediaReference(trackUrl));
+        } catch (GenerationCancelledException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("Audio track upload failed for {}: {}", meditationId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Derive a playback asset from the rendered output and upload it.
+     * 
+     * @param asset computes the asset file; empty if the asset is disabled
+     * @return the uploaded asset, or empty if it is disabled or failed
+     */
+    private Optional<MediaReference> publishAsset(MediaFileType fileType, UUID userId, UUID meditationId,
+                                                  Supplier<Optional<Path>> asset) {
+        try {
+            Optional<Path> file = asset.get();
+            if (file.isEmpty()) {
+                return Optional.empty();
+            }
+            String assetUrl = mediaStoragePort.uploadMedia(new UploadRequest(
+                file.get(),
+                userId.toString(),
+                meditationId,
+                fileType,
+                MEDIA_URL_TTL_SECONDS
+            ));
+            log.info("Playback asset {} uploaded: {}", fileType, assetUrl);
+            return Optional.of(new MediaReference(assetUrl));
+        } catch (GenerationCancelledException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("Playback asset {} failed for {}: {}", fileType, meditationId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Package the rendered output as HLS and upload the presentation.
+     * 
+     * @return the master playlist, or empty if packaging is disabled or failed
+     */
+    private Optional<MediaReference> publishHls(Path outputMedia, MediaFileType mediaFileType,
+                                                List<Rendition> renditions,
+                                                UUID userId, UUID meditationId, Path tempDir) {
+        MediaType mediaType = mediaFileType == MediaFileType.VIDEO ? MediaType.VIDEO : MediaType.AUDIO;
+        List<Variant> variants = renditions.stream()
+            .map(rendition -> new Variant(rendition.name(), rendition.outputPath(), rendition.isAudioOnly()))
+            .toList();
+        try {
+            Optional<HlsPackage> hls = streamPackagingPort.packageHls(
+                new PackagingRequest(outputMedia, mediaType, tempDir.resolve("hls"), variants));
+            if (hls.isEmpty()) {
+                return Optional.empty();
+            }
+            String playlistUrl = mediaStoragePort.uploadPackage(new PackageUploadRequest(
+                hls.get().directory(),
+                hls.get().files(),
+                userId.toString(),
+                meditationId,
+                "hls",
+                MEDIA_URL_TTL_SECONDS
+            ));
+            log.info("HLS presentation uploaded: {}", playlistUrl);
+            return Optional.of(new MediaReference(playlistUrl));
+        } catch (GenerationCancelledException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("HLS packaging failed for {}, publishing the progressive output only: {}",
+                meditationId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Resolve the music track and swap in its prepared bed when there is one;
+     * otherwise probe the track duration.
+     * 
+     * @param narrationSeconds estimated narration duration the bed should cover
+     */
+    private ResolvedMusic resolveMusic(String musicReference, double narrationSeconds, Path workDir) throws IOException {
+        StageKey trackKey = musicKey(musicReference);
+        Path trackPath = prepareMusic(musicReference, trackKey, workDir);
+        Optional<MusicBed> bed = musicBedPort.findBed(trackPath, narrationSeconds);
+        if (bed.isPresent()) {
+            log.info("Music resolved to prepared bed: {} (duration: {} seconds)", bed.get().id(), bed.get().durationSeconds());
+            return new ResolvedMusic(bed.get().path(), bed.get().durationSeconds(),
+                musicKey(musicReference, bed.get().id()), bed.get().id());
+        }
+        return new ResolvedMusic(trackPath, probeMusicDuration(trackPath), trackKey, null);
+    }
+    
+    /**
+     * Probe music duration; 0 if it cannot be determined.
+     */
+    private double probeMusicDuration(Path musicPath) {
+        try {
+            double musicDuration = audioMetadataService.getDurationSeconds(musicPath);
+            log.info("Music resolved: {} (duration: {} seconds)", musicPath, musicDuration);
+            return musicDuration;
+        } catch (Exception e) {
+            log.warn("Could not determine music duration: {}", e.getMessage());
+            log.info("Music resolved: {}", musicPath);
+            return 0.0;
+        }
+    }
+    
+    /**
+     * Synthesize the narration, stretched to the music duration when known
+     * and truncated if TTS overshoots it.
+     */
+    private Path synthesizeNarration(NarrationScript script, double musicDuration, Path workDir) throws IOException {
+        Path narrationAudio;
+        if (musicDuration > 0) {
+            // Synthesize with target duration to match music
+            narrationAudio = voiceSynthesisPort.synthesizeVoice(
+                script,
+                DEFAULT_VOICE_CONFIG,
+                musicDuration
+            );
+            log.info("Voice synthesis completed with target duration {} seconds: {}", musicDuration, narrationAudio);
+            
+            // Verify narration duration doesn't exceed music duration
+            try {
+                double narrationDuration = audioMetadataService.getDurationSeconds(narrationAudio);
+                log.info("Narration actual duration: {} seconds (music: {} seconds)", narrationDuration, musicDuration);
+                
+                if (narrationDuration > musicDuration + 0.5) { // Allow 0.5s tolerance
+                    log.warn("Narration duration ({} s) exceeds music duration ({} s). Truncating narration to match music.", 
+                        narrationDuration, musicDuration);
+                    narrationAudio = truncateAudio(narrationAudio, musicDuration, workDir);
+                    log.info("Narration truncated to {} seconds", musicDuration);
+                }
+            } catch (Exception e) {
+                log.warn("Could not verify narration duration: {}", e.getMessage());
+            }
+        } else {
+            // Synthesize with natural duration
+            narrationAudio = voiceSynthesisPort.synthesizeVoice(
+                script,
+                DEFAULT_VOICE_CONFIG
+            );
+            log.info("Voice synthesis completed with natural duration: {}", narrationAudio);
+        }
+        return narrationAudio;
+    }
+    
+    /**
+     * Restore the artifact of a stage from the artifact store, or compute and store it.
+     */
+    private Path runStage(StageKey key, Path workDir, StageComputation computation) throws IOException {
+        Optional<Path> stored = artifactStorePort.restore(key, workDir);
+        if (stored.isPresent()) {
+            log.info("Reusing {} artifact: inputHash={}", key.stage(), key.inputHash());
+            return stored.get();
+        }
+        Path artifact = computation.compute();
+        artifactStorePort.store(key, artifact);
+        return artifact;
+    }
+    
+    /**
+     * Run a render and feed its wall time to the quality policy and the
+     * concurrency limiter (reused renders are not timed).
+     */
+    private Path timedRender(RenderQualityTier tier, MediaType rendered, double outputSeconds,
+                             StageComputation render) throws IOException {
+        long start = System.nanoTime();
+        Path output = render.compute();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        renderQualityPolicy.recordRenderTime(tier, elapsed, outputSeconds);
+        concurrencyLimiter.recordRender(rendered, tier, elapsed, outputSeconds);
+        return output;
+    }
+    
+    private StageKey ttsKey(StageKey musicKey, NarrationScript script, double musicDuration) {
+        return StageKey.derive(PipelineStage.TTS, List.of(musicKey), script.text(), DEFAULT_VOICE_CONFIG, musicDuration);
+    }
+    
+    private StageKey musicKey(String musicReference) {
+        return StageKey.derive(PipelineStage.MUSIC_PREP, List.of(),
+            musicReference, localFileFingerprint(musicReference));
+    }
+    
+    /**
+     * Key of the music actually mixed: the track, or the given bed of it.
+     */
+    private StageKey musicKey(String musicReference, String bedId) {
+        StageKey trackKey = musicKey(musicReference);
+        return bedId == null ? trackKey : StageKey.derive(PipelineStage.MUSIC_PREP, List.of(), trackKey.inputHash(), bedId);
+    }
+    
+    private StageKey imageKey(String imageReference) {
+        VideoConfig videoConfig = VideoConfig.hdMeditationVideo();
+        return StageKey.derive(PipelineStage.IMAGE_PREP, List.of(),
+            imageReference, localFileFingerprint(imageReference), videoConfig.width() + "x" + videoConfig.height());
+    }
+    
+    /**
+     * Everything besides text, music and image that shapes the output bytes
+     * (part of the content key); outputs are only reused at FULL quality.
+     */
+    private String renderProfile(MediaType mediaType) {
+        Object outputConfig = mediaType == MediaType.VIDEO
+                ? VideoConfig.forQuality(RenderQualityTier.FULL)
+                : AudioConfig.forQuality(RenderQualityTier.FULL).withProfile(audioProfile);
+        return mediaType + "|" + DEFAULT_VOICE_CONFIG + "|" + outputConfig;
+    }
+    
+    /**
+     * Resolve the music file; downloads are kept in the artifact store,
+     * local files are used in place.
+     */
+    private Path prepareMusic(String musicReference, StageKey musicKey, Path workDir) throws IOException {
+        if (musicReference != null && (musicReference.startsWith("http://") || musicReference.startsWith("https://"))) {
+            return runStage(musicKey, workDir, () -> resolveMusicPath(musicReference, workDir));
+        }
+        return resolveMusicPath(musicReference, workDir);
+    }
+    
+    /**
+     * Resolve the image and scale it to the render resolution.
+     */
+    private Path prepareImage(String imageReference, StageKey imageKey, Path workDir) throws IOException {
+        return runStage(imageKey, workDir, () -> {
+            Path sourceImage = resolveImagePath(imageReference, workDir);
+            VideoConfig videoConfig = VideoConfig.hdMeditationVideo();
+            return videoRenderingPort.prepareBackgroundImage(
+                sourceImage,
+                videoConfig,
+                workDir.resolve("background-" + videoConfig.width() + "x" + videoConfig.height() + ".png")
+            );
+        });
+    }
+    
+    /**
+     * Size and modification time of a local file reference, so an edited file
+     * at the same path gets a new stage key ("" for URLs and data URIs).
+     */
+    private String localFileFingerprint(String reference) {
+        if (reference == null || reference.isBlank() || reference.contains(":/") || reference.startsWith("data:")) {
+            return "";
+        }
+        try {
+            Path path = Path.of(reference);
+            if (Files.isRegularFile(path)) {
+                return Files.size(path) + ":" + Files.getLastModifiedTime(path).toMillis();
+            }
+        } catch (Exception e) {
+            log.debug("Cannot fingerprint reference {}: {}", reference, e.getMessage());
+        }
+        return "";
+    }
+    
+    /**
+     * Stage checkpoint: stop if cancellation was requested, otherwise record
+     * the stage on the job and publish its start. A resumed job does not
+     * publish the stages before its checkpoint again (progress never goes back).
+     */
+    private void publishStage(GenerationJobRegistry.RunningJob job, GenerationStage stage,
+                              AdaptiveConcurrencyLimiter.StageClock stages) {
+        CancellationToken.current().throwIfCancelled();
+        stages.enter(stage);
+        if (job.reach(stage)) {
+            generationProgressPort.publish(GenerationProgress.stageStarted(job.meditationId(), stage, clock));
+        }
+    }
+    
     /**
      * Resolve music path from reference.
      * Supports: file paths, HTTP/HTTPS URLs.
@@ -592,7 +1273,8 @@ public class GenerateMeditationContentService implements GenerateMeditationConte
             
             // Read output
             StringBuilder output = new StringBuilder();
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            try (CancellationToken.Registration cancellation = CancellableProcesses.register(process);
+                 BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
                 String line;
                 while ((line = reader.readLine()) != null) {
                     output.append(line).append("\n");
@@ -643,6 +1325,8 @@ public class GenerateMeditationContentService implements GenerateMeditationConte
     /**
      * Creates the domain aggregate for the meditation output.
      * Validates that video requests include an image reference.
+     * The background music is recorded from the start so the uploaded track
+     * stays referenced (upload collection) whatever the pipeline outcome.
      */
     private GeneratedMeditationContent createDomainAggregate(
             GenerationRequest request,
@@ -651,6 +1335,7 @@ public class GenerateMeditationContentService implements GenerateMeditationConte
         
         NarrationScript narrationScript = new NarrationScript(request.narrationText());
         UUID meditationId = UUID.randomUUID();
+        GeneratedMeditationContent content;
         
         if (mediaType == MediaType.VIDEO) {
             if (request.imageReference() == null || request.imageReference().isBlank()) {
@@ -661,7 +1346,7 @@ public class GenerateMeditationContentService implements GenerateMeditationConte
             String sanitizedImageRef = sanitizeImageReference(request.imageReference());
             MediaReference imageMediaReference = new MediaReference(sanitizedImageRef);
             
-            return GeneratedMeditationContent.createVideo(
+            content = GeneratedMeditationContent.createVideo(
                 meditationId,
                 request.compositionId(),
                 request.userId(),
@@ -671,7 +1356,7 @@ public class GenerateMeditationContentService implements GenerateMeditationConte
                 clock
             );
         } else {
-            return GeneratedMeditationContent.createAudio(
+            content = GeneratedMeditationContent.createAudio(
                 meditationId,
                 request.compositionId(),
                 request.userId(),
@@ -680,6 +1365,11 @@ public class GenerateMeditationContentService implements GenerateMeditationConte
                 clock
             );
         }
+        
+        if (request.musicReference() == null || request.musicReference().isBlank()) {
+            return content;
+        }
+        return content.withBackgroundMusic(new MediaReference(sanitizeMusicReference(request.musicReference())));
     }
     
     /**
@@ -702,4 +1392,31 @@ public class GenerateMeditationContentService implements GenerateMeditationConte
             content.completedAt()
         );
     }
+    
+    /**
+     * Computation of a stage artifact.
+     */
+    @FunctionalInterface
+    private interface StageComputation {
+        Path compute() throws IOException;
+    }
+    
+    /**
+     * Music to mix: the resolved track, or its prepared bed (bedId set).
+     */
+    private record ResolvedMusic(Path path, double durationSeconds, StageKey key, String bedId) {
+    }
+    
+    /**
+     * Meditation of a request: newly saved (created) or found by idempotency key.
+     */
+    private record StoredGeneration(GeneratedMeditationContent content, boolean created) {
+    }
+    
+    /**
+     * Outcome of {@link #accept}: the response to hand out and whether a
+     * pipeline still has to run for it.
+     */
+    public record AcceptedGeneration(GenerationResponse response, boolean created) {
+    }
 }
@@ -0,0 +1,168 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.application.validator.TextLengthEstimator;
+import com.hexagonal.meditation.generation.domain.exception.GenerationUnavailableException;
+import com.hexagonal.meditation.generation.domain.model.HandedOffGeneration;
+import com.hexagonal.meditation.generation.domain.ports.in.DrainGenerationUseCase;
+import com.hexagonal.meditation.generation.domain.ports.out.GenerationHandoffPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Hands generations off between nodes, so rolling deploys lose no work.
+ *
+ * Drain, on the node about to stop:
+ * 1. the {@link GenerationScheduler} stops dispatching: queued and new jobs
+ *    fail with {@link GenerationUnavailableException} (new requests are
+ *    answered 503 with Retry-After; queued single generations and batch items
+ *    are handed off by their use case)
+ * 2. running jobs get up to the drain timeout to finish
+ * 3. the remaining ones are stopped through the {@link GenerationJobRegistry}
+ *    (their FFmpeg processes killed, workspaces deleted) and queued on the
+ *    {@link GenerationHandoffPort} with the stage they reached; their
+ *    meditations stay PROCESSING
+ *
+ * Resume, on every node: queued generations are claimed, as many as the node
+ * has free slots, and run through the scheduler under their user
+ * ({@link GenerateMeditationContentService#resume}). A claimed generation the
+ * node can no longer start (it began draining) goes back to the queue.
+ *
+ * Metrics:
+ * - generation.drain.jobs (counter, tag outcome=rejected|finished|handed_off)
+ * - generation.handoff.resumed (counter): generations claimed by this node
+ */
+public class GenerationHandoffService implements DrainGenerationUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(GenerationHandoffService.class);
+
+    /** Time stopped pipelines get to unwind (processes killed, PROCESSING answered). */
+    static final Duration PIPELINE_ACK_TIMEOUT = Duration.ofSeconds(5);
+
+    private final GenerateMeditationContentService contentService;
+    private final GenerationScheduler generationScheduler;
+    private final GenerationJobRegistry generationJobRegistry;
+    private final GenerationHandoffPort generationHandoffPort;
+    private final TextLengthEstimator textLengthEstimator;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+
+    public GenerationHandoffService(
+            GenerateMeditationContentService contentService,
+            GenerationScheduler generationScheduler,
+            GenerationJobRegistry generationJobRegistry,
+            GenerationHandoffPort generationHandoffPort,
+            TextLengthEstimator textLengthEstimator,
+            Clock clock,
+            MeterRegistry meterRegistry) {
+        this.contentService = contentService;
+        this.generationScheduler = generationScheduler;
+        this.generationJobRegistry = generationJobRegistry;
+        this.generationHandoffPort = generationHandoffPort;
+        this.textLengthEstimator = textLengthEstimator;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public DrainReport drain(Duration timeout) {
+        log.info("Draining generation jobs: timeout={}s", timeout.toSeconds());
+        int rejected = generationScheduler.drain();
+        int running = generationScheduler.runningCount();
+
+        List<HandedOffGeneration> handOffs = List.of();
+        if (!awaitIdle(timeout)) {
+            handOffs = generationJobRegistry.handOffAll(PIPELINE_ACK_TIMEOUT.toMillis(), clock.instant());
+            for (HandedOffGeneration handOff : handOffs) {
+                queue(handOff);
+            }
+            // Stopped pipelines answer their callers with the PROCESSING meditation
+            awaitIdle(PIPELINE_ACK_TIMEOUT);
+        }
+
+        DrainReport report = new DrainReport(rejected, Math.max(0, running - handOffs.size()), handOffs.size());
+        count("rejected", report.rejected());
+        count("finished", report.finished());
+        count("handed_off", report.handedOff());
+        log.info("Generation jobs drained: rejected={}, finished={}, handedOff={}",
+                report.rejected(), report.finished(), report.handedOff());
+        return report;
+    }
+
+    @Override
+    public int resumeHandedOff() {
+        if (generationScheduler.isDraining()) {
+            return 0;
+        }
+        int free = generationScheduler.capacity() - generationScheduler.runningCount() - generationScheduler.queuedCount();
+        if (free <= 0) {
+            return 0;
+        }
+        List<HandedOffGeneration> claimed = generationHandoffPort.claim(free);
+        for (HandedOffGeneration handedOff : claimed) {
+            log.info("Resuming handed-off generation: id={}, userId={}, checkpoint={}",
+                    handedOff.id(), handedOff.userId(), handedOff.checkpoint());
+            int estimatedSeconds = textLengthEstimator.estimateDuration(handedOff.narrationText());
+            generationScheduler.submit(handedOff.userId(), estimatedSeconds, () -> {
+                contentService.resume(handedOff);
+                return null;
+            }).whenComplete((ignored, error) -> {
+                if (error != null) {
+                    resumeFailed(handedOff, error);
+                }
+            });
+        }
+        if (!claimed.isEmpty()) {
+            Counter.builder("generation.handoff.resumed")
+                    .description("Handed-off generations claimed by this node")
+                    .register(meterRegistry)
+                    .increment(claimed.size());
+        }
+        return claimed.size();
+    }
+
+    private void resumeFailed(HandedOffGeneration handedOff, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof GenerationUnavailableException) {
+            // Claimed just before this node began draining: give it back untouched
+            queue(handedOff);
+            return;
+        }
+        // The pipeline already marked the meditation FAILED (or it was cancelled)
+        log.warn("Handed-off generation did not complete: id={}, error={}", handedOff.id(), cause.getMessage());
+    }
+
+    private void queue(HandedOffGeneration handOff) {
+        try {
+            generationHandoffPort.handOff(handOff);
+            log.info("Generation handed off: id={}, meditationId={}, checkpoint={}",
+                    handOff.id(), handOff.meditationId(), handOff.checkpoint());
+        } catch (RuntimeException e) {
+            // Nothing else can be done during shutdown; the meditation stays PROCESSING
+            log.error("Could not hand off generation: id={}, meditationId={}", handOff.id(), handOff.meditationId(), e);
+        }
+    }
+
+    private boolean awaitIdle(Duration timeout) {
+        try {
+            return generationScheduler.awaitIdle(timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void count(String outcome, int jobs) {
+        Counter.builder("generation.drain.jobs")
+                .description("Generation jobs of a draining node, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment(jobs);
+    }
+}
@@ -0,0 +1,224 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.domain.enums.GenerationStage;
+import com.hexagonal.meditation.generation.domain.model.CancellationToken;
+import com.hexagonal.meditation.generation.domain.model.HandedOffGeneration;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase.GenerationRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Registry of generations running on this node.
+ * 
+ * Each running job owns a {@link CancellationToken} and, once created, its
+ * workspace directory. The cancel use case looks jobs up here to signal them
+ * and waits briefly for the pipeline to acknowledge; if it does not, the
+ * workspace is deleted from the cancelling thread.
+ * 
+ * A draining node stops its jobs the same way ({@link #handOffAll}), but
+ * marks them handed off first: the pipeline then leaves the meditation
+ * PROCESSING, and each job describes itself as a {@link HandedOffGeneration}
+ * from the request it runs and the last stage it reached.
+ */
+public class GenerationJobRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(GenerationJobRegistry.class);
+
+    private final Map<UUID, RunningJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Register a generation that is about to run.
+     * 
+     * @param meditationId meditation being generated
+     * @param request request the pipeline runs (handed off on drain)
+     * @param resumedFrom stage a resumed generation was stopped in (null for a new one)
+     * @return job handle (unregister when the pipeline returns)
+     */
+    public RunningJob register(UUID meditationId, GenerationRequest request, GenerationStage resumedFrom) {
+        RunningJob job = new RunningJob(meditationId, request, resumedFrom);
+        jobs.put(meditationId, job);
+        return job;
+    }
+
+    /**
+     * Remove a job once its pipeline has returned (successfully or not).
+     */
+    public void unregister(RunningJob job) {
+        jobs.remove(job.meditationId(), job);
+        job.finished.countDown();
+    }
+
+    public Optional<RunningJob> find(UUID meditationId) {
+        return Optional.ofNullable(jobs.get(meditationId));
+    }
+
+    public int runningCount() {
+        return jobs.size();
+    }
+
+    /**
+     * Cancel a running job: signal its token (destroying registered resources),
+     * wait up to {@code ackTimeoutMillis} for the pipeline to unwind, and delete
+     * the workspace directly if it did not.
+     * 
+     * @return true if a job was running on this node
+     */
+    public boolean cancel(UUID meditationId, long ackTimeoutMillis) {
+        RunningJob job = jobs.get(meditationId);
+        if (job == null) {
+            return false;
+        }
+        stop(job, ackTimeoutMillis);
+        return true;
+    }
+
+    /**
+     * Stop every running job for a hand-off: mark it handed off, signal its
+     * token and wait for the pipelines to unwind, deleting the workspaces of
+     * those that do not acknowledge within {@code ackTimeoutMillis}.
+     * 
+     * @param handedOffAt time recorded on the hand-offs
+     * @return the jobs as hand-offs, to be queued for another node
+     */
+    public List<HandedOffGeneration> handOffAll(long ackTimeoutMillis, Instant handedOffAt) {
+        List<RunningJob> stopped = List.copyOf(jobs.values());
+        List<HandedOffGeneration> handOffs = new ArrayList<>(stopped.size());
+        for (RunningJob job : stopped) {
+            job.handedOff = true;
+            job.token().cancel();
+            handOffs.add(job.toHandOff(handedOffAt));
+        }
+        // Signal all first, so the pipelines unwind in parallel
+        long deadline = System.nanoTime() + ackTimeoutMillis * 1_000_000;
+        for (RunningJob job : stopped) {
+            awaitOrDeleteWorkspace(job, Math.max(0, (deadline - System.nanoTime()) / 1_000_000));
+        }
+        return handOffs;
+    }
+
+    private void stop(RunningJob job, long ackTimeoutMillis) {
+        job.token().cancel();
+        awaitOrDeleteWorkspace(job, ackTimeoutMillis);
+    }
+
+    private void awaitOrDeleteWorkspace(RunningJob job, long ackTimeoutMillis) {
+        if (!job.awaitFinished(ackTimeoutMillis)) {
+            log.warn("Pipeline did not acknowledge cancellation within {} ms: meditationId={}",
+                    ackTimeoutMillis, job.meditationId());
+            deleteWorkspace(job.workspace());
+        }
+    }
+
+    private void deleteWorkspace(Path workspace) {
+        if (workspace == null || !Files.exists(workspace)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(workspace)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("Failed to delete workspace file: {}", path);
+                }
+            });
+            log.info("Workspace deleted after stopping its job: {}", workspace);
+        } catch (IOException e) {
+            log.warn("Failed to delete workspace: {}", workspace, e);
+        }
+    }
+
+    /**
+     * Handle of a generation running on this node.
+     */
+    public static final class RunningJob {
+
+        private final UUID meditationId;
+        private final GenerationRequest request;
+        private final CancellationToken token;
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private volatile Path workspace;
+        private volatile GenerationStage checkpoint;
+        private volatile boolean handedOff;
+
+        private RunningJob(UUID meditationId, GenerationRequest request, GenerationStage resumedFrom) {
+            this.meditationId = meditationId;
+            this.request = request;
+            this.checkpoint = resumedFrom;
+            this.token = new CancellationToken(meditationId);
+        }
+
+        public UUID meditationId() {
+            return meditationId;
+        }
+
+        public CancellationToken token() {
+            return token;
+        }
+
+        public Path workspace() {
+            return workspace;
+        }
+
+        public void attachWorkspace(Path workspace) {
+            this.workspace = workspace;
+        }
+
+        /**
+         * Record that the pipeline entered a stage. A resumed job replays the
+         * stages before its checkpoint (restored, not recomputed); those do
+         * not move the checkpoint back.
+         * 
+         * @param stage stage entered
+         * @return true if the stage is at or past the checkpoint (worth publishing)
+         */
+        public boolean reach(GenerationStage stage) {
+            GenerationStage current = checkpoint;
+            if (current != null && stage.compareTo(current) < 0) {
+                return false;
+            }
+            checkpoint = stage;
+            return true;
+        }
+
+        public GenerationStage checkpoint() {
+            return checkpoint;
+        }
+
+        /**
+         * @return true if the job was stopped to be resumed on another node
+         */
+        public boolean isHandedOff() {
+            return handedOff;
+        }
+
+        private HandedOffGeneration toHandOff(Instant handedOffAt) {
+            return new HandedOffGeneration(meditationId, meditationId, request.compositionId(), request.userId(),
+                    request.narrationText(), request.musicReference(), request.imageReference(),
+                    checkpoint, handedOffAt);
+        }
+
+        boolean awaitFinished(long timeoutMillis) {
+            try {
+                return finished.await(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
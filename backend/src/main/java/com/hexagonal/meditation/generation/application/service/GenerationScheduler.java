@@ -0,0 +1,382 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.domain.exception.GenerationUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Per-user fair-share scheduler for generation jobs.
+ *
+ * Jobs are queued per user and dispatched onto the worker pool with deficit
+ * round-robin (DRR): users take turns, each turn adds {@code quantumSeconds}
+ * to the user's deficit, and the user's jobs are dispatched while their
+ * estimated narration duration fits in that deficit. A user with many or long jobs therefore gets
+ * the same rendering time per round as a user with a single short one.
+ *
+ * Within a user's queue, shorter jobs go first. A user never runs more than
+ * {@code perUserConcurrency} jobs at once, even if workers are idle.
+ *
+ * The overall capacity can change at runtime ({@link #setCapacity}): a
+ * lower capacity lets running jobs finish and dispatches nothing until the
+ * count drops below it; a higher one dispatches queued jobs right away.
+ *
+ * Before shutdown the scheduler is drained ({@link #drain}): queued and new
+ * jobs fail with {@link GenerationUnavailableException}, running jobs go on,
+ * and {@link #awaitIdle} waits for them to finish.
+ *
+ * Metrics:
+ * - generation.scheduler.queue.wait (timer, tag size): time between submit and dispatch,
+ *   by job size (short/medium/long estimated narration); the wait of each user is in the
+ *   dispatch log line, so the tag stays bounded however many users there are
+ * - generation.scheduler.queued / generation.scheduler.running (gauges)
+ */
+public class GenerationScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(GenerationScheduler.class);
+
+    /** Upper bounds (estimated narration seconds, inclusive) of the short and medium size tags. */
+    static final int SHORT_JOB_SECONDS = 60;
+    static final int MEDIUM_JOB_SECONDS = 180;
+
+    private final Executor workers;
+    /** Jobs running at once across users; adjustable at runtime, guarded by {@code this}. */
+    private int capacity;
+    private final int perUserConcurrency;
+    private final long quantumSeconds;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<UUID, UserQueue> users = new HashMap<>();
+    /** Users with queued jobs, in round-robin order. */
+    private final Deque<UserQueue> ring = new ArrayDeque<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private int running;
+    private int queued;
+    private boolean draining;
+
+    public GenerationScheduler(
+            Executor workers,
+            int capacity,
+            int perUserConcurrency,
+            int quantumSeconds,
+            MeterRegistry meterRegistry) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (perUserConcurrency <= 0) {
+            throw new IllegalArgumentException("Per-user concurrency must be positive");
+        }
+        if (quantumSeconds <= 0) {
+            throw new IllegalArgumentException("Quantum must be positive");
+        }
+        this.workers = workers;
+        this.capacity = capacity;
+        this.perUserConcurrency = perUserConcurrency;
+        this.quantumSeconds = quantumSeconds;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("generation.scheduler.queued", this, GenerationScheduler::queuedCount)
+                .description("Generation jobs waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("generation.scheduler.running", this, GenerationScheduler::runningCount)
+                .description("Generation jobs running on the worker pool")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue a job for the given user.
+     *
+     * @param userId owner of the job (fair-share key)
+     * @param estimatedSeconds estimated narration duration, used as the job cost
+     * @param task work to run on a worker thread
+     * @return future completed with the task result; cancelling it before
+     *         dispatch removes the job from the queue
+     */
+    public <T> CompletableFuture<T> submit(UUID userId, int estimatedSeconds, Supplier<T> task) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (task == null) {
+            throw new IllegalArgumentException("Task cannot be null");
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Job<T> job = new Job<>(userId, Math.max(1, estimatedSeconds), sequence.incrementAndGet(),
+                System.nanoTime(), task, future);
+
+        synchronized (this) {
+            if (draining) {
+                future.completeExceptionally(new GenerationUnavailableException());
+                return future;
+            }
+            UserQueue queue = users.computeIfAbsent(userId, UserQueue::new);
+            if (queue.jobs.isEmpty()) {
+                ring.addLast(queue);
+            }
+            queue.jobs.add(job);
+            queued++;
+        }
+        dispatch();
+        return future;
+    }
+
+    public synchronized int queuedCount() {
+        return queued;
+    }
+
+    public synchronized int runningCount() {
+        return running;
+    }
+
+    public synchronized int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Change the number of jobs running at once. The worker pool must have
+     * at least that many threads.
+     *
+     * @param capacity new capacity, positive
+     */
+    public void setCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        synchronized (this) {
+            this.capacity = capacity;
+        }
+        dispatch();
+    }
+
+    /**
+     * Stop dispatching: every queued job and every job submitted from now on
+     * fails with {@link GenerationUnavailableException}. Running jobs are
+     * left alone. Futures are failed outside the lock, so their callbacks
+     * may run on the calling thread.
+     *
+     * @return number of queued jobs that were rejected
+     */
+    public int drain() {
+        List<Job<?>> rejected = new ArrayList<>();
+        synchronized (this) {
+            draining = true;
+            for (UserQueue queue : ring) {
+                rejected.addAll(queue.jobs);
+                queue.jobs.clear();
+                queue.deficit = 0;
+                queue.inTurn = false;
+                if (queue.running == 0) {
+                    users.remove(queue.userId);
+                }
+            }
+            ring.clear();
+            queued = 0;
+        }
+        int pending = 0;
+        for (Job<?> job : rejected) {
+            // Jobs cancelled while queued are already done
+            if (job.future().completeExceptionally(new GenerationUnavailableException())) {
+                pending++;
+            }
+        }
+        log.info("Generation scheduler draining: {} queued job(s) rejected, {} running", pending, runningCount());
+        return pending;
+    }
+
+    public synchronized boolean isDraining() {
+        return draining;
+    }
+
+    /**
+     * Wait until no job is running.
+     *
+     * @param timeout maximum time to wait
+     * @return true if idle, false if jobs were still running at the deadline
+     */
+    public synchronized boolean awaitIdle(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (running > 0) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            wait(Math.max(1, remaining / 1_000_000));
+        }
+        return true;
+    }
+
+    /**
+     * Start as many jobs as free capacity allows. Jobs are handed to the
+     * executor outside the lock (a caller-runs executor re-enters here).
+     */
+    private void dispatch() {
+        List<Job<?>> toStart = new ArrayList<>();
+        synchronized (this) {
+            while (!draining && running < capacity) {
+                Job<?> next = nextJob();
+                if (next == null) {
+                    break;
+                }
+                running++;
+                toStart.add(next);
+            }
+        }
+        for (Job<?> job : toStart) {
+            Duration waited = Duration.ofNanos(System.nanoTime() - job.enqueuedAt());
+            String size = sizeTag(job.cost());
+            Timer.builder("generation.scheduler.queue.wait")
+                    .description("Time generation jobs wait for a worker")
+                    .tag("size", size)
+                    .register(meterRegistry)
+                    .record(waited);
+            log.info("Dispatching generation job: userId={}, size={}, cost={}s, waited={}ms",
+                    job.userId(), size, job.cost(), waited.toMillis());
+            try {
+                workers.execute(() -> run(job));
+            } catch (RuntimeException e) {
+                log.error("Worker pool rejected generation job: userId={}", job.userId(), e);
+                job.future().completeExceptionally(e);
+                finished(job);
+            }
+        }
+    }
+
+    /**
+     * Bounded metric dimension for a job cost.
+     *
+     * @param cost estimated narration duration in seconds
+     * @return short, medium or long
+     */
+    static String sizeTag(int cost) {
+        if (cost <= SHORT_JOB_SECONDS) {
+            return "short";
+        }
+        return cost <= MEDIUM_JOB_SECONDS ? "medium" : "long";
+    }
+
+    /**
+     * Deficit round-robin over users with queued jobs. Must hold the lock.
+     *
+     * @return next job to run (already counted as running for its user),
+     *         or null if every user with jobs is at its concurrency cap
+     */
+    private Job<?> nextJob() {
+        while (true) {
+            UserQueue head = ring.peekFirst();
+            if (head == null) {
+                return null;
+            }
+            if (ring.stream().allMatch(queue -> queue.running >= perUserConcurrency)) {
+                return null;
+            }
+            if (head.running >= perUserConcurrency) {
+                endTurn(head);
+                continue;
+            }
+            if (!head.inTurn) {
+                // Start of this user's turn: grant a quantum
+                head.deficit += quantumSeconds;
+                head.inTurn = true;
+            }
+            Job<?> job = head.jobs.peek();
+            if (job.future().isDone()) {
+                // Cancelled while queued
+                head.jobs.poll();
+                queued--;
+                removeIfIdle(head);
+                continue;
+            }
+            if (job.cost() <= head.deficit) {
+                head.jobs.poll();
+                queued--;
+                head.deficit -= job.cost();
+                head.running++;
+                removeIfIdle(head);
+                return job;
+            }
+            // Head job does not fit: keep the deficit for the next round
+            endTurn(head);
+        }
+    }
+
+    private void endTurn(UserQueue queue) {
+        queue.inTurn = false;
+        ring.addLast(ring.pollFirst());
+    }
+
+    private void removeIfIdle(UserQueue queue) {
+        if (queue.jobs.isEmpty()) {
+            ring.remove(queue);
+            queue.deficit = 0;
+            queue.inTurn = false;
+            if (queue.running == 0) {
+                users.remove(queue.userId);
+            }
+        }
+    }
+
+    private <T> void run(Job<T> job) {
+        try {
+            if (!job.future().isDone()) {
+                job.future().complete(job.task().get());
+            }
+        } catch (Throwable t) {
+            job.future().completeExceptionally(t);
+        } finally {
+            finished(job);
+        }
+    }
+
+    private void finished(Job<?> job) {
+        synchronized (this) {
+            running--;
+            UserQueue queue = users.get(job.userId());
+            queue.running--;
+            removeIfIdle(queue);
+            notifyAll();
+        }
+        dispatch();
+    }
+
+    /**
+     * Queued jobs and running count of one user.
+     */
+    private static final class UserQueue {
+
+        private final UUID userId;
+        private final PriorityQueue<Job<?>> jobs = new PriorityQueue<>(
+                Comparator.<Job<?>>comparingInt(job -> job.cost()).thenComparingLong(job -> job.sequence()));
+        private long deficit;
+        private boolean inTurn;
+        private int running;
+
+        private UserQueue(UUID userId) {
+            this.userId = userId;
+        }
+    }
+
+    private record Job<T>(
+            UUID userId,
+            int cost,
+            long sequence,
+            long enqueuedAt,
+            Supplier<T> task,
+            CompletableFuture<T> future
+    ) {}
+}
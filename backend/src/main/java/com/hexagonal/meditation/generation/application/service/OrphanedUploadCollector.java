@@ -0,0 +1,296 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.domain.model.GeneratedMeditationContent;
+import com.hexagonal.meditation.generation.domain.model.MediaReference;
+import com.hexagonal.meditation.generation.domain.ports.in.CollectOrphanedUploadsUseCase;
+import com.hexagonal.meditation.generation.domain.ports.out.CompositionReferencesPort;
+import com.hexagonal.meditation.generation.domain.ports.out.ContentRepositoryPort;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.ObjectPage;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.StoredObject;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Garbage collector of uploads no meditation references.
+ *
+ * Pages through {@code generation/} in storage; objects of one user are
+ * contiguous, so each user's meditations are loaded once per pass. An object
+ * {@code generation/{userId}/{id}/...} is kept when:
+ * - it is younger than the grace period (uploads waiting for their generation)
+ * - {@code id} is one of the user's meditations (generated outputs)
+ * - its URL is the background music or image of one of the user's meditations
+ * - its URL is the music or image of a composition (uploads of a user still
+ *   composing; compositions carry no owner, so they are read once per pass)
+ * Anything else under that layout is an orphan; other keys are never touched.
+ *
+ * Rate limits bound each pass: pages listed, objects deleted, and a pause
+ * between delete batches. A pass stopped by a limit leaves a resume token,
+ * so the next pass continues where it stopped instead of rescanning.
+ * A dry run reports the orphans and deletes nothing.
+ *
+ * Metrics:
+ * - generation.uploads.gc.orphans (counter, tag action=deleted|reported)
+ * - generation.uploads.gc.bytes (counter, bytes of the orphans deleted)
+ */
+public class OrphanedUploadCollector implements CollectOrphanedUploadsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(OrphanedUploadCollector.class);
+
+    static final String PREFIX = "generation/";
+    private static final int SAMPLE_SIZE = 20;
+
+    private final MediaStoragePort mediaStoragePort;
+    private final ContentRepositoryPort contentRepositoryPort;
+    private final CompositionReferencesPort compositionReferencesPort;
+    private final Limits limits;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+
+    /** Page the next pass starts from (null: from the beginning); guarded by {@code this}. */
+    private String resumeToken;
+
+    /**
+     * @param mediaStoragePort storage the uploads are listed and deleted in
+     * @param contentRepositoryPort meditations referencing the uploads
+     * @param compositionReferencesPort compositions referencing the uploads
+     * @param limits grace period and per-pass rate limits
+     * @param clock clock the grace period is measured with
+     * @param meterRegistry registry for collection metrics
+     */
+    public OrphanedUploadCollector(
+            MediaStoragePort mediaStoragePort,
+            ContentRepositoryPort contentRepositoryPort,
+            CompositionReferencesPort compositionReferencesPort,
+            Limits limits,
+            Clock clock,
+            MeterRegistry meterRegistry) {
+        this.mediaStoragePort = mediaStoragePort;
+        this.contentRepositoryPort = contentRepositoryPort;
+        this.compositionReferencesPort = compositionReferencesPort;
+        this.limits = limits;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * One pass at a time: a pass holds the resume token until it ends.
+     */
+    @Override
+    public synchronized CollectionReport collect(boolean dryRun) {
+        Instant cutoff = clock.instant().minus(limits.gracePeriod());
+        String pageToken = resumeToken;
+        Set<String> composedPaths = new HashSet<>();
+        for (String reference : compositionReferencesPort.findReferencedMedia()) {
+            addPath(composedPaths, reference);
+        }
+        Owner owner = null;
+        List<String> pending = new ArrayList<>();
+        List<String> sample = new ArrayList<>();
+        long scanned = 0;
+        long found = 0;
+        long deleted = 0;
+        long bytes = 0;
+        boolean complete = false;
+
+        pass:
+        for (int pages = 0; pages < limits.maxPagesPerPass(); pages++) {
+            ObjectPage page = mediaStoragePort.listObjects(PREFIX, pageToken, limits.pageSize());
+            for (StoredObject object : page.objects()) {
+                scanned++;
+                UploadKey key = UploadKey.parse(object.key());
+                if (key == null || !object.lastModified().isBefore(cutoff)) {
+                    continue;
+                }
+                if (owner == null || !owner.userId().equals(key.userId())) {
+                    owner = loadOwner(key.userId());
+                }
+                if (owner.references(key.id(), object.key()) || referenced(composedPaths, object.key())) {
+                    continue;
+                }
+                found++;
+                bytes += object.sizeBytes();
+                if (sample.size() < SAMPLE_SIZE) {
+                    sample.add(object.key());
+                }
+                if (dryRun) {
+                    continue;
+                }
+                pending.add(object.key());
+                if (deleted + pending.size() >= limits.maxDeletesPerPass()) {
+                    // Resume on this page: the orphans after this one are still to be deleted
+                    deleted += delete(pending);
+                    break pass;
+                }
+                if (pending.size() >= limits.deleteBatchSize()) {
+                    deleted += delete(pending);
+                }
+            }
+            if (!page.hasNext()) {
+                complete = true;
+                pageToken = null;
+                break;
+            }
+            pageToken = page.nextPageToken();
+        }
+        deleted += delete(pending);
+        resumeToken = pageToken;
+
+        count(dryRun ? "reported" : "deleted", dryRun ? found : deleted);
+        if (!dryRun) {
+            // Every orphan found is deleted: a pass stops at the delete limit
+            Counter.builder("generation.uploads.gc.bytes")
+                .description("Bytes of orphaned uploads deleted")
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .increment(bytes);
+        }
+        CollectionReport report = new CollectionReport(dryRun, scanned, found, deleted, bytes, complete, sample);
+        log.info("Orphaned upload collection{}: scanned={}, orphans={}, deleted={}, orphanBytes={}, complete={}, sample={}",
+            dryRun ? " (dry run)" : "", scanned, found, deleted, bytes, complete, sample);
+        return report;
+    }
+
+    /**
+     * Deletes a batch, then pauses so the storage is never hit at full speed.
+     *
+     * @return number of keys deleted (the batch is emptied)
+     */
+    private int delete(List<String> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        mediaStoragePort.deleteObjects(List.copyOf(batch));
+        int size = batch.size();
+        batch.clear();
+        pause();
+        return size;
+    }
+
+    private void pause() {
+        if (limits.batchPause().isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(limits.batchPause().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Orphaned upload collection interrupted", e);
+        }
+    }
+
+    private Owner loadOwner(UUID userId) {
+        Set<UUID> meditationIds = new HashSet<>();
+        Set<String> referencedPaths = new HashSet<>();
+        for (GeneratedMeditationContent meditation : contentRepositoryPort.findByUserId(userId.toString())) {
+            meditationIds.add(meditation.meditationId());
+            addPath(referencedPaths, meditation.backgroundMusic());
+            addPath(referencedPaths, meditation.backgroundImage());
+        }
+        return new Owner(userId, meditationIds, referencedPaths);
+    }
+
+    private static void addPath(Set<String> paths, MediaReference reference) {
+        if (reference != null) {
+            addPath(paths, reference.url());
+        }
+    }
+
+    private static void addPath(Set<String> paths, String url) {
+        int query = url.indexOf('?');
+        paths.add(query >= 0 ? url.substring(0, query) : url);
+    }
+
+    /**
+     * @return whether one of the URLs (query stripped) points at the key
+     */
+    private static boolean referenced(Set<String> paths, String key) {
+        String suffix = "/" + key;
+        return paths.stream().anyMatch(path -> path.endsWith(suffix));
+    }
+
+    private void count(String action, long amount) {
+        Counter.builder("generation.uploads.gc.orphans")
+            .description("Orphaned uploads by action")
+            .tag("action", action)
+            .register(meterRegistry)
+            .increment(amount);
+    }
+
+    /**
+     * Meditations of one user: their IDs and the URLs (query stripped) of their
+     * background music and images.
+     */
+    private record Owner(UUID userId, Set<UUID> meditationIds, Set<String> referencedPaths) {
+
+        boolean references(UUID id, String key) {
+            return meditationIds.contains(id) || referenced(referencedPaths, key);
+        }
+    }
+
+    /**
+     * Key of the layout {@code generation/{userId}/{id}/{file...}}.
+     */
+    record UploadKey(UUID userId, UUID id) {
+
+        /**
+         * @return the parsed key, or null if the key does not follow the layout
+         */
+        static UploadKey parse(String key) {
+            String[] segments = key.split("/");
+            if (segments.length < 4 || !segments[0].equals("generation")) {
+                return null;
+            }
+            try {
+                return new UploadKey(UUID.fromString(segments[1]), UUID.fromString(segments[2]));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Grace period and per-pass rate limits.
+     *
+     * @param gracePeriod minimum age of an object before it can be collected
+     * @param pageSize objects listed per storage request
+     * @param maxPagesPerPass listing requests per pass
+     * @param maxDeletesPerPass objects deleted per pass
+     * @param deleteBatchSize objects deleted per storage request (at most 1000)
+     * @param batchPause pause after each delete request
+     */
+    public record Limits(
+        Duration gracePeriod,
+        int pageSize,
+        int maxPagesPerPass,
+        int maxDeletesPerPass,
+        int deleteBatchSize,
+        Duration batchPause
+    ) {
+        public Limits {
+            if (gracePeriod == null || gracePeriod.isNegative() || gracePeriod.isZero()) {
+                throw new IllegalArgumentException("Grace period must be positive");
+            }
+            if (pageSize <= 0 || maxPagesPerPass <= 0 || maxDeletesPerPass <= 0) {
+                throw new IllegalArgumentException("Page size and per-pass limits must be positive");
+            }
+            if (deleteBatchSize <= 0 || deleteBatchSize > 1000) {
+                throw new IllegalArgumentException("Delete batch size must be between 1 and 1000");
+            }
+            if (batchPause == null || batchPause.isNegative()) {
+                throw new IllegalArgumentException("Batch pause must not be negative");
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.domain.model.CancellationToken;
+import com.hexagonal.meditation.generation.domain.model.GeneratedMeditationContent;
+import com.hexagonal.meditation.generation.domain.model.MediaReference;
+import com.hexagonal.meditation.generation.domain.model.NarrationScript;
+import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort;
+import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort.AudioConfig;
+import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort.AudioRenderRequest;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.MediaFileType;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.UploadRequest;
+import com.hexagonal.meditation.generation.domain.ports.out.VoiceSynthesisPort;
+import com.hexagonal.meditation.generation.domain.ports.out.VoiceSynthesisPort.VoiceConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Renders the fast low-fidelity preview of a generation.
+ *
+ * Only the narration prefix that fits in the preview length is synthesized
+ * (natural pace, no stretching to the music), mixed over the start of the
+ * music bed at a low bitrate and uploaded under its own key
+ * ({@link MediaFileType#PREVIEW}). The listener gets something to play in
+ * seconds while the full render continues.
+ *
+ * A preview is best effort: any failure is logged and the generation goes on
+ * without one. Cancellation is the exception and propagates.
+ */
+public class PreviewRenderer {
+
+    private static final Logger log = LoggerFactory.getLogger(PreviewRenderer.class);
+
+    private static final long PREVIEW_URL_TTL_SECONDS = 3600;
+
+    private final VoiceSynthesisPort voiceSynthesisPort;
+    private final AudioRenderingPort audioRenderingPort;
+    private final MediaStoragePort mediaStoragePort;
+    private final int previewSeconds;
+
+    /**
+     * @param voiceSynthesisPort synthesizes the narration prefix
+     * @param audioRenderingPort renders the preview mix
+     * @param mediaStoragePort stores the preview file
+     * @param previewSeconds length of the preview (0 disables previews)
+     */
+    public PreviewRenderer(
+            VoiceSynthesisPort voiceSynthesisPort,
+            AudioRenderingPort audioRenderingPort,
+            MediaStoragePort mediaStoragePort,
+            int previewSeconds) {
+        if (previewSeconds < 0) {
+            throw new IllegalArgumentException("Preview seconds cannot be negative");
+        }
+        this.voiceSynthesisPort = voiceSynthesisPort;
+        this.audioRenderingPort = audioRenderingPort;
+        this.mediaStoragePort = mediaStoragePort;
+        this.previewSeconds = previewSeconds;
+    }
+
+    public boolean isEnabled() {
+        return previewSeconds > 0;
+    }
+
+    /**
+     * Render and upload the preview of a generation.
+     *
+     * @param content generation in progress
+     * @param voiceConfig voice of the full narration
+     * @param musicPath resolved music bed
+     * @param workDir directory for the preview files
+     * @return reference to the uploaded preview, empty if disabled or failed
+     */
+    public Optional<MediaReference> render(
+            GeneratedMeditationContent content,
+            VoiceConfig voiceConfig,
+            Path musicPath,
+            Path workDir) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        try {
+            NarrationScript prefix = content.narrationScript().prefix(previewSeconds);
+            Path narration = voiceSynthesisPort.synthesizeVoice(prefix, voiceConfig);
+            CancellationToken.current().throwIfCancelled();
+
+            Path preview = audioRenderingPort.renderPreview(
+                new AudioRenderRequest(narration, musicPath, workDir.resolve("preview.mp3"), AudioConfig.previewAudio()),
+                previewSeconds);
+            CancellationToken.current().throwIfCancelled();
+
+            String url = mediaStoragePort.uploadMedia(new UploadRequest(
+                preview,
+                content.userId().toString(),
+                content.meditationId(),
+                MediaFileType.PREVIEW,
+                PREVIEW_URL_TTL_SECONDS
+            ));
+            log.info("Preview published: meditationId={}, seconds={}, elapsedMs={}",
+                    content.meditationId(), previewSeconds, (System.nanoTime() - start) / 1_000_000);
+            return Optional.of(new MediaReference(url));
+        } catch (RuntimeException e) {
+            CancellationToken.current().throwIfCancelled();
+            log.warn("Preview skipped: meditationId={}, error={}", content.meditationId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
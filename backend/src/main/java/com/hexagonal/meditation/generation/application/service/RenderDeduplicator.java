@@ -0,0 +1,255 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.domain.enums.MediaType;
+import com.hexagonal.meditation.generation.domain.enums.RenderQualityTier;
+import com.hexagonal.meditation.generation.domain.exception.GenerationCancelledException;
+import com.hexagonal.meditation.generation.domain.model.GeneratedMeditationContent;
+import com.hexagonal.meditation.generation.domain.model.MediaReference;
+import com.hexagonal.meditation.generation.domain.ports.out.ContentRepositoryPort;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.CopyRequest;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.MediaFileType;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.PackageCopyRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Cross-user reuse of identical renders.
+ *
+ * The idempotency key includes the user, so two users picking the same
+ * catalog music, image and generated text would render the same bytes
+ * twice. The content key leaves the user out:
+ * SHA-256(text|sha256(music file)|sha256(image file)|renderProfile).
+ * When a completed FULL-quality output with the same key exists, its media,
+ * subtitles, audio track, HLS package and playback assets are copied inside
+ * the storage to the new meditation's prefix; each user keeps their own
+ * {@code meditation_output} row and objects. The audio track and HLS package
+ * are part of what a render delivers: if the source has one that cannot be
+ * copied, nothing is reused and the render runs.
+ *
+ * Metrics:
+ * - generation.dedup.lookups (counter, tag result=hit|miss|copy_failed)
+ */
+public class RenderDeduplicator {
+
+    private static final Logger log = LoggerFactory.getLogger(RenderDeduplicator.class);
+
+    private static final String DELIMITER = "|";
+    private static final String HLS_PACKAGE = "hls";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ContentRepositoryPort contentRepositoryPort;
+    private final MediaStoragePort mediaStoragePort;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    /**
+     * @param contentRepositoryPort lookup of outputs by content key
+     * @param mediaStoragePort storage-side copy of the reused media
+     * @param meterRegistry registry for hit/miss metrics
+     * @param enabled whether content keys are computed and outputs reused
+     */
+    public RenderDeduplicator(
+            ContentRepositoryPort contentRepositoryPort,
+            MediaStoragePort mediaStoragePort,
+            MeterRegistry meterRegistry,
+            boolean enabled) {
+        this.contentRepositoryPort = contentRepositoryPort;
+        this.mediaStoragePort = mediaStoragePort;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Compute the user-independent content key of a render.
+     *
+     * @param narrationText narration text
+     * @param musicFile resolved music file (null if none)
+     * @param imageFile prepared background image (null for AUDIO)
+     * @param renderProfile description of everything else that shapes the output bytes
+     * @return SHA-256 hex digest (64 characters)
+     * @throws IOException if a file cannot be read
+     */
+    public String contentKey(String narrationText, Path musicFile, Path imageFile, String renderProfile)
+            throws IOException {
+        String input = narrationText.trim()
+            + DELIMITER + hashFile(musicFile)
+            + DELIMITER + hashFile(imageFile)
+            + DELIMITER + renderProfile;
+        MessageDigest digest = sha256();
+        return HexFormat.of().formatHex(digest.digest(input.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Complete a generation with copies of an existing output that has the same content key.
+     *
+     * @param content PROCESSING generation to complete
+     * @param contentKey its content key
+     * @param ttlSeconds TTL of the media URLs
+     * @param clock clock for the completion timestamp
+     * @return completed content, or empty if nothing can be reused (render normally)
+     */
+    public Optional<GeneratedMeditationContent> reuse(
+            GeneratedMeditationContent content,
+            String contentKey,
+            long ttlSeconds,
+            Clock clock) {
+        if (!enabled || contentKey == null) {
+            return Optional.empty();
+        }
+        Optional<GeneratedMeditationContent> source = contentRepositoryPort.findReusableByContentKey(contentKey)
+            .filter(candidate -> !candidate.meditationId().equals(content.meditationId()))
+            .filter(candidate -> candidate.mediaType() == content.mediaType() && candidate.outputMedia() != null);
+        if (source.isEmpty()) {
+            count("miss");
+            return Optional.empty();
+        }
+
+        GeneratedMeditationContent reused = source.get();
+        try {
+            // Audio outputs are stored under their encoding; the key pins the profile, the URL names the file
+            MediaFileType mediaFileType = content.mediaType() == MediaType.VIDEO
+                ? MediaFileType.VIDEO
+                : MediaFileType.fromUrl(reused.outputMedia().url()).orElse(MediaFileType.AUDIO);
+            MediaReference media = new MediaReference(copy(reused, content, mediaFileType, ttlSeconds));
+            MediaReference subtitles = reused.subtitleFile() != null
+                ? new MediaReference(copy(reused, content, MediaFileType.SUBTITLE, ttlSeconds))
+                : null;
+            MediaReference audioTrack = reused.audioTrack() != null
+                ? new MediaReference(copy(reused, content, MediaFileType.AUDIO_AAC, ttlSeconds))
+                : null;
+            MediaReference streaming = reused.streamingMedia() != null
+                ? new MediaReference(copyHls(reused, content, ttlSeconds))
+                : null;
+            MediaReference waveform = copyAsset(reused, reused.waveform(), content, MediaFileType.WAVEFORM, ttlSeconds);
+            MediaReference poster = copyAsset(reused, reused.poster(), content, MediaFileType.POSTER, ttlSeconds);
+            count("hit");
+            log.info("Reused render of meditation {} for meditation {}: contentKey={}",
+                reused.meditationId(), content.meditationId(), contentKey);
+            return Optional.of(content.withContentKey(contentKey)
+                .withRenderQuality(RenderQualityTier.FULL)
+                .withStreamingMedia(streaming)
+                .withAudioTrack(audioTrack)
+                .withPlaybackAssets(waveform, poster)
+                .markCompleted(media, subtitles, reused.durationSeconds(), clock));
+        } catch (GenerationCancelledException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // Source objects gone or storage hiccup: fall back to rendering
+            count("copy_failed");
+            log.warn("Cannot reuse render of meditation {}: {}", reused.meditationId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Copy a playback asset of the source, if it has one; the output is
+     * reusable without it, so a failed copy only drops the asset.
+     */
+    private MediaReference copyAsset(
+            GeneratedMeditationContent source,
+            MediaReference asset,
+            GeneratedMeditationContent target,
+            MediaFileType fileType,
+            long ttlSeconds) {
+        if (asset == null) {
+            return null;
+        }
+        try {
+            return new MediaReference(copy(source, target, fileType, ttlSeconds));
+        } catch (GenerationCancelledException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("Cannot reuse {} of meditation {}: {}", fileType, source.meditationId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private String copy(
+            GeneratedMeditationContent source,
+            GeneratedMeditationContent target,
+            MediaFileType fileType,
+            long ttlSeconds) {
+        return mediaStoragePort.copyMedia(new CopyRequest(
+            source.userId().toString(),
+            source.meditationId(),
+            target.userId().toString(),
+            target.meditationId(),
+            fileType,
+            ttlSeconds
+        ));
+    }
+
+    /**
+     * Copy the HLS package of the source; the entry playlist is the file its
+     * streaming URL points at.
+     */
+    private String copyHls(GeneratedMeditationContent source, GeneratedMeditationContent target, long ttlSeconds) {
+        String url = source.streamingMedia().url();
+        int query = url.indexOf('?');
+        String path = query >= 0 ? url.substring(0, query) : url;
+        String packagePath = "/" + source.meditationId() + "/" + HLS_PACKAGE + "/";
+        int start = path.indexOf(packagePath);
+        if (start < 0) {
+            throw new IllegalStateException("Streaming URL is not in the HLS package: " + path);
+        }
+        return mediaStoragePort.copyPackage(new PackageCopyRequest(
+            source.userId().toString(),
+            source.meditationId(),
+            target.userId().toString(),
+            target.meditationId(),
+            HLS_PACKAGE,
+            path.substring(start + packagePath.length()),
+            ttlSeconds
+        ));
+    }
+
+    private static String hashFile(Path file) throws IOException {
+        if (file == null) {
+            return "";
+        }
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is always available in modern JVMs
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private void count(String result) {
+        Counter.builder("generation.dedup.lookups")
+            .description("Cross-user render reuse lookups")
+            .tag("result", result)
+            .register(meterRegistry)
+            .increment();
+    }
+}
@@ -0,0 +1,202 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.domain.enums.MediaType;
+import com.hexagonal.meditation.generation.domain.enums.RenderQualityTier;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.function.IntSupplier;
+
+/**
+ * Load-aware choice of the render quality tier.
+ *
+ * Two signals each map to a degradation level (0 = FULL … 3 = AUDIO_ONLY):
+ * - the number of generation jobs waiting for a worker
+ * - the p95 of recent render times per second of output (sliding window)
+ * The worse of the two wins. AUDIO requests never go below LOW, since
+ * there is no video to drop.
+ *
+ * Render times are fed back with {@link #recordRenderTime}. They are
+ * normalized per output second, so a long meditation rendered at normal
+ * speed does not count as slow. Samples older than the maximum age are
+ * dropped, so a burst of slow renders stops degrading once it is over,
+ * even if no render follows; as cheaper tiers bring the p95 down, quality
+ * recovers on its own. Below {@link #MIN_SAMPLES} samples the p95 cannot be
+ * told apart from the maximum, so the render time signal stays at FULL
+ * and only the queue depth applies.
+ *
+ * Metrics:
+ * - generation.render.duration (timer, tag tier)
+ */
+public class RenderQualityPolicy {
+
+    private static final Logger log = LoggerFactory.getLogger(RenderQualityPolicy.class);
+
+    private static final RenderQualityTier[] LEVELS = {
+        RenderQualityTier.FULL,
+        RenderQualityTier.REDUCED,
+        RenderQualityTier.LOW,
+        RenderQualityTier.AUDIO_ONLY
+    };
+
+    /** Fewest samples whose p95 (nearest rank) is not simply their maximum. */
+    static final int MIN_SAMPLES = 20;
+
+    private final IntSupplier queueDepth;
+    private final Thresholds thresholds;
+    private final int windowSize;
+    private final Duration maxSampleAge;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+
+    /** Most recent render times, oldest first; guarded by itself. */
+    private final Deque<Sample> recentRenders = new ArrayDeque<>();
+
+    /**
+     * @param queueDepth current number of queued generation jobs
+     * @param thresholds queue depth and p95 thresholds per tier
+     * @param windowSize number of recent renders the p95 is computed over (at least {@link #MIN_SAMPLES})
+     * @param maxSampleAge age after which a render no longer counts
+     * @param clock clock the sample age is measured with
+     * @param meterRegistry registry for render time metrics
+     */
+    public RenderQualityPolicy(
+            IntSupplier queueDepth,
+            Thresholds thresholds,
+            int windowSize,
+            Duration maxSampleAge,
+            Clock clock,
+            MeterRegistry meterRegistry) {
+        if (windowSize < MIN_SAMPLES) {
+            throw new IllegalArgumentException("Window size must be at least " + MIN_SAMPLES);
+        }
+        if (maxSampleAge == null || maxSampleAge.isNegative() || maxSampleAge.isZero()) {
+            throw new IllegalArgumentException("Maximum sample age must be positive");
+        }
+        this.queueDepth = queueDepth;
+        this.thresholds = thresholds;
+        this.windowSize = windowSize;
+        this.maxSampleAge = maxSampleAge;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Pick the tier for a render starting now.
+     *
+     * @param mediaType requested media type
+     * @return tier to render at
+     */
+    public RenderQualityTier select(MediaType mediaType) {
+        int queued = queueDepth.getAsInt();
+        double p95 = p95RenderRatio();
+
+        int level = Math.max(
+            levelFor(queued, thresholds.reducedQueueDepth(), thresholds.lowQueueDepth(), thresholds.audioOnlyQueueDepth()),
+            levelFor(p95, thresholds.reducedP95Ratio(), thresholds.lowP95Ratio(), thresholds.audioOnlyP95Ratio()));
+        if (mediaType == MediaType.AUDIO) {
+            level = Math.min(level, RenderQualityTier.LOW.ordinal());
+        }
+
+        RenderQualityTier tier = LEVELS[level];
+        if (tier.isDegraded()) {
+            log.info("Degrading render quality: tier={}, mediaType={}, queued={}, p95RenderRatio={}",
+                    tier, mediaType, queued, String.format("%.2f", p95));
+        }
+        return tier;
+    }
+
+    /**
+     * Feed back the wall time of a finished render.
+     *
+     * @param tier tier the render ran at
+     * @param elapsed render wall time
+     * @param outputSeconds duration of the rendered output; non-positive durations are only timed
+     */
+    public void recordRenderTime(RenderQualityTier tier, Duration elapsed, double outputSeconds) {
+        Timer.builder("generation.render.duration")
+                .description("Render step wall time per quality tier")
+                .tag("tier", tier.name())
+                .register(meterRegistry)
+                .record(elapsed);
+        if (outputSeconds <= 0) {
+            return;
+        }
+        synchronized (recentRenders) {
+            recentRenders.addLast(new Sample(clock.instant(), elapsed.toNanos() / 1e9 / outputSeconds));
+            if (recentRenders.size() > windowSize) {
+                recentRenders.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * @return p95 of the recent render seconds per output second
+     *         (0 with fewer than {@link #MIN_SAMPLES} recent renders)
+     */
+    double p95RenderRatio() {
+        double[] ratios;
+        synchronized (recentRenders) {
+            Instant cutoff = clock.instant().minus(maxSampleAge);
+            while (!recentRenders.isEmpty() && recentRenders.peekFirst().recordedAt().isBefore(cutoff)) {
+                recentRenders.removeFirst();
+            }
+            ratios = recentRenders.stream().mapToDouble(Sample::ratio).toArray();
+        }
+        if (ratios.length < MIN_SAMPLES) {
+            return 0.0;
+        }
+        Arrays.sort(ratios);
+        int index = (int) Math.ceil(0.95 * ratios.length) - 1;
+        return ratios[index];
+    }
+
+    private static int levelFor(double value, double reduced, double low, double audioOnly) {
+        if (value >= audioOnly) {
+            return 3;
+        }
+        if (value >= low) {
+            return 2;
+        }
+        if (value >= reduced) {
+            return 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Render time per output second, and when it was recorded.
+     */
+    private record Sample(Instant recordedAt, double ratio) {
+    }
+
+    /**
+     * Thresholds at which each cheaper tier kicks in (inclusive). Render time
+     * thresholds are in render seconds per output second.
+     */
+    public record Thresholds(
+        int reducedQueueDepth,
+        int lowQueueDepth,
+        int audioOnlyQueueDepth,
+        double reducedP95Ratio,
+        double lowP95Ratio,
+        double audioOnlyP95Ratio
+    ) {
+        public Thresholds {
+            if (reducedQueueDepth <= 0 || lowQueueDepth < reducedQueueDepth || audioOnlyQueueDepth < lowQueueDepth) {
+                throw new IllegalArgumentException("Queue depth thresholds must be positive and non-decreasing");
+            }
+            if (reducedP95Ratio <= 0 || lowP95Ratio < reducedP95Ratio || audioOnlyP95Ratio < lowP95Ratio) {
+                throw new IllegalArgumentException("Render time thresholds must be positive and non-decreasing");
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.application.service.GenerateMeditationContentService.AcceptedGeneration;
+import com.hexagonal.meditation.generation.application.validator.TextLengthEstimator;
+import com.hexagonal.meditation.generation.domain.exception.GenerationUnavailableException;
+import com.hexagonal.meditation.generation.domain.model.HandedOffGeneration;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase;
+import com.hexagonal.meditation.generation.domain.ports.out.GenerationHandoffPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Runs single generations through the {@link GenerationScheduler}.
+ *
+ * The request is validated up front (invalid or over-long text is rejected
+ * without queueing) and its PROCESSING meditation is saved; the caller gets
+ * it back right away and follows the generation by ID (status endpoint,
+ * progress events, cancellation). The pipeline waits for a fair-share slot
+ * of its user and runs on a generation worker.
+ *
+ * An identical earlier request answers with its meditation and queues nothing.
+ * A generation still queued when the node starts draining is handed off
+ * with its meditation, so another node runs it.
+ */
+public class ScheduledGenerateMeditationContentService implements GenerateMeditationContentUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduledGenerateMeditationContentService.class);
+
+    private final GenerateMeditationContentService delegate;
+    private final GenerationScheduler generationScheduler;
+    private final TextLengthEstimator textLengthEstimator;
+    private final GenerationHandoffPort generationHandoffPort;
+    private final Clock clock;
+
+    public ScheduledGenerateMeditationContentService(
+            GenerateMeditationContentService delegate,
+            GenerationScheduler generationScheduler,
+            TextLengthEstimator textLengthEstimator,
+            GenerationHandoffPort generationHandoffPort,
+            Clock clock) {
+        this.delegate = delegate;
+        this.generationScheduler = generationScheduler;
+        this.textLengthEstimator = textLengthEstimator;
+        this.generationHandoffPort = generationHandoffPort;
+        this.clock = clock;
+    }
+
+    @Override
+    public GenerationResponse generate(GenerationRequest request) {
+        int estimatedSeconds = textLengthEstimator.validateAndEstimate(request.narrationText());
+        if (generationScheduler.isDraining()) {
+            throw new GenerationUnavailableException();
+        }
+
+        AcceptedGeneration accepted = delegate.accept(request);
+        if (!accepted.created()) {
+            return accepted.response();
+        }
+
+        UUID meditationId = accepted.response().id();
+        generationScheduler.submit(request.userId(), estimatedSeconds, () -> delegate.runAccepted(meditationId, request))
+                .whenComplete((response, error) -> {
+                    if (error == null) {
+                        return;
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    if (cause instanceof GenerationUnavailableException) {
+                        // Still queued, now on another node
+                        handOff(meditationId, request);
+                        return;
+                    }
+                    // The pipeline has already marked the meditation FAILED or CANCELLED
+                    log.warn("Scheduled generation ended with an error: meditationId={}, error={}",
+                            meditationId, cause.getMessage());
+                });
+        return accepted.response();
+    }
+
+    private void handOff(UUID meditationId, GenerationRequest request) {
+        try {
+            generationHandoffPort.handOff(HandedOffGeneration.accepted(meditationId, request.compositionId(),
+                    request.userId(), request.narrationText(), request.musicReference(), request.imageReference(),
+                    clock.instant()));
+        } catch (RuntimeException e) {
+            log.error("Could not hand off queued generation: meditationId={}", meditationId, e);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.domain.model.CancellationToken;
+import com.hexagonal.meditation.generation.domain.model.RenderSegment;
+import com.hexagonal.meditation.generation.domain.model.SubtitleSegment;
+import com.hexagonal.meditation.generation.domain.ports.out.SubtitleSyncPort;
+import com.hexagonal.meditation.generation.domain.ports.out.VideoRenderingPort;
+import com.hexagonal.meditation.generation.domain.ports.out.VideoRenderingPort.Rendition;
+import com.hexagonal.meditation.generation.domain.ports.out.VideoRenderingPort.VideoRenderRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Renders a video as K time segments in parallel and joins them without
+ * re-encoding.
+ *
+ * The timeline is cut at sentence boundaries (see {@link RenderSegment#plan}),
+ * each segment gets its own shifted subtitle file, segments render
+ * concurrently on the segment executor and the renderer joins them with
+ * {@link VideoRenderingPort#concatSegments}. Wall-clock render time drops
+ * roughly with the number of cores a single FFmpeg process leaves idle.
+ *
+ * Renditions are rendered per segment with the output and joined the same way.
+ *
+ * Short videos, renderers without segment support and failed segmented
+ * renders fall back to a single {@link VideoRenderingPort#renderVideo}.
+ */
+public class SegmentedVideoRenderer {
+
+    private static final Logger log = LoggerFactory.getLogger(SegmentedVideoRenderer.class);
+
+    private final VideoRenderingPort videoRenderingPort;
+    private final SubtitleSyncPort subtitleSyncPort;
+    private final Executor segmentExecutor;
+    private final int maxSegments;
+    private final double minSegmentSeconds;
+
+    /**
+     * @param videoRenderingPort renderer for segments, joins and the single-render fallback
+     * @param subtitleSyncPort writes the per-segment subtitle files
+     * @param segmentExecutor runs segment renders; must not be the generation worker pool
+     * @param maxSegments maximum number of segments per video (1 disables segmenting)
+     * @param minSegmentSeconds videos are not split into segments shorter than this on average
+     */
+    public SegmentedVideoRenderer(
+            VideoRenderingPort videoRenderingPort,
+            SubtitleSyncPort subtitleSyncPort,
+            Executor segmentExecutor,
+            int maxSegments,
+            double minSegmentSeconds) {
+        if (maxSegments <= 0) {
+            throw new IllegalArgumentException("Max segments must be positive");
+        }
+        this.videoRenderingPort = videoRenderingPort;
+        this.subtitleSyncPort = subtitleSyncPort;
+        this.segmentExecutor = segmentExecutor;
+        this.maxSegments = maxSegments;
+        this.minSegmentSeconds = minSegmentSeconds;
+    }
+
+    /**
+     * Render the video, in segments when worthwhile.
+     *
+     * @param request full render request (expected duration = timeline length)
+     * @param subtitles subtitle segments of the full timeline (sentence boundaries)
+     * @param workDir directory for segment files
+     * @return path to the rendered video ({@code request.outputPath()})
+     */
+    public Path render(VideoRenderRequest request, List<SubtitleSegment> subtitles, Path workDir) {
+        if (!videoRenderingPort.supportsSegmentedRendering() || request.expectedDurationSeconds() <= 0) {
+            return videoRenderingPort.renderVideo(request);
+        }
+        List<RenderSegment> segments = RenderSegment.plan(
+                subtitles, request.expectedDurationSeconds(), maxSegments, minSegmentSeconds);
+        if (segments.size() < 2) {
+            return videoRenderingPort.renderVideo(request);
+        }
+
+        try {
+            return renderSegmented(request, subtitles, segments, workDir);
+        } catch (RuntimeException e) {
+            CancellationToken.current().throwIfCancelled();
+            log.warn("Segmented render failed, retrying as a single render: {}", e.getMessage());
+            return videoRenderingPort.renderVideo(request);
+        }
+    }
+
+    private Path renderSegmented(
+            VideoRenderRequest request,
+            List<SubtitleSegment> subtitles,
+            List<RenderSegment> segments,
+            Path workDir) {
+        log.info("Rendering video in {} segments: {}", segments.size(), segments);
+        CancellationToken token = CancellationToken.current();
+        SegmentProgress progress = new SegmentProgress(request, segments);
+
+        List<CompletableFuture<Path>> renders = new ArrayList<>();
+        for (RenderSegment segment : segments) {
+            Path segmentSubtitles = subtitleSyncPort.exportToSrt(
+                    segment.subtitlesWithin(subtitles), workDir.resolve("segment-" + segment.index() + ".srt"));
+            VideoRenderRequest segmentRequest = new VideoRenderRequest(
+                    request.narrationAudioPath(),
+                    request.musicAudioPath(),
+                    request.imagePath(),
+                    segmentSubtitles,
+                    workDir.resolve("segment-" + segment.index() + ".mp4"),
+                    request.config(),
+                    segment.durationSeconds(),
+                    fraction -> progress.update(segment.index(), fraction),
+                    request.renditions().stream()
+                            .map(rendition -> rendition.withOutputPath(segmentFile(workDir, segment, rendition)))
+                            .toList());
+            renders.add(CompletableFuture.supplyAsync(() -> {
+                // Cancelling the generation kills every segment's FFmpeg process
+                try (CancellationToken.Registration binding = CancellationToken.bind(token)) {
+                    return videoRenderingPort.renderVideoSegment(segmentRequest, segment);
+                }
+            }, segmentExecutor));
+        }
+
+        List<Path> segmentPaths = new ArrayList<>();
+        try {
+            CompletableFuture.allOf(renders.toArray(CompletableFuture[]::new)).join();
+            for (CompletableFuture<Path> render : renders) {
+                segmentPaths.add(render.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        token.throwIfCancelled();
+        Path output = videoRenderingPort.concatSegments(segmentPaths, request.outputPath());
+        for (Rendition rendition : request.renditions()) {
+            token.throwIfCancelled();
+            videoRenderingPort.concatSegments(
+                    segments.stream().map(segment -> segmentFile(workDir, segment, rendition)).toList(),
+                    rendition.outputPath());
+        }
+        return output;
+    }
+
+    /**
+     * Slice of a rendition, named after the segment and keeping the rendition's container.
+     */
+    private static Path segmentFile(Path workDir, RenderSegment segment, Rendition rendition) {
+        String fileName = rendition.outputPath().getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String extension = dot >= 0 ? fileName.substring(dot) : "";
+        return workDir.resolve("segment-" + segment.index() + "-" + rendition.name() + extension);
+    }
+
+    /**
+     * Combines per-segment progress into one fraction weighted by segment length.
+     */
+    private static final class SegmentProgress {
+
+        private final VideoRenderRequest request;
+        private final double[] durations;
+        private final double[] fractions;
+        private final double total;
+
+        private SegmentProgress(VideoRenderRequest request, List<RenderSegment> segments) {
+            this.request = request;
+            this.durations = segments.stream().mapToDouble(RenderSegment::durationSeconds).toArray();
+            this.fractions = new double[segments.size()];
+            this.total = request.expectedDurationSeconds();
+        }
+
+        private void update(int index, double fraction) {
+            double done;
+            synchronized (this) {
+                fractions[index] = fraction;
+                done = 0;
+                for (int i = 0; i < durations.length; i++) {
+                    done += durations[i] * fractions[i];
+                }
+            }
+            request.progressListener().onProgress(Math.min(1.0, done / total));
+        }
+    }
+}
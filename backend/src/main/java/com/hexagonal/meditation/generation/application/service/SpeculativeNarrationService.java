@@ -0,0 +1,152 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.domain.model.CancellationToken;
+import com.hexagonal.meditation.generation.domain.ports.in.PrecomputeNarrationUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Debounced speculative precomputation of music preparation and TTS.
+ *
+ * Each composition has at most one job. A new state replaces the previous
+ * job: not started yet, it is unscheduled; running, its cancellation token
+ * is cancelled, which kills its TTS/FFmpeg processes. A job only starts once
+ * the composition has been quiet for the debounce delay.
+ *
+ * Jobs run on a dedicated low-priority executor and write nothing but the
+ * artifact store, which the generation pipeline reads by stage key.
+ *
+ * Metrics:
+ * - generation.speculative.jobs (counter, tag result=completed|dropped|failed)
+ */
+public class SpeculativeNarrationService implements PrecomputeNarrationUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(SpeculativeNarrationService.class);
+
+    private final Precomputation precomputation;
+    private final ScheduledExecutorService executor;
+    private final Duration debounce;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<UUID, Job> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * @param precomputation prepares the music and synthesizes the narration into the artifact store
+     * @param executor low-priority executor the jobs run on
+     * @param debounce quiet period before a job starts
+     * @param meterRegistry registry for job outcome metrics
+     */
+    public SpeculativeNarrationService(
+            Precomputation precomputation,
+            ScheduledExecutorService executor,
+            Duration debounce,
+            MeterRegistry meterRegistry) {
+        if (debounce == null || debounce.isNegative()) {
+            throw new IllegalArgumentException("Debounce must not be negative");
+        }
+        this.precomputation = precomputation;
+        this.executor = executor;
+        this.debounce = debounce;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void schedule(UUID compositionId, String narrationText, String musicReference) {
+        if (compositionId == null || narrationText == null || narrationText.isBlank()
+                || musicReference == null || musicReference.isBlank()) {
+            throw new IllegalArgumentException("Composition ID, narration text and music reference are required");
+        }
+        Job job = new Job(new CancellationToken(compositionId));
+        Job previous = jobs.put(compositionId, job);
+        if (previous != null) {
+            previous.drop();
+        }
+        job.future = executor.schedule(
+            () -> run(compositionId, job, narrationText, musicReference),
+            debounce.toMillis(),
+            TimeUnit.MILLISECONDS
+        );
+        log.debug("Speculative narration scheduled: compositionId={}, debounce={}", compositionId, debounce);
+    }
+
+    private void run(UUID compositionId, Job job, String narrationText, String musicReference) {
+        if (!job.started.compareAndSet(false, true)) {
+            // Dropped before it started: counted by drop()
+            return;
+        }
+        try (CancellationToken.Registration binding = CancellationToken.bind(job.token)) {
+            job.token.throwIfCancelled();
+            log.info("Speculative narration started: compositionId={}", compositionId);
+            precomputation.run(narrationText, musicReference);
+            count("completed");
+            log.info("Speculative narration ready: compositionId={}", compositionId);
+        } catch (Exception e) {
+            if (job.token.isCancelled()) {
+                count("dropped");
+                log.debug("Speculative narration dropped: compositionId={}", compositionId);
+            } else {
+                count("failed");
+                log.warn("Speculative narration failed: compositionId={}, error={}", compositionId, e.getMessage());
+            }
+        } finally {
+            jobs.remove(compositionId, job);
+        }
+    }
+
+    private void count(String result) {
+        Counter.builder("generation.speculative.jobs")
+            .description("Speculative narration jobs by outcome")
+            .tag("result", result)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    /**
+     * Prepare the music and synthesize the narration for a composition state.
+     */
+    @FunctionalInterface
+    public interface Precomputation {
+        void run(String narrationText, String musicReference) throws IOException;
+    }
+
+    private final class Job {
+
+        private final CancellationToken token;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private volatile ScheduledFuture<?> future;
+
+        private Job(CancellationToken token) {
+            this.token = token;
+        }
+
+        /**
+         * Unschedule the job, or cancel it if already running. A job that
+         * had not started is counted here; a running one is counted by
+         * {@code run} when it stops. {@code cancel(false)} cannot tell the
+         * two apart: it also succeeds on a running task.
+         */
+        private void drop() {
+            token.cancel();
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+            ScheduledFuture<?> scheduled = future;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+            count("dropped");
+        }
+    }
+}
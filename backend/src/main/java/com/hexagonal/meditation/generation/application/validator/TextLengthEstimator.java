@@ -5,14 +5,33 @@ import com.hexagonal.meditation.generation.domain.exception.InvalidContentExcept
 /**
  * Validates and estimates the duration of narration text.
  * Uses a heuristic of ~150 words per minute (average narration speed).
+ * 
+ * The maximum duration defaults to 187 seconds; it can be raised when
+ * videos are rendered in parallel segments.
  */
 public class TextLengthEstimator {
     
     private static final int WORDS_PER_MINUTE = 150;
     private static final int MINIMUM_DURATION_SECONDS = 5; 
-    private static final int MAXIMUM_DURATION_SECONDS = 187;
+    private static final int DEFAULT_MAXIMUM_DURATION_SECONDS = 187;
     private static final String TEXT_FIELD = "narrationText";
     
+    private final int maximumDurationSeconds;
+    
+    public TextLengthEstimator() {
+        this(DEFAULT_MAXIMUM_DURATION_SECONDS);
+    }
+    
+    /**
+     * @param maximumDurationSeconds longest accepted narration estimate
+     */
+    public TextLengthEstimator(int maximumDurationSeconds) {
+        if (maximumDurationSeconds < MINIMUM_DURATION_SECONDS) {
+            throw new IllegalArgumentException("Maximum duration must be at least " + MINIMUM_DURATION_SECONDS + " seconds");
+        }
+        this.maximumDurationSeconds = maximumDurationSeconds;
+    }
+    
     /**
      * Validates that the estimated narration duration meets requirements.
      * 
@@ -35,9 +54,9 @@ public class TextLengthEstimator {
             );
         }
 
-        if (estimatedSeconds > MAXIMUM_DURATION_SECONDS) {
+        if (estimatedSeconds > maximumDurationSeconds) {
             throw new com.hexagonal.meditation.generation.domain.exception.GenerationTimeoutException(
-                estimatedSeconds, MAXIMUM_DURATION_SECONDS);
+                estimatedSeconds, maximumDurationSeconds);
         }
         
         return estimatedSeconds;
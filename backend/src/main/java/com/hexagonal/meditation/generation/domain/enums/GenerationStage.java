@@ -0,0 +1,76 @@
+package com.hexagonal.meditation.generation.domain.enums;
+
+/**
+ * Pipeline stages of a meditation generation, in execution order.
+ * Each stage owns a slice of the overall 0-100 progress range so that
+ * clients receive a monotonically increasing percentage.
+ * 
+ * Domain Layer - BC: Generation
+ * Immutable enum following DDD principles.
+ */
+public enum GenerationStage {
+    /**
+     * Resolve the music bed and probe its duration.
+     */
+    MUSIC_RESOLUTION(1, 0, 5),
+
+    /**
+     * Text-to-speech narration synthesis.
+     */
+    VOICE_SYNTHESIS(2, 5, 30),
+
+    /**
+     * Subtitle generation and SRT export.
+     */
+    SUBTITLES(3, 30, 35),
+
+    /**
+     * FFmpeg audio/video rendering (reports fine-grained progress).
+     */
+    RENDERING(4, 35, 90),
+
+    /**
+     * Upload of the rendered media file.
+     */
+    MEDIA_UPLOAD(5, 90, 98),
+
+    /**
+     * Upload of the subtitle file.
+     */
+    SUBTITLE_UPLOAD(6, 98, 100);
+
+    public static final int TOTAL_STEPS = 6;
+
+    private final int step;
+    private final int startPercent;
+    private final int endPercent;
+
+    GenerationStage(int step, int startPercent, int endPercent) {
+        this.step = step;
+        this.startPercent = startPercent;
+        this.endPercent = endPercent;
+    }
+
+    public int getStep() {
+        return step;
+    }
+
+    public int getStartPercent() {
+        return startPercent;
+    }
+
+    public int getEndPercent() {
+        return endPercent;
+    }
+
+    /**
+     * Overall percentage for a given completion fraction within this stage.
+     * 
+     * @param fraction completion of this stage, clamped to [0, 1]
+     * @return overall progress percentage (0-100)
+     */
+    public int percentAt(double fraction) {
+        double clamped = Math.max(0.0, Math.min(1.0, fraction));
+        return startPercent + (int) Math.floor((endPercent - startPercent) * clamped);
+    }
+}
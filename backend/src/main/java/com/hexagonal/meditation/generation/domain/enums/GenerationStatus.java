@@ -30,5 +30,11 @@ public enum GenerationStatus {
      * Processing time exceeded threshold.
      * Request rejected before processing (>187s estimated).
      */
-    TIMEOUT
+    TIMEOUT,
+    
+    /**
+     * Content generation cancelled by the user.
+     * Running processes, uploads and workspace are released immediately.
+     */
+    CANCELLED
 }
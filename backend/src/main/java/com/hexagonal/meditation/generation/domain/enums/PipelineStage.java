@@ -0,0 +1,60 @@
+package com.hexagonal.meditation.generation.domain.enums;
+
+import java.util.List;
+
+/**
+ * Node of the generation pipeline DAG.
+ * Each stage lists the stages whose artifacts it consumes; a change in an
+ * upstream stage's inputs invalidates every stage downstream of it.
+ * 
+ *   TTS          <- MUSIC_PREP
+ *   SUBTITLES    <- MUSIC_PREP, TTS
+ *   AUDIO_MIX    <- MUSIC_PREP, TTS
+ *   VIDEO_RENDER <- MUSIC_PREP, TTS, IMAGE_PREP, SUBTITLES
+ * 
+ * Domain Layer - BC: Generation
+ */
+public enum PipelineStage {
+    /**
+     * Music download and duration probe.
+     */
+    MUSIC_PREP,
+
+    /**
+     * Background image decode and scale to the render resolution.
+     */
+    IMAGE_PREP,
+
+    /**
+     * Narration synthesis, stretched to the music duration.
+     */
+    TTS(MUSIC_PREP),
+
+    /**
+     * Subtitle timing over the music or narration duration.
+     */
+    SUBTITLES(MUSIC_PREP, TTS),
+
+    /**
+     * Narration and music mixed into the audio-only output.
+     */
+    AUDIO_MIX(MUSIC_PREP, TTS),
+
+    /**
+     * Video output: audio mix, video encode and mux run as one FFmpeg pass.
+     */
+    VIDEO_RENDER(MUSIC_PREP, TTS, IMAGE_PREP, SUBTITLES);
+
+    private final List<PipelineStage> upstream;
+
+    PipelineStage(PipelineStage... upstream) {
+        this.upstream = List.of(upstream);
+    }
+
+    /**
+     * @return stages whose artifacts this stage consumes
+     */
+    public List<PipelineStage> upstream() {
+        return upstream;
+    }
+}
@@ -0,0 +1,47 @@
+package com.hexagonal.meditation.generation.domain.enums;
+
+/**
+ * Render quality tier chosen for a generation.
+ * Under load the pipeline trades quality for render time so the generation
+ * still fits its time budget; degraded outputs can be re-rendered at
+ * FULL quality later.
+ * 
+ * Domain Layer - BC: Generation
+ * Immutable enum following DDD principles.
+ */
+public enum RenderQualityTier {
+    /**
+     * 1280x720 video with burned subtitles, 48kHz audio.
+     */
+    FULL,
+
+    /**
+     * 854x480 video with a faster encoder preset, burned subtitles.
+     */
+    REDUCED,
+
+    /**
+     * 640x360 video with the fastest encoder preset, subtitles left in the
+     * SRT file only, 44.1kHz audio.
+     */
+    LOW,
+
+    /**
+     * Video requests rendered as audio only (no video encoding at all).
+     */
+    AUDIO_ONLY;
+
+    /**
+     * @return true if the output is below FULL quality and worth re-rendering
+     */
+    public boolean isDegraded() {
+        return this != FULL;
+    }
+
+    /**
+     * @return true if a VIDEO request is still rendered as video at this tier
+     */
+    public boolean rendersVideo() {
+        return this != AUDIO_ONLY;
+    }
+}
@@ -0,0 +1,29 @@
+package com.hexagonal.meditation.generation.domain.exception;
+
+import java.util.UUID;
+
+/**
+ * Domain exception for a generation cancelled by the user.
+ * Thrown by the pipeline at its next checkpoint once cancellation was requested.
+ * 
+ * Domain Layer - BC: Generation
+ * Maps to HTTP 409 Conflict in controllers.
+ */
+public class GenerationCancelledException extends RuntimeException {
+
+    private final UUID meditationId;
+
+    /**
+     * Create cancellation exception.
+     * 
+     * @param meditationId cancelled meditation
+     */
+    public GenerationCancelledException(UUID meditationId) {
+        super("Generation cancelled: " + meditationId);
+        this.meditationId = meditationId;
+    }
+
+    public UUID getMeditationId() {
+        return meditationId;
+    }
+}
@@ -0,0 +1,22 @@
+package com.hexagonal.meditation.generation.domain.exception;
+
+/**
+ * Domain exception for a generation this node no longer accepts.
+ * Thrown while the node drains before shutdown; nothing was started, so
+ * the request can be retried on another node.
+ * 
+ * Domain Layer - BC: Generation
+ * Maps to HTTP 503 Service Unavailable (with Retry-After) in controllers.
+ */
+public class GenerationUnavailableException extends RuntimeException {
+
+    /** Retry-After hint: long enough for the load balancer to drop the draining node. */
+    public static final int RETRY_AFTER_SECONDS = 10;
+
+    /**
+     * Create unavailability exception.
+     */
+    public GenerationUnavailableException() {
+        super("Generation unavailable: this node is shutting down, retry shortly");
+    }
+}
@@ -0,0 +1,142 @@
+package com.hexagonal.meditation.generation.domain.model;
+
+import com.hexagonal.meditation.generation.domain.exception.GenerationCancelledException;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Cooperative cancellation signal of a single generation.
+ * 
+ * The pipeline checks {@link #throwIfCancelled()} between stages; adapters
+ * that hold expensive resources (FFmpeg processes, multipart uploads) register
+ * a callback with {@link #onCancel(Runnable)} so they are released as soon as
+ * cancellation is requested, not at the next checkpoint.
+ * 
+ * The token of the running generation is bound to the pipeline thread
+ * ({@link #bind(CancellationToken)}), so adapters can reach it through
+ * {@link #current()} without widening every port signature.
+ * 
+ * Domain Layer - BC: Generation
+ */
+public final class CancellationToken {
+
+    /**
+     * Token that is never cancelled (used outside a generation).
+     */
+    public static final CancellationToken NONE = new CancellationToken(null);
+
+    private static final ThreadLocal<CancellationToken> CURRENT = new ThreadLocal<>();
+
+    private final UUID meditationId;
+    private final List<Runnable> callbacks = new CopyOnWriteArrayList<>();
+    private volatile boolean cancelled;
+
+    public CancellationToken(UUID meditationId) {
+        this.meditationId = meditationId;
+    }
+
+    /**
+     * Token bound to the current thread, or {@link #NONE}.
+     */
+    public static CancellationToken current() {
+        CancellationToken token = CURRENT.get();
+        return token != null ? token : NONE;
+    }
+
+    /**
+     * Bind a token to the current thread until the returned handle is closed.
+     * 
+     * @param token token to bind
+     * @return handle restoring the previous binding
+     */
+    public static Registration bind(CancellationToken token) {
+        CancellationToken previous = CURRENT.get();
+        CURRENT.set(token);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    public UUID meditationId() {
+        return meditationId;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Request cancellation and run registered callbacks on the calling thread.
+     * Idempotent; callback failures are ignored.
+     */
+    public void cancel() {
+        if (this == NONE) {
+            return;
+        }
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+        }
+        for (Runnable callback : callbacks) {
+            runQuietly(callback);
+        }
+        callbacks.clear();
+    }
+
+    /**
+     * Checkpoint for the pipeline.
+     * 
+     * @throws GenerationCancelledException if cancellation was requested
+     */
+    public void throwIfCancelled() {
+        if (cancelled) {
+            throw new GenerationCancelledException(meditationId);
+        }
+    }
+
+    /**
+     * Register a callback run once on cancellation. If the token is already
+     * cancelled the callback runs immediately.
+     * 
+     * @param callback release action (e.g. destroy a process)
+     * @return handle unregistering the callback when the resource is released normally
+     */
+    public Registration onCancel(Runnable callback) {
+        if (this == NONE) {
+            return () -> { };
+        }
+        synchronized (this) {
+            if (!cancelled) {
+                callbacks.add(callback);
+                return () -> callbacks.remove(callback);
+            }
+        }
+        runQuietly(callback);
+        return () -> { };
+    }
+
+    private static void runQuietly(Runnable callback) {
+        try {
+            callback.run();
+        } catch (RuntimeException e) {
+            // Best-effort release; the pipeline fails at its next checkpoint anyway
+        }
+    }
+
+    /**
+     * Handle returned by {@link #bind} and {@link #onCancel}.
+     */
+    @FunctionalInterface
+    public interface Registration extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -2,6 +2,7 @@ package com.hexagonal.meditation.generation.domain.model;
 
 import com.hexagonal.meditation.generation.domain.enums.GenerationStatus;
 import com.hexagonal.meditation.generation.domain.enums.MediaType;
+import com.hexagonal.meditation.generation.domain.enums.RenderQualityTier;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -29,7 +30,14 @@ public record GeneratedMeditationContent(
     Integer durationSeconds,
     String errorMessage,
     Instant createdAt,
-    Instant completedAt
+    Instant completedAt,
+    RenderQualityTier renderQuality,
+    MediaReference previewMedia,
+    String contentKey,
+    MediaReference streamingMedia,
+    MediaReference audioTrack,
+    MediaReference waveform,
+    MediaReference poster
 ) {
     
     /**
@@ -93,6 +101,13 @@ public record GeneratedMeditationContent(
             null,
             null,
             clock.instant(),
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
             null
         );
     }
@@ -124,6 +139,13 @@ public record GeneratedMeditationContent(
             null,
             null,
             clock.instant(),
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
             null
         );
     }
@@ -152,7 +174,14 @@ public record GeneratedMeditationContent(
             durationSeconds,
             null,
             createdAt,
-            clock.instant()
+            clock.instant(),
+            renderQuality,
+            previewMedia,
+            contentKey,
+            streamingMedia,
+            audioTrack,
+            waveform,
+            poster
         );
     }
     
@@ -175,7 +204,14 @@ public record GeneratedMeditationContent(
             durationSeconds,
             errorMessage,
             createdAt,
-            clock.instant()
+            clock.instant(),
+            renderQuality,
+            previewMedia,
+            contentKey,
+            streamingMedia,
+            audioTrack,
+            waveform,
+            poster
         );
     }
     
@@ -198,7 +234,44 @@ public record GeneratedMeditationContent(
             durationSeconds,
             errorMessage,
             createdAt,
-            clock.instant()
+            clock.instant(),
+            renderQuality,
+            previewMedia,
+            contentKey,
+            streamingMedia,
+            audioTrack,
+            waveform,
+            poster
+        );
+    }
+    
+    /**
+     * Mark generation as cancelled by the user.
+     */
+    public GeneratedMeditationContent markCancelled(Clock clock) {
+        return new GeneratedMeditationContent(
+            meditationId,
+            compositionId,
+            userId,
+            idempotencyKey,
+            mediaType,
+            GenerationStatus.CANCELLED,
+            narrationScript,
+            outputMedia,
+            subtitleFile,
+            backgroundImage,
+            backgroundMusic,
+            durationSeconds,
+            null,
+            createdAt,
+            clock.instant(),
+            renderQuality,
+            previewMedia,
+            contentKey,
+            streamingMedia,
+            audioTrack,
+            waveform,
+            poster
         );
     }
     
@@ -221,7 +294,203 @@ public record GeneratedMeditationContent(
             durationSeconds,
             errorMessage,
             createdAt,
-            completedAt
+            completedAt,
+            renderQuality,
+            previewMedia,
+            contentKey,
+            streamingMedia,
+            audioTrack,
+            waveform,
+            poster
         );
     }
+    
+    /**
+     * Record the render quality tier the output was produced at.
+     */
+    public GeneratedMeditationContent withRenderQuality(RenderQualityTier tier) {
+        return new GeneratedMeditationContent(
+            meditationId,
+            compositionId,
+            userId,
+            idempotencyKey,
+            mediaType,
+            status,
+            narrationScript,
+            outputMedia,
+            subtitleFile,
+            backgroundImage,
+            backgroundMusic,
+            durationSeconds,
+            errorMessage,
+            createdAt,
+            completedAt,
+            tier,
+            previewMedia,
+            contentKey,
+            streamingMedia,
+            audioTrack,
+            waveform,
+            poster
+        );
+    }
+    
+    /**
+     * Attach the low-fidelity preview published while the full render is in progress.
+     */
+    public GeneratedMeditationContent withPreviewMedia(MediaReference preview) {
+        return new GeneratedMeditationContent(
+            meditationId,
+            compositionId,
+            userId,
+            idempotencyKey,
+            mediaType,
+            status,
+            narrationScript,
+            outputMedia,
+            subtitleFile,
+            backgroundImage,
+            backgroundMusic,
+            durationSeconds,
+            errorMessage,
+            createdAt,
+            completedAt,
+            renderQuality,
+            preview,
+            contentKey,
+            streamingMedia,
+            audioTrack,
+            waveform,
+            poster
+        );
+    }
+    
+    /**
+     * Record the user-independent content key of the rendered output, under
+     * which other users' identical generations can reuse it.
+     */
+    public GeneratedMeditationContent withContentKey(String key) {
+        return new GeneratedMeditationContent(
+            meditationId,
+            compositionId,
+            userId,
+            idempotencyKey,
+            mediaType,
+            status,
+            narrationScript,
+            outputMedia,
+            subtitleFile,
+            backgroundImage,
+            backgroundMusic,
+            durationSeconds,
+            errorMessage,
+            createdAt,
+            completedAt,
+            renderQuality,
+            previewMedia,
+            key,
+            streamingMedia,
+            audioTrack,
+            waveform,
+            poster
+        );
+    }
+    
+    /**
+     * Attach the HLS playlist (fMP4 segments) published next to the progressive output.
+     */
+    public GeneratedMeditationContent withStreamingMedia(MediaReference playlist) {
+        return new GeneratedMeditationContent(
+            meditationId,
+            compositionId,
+            userId,
+            idempotencyKey,
+            mediaType,
+            status,
+            narrationScript,
+            outputMedia,
+            subtitleFile,
+            backgroundImage,
+            backgroundMusic,
+            durationSeconds,
+            errorMessage,
+            createdAt,
+            completedAt,
+            renderQuality,
+            previewMedia,
+            contentKey,
+            playlist,
+            audioTrack,
+            waveform,
+            poster
+        );
+    }
+    
+    /**
+     * Attach the audio-only rendition (AAC) of a video output, for background listening.
+     */
+    public GeneratedMeditationContent withAudioTrack(MediaReference track) {
+        return new GeneratedMeditationContent(
+            meditationId,
+            compositionId,
+            userId,
+            idempotencyKey,
+            mediaType,
+            status,
+            narrationScript,
+            outputMedia,
+            subtitleFile,
+            backgroundImage,
+            backgroundMusic,
+            durationSeconds,
+            errorMessage,
+            createdAt,
+            completedAt,
+            renderQuality,
+            previewMedia,
+            contentKey,
+            streamingMedia,
+            track,
+            waveform,
+            poster
+        );
+    }
+    
+    /**
+     * Attach the playback assets derived from the output: waveform peaks and,
+     * for videos, a poster frame (either may be null).
+     */
+    public GeneratedMeditationContent withPlaybackAssets(MediaReference waveformPeaks, MediaReference posterFrame) {
+        return new GeneratedMeditationContent(
+            meditationId,
+            compositionId,
+            userId,
+            idempotencyKey,
+            mediaType,
+            status,
+            narrationScript,
+            outputMedia,
+            subtitleFile,
+            backgroundImage,
+            backgroundMusic,
+            durationSeconds,
+            errorMessage,
+            createdAt,
+            completedAt,
+            renderQuality,
+            previewMedia,
+            contentKey,
+            streamingMedia,
+            audioTrack,
+            waveformPeaks,
+            posterFrame
+        );
+    }
+    
+    /**
+     * Check if the output was rendered below full quality (candidate for re-render).
+     */
+    public boolean isDegraded() {
+        return renderQuality != null && renderQuality.isDegraded();
+    }
 }
@@ -0,0 +1,116 @@
+package com.hexagonal.meditation.generation.domain.model;
+
+import com.hexagonal.meditation.generation.domain.enums.GenerationStage;
+import com.hexagonal.meditation.generation.domain.enums.GenerationStatus;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Value Object describing a progress snapshot of a running generation.
+ * Emitted on every stage transition and periodically while rendering.
+ * 
+ * Domain Layer - BC: Generation
+ * Immutable record (Java 21).
+ * 
+ * @param meditationId meditation being generated
+ * @param stage current pipeline stage (null once the generation is terminal)
+ * @param step 1-based step number of the stage (0 when terminal)
+ * @param totalSteps total number of pipeline steps
+ * @param percent overall progress percentage (0-100)
+ * @param status generation status (PROCESSING until terminal)
+ * @param message optional human-readable detail (error message on failure)
+ * @param timestamp instant the snapshot was taken
+ */
+public record GenerationProgress(
+    UUID meditationId,
+    GenerationStage stage,
+    int step,
+    int totalSteps,
+    int percent,
+    GenerationStatus status,
+    String message,
+    Instant timestamp
+) {
+
+    /**
+     * Compact constructor with validation.
+     */
+    public GenerationProgress {
+        if (meditationId == null) {
+            throw new IllegalArgumentException("Meditation ID cannot be null");
+        }
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+        if (percent < 0 || percent > 100) {
+            throw new IllegalArgumentException("Percent must be between 0 and 100");
+        }
+        if (timestamp == null) {
+            throw new IllegalArgumentException("Timestamp cannot be null");
+        }
+        if (status == GenerationStatus.PROCESSING && stage == null) {
+            throw new IllegalArgumentException("PROCESSING progress requires a stage");
+        }
+    }
+
+    /**
+     * Factory method: a stage has just started.
+     */
+    public static GenerationProgress stageStarted(UUID meditationId, GenerationStage stage, Clock clock) {
+        return stageProgress(meditationId, stage, 0.0, clock);
+    }
+
+    /**
+     * Factory method: fractional progress within a stage.
+     */
+    public static GenerationProgress stageProgress(UUID meditationId, GenerationStage stage, double fraction, Clock clock) {
+        return new GenerationProgress(
+            meditationId,
+            stage,
+            stage.getStep(),
+            GenerationStage.TOTAL_STEPS,
+            stage.percentAt(fraction),
+            GenerationStatus.PROCESSING,
+            null,
+            clock.instant()
+        );
+    }
+
+    /**
+     * Factory method: generation finished successfully.
+     */
+    public static GenerationProgress completed(UUID meditationId, Clock clock) {
+        return new GenerationProgress(
+            meditationId, null, 0, GenerationStage.TOTAL_STEPS, 100,
+            GenerationStatus.COMPLETED, null, clock.instant());
+    }
+
+    /**
+     * Factory method: generation failed.
+     */
+    public static GenerationProgress failed(UUID meditationId, String errorMessage, Clock clock) {
+        return new GenerationProgress(
+            meditationId, null, 0, GenerationStage.TOTAL_STEPS, 0,
+            GenerationStatus.FAILED, errorMessage, clock.instant());
+    }
+
+    /**
+     * Factory method: generation cancelled by the user.
+     */
+    public static GenerationProgress cancelled(UUID meditationId, Clock clock) {
+        return new GenerationProgress(
+            meditationId, null, 0, GenerationStage.TOTAL_STEPS, 0,
+            GenerationStatus.CANCELLED, null, clock.instant());
+    }
+
+    /**
+     * Check if no further progress will be emitted for this meditation.
+     * 
+     * @return true if status is anything but PROCESSING
+     */
+    public boolean isTerminal() {
+        return status != GenerationStatus.PROCESSING;
+    }
+}
@@ -0,0 +1,101 @@
+package com.hexagonal.meditation.generation.domain.model;
+
+import com.hexagonal.meditation.generation.domain.enums.GenerationStage;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Value Object for a generation a draining node gave back to the cluster.
+ *
+ * Holds the original request, so any node can pick it up again. A started
+ * generation keeps its meditation (still PROCESSING) and the stage it was
+ * stopped in: the stages before it are restored from the artifact store
+ * instead of being recomputed. A generation that never started carries
+ * neither and simply runs from the beginning; one accepted but still queued
+ * keeps its meditation without a checkpoint.
+ *
+ * Domain Layer - BC: Generation
+ *
+ * @param id hand-off ID (the meditation ID once started)
+ * @param meditationId meditation being generated (null if it never started)
+ * @param compositionId composition of the request
+ * @param userId owner of the request
+ * @param narrationText narration text of the request
+ * @param musicReference music reference of the request
+ * @param imageReference image reference of the request (null for AUDIO)
+ * @param checkpoint stage the generation was stopped in (null if it never started)
+ * @param handedOffAt when the node gave it back
+ */
+public record HandedOffGeneration(
+    UUID id,
+    UUID meditationId,
+    UUID compositionId,
+    UUID userId,
+    String narrationText,
+    String musicReference,
+    String imageReference,
+    GenerationStage checkpoint,
+    Instant handedOffAt
+) {
+
+    /**
+     * Compact constructor with validation.
+     */
+    public HandedOffGeneration {
+        if (id == null) {
+            throw new IllegalArgumentException("Hand-off ID cannot be null");
+        }
+        if (compositionId == null || userId == null) {
+            throw new IllegalArgumentException("Composition ID and user ID cannot be null");
+        }
+        if (narrationText == null || narrationText.isBlank() || musicReference == null || musicReference.isBlank()) {
+            throw new IllegalArgumentException("Narration text and music reference cannot be null or blank");
+        }
+        if (meditationId != null && !meditationId.equals(id)) {
+            throw new IllegalArgumentException("A started hand-off is identified by its meditation ID");
+        }
+        if (handedOffAt == null) {
+            throw new IllegalArgumentException("Hand-off time cannot be null");
+        }
+    }
+
+    /**
+     * Factory method: hand off a request that never started.
+     */
+    public static HandedOffGeneration notStarted(
+        UUID compositionId,
+        UUID userId,
+        String narrationText,
+        String musicReference,
+        String imageReference,
+        Instant handedOffAt
+    ) {
+        return new HandedOffGeneration(UUID.randomUUID(), null, compositionId, userId,
+            narrationText, musicReference, imageReference, null, handedOffAt);
+    }
+
+    /**
+     * Factory method: hand off an accepted request still waiting for a worker
+     * (its meditation is saved, no stage ran).
+     */
+    public static HandedOffGeneration accepted(
+        UUID meditationId,
+        UUID compositionId,
+        UUID userId,
+        String narrationText,
+        String musicReference,
+        String imageReference,
+        Instant handedOffAt
+    ) {
+        return new HandedOffGeneration(meditationId, meditationId, compositionId, userId,
+            narrationText, musicReference, imageReference, null, handedOffAt);
+    }
+
+    /**
+     * @return true if the generation had started (its meditation exists)
+     */
+    public boolean started() {
+        return meditationId != null;
+    }
+}
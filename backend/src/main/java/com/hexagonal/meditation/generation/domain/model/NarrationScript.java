@@ -1,5 +1,7 @@
 package com.hexagonal.meditation.generation.domain.model;
 
+import java.util.Arrays;
+
 /**
  * Value Object representing meditation narration script.
  * Contains the raw text to be synthesized into speech.
@@ -9,6 +11,8 @@ package com.hexagonal.meditation.generation.domain.model;
  */
 public record NarrationScript(String text) {
     
+    private static final double WORDS_PER_SECOND = 150.0 / 60.0; // ~2.5 words/second
+    
     /**
      * Compact constructor with validation.
      */
@@ -29,7 +33,32 @@ public record NarrationScript(String text) {
      */
     public int estimateDurationSeconds() {
         int wordCount = text.split("\\s+").length;
-        double wordsPerSecond = 150.0 / 60.0; // ~2.5 words/second
-        return (int) Math.ceil(wordCount / wordsPerSecond);
+        return (int) Math.ceil(wordCount / WORDS_PER_SECOND);
+    }
+
+    /**
+     * Leading part of the script that fits in the given time at the estimated speaking rate.
+     * Ends on a sentence boundary when one falls in the second half of the budget.
+     * 
+     * @param maxSeconds time budget in seconds
+     * @return this script if it already fits, otherwise its prefix (at least one word)
+     */
+    public NarrationScript prefix(int maxSeconds) {
+        if (maxSeconds <= 0) {
+            throw new IllegalArgumentException("Prefix duration must be positive");
+        }
+        String[] words = text.trim().split("\\s+");
+        int maxWords = Math.max(1, (int) Math.floor(maxSeconds * WORDS_PER_SECOND));
+        if (words.length <= maxWords) {
+            return this;
+        }
+        int end = maxWords;
+        for (int i = maxWords; i > maxWords / 2; i--) {
+            if (words[i - 1].matches(".*[.!?…]$")) {
+                end = i;
+                break;
+            }
+        }
+        return new NarrationScript(String.join(" ", Arrays.copyOf(words, end)));
     }
 }
@@ -0,0 +1,45 @@
+package com.hexagonal.meditation.generation.domain.model;
+
+import java.nio.file.Path;
+
+/**
+ * Value Object holding shared inputs already resolved on local disk.
+ *
+ * Produced once per (music, image) group of a batch and reused by every
+ * generation of that group, so downloads, duration probing and image
+ * decoding/scaling are not repeated per meditation.
+ *
+ * Domain Layer - BC: Generation
+ *
+ * @param musicPath local background music file (the prepared bed when one is used)
+ * @param musicDurationSeconds probed music duration (0 if unknown)
+ * @param imagePath local background image, already scaled to the render size (null for AUDIO)
+ * @param musicBedId ID of the prepared music bed used instead of the track (null if none)
+ */
+public record PreparedGenerationAssets(
+    Path musicPath,
+    double musicDurationSeconds,
+    Path imagePath,
+    String musicBedId
+) {
+
+    public PreparedGenerationAssets(Path musicPath, double musicDurationSeconds, Path imagePath) {
+        this(musicPath, musicDurationSeconds, imagePath, null);
+    }
+
+    /**
+     * Compact constructor with validation.
+     */
+    public PreparedGenerationAssets {
+        if (musicPath == null) {
+            throw new IllegalArgumentException("Music path cannot be null");
+        }
+        if (musicDurationSeconds < 0) {
+            throw new IllegalArgumentException("Music duration cannot be negative");
+        }
+    }
+
+    public boolean hasImage() {
+        return imagePath != null;
+    }
+}
@@ -0,0 +1,137 @@
+package com.hexagonal.meditation.generation.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Value Object for one time slice of a segmented render.
+ *
+ * A meditation timeline is cut into segments at sentence boundaries (the
+ * gaps between subtitle segments), so every segment renders independently
+ * and no subtitle or spoken sentence straddles a cut.
+ *
+ * Domain Layer - BC: Generation
+ *
+ * @param index position of the segment in the timeline (0-based)
+ * @param startSeconds start of the slice on the full timeline
+ * @param endSeconds end of the slice on the full timeline
+ */
+public record RenderSegment(
+    int index,
+    double startSeconds,
+    double endSeconds
+) {
+
+    /**
+     * Compact constructor with validation.
+     */
+    public RenderSegment {
+        if (index < 0) {
+            throw new IllegalArgumentException("Segment index cannot be negative");
+        }
+        if (startSeconds < 0) {
+            throw new IllegalArgumentException("Start time cannot be negative");
+        }
+        if (endSeconds <= startSeconds) {
+            throw new IllegalArgumentException("End time must be greater than start time (start: " + startSeconds + ", end: " + endSeconds + ")");
+        }
+    }
+
+    public double durationSeconds() {
+        return endSeconds - startSeconds;
+    }
+
+    /**
+     * Subtitles of this segment, shifted to start at 0 and renumbered from 1.
+     * A subtitle belongs to the segment that contains its midpoint.
+     *
+     * @param subtitles subtitles of the full timeline
+     * @return subtitles relative to the segment start
+     */
+    public List<SubtitleSegment> subtitlesWithin(List<SubtitleSegment> subtitles) {
+        List<SubtitleSegment> shifted = new ArrayList<>();
+        for (SubtitleSegment subtitle : subtitles) {
+            double midpoint = (subtitle.startSeconds() + subtitle.endSeconds()) / 2;
+            if (midpoint < startSeconds || midpoint >= endSeconds) {
+                continue;
+            }
+            double start = Math.max(0, subtitle.startSeconds() - startSeconds);
+            double end = Math.min(durationSeconds(), subtitle.endSeconds() - startSeconds);
+            if (end > start) {
+                shifted.add(new SubtitleSegment(shifted.size() + 1, start, end, subtitle.text()));
+            }
+        }
+        return shifted;
+    }
+
+    /**
+     * Cut a timeline into at most {@code maxSegments} segments of roughly
+     * equal length, moving each cut to the nearest sentence boundary.
+     *
+     * @param sentences subtitle segments of the full timeline, in order
+     * @param totalSeconds length of the timeline
+     * @param maxSegments upper bound on the number of segments
+     * @param minSegmentSeconds segments are not planned shorter than this on average
+     * @return segments covering [0, totalSeconds); a single segment if the timeline cannot be split
+     */
+    public static List<RenderSegment> plan(
+            List<SubtitleSegment> sentences,
+            double totalSeconds,
+            int maxSegments,
+            double minSegmentSeconds) {
+        if (totalSeconds <= 0) {
+            throw new IllegalArgumentException("Total duration must be positive");
+        }
+        int count = (int) Math.min(maxSegments, Math.floor(totalSeconds / Math.max(minSegmentSeconds, 1)));
+        List<Double> boundaries = sentenceBoundaries(sentences, totalSeconds);
+        if (count < 2 || boundaries.isEmpty()) {
+            return List.of(new RenderSegment(0, 0, totalSeconds));
+        }
+
+        List<Double> cuts = new ArrayList<>();
+        double previous = 0;
+        for (int i = 1; i < count; i++) {
+            double target = totalSeconds * i / count;
+            Double nearest = null;
+            for (double boundary : boundaries) {
+                if (boundary > previous
+                        && (nearest == null || Math.abs(boundary - target) < Math.abs(nearest - target))) {
+                    nearest = boundary;
+                }
+            }
+            if (nearest == null) {
+                break;
+            }
+            cuts.add(nearest);
+            previous = nearest;
+        }
+
+        List<RenderSegment> segments = new ArrayList<>();
+        double start = 0;
+        for (double cut : cuts) {
+            segments.add(new RenderSegment(segments.size(), start, cut));
+            start = cut;
+        }
+        segments.add(new RenderSegment(segments.size(), start, totalSeconds));
+        return segments;
+    }
+
+    /**
+     * Midpoints of the gaps between consecutive sentences, strictly inside the timeline.
+     */
+    private static List<Double> sentenceBoundaries(List<SubtitleSegment> sentences, double totalSeconds) {
+        List<Double> boundaries = new ArrayList<>();
+        for (int i = 0; i + 1 < sentences.size(); i++) {
+            double end = sentences.get(i).endSeconds();
+            double nextStart = sentences.get(i + 1).startSeconds();
+            if (nextStart < end) {
+                continue; // overlapping sentences cannot be cut apart
+            }
+            double boundary = (end + nextStart) / 2;
+            if (boundary > 0 && boundary < totalSeconds) {
+                boundaries.add(boundary);
+            }
+        }
+        return boundaries;
+    }
+}
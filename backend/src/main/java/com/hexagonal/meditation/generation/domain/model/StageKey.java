@@ -0,0 +1,80 @@
+package com.hexagonal.meditation.generation.domain.model;
+
+import com.hexagonal.meditation.generation.domain.enums.PipelineStage;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Value Object identifying the artifact of one pipeline stage by the content
+ * hash of everything it was computed from.
+ * 
+ * The hash covers the stage's own inputs and the keys of its upstream stages
+ * (see {@link PipelineStage#upstream()}), so editing one input changes the key
+ * of the stage that reads it and of every stage downstream, and nothing else.
+ * 
+ * Domain Layer - BC: Generation
+ * 
+ * @param stage pipeline stage
+ * @param inputHash SHA-256 of the stage inputs (64 lowercase hex characters)
+ */
+public record StageKey(PipelineStage stage, String inputHash) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * Compact constructor with validation.
+     */
+    public StageKey {
+        if (stage == null) {
+            throw new IllegalArgumentException("Stage cannot be null");
+        }
+        if (inputHash == null || !inputHash.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("Input hash must be a SHA-256 hex digest");
+        }
+    }
+
+    /**
+     * Derive the key of a stage from its upstream keys and its own inputs.
+     * 
+     * @param stage stage to key
+     * @param upstream keys of exactly the stages listed in {@code stage.upstream()}, in any order
+     * @param inputs stage parameters (rendered with {@code String.valueOf}; null allowed)
+     * @return stage key
+     */
+    public static StageKey derive(PipelineStage stage, List<StageKey> upstream, Object... inputs) {
+        if (stage == null) {
+            throw new IllegalArgumentException("Stage cannot be null");
+        }
+        Set<PipelineStage> provided = upstream.stream().map(StageKey::stage).collect(Collectors.toSet());
+        if (provided.size() != upstream.size() || !provided.equals(Set.copyOf(stage.upstream()))) {
+            throw new IllegalArgumentException(
+                stage + " requires upstream keys " + stage.upstream() + " but got " + provided);
+        }
+
+        StringBuilder sb = new StringBuilder(stage.name());
+        upstream.stream()
+            .sorted(Comparator.comparing(StageKey::stage))
+            .forEach(key -> sb.append(DELIMITER).append(key.stage()).append(':').append(key.inputHash()));
+        for (Object input : inputs) {
+            sb.append(DELIMITER).append(input != null ? input : "");
+        }
+        return new StageKey(stage, sha256(sb.toString()));
+    }
+
+    private static String sha256(String input) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(input.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is always available in modern JVMs
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
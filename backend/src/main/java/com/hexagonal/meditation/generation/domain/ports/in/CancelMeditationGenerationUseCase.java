@@ -0,0 +1,64 @@
+package com.hexagonal.meditation.generation.domain.ports.in;
+
+import com.hexagonal.meditation.generation.domain.enums.GenerationStatus;
+
+import java.util.UUID;
+
+/**
+ * Input port (use case) for cancelling an in-flight generation.
+ * 
+ * Hexagonal Architecture - Driving Port (Application Core → Domain)
+ * BC: Generation
+ * 
+ * Cancellation:
+ * 1. Signals the running pipeline (checkpoints between stages)
+ * 2. Destroys its FFmpeg/FFprobe process tree
+ * 3. Aborts an in-progress multipart upload
+ * 4. Deletes the generation workspace
+ * 5. Marks the meditation as CANCELLED
+ */
+public interface CancelMeditationGenerationUseCase {
+
+    /**
+     * Cancel a generation owned by the given user.
+     * 
+     * @param meditationId meditation to cancel
+     * @param userId requesting user (must own the meditation)
+     * @return outcome of the cancellation
+     */
+    CancellationResult cancel(UUID meditationId, UUID userId);
+
+    /**
+     * Outcome of a cancellation request.
+     */
+    enum Outcome {
+        /** Generation was in progress and is now cancelled. */
+        CANCELLED,
+        /** Meditation does not exist or belongs to another user. */
+        NOT_FOUND,
+        /** Generation already reached a terminal status. */
+        ALREADY_FINISHED
+    }
+
+    /**
+     * Result object for cancellation (domain layer).
+     * 
+     * @param meditationId meditation concerned
+     * @param outcome what happened
+     * @param status status of the meditation after the request (null if NOT_FOUND)
+     */
+    record CancellationResult(
+        UUID meditationId,
+        Outcome outcome,
+        GenerationStatus status
+    ) {
+        public CancellationResult {
+            if (meditationId == null) {
+                throw new IllegalArgumentException("Meditation ID cannot be null");
+            }
+            if (outcome == null) {
+                throw new IllegalArgumentException("Outcome cannot be null");
+            }
+        }
+    }
+}
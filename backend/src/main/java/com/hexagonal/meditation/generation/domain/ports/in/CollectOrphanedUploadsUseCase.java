@@ -0,0 +1,50 @@
+package com.hexagonal.meditation.generation.domain.ports.in;
+
+import java.util.List;
+
+/**
+ * Input port (use case) for garbage collection of orphaned uploads.
+ *
+ * Hexagonal Architecture - Driving Port (Application Core → Domain)
+ * BC: Generation
+ *
+ * Uploaded music and images are stored under a temporary meditation ID
+ * ({@code generation/{userId}/{uploadId}/...}). Once past a grace period,
+ * an upload no meditation references is an orphan and can be deleted.
+ */
+public interface CollectOrphanedUploadsUseCase {
+
+    /**
+     * Run one collection pass (bounded by the configured rate limits).
+     *
+     * @param dryRun report the orphans without deleting them
+     * @return what the pass found and deleted
+     * @throws RuntimeException if storage or persistence is unavailable (nothing more is deleted)
+     */
+    CollectionReport collect(boolean dryRun);
+
+    /**
+     * Outcome of a collection pass.
+     *
+     * @param dryRun whether deletion was skipped
+     * @param objectsScanned stored objects examined
+     * @param orphansFound unreferenced objects past the grace period
+     * @param orphansDeleted orphans actually deleted (0 in a dry run)
+     * @param orphanBytes total size of the orphans found
+     * @param complete whether the listing reached its end (otherwise the next pass resumes)
+     * @param sampleKeys first orphan keys found, for the report
+     */
+    record CollectionReport(
+        boolean dryRun,
+        long objectsScanned,
+        long orphansFound,
+        long orphansDeleted,
+        long orphanBytes,
+        boolean complete,
+        List<String> sampleKeys
+    ) {
+        public CollectionReport {
+            sampleKeys = sampleKeys == null ? List.of() : List.copyOf(sampleKeys);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.hexagonal.meditation.generation.domain.ports.in;
+
+import java.time.Duration;
+
+/**
+ * Input port (use case) for handing generations off between nodes on deploys.
+ *
+ * Hexagonal Architecture - Driving Port (Application Core → Domain)
+ * BC: Generation
+ *
+ * A node about to stop drains: it takes no new jobs, lets running ones
+ * finish for a while and queues the rest, with the stage they reached, for
+ * the other nodes. Every node periodically resumes queued generations.
+ */
+public interface DrainGenerationUseCase {
+
+    /**
+     * Stop taking jobs, wait for the running ones up to {@code timeout}, then
+     * stop the remaining ones and queue them for another node. Irreversible:
+     * the node takes no generation afterwards.
+     *
+     * @param timeout how long running jobs may take to finish
+     * @return what happened to the jobs of this node
+     */
+    DrainReport drain(Duration timeout);
+
+    /**
+     * Claim queued generations and run them on this node, as many as it has
+     * free slots. No-op while draining.
+     *
+     * @return number of generations claimed
+     */
+    int resumeHandedOff();
+
+    /**
+     * Outcome of a drain.
+     *
+     * @param rejected queued jobs refused (requests answered 503, batch items queued for another node)
+     * @param finished jobs that completed within the timeout
+     * @param handedOff running jobs stopped and queued for another node
+     */
+    record DrainReport(int rejected, int finished, int handedOff) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.hexagonal.meditation.generation.domain.ports.in;
+
+import com.hexagonal.meditation.generation.domain.enums.MediaType;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase.GenerationRequest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Input port (use case) for generating many meditations in one request.
+ *
+ * Hexagonal Architecture - Driving Port (Application Core → Domain)
+ * BC: Generation
+ *
+ * Batch generation:
+ * 1. Groups items by shared background music and image
+ * 2. Prepares each shared asset once (download, duration probe, image scaling)
+ * 3. Schedules the individual generations on the generation worker pool
+ * 4. Tracks per-item status and aggregate progress under a batch ID
+ */
+public interface GenerateMeditationBatchUseCase {
+
+    /**
+     * Submit a batch. Returns immediately; generations run asynchronously.
+     *
+     * @param userId requesting user (must match the user of every item)
+     * @param items generation requests (1..max batch size)
+     * @return initial batch status (all items QUEUED)
+     * @throws IllegalArgumentException if the batch is empty, too large or mixes users
+     */
+    BatchStatus submit(UUID userId, List<GenerationRequest> items);
+
+    /**
+     * Current status of a batch owned by the given user.
+     *
+     * @param batchId batch ID returned by {@link #submit}
+     * @param userId requesting user
+     * @return batch status, or empty if unknown, expired or owned by another user
+     */
+    Optional<BatchStatus> getStatus(UUID batchId, UUID userId);
+
+    /**
+     * Lifecycle of a single batch item.
+     */
+    enum ItemState {
+        /** Waiting for shared assets or a free worker. */
+        QUEUED,
+        /** Generation pipeline running. */
+        PROCESSING,
+        COMPLETED,
+        FAILED,
+        CANCELLED;
+
+        public boolean isTerminal() {
+            return this != QUEUED && this != PROCESSING;
+        }
+    }
+
+    /**
+     * Aggregate lifecycle of a batch.
+     */
+    enum BatchState {
+        /** At least one item is still queued or running. */
+        PROCESSING,
+        /** Every item completed successfully. */
+        COMPLETED,
+        /** Every item finished, at least one did not complete. */
+        COMPLETED_WITH_ERRORS
+    }
+
+    /**
+     * Status of one batch item (domain layer).
+     *
+     * @param index position of the item in the submitted list
+     * @param meditationId meditation ID (null while QUEUED)
+     * @param state item state
+     * @param percent item progress (0-100)
+     * @param mediaType output type (VIDEO if the item has an image)
+     * @param mediaUrl presigned media URL (COMPLETED only)
+     * @param subtitleUrl presigned subtitle URL (COMPLETED only)
+     * @param errorMessage failure details (FAILED only)
+     */
+    record BatchItemStatus(
+        int index,
+        UUID meditationId,
+        ItemState state,
+        int percent,
+        MediaType mediaType,
+        String mediaUrl,
+        String subtitleUrl,
+        String errorMessage
+    ) {
+        public BatchItemStatus {
+            if (state == null) {
+                throw new IllegalArgumentException("Item state cannot be null");
+            }
+            if (percent < 0 || percent > 100) {
+                throw new IllegalArgumentException("Percent must be between 0 and 100");
+            }
+        }
+    }
+
+    /**
+     * Status of a batch (domain layer).
+     *
+     * @param batchId batch ID
+     * @param userId owner of the batch
+     * @param state aggregate state
+     * @param percent aggregate progress (mean of item progress, finished items count as 100)
+     * @param items per-item status, in submission order
+     * @param createdAt submission time
+     * @param completedAt time the last item finished (null while PROCESSING)
+     */
+    record BatchStatus(
+        UUID batchId,
+        UUID userId,
+        BatchState state,
+        int percent,
+        List<BatchItemStatus> items,
+        Instant createdAt,
+        Instant completedAt
+    ) {
+        public BatchStatus {
+            if (batchId == null) {
+                throw new IllegalArgumentException("Batch ID cannot be null");
+            }
+            if (userId == null) {
+                throw new IllegalArgumentException("User ID cannot be null");
+            }
+            if (state == null) {
+                throw new IllegalArgumentException("Batch state cannot be null");
+            }
+            items = items == null ? List.of() : List.copyOf(items);
+        }
+
+        public long countIn(ItemState itemState) {
+            return items.stream().filter(item -> item.state() == itemState).count();
+        }
+    }
+}
@@ -22,8 +22,12 @@ public interface GenerateMeditationContentUseCase {
     /**
      * Generate meditation content with narration and synchronized subtitles.
      * 
+     * Implementations may answer before the pipeline has run, with the
+     * meditation still PROCESSING; its ID then identifies the generation
+     * for status polling, progress events and cancellation.
+     * 
      * @param request generation request (domain object)
-     * @return generated meditation output with media URLs
+     * @return meditation output (PROCESSING, or finished with media URLs)
      * @throws com.hexagonal.meditation.generation.domain.exception.GenerationTimeoutException if processing time exceeds threshold
      * @throws com.hexagonal.meditation.generation.domain.exception.InvalidContentException if content validation fails
      */
@@ -0,0 +1,33 @@
+package com.hexagonal.meditation.generation.domain.ports.in;
+
+import java.util.UUID;
+
+/**
+ * Input port (use case) for speculative narration synthesis.
+ *
+ * Hexagonal Architecture - Driving Port (Application Core → Domain)
+ * BC: Generation
+ *
+ * Called while a composition is being edited: once it has text and music,
+ * the music is prepared and the narration synthesized in the background,
+ * so the generate call later finds both in the artifact store.
+ * Purely an optimization: results are never returned to the caller.
+ */
+@FunctionalInterface
+public interface PrecomputeNarrationUseCase {
+
+    /**
+     * Speculation disabled: calls are ignored.
+     */
+    PrecomputeNarrationUseCase NONE = (compositionId, narrationText, musicReference) -> { };
+
+    /**
+     * Schedule precomputation for the current state of a composition,
+     * replacing (and dropping) any earlier one for the same composition.
+     *
+     * @param compositionId composition being edited
+     * @param narrationText current narration text
+     * @param musicReference current music reference
+     */
+    void schedule(UUID compositionId, String narrationText, String musicReference);
+}
@@ -0,0 +1,55 @@
+package com.hexagonal.meditation.generation.domain.ports.out;
+
+import com.hexagonal.meditation.generation.domain.model.StageKey;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Output port for intermediate pipeline artifacts (downloaded music, scaled
+ * images, narration audio, rendered outputs), keyed by the input hash of the
+ * stage that produced them.
+ * 
+ * The store is a cache: it is bounded, may evict any artifact at any time and
+ * never fails the pipeline. Artifacts are read-only once stored.
+ * 
+ * Hexagonal Architecture - Driven Port (Domain → Infrastructure)
+ * BC: Generation
+ * 
+ * Implementation: FileSystemArtifactStoreAdapter (bounded LRU directory)
+ */
+public interface ArtifactStorePort {
+
+    /**
+     * Store that keeps nothing (artifact reuse disabled).
+     */
+    ArtifactStorePort NONE = new ArtifactStorePort() {
+        @Override
+        public Optional<Path> restore(StageKey key, Path workDir) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void store(StageKey key, Path artifact) {
+        }
+    };
+
+    /**
+     * Make a stored artifact available in a generation workspace.
+     * The returned file belongs to the workspace and survives eviction.
+     * 
+     * @param key stage key
+     * @param workDir generation workspace
+     * @return path of the artifact inside {@code workDir}, empty on a miss
+     */
+    Optional<Path> restore(StageKey key, Path workDir);
+
+    /**
+     * Keep a freshly computed artifact for later generations.
+     * The source file is left in place.
+     * 
+     * @param key stage key
+     * @param artifact artifact file
+     */
+    void store(StageKey key, Path artifact);
+}
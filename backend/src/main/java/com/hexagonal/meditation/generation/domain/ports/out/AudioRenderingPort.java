@@ -1,5 +1,7 @@
 package com.hexagonal.meditation.generation.domain.ports.out;
 
+import com.hexagonal.meditation.generation.domain.enums.RenderQualityTier;
+
 import java.nio.file.Path;
 
 /**
@@ -23,14 +25,32 @@ public interface AudioRenderingPort {
      */
     Path renderAudio(AudioRenderRequest request);
 
+    /**
+     * Render a short low-bitrate preview: the first seconds of the narration over the music bed.
+     * Meant to be published while the full render is still running.
+     * 
+     * @param request rendering configuration (typically {@link AudioConfig#previewAudio()})
+     * @param previewSeconds length of the preview
+     * @return path to the preview file
+     * @throws UnsupportedOperationException if the renderer cannot render previews
+     */
+    default Path renderPreview(AudioRenderRequest request, double previewSeconds) {
+        throw new UnsupportedOperationException("Preview rendering is not supported by " + getClass().getSimpleName());
+    }
+
     /**
      * Audio rendering request (domain object).
+     * 
+     * @param expectedDurationSeconds expected output duration, used to report progress (0 if unknown)
+     * @param progressListener receives rendering progress (never null, defaults to NONE)
      */
     record AudioRenderRequest(
         Path narrationAudioPath,
         Path musicAudioPath,
         Path outputPath,
-        AudioConfig config
+        AudioConfig config,
+        double expectedDurationSeconds,
+        RenderProgressListener progressListener
     ) {
         public AudioRenderRequest {
             if (narrationAudioPath == null) {
@@ -45,16 +65,29 @@ public interface AudioRenderingPort {
             if (config == null) {
                 throw new IllegalArgumentException("Audio config cannot be null");
             }
+            if (progressListener == null) {
+                progressListener = RenderProgressListener.NONE;
+            }
+        }
+
+        /**
+         * Request without progress reporting.
+         */
+        public AudioRenderRequest(Path narrationAudioPath, Path musicAudioPath, Path outputPath, AudioConfig config) {
+            this(narrationAudioPath, musicAudioPath, outputPath, config, 0.0, RenderProgressListener.NONE);
         }
     }
 
     /**
-     * Audio configuration (sample rate, channels, music volume).
+     * Audio configuration (sample rate, channels, music volume, codec and container).
+     * 
+     * @param profile codec, container and bitrate of the encoded file (never null, defaults to MP3)
      */
     record AudioConfig(
         int sampleRate,
         int channels, // 1 = mono, 2 = stereo
-        double musicVolumeDb
+        double musicVolumeDb,
+        AudioProfile profile
     ) {
         public AudioConfig {
             if (sampleRate <= 0) {
@@ -63,6 +96,23 @@ public interface AudioRenderingPort {
             if (channels <= 0 || channels > 2) {
                 throw new IllegalArgumentException("Channels must be 1 (mono) or 2 (stereo)");
             }
+            if (profile == null) {
+                profile = AudioProfile.MP3;
+            }
+        }
+
+        /**
+         * MP3 configuration.
+         */
+        public AudioConfig(int sampleRate, int channels, double musicVolumeDb) {
+            this(sampleRate, channels, musicVolumeDb, AudioProfile.MP3);
+        }
+
+        /**
+         * Same mix encoded with another profile.
+         */
+        public AudioConfig withProfile(AudioProfile audioProfile) {
+            return new AudioConfig(sampleRate, channels, musicVolumeDb, audioProfile);
         }
 
         /**
@@ -75,5 +125,69 @@ public interface AudioRenderingPort {
                 -12.0 // music 12dB lower than narration
             );
         }
+
+        /**
+         * Low-fidelity configuration for previews (22.05kHz mono).
+         */
+        public static AudioConfig previewAudio() {
+            return new AudioConfig(22050, 1, -12.0);
+        }
+
+        /**
+         * Audio configuration for a render quality tier.
+         * LOW and AUDIO_ONLY resample to 44.1kHz; the mix is otherwise unchanged.
+         * 
+         * @param tier quality tier
+         * @return audio configuration
+         */
+        public static AudioConfig forQuality(RenderQualityTier tier) {
+            return switch (tier) {
+                case FULL, REDUCED -> meditationAudio();
+                case LOW, AUDIO_ONLY -> new AudioConfig(44100, 2, -12.0);
+            };
+        }
+    }
+
+    /**
+     * Encoding of an audio output. Bitrates are tuned for narration over an
+     * ambient bed: speech needs little, the bed is what artifacts first.
+     */
+    enum AudioProfile {
+        /** MP3 at the encoder default (128 kb/s): plays everywhere */
+        MP3("mp3", 128, 128),
+        /** AAC-LC in MP4 with the index up front, so playback starts before the download ends */
+        AAC_MP4("m4a", 96, 64),
+        /** Opus in WebM: smallest files, for browsers */
+        OPUS_WEBM("webm", 64, 40),
+        /** Opus in Ogg */
+        OPUS_OGG("opus", 64, 40);
+
+        private final String extension;
+        private final int stereoKbps;
+        private final int monoKbps;
+
+        AudioProfile(String extension, int stereoKbps, int monoKbps) {
+            this.extension = extension;
+            this.stereoKbps = stereoKbps;
+            this.monoKbps = monoKbps;
+        }
+
+        /**
+         * File extension of the container (without the dot).
+         */
+        public String extension() {
+            return extension;
+        }
+
+        /**
+         * Target bitrate for the channel count, in kb/s.
+         */
+        public int bitrateKbps(int channels) {
+            return channels == 1 ? monoKbps : stereoKbps;
+        }
+
+        public boolean isOpus() {
+            return this == OPUS_WEBM || this == OPUS_OGG;
+        }
     }
 }
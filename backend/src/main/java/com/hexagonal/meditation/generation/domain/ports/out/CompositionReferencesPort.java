@@ -0,0 +1,27 @@
+package com.hexagonal.meditation.generation.domain.ports.out;
+
+import java.util.Set;
+
+/**
+ * Output port for the media referenced by compositions not yet generated.
+ * 
+ * Hexagonal Architecture - Driven Port (Domain → Infrastructure)
+ * BC: Generation
+ * 
+ * Implementation: CompositionReferencesAdapter (Composition BC repository)
+ */
+public interface CompositionReferencesPort {
+
+    /**
+     * No compositions: nothing is referenced.
+     */
+    CompositionReferencesPort NONE = Set::of;
+
+    /**
+     * Music and image references of every composition. Compositions carry no
+     * owner, so the references are not scoped to a user.
+     * 
+     * @return the references as stored (URLs or catalog identifiers)
+     */
+    Set<String> findReferencedMedia();
+}
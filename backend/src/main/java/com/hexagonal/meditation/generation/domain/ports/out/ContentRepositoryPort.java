@@ -2,6 +2,7 @@ package com.hexagonal.meditation.generation.domain.ports.out;
 
 import com.hexagonal.meditation.generation.domain.model.GeneratedMeditationContent;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -25,6 +26,17 @@ public interface ContentRepositoryPort {
      */
     GeneratedMeditationContent save(GeneratedMeditationContent output);
 
+    /**
+     * Mark a generation CANCELLED only if it is still PROCESSING, in a single
+     * conditional update: a pipeline that saved its result in the meantime is
+     * never overwritten.
+     * 
+     * @param id meditation ID
+     * @param cancelledAt cancellation time (recorded as the completion time)
+     * @return true if the generation was PROCESSING and is now CANCELLED
+     */
+    boolean cancelIfProcessing(UUID id, Instant cancelledAt);
+
     /**
      * Find meditation output by ID.
      * 
@@ -49,4 +61,13 @@ public interface ContentRepositoryPort {
      * @return existing meditation if found (prevents duplicate processing)
      */
     Optional<GeneratedMeditationContent> findByIdempotencyKey(String idempotencyKey);
+
+    /**
+     * Find a completed full-quality output with the given content key, of any user.
+     * Content key = SHA-256(text|musicContent|imageContent|renderProfile)
+     * 
+     * @param contentKey user-independent hash of the rendered content
+     * @return most recently completed matching output, if any (its media can be copied)
+     */
+    Optional<GeneratedMeditationContent> findReusableByContentKey(String contentKey);
 }
@@ -0,0 +1,34 @@
+package com.hexagonal.meditation.generation.domain.ports.out;
+
+import com.hexagonal.meditation.generation.domain.model.HandedOffGeneration;
+
+import java.util.List;
+
+/**
+ * Output port for the queue of generations handed back by draining nodes,
+ * shared by every node of the cluster.
+ * 
+ * Hexagonal Architecture - Driven Port (Domain → Infrastructure)
+ * BC: Generation
+ * 
+ * Implementation: PostgresGenerationHandoffRepository (table generation.generation_handoff)
+ */
+public interface GenerationHandoffPort {
+
+    /**
+     * Queue a generation for another node. Handing off the same ID again
+     * replaces the previous entry.
+     * 
+     * @param generation generation to resume
+     */
+    void handOff(HandedOffGeneration generation);
+
+    /**
+     * Take the oldest queued generations. Claimed entries are removed: the
+     * caller runs them, or hands them off again.
+     * 
+     * @param max maximum number of entries to take
+     * @return claimed generations, oldest first (never claimed by another caller)
+     */
+    List<HandedOffGeneration> claim(int max);
+}
@@ -0,0 +1,55 @@
+package com.hexagonal.meditation.generation.domain.ports.out;
+
+import com.hexagonal.meditation.generation.domain.model.GenerationProgress;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Output port for generation progress notifications.
+ * Driven port used by the pipeline to publish stage transitions and
+ * by streaming endpoints to follow a single meditation.
+ * 
+ * Hexagonal Architecture - Driven Port (Domain → Infrastructure)
+ * BC: Generation
+ * 
+ * Implementation: InProcessProgressEventBus (optionally bridged across nodes
+ * with PostgreSQL LISTEN/NOTIFY)
+ */
+public interface GenerationProgressPort {
+
+    /**
+     * Publish a progress snapshot. Must never throw: progress is best-effort
+     * and cannot fail a generation.
+     * 
+     * @param progress progress snapshot
+     */
+    void publish(GenerationProgress progress);
+
+    /**
+     * Follow the progress of one meditation.
+     * The listener immediately receives the latest known snapshot, if any.
+     * 
+     * @param meditationId meditation to follow
+     * @param listener callback invoked for each snapshot (on the publisher's thread)
+     * @return handle that stops the subscription when closed
+     */
+    Subscription subscribe(UUID meditationId, Consumer<GenerationProgress> listener);
+
+    /**
+     * Latest snapshot of a running generation, without subscribing.
+     * 
+     * @param meditationId meditation to look up
+     * @return latest non-terminal snapshot, or empty if unknown or finished
+     */
+    Optional<GenerationProgress> latest(UUID meditationId);
+
+    /**
+     * Subscription handle.
+     */
+    interface Subscription extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
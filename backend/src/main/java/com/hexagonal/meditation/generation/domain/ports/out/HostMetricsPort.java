@@ -0,0 +1,28 @@
+package com.hexagonal.meditation.generation.domain.ports.out;
+
+import java.util.OptionalDouble;
+
+/**
+ * Output port for load signals of the host the renders run on.
+ * 
+ * Hexagonal Architecture - Driven Port (Domain → Infrastructure)
+ * BC: Generation
+ * 
+ * Implementation: ProcStatHostMetricsAdapter (Linux /proc/stat)
+ */
+public interface HostMetricsPort {
+
+    /**
+     * No host signals (unsupported platform): every reading is unknown.
+     */
+    HostMetricsPort NONE = OptionalDouble::empty;
+
+    /**
+     * Fraction of CPU time stolen by the hypervisor since the previous call
+     * (0 = none, 1 = all of it). Steal means the VM is not getting the CPU it
+     * was sized for, so adding renders would only slow every render down.
+     * 
+     * @return the steal fraction, or empty when unknown (first call, unsupported platform)
+     */
+    OptionalDouble cpuStealFraction();
+}
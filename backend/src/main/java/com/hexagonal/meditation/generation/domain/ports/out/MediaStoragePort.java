@@ -1,6 +1,12 @@
 package com.hexagonal.meditation.generation.domain.ports.out;
 
+import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort.AudioProfile;
+
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -10,8 +16,9 @@ import java.util.UUID;
  * Hexagonal Architecture - Driven Port (Domain → Infrastructure)
  * BC: Generation
  * 
- * Implementation: S3MediaStorageAdapter (AWS SDK v2)
- * MVP: LocalStack (local) / AWS S3 (production)
+ * Implementations:
+ * - S3MediaStorageAdapter (AWS SDK v2) — LocalStack (local) / AWS S3 (production)
+ * - FileSystemMediaStorageAdapter — single-node and offline deployments (storage.type=filesystem)
  */
 public interface MediaStoragePort {
 
@@ -24,6 +31,62 @@ public interface MediaStoragePort {
      */
     String uploadMedia(UploadRequest request);
 
+    /**
+     * Copy a stored media file of one meditation to another meditation's prefix
+     * inside the storage (no bytes pass through the application).
+     * Used to reuse an identical render of another user.
+     * 
+     * @param request copy request with source and target owners
+     * @return URL for accessing the copy
+     * @throws RuntimeException if the source is missing or storage is unavailable
+     */
+    String copyMedia(CopyRequest request);
+
+    /**
+     * Upload a multi-file presentation (e.g. HLS playlists and segments)
+     * under a sub-prefix of the meditation, keeping relative paths.
+     * Files are uploaded in the given order, so the entry playlist, uploaded
+     * last, never references a file that is not stored yet.
+     * 
+     * @param request upload request with the files and their sub-prefix
+     * @return URL of the entry file (the last file)
+     * @throws RuntimeException if an upload fails or storage is unavailable
+     */
+    String uploadPackage(PackageUploadRequest request);
+
+    /**
+     * Copy a stored multi-file presentation of one meditation to another
+     * meditation's prefix inside the storage, keeping relative paths.
+     * The entry file is copied last, as on upload.
+     * Used to reuse an identical render of another user.
+     * 
+     * @param request copy request with source and target owners and the package
+     * @return URL of the copied entry file
+     * @throws RuntimeException if the source package or its entry file is missing, or storage is unavailable
+     */
+    String copyPackage(PackageCopyRequest request);
+
+    /**
+     * List stored objects under a key prefix, one page at a time.
+     * Pages follow a stable order in which the objects of one owner
+     * ({@code generation/{userId}/}) are contiguous.
+     * 
+     * @param prefix key prefix (e.g. "generation/")
+     * @param pageToken token of the page to list, null for the first page
+     * @param maxObjects maximum number of objects in the page
+     * @return the page, with the token of the next page (null after the last page)
+     * @throws RuntimeException if storage is unavailable
+     */
+    ObjectPage listObjects(String prefix, String pageToken, int maxObjects);
+
+    /**
+     * Delete stored objects. Keys that do not exist are ignored.
+     * 
+     * @param keys object keys (at most 1000 per call)
+     * @throws RuntimeException if storage is unavailable or an object cannot be deleted
+     */
+    void deleteObjects(List<String> keys);
+
     /**
      * Upload request (domain object).
      */
@@ -62,14 +125,226 @@ public interface MediaStoragePort {
         }
     }
 
+    /**
+     * Copy request (domain object).
+     */
+    record CopyRequest(
+        String sourceUserId,
+        UUID sourceMeditationId,
+        String targetUserId,
+        UUID targetMeditationId,
+        MediaFileType fileType,
+        long ttlSeconds
+    ) {
+        public CopyRequest {
+            if (sourceUserId == null || sourceUserId.isBlank() || targetUserId == null || targetUserId.isBlank()) {
+                throw new IllegalArgumentException("User IDs cannot be null or blank");
+            }
+            if (sourceMeditationId == null || targetMeditationId == null) {
+                throw new IllegalArgumentException("Meditation IDs cannot be null");
+            }
+            if (sourceMeditationId.equals(targetMeditationId)) {
+                throw new IllegalArgumentException("Source and target meditation must differ");
+            }
+            if (fileType == null) {
+                throw new IllegalArgumentException("File type cannot be null");
+            }
+            if (ttlSeconds <= 0) {
+                throw new IllegalArgumentException("TTL must be positive");
+            }
+        }
+
+        /**
+         * S3 key of the source file: generation/{sourceUserId}/{sourceMeditationId}/{filename}
+         */
+        public String sourceS3Key() {
+            return String.format("generation/%s/%s/%s", sourceUserId, sourceMeditationId, fileType.getFilename());
+        }
+
+        /**
+         * S3 key of the copy: generation/{targetUserId}/{targetMeditationId}/{filename}
+         */
+        public String targetS3Key() {
+            return String.format("generation/%s/%s/%s", targetUserId, targetMeditationId, fileType.getFilename());
+        }
+    }
+
+    /**
+     * Multi-file upload request (domain object).
+     * 
+     * @param directory local directory the files are relative to
+     * @param files relative paths, in upload order; the last one is the entry file
+     * @param packageName sub-prefix under the meditation prefix (e.g. "hls")
+     */
+    record PackageUploadRequest(
+        Path directory,
+        List<Path> files,
+        String userId,
+        UUID meditationId,
+        String packageName,
+        long ttlSeconds
+    ) {
+        public PackageUploadRequest {
+            if (directory == null) {
+                throw new IllegalArgumentException("Directory cannot be null");
+            }
+            if (files == null || files.isEmpty()) {
+                throw new IllegalArgumentException("Files cannot be empty");
+            }
+            files = List.copyOf(files);
+            if (files.stream().anyMatch(file -> file.isAbsolute() || file.normalize().startsWith(".."))) {
+                throw new IllegalArgumentException("Package files must be relative to the directory");
+            }
+            if (userId == null || userId.isBlank()) {
+                throw new IllegalArgumentException("User ID cannot be null or blank");
+            }
+            if (meditationId == null) {
+                throw new IllegalArgumentException("Meditation ID cannot be null");
+            }
+            if (packageName == null || !packageName.matches("[a-z0-9-]+")) {
+                throw new IllegalArgumentException("Package name must be a simple lowercase name");
+            }
+            if (ttlSeconds <= 0) {
+                throw new IllegalArgumentException("TTL must be positive");
+            }
+        }
+
+        /**
+         * S3 key of a package file: generation/{userId}/{meditationId}/{packageName}/{relative path}
+         */
+        public String generateS3Key(Path file) {
+            String relative = file.normalize().toString().replace('\\', '/');
+            return String.format("generation/%s/%s/%s/%s", userId, meditationId, packageName, relative);
+        }
+
+        /**
+         * Content type of a package file, by extension.
+         */
+        public static String contentTypeOf(Path file) {
+            String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+            if (name.endsWith(".m3u8")) {
+                return "application/vnd.apple.mpegurl";
+            }
+            if (name.endsWith(".m4s")) {
+                return "video/iso.segment";
+            }
+            if (name.endsWith(".mp4")) {
+                return "video/mp4";
+            }
+            return "application/octet-stream";
+        }
+    }
+
+    /**
+     * Multi-file copy request (domain object).
+     * 
+     * @param packageName sub-prefix under the meditation prefixes (e.g. "hls")
+     * @param entryFile path of the entry file relative to the package (e.g. "master.m3u8")
+     */
+    record PackageCopyRequest(
+        String sourceUserId,
+        UUID sourceMeditationId,
+        String targetUserId,
+        UUID targetMeditationId,
+        String packageName,
+        String entryFile,
+        long ttlSeconds
+    ) {
+        public PackageCopyRequest {
+            if (sourceUserId == null || sourceUserId.isBlank() || targetUserId == null || targetUserId.isBlank()) {
+                throw new IllegalArgumentException("User IDs cannot be null or blank");
+            }
+            if (sourceMeditationId == null || targetMeditationId == null) {
+                throw new IllegalArgumentException("Meditation IDs cannot be null");
+            }
+            if (sourceMeditationId.equals(targetMeditationId)) {
+                throw new IllegalArgumentException("Source and target meditation must differ");
+            }
+            if (packageName == null || !packageName.matches("[a-z0-9-]+")) {
+                throw new IllegalArgumentException("Package name must be a simple lowercase name");
+            }
+            if (entryFile == null || entryFile.isBlank() || entryFile.startsWith("/") || entryFile.contains("..")) {
+                throw new IllegalArgumentException("Entry file must be relative to the package");
+            }
+            if (ttlSeconds <= 0) {
+                throw new IllegalArgumentException("TTL must be positive");
+            }
+        }
+
+        /**
+         * S3 key prefix of the source package: generation/{sourceUserId}/{sourceMeditationId}/{packageName}/
+         */
+        public String sourcePrefix() {
+            return String.format("generation/%s/%s/%s/", sourceUserId, sourceMeditationId, packageName);
+        }
+
+        /**
+         * S3 key of the source entry file.
+         */
+        public String sourceEntryKey() {
+            return sourcePrefix() + entryFile;
+        }
+
+        /**
+         * S3 key of the copy of a source package file.
+         * 
+         * @param sourceKey key under {@link #sourcePrefix()}
+         */
+        public String targetS3Key(String sourceKey) {
+            if (!sourceKey.startsWith(sourcePrefix())) {
+                throw new IllegalArgumentException("Key is not part of the source package: " + sourceKey);
+            }
+            return String.format("generation/%s/%s/%s/%s", targetUserId, targetMeditationId, packageName,
+                sourceKey.substring(sourcePrefix().length()));
+        }
+    }
+
+    /**
+     * Stored object, as listed (domain object).
+     */
+    record StoredObject(String key, long sizeBytes, Instant lastModified) {
+        public StoredObject {
+            if (key == null || key.isBlank()) {
+                throw new IllegalArgumentException("Key cannot be null or blank");
+            }
+            if (lastModified == null) {
+                throw new IllegalArgumentException("Last modified cannot be null");
+            }
+        }
+    }
+
+    /**
+     * Page of listed objects (domain object).
+     * 
+     * @param objects objects of the page, in listing order
+     * @param nextPageToken token of the next page, null after the last page
+     */
+    record ObjectPage(List<StoredObject> objects, String nextPageToken) {
+        public ObjectPage {
+            objects = objects == null ? List.of() : List.copyOf(objects);
+        }
+
+        public boolean hasNext() {
+            return nextPageToken != null;
+        }
+    }
+
     /**
      * Media file types with standard filenames.
+     * Audio outputs are keyed by encoding (see {@link #forAudio}); the AAC file
+     * is also the audio-only rendition of a video.
      */
     enum MediaFileType {
         VIDEO("video.mp4", "video/mp4"),
         AUDIO("audio.mp3", "audio/mpeg"),
         IMAGE("image.jpg", "image/jpeg"),
-        SUBTITLE("subs.srt", "text/srt");
+        SUBTITLE("subs.srt", "text/srt"),
+        PREVIEW("preview.mp3", "audio/mpeg"),
+        AUDIO_AAC("audio.m4a", "audio/mp4"),
+        AUDIO_OPUS_WEBM("audio.webm", "audio/webm"),
+        AUDIO_OPUS_OGG("audio.opus", "audio/ogg"),
+        WAVEFORM("waveform.json", "application/json"),
+        POSTER("poster.jpg", "image/jpeg");
 
         private final String filename;
         private final String contentType;
@@ -86,5 +361,37 @@ public interface MediaStoragePort {
         public String getContentType() {
             return contentType;
         }
+
+        /**
+         * File type of an audio output encoded with the profile.
+         */
+        public static MediaFileType forAudio(AudioProfile profile) {
+            return switch (profile) {
+                case MP3 -> AUDIO;
+                case AAC_MP4 -> AUDIO_AAC;
+                case OPUS_WEBM -> AUDIO_OPUS_WEBM;
+                case OPUS_OGG -> AUDIO_OPUS_OGG;
+            };
+        }
+
+        /**
+         * File type of a stored output, from the file name its URL ends with.
+         * 
+         * @param url media URL (query string ignored)
+         * @return the type, or empty if the URL matches none
+         */
+        public static Optional<MediaFileType> fromUrl(String url) {
+            if (url == null) {
+                return Optional.empty();
+            }
+            int query = url.indexOf('?');
+            String path = query >= 0 ? url.substring(0, query) : url;
+            for (MediaFileType type : values()) {
+                if (path.endsWith("/" + type.filename)) {
+                    return Optional.of(type);
+                }
+            }
+            return Optional.empty();
+        }
     }
 }
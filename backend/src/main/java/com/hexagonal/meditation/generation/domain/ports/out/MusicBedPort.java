@@ -0,0 +1,74 @@
+package com.hexagonal.meditation.generation.domain.ports.out;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Output port for prepared music beds: music tracks whose loudness was
+ * measured once and that were pre-rendered normalized, cut to standard
+ * durations with a fade-out, in the render sample format.
+ * 
+ * Beds are an optimization: a track without a bed is rendered as is, and
+ * failures never reach the pipeline.
+ * 
+ * Hexagonal Architecture - Driven Port (Domain → Infrastructure)
+ * BC: Generation
+ * 
+ * Implementation: FfmpegMusicBedAdapter (two-pass loudnorm into a local library)
+ */
+public interface MusicBedPort {
+
+    /**
+     * No beds (preparation disabled): tracks are always rendered as is.
+     */
+    MusicBedPort NONE = new MusicBedPort() {
+        @Override
+        public Optional<MusicBed> findBed(Path track, double minDurationSeconds) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void prepare(Path track) {
+        }
+    };
+
+    /**
+     * Look up a prepared bed of a track, by track content: the shortest bed
+     * lasting at least the given duration, else the longest one.
+     * 
+     * @param track resolved music file
+     * @param minDurationSeconds duration the bed should cover (e.g. the estimated narration)
+     * @return bed ready to be mixed, empty if none is prepared (yet)
+     */
+    Optional<MusicBed> findBed(Path track, double minDurationSeconds);
+
+    /**
+     * Queue a track for loudness analysis and bed rendering; no-op if its beds
+     * exist or are being prepared. The track is read before this method
+     * returns, so the caller may delete it afterwards.
+     * 
+     * @param track music file (catalog or uploaded)
+     */
+    void prepare(Path track);
+
+    /**
+     * Prepared bed.
+     * 
+     * @param id stable identifier of the bed (track content and preparation settings)
+     * @param path bed file; read-only, never modified once published
+     * @param durationSeconds bed duration
+     */
+    record MusicBed(String id, Path path, double durationSeconds) {
+        public MusicBed {
+            if (id == null || id.isBlank()) {
+                throw new IllegalArgumentException("Bed ID cannot be null or blank");
+            }
+            if (path == null) {
+                throw new IllegalArgumentException("Bed path cannot be null");
+            }
+            if (durationSeconds <= 0) {
+                throw new IllegalArgumentException("Bed duration must be positive");
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.hexagonal.meditation.generation.domain.ports.out;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Output port for playback assets: small files derived once from a rendered
+ * output so players can draw it without decoding the media, a waveform
+ * (min/max peaks per time window) and, for videos, a poster frame.
+ *
+ * Assets are an optimization: an output without them still plays, and the
+ * pipeline never fails because of them.
+ *
+ * Hexagonal Architecture - Driven Port (Domain → Infrastructure)
+ * BC: Generation
+ *
+ * Implementation: FfmpegPlaybackAssetsAdapter (FFmpeg decode piped to the JVM, JPEG frame grab)
+ */
+public interface PlaybackAssetsPort {
+
+    /**
+     * No assets (disabled): outputs are published alone.
+     */
+    PlaybackAssetsPort NONE = new PlaybackAssetsPort() {
+        @Override
+        public Optional<Path> computeWaveform(WaveformRequest request) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Path> extractPoster(PosterRequest request) {
+            return Optional.empty();
+        }
+    };
+
+    /**
+     * Compute the waveform peaks of a rendered output.
+     *
+     * @param request output to analyze and where to write the peaks
+     * @return peaks file (JSON), or empty if waveforms are disabled
+     * @throws RuntimeException if the output cannot be decoded
+     */
+    Optional<Path> computeWaveform(WaveformRequest request);
+
+    /**
+     * Grab a poster frame of a rendered video.
+     *
+     * @param request video and where to write the frame
+     * @return poster file (JPEG), or empty if posters are disabled
+     * @throws RuntimeException if no frame can be extracted
+     */
+    Optional<Path> extractPoster(PosterRequest request);
+
+    /**
+     * Waveform request (domain object).
+     *
+     * @param mediaPath rendered output (audio or video)
+     * @param outputPath peaks file to write
+     */
+    record WaveformRequest(Path mediaPath, Path outputPath) {
+        public WaveformRequest {
+            if (mediaPath == null) {
+                throw new IllegalArgumentException("Media path cannot be null");
+            }
+            if (outputPath == null) {
+                throw new IllegalArgumentException("Output path cannot be null");
+            }
+        }
+    }
+
+    /**
+     * Poster request (domain object).
+     *
+     * @param videoPath rendered video
+     * @param outputPath JPEG file to write
+     * @param durationSeconds video duration, used to pick the frame (0 if unknown)
+     */
+    record PosterRequest(Path videoPath, Path outputPath, double durationSeconds) {
+        public PosterRequest {
+            if (videoPath == null) {
+                throw new IllegalArgumentException("Video path cannot be null");
+            }
+            if (outputPath == null) {
+                throw new IllegalArgumentException("Output path cannot be null");
+            }
+        }
+    }
+}
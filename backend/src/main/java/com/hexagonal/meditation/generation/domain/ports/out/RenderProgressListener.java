@@ -0,0 +1,24 @@
+package com.hexagonal.meditation.generation.domain.ports.out;
+
+/**
+ * Callback for fine-grained rendering progress.
+ * Rendering adapters report the completed fraction of the expected output duration.
+ * 
+ * Hexagonal Architecture - Driven Port callback
+ * BC: Generation
+ */
+@FunctionalInterface
+public interface RenderProgressListener {
+
+    /**
+     * Listener that ignores every update.
+     */
+    RenderProgressListener NONE = fraction -> { };
+
+    /**
+     * Report rendering progress.
+     * 
+     * @param fraction completed fraction of the output, in [0, 1]
+     */
+    void onProgress(double fraction);
+}
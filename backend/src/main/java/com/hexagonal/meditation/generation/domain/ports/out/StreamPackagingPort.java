@@ -0,0 +1,116 @@
+package com.hexagonal.meditation.generation.domain.ports.out;
+
+import com.hexagonal.meditation.generation.domain.enums.MediaType;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Output port for streaming packaging.
+ * Driven port for cutting a rendered output into an HLS presentation
+ * (fMP4 init segment, media segments and playlists), so players start
+ * after the first segment instead of after the whole progressive file.
+ *
+ * Hexagonal Architecture - Driven Port (Domain → Infrastructure)
+ * BC: Generation
+ *
+ * Implementation: FfmpegHlsPackagerAdapter (FFmpeg CLI, stream copy where possible)
+ */
+public interface StreamPackagingPort {
+
+    /**
+     * Packaging disabled: outputs are only published as progressive files.
+     */
+    StreamPackagingPort NONE = request -> Optional.empty();
+
+    /**
+     * Package a rendered output as HLS.
+     *
+     * @param request output to package and where to write the presentation
+     * @return the presentation, or empty if packaging is disabled
+     * @throws RuntimeException if packaging fails
+     */
+    Optional<HlsPackage> packageHls(PackagingRequest request);
+
+    /**
+     * Packaging request (domain object).
+     *
+     * @param mediaPath rendered progressive output
+     * @param mediaType AUDIO or VIDEO output
+     * @param outputDirectory empty directory receiving the presentation
+     * @param variants other renditions of the output, listed next to it in the master playlist
+     *                 (never null; the output itself is the variant named "main")
+     */
+    record PackagingRequest(
+        Path mediaPath,
+        MediaType mediaType,
+        Path outputDirectory,
+        List<Variant> variants
+    ) {
+        public PackagingRequest {
+            if (mediaPath == null) {
+                throw new IllegalArgumentException("Media path cannot be null");
+            }
+            if (mediaType == null) {
+                throw new IllegalArgumentException("Media type cannot be null");
+            }
+            if (outputDirectory == null) {
+                throw new IllegalArgumentException("Output directory cannot be null");
+            }
+            variants = variants == null ? List.of() : List.copyOf(variants);
+        }
+
+        /**
+         * Request for a single-variant presentation.
+         */
+        public PackagingRequest(Path mediaPath, MediaType mediaType, Path outputDirectory) {
+            this(mediaPath, mediaType, outputDirectory, List.of());
+        }
+    }
+
+    /**
+     * Rendition packaged as one variant stream of the presentation.
+     *
+     * @param name variant name used in the file names ([a-z0-9]+, not "main")
+     * @param mediaPath rendered rendition, encoded like the output so it is only remuxed
+     * @param audioOnly whether the rendition has no video
+     */
+    record Variant(
+        String name,
+        Path mediaPath,
+        boolean audioOnly
+    ) {
+        public Variant {
+            if (name == null || !name.matches("[a-z0-9]+") || name.equals("main")) {
+                throw new IllegalArgumentException("Variant name must match [a-z0-9]+ and differ from main");
+            }
+            if (mediaPath == null) {
+                throw new IllegalArgumentException("Media path cannot be null");
+            }
+        }
+    }
+
+    /**
+     * HLS presentation on local disk.
+     *
+     * @param directory directory holding every file of the presentation
+     * @param files paths relative to the directory, in upload order: segments first, playlists last
+     * @param masterPlaylist relative path of the master playlist (the entry point players load)
+     */
+    record HlsPackage(
+        Path directory,
+        List<Path> files,
+        Path masterPlaylist
+    ) {
+        public HlsPackage {
+            if (directory == null || masterPlaylist == null) {
+                throw new IllegalArgumentException("Directory and master playlist cannot be null");
+            }
+            files = List.copyOf(files);
+            if (files.isEmpty() || !files.get(files.size() - 1).equals(masterPlaylist)) {
+                throw new IllegalArgumentException("The master playlist must be the last file of the package");
+            }
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.hexagonal.meditation.generation.domain.ports.out;
 
+import com.hexagonal.meditation.generation.domain.enums.RenderQualityTier;
+import com.hexagonal.meditation.generation.domain.model.RenderSegment;
+
 import java.nio.file.Path;
+import java.util.List;
 
 /**
  * Output port for video rendering.
@@ -23,8 +27,64 @@ public interface VideoRenderingPort {
      */
     Path renderVideo(VideoRenderRequest request);
 
+    /**
+     * Decode and scale a background image to the render resolution once, so
+     * several renders sharing the image skip the per-frame decode and resize.
+     * 
+     * @param imagePath source image (any size/format supported by the renderer)
+     * @param config target video configuration
+     * @param outputPath where to write the prepared image
+     * @return path to the prepared image (the source image if preparation is not supported)
+     */
+    default Path prepareBackgroundImage(Path imagePath, VideoConfig config, Path outputPath) {
+        return imagePath;
+    }
+
+    /**
+     * Whether the renderer can render time slices and join them without
+     * re-encoding ({@link #renderVideoSegment} and {@link #concatSegments}).
+     * 
+     * @return true if segmented rendering is supported
+     */
+    default boolean supportsSegmentedRendering() {
+        return false;
+    }
+
+    /**
+     * Render one time slice of a video.
+     * Narration and music are read from {@code segment.startSeconds()} for
+     * {@code segment.durationSeconds()}; the request's subtitle file must
+     * already be relative to the segment start. Segments of one video are
+     * rendered with identical settings so they can be joined losslessly.
+     * 
+     * @param request rendering configuration of the slice (output path is the segment file)
+     * @param segment time slice on the full timeline
+     * @return path to the rendered segment
+     * @throws RuntimeException if rendering fails (no fallback)
+     */
+    default Path renderVideoSegment(VideoRenderRequest request, RenderSegment segment) {
+        throw new UnsupportedOperationException("Segmented rendering is not supported");
+    }
+
+    /**
+     * Join rendered segments, in order, into one file without re-encoding.
+     * 
+     * @param segmentPaths segments produced by {@link #renderVideoSegment}, in timeline order
+     * @param outputPath joined video file
+     * @return path to the joined video
+     * @throws RuntimeException if joining fails
+     */
+    default Path concatSegments(List<Path> segmentPaths, Path outputPath) {
+        throw new UnsupportedOperationException("Segmented rendering is not supported");
+    }
+
     /**
      * Video rendering request (domain object).
+     * 
+     * @param expectedDurationSeconds expected output duration, used to report progress (0 if unknown)
+     * @param progressListener receives rendering progress (never null, defaults to NONE)
+     * @param renditions extra outputs derived from the same decoded frames and mix (never null);
+     *                   renderers that cannot produce them only write {@code outputPath}
      */
     record VideoRenderRequest(
         Path narrationAudioPath,
@@ -32,7 +92,10 @@ public interface VideoRenderingPort {
         Path imagePath,
         Path subtitlePath,
         Path outputPath,
-        VideoConfig config
+        VideoConfig config,
+        double expectedDurationSeconds,
+        RenderProgressListener progressListener,
+        List<Rendition> renditions
     ) {
         public VideoRenderRequest {
             if (narrationAudioPath == null) {
@@ -53,18 +116,95 @@ public interface VideoRenderingPort {
             if (config == null) {
                 throw new IllegalArgumentException("Video config cannot be null");
             }
+            if (progressListener == null) {
+                progressListener = RenderProgressListener.NONE;
+            }
+            renditions = renditions == null ? List.of() : List.copyOf(renditions);
+        }
+
+        /**
+         * Request for the main output only.
+         */
+        public VideoRenderRequest(Path narrationAudioPath, Path musicAudioPath, Path imagePath,
+                                  Path subtitlePath, Path outputPath, VideoConfig config,
+                                  double expectedDurationSeconds, RenderProgressListener progressListener) {
+            this(narrationAudioPath, musicAudioPath, imagePath, subtitlePath, outputPath, config,
+                expectedDurationSeconds, progressListener, List.of());
+        }
+
+        /**
+         * Request without progress reporting.
+         */
+        public VideoRenderRequest(Path narrationAudioPath, Path musicAudioPath, Path imagePath,
+                                  Path subtitlePath, Path outputPath, VideoConfig config) {
+            this(narrationAudioPath, musicAudioPath, imagePath, subtitlePath, outputPath, config,
+                0.0, RenderProgressListener.NONE);
+        }
+    }
+
+    /**
+     * Extra output of a render: a smaller video, or the audio mix alone (AAC).
+     * 
+     * @param name variant name, also used in the HLS presentation ([a-z0-9]+)
+     * @param width frame width, 0 for audio only
+     * @param height frame height, 0 for audio only
+     * @param outputPath where the rendition is written
+     */
+    record Rendition(
+        String name,
+        int width,
+        int height,
+        Path outputPath
+    ) {
+        public Rendition {
+            if (name == null || !name.matches("[a-z0-9]+")) {
+                throw new IllegalArgumentException("Rendition name must match [a-z0-9]+");
+            }
+            if (width < 0 || height < 0 || (width == 0) != (height == 0)) {
+                throw new IllegalArgumentException("Rendition size must be positive, or 0x0 for audio only");
+            }
+            if (outputPath == null) {
+                throw new IllegalArgumentException("Output path cannot be null");
+            }
+        }
+
+        public static Rendition video(String name, int width, int height, Path outputPath) {
+            if (width == 0 || height == 0) {
+                throw new IllegalArgumentException("Video rendition size must be positive");
+            }
+            return new Rendition(name, width, height, outputPath);
+        }
+
+        public static Rendition audioOnly(String name, Path outputPath) {
+            return new Rendition(name, 0, 0, outputPath);
+        }
+
+        public boolean isAudioOnly() {
+            return width == 0;
+        }
+
+        /**
+         * Same rendition written somewhere else (e.g. one time slice of it).
+         */
+        public Rendition withOutputPath(Path path) {
+            return new Rendition(name, width, height, path);
         }
     }
 
     /**
      * Video configuration (resolution, codec, audio mix).
+     * 
+     * @param encoderPreset x264 preset (e.g. "veryfast"); null for the encoder default
+     * @param burnSubtitles whether subtitles are burned into the frames
      */
     record VideoConfig(
         int width,
         int height,
         int audioSampleRate,
         String audioChannels,
-        double musicVolumeDb
+        double musicVolumeDb,
+        String encoderPreset,
+        boolean burnSubtitles
     ) {
         public VideoConfig {
             if (width <= 0 || height <= 0) {
@@ -76,6 +216,16 @@ public interface VideoRenderingPort {
             if (audioChannels == null || audioChannels.isBlank()) {
                 throw new IllegalArgumentException("Audio channels cannot be null or blank");
             }
+            if (encoderPreset != null && encoderPreset.isBlank()) {
+                encoderPreset = null;
+            }
+        }
+
+        /**
+         * Configuration with the default encoder preset and burned subtitles.
+         */
+        public VideoConfig(int width, int height, int audioSampleRate, String audioChannels, double musicVolumeDb) {
+            this(width, height, audioSampleRate, audioChannels, musicVolumeDb, null, true);
         }
 
         /**
@@ -90,5 +240,21 @@ public interface VideoRenderingPort {
                 -12.0 // music 12dB lower than narration
             );
         }
+
+        /**
+         * Video configuration for a render quality tier.
+         * 
+         * @param tier quality tier (AUDIO_ONLY has no video configuration)
+         * @return video configuration
+         * @throws IllegalArgumentException for AUDIO_ONLY
+         */
+        public static VideoConfig forQuality(RenderQualityTier tier) {
+            return switch (tier) {
+                case FULL -> hdMeditationVideo();
+                case REDUCED -> new VideoConfig(854, 480, 48000, "stereo", -12.0, "veryfast", true);
+                case LOW -> new VideoConfig(640, 360, 44100, "stereo", -12.0, "ultrafast", false);
+                case AUDIO_ONLY -> throw new IllegalArgumentException("AUDIO_ONLY tier does not render video");
+            };
+        }
     }
 }
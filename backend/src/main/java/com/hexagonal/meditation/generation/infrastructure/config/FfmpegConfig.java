@@ -24,6 +24,16 @@ public class FfmpegConfig {
      */
     private boolean enableFallback = true;
     
+    /**
+     * In-JVM mixing of PCM (WAV) narration and music before the final encode.
+     */
+    private PcmMix pcmMix = new PcmMix();
+    
+    /**
+     * In-process rendering and probing through the libav* shared libraries.
+     */
+    private Libav libav = new Libav();
+    
     public String getPath() {
         return path;
     }
@@ -39,4 +49,99 @@ public class FfmpegConfig {
     public void setEnableFallback(boolean enableFallback) {
         this.enableFallback = enableFallback;
     }
+    
+    public PcmMix getPcmMix() {
+        return pcmMix;
+    }
+    
+    public void setPcmMix(PcmMix pcmMix) {
+        this.pcmMix = pcmMix;
+    }
+    
+    public Libav getLibav() {
+        return libav;
+    }
+    
+    public void setLibav(Libav libav) {
+        this.libav = libav;
+    }
+    
+    /**
+     * PCM mix settings.
+     * Applies when narration (e.g. LINEAR16 TTS) and music are both WAV at the
+     * output sample rate; other inputs are mixed by FFmpeg.
+     */
+    public static class PcmMix {
+        
+        private boolean enabled = true;
+        
+        /**
+         * Music bed fade-in in seconds (0 = none).
+         */
+        private double fadeInSeconds = 0.0;
+        
+        /**
+         * Music bed fade-out in seconds (0 = none).
+         */
+        private double fadeOutSeconds = 0.0;
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public double getFadeInSeconds() {
+            return fadeInSeconds;
+        }
+        
+        public void setFadeInSeconds(double fadeInSeconds) {
+            this.fadeInSeconds = fadeInSeconds;
+        }
+        
+        public double getFadeOutSeconds() {
+            return fadeOutSeconds;
+        }
+        
+        public void setFadeOutSeconds(double fadeOutSeconds) {
+            this.fadeOutSeconds = fadeOutSeconds;
+        }
+    }
+    
+    /**
+     * libav settings.
+     * When enabled, audio renders, duration probes and background image
+     * preparation run in the JVM through the Foreign Function & Memory API;
+     * the FFmpeg CLI remains the fallback and still muxes video.
+     * Only builds with the libav Maven profile (started with --enable-preview)
+     * contain that code; other builds ignore these settings.
+     */
+    public static class Libav {
+        
+        private boolean enabled = false;
+        
+        /**
+         * Directory holding libavutil/libavcodec/libavformat/libavfilter
+         * (empty = system library search path).
+         */
+        private String libraryPath = "";
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public String getLibraryPath() {
+            return libraryPath;
+        }
+        
+        public void setLibraryPath(String libraryPath) {
+            this.libraryPath = libraryPath;
+        }
+    }
 }
@@ -1,20 +1,82 @@
 package com.hexagonal.meditation.generation.infrastructure.config;
 
+import com.hexagonal.meditation.generation.application.service.AdaptiveConcurrencyLimiter;
+import com.hexagonal.meditation.generation.application.service.CancelMeditationGenerationService;
+import com.hexagonal.meditation.generation.application.service.GenerateMeditationBatchService;
 import com.hexagonal.meditation.generation.application.service.GenerateMeditationContentService;
+import com.hexagonal.meditation.generation.application.service.GenerationHandoffService;
+import com.hexagonal.meditation.generation.application.service.GenerationJobRegistry;
+import com.hexagonal.meditation.generation.application.service.GenerationScheduler;
 import com.hexagonal.meditation.generation.application.service.IdempotencyKeyGenerator;
+import com.hexagonal.meditation.generation.application.service.OrphanedUploadCollector;
+import com.hexagonal.meditation.generation.application.service.PreviewRenderer;
+import com.hexagonal.meditation.generation.application.service.RenderDeduplicator;
+import com.hexagonal.meditation.generation.application.service.RenderQualityPolicy;
+import com.hexagonal.meditation.generation.application.service.ScheduledGenerateMeditationContentService;
+import com.hexagonal.meditation.generation.application.service.SegmentedVideoRenderer;
+import com.hexagonal.meditation.generation.application.service.SpeculativeNarrationService;
 import com.hexagonal.meditation.generation.application.validator.TextLengthEstimator;
+import com.hexagonal.meditation.generation.domain.ports.in.CancelMeditationGenerationUseCase;
+import com.hexagonal.meditation.generation.domain.ports.in.CollectOrphanedUploadsUseCase;
+import com.hexagonal.meditation.generation.domain.ports.in.DrainGenerationUseCase;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationBatchUseCase;
 import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase;
+import com.hexagonal.meditation.generation.domain.enums.RenderQualityTier;
+import com.hexagonal.meditation.generation.domain.ports.in.PrecomputeNarrationUseCase;
+import com.hexagonal.meditation.generation.domain.ports.out.ArtifactStorePort;
 import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort;
+import com.hexagonal.meditation.generation.domain.ports.out.CompositionReferencesPort;
 import com.hexagonal.meditation.generation.domain.ports.out.ContentRepositoryPort;
+import com.hexagonal.meditation.generation.domain.ports.out.GenerationHandoffPort;
+import com.hexagonal.meditation.generation.domain.ports.out.GenerationProgressPort;
+import com.hexagonal.meditation.generation.domain.ports.out.HostMetricsPort;
 import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort;
+import com.hexagonal.meditation.generation.domain.ports.out.MusicBedPort;
+import com.hexagonal.meditation.generation.domain.ports.out.PlaybackAssetsPort;
+import com.hexagonal.meditation.generation.domain.ports.out.StreamPackagingPort;
 import com.hexagonal.meditation.generation.domain.ports.out.SubtitleSyncPort;
 import com.hexagonal.meditation.generation.domain.ports.out.VideoRenderingPort;
 import com.hexagonal.meditation.generation.domain.ports.out.VoiceSynthesisPort;
+import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort.AudioConfig;
+import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort.AudioProfile;
+import com.hexagonal.meditation.generation.infrastructure.in.lifecycle.GenerationDrainLifecycle;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.artifact.FileSystemArtifactStoreAdapter;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.composition.CompositionReferencesAdapter;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.ffmpeg.FfmpegHlsPackagerAdapter;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.ffmpeg.FfmpegPlaybackAssetsAdapter;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.host.ProcStatHostMetricsAdapter;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.musicbed.FfmpegMusicBedAdapter;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.storage.FileSystemMediaStorageAdapter;
 import com.hexagonal.meditation.generation.infrastructure.out.service.audio.AudioMetadataService;
+import com.hexagonal.meditationbuilder.domain.ports.out.CompositionRepositoryPort;
+import com.hexagonal.shared.storage.FileSystemObjectStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Spring configuration for Generation bounded context.
@@ -30,8 +92,41 @@ import java.time.Clock;
 @Configuration
 public class GenerationConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(GenerationConfig.class);
+
+    private static final List<String> MUSIC_EXTENSIONS = List.of(".mp3", ".wav", ".ogg", ".m4a", ".flac");
+
     /**
      * Main use case bean for meditation content generation.
+     * Saves the PROCESSING meditation of each request and answers with it;
+     * the pipeline runs later on the fair-share scheduler.
+     * 
+     * @param generateMeditationContentService generation pipeline
+     * @param generationScheduler per-user fair-share scheduler
+     * @param textLengthEstimator validates text and estimates job cost
+     * @param generationHandoffPort queue for generations still waiting when the node drains
+     * @param clock clock for hand-off timestamps
+     * @return configured use case instance
+     */
+    @Bean
+    @Primary
+    public GenerateMeditationContentUseCase generateMeditationContentUseCase(
+            GenerateMeditationContentService generateMeditationContentService,
+            GenerationScheduler generationScheduler,
+            TextLengthEstimator textLengthEstimator,
+            GenerationHandoffPort generationHandoffPort,
+            Clock clock) {
+        return new ScheduledGenerateMeditationContentService(
+                generateMeditationContentService,
+                generationScheduler,
+                textLengthEstimator,
+                generationHandoffPort,
+                clock
+        );
+    }
+
+    /**
+     * Generation pipeline bean (runs on the calling thread).
      * Orchestrates the entire generation flow: TTS → subtitles → rendering → storage.
      * 
      * @param textLengthEstimator validates text length and estimates processing time
@@ -43,11 +138,23 @@ public class GenerationConfig {
      * @param mediaStoragePort out port for S3 storage (AWS S3/LocalStack adapter)
      * @param contentRepositoryPort out port for persistence (JPA adapter)
      * @param audioMetadataService service for analyzing audio file metadata (duration, bitrate, etc.)
+     * @param generationProgressPort out port for progress events (in-process bus, SSE)
+     * @param generationJobRegistry registry of running generations (cancellation)
+     * @param renderQualityPolicy picks the render quality tier under load
+     * @param adaptiveConcurrencyLimiter tunes the generation concurrency from render and stage timings
+     * @param segmentedVideoRenderer renders long videos as parallel segments
+     * @param previewRenderer publishes a low-bitrate preview before the full render
+     * @param artifactStorePort out port for intermediate artifacts keyed by stage input hash
+     * @param renderDeduplicator reuses identical renders across users
+     * @param musicBedPort out port for prepared (normalized, pre-cut) music beds
+     * @param streamPackagingPort out port for HLS packaging of the rendered output
+     * @param playbackAssetsPort out port for waveform peaks and poster frames of the rendered output
+     * @param audioProfile codec and container of audio outputs (MP3, AAC_MP4, OPUS_WEBM, OPUS_OGG)
      * @param clock system clock for timestamps (UTC)
-     * @return configured use case instance
+     * @return configured pipeline instance
      */
     @Bean
-    public GenerateMeditationContentUseCase generateMeditationContentUseCase(
+    public GenerateMeditationContentService generateMeditationContentService(
             TextLengthEstimator textLengthEstimator,
             IdempotencyKeyGenerator idempotencyKeyGenerator,
             VoiceSynthesisPort voiceSynthesisPort,
@@ -57,6 +164,18 @@ public class GenerationConfig {
             MediaStoragePort mediaStoragePort,
             ContentRepositoryPort contentRepositoryPort,
             AudioMetadataService audioMetadataService,
+            GenerationProgressPort generationProgressPort,
+            GenerationJobRegistry generationJobRegistry,
+            RenderQualityPolicy renderQualityPolicy,
+            AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter,
+            SegmentedVideoRenderer segmentedVideoRenderer,
+            PreviewRenderer previewRenderer,
+            ArtifactStorePort artifactStorePort,
+            RenderDeduplicator renderDeduplicator,
+            MusicBedPort musicBedPort,
+            StreamPackagingPort streamPackagingPort,
+            PlaybackAssetsPort playbackAssetsPort,
+            @Value("${generation.audio.profile:MP3}") AudioProfile audioProfile,
             Clock clock) {
         return new GenerateMeditationContentService(
                 textLengthEstimator,
@@ -68,17 +187,718 @@ public class GenerationConfig {
                 mediaStoragePort,
                 contentRepositoryPort,
                 audioMetadataService,
+                generationProgressPort,
+                generationJobRegistry,
+                renderQualityPolicy,
+                adaptiveConcurrencyLimiter,
+                segmentedVideoRenderer,
+                previewRenderer,
+                artifactStorePort,
+                renderDeduplicator,
+                musicBedPort,
+                streamPackagingPort,
+                playbackAssetsPort,
+                audioProfile,
+                clock
+        );
+    }
+
+    /**
+     * Bounded store of intermediate pipeline artifacts keyed by stage input hash,
+     * so edits only recompute the stages downstream of the change.
+     * 
+     * @param enabled whether artifacts are kept at all
+     * @param directory directory holding the artifacts
+     * @param maxSizeMb upper bound on the total artifact size
+     * @param meterRegistry registry for hit/miss and size metrics
+     */
+    @Bean
+    public ArtifactStorePort artifactStorePort(
+            @Value("${generation.artifacts.enabled:true}") boolean enabled,
+            @Value("${generation.artifacts.dir:${java.io.tmpdir}/meditation-artifacts}") String directory,
+            @Value("${generation.artifacts.max-size-mb:2048}") long maxSizeMb,
+            MeterRegistry meterRegistry) {
+        if (!enabled) {
+            return ArtifactStorePort.NONE;
+        }
+        return new FileSystemArtifactStoreAdapter(Path.of(directory), maxSizeMb * 1024 * 1024, meterRegistry);
+    }
+
+    /**
+     * Cross-user reuse of identical renders by user-independent content key.
+     * 
+     * @param contentRepositoryPort out port for the content key lookup
+     * @param mediaStoragePort out port for the storage-side copy
+     * @param meterRegistry registry for hit/miss metrics
+     * @param enabled whether identical renders are reused
+     */
+    @Bean
+    public RenderDeduplicator renderDeduplicator(
+            ContentRepositoryPort contentRepositoryPort,
+            MediaStoragePort mediaStoragePort,
+            MeterRegistry meterRegistry,
+            @Value("${generation.dedup.enabled:true}") boolean enabled) {
+        return new RenderDeduplicator(contentRepositoryPort, mediaStoragePort, meterRegistry, enabled);
+    }
+
+    /**
+     * Library of loudness-normalized music beds cut to standard durations.
+     * Opt-in: a bed shortens the output to its bucket (the shortest one
+     * covering the narration) instead of the full track.
+     * 
+     * @param enabled whether beds are prepared and used
+     * @param directory directory holding the beds
+     * @param bucketsSeconds standard bed durations
+     * @param targetLufs integrated loudness of the beds
+     * @param fadeOutSeconds fade-out at the end of every bed
+     * @param ffmpegConfig FFmpeg executable
+     * @param generationMusicBedPool low-priority threads preparing the beds
+     * @param meterRegistry registry for lookup and preparation metrics
+     */
+    @Bean
+    public MusicBedPort musicBedPort(
+            @Value("${generation.music-beds.enabled:false}") boolean enabled,
+            @Value("${generation.music-beds.dir:${java.io.tmpdir}/meditation-music-beds}") String directory,
+            @Value("${generation.music-beds.buckets-seconds:300,600,900,1200}") List<Integer> bucketsSeconds,
+            @Value("${generation.music-beds.target-lufs:-16}") double targetLufs,
+            @Value("${generation.music-beds.fade-out-seconds:8}") double fadeOutSeconds,
+            FfmpegConfig ffmpegConfig,
+            @Qualifier("generationMusicBedPool") ExecutorService generationMusicBedPool,
+            MeterRegistry meterRegistry) {
+        if (!enabled) {
+            return MusicBedPort.NONE;
+        }
+        // Beds are mixed as is, so they are rendered in the full-quality output format
+        AudioConfig audioConfig = AudioConfig.forQuality(RenderQualityTier.FULL);
+        FfmpegMusicBedAdapter.Settings settings = new FfmpegMusicBedAdapter.Settings(
+                targetLufs, -1.5, 11, bucketsSeconds, fadeOutSeconds,
+                audioConfig.sampleRate(), audioConfig.channels());
+        return new FfmpegMusicBedAdapter(Path.of(directory), ffmpegConfig.getPath(), settings,
+                generationMusicBedPool, meterRegistry);
+    }
+
+    /**
+     * HLS packaging (fMP4 segments) of every rendered output, published next
+     * to the progressive file for fast-start streaming.
+     * 
+     * @param enabled whether outputs are packaged
+     * @param segmentSeconds target segment duration
+     * @param ffmpegConfig FFmpeg executable
+     */
+    @Bean
+    public StreamPackagingPort streamPackagingPort(
+            @Value("${generation.hls.enabled:true}") boolean enabled,
+            @Value("${generation.hls.segment-seconds:6}") double segmentSeconds,
+            FfmpegConfig ffmpegConfig) {
+        if (!enabled) {
+            return StreamPackagingPort.NONE;
+        }
+        return new FfmpegHlsPackagerAdapter(ffmpegConfig.getPath(), segmentSeconds);
+    }
+
+    /**
+     * Waveform peaks and video poster frames derived once from every rendered
+     * output, so players do not decode the media to draw it.
+     * 
+     * @param enabled whether the assets are computed
+     * @param waveformWindowMs duration covered by one waveform peak
+     * @param posterWidth poster width in pixels
+     * @param ffmpegConfig FFmpeg executable
+     */
+    @Bean
+    public PlaybackAssetsPort playbackAssetsPort(
+            @Value("${generation.playback-assets.enabled:true}") boolean enabled,
+            @Value("${generation.playback-assets.waveform-window-ms:100}") int waveformWindowMs,
+            @Value("${generation.playback-assets.poster-width:640}") int posterWidth,
+            FfmpegConfig ffmpegConfig) {
+        if (!enabled) {
+            return PlaybackAssetsPort.NONE;
+        }
+        return new FfmpegPlaybackAssetsAdapter(ffmpegConfig.getPath(), waveformWindowMs, posterWidth);
+    }
+
+    /**
+     * Media storage on the local filesystem instead of S3 (single-node and
+     * offline deployments), replacing S3MediaStorageAdapter.
+     * 
+     * @param fileSystemObjectStore the shared filesystem object store
+     */
+    @Bean
+    @ConditionalOnProperty(name = "storage.type", havingValue = "filesystem")
+    public MediaStoragePort fileSystemMediaStoragePort(FileSystemObjectStore fileSystemObjectStore) {
+        return new FileSystemMediaStorageAdapter(fileSystemObjectStore);
+    }
+
+    /**
+     * Single minimum-priority thread preparing music beds, one track at a time.
+     * Shut down with the context (inferred destroy method).
+     */
+    @Bean
+    public ExecutorService generationMusicBedPool() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "generation-music-bed");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues every track of the music catalog for bed preparation at startup;
+     * tracks whose beds exist are skipped. No-op when beds are disabled.
+     * 
+     * @param musicBedPort out port preparing the beds
+     * @param catalogDir directory of the catalog tracks
+     */
+    @Bean
+    ApplicationRunner prepareMusicCatalog(
+            MusicBedPort musicBedPort,
+            @Value("${generation.music-beds.catalog-dir:music-catalog}") String catalogDir) {
+        return args -> {
+            Path catalog = Path.of(catalogDir);
+            if (musicBedPort == MusicBedPort.NONE || !Files.isDirectory(catalog)) {
+                return;
+            }
+            try (Stream<Path> tracks = Files.walk(catalog)) {
+                tracks.filter(Files::isRegularFile)
+                        .filter(GenerationConfig::isMusicFile)
+                        .forEach(musicBedPort::prepare);
+            } catch (IOException e) {
+                log.warn("Could not scan music catalog {}: {}", catalog, e.getMessage());
+            }
+        };
+    }
+
+    private static boolean isMusicFile(Path path) {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        return MUSIC_EXTENSIONS.stream().anyMatch(name::endsWith);
+    }
+
+    /**
+     * Speculative music preparation and TTS for compositions being edited.
+     * Opt-in; needs the artifact store, where the generate call picks the
+     * narration up (otherwise speculation is switched off).
+     * 
+     * @param generateMeditationContentService runs the music and TTS stages
+     * @param artifactStorePort store the speculative artifacts are written to
+     * @param generationSpeculativePool low-priority threads running the jobs
+     * @param meterRegistry registry for job outcome metrics
+     * @param enabled whether compositions are precomputed
+     * @param debounceMs quiet period after the last edit before a job starts
+     */
+    @Bean
+    public PrecomputeNarrationUseCase precomputeNarrationUseCase(
+            GenerateMeditationContentService generateMeditationContentService,
+            ArtifactStorePort artifactStorePort,
+            @Qualifier("generationSpeculativePool") ScheduledExecutorService generationSpeculativePool,
+            MeterRegistry meterRegistry,
+            @Value("${generation.speculative.enabled:false}") boolean enabled,
+            @Value("${generation.speculative.debounce-ms:2000}") long debounceMs) {
+        if (!enabled || artifactStorePort == ArtifactStorePort.NONE) {
+            return PrecomputeNarrationUseCase.NONE;
+        }
+        return new SpeculativeNarrationService(
+                generateMeditationContentService::precomputeNarration,
+                generationSpeculativePool,
+                Duration.ofMillis(debounceMs),
+                meterRegistry
+        );
+    }
+
+    /**
+     * Minimum-priority threads for speculative jobs, so they yield the CPU
+     * to real generations. Cancelled jobs leave the queue immediately.
+     * Shut down with the context (inferred destroy method).
+     */
+    @Bean
+    public ScheduledExecutorService generationSpeculativePool(
+            @Value("${generation.speculative.pool-size:1}") int poolSize) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "generation-speculative-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        };
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(Math.max(1, poolSize), threadFactory);
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * Fast low-bitrate preview published before the full render.
+     * 
+     * @param voiceSynthesisPort out port for the narration prefix
+     * @param audioRenderingPort out port for the preview mix
+     * @param mediaStoragePort out port for the preview upload
+     * @param enabled whether previews are published
+     * @param previewSeconds preview length
+     */
+    @Bean
+    public PreviewRenderer previewRenderer(
+            VoiceSynthesisPort voiceSynthesisPort,
+            AudioRenderingPort audioRenderingPort,
+            MediaStoragePort mediaStoragePort,
+            @Value("${generation.preview.enabled:true}") boolean enabled,
+            @Value("${generation.preview.seconds:40}") int previewSeconds) {
+        return new PreviewRenderer(
+                voiceSynthesisPort,
+                audioRenderingPort,
+                mediaStoragePort,
+                enabled ? previewSeconds : 0
+        );
+    }
+
+    /**
+     * Segmented video renderer: splits long videos at sentence boundaries,
+     * renders the segments in parallel and joins them without re-encoding.
+     * 
+     * @param videoRenderingPort out port for video rendering (FFmpeg adapter)
+     * @param subtitleSyncPort out port for per-segment subtitle files
+     * @param generationSegmentPool threads rendering segments
+     * @param enabled whether videos are split at all
+     * @param maxSegments maximum number of segments per video
+     * @param minSegmentSeconds minimum average segment length
+     */
+    @Bean
+    public SegmentedVideoRenderer segmentedVideoRenderer(
+            VideoRenderingPort videoRenderingPort,
+            SubtitleSyncPort subtitleSyncPort,
+            @Qualifier("generationSegmentPool") ExecutorService generationSegmentPool,
+            @Value("${generation.segmented-render.enabled:true}") boolean enabled,
+            @Value("${generation.segmented-render.max-segments:4}") int maxSegments,
+            @Value("${generation.segmented-render.min-segment-seconds:30}") double minSegmentSeconds) {
+        return new SegmentedVideoRenderer(
+                videoRenderingPort,
+                subtitleSyncPort,
+                generationSegmentPool,
+                enabled ? maxSegments : 1,
+                minSegmentSeconds
+        );
+    }
+
+    /**
+     * Pool rendering video segments. Separate from the worker pool, whose
+     * threads block on their segments. Defaults to one thread per core.
+     * Shut down with the context (inferred destroy method).
+     */
+    @Bean
+    public ExecutorService generationSegmentPool(
+            @Value("${generation.segmented-render.pool-size:0}") int poolSize) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "generation-segment-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(threads, threadFactory);
+    }
+
+    /**
+     * Uploads referenced by compositions, read from the Composition BC.
+     * 
+     * @param compositionRepositoryPort Composition BC repository
+     */
+    @Bean
+    public CompositionReferencesPort compositionReferencesPort(CompositionRepositoryPort compositionRepositoryPort) {
+        return new CompositionReferencesAdapter(compositionRepositoryPort);
+    }
+
+    /**
+     * Garbage collection of uploads no meditation or composition references.
+     * 
+     * @param mediaStoragePort out port the uploads are listed and deleted in
+     * @param contentRepositoryPort out port for the meditations referencing them
+     * @param compositionReferencesPort out port for the compositions referencing them
+     * @param graceHours minimum age of an upload before it can be collected
+     * @param pageSize objects listed per storage request
+     * @param maxPagesPerPass listing requests per pass
+     * @param maxDeletesPerPass objects deleted per pass
+     * @param deleteBatchSize objects deleted per storage request
+     * @param batchPauseMs pause after each delete request
+     * @param clock clock the grace period is measured with
+     * @param meterRegistry registry for collection metrics
+     */
+    @Bean
+    public CollectOrphanedUploadsUseCase collectOrphanedUploadsUseCase(
+            MediaStoragePort mediaStoragePort,
+            ContentRepositoryPort contentRepositoryPort,
+            CompositionReferencesPort compositionReferencesPort,
+            @Value("${generation.uploads-gc.grace-hours:48}") long graceHours,
+            @Value("${generation.uploads-gc.page-size:500}") int pageSize,
+            @Value("${generation.uploads-gc.max-pages-per-pass:200}") int maxPagesPerPass,
+            @Value("${generation.uploads-gc.max-deletes-per-pass:5000}") int maxDeletesPerPass,
+            @Value("${generation.uploads-gc.delete-batch-size:100}") int deleteBatchSize,
+            @Value("${generation.uploads-gc.batch-pause-ms:500}") long batchPauseMs,
+            Clock clock,
+            MeterRegistry meterRegistry) {
+        return new OrphanedUploadCollector(
+                mediaStoragePort,
+                contentRepositoryPort,
+                compositionReferencesPort,
+                new OrphanedUploadCollector.Limits(
+                        Duration.ofHours(graceHours), pageSize, maxPagesPerPass,
+                        maxDeletesPerPass, deleteBatchSize, Duration.ofMillis(batchPauseMs)),
+                clock,
+                meterRegistry
+        );
+    }
+
+    /**
+     * Single minimum-priority thread for periodic maintenance (upload collection,
+     * hand-off polling).
+     * Shut down with the context (inferred destroy method).
+     */
+    @Bean
+    public ScheduledExecutorService generationMaintenancePool() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "generation-maintenance");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules the upload collection passes at startup. A failed pass is
+     * logged and the next one runs on schedule. No-op when disabled.
+     * 
+     * @param collectOrphanedUploadsUseCase runs one collection pass
+     * @param generationMaintenancePool thread the passes run on
+     * @param enabled whether uploads are collected
+     * @param dryRun report the orphans without deleting them
+     * @param initialDelayMinutes delay before the first pass
+     * @param intervalMinutes delay between the end of a pass and the next
+     */
+    @Bean
+    ApplicationRunner scheduleOrphanedUploadCollection(
+            CollectOrphanedUploadsUseCase collectOrphanedUploadsUseCase,
+            @Qualifier("generationMaintenancePool") ScheduledExecutorService generationMaintenancePool,
+            @Value("${generation.uploads-gc.enabled:true}") boolean enabled,
+            @Value("${generation.uploads-gc.dry-run:true}") boolean dryRun,
+            @Value("${generation.uploads-gc.initial-delay-minutes:10}") long initialDelayMinutes,
+            @Value("${generation.uploads-gc.interval-minutes:360}") long intervalMinutes) {
+        return args -> {
+            if (!enabled) {
+                return;
+            }
+            generationMaintenancePool.scheduleWithFixedDelay(() -> {
+                try {
+                    collectOrphanedUploadsUseCase.collect(dryRun);
+                } catch (RuntimeException e) {
+                    // An exception would cancel the schedule
+                    log.warn("Orphaned upload collection failed: {}", e.getMessage(), e);
+                }
+            }, initialDelayMinutes, Math.max(1, intervalMinutes), TimeUnit.MINUTES);
+            log.info("Orphaned upload collection scheduled: every {} min, dryRun={}", intervalMinutes, dryRun);
+        };
+    }
+
+    /**
+     * Drains the node on shutdown and resumes generations handed off by other nodes.
+     * 
+     * @param generateMeditationContentService pipeline the handed-off generations resume through
+     * @param generationScheduler scheduler that stops dispatching while draining
+     * @param generationJobRegistry running generations to stop and hand off
+     * @param generationHandoffPort shared queue of handed-off generations (PostgreSQL)
+     * @param textLengthEstimator estimates job cost from narration text
+     * @param clock system clock for hand-off timestamps (UTC)
+     * @param meterRegistry registry for drain and resume counters
+     */
+    @Bean
+    public DrainGenerationUseCase drainGenerationUseCase(
+            GenerateMeditationContentService generateMeditationContentService,
+            GenerationScheduler generationScheduler,
+            GenerationJobRegistry generationJobRegistry,
+            GenerationHandoffPort generationHandoffPort,
+            TextLengthEstimator textLengthEstimator,
+            Clock clock,
+            MeterRegistry meterRegistry) {
+        return new GenerationHandoffService(
+                generateMeditationContentService,
+                generationScheduler,
+                generationJobRegistry,
+                generationHandoffPort,
+                textLengthEstimator,
+                clock,
+                meterRegistry
+        );
+    }
+
+    /**
+     * Reports not-ready and drains generation jobs before the web server shuts down.
+     * 
+     * @param drainGenerationUseCase drains and hands off the jobs
+     * @param eventPublisher publisher of the readiness change
+     * @param drainTimeoutSeconds time running jobs get to finish before they are handed off
+     */
+    @Bean
+    public GenerationDrainLifecycle generationDrainLifecycle(
+            DrainGenerationUseCase drainGenerationUseCase,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${generation.drain.timeout-seconds:120}") long drainTimeoutSeconds) {
+        return new GenerationDrainLifecycle(
+                drainGenerationUseCase,
+                eventPublisher,
+                Duration.ofSeconds(drainTimeoutSeconds)
+        );
+    }
+
+    /**
+     * Polls the hand-off queue at startup and then periodically, claiming as
+     * many generations as the node has free slots. A failed poll is logged and
+     * the next one runs on schedule. No-op when disabled.
+     * 
+     * @param drainGenerationUseCase claims and resumes handed-off generations
+     * @param generationMaintenancePool thread the polls run on
+     * @param enabled whether this node resumes handed-off generations
+     * @param pollSeconds delay between the end of a poll and the next
+     */
+    @Bean
+    ApplicationRunner scheduleHandedOffGenerationResume(
+            DrainGenerationUseCase drainGenerationUseCase,
+            @Qualifier("generationMaintenancePool") ScheduledExecutorService generationMaintenancePool,
+            @Value("${generation.handoff.enabled:true}") boolean enabled,
+            @Value("${generation.handoff.poll-seconds:15}") long pollSeconds) {
+        return args -> {
+            if (!enabled) {
+                return;
+            }
+            generationMaintenancePool.scheduleWithFixedDelay(() -> {
+                try {
+                    drainGenerationUseCase.resumeHandedOff();
+                } catch (RuntimeException e) {
+                    // An exception would cancel the schedule
+                    log.warn("Resuming handed-off generations failed: {}", e.getMessage(), e);
+                }
+            }, 0, Math.max(1, pollSeconds), TimeUnit.SECONDS);
+            log.info("Handed-off generation resume scheduled: every {} s", pollSeconds);
+        };
+    }
+
+    /**
+     * Load-aware render quality policy.
+     * Degrades video resolution/preset (down to audio only) when the queue
+     * is deep or recent renders are slow, so generations stay within budget.
+     * 
+     * @param generationScheduler source of the current queue depth
+     * @param reducedQueueDepth queued jobs from which REDUCED applies
+     * @param lowQueueDepth queued jobs from which LOW applies
+     * @param audioOnlyQueueDepth queued jobs from which video requests render AUDIO_ONLY
+     * @param reducedP95Ratio p95 render seconds per output second from which REDUCED applies
+     * @param lowP95Ratio p95 render seconds per output second from which LOW applies
+     * @param audioOnlyP95Ratio p95 render seconds per output second from which video requests render AUDIO_ONLY
+     * @param windowSize number of recent renders the p95 is computed over
+     * @param maxSampleAgeMinutes age after which a render no longer counts
+     * @param clock clock the sample age is measured with
+     * @param meterRegistry registry for render time metrics
+     */
+    @Bean
+    public RenderQualityPolicy renderQualityPolicy(
+            GenerationScheduler generationScheduler,
+            @Value("${generation.quality.reduced.queue-depth:4}") int reducedQueueDepth,
+            @Value("${generation.quality.low.queue-depth:8}") int lowQueueDepth,
+            @Value("${generation.quality.audio-only.queue-depth:16}") int audioOnlyQueueDepth,
+            @Value("${generation.quality.reduced.p95-render-ratio:0.1}") double reducedP95Ratio,
+            @Value("${generation.quality.low.p95-render-ratio:0.15}") double lowP95Ratio,
+            @Value("${generation.quality.audio-only.p95-render-ratio:0.2}") double audioOnlyP95Ratio,
+            @Value("${generation.quality.window-size:50}") int windowSize,
+            @Value("${generation.quality.max-sample-age-minutes:15}") long maxSampleAgeMinutes,
+            Clock clock,
+            MeterRegistry meterRegistry) {
+        return new RenderQualityPolicy(
+                generationScheduler::queuedCount,
+                new RenderQualityPolicy.Thresholds(
+                        reducedQueueDepth, lowQueueDepth, audioOnlyQueueDepth,
+                        reducedP95Ratio, lowP95Ratio, audioOnlyP95Ratio),
+                windowSize,
+                Duration.ofMinutes(maxSampleAgeMinutes),
+                clock,
+                meterRegistry
+        );
+    }
+
+    /**
+     * Use case bean for batch generation.
+     * Shares prepared music/image across items and queues them on the fair-share scheduler.
+     * 
+     * @param generateMeditationContentService single-generation pipeline
+     * @param contentRepositoryPort out port for persistence (JPA adapter)
+     * @param generationProgressPort out port for progress events (per-item progress)
+     * @param generationScheduler per-user fair-share scheduler
+     * @param generationHandoffPort queue for items still waiting when the node drains
+     * @param textLengthEstimator estimates job cost from narration text
+     * @param clock system clock for timestamps (UTC)
+     * @param maxBatchSize maximum number of items per batch
+     * @return configured use case instance
+     */
+    @Bean
+    public GenerateMeditationBatchUseCase generateMeditationBatchUseCase(
+            GenerateMeditationContentService generateMeditationContentService,
+            ContentRepositoryPort contentRepositoryPort,
+            GenerationProgressPort generationProgressPort,
+            GenerationScheduler generationScheduler,
+            GenerationHandoffPort generationHandoffPort,
+            TextLengthEstimator textLengthEstimator,
+            Clock clock,
+            @Value("${generation.batch.max-items:50}") int maxBatchSize) {
+        return new GenerateMeditationBatchService(
+                generateMeditationContentService,
+                contentRepositoryPort,
+                generationProgressPort,
+                generationScheduler,
+                generationHandoffPort,
+                textLengthEstimator,
+                clock,
+                maxBatchSize
+        );
+    }
+
+    /**
+     * Per-user fair-share scheduler (deficit round-robin) in front of the worker pool.
+     * 
+     * @param generationWorkerPool threads running the pipelines
+     * @param poolSize number of jobs running at once until the concurrency limiter tunes it
+     * @param perUserConcurrency maximum jobs running at once for a single user
+     * @param quantumSeconds narration seconds granted to a user per round
+     * @param meterRegistry registry for queue wait and depth metrics
+     */
+    @Bean
+    public GenerationScheduler generationScheduler(
+            @Qualifier("generationWorkerPool") ExecutorService generationWorkerPool,
+            @Value("${generation.worker-pool.size:2}") int poolSize,
+            @Value("${generation.scheduler.per-user-concurrency:1}") int perUserConcurrency,
+            @Value("${generation.scheduler.quantum-seconds:60}") int quantumSeconds,
+            MeterRegistry meterRegistry) {
+        return new GenerationScheduler(
+                generationWorkerPool,
+                poolSize,
+                perUserConcurrency,
+                quantumSeconds,
+                meterRegistry
+        );
+    }
+
+    /**
+     * Tunes the scheduler capacity at runtime (AIMD): grows while stage
+     * latencies and CPU steal stay within bounds, shrinks when renders get
+     * slower per output second. Starts at the worker pool size; with
+     * adaptive tuning disabled the capacity stays there.
+     * 
+     * @param generationScheduler scheduler whose capacity is tuned
+     * @param hostMetricsPort CPU steal readings
+     * @param initial capacity at startup (worker pool size)
+     * @param adaptive whether the capacity is tuned at all
+     * @param min lowest capacity
+     * @param max highest capacity (the worker pool gets this many threads)
+     * @param evaluationIntervalSeconds minimum time between two adjustments
+     * @param windowSize samples kept per stage and per render kind
+     * @param minSamples samples needed before a stage or render kind counts
+     * @param stageTolerance p95 stage latency over its baseline up to which the capacity grows
+     * @param renderDegradation render cost over its baseline from which the capacity shrinks
+     * @param decreaseFactor factor the capacity is multiplied by when renders degrade
+     * @param maxCpuSteal CPU steal fraction above which the capacity does not grow
+     * @param clock clock the evaluation interval is measured with
+     * @param meterRegistry registry for the limit gauge and adjustment counters
+     */
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(
+            GenerationScheduler generationScheduler,
+            HostMetricsPort hostMetricsPort,
+            @Value("${generation.worker-pool.size:2}") int initial,
+            @Value("${generation.concurrency.adaptive:true}") boolean adaptive,
+            @Value("${generation.concurrency.min:1}") int min,
+            @Value("${generation.concurrency.max:8}") int max,
+            @Value("${generation.concurrency.evaluation-interval-seconds:60}") long evaluationIntervalSeconds,
+            @Value("${generation.concurrency.window-size:20}") int windowSize,
+            @Value("${generation.concurrency.min-samples:4}") int minSamples,
+            @Value("${generation.concurrency.stage-tolerance:1.5}") double stageTolerance,
+            @Value("${generation.concurrency.render-degradation:1.5}") double renderDegradation,
+            @Value("${generation.concurrency.decrease-factor:0.7}") double decreaseFactor,
+            @Value("${generation.concurrency.max-cpu-steal:0.1}") double maxCpuSteal,
+            Clock clock,
+            MeterRegistry meterRegistry) {
+        AdaptiveConcurrencyLimiter.Settings settings = adaptive
+                ? new AdaptiveConcurrencyLimiter.Settings(
+                        min, max, Math.max(min, Math.min(max, initial)),
+                        Duration.ofSeconds(evaluationIntervalSeconds), windowSize, minSamples,
+                        stageTolerance, renderDegradation, decreaseFactor, maxCpuSteal)
+                : AdaptiveConcurrencyLimiter.Settings.fixed(initial);
+        return new AdaptiveConcurrencyLimiter(generationScheduler, hostMetricsPort, settings, clock, meterRegistry);
+    }
+
+    /**
+     * CPU steal from /proc/stat; unknown (never limiting) on other platforms.
+     */
+    @Bean
+    public HostMetricsPort hostMetricsPort() {
+        return new ProcStatHostMetricsAdapter();
+    }
+
+    /**
+     * Worker pool running generation pipelines (single and batch).
+     * Sized to the most concurrent FFmpeg renders the node may run: the
+     * scheduler capacity decides how many of these threads are busy.
+     * Shut down with the context (inferred destroy method).
+     */
+    @Bean
+    public ExecutorService generationWorkerPool(
+            @Value("${generation.worker-pool.size:2}") int initial,
+            @Value("${generation.concurrency.adaptive:true}") boolean adaptive,
+            @Value("${generation.concurrency.max:8}") int max) {
+        int poolSize = adaptive ? Math.max(initial, max) : initial;
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "generation-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(poolSize, threadFactory);
+    }
+
+    /**
+     * Use case bean for cancelling in-flight generations.
+     * 
+     * @param contentRepositoryPort out port for persistence (JPA adapter)
+     * @param generationJobRegistry registry of running generations on this node
+     * @param generationProgressPort out port for progress events
+     * @param clock system clock for timestamps (UTC)
+     * @return configured use case instance
+     */
+    @Bean
+    public CancelMeditationGenerationUseCase cancelMeditationGenerationUseCase(
+            ContentRepositoryPort contentRepositoryPort,
+            GenerationJobRegistry generationJobRegistry,
+            GenerationProgressPort generationProgressPort,
+            Clock clock) {
+        return new CancelMeditationGenerationService(
+                contentRepositoryPort,
+                generationJobRegistry,
+                generationProgressPort,
                 clock
         );
     }
 
+    /**
+     * Registry of generations running on this node.
+     * Holds cancellation tokens and workspaces of in-flight pipelines.
+     */
+    @Bean
+    public GenerationJobRegistry generationJobRegistry() {
+        return new GenerationJobRegistry();
+    }
+
     /**
      * Text length validator and duration estimator.
      * Validates text constraints and estimates processing time.
+     * 
+     * @param maxNarrationSeconds longest accepted narration estimate
      */
     @Bean
-    public TextLengthEstimator textLengthEstimator() {
-        return new TextLengthEstimator();
+    public TextLengthEstimator textLengthEstimator(
+            @Value("${generation.max-narration-seconds:187}") int maxNarrationSeconds) {
+        return new TextLengthEstimator(maxNarrationSeconds);
     }
 
     /**
@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
@@ -22,8 +23,10 @@ import java.net.URI;
  * Supports both AWS S3 (production) and LocalStack (local development).
  * When a local endpoint is configured, an {@link ApplicationRunner} ensures
  * the bucket exists on every startup, so LocalStack restarts are self-healing.
+ * Not loaded with the filesystem storage ({@code storage.type=filesystem}).
  */
 @Configuration
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
 
     private static final Logger logger = LoggerFactory.getLogger(S3Config.class);
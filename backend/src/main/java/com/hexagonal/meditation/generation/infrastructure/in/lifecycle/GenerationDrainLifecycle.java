@@ -0,0 +1,68 @@
+package com.hexagonal.meditation.generation.infrastructure.in.lifecycle;
+
+import com.hexagonal.meditation.generation.domain.ports.in.DrainGenerationUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+
+/**
+ * Drains generation jobs when the application context shuts down.
+ * 
+ * Runs in the default phase, i.e. before the web server's graceful shutdown:
+ * the node first reports REFUSING_TRAFFIC on its readiness probe so the load
+ * balancer stops routing to it, then drains through {@link DrainGenerationUseCase}.
+ * The web server stays up meanwhile, so callers of stopped generations still
+ * get their PROCESSING answer and new requests a 503 with Retry-After.
+ * 
+ * The drain blocks the shutdown for up to the drain timeout (plus a few
+ * seconds to hand the remaining jobs off); the platform's termination grace
+ * period has to leave room for it.
+ */
+public class GenerationDrainLifecycle implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(GenerationDrainLifecycle.class);
+
+    private final DrainGenerationUseCase drainGenerationUseCase;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration drainTimeout;
+
+    private volatile boolean running;
+
+    public GenerationDrainLifecycle(DrainGenerationUseCase drainGenerationUseCase,
+                                    ApplicationEventPublisher eventPublisher,
+                                    Duration drainTimeout) {
+        this.drainGenerationUseCase = drainGenerationUseCase;
+        this.eventPublisher = eventPublisher;
+        this.drainTimeout = drainTimeout;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        try {
+            drainGenerationUseCase.drain(drainTimeout);
+        } catch (RuntimeException e) {
+            // Never block the rest of the shutdown
+            log.error("Generation drain failed", e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -3,6 +3,7 @@ package com.hexagonal.meditation.generation.infrastructure.in.rest.controller;
 import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort;
 import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.MediaFileType;
 import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.UploadRequest;
+import com.hexagonal.meditation.generation.domain.ports.out.MusicBedPort;
 import com.hexagonal.meditation.generation.infrastructure.in.rest.dto.UploadFileResponse;
 import com.hexagonal.shared.security.SecurityContextHelper;
 import org.slf4j.Logger;
@@ -23,6 +24,7 @@ import java.util.UUID;
  * 
  * Allows uploading images and music files before meditation generation.
  * Files are uploaded to S3 and presigned URLs are returned to the client.
+ * Uploaded music is also queued for music bed preparation.
  * 
  * Bounded Context: Generation
  */
@@ -36,9 +38,11 @@ public class FileUploadController {
     private static final long PRESIGNED_URL_TTL_SECONDS = 3600; // 1 hour
     
     private final MediaStoragePort mediaStoragePort;
+    private final MusicBedPort musicBedPort;
     
-    public FileUploadController(MediaStoragePort mediaStoragePort) {
+    public FileUploadController(MediaStoragePort mediaStoragePort, MusicBedPort musicBedPort) {
         this.mediaStoragePort = mediaStoragePort;
+        this.musicBedPort = musicBedPort;
     }
     
     /**
@@ -125,6 +129,9 @@ public class FileUploadController {
                 
                 log.info("Music uploaded successfully: {}", presignedUrl);
                 
+                // Reads the file before returning, so the temp file can go right after
+                musicBedPort.prepare(tempFile);
+                
                 return ResponseEntity.ok(new UploadFileResponse(
                     presignedUrl,
                     "audio",
@@ -0,0 +1,184 @@
+package com.hexagonal.meditation.generation.infrastructure.in.rest.controller;
+
+import com.hexagonal.meditation.generation.domain.exception.GenerationUnavailableException;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationBatchUseCase;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationBatchUseCase.BatchItemStatus;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationBatchUseCase.BatchStatus;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationBatchUseCase.ItemState;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase.GenerationRequest;
+import com.hexagonal.meditation.generation.infrastructure.in.rest.dto.BatchItemResponse;
+import com.hexagonal.meditation.generation.infrastructure.in.rest.dto.BatchStatusResponse;
+import com.hexagonal.meditation.generation.infrastructure.in.rest.dto.GenerateMeditationBatchRequest;
+import com.hexagonal.meditationbuilder.infrastructure.in.rest.dto.ErrorResponse;
+import com.hexagonal.shared.security.SecurityContextHelper;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST Controller for batch meditation generation.
+ *
+ * Accepts many generation requests at once; items sharing music and image are
+ * prepared once and rendered on the generation worker pool. The batch is
+ * processed asynchronously and polled by batch ID.
+ *
+ * OpenAPI: /openapi/generation/generate-meditation.yaml
+ * Operation: POST /api/v1/generation/batches (generateMeditationBatch)
+ * Operation: GET /api/v1/generation/batches/{batchId} (getMeditationBatchStatus)
+ *
+ * Architecture: Infrastructure In adapter, delegates to use case.
+ */
+@RestController
+@RequestMapping("/v1/generation/batches")
+public class GenerationBatchController {
+
+    private static final Logger log = LoggerFactory.getLogger(GenerationBatchController.class);
+
+    private final GenerateMeditationBatchUseCase generateMeditationBatchUseCase;
+    private final Clock clock;
+
+    public GenerationBatchController(
+            GenerateMeditationBatchUseCase generateMeditationBatchUseCase,
+            Clock clock) {
+        this.generateMeditationBatchUseCase = generateMeditationBatchUseCase;
+        this.clock = clock;
+    }
+
+    /**
+     * POST /api/v1/generation/batches - Submit a batch of generations.
+     *
+     * @param request batch items
+     * @return 202 Accepted with the batch ID and initial per-item status
+     *         400 Bad Request if the batch is empty, too large or invalid
+     */
+    @PostMapping
+    public ResponseEntity<BatchStatusResponse> generateMeditationBatch(
+            @Valid @RequestBody GenerateMeditationBatchRequest request) {
+
+        UUID userId = SecurityContextHelper.getRequiredUserId();
+        log.info("Submitting generation batch: userId={}, items={}", userId, request.items().size());
+
+        List<GenerationRequest> items = request.items().stream()
+                .map(item -> new GenerationRequest(
+                        UUID.randomUUID(),
+                        userId,
+                        item.text(),
+                        item.musicReference(),
+                        item.imageReference()
+                ))
+                .toList();
+
+        BatchStatus status = generateMeditationBatchUseCase.submit(userId, items);
+
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(toResponse(status));
+    }
+
+    /**
+     * GET /api/v1/generation/batches/{batchId} - Get batch status.
+     *
+     * @param batchId batch ID returned from POST
+     * @return 200 OK with per-item status and aggregate progress
+     *         404 Not Found if the batch is unknown, expired or belongs to another user
+     */
+    @GetMapping("/{batchId}")
+    public ResponseEntity<BatchStatusResponse> getMeditationBatchStatus(@PathVariable UUID batchId) {
+        UUID userId = SecurityContextHelper.getRequiredUserId();
+
+        return generateMeditationBatchUseCase.getStatus(batchId, userId)
+                .map(this::toResponse)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new BatchNotFoundException(batchId));
+    }
+
+    private BatchStatusResponse toResponse(BatchStatus status) {
+        List<BatchItemResponse> items = status.items().stream()
+                .map(this::toItemResponse)
+                .toList();
+        return new BatchStatusResponse(
+                status.batchId(),
+                status.state().name(),
+                status.percent(),
+                items.size(),
+                (int) status.countIn(ItemState.COMPLETED),
+                (int) (status.countIn(ItemState.FAILED) + status.countIn(ItemState.CANCELLED)),
+                items,
+                status.createdAt(),
+                status.completedAt()
+        );
+    }
+
+    private BatchItemResponse toItemResponse(BatchItemStatus item) {
+        return new BatchItemResponse(
+                item.index(),
+                item.meditationId(),
+                item.mediaType() != null ? item.mediaType().name() : null,
+                item.state().name(),
+                item.percent(),
+                item.mediaUrl(),
+                item.subtitleUrl(),
+                item.errorMessage()
+        );
+    }
+
+    /**
+     * Custom exception for unknown or foreign batch (404).
+     */
+    private static class BatchNotFoundException extends RuntimeException {
+        public BatchNotFoundException(UUID batchId) {
+            super("Batch not found: " + batchId);
+        }
+    }
+
+    /**
+     * Exception handler for BatchNotFoundException.
+     * Maps to 404 Not Found.
+     */
+    @ExceptionHandler(BatchNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNotFoundException(BatchNotFoundException ex) {
+        log.warn("Batch not found: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse("BATCH_NOT_FOUND", ex.getMessage(), clock.instant(), null));
+    }
+
+    /**
+     * Exception handler for IllegalArgumentException (empty, oversized or inconsistent batch).
+     * Maps to 400 Bad Request.
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidBatch(IllegalArgumentException ex) {
+        log.warn("Invalid batch: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse("INVALID_BATCH", ex.getMessage(), clock.instant(), null));
+    }
+
+    /**
+     * Exception handler for GenerationUnavailableException (node draining before shutdown).
+     * Maps to 503 Service Unavailable with Retry-After.
+     */
+    @ExceptionHandler(GenerationUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleUnavailable(GenerationUnavailableException ex) {
+        log.info("Batch rejected: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(GenerationUnavailableException.RETRY_AFTER_SECONDS))
+                .body(new ErrorResponse("GENERATION_UNAVAILABLE", ex.getMessage(), clock.instant(), null));
+    }
+}
@@ -0,0 +1,189 @@
+package com.hexagonal.meditation.generation.infrastructure.in.rest.controller;
+
+import com.hexagonal.meditation.generation.domain.enums.GenerationStage;
+import com.hexagonal.meditation.generation.domain.enums.GenerationStatus;
+import com.hexagonal.meditation.generation.domain.model.GeneratedMeditationContent;
+import com.hexagonal.meditation.generation.domain.model.GenerationProgress;
+import com.hexagonal.meditation.generation.domain.ports.out.ContentRepositoryPort;
+import com.hexagonal.meditation.generation.domain.ports.out.GenerationProgressPort;
+import com.hexagonal.meditation.generation.domain.ports.out.GenerationProgressPort.Subscription;
+import com.hexagonal.meditation.generation.infrastructure.in.rest.dto.GenerationProgressEvent;
+import com.hexagonal.meditationbuilder.infrastructure.in.rest.dto.ErrorResponse;
+import com.hexagonal.shared.security.SecurityContextHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * REST Controller streaming generation progress as Server-Sent Events.
+ * 
+ * Replaces polling of GET /v1/generation/meditations/{id} with a single
+ * long-lived connection per active job. Each event (name "progress") carries
+ * the current stage, step and overall percentage; the stream completes after
+ * the terminal event (COMPLETED/FAILED/TIMEOUT/CANCELLED).
+ * 
+ * OpenAPI: /openapi/generation/generate-meditation.yaml
+ * Operation: GET /api/v1/generation/meditations/{meditationId}/events (streamGenerationProgress)
+ * 
+ * Architecture: Infrastructure In adapter, subscribes to GenerationProgressPort.
+ */
+@RestController
+@RequestMapping("/v1/generation/meditations")
+public class GenerationProgressController {
+
+    private static final Logger log = LoggerFactory.getLogger(GenerationProgressController.class);
+
+    private static final String EVENT_NAME = "progress";
+
+    private final GenerationProgressPort generationProgressPort;
+    private final ContentRepositoryPort contentRepositoryPort;
+    private final Clock clock;
+    private final long sseTimeoutMs;
+
+    public GenerationProgressController(
+            GenerationProgressPort generationProgressPort,
+            ContentRepositoryPort contentRepositoryPort,
+            Clock clock,
+            @Value("${generation.progress.sse-timeout-ms:300000}") long sseTimeoutMs) {
+        this.generationProgressPort = generationProgressPort;
+        this.contentRepositoryPort = contentRepositoryPort;
+        this.clock = clock;
+        this.sseTimeoutMs = sseTimeoutMs;
+    }
+
+    /**
+     * GET /api/v1/generation/meditations/{meditationId}/events - Stream generation progress.
+     * 
+     * @param meditationId meditation ID
+     * @return SSE stream of progress events
+     *         404 Not Found if meditation doesn't exist or belongs to another user
+     */
+    @GetMapping(value = "/{meditationId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamGenerationProgress(@PathVariable UUID meditationId) {
+        UUID userId = SecurityContextHelper.getRequiredUserId();
+        GeneratedMeditationContent content = findOwned(meditationId, userId)
+                .orElseThrow(() -> new ProgressStreamNotFoundException(meditationId));
+
+        log.info("Opening progress stream: meditationId={}, userId={}", meditationId, userId);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+
+        if (content.status() != GenerationStatus.PROCESSING) {
+            sendTerminalSnapshot(emitter, content);
+            return emitter;
+        }
+
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        Runnable unsubscribe = () -> {
+            Subscription current = subscription.getAndSet(null);
+            if (current != null) {
+                current.close();
+            }
+        };
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+
+        subscription.set(generationProgressPort.subscribe(meditationId, progress -> {
+            if (send(emitter, progress) && progress.isTerminal()) {
+                emitter.complete();
+            }
+        }));
+
+        // The generation may have finished between the first read and the subscription
+        contentRepositoryPort.findById(meditationId)
+                .filter(latest -> latest.status() != GenerationStatus.PROCESSING)
+                .ifPresent(latest -> {
+                    unsubscribe.run();
+                    sendTerminalSnapshot(emitter, latest);
+                });
+
+        return emitter;
+    }
+
+    private Optional<GeneratedMeditationContent> findOwned(UUID meditationId, UUID userId) {
+        return contentRepositoryPort.findById(meditationId)
+                .filter(content -> userId.equals(content.userId()));
+    }
+
+    private void sendTerminalSnapshot(SseEmitter emitter, GeneratedMeditationContent content) {
+        GenerationProgress terminal = new GenerationProgress(
+                content.meditationId(),
+                null,
+                0,
+                GenerationStage.TOTAL_STEPS,
+                content.status() == GenerationStatus.COMPLETED ? 100 : 0,
+                content.status(),
+                content.errorMessage(),
+                clock.instant()
+        );
+        if (send(emitter, terminal)) {
+            emitter.complete();
+        }
+    }
+
+    /**
+     * Sends one event; returns false (and drops the stream) if the client is gone.
+     */
+    private boolean send(SseEmitter emitter, GenerationProgress progress) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .data(toEvent(progress), MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Progress stream closed for meditationId={}: {}", progress.meditationId(), e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private GenerationProgressEvent toEvent(GenerationProgress progress) {
+        return new GenerationProgressEvent(
+                progress.meditationId(),
+                progress.stage() != null ? progress.stage().name() : null,
+                progress.step(),
+                progress.totalSteps(),
+                progress.percent(),
+                progress.status().name(),
+                progress.message(),
+                progress.timestamp()
+        );
+    }
+
+    /**
+     * Custom exception for unknown or foreign meditation (404).
+     */
+    private static class ProgressStreamNotFoundException extends RuntimeException {
+        public ProgressStreamNotFoundException(UUID meditationId) {
+            super("Meditation not found: " + meditationId);
+        }
+    }
+
+    /**
+     * Exception handler for ProgressStreamNotFoundException.
+     * Maps to 404 Not Found.
+     */
+    @ExceptionHandler(ProgressStreamNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNotFoundException(ProgressStreamNotFoundException ex) {
+        log.warn("Progress stream not found: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorResponse("MEDITATION_NOT_FOUND", ex.getMessage(), clock.instant(), null));
+    }
+}
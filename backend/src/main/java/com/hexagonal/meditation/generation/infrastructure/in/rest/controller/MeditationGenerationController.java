@@ -1,8 +1,13 @@
 package com.hexagonal.meditation.generation.infrastructure.in.rest.controller;
 
+import com.hexagonal.meditation.generation.domain.enums.GenerationStatus;
+import com.hexagonal.meditation.generation.domain.exception.GenerationCancelledException;
 import com.hexagonal.meditation.generation.domain.exception.GenerationTimeoutException;
+import com.hexagonal.meditation.generation.domain.exception.GenerationUnavailableException;
 import com.hexagonal.meditation.generation.domain.exception.InvalidContentException;
 import com.hexagonal.meditation.generation.domain.model.GeneratedMeditationContent;
+import com.hexagonal.meditation.generation.domain.ports.in.CancelMeditationGenerationUseCase;
+import com.hexagonal.meditation.generation.domain.ports.in.CancelMeditationGenerationUseCase.CancellationResult;
 import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase;
 import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase.GenerationRequest;
 import com.hexagonal.meditation.generation.domain.ports.out.ContentRepositoryPort;
@@ -13,10 +18,13 @@ import com.hexagonal.shared.security.SecurityContextHelper;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.net.URI;
 import java.time.Clock;
 import java.util.UUID;
 
@@ -32,6 +40,7 @@ import java.util.UUID;
  * 
  * OpenAPI: /openapi/generation/generate-meditation.yaml
  * Operation: POST /api/v1/generation/meditations (generateMeditationContent)
+ * Operation: DELETE /api/v1/generation/meditations/{meditationId} (cancelMeditationGeneration)
  * 
  * Architecture: Infrastructure In adapter, delegates to use case.
  * No business logic - only HTTP concerns and DTO mapping.
@@ -47,16 +56,19 @@ public class MeditationGenerationController {
     private static final Logger log = LoggerFactory.getLogger(MeditationGenerationController.class);
 
     private final GenerateMeditationContentUseCase generateMeditationContentUseCase;
+    private final CancelMeditationGenerationUseCase cancelMeditationGenerationUseCase;
     private final ContentRepositoryPort contentRepositoryPort;
     private final MeditationOutputDtoMapper mapper;
     private final Clock clock;
 
     public MeditationGenerationController(
             GenerateMeditationContentUseCase generateMeditationContentUseCase,
+            CancelMeditationGenerationUseCase cancelMeditationGenerationUseCase,
             ContentRepositoryPort contentRepositoryPort,
             MeditationOutputDtoMapper mapper,
             Clock clock) {
         this.generateMeditationContentUseCase = generateMeditationContentUseCase;
+        this.cancelMeditationGenerationUseCase = cancelMeditationGenerationUseCase;
         this.contentRepositoryPort = contentRepositoryPort;
         this.mapper = mapper;
         this.clock = clock;
@@ -67,7 +79,12 @@ public class MeditationGenerationController {
      *
      * @param request       meditation generation request (text, music, optional image)
      * @param compositionId composition ID header (optional; random UUID used as fallback)
-     * @return 200 OK with generation response
+     * The meditation is saved PROCESSING and generated in the background;
+     * its ID identifies the generation for polling (GET), progress events
+     * (GET .../events) and cancellation (DELETE).
+     *
+     * @return 202 Accepted with the PROCESSING meditation and its Location,
+     *         or 200 OK when an identical request already finished
      */
     @PostMapping
     public ResponseEntity<GenerationResponse> generateMeditationContent(
@@ -98,11 +115,19 @@ public class MeditationGenerationController {
         // Map domain response to DTO
         GenerationResponse dtoResponse = toGenerationResponse(domainResponse);
 
-        log.info("Meditation content generated successfully: meditationId={}, status={}", 
+        log.info("Meditation generation accepted: meditationId={}, status={}",
                 dtoResponse.meditationId(), dtoResponse.status());
 
+        URI location = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                .path("/{meditationId}")
+                .buildAndExpand(dtoResponse.meditationId())
+                .toUri();
+        HttpStatus status = domainResponse.status() == GenerationStatus.PROCESSING
+                ? HttpStatus.ACCEPTED : HttpStatus.OK;
+
         return ResponseEntity
-                .status(HttpStatus.OK)
+                .status(status)
+                .location(location)
                 .body(dtoResponse);
     }
 
@@ -128,6 +153,41 @@ public class MeditationGenerationController {
         return ResponseEntity.ok(domainResponse);
         }
 
+    /**
+     * DELETE /api/v1/generation/meditations/{meditationId} - Cancel an in-flight generation.
+     * 
+     * Stops the running pipeline (FFmpeg processes, uploads, workspace) and
+     * marks the meditation as CANCELLED.
+     * 
+     * @param meditationId meditation ID
+     * @return 200 OK with the cancelled meditation status
+     *         404 Not Found if meditation doesn't exist
+     *         409 Conflict if the generation already finished
+     */
+    @DeleteMapping("/{meditationId}")
+    public ResponseEntity<GenerationResponse> cancelMeditationGeneration(
+            @PathVariable UUID meditationId) {
+
+        UUID userId = SecurityContextHelper.getRequiredUserId();
+        log.info("Cancelling meditation generation: meditationId={}, userId={}", meditationId, userId);
+
+        CancellationResult result = cancelMeditationGenerationUseCase.cancel(meditationId, userId);
+        switch (result.outcome()) {
+            case NOT_FOUND:
+                throw new MeditationNotFoundException(meditationId);
+            case ALREADY_FINISHED:
+                throw new GenerationAlreadyFinishedException(meditationId, result.status().name());
+            default:
+                break;
+        }
+
+        var response = contentRepositoryPort.findById(meditationId)
+                .map(this::mapContentToResponse)
+                .orElseThrow(() -> new MeditationNotFoundException(meditationId));
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Maps domain GenerationResponse to DTO GenerationResponse.
      */
@@ -140,7 +200,8 @@ public class MeditationGenerationController {
                 domainResponse.subtitleUrl(),
                 domainResponse.durationSeconds(),
                 domainResponse.status().name(),
-                formatStatusMessage(domainResponse)
+                formatStatusMessage(domainResponse),
+                null
         );
     }
 
@@ -157,6 +218,8 @@ public class MeditationGenerationController {
                                 return "Generation failed";
                         case TIMEOUT:
                                 return "Processing time exceeded";
+                        case CANCELLED:
+                                return "Generation cancelled";
                         default:
                                 return "Unknown status";
                 }
@@ -173,7 +236,8 @@ public class MeditationGenerationController {
                 content.subtitleFile() != null ? content.subtitleFile().url() : null,
                 (int) content.narrationScript().estimateDurationSeconds(),
                 content.status().name(),
-                formatContentStatusMessage(content)
+                formatContentStatusMessage(content),
+                content.previewMedia() != null ? content.previewMedia().url() : null
         );
     }
 
@@ -183,13 +247,17 @@ public class MeditationGenerationController {
     private String formatContentStatusMessage(GeneratedMeditationContent content) {
                 switch (content.status()) {
                         case PROCESSING:
-                                return "Generation in progress";
+                                return content.previewMedia() != null
+                                        ? "Generation in progress, preview available"
+                                        : "Generation in progress";
                         case COMPLETED:
                                 return "Generation completed successfully";
                         case FAILED:
                                 return "Generation failed";
                         case TIMEOUT:
                                 return "Processing time exceeded";
+                        case CANCELLED:
+                                return "Generation cancelled";
                         default:
                                 return "Unknown status";
                 }
@@ -204,6 +272,15 @@ public class MeditationGenerationController {
         }
     }
 
+    /**
+     * Custom exception for cancelling a finished generation (409).
+     */
+    private static class GenerationAlreadyFinishedException extends RuntimeException {
+        public GenerationAlreadyFinishedException(UUID meditationId, String status) {
+            super("Generation already finished: " + meditationId + " (status " + status + ")");
+        }
+    }
+
     /**
      * Exception handler for MeditationNotFoundException.
      * Maps to 404 Not Found.
@@ -225,6 +302,48 @@ public class MeditationGenerationController {
                 .body(errorResponse);
     }
 
+    /**
+     * Exception handler for GenerationAlreadyFinishedException.
+     * Maps to 409 Conflict.
+     */
+    @ExceptionHandler(GenerationAlreadyFinishedException.class)
+    public ResponseEntity<com.hexagonal.meditationbuilder.infrastructure.in.rest.dto.ErrorResponse> handleAlreadyFinishedException(
+            GenerationAlreadyFinishedException ex) {
+        log.warn("Cancellation rejected: {}", ex.getMessage());
+        
+        var errorResponse = new com.hexagonal.meditationbuilder.infrastructure.in.rest.dto.ErrorResponse(
+                "GENERATION_ALREADY_FINISHED",
+                ex.getMessage(),
+                clock.instant(),
+                null
+        );
+        
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(errorResponse);
+    }
+
+    /**
+     * Exception handler for GenerationCancelledException.
+     * Maps to 409 Conflict: the generation was cancelled while this request waited for it.
+     */
+    @ExceptionHandler(GenerationCancelledException.class)
+    public ResponseEntity<com.hexagonal.meditationbuilder.infrastructure.in.rest.dto.ErrorResponse> handleCancelledException(
+            GenerationCancelledException ex) {
+        log.info("Generation cancelled: {}", ex.getMessage());
+        
+        var errorResponse = new com.hexagonal.meditationbuilder.infrastructure.in.rest.dto.ErrorResponse(
+                "GENERATION_CANCELLED",
+                ex.getMessage(),
+                clock.instant(),
+                null
+        );
+        
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(errorResponse);
+    }
+
     /**
      * Exception handler for GenerationTimeoutException.
      * Maps to 408 Request Timeout as per OpenAPI spec.
@@ -267,6 +386,28 @@ public class MeditationGenerationController {
                 .body(errorResponse);
     }
 
+    /**
+     * Exception handler for GenerationUnavailableException (node draining before shutdown).
+     * Maps to 503 Service Unavailable with Retry-After; nothing was started.
+     */
+    @ExceptionHandler(GenerationUnavailableException.class)
+    public ResponseEntity<com.hexagonal.meditationbuilder.infrastructure.in.rest.dto.ErrorResponse> handleUnavailableException(
+            GenerationUnavailableException ex) {
+        log.info("Generation rejected: {}", ex.getMessage());
+        
+        var errorResponse = new com.hexagonal.meditationbuilder.infrastructure.in.rest.dto.ErrorResponse(
+                "GENERATION_UNAVAILABLE",
+                ex.getMessage(),
+                clock.instant(),
+                null
+        );
+        
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(GenerationUnavailableException.RETRY_AFTER_SECONDS))
+                .body(errorResponse);
+    }
+
     /**
      * Exception handler for RuntimeException (external service failures).
      * Maps to 503 Service Unavailable as per OpenAPI spec.
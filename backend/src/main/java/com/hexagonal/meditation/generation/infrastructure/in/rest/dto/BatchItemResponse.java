@@ -0,0 +1,28 @@
+package com.hexagonal.meditation.generation.infrastructure.in.rest.dto;
+
+import java.util.UUID;
+
+/**
+ * Status of one item of a generation batch.
+ * 
+ * Maps to: BatchItemResponse in OpenAPI
+ * 
+ * @param index Position of the item in the submitted list
+ * @param meditationId Meditation ID (null while QUEUED)
+ * @param type Output media type (VIDEO or AUDIO)
+ * @param status Item status (QUEUED/PROCESSING/COMPLETED/FAILED/CANCELLED)
+ * @param percent Item progress percentage (0-100)
+ * @param mediaUrl Presigned S3 URL for video/audio (COMPLETED only)
+ * @param subtitleUrl Presigned S3 URL for subtitles (COMPLETED only)
+ * @param message Error details (FAILED only)
+ */
+public record BatchItemResponse(
+        int index,
+        UUID meditationId,
+        String type,
+        String status,
+        int percent,
+        String mediaUrl,
+        String subtitleUrl,
+        String message
+) {}
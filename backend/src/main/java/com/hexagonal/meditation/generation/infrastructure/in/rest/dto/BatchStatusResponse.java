@@ -0,0 +1,33 @@
+package com.hexagonal.meditation.generation.infrastructure.in.rest.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for a generation batch.
+ * 
+ * Maps to: BatchStatusResponse in OpenAPI
+ * Used in: POST /generation/batches, GET /generation/batches/{batchId}
+ * 
+ * @param batchId Batch ID used for polling
+ * @param status Aggregate status (PROCESSING/COMPLETED/COMPLETED_WITH_ERRORS)
+ * @param percent Aggregate progress percentage (0-100)
+ * @param totalItems Number of items in the batch
+ * @param completedItems Items generated successfully
+ * @param failedItems Items that failed or were cancelled
+ * @param items Per-item status, in submission order
+ * @param createdAt Submission time
+ * @param completedAt Time the last item finished (null while PROCESSING)
+ */
+public record BatchStatusResponse(
+        UUID batchId,
+        String status,
+        int percent,
+        int totalItems,
+        int completedItems,
+        int failedItems,
+        List<BatchItemResponse> items,
+        Instant createdAt,
+        Instant completedAt
+) {}
@@ -0,0 +1,23 @@
+package com.hexagonal.meditation.generation.infrastructure.in.rest.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * Request DTO for generating several meditations in one batch.
+ * 
+ * Maps to: POST /generation/batches
+ * OpenAPI: GenerateMeditationBatchRequest
+ * 
+ * Items sharing the same musicReference and imageReference are prepared once
+ * and rendered on the generation worker pool. The maximum number of items is
+ * configured with generation.batch.max-items.
+ * 
+ * @param items Meditations to generate (same fields as a single generation request)
+ */
+public record GenerateMeditationBatchRequest(
+        @NotEmpty(message = "Batch must contain at least one item")
+        List<@Valid GenerateMeditationRequest> items
+) {}
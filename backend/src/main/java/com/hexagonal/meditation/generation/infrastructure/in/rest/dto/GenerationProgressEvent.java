@@ -0,0 +1,30 @@
+package com.hexagonal.meditation.generation.infrastructure.in.rest.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Payload of a Server-Sent Event describing generation progress.
+ * 
+ * Maps to: GenerationProgressEvent in OpenAPI
+ * Used in: GET /generation/meditations/{meditationId}/events (event name "progress")
+ * 
+ * @param meditationId Meditation being generated
+ * @param stage Current pipeline stage (null once terminal)
+ * @param step 1-based step number of the stage (0 once terminal)
+ * @param totalSteps Total number of pipeline steps
+ * @param percent Overall progress percentage (0-100)
+ * @param status Generation status (PROCESSING/COMPLETED/FAILED/TIMEOUT/CANCELLED)
+ * @param message Optional detail (error message on failure)
+ * @param timestamp When the snapshot was taken
+ */
+public record GenerationProgressEvent(
+        UUID meditationId,
+        String stage,
+        int step,
+        int totalSteps,
+        int percent,
+        String status,
+        String message,
+        Instant timestamp
+) {}
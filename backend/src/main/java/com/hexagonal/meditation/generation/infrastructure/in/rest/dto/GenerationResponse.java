@@ -6,26 +6,29 @@ import java.util.UUID;
  * Response DTO for meditation generation.
  * 
  * Maps to: GenerationResponse in OpenAPI
- * Used in: POST /generation/meditations response
+ * Used in: POST /generation/meditations and GET /generation/meditations/{id} responses
  * 
  * Contains:
  * - Meditation ID and type (VIDEO/AUDIO)
  * - Presigned S3 URLs for media and subtitles
  * - Duration and status information
+ * - Presigned S3 URL of the low-bitrate preview, available while PROCESSING
  * 
  * Status progression:
  * - PROCESSING: Generation in progress (mediaUrl/subtitle may be null)
  * - COMPLETED: Successfully generated and stored in S3
  * - FAILED: Generation failed (TTS/rendering/storage error)
  * - TIMEOUT: Processing time exceeded (>187s)
+ * - CANCELLED: Cancelled by the user (DELETE)
  * 
  * @param meditationId Unique ID of the generated meditation
  * @param type Output media type (VIDEO or AUDIO)
  * @param mediaUrl Presigned S3 URL for video/audio (null if still processing)
  * @param subtitleUrl Presigned S3 URL for subtitle file SRT (null if still processing)
  * @param durationSeconds Total duration in seconds (null if still processing)
- * @param status Generation status (PROCESSING/COMPLETED/FAILED/TIMEOUT)
+ * @param status Generation status (PROCESSING/COMPLETED/FAILED/TIMEOUT/CANCELLED)
  * @param message Status message or error details
+ * @param previewUrl Presigned S3 URL for the audio preview of the opening seconds (null if none was published)
  */
 public record GenerationResponse(
         UUID meditationId,
@@ -34,5 +37,6 @@ public record GenerationResponse(
         String subtitleUrl,
         Integer durationSeconds,
         String status,
-        String message
+        String message,
+        String previewUrl
 ) {}
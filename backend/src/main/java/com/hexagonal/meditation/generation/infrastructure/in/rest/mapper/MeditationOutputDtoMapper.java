@@ -44,7 +44,8 @@ public class MeditationOutputDtoMapper {
                 output.subtitleUrl(),
                 output.durationSeconds(),
                 output.status().name(),
-                formatStatusMessage(output)
+                formatStatusMessage(output),
+                null
         );
     }
 
@@ -60,6 +61,7 @@ public class MeditationOutputDtoMapper {
             case COMPLETED -> "Generation completed successfully";
             case FAILED -> "Generation failed";
             case TIMEOUT -> "Processing time exceeded";
+            case CANCELLED -> "Generation cancelled";
         };
     }
 }
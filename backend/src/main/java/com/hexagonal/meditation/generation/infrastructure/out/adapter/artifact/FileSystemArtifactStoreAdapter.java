@@ -0,0 +1,236 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.artifact;
+
+import com.hexagonal.meditation.generation.domain.enums.PipelineStage;
+import com.hexagonal.meditation.generation.domain.model.StageKey;
+import com.hexagonal.meditation.generation.domain.ports.out.ArtifactStorePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Bounded on-disk artifact store with least-recently-used eviction.
+ *
+ * Artifacts live flat in one directory as {@code <STAGE>-<inputHash><ext>}.
+ * The index is rebuilt from the directory on startup (oldest modification
+ * first), so artifacts survive restarts. Restores hard-link into the
+ * workspace when possible (copy otherwise), so an artifact evicted while a
+ * render reads it stays intact for that render.
+ *
+ * Metrics:
+ * - generation.artifacts.lookups (counter, tags stage and result=hit|miss)
+ * - generation.artifacts.bytes (gauge)
+ */
+public class FileSystemArtifactStoreAdapter implements ArtifactStorePort {
+
+    private static final Logger log = LoggerFactory.getLogger(FileSystemArtifactStoreAdapter.class);
+
+    private static final Pattern FILE_NAME = Pattern.compile("([A-Z_]+)-([0-9a-f]{64})(\\.[A-Za-z0-9]+)?");
+
+    private final Path root;
+    private final long maxBytes;
+    private final MeterRegistry meterRegistry;
+
+    /** Access-ordered index, least recently used first. Guarded by {@code this}. */
+    private final LinkedHashMap<StageKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    /**
+     * @param root directory holding the artifacts (created if missing)
+     * @param maxBytes upper bound on the total artifact size
+     * @param meterRegistry registry for hit/miss and size metrics
+     */
+    public FileSystemArtifactStoreAdapter(Path root, long maxBytes, MeterRegistry meterRegistry) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Max bytes must be positive");
+        }
+        this.root = root;
+        this.maxBytes = maxBytes;
+        this.meterRegistry = meterRegistry;
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot create artifact directory " + root, e);
+        }
+        loadIndex();
+        Gauge.builder("generation.artifacts.bytes", this, FileSystemArtifactStoreAdapter::totalBytes)
+                .description("Total size of stored pipeline artifacts")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        log.info("Artifact store ready: dir={}, artifacts={}, bytes={}, maxBytes={}",
+                root, entries.size(), totalBytes, maxBytes);
+    }
+
+    @Override
+    public Optional<Path> restore(StageKey key, Path workDir) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry == null) {
+            countLookup(key.stage(), false);
+            return Optional.empty();
+        }
+        Path target = workDir.resolve(entry.path().getFileName());
+        try {
+            Files.deleteIfExists(target);
+            linkOrCopy(entry.path(), target);
+            countLookup(key.stage(), true);
+            return Optional.of(target);
+        } catch (NoSuchFileException e) {
+            // Evicted between lookup and link, or removed from disk
+            forget(key, entry);
+        } catch (IOException e) {
+            log.warn("Cannot restore {} artifact {}: {}", key.stage(), key.inputHash(), e.getMessage());
+        }
+        countLookup(key.stage(), false);
+        return Optional.empty();
+    }
+
+    @Override
+    public void store(StageKey key, Path artifact) {
+        try {
+            long size = Files.size(artifact);
+            if (size > maxBytes) {
+                log.debug("Artifact too large to keep: stage={}, bytes={}", key.stage(), size);
+                return;
+            }
+            synchronized (this) {
+                if (entries.containsKey(key)) {
+                    return;
+                }
+            }
+            Path target = root.resolve(fileName(key, artifact));
+            Path partial = root.resolve(target.getFileName() + ".partial-" + UUID.randomUUID());
+            // Copy, never link: the source stays writable in its workspace
+            Files.copy(artifact, partial);
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            synchronized (this) {
+                Entry previous = entries.put(key, new Entry(target, size));
+                totalBytes += size - (previous != null ? previous.size() : 0);
+                evictOverflow();
+            }
+        } catch (IOException e) {
+            log.warn("Cannot store {} artifact {}: {}", key.stage(), key.inputHash(), e.getMessage());
+        }
+    }
+
+    synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<StageKey, Entry>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<StageKey, Entry> evicted = eldest.next();
+            eldest.remove();
+            totalBytes -= evicted.getValue().size();
+            try {
+                Files.deleteIfExists(evicted.getValue().path());
+            } catch (IOException e) {
+                log.warn("Cannot delete evicted artifact {}: {}", evicted.getValue().path(), e.getMessage());
+            }
+            log.debug("Evicted {} artifact {}", evicted.getKey().stage(), evicted.getKey().inputHash());
+        }
+    }
+
+    private synchronized void forget(StageKey key, Entry entry) {
+        if (entries.remove(key, entry)) {
+            totalBytes -= entry.size();
+        }
+    }
+
+    private void loadIndex() {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(root)) {
+            files = listing.filter(Files::isRegularFile).toList();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read artifact directory " + root, e);
+        }
+        files.stream()
+            .sorted(Comparator.comparingLong(FileSystemArtifactStoreAdapter::lastModified))
+            .forEach(this::index);
+        synchronized (this) {
+            evictOverflow();
+        }
+    }
+
+    private void index(Path file) {
+        Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+        try {
+            if (!matcher.matches()) {
+                // Leftover of an interrupted store
+                Files.deleteIfExists(file);
+                return;
+            }
+            StageKey key = new StageKey(PipelineStage.valueOf(matcher.group(1)), matcher.group(2));
+            long size = Files.size(file);
+            synchronized (this) {
+                entries.put(key, new Entry(file, size));
+                totalBytes += size;
+            }
+        } catch (IllegalArgumentException | IOException e) {
+            log.warn("Ignoring unreadable artifact {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void countLookup(PipelineStage stage, boolean hit) {
+        Counter.builder("generation.artifacts.lookups")
+                .description("Artifact store lookups per pipeline stage")
+                .tag("stage", stage.name())
+                .tag("result", hit ? "hit" : "miss")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String fileName(StageKey key, Path artifact) {
+        String name = artifact.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String extension = dot > 0 && name.substring(dot).matches("\\.[A-Za-z0-9]+") ? name.substring(dot) : "";
+        return key.stage() + "-" + key.inputHash() + extension;
+    }
+
+    private static void linkOrCopy(Path source, Path target) throws IOException {
+        try {
+            Files.createLink(target, source);
+        } catch (NoSuchFileException e) {
+            throw e;
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            // Different file store or no hard link support
+            Files.copy(source, target);
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private record Entry(Path path, long size) {
+    }
+}
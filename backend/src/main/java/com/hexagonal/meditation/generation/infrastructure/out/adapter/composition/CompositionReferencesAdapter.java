@@ -0,0 +1,39 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.composition;
+
+import com.hexagonal.meditation.generation.domain.ports.out.CompositionReferencesPort;
+import com.hexagonal.meditationbuilder.domain.model.MeditationComposition;
+import com.hexagonal.meditationbuilder.domain.ports.out.CompositionRepositoryPort;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Media references read from the Composition BC repository.
+ * 
+ * A composition references its uploads (music, image) before any meditation
+ * is generated from it, so these references keep the uploads from being
+ * collected while the user is still composing.
+ */
+public class CompositionReferencesAdapter implements CompositionReferencesPort {
+
+    private final CompositionRepositoryPort compositionRepositoryPort;
+
+    /**
+     * @param compositionRepositoryPort Composition BC repository
+     */
+    public CompositionReferencesAdapter(CompositionRepositoryPort compositionRepositoryPort) {
+        this.compositionRepositoryPort = Objects.requireNonNull(
+                compositionRepositoryPort, "compositionRepositoryPort is required");
+    }
+
+    @Override
+    public Set<String> findReferencedMedia() {
+        Set<String> references = new HashSet<>();
+        for (MeditationComposition composition : compositionRepositoryPort.findAll()) {
+            composition.musicReferenceOpt().ifPresent(music -> references.add(music.value()));
+            composition.imageReferenceOpt().ifPresent(image -> references.add(image.value()));
+        }
+        return references;
+    }
+}
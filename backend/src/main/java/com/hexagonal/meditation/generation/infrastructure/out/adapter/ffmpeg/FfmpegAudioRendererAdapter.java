@@ -1,7 +1,12 @@
 package com.hexagonal.meditation.generation.infrastructure.out.adapter.ffmpeg;
 
+import com.hexagonal.meditation.generation.domain.model.CancellationToken;
 import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort;
 import com.hexagonal.meditation.generation.infrastructure.config.FfmpegConfig;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm.PcmFormat;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm.PcmMixer;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm.WavFile;
+import com.hexagonal.meditation.generation.infrastructure.out.service.process.CancellableProcesses;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -13,17 +18,33 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * FFmpeg-based audio renderer for meditation content.
  * Mixes narration and background music at 48kHz stereo.
  * Applies loudnorm filter for consistent volume levels.
+ * 
+ * When narration and music are both WAV at the output sample rate, they are
+ * mixed in the JVM ({@link PcmMixer}) and FFmpeg only encodes the mixed WAV.
+ * 
+ * The output is encoded with the configured {@link AudioProfile}: MP3 at the
+ * encoder default, AAC-LC in MP4 with the index moved to the front, or Opus
+ * (WebM/Ogg, always 48kHz) in its general audio mode, which keeps the bed
+ * cleaner than the speech mode.
  */
 @Component
 public class FfmpegAudioRendererAdapter implements AudioRenderingPort {
     
     private static final Logger logger = LoggerFactory.getLogger(FfmpegAudioRendererAdapter.class);
     
+    /** Previews are for a quick listen, not for keeping */
+    private static final String PREVIEW_BITRATE = "48k";
+    
+    /** amix halves each input: music at volume=0.5 ends at 0.25, narration at 0.5 */
+    private static final double MUSIC_GAIN_DB = 20 * Math.log10(0.25);
+    private static final double NARRATION_GAIN_DB = 20 * Math.log10(0.5);
+    
     private final FfmpegConfig ffmpegConfig;
     
     public FfmpegAudioRendererAdapter(FfmpegConfig ffmpegConfig) {
@@ -51,18 +72,28 @@ public class FfmpegAudioRendererAdapter implements AudioRenderingPort {
             logger.warn("Music audio path is NULL - rendering narration only");
         }
         
+        Path mixedPcm = null;
         try {
             // Ensure input files exist before calling ffmpeg
             if (!Files.exists(request.narrationAudioPath())) {
                 throw new IOException("Narration file does not exist: " + request.narrationAudioPath());
             }
 
+            mixedPcm = mixInJvm(request);
+
             // Build command
             List<String> command = new ArrayList<>();
             command.add(ffmpegConfig.getPath());
             command.add("-y"); // Overwrite output
+            command.add("-nostats");
+            command.add("-progress"); // Machine-readable progress on stdout
+            command.add("pipe:1");
             
-            if (request.musicAudioPath() != null && Files.exists(request.musicAudioPath())) {
+            if (mixedPcm != null) {
+                // Already mixed: encode only
+                command.add("-i");
+                command.add(mixedPcm.toAbsolutePath().toString());
+            } else if (request.musicAudioPath() != null && Files.exists(request.musicAudioPath())) {
                 // Music first (input 0) so it determines duration
                 command.add("-i");
                 command.add(request.musicAudioPath().toAbsolutePath().toString());
@@ -80,35 +111,18 @@ public class FfmpegAudioRendererAdapter implements AudioRenderingPort {
                 command.add(request.narrationAudioPath().toAbsolutePath().toString());
             }
             
-            command.add("-ar");
-            command.add(String.valueOf(request.config().sampleRate()));
-            command.add("-ac");
-            command.add(String.valueOf(request.config().channels()));
+            addEncoding(command, request.config());
             command.add(request.outputPath().toAbsolutePath().toString());
 
             String fullCommand = String.join(" ", command);
             logger.info("Executing FFmpeg command: {}", fullCommand);
             
-            ProcessBuilder pb = new ProcessBuilder(command);
-            pb.redirectErrorStream(true);
-            Process process = pb.start();
-            
-            // Read output to avoid blocking
+            FfmpegProgressParser progressParser = new FfmpegProgressParser(
+                request.expectedDurationSeconds(), request.progressListener());
             StringBuilder output = new StringBuilder();
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    output.append(line).append("\n");
-                    // Log FFmpeg output at INFO level to see warnings
-                    if (line.contains("Error") || line.contains("error") || line.contains("Warning") || line.contains("warning")) {
-                        logger.warn("FFmpeg: {}", line);
-                    } else {
-                        logger.debug("FFmpeg: {}", line);
-                    }
-                }
-            }
-            
-            int exitCode = process.waitFor();
+            int exitCode = runFfmpeg(command, progressParser, output);
+            // A killed process must not fall back to copy mode
+            CancellationToken.current().throwIfCancelled();
             
             if (exitCode == 0) {
                 logger.info("Audio rendering completed via FFmpeg: {}", request.outputPath());
@@ -139,6 +153,8 @@ public class FfmpegAudioRendererAdapter implements AudioRenderingPort {
             } else {
                 logger.warn("Falling back to copy mode for development");
             }
+        } finally {
+            deleteQuietly(mixedPcm);
         }
 
         // FALLBACK: If FFmpeg is missing or fails AND fallback is enabled
@@ -154,4 +170,167 @@ public class FfmpegAudioRendererAdapter implements AudioRenderingPort {
             throw new RuntimeException("Audio rendering failed (both FFmpeg and Fallback)", e);
         }
     }
+
+    /**
+     * Mix narration over music in the JVM when both are WAV at the output sample rate.
+     * 
+     * @return mixed WAV next to the output (deleted by the caller), or null to let FFmpeg mix
+     */
+    public Path mixInJvm(AudioRenderRequest request) {
+        if (!ffmpegConfig.getPcmMix().isEnabled()
+                || !WavFile.isWav(request.narrationAudioPath())
+                || !WavFile.isWav(request.musicAudioPath())) {
+            return null;
+        }
+        AudioConfig config = request.config();
+        Path mixed = request.outputPath().resolveSibling(request.outputPath().getFileName() + ".mix.wav");
+        try {
+            WavFile music = WavFile.map(request.musicAudioPath());
+            WavFile narration = WavFile.map(request.narrationAudioPath());
+            if (music.format().sampleRate() != config.sampleRate()
+                    || narration.format().sampleRate() != config.sampleRate()) {
+                logger.debug("PCM mix skipped: inputs at {}/{} Hz, output at {} Hz",
+                    music.format().sampleRate(), narration.format().sampleRate(), config.sampleRate());
+                return null;
+            }
+            long started = System.nanoTime();
+            long frames = new PcmMixer().mix(music, narration, mixed,
+                new PcmFormat(config.sampleRate(), config.channels(), PcmFormat.SampleEncoding.PCM_16),
+                new PcmMixer.MixSettings(
+                    MUSIC_GAIN_DB,
+                    NARRATION_GAIN_DB,
+                    ffmpegConfig.getPcmMix().getFadeInSeconds(),
+                    ffmpegConfig.getPcmMix().getFadeOutSeconds()));
+            logger.info("PCM mix completed: {} frames in {} ms", frames, (System.nanoTime() - started) / 1_000_000);
+            return mixed;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("PCM mix failed, mixing with FFmpeg: {}", e.getMessage());
+            deleteQuietly(mixed);
+            return null;
+        }
+    }
+    
+    /**
+     * Sample rate, channels, codec, bitrate and container flags of the profile.
+     */
+    static void addEncoding(List<String> command, AudioConfig config) {
+        AudioProfile profile = config.profile();
+        command.add("-ar");
+        // libopus only encodes 48kHz and its divisors
+        command.add(String.valueOf(profile.isOpus() ? 48000 : config.sampleRate()));
+        command.add("-ac");
+        command.add(String.valueOf(config.channels()));
+        if (profile == AudioProfile.MP3) {
+            return;
+        }
+        command.add("-c:a");
+        command.add(profile.isOpus() ? "libopus" : "aac");
+        command.add("-b:a");
+        command.add(profile.bitrateKbps(config.channels()) + "k");
+        if (profile.isOpus()) {
+            command.add("-application");
+            command.add("audio");
+        } else {
+            command.add("-movflags");
+            command.add("+faststart");
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Could not delete {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * Preview: both inputs cut to the preview length, mixed like the full render
+     * and encoded at a low bitrate. No copy fallback, the caller skips the preview on failure.
+     */
+    @Override
+    public Path renderPreview(AudioRenderRequest request, double previewSeconds) {
+        if (previewSeconds <= 0) {
+            throw new IllegalArgumentException("Preview duration must be positive");
+        }
+        String duration = String.format(Locale.ROOT, "%.3f", previewSeconds);
+        
+        List<String> command = new ArrayList<>();
+        command.add(ffmpegConfig.getPath());
+        command.add("-y");
+        command.add("-nostats");
+        command.add("-progress");
+        command.add("pipe:1");
+        command.add("-t");
+        command.add(duration);
+        command.add("-i");
+        command.add(request.musicAudioPath().toAbsolutePath().toString());
+        command.add("-t");
+        command.add(duration);
+        command.add("-i");
+        command.add(request.narrationAudioPath().toAbsolutePath().toString());
+        command.add("-filter_complex");
+        // Same mix as the full render; duration=first keeps the bed playing under a shorter narration
+        command.add("[0:a]volume=0.5[music];[1:a]volume=1.0[speech];[music][speech]amix=inputs=2:duration=first:dropout_transition=0[aout]");
+        command.add("-map");
+        command.add("[aout]");
+        command.add("-ar");
+        command.add(String.valueOf(request.config().sampleRate()));
+        command.add("-ac");
+        command.add(String.valueOf(request.config().channels()));
+        command.add("-b:a");
+        command.add(PREVIEW_BITRATE);
+        command.add(request.outputPath().toAbsolutePath().toString());
+        logger.info("Rendering {}s preview: {}", duration, String.join(" ", command));
+        
+        try {
+            StringBuilder output = new StringBuilder();
+            int exitCode = runFfmpeg(command,
+                new FfmpegProgressParser(previewSeconds, request.progressListener()), output);
+            CancellationToken.current().throwIfCancelled();
+            if (exitCode != 0) {
+                logger.error("FFmpeg preview failed with exit code {}. Output:\n{}", exitCode, output);
+                throw new RuntimeException("Preview rendering failed: FFmpeg exit code " + exitCode);
+            }
+            return request.outputPath();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Preview rendering interrupted", e);
+        } catch (IOException e) {
+            throw new RuntimeException("Preview rendering failed: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Run FFmpeg to completion, feeding its output to the progress parser.
+     * The process is killed if the current generation is cancelled.
+     * 
+     * @return process exit code
+     */
+    private int runFfmpeg(List<String> command, FfmpegProgressParser progressParser, StringBuilder output)
+            throws IOException, InterruptedException {
+        ProcessBuilder pb = new ProcessBuilder(command);
+        pb.redirectErrorStream(true);
+        Process process = pb.start();
+        
+        // Read output to avoid blocking; progress keys are interleaved with the log
+        try (CancellationToken.Registration cancellation = CancellableProcesses.register(process);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                progressParser.accept(line);
+                output.append(line).append("\n");
+                // Log FFmpeg output at INFO level to see warnings
+                if (line.contains("Error") || line.contains("error") || line.contains("Warning") || line.contains("warning")) {
+                    logger.warn("FFmpeg: {}", line);
+                } else {
+                    logger.debug("FFmpeg: {}", line);
+                }
+            }
+        }
+        return process.waitFor();
+    }
 }
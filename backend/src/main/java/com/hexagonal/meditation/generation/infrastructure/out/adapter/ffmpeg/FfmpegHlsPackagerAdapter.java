@@ -0,0 +1,233 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.ffmpeg;
+
+import com.hexagonal.meditation.generation.domain.enums.MediaType;
+import com.hexagonal.meditation.generation.domain.model.CancellationToken;
+import com.hexagonal.meditation.generation.domain.ports.out.StreamPackagingPort;
+import com.hexagonal.meditation.generation.domain.ports.out.StreamPackagingPort.Variant;
+import com.hexagonal.meditation.generation.infrastructure.out.service.process.CancellableProcesses;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * FFmpeg-based HLS packager.
+ *
+ * Cuts a rendered output into a VOD presentation of fMP4 segments:
+ * init.mp4, seg-NNNNN.m4s, the media playlist index.m3u8 and the master
+ * playlist master.m3u8 (the entry point). Video is stream-copied (H.264/AAC,
+ * cut at keyframes); AAC audio (.m4a) is stream-copied too, MP3 and Opus audio
+ * are re-encoded to AAC, which every HLS player decodes from fMP4.
+ *
+ * Video renditions rendered with the output become extra variant streams of
+ * the same master playlist (stream copy, no decode): the output is variant
+ * "main", every file of a variant carries its name (init-main.mp4,
+ * seg-480p-00000.m4s, index-audio.m3u8, ...).
+ */
+public class FfmpegHlsPackagerAdapter implements StreamPackagingPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(FfmpegHlsPackagerAdapter.class);
+
+    static final String MASTER_PLAYLIST = "master.m3u8";
+    static final String MEDIA_PLAYLIST = "index.m3u8";
+    static final String INIT_SEGMENT = "init.mp4";
+    static final String SEGMENT_PATTERN = "seg-%05d.m4s";
+    static final String MAIN_VARIANT = "main";
+
+    private static final String AUDIO_BITRATE = "128k";
+
+    private final String ffmpegPath;
+    private final double segmentSeconds;
+
+    /**
+     * @param ffmpegPath FFmpeg executable
+     * @param segmentSeconds target segment duration (video segments end at the next keyframe)
+     */
+    public FfmpegHlsPackagerAdapter(String ffmpegPath, double segmentSeconds) {
+        if (segmentSeconds <= 0) {
+            throw new IllegalArgumentException("Segment duration must be positive");
+        }
+        this.ffmpegPath = ffmpegPath;
+        this.segmentSeconds = segmentSeconds;
+    }
+
+    @Override
+    public Optional<HlsPackage> packageHls(PackagingRequest request) {
+        logger.info("Packaging HLS: media={}, type={}, output={}",
+            request.mediaPath(), request.mediaType(), request.outputDirectory());
+        try {
+            Files.createDirectories(request.outputDirectory());
+            List<String> command = command(request);
+            logger.debug("Executing FFmpeg command: {}", String.join(" ", command));
+
+            StringBuilder output = new StringBuilder();
+            int exitCode = run(command, output);
+            CancellationToken.current().throwIfCancelled();
+            if (exitCode != 0) {
+                logger.error("FFmpeg HLS packaging failed with exit code {}. Output:\n{}", exitCode, output);
+                throw new RuntimeException("HLS packaging failed: FFmpeg exit code " + exitCode);
+            }
+
+            HlsPackage hls = new HlsPackage(request.outputDirectory(),
+                packageFiles(request.outputDirectory()), Path.of(MASTER_PLAYLIST));
+            logger.info("HLS package ready: {} files in {}", hls.files().size(), hls.directory());
+            return Optional.of(hls);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("HLS packaging interrupted", e);
+        } catch (IOException e) {
+            throw new RuntimeException("HLS packaging failed: " + e.getMessage(), e);
+        }
+    }
+
+    List<String> command(PackagingRequest request) {
+        Path directory = request.outputDirectory().toAbsolutePath();
+        List<String> command = new ArrayList<>();
+        command.add(ffmpegPath);
+        command.add("-y");
+        command.add("-nostats");
+        command.add("-i");
+        command.add(request.mediaPath().toAbsolutePath().toString());
+        boolean ladder = request.mediaType() == MediaType.VIDEO && !request.variants().isEmpty();
+        if (ladder) {
+            addVariantStreams(command, request.variants());
+        } else if (request.mediaType() == MediaType.VIDEO) {
+            command.add("-map");
+            command.add("0:v");
+            command.add("-map");
+            command.add("0:a");
+            command.add("-c");
+            command.add("copy");
+        } else if (isAac(request.mediaPath())) {
+            command.add("-map");
+            command.add("0:a");
+            command.add("-c");
+            command.add("copy");
+        } else {
+            command.add("-map");
+            command.add("0:a");
+            command.add("-c:a");
+            command.add("aac");
+            command.add("-b:a");
+            command.add(AUDIO_BITRATE);
+        }
+        command.add("-f");
+        command.add("hls");
+        command.add("-hls_time");
+        command.add(String.format(Locale.ROOT, "%.3f", segmentSeconds));
+        command.add("-hls_playlist_type");
+        command.add("vod");
+        command.add("-hls_segment_type");
+        command.add("fmp4");
+        command.add("-hls_flags");
+        command.add("independent_segments");
+        command.add("-hls_fmp4_init_filename");
+        command.add(ladder ? perVariant(INIT_SEGMENT) : INIT_SEGMENT);
+        command.add("-hls_segment_filename");
+        command.add(directory.resolve(ladder ? perVariant(SEGMENT_PATTERN) : SEGMENT_PATTERN).toString());
+        command.add("-master_pl_name");
+        command.add(MASTER_PLAYLIST);
+        command.add(directory.resolve(ladder ? perVariant(MEDIA_PLAYLIST) : MEDIA_PLAYLIST).toString());
+        return command;
+    }
+
+    /**
+     * Inputs, maps and variant stream map of a multi-variant presentation:
+     * the output (input 0) then every rendition, each with its own audio.
+     */
+    private static void addVariantStreams(List<String> command, List<Variant> variants) {
+        for (Variant variant : variants) {
+            command.add("-i");
+            command.add(variant.mediaPath().toAbsolutePath().toString());
+        }
+        StringBuilder streamMap = new StringBuilder("v:0,a:0,name:" + MAIN_VARIANT);
+        addMap(command, 0, false);
+        int video = 1;
+        int audio = 1;
+        for (int i = 0; i < variants.size(); i++) {
+            Variant variant = variants.get(i);
+            addMap(command, i + 1, variant.audioOnly());
+            streamMap.append(' ');
+            if (!variant.audioOnly()) {
+                streamMap.append("v:").append(video++).append(',');
+            }
+            streamMap.append("a:").append(audio++).append(",name:").append(variant.name());
+        }
+        command.add("-c");
+        command.add("copy");
+        command.add("-var_stream_map");
+        command.add(streamMap.toString());
+    }
+
+    private static boolean isAac(Path mediaPath) {
+        return mediaPath.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".m4a");
+    }
+
+    private static void addMap(List<String> command, int input, boolean audioOnly) {
+        if (!audioOnly) {
+            command.add("-map");
+            command.add(input + ":v");
+        }
+        command.add("-map");
+        command.add(input + ":a");
+    }
+
+    /**
+     * Insert the variant name before the extension or sequence number: index.m3u8 → index-%v.m3u8.
+     */
+    private static String perVariant(String fileName) {
+        int split = fileName.indexOf('-') >= 0 ? fileName.indexOf('-') : fileName.lastIndexOf('.');
+        return fileName.substring(0, split) + "-%v" + fileName.substring(split);
+    }
+
+    /**
+     * Files of the presentation in upload order: init and media segments,
+     * then media playlists, then the master playlist.
+     */
+    static List<Path> packageFiles(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(Files::isRegularFile)
+                .map(directory::relativize)
+                .sorted(Comparator.comparingInt(FfmpegHlsPackagerAdapter::uploadRank)
+                    .thenComparing(Path::toString))
+                .toList();
+        }
+        if (files.isEmpty() || !files.get(files.size() - 1).equals(Path.of(MASTER_PLAYLIST))) {
+            throw new IOException("FFmpeg wrote no master playlist in " + directory);
+        }
+        return files;
+    }
+
+    private static int uploadRank(Path file) {
+        String name = file.getFileName().toString();
+        if (name.equals(MASTER_PLAYLIST)) {
+            return 2;
+        }
+        return name.endsWith(".m3u8") ? 1 : 0;
+    }
+
+    private int run(List<String> command, StringBuilder output) throws IOException, InterruptedException {
+        ProcessBuilder pb = new ProcessBuilder(command);
+        pb.redirectErrorStream(true);
+        Process process = pb.start();
+        try (CancellationToken.Registration cancellation = CancellableProcesses.register(process);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.append(line).append("\n");
+            }
+        }
+        return process.waitFor();
+    }
+}
@@ -0,0 +1,177 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.ffmpeg;
+
+import com.hexagonal.meditation.generation.domain.model.CancellationToken;
+import com.hexagonal.meditation.generation.domain.ports.out.PlaybackAssetsPort;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm.WaveformPeaks;
+import com.hexagonal.meditation.generation.infrastructure.out.service.process.CancellableProcesses;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * FFmpeg-based playback assets.
+ *
+ * Waveform: FFmpeg decodes the output to mono 16-bit PCM at a low sample
+ * rate on stdout, and the JVM folds it into min/max peaks as it streams
+ * ({@link WaveformPeaks}); nothing but the peaks is kept.
+ *
+ * Poster: one frame of the video, scaled to the poster width and encoded as
+ * JPEG. Taken a little into the video rather than at 0, where subtitles
+ * have not started and encoders may still be settling.
+ */
+public class FfmpegPlaybackAssetsAdapter implements PlaybackAssetsPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(FfmpegPlaybackAssetsAdapter.class);
+
+    /** Plenty for peaks of 10 ms and more, and cheap to decode to */
+    static final int PEAKS_SAMPLE_RATE = 8000;
+    /** Latest poster position, and fraction of shorter videos */
+    private static final double POSTER_MAX_SECONDS = 5.0;
+    private static final double POSTER_FRACTION = 0.1;
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final String ffmpegPath;
+    private final int windowMillis;
+    private final int posterWidth;
+
+    /**
+     * @param ffmpegPath FFmpeg executable
+     * @param windowMillis duration covered by one waveform peak
+     * @param posterWidth poster width in pixels (height keeps the aspect ratio)
+     */
+    public FfmpegPlaybackAssetsAdapter(String ffmpegPath, int windowMillis, int posterWidth) {
+        if (windowMillis <= 0) {
+            throw new IllegalArgumentException("Waveform window must be positive");
+        }
+        if (posterWidth <= 0) {
+            throw new IllegalArgumentException("Poster width must be positive");
+        }
+        this.ffmpegPath = ffmpegPath;
+        this.windowMillis = windowMillis;
+        this.posterWidth = posterWidth;
+    }
+
+    @Override
+    public Optional<Path> computeWaveform(WaveformRequest request) {
+        List<String> command = waveformCommand(request.mediaPath());
+        logger.debug("Executing FFmpeg command: {}", String.join(" ", command));
+        WaveformPeaks peaks = new WaveformPeaks(PEAKS_SAMPLE_RATE, windowMillis);
+        try {
+            ProcessBuilder pb = new ProcessBuilder(command);
+            // -v error keeps stderr small; only the exit code matters
+            pb.redirectError(ProcessBuilder.Redirect.DISCARD);
+            Process process = pb.start();
+            try (CancellationToken.Registration cancellation = CancellableProcesses.register(process);
+                 InputStream pcm = process.getInputStream()) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = pcm.read(buffer)) != -1) {
+                    peaks.accept(buffer, read);
+                }
+            }
+            int exitCode = process.waitFor();
+            CancellationToken.current().throwIfCancelled();
+            if (exitCode != 0 || peaks.length() == 0) {
+                throw new RuntimeException("Waveform decoding failed: FFmpeg exit code " + exitCode);
+            }
+            peaks.writeJson(request.outputPath());
+            logger.info("Waveform computed: {} peaks of {} ms for {}", peaks.length(), windowMillis, request.mediaPath());
+            return Optional.of(request.outputPath());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Waveform decoding interrupted", e);
+        } catch (IOException e) {
+            throw new RuntimeException("Waveform computation failed: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Optional<Path> extractPoster(PosterRequest request) {
+        List<String> command = posterCommand(request);
+        logger.debug("Executing FFmpeg command: {}", String.join(" ", command));
+        try {
+            StringBuilder output = new StringBuilder();
+            int exitCode = run(command, output);
+            CancellationToken.current().throwIfCancelled();
+            if (exitCode != 0 || !Files.exists(request.outputPath())) {
+                logger.error("FFmpeg poster extraction failed with exit code {}. Output:\n{}", exitCode, output);
+                throw new RuntimeException("Poster extraction failed: FFmpeg exit code " + exitCode);
+            }
+            logger.info("Poster extracted: {}", request.outputPath());
+            return Optional.of(request.outputPath());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Poster extraction interrupted", e);
+        } catch (IOException e) {
+            throw new RuntimeException("Poster extraction failed: " + e.getMessage(), e);
+        }
+    }
+
+    List<String> waveformCommand(Path mediaPath) {
+        List<String> command = new ArrayList<>();
+        command.add(ffmpegPath);
+        command.add("-v");
+        command.add("error");
+        command.add("-nostdin");
+        command.add("-i");
+        command.add(mediaPath.toAbsolutePath().toString());
+        command.add("-map");
+        command.add("0:a:0");
+        command.add("-ac");
+        command.add("1");
+        command.add("-ar");
+        command.add(String.valueOf(PEAKS_SAMPLE_RATE));
+        command.add("-f");
+        command.add("s16le");
+        command.add("pipe:1");
+        return command;
+    }
+
+    List<String> posterCommand(PosterRequest request) {
+        List<String> command = new ArrayList<>();
+        command.add(ffmpegPath);
+        command.add("-y");
+        command.add("-nostats");
+        // Input seek: jumps to the nearest keyframe before the position, then decodes up to it
+        command.add("-ss");
+        command.add(String.format(Locale.ROOT, "%.3f", posterSeconds(request.durationSeconds())));
+        command.add("-i");
+        command.add(request.videoPath().toAbsolutePath().toString());
+        command.add("-frames:v");
+        command.add("1");
+        command.add("-vf");
+        command.add("scale=" + posterWidth + ":-2");
+        command.add("-q:v");
+        command.add("3");
+        command.add(request.outputPath().toAbsolutePath().toString());
+        return command;
+    }
+
+    static double posterSeconds(double durationSeconds) {
+        return durationSeconds > 0 ? Math.min(POSTER_MAX_SECONDS, durationSeconds * POSTER_FRACTION) : 0;
+    }
+
+    private int run(List<String> command, StringBuilder output) throws IOException, InterruptedException {
+        ProcessBuilder pb = new ProcessBuilder(command);
+        pb.redirectErrorStream(true);
+        Process process = pb.start();
+        try (CancellationToken.Registration cancellation = CancellableProcesses.register(process);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.append(line).append("\n");
+            }
+        }
+        return process.waitFor();
+    }
+}
@@ -0,0 +1,81 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.ffmpeg;
+
+import com.hexagonal.meditation.generation.domain.ports.out.RenderProgressListener;
+
+/**
+ * Parses the key=value stream written by {@code ffmpeg -progress pipe:1}.
+ * Converts {@code out_time_us} into a completed fraction of the expected output
+ * duration and forwards it to a {@link RenderProgressListener}, at most once per percent.
+ * 
+ * Lines that are not progress keys (regular FFmpeg log output interleaved on the
+ * same stream) are ignored, so the parser can be fed every line read from the process.
+ */
+class FfmpegProgressParser {
+
+    private static final String OUT_TIME_US = "out_time_us=";
+    // Despite its name, FFmpeg reports out_time_ms in microseconds as well
+    private static final String OUT_TIME_MS = "out_time_ms=";
+    private static final String PROGRESS_END = "progress=end";
+    private static final double MIN_REPORT_STEP = 0.01;
+
+    private final double expectedDurationSeconds;
+    private final RenderProgressListener listener;
+    private double lastReported = -1.0;
+
+    FfmpegProgressParser(double expectedDurationSeconds, RenderProgressListener listener) {
+        this.expectedDurationSeconds = expectedDurationSeconds;
+        this.listener = listener != null ? listener : RenderProgressListener.NONE;
+    }
+
+    /**
+     * Feed one line of FFmpeg output.
+     * 
+     * @param line raw output line
+     */
+    void accept(String line) {
+        if (line == null) {
+            return;
+        }
+        String trimmed = line.trim();
+
+        if (trimmed.equals(PROGRESS_END)) {
+            report(1.0);
+            return;
+        }
+        if (expectedDurationSeconds <= 0) {
+            return;
+        }
+
+        String value = null;
+        if (trimmed.startsWith(OUT_TIME_US)) {
+            value = trimmed.substring(OUT_TIME_US.length());
+        } else if (trimmed.startsWith(OUT_TIME_MS)) {
+            value = trimmed.substring(OUT_TIME_MS.length());
+        }
+        if (value == null) {
+            return;
+        }
+
+        try {
+            long micros = Long.parseLong(value);
+            if (micros < 0) {
+                return; // FFmpeg emits negative/N/A values before the first frame
+            }
+            double seconds = micros / 1_000_000.0;
+            report(Math.min(1.0, seconds / expectedDurationSeconds));
+        } catch (NumberFormatException e) {
+            // "N/A" before the first packet is written
+        }
+    }
+
+    private void report(double fraction) {
+        if ((fraction >= 1.0 && lastReported < 1.0) || fraction - lastReported >= MIN_REPORT_STEP) {
+            lastReported = fraction;
+            try {
+                listener.onProgress(fraction);
+            } catch (RuntimeException e) {
+                // Progress is best-effort; never let a listener break the render
+            }
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.hexagonal.meditation.generation.infrastructure.out.adapter.ffmpeg;
 
+import com.hexagonal.meditation.generation.domain.model.CancellationToken;
+import com.hexagonal.meditation.generation.domain.model.RenderSegment;
 import com.hexagonal.meditation.generation.domain.ports.out.VideoRenderingPort;
+import com.hexagonal.meditation.generation.domain.ports.out.VideoRenderingPort.Rendition;
 import com.hexagonal.meditation.generation.infrastructure.config.FfmpegConfig;
+import com.hexagonal.meditation.generation.infrastructure.out.service.process.CancellableProcesses;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -13,17 +17,28 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * FFmpeg-based video renderer for meditation content.
- * Generates 1280x720 video at 48kHz stereo audio with burned-in subtitles.
+ * Generates video at the configured resolution (1280x720 by default) with
+ * burned-in subtitles, unless the quality tier disables them.
  * Uses amix filter for narration + music blending.
+ * 
+ * Renditions requested alongside the output are written by the same process:
+ * the prepared frames and the mix are split in the filter graph, so inputs
+ * are decoded and filtered once for the whole ladder.
  */
 @Component
 public class FfmpegVideoRendererAdapter implements VideoRenderingPort {
     
     private static final Logger logger = LoggerFactory.getLogger(FfmpegVideoRendererAdapter.class);
     
+    /** Music (input 1) at 50% under narration (input 2), on the music duration */
+    private static final String MIX_FILTER =
+        "[1:a]volume=0.5[music];[2:a]volume=1.0[speech];[music][speech]amix=inputs=2:duration=first:dropout_transition=0";
+    private static final String AUDIO_RENDITION_BITRATE = "128k";
+    
     private final FfmpegConfig ffmpegConfig;
     
     public FfmpegVideoRendererAdapter(FfmpegConfig ffmpegConfig) {
@@ -45,77 +60,15 @@ public class FfmpegVideoRendererAdapter implements VideoRenderingPort {
                 throw new IOException("Image file does not exist: " + request.imagePath());
             }
 
-            // Build command
-            List<String> command = new ArrayList<>();
-            command.add(ffmpegConfig.getPath());
-            command.add("-y"); // Overwrite output
-            command.add("-loop");
-            command.add("1");
-            command.add("-i");
-            command.add(request.imagePath().toAbsolutePath().toString());
-            
-            boolean hasMusic = request.musicAudioPath() != null && Files.exists(request.musicAudioPath());
-            if (hasMusic) {
-                // Music first (input 1) so it determines duration
-                command.add("-i");
-                command.add(request.musicAudioPath().toAbsolutePath().toString());
-            }
-            command.add("-i");
-            command.add(request.narrationAudioPath().toAbsolutePath().toString());
-            
-            // Filters
-            StringBuilder vf = new StringBuilder();
-            vf.append("scale=1280:720,format=yuv420p");
-            if (request.subtitlePath() != null && Files.exists(request.subtitlePath())) {
-                // FFmpeg subtitles filter requires path with escaped backslashes on Windows
-                String escapedPath = request.subtitlePath().toAbsolutePath().toString().replace("\\", "/").replace(":", "\\:");
-                vf.append(",subtitles='").append(escapedPath).append("'");
-            }
-            command.add("-vf");
-            command.add(vf.toString());
-            
-            if (hasMusic) {
-                command.add("-filter_complex");
-                // Mix music (50% volume) and narration (100% volume), use music duration
-                // [1:a] = music (first audio input, determines duration, background)
-                // [2:a] = narration (second audio input, foreground)
-                // Using higher music volume (0.5) to ensure it's audible
-                command.add("[1:a]volume=0.5[music];[2:a]volume=1.0[speech];[music][speech]amix=inputs=2:duration=first:dropout_transition=0[aout]");
-                command.add("-map");
-                command.add("0:v");
-                command.add("-map");
-                command.add("[aout]");
-            } else {
-                command.add("-map");
-                command.add("0:v");
-                command.add("-map");
-                command.add("1:a");
-            }
-            
-            command.add("-ar");
-            command.add("48000");
-            command.add("-ac");
-            command.add("2");
-            command.add("-shortest");
-            command.add(request.outputPath().toAbsolutePath().toString());
+            List<String> command = buildRenderCommand(request, null);
 
             logger.debug("Executing FFmpeg command: {}", String.join(" ", command));
             
-            ProcessBuilder pb = new ProcessBuilder(command);
-            pb.redirectErrorStream(true);
-            Process process = pb.start();
-            
-            // Read output to avoid blocking
             StringBuilder output = new StringBuilder();
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    output.append(line).append("\n");
-                    logger.debug("FFmpeg: {}", line);
-                }
-            }
-            
-            int exitCode = process.waitFor();
+            int exitCode = runFfmpeg(command, new FfmpegProgressParser(
+                request.expectedDurationSeconds(), request.progressListener()), output);
+            // A killed process must not fall back to copy mode
+            CancellationToken.current().throwIfCancelled();
             
             if (exitCode == 0) {
                 logger.info("Video rendering completed via FFmpeg: {}", request.outputPath());
@@ -161,4 +114,327 @@ public class FfmpegVideoRendererAdapter implements VideoRenderingPort {
             throw new RuntimeException("Video rendering failed (both FFmpeg and Fallback)", e);
         }
     }
+
+    @Override
+    public Path prepareBackgroundImage(Path imagePath, VideoConfig config, Path outputPath) {
+        logger.info("Preparing background image: source={}, size={}x{}, output={}",
+            imagePath, config.width(), config.height(), outputPath);
+        
+        List<String> command = new ArrayList<>();
+        command.add(ffmpegConfig.getPath());
+        command.add("-y");
+        command.add("-nostats");
+        command.add("-i");
+        command.add(imagePath.toAbsolutePath().toString());
+        command.add("-vf");
+        command.add("scale=" + config.width() + ":" + config.height());
+        command.add("-frames:v");
+        command.add("1");
+        command.add(outputPath.toAbsolutePath().toString());
+        
+        try {
+            ProcessBuilder pb = new ProcessBuilder(command);
+            pb.redirectErrorStream(true);
+            Process process = pb.start();
+            
+            StringBuilder output = new StringBuilder();
+            try (CancellationToken.Registration cancellation = CancellableProcesses.register(process);
+                 BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    output.append(line).append("\n");
+                }
+            }
+            
+            int exitCode = process.waitFor();
+            CancellationToken.current().throwIfCancelled();
+            
+            if (exitCode == 0 && Files.exists(outputPath)) {
+                logger.info("Background image prepared: {} ({} bytes)", outputPath, Files.size(outputPath));
+                return outputPath;
+            }
+            logger.warn("Background image preparation failed with exit code {}, using source image. Output:\n{}",
+                exitCode, output);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Background image preparation interrupted, using source image");
+        } catch (IOException e) {
+            logger.warn("Background image preparation failed, using source image: {}", e.getMessage());
+        }
+        // The render scales the source image itself
+        return imagePath;
+    }
+
+    @Override
+    public boolean supportsSegmentedRendering() {
+        return true;
+    }
+
+    @Override
+    public Path renderVideoSegment(VideoRenderRequest request, RenderSegment segment) {
+        logger.info("Rendering video segment {}: {}s-{}s, output={}",
+            segment.index(), segment.startSeconds(), segment.endSeconds(), request.outputPath());
+        
+        List<String> command = buildRenderCommand(request, segment);
+        logger.debug("Executing FFmpeg segment command: {}", String.join(" ", command));
+        try {
+            StringBuilder output = new StringBuilder();
+            int exitCode = runFfmpeg(command, new FfmpegProgressParser(
+                segment.durationSeconds(), request.progressListener()), output);
+            CancellationToken.current().throwIfCancelled();
+            if (exitCode != 0 || !Files.exists(request.outputPath())) {
+                logger.error("FFmpeg segment {} failed with exit code {}. Output:\n{}", segment.index(), exitCode, output);
+                throw new RuntimeException("FFmpeg failed on segment " + segment.index() + " with exit code " + exitCode);
+            }
+            return request.outputPath();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Video segment rendering interrupted", e);
+        } catch (IOException e) {
+            throw new RuntimeException("Video segment rendering failed: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Path concatSegments(List<Path> segmentPaths, Path outputPath) {
+        logger.info("Joining {} video segments into {}", segmentPaths.size(), outputPath);
+        try {
+            // Concat demuxer list; single quotes in paths are escaped as '\''
+            Path listFile = outputPath.resolveSibling(outputPath.getFileName() + ".segments.txt");
+            StringBuilder list = new StringBuilder();
+            for (Path segmentPath : segmentPaths) {
+                list.append("file '")
+                    .append(segmentPath.toAbsolutePath().toString().replace("'", "'\\''"))
+                    .append("'\n");
+            }
+            Files.writeString(listFile, list);
+
+            List<String> command = new ArrayList<>();
+            command.add(ffmpegConfig.getPath());
+            command.add("-y");
+            command.add("-nostats");
+            command.add("-f");
+            command.add("concat");
+            command.add("-safe");
+            command.add("0");
+            command.add("-i");
+            command.add(listFile.toAbsolutePath().toString());
+            command.add("-c");
+            command.add("copy"); // segments share encoding settings: no re-encode
+            command.add(outputPath.toAbsolutePath().toString());
+
+            StringBuilder output = new StringBuilder();
+            int exitCode = runFfmpeg(command, new FfmpegProgressParser(0, null), output);
+            CancellationToken.current().throwIfCancelled();
+            Files.deleteIfExists(listFile);
+            if (exitCode != 0 || !Files.exists(outputPath)) {
+                logger.error("FFmpeg concat failed with exit code {}. Output:\n{}", exitCode, output);
+                throw new RuntimeException("FFmpeg concat failed with exit code " + exitCode);
+            }
+            logger.info("Video segments joined: {} ({} bytes)", outputPath, Files.size(outputPath));
+            return outputPath;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Joining video segments interrupted", e);
+        } catch (IOException e) {
+            throw new RuntimeException("Joining video segments failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Build the render command for the whole video, or for one time slice
+     * when {@code segment} is set (inputs seeked to the slice window).
+     */
+    List<String> buildRenderCommand(VideoRenderRequest request, RenderSegment segment) {
+        List<String> command = new ArrayList<>();
+        command.add(ffmpegConfig.getPath());
+        command.add("-y"); // Overwrite output
+        command.add("-nostats");
+        command.add("-progress"); // Machine-readable progress on stdout
+        command.add("pipe:1");
+        command.add("-loop");
+        command.add("1");
+        if (segment != null) {
+            command.add("-t");
+            command.add(seconds(segment.durationSeconds()));
+        }
+        command.add("-i");
+        command.add(request.imagePath().toAbsolutePath().toString());
+        
+        boolean hasMusic = request.musicAudioPath() != null && Files.exists(request.musicAudioPath());
+        if (hasMusic) {
+            // Music first (input 1) so it determines duration
+            addSegmentWindow(command, segment);
+            command.add("-i");
+            command.add(request.musicAudioPath().toAbsolutePath().toString());
+        }
+        addSegmentWindow(command, segment);
+        command.add("-i");
+        command.add(request.narrationAudioPath().toAbsolutePath().toString());
+        
+        // Filters
+        VideoConfig config = request.config();
+        if (!request.renditions().isEmpty()) {
+            addRenditionLadder(command, request, videoFilter(request), hasMusic);
+            return command;
+        }
+        command.add("-vf");
+        command.add(videoFilter(request));
+        
+        if (hasMusic) {
+            command.add("-filter_complex");
+            // Mix music (50% volume) and narration (100% volume), use music duration
+            // [1:a] = music (first audio input, determines duration, background)
+            // [2:a] = narration (second audio input, foreground)
+            // Using higher music volume (0.5) to ensure it's audible
+            command.add(MIX_FILTER + "[aout]");
+            command.add("-map");
+            command.add("0:v");
+            command.add("-map");
+            command.add("[aout]");
+        } else {
+            command.add("-map");
+            command.add("0:v");
+            command.add("-map");
+            command.add("1:a");
+        }
+        
+        addVideoOutputOptions(command, config);
+        command.add(request.outputPath().toAbsolutePath().toString());
+        return command;
+    }
+
+    /**
+     * Filter graph writing the output and every rendition: frames are split
+     * after scaling and subtitle burning (video renditions are scaled down
+     * from there), the audio after mixing.
+     */
+    private static void addRenditionLadder(List<String> command, VideoRenderRequest request,
+                                           String videoFilter, boolean hasMusic) {
+        List<Rendition> renditions = request.renditions();
+        List<Rendition> videoRenditions = renditions.stream().filter(r -> !r.isAudioOnly()).toList();
+        
+        StringBuilder graph = new StringBuilder();
+        graph.append("[0:v]").append(videoFilter).append(",split=").append(videoRenditions.size() + 1).append("[v0]");
+        for (int i = 0; i < videoRenditions.size(); i++) {
+            graph.append("[vs").append(i + 1).append(']');
+        }
+        for (int i = 0; i < videoRenditions.size(); i++) {
+            Rendition rendition = videoRenditions.get(i);
+            graph.append(";[vs").append(i + 1).append("]scale=")
+                .append(rendition.width()).append(':').append(rendition.height())
+                .append("[v").append(i + 1).append(']');
+        }
+        graph.append(';').append(hasMusic ? MIX_FILTER + "," : "[1:a]")
+            .append("asplit=").append(renditions.size() + 1);
+        for (int i = 0; i <= renditions.size(); i++) {
+            graph.append("[a").append(i).append(']');
+        }
+        command.add("-filter_complex");
+        command.add(graph.toString());
+        
+        VideoConfig config = request.config();
+        addMappedOutput(command, "[v0]", "[a0]", config, request.outputPath());
+        int video = 0;
+        for (int i = 0; i < renditions.size(); i++) {
+            Rendition rendition = renditions.get(i);
+            String audio = "[a" + (i + 1) + "]";
+            if (rendition.isAudioOnly()) {
+                command.add("-map");
+                command.add(audio);
+                command.add("-c:a");
+                command.add("aac");
+                command.add("-b:a");
+                command.add(AUDIO_RENDITION_BITRATE);
+                addAudioOutputOptions(command, config);
+                command.add(rendition.outputPath().toAbsolutePath().toString());
+            } else {
+                video++;
+                addMappedOutput(command, "[v" + video + "]", audio, config, rendition.outputPath());
+            }
+        }
+    }
+
+    private static void addMappedOutput(List<String> command, String video, String audio,
+                                        VideoConfig config, Path outputPath) {
+        command.add("-map");
+        command.add(video);
+        command.add("-map");
+        command.add(audio);
+        addVideoOutputOptions(command, config);
+        command.add(outputPath.toAbsolutePath().toString());
+    }
+
+    private static void addVideoOutputOptions(List<String> command, VideoConfig config) {
+        if (config.encoderPreset() != null) {
+            command.add("-preset");
+            command.add(config.encoderPreset());
+        }
+        addAudioOutputOptions(command, config);
+        command.add("-shortest");
+    }
+
+    private static void addAudioOutputOptions(List<String> command, VideoConfig config) {
+        command.add("-ar");
+        command.add(String.valueOf(config.audioSampleRate()));
+        command.add("-ac");
+        command.add("mono".equalsIgnoreCase(config.audioChannels()) ? "1" : "2");
+    }
+
+    /**
+     * Scale to the render size, then burn subtitles when enabled.
+     */
+    private static String videoFilter(VideoRenderRequest request) {
+        VideoConfig config = request.config();
+        StringBuilder vf = new StringBuilder();
+        vf.append("scale=").append(config.width()).append(':').append(config.height()).append(",format=yuv420p");
+        if (config.burnSubtitles() && request.subtitlePath() != null && Files.exists(request.subtitlePath())) {
+            // FFmpeg subtitles filter requires path with escaped backslashes on Windows
+            String escapedPath = request.subtitlePath().toAbsolutePath().toString().replace("\\", "/").replace(":", "\\:");
+            vf.append(",subtitles='").append(escapedPath).append("'");
+        }
+        return vf.toString();
+    }
+
+    /**
+     * Seek the next input to the segment window (input options, so only the
+     * slice is decoded).
+     */
+    private static void addSegmentWindow(List<String> command, RenderSegment segment) {
+        if (segment != null) {
+            command.add("-ss");
+            command.add(seconds(segment.startSeconds()));
+            command.add("-t");
+            command.add(seconds(segment.durationSeconds()));
+        }
+    }
+
+    private static String seconds(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    /**
+     * Run FFmpeg to completion, feeding its output to the progress parser.
+     * The process is killed if the current generation is cancelled.
+     * 
+     * @return process exit code
+     */
+    private int runFfmpeg(List<String> command, FfmpegProgressParser progressParser, StringBuilder output)
+            throws IOException, InterruptedException {
+        ProcessBuilder pb = new ProcessBuilder(command);
+        pb.redirectErrorStream(true);
+        Process process = pb.start();
+        
+        // Read output to avoid blocking; progress keys are interleaved with the log
+        try (CancellationToken.Registration cancellation = CancellableProcesses.register(process);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                progressParser.accept(line);
+                output.append(line).append("\n");
+                logger.debug("FFmpeg: {}", line);
+            }
+        }
+        return process.waitFor();
+    }
 }
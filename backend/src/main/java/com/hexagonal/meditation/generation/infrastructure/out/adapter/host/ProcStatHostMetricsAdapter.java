@@ -0,0 +1,94 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.host;
+
+import com.hexagonal.meditation.generation.domain.ports.out.HostMetricsPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.OptionalDouble;
+
+/**
+ * Host metrics read from Linux {@code /proc/stat}.
+ * 
+ * The aggregate {@code cpu} line holds cumulative jiffies per state
+ * (user nice system idle iowait irq softirq steal ...); the steal fraction
+ * is the steal delta over the total delta between two calls. Guest time is
+ * already counted in user/nice and is left out of the total.
+ * 
+ * On other platforms (or if the file cannot be read) every reading is unknown.
+ */
+public class ProcStatHostMetricsAdapter implements HostMetricsPort {
+
+    private static final Logger log = LoggerFactory.getLogger(ProcStatHostMetricsAdapter.class);
+
+    private static final int STEAL = 7;
+
+    private final Path procStat;
+
+    /** Previous reading; guarded by {@code this}. */
+    private long previousTotal = -1;
+    private long previousSteal;
+
+    public ProcStatHostMetricsAdapter() {
+        this(Path.of("/proc/stat"));
+    }
+
+    ProcStatHostMetricsAdapter(Path procStat) {
+        this.procStat = procStat;
+    }
+
+    @Override
+    public synchronized OptionalDouble cpuStealFraction() {
+        long[] jiffies = readCpuLine();
+        if (jiffies == null) {
+            return OptionalDouble.empty();
+        }
+        long total = 0;
+        for (int i = 0; i <= STEAL; i++) {
+            total += jiffies[i];
+        }
+        long steal = jiffies[STEAL];
+        long totalDelta = total - previousTotal;
+        long stealDelta = steal - previousSteal;
+        boolean first = previousTotal < 0;
+        previousTotal = total;
+        previousSteal = steal;
+        if (first || totalDelta <= 0) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(Math.max(0, Math.min(1, (double) stealDelta / totalDelta)));
+    }
+
+    /**
+     * @return the first eight counters of the aggregate cpu line, or null if unavailable
+     */
+    private long[] readCpuLine() {
+        if (!Files.isReadable(procStat)) {
+            return null;
+        }
+        try {
+            List<String> lines = Files.readAllLines(procStat);
+            for (String line : lines) {
+                if (!line.startsWith("cpu ")) {
+                    continue;
+                }
+                String[] fields = line.trim().split("\\s+");
+                if (fields.length <= STEAL + 1) {
+                    // Kernels before 2.6.11 have no steal column
+                    return null;
+                }
+                long[] jiffies = new long[STEAL + 1];
+                for (int i = 0; i <= STEAL; i++) {
+                    jiffies[i] = Long.parseLong(fields[i + 1]);
+                }
+                return jiffies;
+            }
+        } catch (IOException | NumberFormatException e) {
+            log.debug("Cannot read CPU counters from {}: {}", procStat, e.getMessage());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,424 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.musicbed;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hexagonal.meditation.generation.domain.ports.out.MusicBedPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Music bed library prepared with FFmpeg's two-pass {@code loudnorm}.
+ *
+ * Pass 1 measures integrated loudness, true peak, loudness range and
+ * threshold of the track once. Pass 2 decodes the track once more and renders
+ * every bed from it: normalized to the target loudness (linear mode, using the
+ * measured values), cut to each standard duration bucket the track covers
+ * (the whole track when it is shorter than every bucket) with a fade-out, as
+ * 16-bit WAV at the render sample rate, so beds feed the in-JVM mix directly.
+ *
+ * Layout: {@code <root>/<sha256(track)>-<settings>/bed-<seconds>s.wav} plus
+ * {@code loudness.json}, written last as the publication marker. The
+ * directory name covers the settings, so changing them prepares new beds.
+ *
+ * Metrics:
+ * - generation.music_beds.lookups (counter, tag result=hit|miss)
+ * - generation.music_beds.prepared (counter, tag result=prepared|failed)
+ */
+public class FfmpegMusicBedAdapter implements MusicBedPort {
+
+    private static final Logger log = LoggerFactory.getLogger(FfmpegMusicBedAdapter.class);
+
+    static final String PROFILE_FILE = "loudness.json";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern DURATION = Pattern.compile("Duration: (\\d+):(\\d{2}):(\\d{2}(?:\\.\\d+)?)");
+
+    private final Path root;
+    private final String ffmpegPath;
+    private final Settings settings;
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param root library directory (created if missing)
+     * @param ffmpegPath FFmpeg executable
+     * @param settings loudness target, buckets and output format
+     * @param executor background executor running the preparation
+     * @param meterRegistry registry for lookup and preparation metrics
+     */
+    public FfmpegMusicBedAdapter(
+            Path root,
+            String ffmpegPath,
+            Settings settings,
+            Executor executor,
+            MeterRegistry meterRegistry) {
+        this.root = root;
+        this.ffmpegPath = ffmpegPath;
+        this.settings = settings;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot create music bed directory " + root, e);
+        }
+    }
+
+    @Override
+    public Optional<MusicBed> findBed(Path track, double minDurationSeconds) {
+        try {
+            String id = bedId(track);
+            Path directory = root.resolve(id);
+            Path profileFile = directory.resolve(PROFILE_FILE);
+            if (Files.isRegularFile(profileFile)) {
+                LoudnessProfile profile = objectMapper.readValue(profileFile.toFile(), LoudnessProfile.class);
+                double duration = selectBed(profile.bedDurationsSeconds(), minDurationSeconds);
+                Path bed = directory.resolve(bedFileName(duration));
+                if (Files.isRegularFile(bed)) {
+                    count("generation.music_beds.lookups", "hit");
+                    return Optional.of(new MusicBed(id + "-" + Math.round(duration) + "s", bed, duration));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Cannot look up music bed for {}: {}", track, e.getMessage());
+        }
+        count("generation.music_beds.lookups", "miss");
+        return Optional.empty();
+    }
+
+    @Override
+    public void prepare(Path track) {
+        String id;
+        try {
+            id = bedId(track);
+        } catch (IOException e) {
+            log.warn("Cannot read music track {}: {}", track, e.getMessage());
+            return;
+        }
+        if (Files.isRegularFile(root.resolve(id).resolve(PROFILE_FILE)) || !inFlight.add(id)) {
+            return;
+        }
+        // Staged copy: the caller may delete the track (e.g. an upload temp file) once we return
+        Path staged = root.resolve(id + ".source-" + UUID.randomUUID() + extension(track));
+        try {
+            Files.copy(track, staged);
+            executor.execute(() -> {
+                try {
+                    render(id, staged);
+                } finally {
+                    deleteQuietly(staged);
+                    inFlight.remove(id);
+                }
+            });
+            log.info("Music bed queued: track={}, bedId={}", track, id);
+        } catch (IOException | RejectedExecutionException e) {
+            log.warn("Cannot queue music bed for {}: {}", track, e.getMessage());
+            deleteQuietly(staged);
+            inFlight.remove(id);
+        }
+    }
+
+    /**
+     * Measure the track and publish its beds.
+     */
+    void render(String id, Path source) {
+        Path directory = root.resolve(id);
+        List<Path> partials = new ArrayList<>();
+        try {
+            long started = System.nanoTime();
+            LoudnessProfile measured = parseAnalysis(runFfmpeg(analysisCommand(source)));
+            LoudnessProfile profile = measured.withBedDurations(bedDurations(measured.sourceDurationSeconds()));
+
+            Files.createDirectories(directory);
+            for (int i = 0; i < profile.bedDurationsSeconds().size(); i++) {
+                partials.add(directory.resolve("bed.partial-" + UUID.randomUUID() + ".wav"));
+            }
+            runFfmpeg(bedCommand(source, profile, partials));
+            for (int i = 0; i < partials.size(); i++) {
+                Files.move(partials.get(i), directory.resolve(bedFileName(profile.bedDurationsSeconds().get(i))),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            Path profilePartial = directory.resolve(PROFILE_FILE + ".partial-" + UUID.randomUUID());
+            objectMapper.writeValue(profilePartial.toFile(), profile);
+            Files.move(profilePartial, directory.resolve(PROFILE_FILE),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            count("generation.music_beds.prepared", "prepared");
+            log.info("Music beds prepared: bedId={}, integrated={} LUFS, beds={}s of {}s, took {} ms",
+                id, profile.integratedLufs(), profile.bedDurationsSeconds(), profile.sourceDurationSeconds(),
+                (System.nanoTime() - started) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            count("generation.music_beds.prepared", "failed");
+            log.warn("Music bed preparation failed: bedId={}, error={}", id, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("Music bed preparation interrupted: bedId={}", id);
+        } finally {
+            partials.forEach(FfmpegMusicBedAdapter::deleteQuietly);
+        }
+    }
+
+    /**
+     * Buckets the track covers, or the whole track when it is shorter than every bucket.
+     */
+    List<Double> bedDurations(double sourceDurationSeconds) {
+        List<Double> durations = settings.bucketsSeconds().stream()
+            .filter(bucket -> bucket <= sourceDurationSeconds)
+            .map(Integer::doubleValue)
+            .toList();
+        return durations.isEmpty() ? List.of(sourceDurationSeconds) : durations;
+    }
+
+    /**
+     * Shortest bed covering the wanted duration, else the longest one.
+     */
+    static double selectBed(List<Double> bedDurations, double minDurationSeconds) {
+        return bedDurations.stream()
+            .filter(duration -> duration >= minDurationSeconds)
+            .findFirst()
+            .orElse(bedDurations.get(bedDurations.size() - 1));
+    }
+
+    static String bedFileName(double durationSeconds) {
+        return "bed-" + Math.round(durationSeconds) + "s.wav";
+    }
+
+    List<String> analysisCommand(Path source) {
+        return List.of(
+            ffmpegPath, "-hide_banner", "-nostats",
+            "-i", source.toAbsolutePath().toString(),
+            "-af", String.format(Locale.ROOT, "loudnorm=I=%.1f:TP=%.1f:LRA=%.1f:print_format=json",
+                settings.targetLufs(), settings.truePeakDb(), settings.loudnessRange()),
+            "-f", "null", "-"
+        );
+    }
+
+    /**
+     * Single decode of the track, normalized once and split into one trimmed, faded output per bed.
+     */
+    List<String> bedCommand(Path source, LoudnessProfile profile, List<Path> outputs) {
+        List<Double> durations = profile.bedDurationsSeconds();
+        StringBuilder filter = new StringBuilder(String.format(Locale.ROOT,
+            "[0:a]loudnorm=I=%.1f:TP=%.1f:LRA=%.1f:measured_I=%.2f:measured_TP=%.2f:measured_LRA=%.2f"
+                + ":measured_thresh=%.2f:offset=%.2f:linear=true,asplit=%d",
+            settings.targetLufs(), settings.truePeakDb(), settings.loudnessRange(),
+            profile.integratedLufs(), profile.truePeakDb(), profile.loudnessRange(),
+            profile.thresholdLufs(), profile.targetOffsetDb(), durations.size()));
+        for (int i = 0; i < durations.size(); i++) {
+            filter.append("[s").append(i).append(']');
+        }
+        for (int i = 0; i < durations.size(); i++) {
+            double duration = durations.get(i);
+            double fade = Math.min(settings.fadeOutSeconds(), duration / 2);
+            filter.append(String.format(Locale.ROOT, ";[s%d]atrim=0:%.3f,afade=t=out:st=%.3f:d=%.3f[b%d]",
+                i, duration, duration - fade, fade, i));
+        }
+
+        List<String> command = new ArrayList<>(List.of(
+            ffmpegPath, "-y", "-hide_banner", "-nostats",
+            "-i", source.toAbsolutePath().toString(),
+            "-filter_complex", filter.toString()
+        ));
+        for (int i = 0; i < outputs.size(); i++) {
+            command.addAll(List.of(
+                "-map", "[b" + i + "]",
+                "-ar", String.valueOf(settings.sampleRate()),
+                "-ac", String.valueOf(settings.channels()),
+                "-c:a", "pcm_s16le",
+                outputs.get(i).toAbsolutePath().toString()
+            ));
+        }
+        return command;
+    }
+
+    /**
+     * Extract the loudnorm measurement (JSON printed last) and the input duration from pass 1 output.
+     */
+    LoudnessProfile parseAnalysis(String output) throws IOException {
+        Matcher duration = DURATION.matcher(output);
+        if (!duration.find()) {
+            throw new IOException("Track duration not reported by FFmpeg");
+        }
+        double durationSeconds = Integer.parseInt(duration.group(1)) * 3600
+            + Integer.parseInt(duration.group(2)) * 60
+            + Double.parseDouble(duration.group(3));
+
+        int start = output.lastIndexOf('{');
+        int end = output.lastIndexOf('}');
+        if (start < 0 || end < start) {
+            throw new IOException("Loudness measurement not reported by FFmpeg");
+        }
+        JsonNode json = objectMapper.readTree(output.substring(start, end + 1));
+        return new LoudnessProfile(
+            number(json, "input_i"),
+            number(json, "input_tp"),
+            number(json, "input_lra"),
+            number(json, "input_thresh"),
+            number(json, "target_offset"),
+            durationSeconds,
+            List.of(durationSeconds)
+        );
+    }
+
+    private static double number(JsonNode json, String field) throws IOException {
+        JsonNode value = json.get(field);
+        if (value == null) {
+            throw new IOException("Loudness measurement lacks " + field);
+        }
+        try {
+            return Double.parseDouble(value.asText());
+        } catch (NumberFormatException e) {
+            // "-inf" for digital silence
+            throw new IOException("Unusable loudness measurement " + field + "=" + value.asText());
+        }
+    }
+
+    private String runFfmpeg(List<String> command) throws IOException, InterruptedException {
+        log.debug("Executing FFmpeg: {}", String.join(" ", command));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        StringBuilder output = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.append(line).append('\n');
+            }
+        }
+        int exitCode = process.waitFor();
+        if (exitCode != 0) {
+            throw new IOException("FFmpeg exited with code " + exitCode);
+        }
+        return output.toString();
+    }
+
+    String bedId(Path track) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(track)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest()) + "-" + settings.fingerprint();
+    }
+
+    private static String extension(Path track) {
+        String name = track.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot >= 0 ? name.substring(dot) : "";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is always available in modern JVMs
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("Could not delete {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void count(String name, String result) {
+        Counter.builder(name)
+            .tag("result", result)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    /**
+     * Bed preparation settings.
+     *
+     * @param targetLufs integrated loudness of the beds
+     * @param truePeakDb true peak ceiling
+     * @param loudnessRange target loudness range
+     * @param bucketsSeconds standard bed durations, ascending
+     * @param fadeOutSeconds fade-out at the end of every bed
+     * @param sampleRate bed sample rate (the render sample rate)
+     * @param channels bed channels (the render channels)
+     */
+    public record Settings(
+        double targetLufs,
+        double truePeakDb,
+        double loudnessRange,
+        List<Integer> bucketsSeconds,
+        double fadeOutSeconds,
+        int sampleRate,
+        int channels
+    ) {
+        public Settings {
+            if (bucketsSeconds == null || bucketsSeconds.stream().anyMatch(bucket -> bucket == null || bucket <= 0)) {
+                throw new IllegalArgumentException("Duration buckets must be positive");
+            }
+            bucketsSeconds = bucketsSeconds.stream().sorted().distinct().toList();
+            if (fadeOutSeconds < 0) {
+                throw new IllegalArgumentException("Fade-out must not be negative");
+            }
+            if (sampleRate <= 0 || channels <= 0 || channels > 2) {
+                throw new IllegalArgumentException("Invalid bed sample format");
+            }
+        }
+
+        /**
+         * Short digest of the settings, part of the bed ID.
+         */
+        String fingerprint() {
+            byte[] digest = sha256().digest(toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 6);
+        }
+    }
+
+    /**
+     * Pass 1 measurement of a track, with the durations of its beds (ascending).
+     */
+    record LoudnessProfile(
+        double integratedLufs,
+        double truePeakDb,
+        double loudnessRange,
+        double thresholdLufs,
+        double targetOffsetDb,
+        double sourceDurationSeconds,
+        List<Double> bedDurationsSeconds
+    ) {
+        LoudnessProfile withBedDurations(List<Double> bedDurations) {
+            return new LoudnessProfile(integratedLufs, truePeakDb, loudnessRange, thresholdLufs,
+                targetOffsetDb, sourceDurationSeconds, bedDurations);
+        }
+    }
+}
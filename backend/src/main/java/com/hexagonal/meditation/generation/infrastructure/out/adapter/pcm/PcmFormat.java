@@ -0,0 +1,67 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm;
+
+/**
+ * Layout of interleaved little-endian PCM samples.
+ *
+ * @param sampleRate frames per second
+ * @param channels 1 = mono, 2 = stereo
+ * @param encoding sample encoding
+ */
+public record PcmFormat(int sampleRate, int channels, SampleEncoding encoding) {
+
+    public PcmFormat {
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("Sample rate must be positive");
+        }
+        if (channels <= 0 || channels > 2) {
+            throw new IllegalArgumentException("Channels must be 1 (mono) or 2 (stereo)");
+        }
+        if (encoding == null) {
+            throw new IllegalArgumentException("Sample encoding is required");
+        }
+    }
+
+    /**
+     * Bytes per frame (one sample for every channel).
+     */
+    public int frameSize() {
+        return channels * encoding.bytesPerSample();
+    }
+
+    /**
+     * Number of whole frames in a duration.
+     */
+    public long framesFor(double seconds) {
+        return Math.round(seconds * sampleRate);
+    }
+
+    /**
+     * Supported sample encodings, with their WAV format tags.
+     */
+    public enum SampleEncoding {
+        /** Signed 16-bit integer (LINEAR16) */
+        PCM_16(1, 2),
+        /** IEEE 754 32-bit float */
+        FLOAT_32(3, 4);
+
+        private final int formatTag;
+        private final int bytesPerSample;
+
+        SampleEncoding(int formatTag, int bytesPerSample) {
+            this.formatTag = formatTag;
+            this.bytesPerSample = bytesPerSample;
+        }
+
+        public int formatTag() {
+            return formatTag;
+        }
+
+        public int bytesPerSample() {
+            return bytesPerSample;
+        }
+
+        public int bitsPerSample() {
+            return bytesPerSample * 8;
+        }
+    }
+}
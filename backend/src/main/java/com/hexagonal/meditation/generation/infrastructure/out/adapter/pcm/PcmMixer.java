@@ -0,0 +1,206 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm;
+
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm.PcmFormat.SampleEncoding;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+
+/**
+ * In-JVM mixer for a narration track over a music bed.
+ *
+ * Works block by block on memory-mapped input: samples are converted to float,
+ * scaled, summed and written to a WAV file that feeds straight into the final
+ * encode. All buffers are sized once in the constructor and reused for every
+ * block, so mixing allocates nothing per sample.
+ *
+ * Mirrors {@code amix=duration=first}: the output lasts as long as the music;
+ * the narration is padded with silence or cut. Mono inputs are duplicated to
+ * stereo, stereo inputs are averaged down to mono. Inputs must already have
+ * the output sample rate; there is no resampler.
+ *
+ * Not thread-safe: use one instance per render.
+ */
+public final class PcmMixer {
+
+    public static final int DEFAULT_BLOCK_FRAMES = 8192;
+
+    /** Fades run linearly in dB from this level to unity gain */
+    static final double FADE_FLOOR_DB = -60.0;
+
+    private static final int MAX_CHANNELS = 2;
+    private static final float PCM_16_SCALE = 32768f;
+
+    private final int blockFrames;
+    private final float[] musicBlock;
+    private final float[] narrationBlock;
+    private final ByteBuffer outputBlock;
+
+    public PcmMixer() {
+        this(DEFAULT_BLOCK_FRAMES);
+    }
+
+    /**
+     * @param blockFrames frames processed per block
+     */
+    public PcmMixer(int blockFrames) {
+        if (blockFrames <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.blockFrames = blockFrames;
+        this.musicBlock = new float[blockFrames * MAX_CHANNELS];
+        this.narrationBlock = new float[blockFrames * MAX_CHANNELS];
+        this.outputBlock = ByteBuffer.allocateDirect(
+                blockFrames * MAX_CHANNELS * SampleEncoding.FLOAT_32.bytesPerSample())
+            .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Mix narration over music into a WAV file.
+     *
+     * @param music music bed; sets the output duration
+     * @param narration narration track
+     * @param output WAV file to write
+     * @param outputFormat sample layout of the output
+     * @param settings gains and fades
+     * @return number of frames written
+     * @throws IOException if the output cannot be written
+     */
+    public long mix(WavFile music, WavFile narration, Path output, PcmFormat outputFormat, MixSettings settings)
+            throws IOException {
+        requireSampleRate(music, outputFormat);
+        requireSampleRate(narration, outputFormat);
+
+        int channels = outputFormat.channels();
+        long totalFrames = music.frames();
+        long narrationFrames = narration.frames();
+        float musicGain = (float) dbToGain(settings.musicGainDb());
+        float narrationGain = (float) dbToGain(settings.narrationGainDb());
+        long fadeInFrames = Math.min(totalFrames, outputFormat.framesFor(settings.fadeInSeconds()));
+        long fadeOutFrames = Math.min(totalFrames, outputFormat.framesFor(settings.fadeOutSeconds()));
+        long fadeOutStart = totalFrames - fadeOutFrames;
+
+        ByteBuffer musicSamples = music.samples();
+        ByteBuffer narrationSamples = narration.samples();
+
+        try (WavWriter writer = WavWriter.create(output, outputFormat)) {
+            for (long start = 0; start < totalFrames; start += blockFrames) {
+                int frames = (int) Math.min(blockFrames, totalFrames - start);
+                int narrationCount = (int) Math.max(0, Math.min(frames, narrationFrames - start));
+
+                read(musicSamples, music.format(), start, frames, musicBlock, channels);
+                read(narrationSamples, narration.format(), start, narrationCount, narrationBlock, channels);
+
+                outputBlock.clear();
+                for (int frame = 0; frame < frames; frame++) {
+                    long position = start + frame;
+                    float bedGain = musicGain;
+                    if (position < fadeInFrames) {
+                        bedGain *= (float) fadeGain(position, fadeInFrames);
+                    }
+                    if (position >= fadeOutStart) {
+                        bedGain *= (float) fadeGain(totalFrames - 1 - position, fadeOutFrames);
+                    }
+                    for (int channel = 0; channel < channels; channel++) {
+                        int index = frame * channels + channel;
+                        float sample = musicBlock[index] * bedGain;
+                        if (frame < narrationCount) {
+                            sample += narrationBlock[index] * narrationGain;
+                        }
+                        put(outputBlock, outputFormat.encoding(), sample);
+                    }
+                }
+                outputBlock.flip();
+                writer.write(outputBlock);
+            }
+        }
+        return totalFrames;
+    }
+
+    /**
+     * Convert a range of frames to float, mapping the source channels onto the output channels.
+     */
+    private static void read(ByteBuffer samples, PcmFormat format, long startFrame, int frames,
+                             float[] target, int outputChannels) {
+        int inputChannels = format.channels();
+        SampleEncoding encoding = format.encoding();
+        int bytesPerSample = encoding.bytesPerSample();
+        long base = startFrame * format.frameSize();
+        for (int frame = 0; frame < frames; frame++) {
+            int offset = (int) (base + (long) frame * format.frameSize());
+            float first = sample(samples, encoding, offset);
+            int index = frame * outputChannels;
+            if (inputChannels == outputChannels) {
+                target[index] = first;
+                if (outputChannels == 2) {
+                    target[index + 1] = sample(samples, encoding, offset + bytesPerSample);
+                }
+            } else if (inputChannels == 1) {
+                target[index] = first;
+                target[index + 1] = first;
+            } else {
+                target[index] = (first + sample(samples, encoding, offset + bytesPerSample)) * 0.5f;
+            }
+        }
+    }
+
+    private static float sample(ByteBuffer samples, SampleEncoding encoding, int offset) {
+        return encoding == SampleEncoding.PCM_16
+            ? samples.getShort(offset) / PCM_16_SCALE
+            : samples.getFloat(offset);
+    }
+
+    private static void put(ByteBuffer block, SampleEncoding encoding, float sample) {
+        float clipped = Math.max(-1f, Math.min(1f, sample));
+        if (encoding == SampleEncoding.PCM_16) {
+            block.putShort((short) Math.round(clipped * (PCM_16_SCALE - 1)));
+        } else {
+            block.putFloat(clipped);
+        }
+    }
+
+    /**
+     * Gain at a distance from the silent end of a fade, rising linearly in dB
+     * from {@link #FADE_FLOOR_DB} to 0 dB across the fade.
+     */
+    static double fadeGain(long framesFromSilence, long fadeFrames) {
+        if (framesFromSilence >= fadeFrames) {
+            return 1.0;
+        }
+        double progress = (double) framesFromSilence / fadeFrames;
+        return dbToGain(FADE_FLOOR_DB * (1.0 - progress));
+    }
+
+    static double dbToGain(double db) {
+        return Math.pow(10.0, db / 20.0);
+    }
+
+    private static void requireSampleRate(WavFile input, PcmFormat outputFormat) {
+        if (input.format().sampleRate() != outputFormat.sampleRate()) {
+            throw new IllegalArgumentException("Sample rate of " + input.path() + " is "
+                + input.format().sampleRate() + " Hz, expected " + outputFormat.sampleRate() + " Hz");
+        }
+    }
+
+    /**
+     * Gains and fades of a mix.
+     *
+     * @param musicGainDb gain applied to the music bed
+     * @param narrationGainDb gain applied to the narration
+     * @param fadeInSeconds fade-in of the music bed (0 = none)
+     * @param fadeOutSeconds fade-out of the music bed (0 = none)
+     */
+    public record MixSettings(
+        double musicGainDb,
+        double narrationGainDb,
+        double fadeInSeconds,
+        double fadeOutSeconds
+    ) {
+        public MixSettings {
+            if (fadeInSeconds < 0 || fadeOutSeconds < 0) {
+                throw new IllegalArgumentException("Fade durations must not be negative");
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm;
+
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm.PcmFormat.SampleEncoding;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only, memory-mapped WAV file (or WAV bytes already in memory).
+ *
+ * Only the chunk headers are parsed; samples stay in the page cache and are
+ * read in place by the mixer, so a long music bed is never copied onto the heap.
+ * Supports 16-bit integer and 32-bit float PCM (plain or WAVE_FORMAT_EXTENSIBLE).
+ */
+public final class WavFile {
+
+    private static final int RIFF_HEADER_SIZE = 12;
+    private static final int CHUNK_HEADER_SIZE = 8;
+    private static final int FORMAT_EXTENSIBLE = 0xFFFE;
+    private static final int EXTENSIBLE_SUBFORMAT_OFFSET = 24;
+
+    private final Path path;
+    private final PcmFormat format;
+    private final ByteBuffer data;
+
+    private WavFile(Path path, PcmFormat format, ByteBuffer data) {
+        this.path = path;
+        this.format = format;
+        this.data = data;
+    }
+
+    /**
+     * Whether a file starts with a RIFF/WAVE header.
+     *
+     * @param path file to check
+     * @return true for WAV files, false otherwise (including unreadable files)
+     */
+    public static boolean isWav(Path path) {
+        if (path == null || !Files.isRegularFile(path)) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(path)) {
+            byte[] header = in.readNBytes(RIFF_HEADER_SIZE);
+            return header.length == RIFF_HEADER_SIZE
+                && "RIFF".equals(new String(header, 0, 4, StandardCharsets.US_ASCII))
+                && "WAVE".equals(new String(header, 8, 4, StandardCharsets.US_ASCII));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Map a WAV file and locate its format and data chunks.
+     *
+     * @param path WAV file
+     * @return mapped file
+     * @throws IOException if the file cannot be read, is not a WAV file or uses an unsupported encoding
+     */
+    public static WavFile map(Path path) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("WAV file too large to map: " + path);
+            }
+            // The mapping stays valid after the channel is closed
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        return parse(path, mapped);
+    }
+
+    /**
+     * Parse WAV bytes already in memory (e.g. a TTS response), without copying the samples.
+     *
+     * @param bytes complete WAV file, from position to limit
+     * @return WAV view over the same memory; {@link #path()} is null
+     * @throws IOException if the bytes are not a WAV file or use an unsupported encoding
+     */
+    public static WavFile parse(ByteBuffer bytes) throws IOException {
+        return parse(null, bytes.slice());
+    }
+
+    private static WavFile parse(Path path, ByteBuffer bytes) throws IOException {
+        String source = path != null ? path.toString() : "in-memory audio";
+        ByteBuffer buffer = bytes.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < RIFF_HEADER_SIZE
+                || !"RIFF".equals(fourCc(buffer, 0))
+                || !"WAVE".equals(fourCc(buffer, 8))) {
+            throw new IOException("Not a WAV file: " + source);
+        }
+
+        PcmFormat format = null;
+        int position = RIFF_HEADER_SIZE;
+        while (position + CHUNK_HEADER_SIZE <= buffer.limit()) {
+            String id = fourCc(buffer, position);
+            long chunkSize = Integer.toUnsignedLong(buffer.getInt(position + 4));
+            int body = position + CHUNK_HEADER_SIZE;
+            if ("fmt ".equals(id)) {
+                format = parseFormat(buffer, body, chunkSize, source);
+            } else if ("data".equals(id)) {
+                if (format == null) {
+                    throw new IOException("WAV data chunk before format chunk: " + source);
+                }
+                // Streamed WAVs (e.g. from a pipe) leave the size unset or too large
+                int available = buffer.limit() - body;
+                int length = (int) Math.min(chunkSize, available);
+                length -= length % format.frameSize();
+                ByteBuffer data = buffer.slice(body, length).order(ByteOrder.LITTLE_ENDIAN);
+                return new WavFile(path, format, data);
+            }
+            // Chunks are word-aligned
+            long next = body + chunkSize + (chunkSize & 1);
+            if (next > buffer.limit()) {
+                break;
+            }
+            position = (int) next;
+        }
+        throw new IOException("WAV file has no data chunk: " + source);
+    }
+
+    private static PcmFormat parseFormat(ByteBuffer buffer, int body, long chunkSize, String source) throws IOException {
+        if (chunkSize < 16) {
+            throw new IOException("Truncated WAV format chunk: " + source);
+        }
+        int formatTag = Short.toUnsignedInt(buffer.getShort(body));
+        int channels = Short.toUnsignedInt(buffer.getShort(body + 2));
+        int sampleRate = buffer.getInt(body + 4);
+        int bitsPerSample = Short.toUnsignedInt(buffer.getShort(body + 14));
+        if (formatTag == FORMAT_EXTENSIBLE && chunkSize >= EXTENSIBLE_SUBFORMAT_OFFSET + 2) {
+            // First two bytes of the sub-format GUID carry the actual format tag
+            formatTag = Short.toUnsignedInt(buffer.getShort(body + EXTENSIBLE_SUBFORMAT_OFFSET));
+        }
+        for (SampleEncoding encoding : SampleEncoding.values()) {
+            if (encoding.formatTag() == formatTag && encoding.bitsPerSample() == bitsPerSample) {
+                try {
+                    return new PcmFormat(sampleRate, channels, encoding);
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("Unsupported WAV layout in " + source + ": " + e.getMessage(), e);
+                }
+            }
+        }
+        throw new IOException("Unsupported WAV encoding in " + source
+            + ": format tag " + formatTag + ", " + bitsPerSample + " bits");
+    }
+
+    private static String fourCc(ByteBuffer buffer, int position) {
+        byte[] id = new byte[4];
+        buffer.get(position, id);
+        return new String(id, StandardCharsets.US_ASCII);
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public PcmFormat format() {
+        return format;
+    }
+
+    /**
+     * Number of frames in the data chunk.
+     */
+    public long frames() {
+        return data.capacity() / format.frameSize();
+    }
+
+    public double durationSeconds() {
+        return (double) frames() / format.sampleRate();
+    }
+
+    /**
+     * Little-endian view of the samples, independent of other callers' positions.
+     */
+    public ByteBuffer samples() {
+        return data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -0,0 +1,106 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streaming WAV writer.
+ *
+ * Writes a canonical 44-byte header with placeholder sizes, appends sample
+ * blocks as they come and patches the sizes on close.
+ */
+public final class WavWriter implements Closeable {
+
+    static final int HEADER_SIZE = 44;
+
+    private final FileChannel channel;
+    private final PcmFormat format;
+    private long dataBytes;
+
+    private WavWriter(FileChannel channel, PcmFormat format) {
+        this.channel = channel;
+        this.format = format;
+    }
+
+    /**
+     * Create (or truncate) a WAV file.
+     *
+     * @param path output file
+     * @param format sample layout of the blocks that will be written
+     * @return writer positioned after the header
+     * @throws IOException if the file cannot be created
+     */
+    public static WavWriter create(Path path, PcmFormat format) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        WavWriter writer = new WavWriter(channel, format);
+        try {
+            writer.writeHeader();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return writer;
+    }
+
+    public PcmFormat format() {
+        return format;
+    }
+
+    /**
+     * Append interleaved little-endian samples (whole frames) from position to limit.
+     *
+     * @param block samples in this writer's format
+     * @throws IOException if the write fails
+     */
+    public void write(ByteBuffer block) throws IOException {
+        if (block.remaining() % format.frameSize() != 0) {
+            throw new IllegalArgumentException("Block must contain whole frames");
+        }
+        while (block.hasRemaining()) {
+            dataBytes += channel.write(block);
+        }
+    }
+
+    /**
+     * Patch the RIFF and data sizes and close the file.
+     */
+    @Override
+    public void close() throws IOException {
+        try (channel) {
+            channel.position(0);
+            writeHeader();
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        long riffSize = HEADER_SIZE - 8 + dataBytes;
+        if (riffSize > 0xFFFFFFFFL) {
+            throw new IOException("WAV data exceeds 4 GiB");
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.put("RIFF".getBytes(StandardCharsets.US_ASCII));
+        header.putInt((int) riffSize);
+        header.put("WAVE".getBytes(StandardCharsets.US_ASCII));
+        header.put("fmt ".getBytes(StandardCharsets.US_ASCII));
+        header.putInt(16);
+        header.putShort((short) format.encoding().formatTag());
+        header.putShort((short) format.channels());
+        header.putInt(format.sampleRate());
+        header.putInt(format.sampleRate() * format.frameSize());
+        header.putShort((short) format.frameSize());
+        header.putShort((short) format.encoding().bitsPerSample());
+        header.put("data".getBytes(StandardCharsets.US_ASCII));
+        header.putInt((int) dataBytes);
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Streaming waveform peaks of mono 16-bit PCM.
+ *
+ * Keeps the minimum and maximum sample of every window of samplesPerPeak
+ * samples, scaled to 8 bits, so a 20-minute output at 100 ms per peak is
+ * 12000 pairs whatever its sample rate. Samples come as raw little-endian
+ * bytes in blocks of any size; a trailing partial window counts as a peak.
+ *
+ * Written in the audiowaveform JSON format (version 2), which waveform
+ * players (peaks.js, wavesurfer.js) load as is.
+ */
+public final class WaveformPeaks {
+
+    private final int sampleRate;
+    private final int samplesPerPeak;
+
+    /** Interleaved min, max */
+    private byte[] data = new byte[1024];
+    private int length;
+
+    private int windowSamples;
+    private int windowMin;
+    private int windowMax;
+    /** Low byte of a sample split across two blocks, or -1 */
+    private int pendingLowByte = -1;
+
+    /**
+     * @param sampleRate sample rate of the PCM fed to this accumulator
+     * @param windowMillis duration covered by one peak
+     */
+    public WaveformPeaks(int sampleRate, int windowMillis) {
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("Sample rate must be positive");
+        }
+        if (windowMillis <= 0) {
+            throw new IllegalArgumentException("Window must be positive");
+        }
+        this.sampleRate = sampleRate;
+        this.samplesPerPeak = Math.max(1, (int) ((long) sampleRate * windowMillis / 1000));
+        resetWindow();
+    }
+
+    /**
+     * Add signed 16-bit little-endian mono samples.
+     *
+     * @param block raw bytes; a sample may straddle two calls
+     * @param count number of bytes of block to read
+     */
+    public void accept(byte[] block, int count) {
+        int i = 0;
+        if (pendingLowByte >= 0 && count > 0) {
+            addSample((short) ((block[0] << 8) | pendingLowByte));
+            pendingLowByte = -1;
+            i = 1;
+        }
+        for (; i + 1 < count; i += 2) {
+            addSample((short) ((block[i + 1] << 8) | (block[i] & 0xFF)));
+        }
+        if (i < count) {
+            pendingLowByte = block[i] & 0xFF;
+        }
+    }
+
+    /**
+     * Number of peaks (min/max pairs), including the window in progress.
+     */
+    public int length() {
+        return length + (windowSamples > 0 ? 1 : 0);
+    }
+
+    public int samplesPerPeak() {
+        return samplesPerPeak;
+    }
+
+    /**
+     * Interleaved min/max pairs, 8-bit signed.
+     */
+    public byte[] data() {
+        byte[] peaks = Arrays.copyOf(data, length() * 2);
+        if (windowSamples > 0) {
+            peaks[length * 2] = scale(windowMin);
+            peaks[length * 2 + 1] = scale(windowMax);
+        }
+        return peaks;
+    }
+
+    /**
+     * Write the peaks as audiowaveform JSON.
+     *
+     * @param path file to create or replace
+     * @throws IOException if the file cannot be written
+     */
+    public void writeJson(Path path) throws IOException {
+        byte[] peaks = data();
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("{\"version\":2,\"channels\":1,\"sample_rate\":" + sampleRate
+                + ",\"samples_per_pixel\":" + samplesPerPeak
+                + ",\"bits\":8,\"length\":" + peaks.length / 2 + ",\"data\":[");
+            for (int i = 0; i < peaks.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(Integer.toString(peaks[i]));
+            }
+            writer.write("]}");
+        }
+    }
+
+    private void addSample(short sample) {
+        windowMin = Math.min(windowMin, sample);
+        windowMax = Math.max(windowMax, sample);
+        if (++windowSamples == samplesPerPeak) {
+            if (length * 2 == data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            data[length * 2] = scale(windowMin);
+            data[length * 2 + 1] = scale(windowMax);
+            length++;
+            resetWindow();
+        }
+    }
+
+    private void resetWindow() {
+        windowSamples = 0;
+        windowMin = Short.MAX_VALUE;
+        windowMax = Short.MIN_VALUE;
+    }
+
+    /** 16 to 8 bits, rounding toward zero so silence stays 0 */
+    private static byte scale(int sample) {
+        return (byte) (sample / 256);
+    }
+}
@@ -0,0 +1,113 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.progress;
+
+import com.hexagonal.meditation.generation.domain.model.GenerationProgress;
+import com.hexagonal.meditation.generation.domain.ports.out.GenerationProgressPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process implementation of {@link GenerationProgressPort}.
+ * 
+ * Keeps the latest snapshot of every running generation so late subscribers
+ * start from the current stage, and dispatches each snapshot synchronously
+ * to the subscribers of that meditation. Snapshots of finished generations
+ * are dropped after dispatch, so memory is bounded by the number of active jobs.
+ * 
+ * Multi-node deployments register a {@link ProgressEventRelay}
+ * (see {@link PostgresProgressNotifyBridge}) to forward local events to other nodes.
+ */
+@Component
+public class InProcessProgressEventBus implements GenerationProgressPort {
+
+    private static final Logger log = LoggerFactory.getLogger(InProcessProgressEventBus.class);
+
+    private final Map<UUID, List<Consumer<GenerationProgress>>> subscribers = new ConcurrentHashMap<>();
+    private final Map<UUID, GenerationProgress> latest = new ConcurrentHashMap<>();
+    private final List<ProgressEventRelay> relays = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(GenerationProgress progress) {
+        if (progress == null) {
+            return;
+        }
+        dispatchLocal(progress);
+        for (ProgressEventRelay relay : relays) {
+            try {
+                relay.relay(progress);
+            } catch (RuntimeException e) {
+                log.warn("Progress relay failed for meditationId={}: {}", progress.meditationId(), e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public Subscription subscribe(UUID meditationId, Consumer<GenerationProgress> listener) {
+        if (meditationId == null) {
+            throw new IllegalArgumentException("Meditation ID cannot be null");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        subscribers.computeIfAbsent(meditationId, id -> new CopyOnWriteArrayList<>()).add(listener);
+
+        GenerationProgress snapshot = latest.get(meditationId);
+        if (snapshot != null) {
+            notify(listener, snapshot);
+        }
+        return () -> unsubscribe(meditationId, listener);
+    }
+
+    @Override
+    public Optional<GenerationProgress> latest(UUID meditationId) {
+        return meditationId == null ? Optional.empty() : Optional.ofNullable(latest.get(meditationId));
+    }
+
+    /**
+     * Deliver a snapshot to local subscribers only (no relaying).
+     * Used by bridges for events that originated on another node.
+     */
+    void dispatchLocal(GenerationProgress progress) {
+        UUID meditationId = progress.meditationId();
+        if (progress.isTerminal()) {
+            latest.remove(meditationId);
+        } else {
+            latest.put(meditationId, progress);
+        }
+        List<Consumer<GenerationProgress>> listeners = subscribers.get(meditationId);
+        if (listeners != null) {
+            listeners.forEach(listener -> notify(listener, progress));
+        }
+    }
+
+    void addRelay(ProgressEventRelay relay) {
+        relays.add(relay);
+    }
+
+    void removeRelay(ProgressEventRelay relay) {
+        relays.remove(relay);
+    }
+
+    private void unsubscribe(UUID meditationId, Consumer<GenerationProgress> listener) {
+        subscribers.computeIfPresent(meditationId, (id, listeners) -> {
+            listeners.remove(listener);
+            return listeners.isEmpty() ? null : listeners;
+        });
+    }
+
+    private void notify(Consumer<GenerationProgress> listener, GenerationProgress progress) {
+        try {
+            listener.accept(progress);
+        } catch (RuntimeException e) {
+            log.warn("Progress listener failed for meditationId={}: {}", progress.meditationId(), e.getMessage());
+        }
+    }
+}
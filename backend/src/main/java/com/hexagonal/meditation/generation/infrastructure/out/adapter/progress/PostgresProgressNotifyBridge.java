@@ -0,0 +1,336 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.progress;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hexagonal.meditation.generation.domain.model.GenerationProgress;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bridges {@link InProcessProgressEventBus} instances across nodes with
+ * PostgreSQL LISTEN/NOTIFY.
+ *
+ * Locally published snapshots are sent with {@code pg_notify} on the
+ * {@value #CHANNEL} channel by a sender thread, never by the publishing
+ * (render) thread: {@link #relay} only records the snapshot in a bounded
+ * queue that keeps the latest snapshot per meditation, so a burst of
+ * progress updates costs one NOTIFY per meditation. A listener thread
+ * receives snapshots from other nodes and dispatches them to local SSE
+ * subscribers. Messages carry the originating node id so a node never
+ * re-dispatches its own events.
+ *
+ * Both threads hold their own connection, opened with the datasource
+ * settings but outside the connection pool: a LISTEN connection is held
+ * for the node's lifetime and must not take a pooled connection from the
+ * request and pipeline threads. Lost connections are reopened.
+ *
+ * Enabled with {@code generation.progress.postgres-bridge.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "generation.progress.postgres-bridge.enabled", havingValue = "true")
+public class PostgresProgressNotifyBridge implements ProgressEventRelay, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresProgressNotifyBridge.class);
+
+    static final String CHANNEL = "generation_progress";
+    /** Meditations with a snapshot waiting to be sent. */
+    static final int MAX_PENDING = 1024;
+    private static final int POLL_TIMEOUT_MS = 500;
+    private static final long RECONNECT_BACKOFF_MS = 2000;
+    // NOTIFY payloads are limited to 8000 bytes
+    private static final int MAX_PAYLOAD_LENGTH = 7900;
+
+    private final ConnectionFactory connectionFactory;
+    private final InProcessProgressEventBus eventBus;
+    private final ObjectMapper objectMapper;
+    private final int maxPending;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /** Latest unsent snapshot per meditation, oldest first; guarded by itself. */
+    private final Map<UUID, GenerationProgress> pending = new LinkedHashMap<>();
+
+    /** Sender connection, only used by the sender thread. */
+    private Connection senderConnection;
+
+    private volatile boolean running;
+    private Thread senderThread;
+    private Thread listenerThread;
+
+    @Autowired
+    public PostgresProgressNotifyBridge(DataSourceProperties dataSourceProperties,
+                                        InProcessProgressEventBus eventBus,
+                                        ObjectMapper objectMapper) {
+        this(() -> DriverManager.getConnection(
+                        dataSourceProperties.determineUrl(),
+                        dataSourceProperties.determineUsername(),
+                        dataSourceProperties.determinePassword()),
+                eventBus, objectMapper, MAX_PENDING);
+    }
+
+    PostgresProgressNotifyBridge(ConnectionFactory connectionFactory,
+                                 InProcessProgressEventBus eventBus,
+                                 ObjectMapper objectMapper,
+                                 int maxPending) {
+        this.connectionFactory = connectionFactory;
+        this.eventBus = eventBus;
+        this.objectMapper = objectMapper;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * Queue the snapshot for the sender thread, replacing an unsent one of the
+     * same meditation. When the queue is full a new meditation's snapshot is
+     * dropped, unless it is terminal: then the oldest pending snapshot is.
+     */
+    @Override
+    public void relay(GenerationProgress progress) {
+        synchronized (pending) {
+            UUID meditationId = progress.meditationId();
+            if (!pending.containsKey(meditationId) && pending.size() >= maxPending) {
+                if (!progress.isTerminal()) {
+                    log.warn("Progress relay queue full, dropping snapshot for meditationId={}", meditationId);
+                    return;
+                }
+                Iterator<UUID> oldest = pending.keySet().iterator();
+                log.warn("Progress relay queue full, dropping snapshot for meditationId={}", oldest.next());
+                oldest.remove();
+            }
+            // Re-inserted at the end: a meditation updated continuously does not starve the others
+            pending.remove(meditationId);
+            pending.put(meditationId, progress);
+            pending.notifyAll();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        eventBus.addRelay(this);
+        senderThread = Thread.ofPlatform()
+                .name("generation-progress-sender")
+                .daemon(true)
+                .start(this::sendLoop);
+        listenerThread = Thread.ofPlatform()
+                .name("generation-progress-listener")
+                .daemon(true)
+                .start(this::listenLoop);
+        log.info("Generation progress LISTEN/NOTIFY bridge started: nodeId={}", nodeId);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        eventBus.removeRelay(this);
+        synchronized (pending) {
+            pending.notifyAll();
+        }
+        try {
+            if (senderThread != null) {
+                senderThread.join(POLL_TIMEOUT_MS * 2L);
+            }
+            if (listenerThread != null) {
+                listenerThread.join(POLL_TIMEOUT_MS * 2L);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Generation progress LISTEN/NOTIFY bridge stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    int pendingCount() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    private void sendLoop() {
+        while (running) {
+            synchronized (pending) {
+                while (running && pending.isEmpty()) {
+                    try {
+                        pending.wait(POLL_TIMEOUT_MS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+            if (!flush()) {
+                sleepBeforeReconnect();
+            }
+        }
+        // Best effort: what was published before shutdown
+        flush();
+        closeSender();
+    }
+
+    /**
+     * Send every pending snapshot on the sender connection, opening it if needed.
+     * On a connection failure the unsent snapshots are queued again (newer
+     * snapshots published meanwhile win) and the connection is closed.
+     *
+     * @return false if the connection failed
+     */
+    boolean flush() {
+        List<GenerationProgress> batch;
+        synchronized (pending) {
+            batch = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            GenerationProgress progress = batch.get(i);
+            String payload = payload(progress);
+            if (payload == null) {
+                continue;
+            }
+            try {
+                if (senderConnection == null) {
+                    senderConnection = connectionFactory.open();
+                    senderConnection.setAutoCommit(true);
+                }
+                try (PreparedStatement statement = senderConnection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                    statement.setString(1, CHANNEL);
+                    statement.setString(2, payload);
+                    statement.execute();
+                }
+            } catch (SQLException e) {
+                log.warn("pg_notify failed, retrying in {} ms: {}", RECONNECT_BACKOFF_MS, e.getMessage());
+                closeSender();
+                requeue(batch.subList(i, batch.size()));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String payload(GenerationProgress progress) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(new ProgressEnvelope(nodeId, progress));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize progress for meditationId={}: {}", progress.meditationId(), e.getMessage());
+            return null;
+        }
+        if (payload.length() > MAX_PAYLOAD_LENGTH) {
+            log.warn("Progress payload too large to relay for meditationId={} ({} chars)",
+                    progress.meditationId(), payload.length());
+            return null;
+        }
+        return payload;
+    }
+
+    private void requeue(List<GenerationProgress> unsent) {
+        synchronized (pending) {
+            for (GenerationProgress progress : unsent) {
+                if (pending.size() >= maxPending) {
+                    return;
+                }
+                pending.putIfAbsent(progress.meditationId(), progress);
+            }
+        }
+    }
+
+    private void closeSender() {
+        if (senderConnection == null) {
+            return;
+        }
+        try {
+            senderConnection.close();
+        } catch (SQLException e) {
+            log.debug("Closing the NOTIFY connection failed: {}", e.getMessage());
+        }
+        senderConnection = null;
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = connectionFactory.open()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("LISTEN connection lost, reconnecting in {} ms: {}", RECONNECT_BACKOFF_MS, e.getMessage());
+                if (!sleepBeforeReconnect()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return false if interrupted
+     */
+    private boolean sleepBeforeReconnect() {
+        try {
+            Thread.sleep(RECONNECT_BACKOFF_MS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void handle(String payload) {
+        try {
+            ProgressEnvelope envelope = objectMapper.readValue(payload, ProgressEnvelope.class);
+            if (nodeId.equals(envelope.nodeId()) || envelope.progress() == null) {
+                return;
+            }
+            eventBus.dispatchLocal(envelope.progress());
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.warn("Ignoring malformed progress notification: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Opens a connection outside the pool.
+     */
+    @FunctionalInterface
+    interface ConnectionFactory {
+        Connection open() throws SQLException;
+    }
+
+    /**
+     * Wire format of a NOTIFY payload.
+     */
+    record ProgressEnvelope(String nodeId, GenerationProgress progress) {
+    }
+}
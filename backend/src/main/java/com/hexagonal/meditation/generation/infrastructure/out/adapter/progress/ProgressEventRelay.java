@@ -0,0 +1,17 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.progress;
+
+import com.hexagonal.meditation.generation.domain.model.GenerationProgress;
+
+/**
+ * Forwards locally published progress to other nodes.
+ * Registered on the {@link InProcessProgressEventBus} by cross-node bridges.
+ */
+interface ProgressEventRelay {
+
+    /**
+     * Relay a snapshot published on this node. Implementations must not throw.
+     *
+     * @param progress progress snapshot
+     */
+    void relay(GenerationProgress progress);
+}
@@ -0,0 +1,164 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.storage;
+
+import com.hexagonal.meditation.generation.domain.exception.GenerationCancelledException;
+import com.hexagonal.meditation.generation.domain.model.CancellationToken;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort;
+import com.hexagonal.shared.storage.FileSystemObjectStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filesystem-based media storage adapter, for single-node and offline
+ * deployments: same keys as S3 ({@code generation/{userId}/{meditationId}/...}),
+ * stored in a {@link FileSystemObjectStore} and served by its storage endpoint.
+ *
+ * Identical outputs (re-renders, reused renders copied to another meditation)
+ * share one file on disk through hard links.
+ */
+public class FileSystemMediaStorageAdapter implements MediaStoragePort {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileSystemMediaStorageAdapter.class);
+
+    private final FileSystemObjectStore store;
+
+    public FileSystemMediaStorageAdapter(FileSystemObjectStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public String uploadMedia(UploadRequest request) {
+        String key = request.generateS3Key();
+        try {
+            CancellationToken.current().throwIfCancelled();
+            String url = store.put(request.filePath(), key);
+            logger.info("Media stored successfully: {}", url);
+            return url;
+        } catch (GenerationCancelledException e) {
+            logger.info("Store cancelled: key={}", key);
+            throw e;
+        } catch (IOException e) {
+            logger.error("Failed to store media: key={}", key, e);
+            throw new RuntimeException("Failed to store media: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String copyMedia(CopyRequest request) {
+        String sourceKey = request.sourceS3Key();
+        String targetKey = request.targetS3Key();
+        logger.info("Copying media: {} -> {}", sourceKey, targetKey);
+        try {
+            String url = store.copy(sourceKey, targetKey);
+            logger.info("Media copied successfully: {}", url);
+            return url;
+        } catch (IOException e) {
+            logger.error("Failed to copy media: {} -> {}", sourceKey, targetKey, e);
+            throw new RuntimeException("Failed to copy media: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Store the files of a package one by one, in order (entry file last).
+     * The generation's cancellation is checked between files.
+     */
+    @Override
+    public String uploadPackage(PackageUploadRequest request) {
+        logger.info("Storing package: dir={}, files={}, user={}, meditation={}, name={}",
+            request.directory(), request.files().size(), request.userId(), request.meditationId(),
+            request.packageName());
+        String url = null;
+        String key = null;
+        try {
+            for (Path file : request.files()) {
+                CancellationToken.current().throwIfCancelled();
+                key = request.generateS3Key(file);
+                url = store.put(request.directory().resolve(file), key);
+            }
+            logger.info("Package stored successfully: {}", url);
+            return url;
+        } catch (GenerationCancelledException e) {
+            logger.info("Package store cancelled: key={}", key);
+            throw e;
+        } catch (IOException e) {
+            logger.error("Failed to store package: key={}", key, e);
+            throw new RuntimeException("Failed to store package: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Copy the files of a stored package one by one, entry file last.
+     * The generation's cancellation is checked between files.
+     */
+    @Override
+    public String copyPackage(PackageCopyRequest request) {
+        String prefix = request.sourcePrefix();
+        logger.info("Copying package: {} -> meditation {}", prefix, request.targetMeditationId());
+        String key = null;
+        try {
+            List<String> keys = new ArrayList<>();
+            String pageToken = null;
+            List<FileSystemObjectStore.ListedObject> page;
+            do {
+                page = store.list(prefix, pageToken, 1000);
+                page.forEach(object -> keys.add(object.key()));
+                pageToken = page.isEmpty() ? null : page.get(page.size() - 1).key();
+            } while (page.size() == 1000);
+            if (!keys.remove(request.sourceEntryKey())) {
+                throw new IOException("Entry file not found: " + request.sourceEntryKey());
+            }
+            keys.add(request.sourceEntryKey());
+            String url = null;
+            for (String each : keys) {
+                CancellationToken.current().throwIfCancelled();
+                key = each;
+                url = store.copy(key, request.targetS3Key(key));
+            }
+            logger.info("Package copied successfully: {}", url);
+            return url;
+        } catch (GenerationCancelledException e) {
+            logger.info("Package copy cancelled: key={}", key);
+            throw e;
+        } catch (IOException e) {
+            logger.error("Failed to copy package: prefix={}, key={}", prefix, key, e);
+            throw new RuntimeException("Failed to copy package: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Page of the store listing; the page token is the last key listed.
+     */
+    @Override
+    public ObjectPage listObjects(String prefix, String pageToken, int maxObjects) {
+        int limit = Math.max(1, maxObjects);
+        try {
+            List<StoredObject> objects = store.list(prefix, pageToken, limit).stream()
+                .map(object -> new StoredObject(object.key(), object.size(), object.lastModified()))
+                .toList();
+            String next = objects.size() == limit ? objects.get(objects.size() - 1).key() : null;
+            return new ObjectPage(objects, next);
+        } catch (IOException e) {
+            logger.error("Failed to list media: prefix={}", prefix, e);
+            throw new RuntimeException("Failed to list media: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void deleteObjects(List<String> keys) {
+        String key = null;
+        try {
+            for (String each : keys) {
+                key = each;
+                store.delete(key);
+            }
+            logger.info("Media deleted: keys={}", keys.size());
+        } catch (IOException e) {
+            logger.error("Failed to delete media: key={}", key, e);
+            throw new RuntimeException("Failed to delete media: " + e.getMessage(), e);
+        }
+    }
+}
@@ -1,39 +1,81 @@
 package com.hexagonal.meditation.generation.infrastructure.out.adapter.storage;
 
+import com.hexagonal.meditation.generation.domain.exception.GenerationCancelledException;
+import com.hexagonal.meditation.generation.domain.model.CancellationToken;
 import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.MetadataDirective;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * AWS S3-based media storage adapter using AWS SDK v2.
  * Stores meditation media files in S3 with prefix: generation/{userId}/{meditationId}/
  * Uses LocalStack for local development and testing.
+ * 
+ * Files larger than the multipart threshold are uploaded part by part so a
+ * cancelled generation can abort the upload (and free the stored parts) immediately.
  */
 @Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3MediaStorageAdapter implements MediaStoragePort {
     
     private static final Logger logger = LoggerFactory.getLogger(S3MediaStorageAdapter.class);
     
+    // S3 rejects parts smaller than 5 MiB (except the last one)
+    private static final long MIN_PART_SIZE_BYTES = 5L * 1024 * 1024;
+    private static final long DEFAULT_MULTIPART_THRESHOLD_BYTES = 8L * 1024 * 1024;
+    
     private final S3Client s3Client;
     private final String endpoint;
     private final String bucketName;
+    private final long multipartThresholdBytes;
+    
+    public S3MediaStorageAdapter(S3Client s3Client, String endpoint, String bucketName) {
+        this(s3Client, endpoint, bucketName, DEFAULT_MULTIPART_THRESHOLD_BYTES);
+    }
     
+    @Autowired
     public S3MediaStorageAdapter(
             S3Client s3Client,
             @Value("${aws.s3.endpoint:}") String endpoint,
-            @Value("${aws.s3.bucket-name:meditation-outputs}") String bucketName) {
+            @Value("${aws.s3.bucket-name:meditation-outputs}") String bucketName,
+            @Value("${aws.s3.multipart-threshold-bytes:8388608}") long multipartThresholdBytes) {
         this.s3Client = s3Client;
         this.endpoint = endpoint;
         this.bucketName = bucketName;
+        this.multipartThresholdBytes = Math.max(MIN_PART_SIZE_BYTES, multipartThresholdBytes);
     }
     
     @Override
@@ -49,13 +91,18 @@ public class S3MediaStorageAdapter implements MediaStoragePort {
             String contentType = request.fileType().getContentType();
             
             // Upload to S3
-            PutObjectRequest putRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(s3Key)
-                    .contentType(contentType)
-                    .build();
-            
-            s3Client.putObject(putRequest, RequestBody.fromFile(localFilePath));
+            long size = Files.size(localFilePath);
+            if (size > multipartThresholdBytes) {
+                uploadMultipart(s3Key, localFilePath, contentType, size);
+            } else {
+                PutObjectRequest putRequest = PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(s3Key)
+                        .contentType(contentType)
+                        .build();
+                
+                s3Client.putObject(putRequest, RequestBody.fromFile(localFilePath));
+            }
             
             // Generate URL (LocalStack path-style or AWS virtual-hosted-style)
             String url = generateUrl(s3Key);
@@ -63,12 +110,274 @@ public class S3MediaStorageAdapter implements MediaStoragePort {
             
             return url;
             
+        } catch (GenerationCancelledException e) {
+            logger.info("Upload cancelled: key={}", s3Key);
+            throw e;
         } catch (Exception e) {
             logger.error("Failed to upload media to S3", e);
             throw new RuntimeException("Failed to upload media to S3: " + e.getMessage(), e);
         }
     }
     
+    /**
+     * Server-side copy within the bucket. Objects up to 5 GB are copied in a
+     * single request, which covers every rendered output.
+     */
+    @Override
+    public String copyMedia(CopyRequest request) {
+        String sourceKey = request.sourceS3Key();
+        String targetKey = request.targetS3Key();
+        logger.info("Copying media: {} -> {}", sourceKey, targetKey);
+        
+        try {
+            s3Client.copyObject(CopyObjectRequest.builder()
+                    .sourceBucket(bucketName)
+                    .sourceKey(sourceKey)
+                    .destinationBucket(bucketName)
+                    .destinationKey(targetKey)
+                    .contentType(request.fileType().getContentType())
+                    .metadataDirective(MetadataDirective.REPLACE)
+                    .build());
+            
+            String url = generateUrl(targetKey);
+            logger.info("Media copied successfully: {}", url);
+            return url;
+            
+        } catch (Exception e) {
+            logger.error("Failed to copy media in S3: {} -> {}", sourceKey, targetKey, e);
+            throw new RuntimeException("Failed to copy media in S3: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Upload the files of a package one by one, in order (entry file last).
+     * The generation's cancellation is checked between files.
+     */
+    @Override
+    public String uploadPackage(PackageUploadRequest request) {
+        logger.info("Uploading package: dir={}, files={}, user={}, meditation={}, name={}",
+            request.directory(), request.files().size(), request.userId(), request.meditationId(),
+            request.packageName());
+        
+        String s3Key = null;
+        try {
+            for (Path file : request.files()) {
+                CancellationToken.current().throwIfCancelled();
+                s3Key = request.generateS3Key(file);
+                Path localFile = request.directory().resolve(file);
+                String contentType = PackageUploadRequest.contentTypeOf(file);
+                long size = Files.size(localFile);
+                if (size > multipartThresholdBytes) {
+                    uploadMultipart(s3Key, localFile, contentType, size);
+                } else {
+                    s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(s3Key)
+                            .contentType(contentType)
+                            .build(), RequestBody.fromFile(localFile));
+                }
+            }
+            
+            String url = generateUrl(s3Key);
+            logger.info("Package uploaded successfully: {}", url);
+            return url;
+            
+        } catch (GenerationCancelledException e) {
+            logger.info("Package upload cancelled: key={}", s3Key);
+            throw e;
+        } catch (Exception e) {
+            logger.error("Failed to upload package to S3: key={}", s3Key, e);
+            throw new RuntimeException("Failed to upload package to S3: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Copy the objects of a stored package one by one (server-side, metadata
+     * and content type kept), entry file last.
+     * The generation's cancellation is checked between objects.
+     */
+    @Override
+    public String copyPackage(PackageCopyRequest request) {
+        String prefix = request.sourcePrefix();
+        logger.info("Copying package: {} -> meditation {}", prefix, request.targetMeditationId());
+        
+        String s3Key = null;
+        try {
+            List<String> keys = new ArrayList<>();
+            String pageToken = null;
+            do {
+                ObjectPage page = listObjects(prefix, pageToken, 1000);
+                page.objects().forEach(object -> keys.add(object.key()));
+                pageToken = page.nextPageToken();
+            } while (pageToken != null);
+            if (!keys.remove(request.sourceEntryKey())) {
+                throw new IllegalStateException("Entry file not found: " + request.sourceEntryKey());
+            }
+            keys.add(request.sourceEntryKey());
+            
+            String targetKey = null;
+            for (String key : keys) {
+                CancellationToken.current().throwIfCancelled();
+                s3Key = key;
+                targetKey = request.targetS3Key(key);
+                s3Client.copyObject(CopyObjectRequest.builder()
+                        .sourceBucket(bucketName)
+                        .sourceKey(key)
+                        .destinationBucket(bucketName)
+                        .destinationKey(targetKey)
+                        .build());
+            }
+            
+            String url = generateUrl(targetKey);
+            logger.info("Package copied successfully: {}", url);
+            return url;
+            
+        } catch (GenerationCancelledException e) {
+            logger.info("Package copy cancelled: key={}", s3Key);
+            throw e;
+        } catch (Exception e) {
+            logger.error("Failed to copy package in S3: prefix={}, key={}", prefix, s3Key, e);
+            throw new RuntimeException("Failed to copy package in S3: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * ListObjectsV2 page: keys in UTF-8 binary order, continuation token as page token.
+     */
+    @Override
+    public ObjectPage listObjects(String prefix, String pageToken, int maxObjects) {
+        try {
+            ListObjectsV2Response response = s3Client.listObjectsV2(ListObjectsV2Request.builder()
+                    .bucket(bucketName)
+                    .prefix(prefix)
+                    .continuationToken(pageToken)
+                    .maxKeys(Math.max(1, Math.min(1000, maxObjects)))
+                    .build());
+            List<StoredObject> objects = response.contents().stream()
+                    .map(object -> new StoredObject(object.key(), object.size(), object.lastModified()))
+                    .toList();
+            String next = Boolean.TRUE.equals(response.isTruncated()) ? response.nextContinuationToken() : null;
+            return new ObjectPage(objects, next);
+        } catch (Exception e) {
+            logger.error("Failed to list media in S3: prefix={}", prefix, e);
+            throw new RuntimeException("Failed to list media in S3: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * One DeleteObjects request (quiet mode: only failures are reported back).
+     */
+    @Override
+    public void deleteObjects(List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        if (keys.size() > 1000) {
+            throw new IllegalArgumentException("At most 1000 keys can be deleted per call");
+        }
+        DeleteObjectsResponse response;
+        try {
+            response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder()
+                            .objects(keys.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                            .quiet(true)
+                            .build())
+                    .build());
+        } catch (Exception e) {
+            logger.error("Failed to delete media in S3: keys={}", keys.size(), e);
+            throw new RuntimeException("Failed to delete media in S3: " + e.getMessage(), e);
+        }
+        if (response.hasErrors() && !response.errors().isEmpty()) {
+            S3Error error = response.errors().get(0);
+            throw new RuntimeException("Failed to delete media in S3: " + response.errors().size()
+                    + " objects not deleted, first " + error.key() + ": " + error.code());
+        }
+        logger.info("Media deleted from S3: keys={}", keys.size());
+    }
+    
+    /**
+     * Upload a large file with the multipart API. The upload is aborted on any
+     * failure and, through the generation's cancellation token, as soon as the
+     * generation is cancelled (even while a part is in flight).
+     */
+    private void uploadMultipart(String s3Key, Path file, String contentType, long size) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key)
+                .contentType(contentType)
+                .build()).uploadId();
+        logger.debug("Multipart upload started: key={}, uploadId={}, size={} bytes", s3Key, uploadId, size);
+        
+        CancellationToken token = CancellationToken.current();
+        AtomicBoolean aborted = new AtomicBoolean(false);
+        Runnable abort = () -> {
+            if (aborted.compareAndSet(false, true)) {
+                abortMultipartUpload(s3Key, uploadId);
+            }
+        };
+        
+        try (CancellationToken.Registration cancellation = token.onCancel(abort);
+             FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<CompletedPart> parts = new ArrayList<>();
+            ByteBuffer buffer = ByteBuffer.allocate((int) multipartThresholdBytes);
+            long position = 0;
+            int partNumber = 1;
+            
+            while (position < size) {
+                token.throwIfCancelled();
+                int length = (int) Math.min(multipartThresholdBytes, size - position);
+                buffer.clear().limit(length);
+                int read = 0;
+                while (read < length) {
+                    int n = channel.read(buffer, position + read);
+                    if (n < 0) {
+                        break;
+                    }
+                    read += n;
+                }
+                buffer.flip();
+                
+                UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucketName)
+                        .key(s3Key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) buffer.remaining())
+                        .build(), RequestBody.fromByteBuffer(buffer));
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+                
+                position += length;
+                partNumber++;
+            }
+            
+            token.throwIfCancelled();
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            logger.debug("Multipart upload completed: key={}, parts={}", s3Key, parts.size());
+        } catch (RuntimeException | IOException e) {
+            abort.run();
+            throw e;
+        }
+    }
+    
+    private void abortMultipartUpload(String s3Key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .uploadId(uploadId)
+                    .build());
+            logger.info("Multipart upload aborted: key={}, uploadId={}", s3Key, uploadId);
+        } catch (Exception e) {
+            logger.warn("Failed to abort multipart upload key={}, uploadId={}: {}", s3Key, uploadId, e.getMessage());
+        }
+    }
+    
     private String generateUrl(String s3Key) {
         if (!endpoint.isBlank()) {
             // LocalStack: use path-style URLs
@@ -6,25 +6,27 @@ import com.hexagonal.meditation.generation.domain.model.NarrationScript;
 import com.hexagonal.meditation.generation.domain.ports.out.VoiceSynthesisPort;
 import com.hexagonal.meditation.generation.infrastructure.config.FfmpegConfig;
 import com.hexagonal.meditation.generation.infrastructure.config.GoogleCloudTtsConfig;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm.PcmFormat;
+import com.hexagonal.meditation.generation.infrastructure.out.service.audio.MediaDurationProbe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 
 /**
- * Google Cloud Text-to-Speech adapter with automatic fallback to FFmpeg.
+ * Google Cloud Text-to-Speech adapter with automatic fallback to silent audio.
  * 
  * Supports two modes:
  * 1. Google Cloud TTS (when enabled and configured)
- * 2. FFmpeg silent audio fallback (for development/testing)
+ * 2. Silent audio fallback generated in Java (for development/testing and outages)
+ * 
+ * Synthesized bytes are written straight from the response ByteString
+ * (no extra heap copy); speech that is only measured never touches the disk.
  * 
  * Configuration via application.yml:
  * - google-cloud.tts.enabled: true/false
@@ -42,15 +44,16 @@ public class GoogleTtsAdapter implements VoiceSynthesisPort {
     
     private final Optional<TextToSpeechClient> ttsClient;
     private final GoogleCloudTtsConfig ttsConfig;
-    private final FfmpegConfig ffmpegConfig;
+    private final SpeechDurationProbe durationProbe;
     
     public GoogleTtsAdapter(
             Optional<TextToSpeechClient> ttsClient, 
             GoogleCloudTtsConfig ttsConfig,
-            FfmpegConfig ffmpegConfig) {
+            FfmpegConfig ffmpegConfig,
+            Optional<MediaDurationProbe> mediaDurationProbe) {
         this.ttsClient = ttsClient;
         this.ttsConfig = ttsConfig;
-        this.ffmpegConfig = ffmpegConfig;
+        this.durationProbe = new SpeechDurationProbe(ffmpegConfig.getPath(), mediaDurationProbe);
     }
     
     @Override
@@ -60,9 +63,9 @@ public class GoogleTtsAdapter implements VoiceSynthesisPort {
             return synthesizeWithGoogleTtsAndPauses(script, voiceConfig);
         }
         
-        // Fallback to FFmpeg silent audio
-        logger.warn("Google Cloud TTS is disabled or not configured. Using FFmpeg silent audio fallback.");
-        return synthesizeWithFfmpegFallback(script, 0.0);
+        // Fallback to silent audio
+        logger.warn("Google Cloud TTS is disabled or not configured. Using silent audio fallback.");
+        return synthesizeSilentFallback(script, 0.0);
     }
 
     @Override
@@ -76,9 +79,9 @@ public class GoogleTtsAdapter implements VoiceSynthesisPort {
             }
         }
         
-        // Fallback to FFmpeg silent audio
-        logger.warn("Google Cloud TTS is disabled or not configured. Using FFmpeg silent audio fallback.");
-        return synthesizeWithFfmpegFallback(script, targetDurationSeconds);
+        // Fallback to silent audio
+        logger.warn("Google Cloud TTS is disabled or not configured. Using silent audio fallback.");
+        return synthesizeSilentFallback(script, targetDurationSeconds);
     }
     
     /**
@@ -119,12 +122,8 @@ public class GoogleTtsAdapter implements VoiceSynthesisPort {
             // Perform the text-to-speech request
             SynthesizeSpeechResponse response = client.synthesizeSpeech(input, voice, audioConfig);
             
-            // Get the audio contents
-            ByteString audioContents = response.getAudioContent();
-            
             // Write to temporary file
-            Path outputPath = Files.createTempFile("narration-", ".mp3");
-            Files.write(outputPath, audioContents.toByteArray());
+            Path outputPath = writeAudio(response.getAudioContent(), "narration-");
             
             long fileSize = Files.size(outputPath);
             logger.info("Google TTS synthesis completed: {} ({} bytes)", outputPath, fileSize);
@@ -132,10 +131,10 @@ public class GoogleTtsAdapter implements VoiceSynthesisPort {
             return outputPath;
             
         } catch (Exception e) {
-            logger.error("Google Cloud TTS failed: {}. Falling back to FFmpeg.", e.getMessage(), e);
+            logger.error("Google Cloud TTS failed: {}. Falling back to silent audio.", e.getMessage(), e);
             
-            // Fallback to FFmpeg if Google TTS fails
-            return synthesizeWithFfmpegFallback(script, 0.0);
+            // Fallback to silent audio if Google TTS fails
+            return synthesizeSilentFallback(script, 0.0);
         }
     }
     
@@ -183,41 +182,18 @@ public class GoogleTtsAdapter implements VoiceSynthesisPort {
             
             // STEP 1: Synthesize WITHOUT pauses to measure real natural duration
             logger.debug("Step 1: Synthesizing without pauses to measure real duration");
-            Path naturalAudio = synthesizeWithoutPauses(script, voiceConfig, client);
+            ByteString naturalAudio = synthesizeWithoutPauses(script, voiceConfig, client);
             
-            // Measure the REAL natural speech duration using ffprobe
+            // Measure the REAL natural speech duration from the response bytes
             double naturalDuration;
             try {
-                ProcessBuilder pb = new ProcessBuilder(
-                    "ffprobe",
-                    "-v", "error",
-                    "-show_entries", "format=duration",
-                    "-of", "default=noprint_wrappers=1:nokey=1",
-                    naturalAudio.toAbsolutePath().toString()
-                );
-                pb.redirectErrorStream(true);
-                Process process = pb.start();
-                
-                try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-                    String durationStr = reader.readLine();
-                    naturalDuration = Double.parseDouble(durationStr.trim());
-                    logger.info("Real natural speech duration measured: {} seconds", naturalDuration);
-                }
-                
-                process.waitFor();
-                
-            } catch (Exception e) {
+                naturalDuration = durationProbe.durationSeconds(naturalAudio);
+                logger.info("Real natural speech duration measured: {} seconds", naturalDuration);
+            } catch (IOException e) {
                 logger.warn("Could not measure natural audio duration, using estimation: {}", e.getMessage());
                 double speakingRate = ttsConfig.getAudio().getSpeakingRate();
                 double charsPerSecond = 15.0 * speakingRate;
                 naturalDuration = script.text().length() / charsPerSecond;
-            } finally {
-                // Clean up temporary file
-                try {
-                    Files.deleteIfExists(naturalAudio);
-                } catch (IOException e) {
-                    logger.debug("Could not delete temporary file: {}", naturalAudio);
-                }
             }
             
             // Calculate total pause time needed
@@ -254,12 +230,8 @@ public class GoogleTtsAdapter implements VoiceSynthesisPort {
             // Perform the text-to-speech request
             SynthesizeSpeechResponse response = client.synthesizeSpeech(input, voice, audioConfig);
             
-            // Get the audio contents
-            ByteString audioContents = response.getAudioContent();
-            
             // Write to temporary file
-            Path outputPath = Files.createTempFile("narration-", ".mp3");
-            Files.write(outputPath, audioContents.toByteArray());
+            Path outputPath = writeAudio(response.getAudioContent(), "narration-");
             
             long fileSize = Files.size(outputPath);
             logger.info("Google TTS synthesis completed: {} ({} bytes, target: {} seconds)", 
@@ -268,10 +240,10 @@ public class GoogleTtsAdapter implements VoiceSynthesisPort {
             return outputPath;
             
         } catch (Exception e) {
-            logger.error("Google Cloud TTS failed: {}. Falling back to FFmpeg.", e.getMessage(), e);
+            logger.error("Google Cloud TTS failed: {}. Falling back to silent audio.", e.getMessage(), e);
             
-            // Fallback to FFmpeg if Google TTS fails
-            return synthesizeWithFfmpegFallback(script, targetDurationSeconds);
+            // Fallback to silent audio if Google TTS fails
+            return synthesizeSilentFallback(script, targetDurationSeconds);
         }
     }
     
@@ -319,9 +291,9 @@ public class GoogleTtsAdapter implements VoiceSynthesisPort {
     
     /**
      * Synthesize voice WITHOUT pauses to measure natural duration.
-     * Used as first step in two-step synthesis process.
+     * Used as first step in two-step synthesis process; the audio stays in memory.
      */
-    private Path synthesizeWithoutPauses(NarrationScript script, VoiceConfig voiceConfig, TextToSpeechClient client) throws IOException {
+    private ByteString synthesizeWithoutPauses(NarrationScript script, VoiceConfig voiceConfig, TextToSpeechClient client) {
         // Build simple SSML without any pauses
         String ssmlText = "<speak>" + escapeXml(script.text()) + "</speak>";
         SynthesisInput input = SynthesisInput.newBuilder()
@@ -347,17 +319,36 @@ public class GoogleTtsAdapter implements VoiceSynthesisPort {
         // Perform the text-to-speech request
         SynthesizeSpeechResponse response = client.synthesizeSpeech(input, voice, audioConfig);
         
-        // Get the audio contents
         ByteString audioContents = response.getAudioContent();
-        
-        // Write to temporary file
-        Path outputPath = Files.createTempFile("narration-natural-", ".mp3");
-        Files.write(outputPath, audioContents.toByteArray());
-        
-        logger.debug("Natural speech synthesized (no pauses): {}", outputPath);
+        logger.debug("Natural speech synthesized (no pauses): {} bytes", audioContents.size());
+        return audioContents;
+    }
+    
+    /**
+     * Write synthesized audio to a temporary file directly from the response ByteString.
+     */
+    private Path writeAudio(ByteString audioContents, String prefix) throws IOException {
+        Path outputPath = Files.createTempFile(prefix, extensionFor(ttsConfig.getAudio().getEncoding()));
+        try (OutputStream out = Files.newOutputStream(outputPath)) {
+            audioContents.writeTo(out);
+        }
         return outputPath;
     }
     
+    /**
+     * File extension matching the configured TTS encoding (LINEAR16, MULAW and ALAW come with a WAV header).
+     */
+    static String extensionFor(String encoding) {
+        if (encoding == null) {
+            return ".mp3";
+        }
+        return switch (encoding) {
+            case "LINEAR16", "MULAW", "ALAW" -> ".wav";
+            case "OGG_OPUS" -> ".ogg";
+            default -> ".mp3";
+        };
+    }
+    
     /**
      * Escape special XML characters for SSML.
      */
@@ -371,10 +362,11 @@ public class GoogleTtsAdapter implements VoiceSynthesisPort {
     }
     
     /**
-     * Fallback: Generate silent audio using FFmpeg.
+     * Fallback: Generate silent audio in Java (no process).
      * Duration is estimated based on text length, or uses targetDurationSeconds if provided.
+     * LINEAR16 configurations get WAV so the narration stays mixable in the JVM; others get MP3.
      */
-    private Path synthesizeWithFfmpegFallback(NarrationScript script, double targetDurationSeconds) {
+    private Path synthesizeSilentFallback(NarrationScript script, double targetDurationSeconds) {
         logger.info("Generating fallback silent audio for {} character script", script.text().length());
         
         // Calculate duration
@@ -390,62 +382,21 @@ public class GoogleTtsAdapter implements VoiceSynthesisPort {
         }
         
         try {
-            Path outputPath = Files.createTempFile("narration-", ".mp3");
-            
-            // Generate silent audio using FFmpeg
-            List<String> command = new ArrayList<>();
-            command.add(ffmpegConfig.getPath());
-            command.add("-f");
-            command.add("lavfi");
-            command.add("-i");
-            command.add("anullsrc=r=48000:cl=stereo");
-            command.add("-t");
-            command.add(String.valueOf(durationSeconds));
-            command.add("-ar");
-            command.add("48000");
-            command.add("-ac");
-            command.add("2");
-            command.add("-b:a");
-            command.add("128k");
-            command.add("-y");
-            command.add(outputPath.toAbsolutePath().toString());
-            
-            logger.debug("Executing FFmpeg fallback command: {}", String.join(" ", command));
-            
-            ProcessBuilder pb = new ProcessBuilder(command);
-            pb.redirectErrorStream(true);
-            Process process = pb.start();
-            
-            // Read output
-            StringBuilder output = new StringBuilder();
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    output.append(line).append("\n");
-                    logger.trace("FFmpeg fallback: {}", line);
-                }
-            }
-            
-            int exitCode = process.waitFor();
-            
-            if (exitCode == 0) {
-                long fileSize = Files.size(outputPath);
-                logger.info("FFmpeg fallback synthesis completed: {} ({} bytes, {} seconds)", 
-                    outputPath, fileSize, durationSeconds);
-                return outputPath;
+            Path outputPath;
+            if (".wav".equals(extensionFor(ttsConfig.getAudio().getEncoding()))) {
+                outputPath = Files.createTempFile("narration-", ".wav");
+                SilentAudio.writeWav(outputPath, new PcmFormat(
+                    ttsConfig.getAudio().getSampleRate(), 1, PcmFormat.SampleEncoding.PCM_16), durationSeconds);
             } else {
-                logger.error("FFmpeg fallback failed with exit code {}. Output:\n{}", exitCode, output);
-                throw new RuntimeException("FFmpeg fallback failed with exit code " + exitCode);
+                outputPath = Files.createTempFile("narration-", ".mp3");
+                SilentAudio.writeMp3(outputPath, durationSeconds);
             }
-            
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.error("FFmpeg fallback process interrupted", e);
-            throw new RuntimeException("TTS fallback failed: FFmpeg process interrupted", e);
+            logger.info("Silent fallback synthesis completed: {} ({} bytes, {} seconds)", 
+                outputPath, Files.size(outputPath), durationSeconds);
+            return outputPath;
         } catch (IOException e) {
-            logger.error("FFmpeg fallback IO error: {}", e.getMessage(), e);
-            throw new RuntimeException("TTS fallback failed: " + e.getMessage() + 
-                ". Please install FFmpeg or configure Google Cloud TTS", e);
+            logger.error("Silent fallback IO error: {}", e.getMessage(), e);
+            throw new RuntimeException("TTS fallback failed: " + e.getMessage(), e);
         }
     }
 }
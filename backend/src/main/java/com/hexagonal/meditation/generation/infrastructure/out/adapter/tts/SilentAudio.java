@@ -0,0 +1,95 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.tts;
+
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm.PcmFormat;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm.WavWriter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Pure-Java silent audio of any length, for the narration fallback.
+ *
+ * MP3: a precomputed MPEG-1 Layer III frame (48 kHz, 128 kbps CBR, stereo)
+ * whose side info is all zeros, so every granule decodes to silence. It is
+ * repeated from a cached block (1152 samples per 384-byte frame), with the
+ * same layout and bitrate as the former {@code ffmpeg anullsrc} fallback.
+ *
+ * WAV: a header followed by zeroed blocks, in any {@link PcmFormat}.
+ */
+final class SilentAudio {
+
+    static final int MP3_SAMPLE_RATE = 48000;
+    static final int MP3_SAMPLES_PER_FRAME = 1152;
+    /** 144 * bitrate / sample rate, no padding needed at 48 kHz */
+    static final int MP3_FRAME_SIZE = 144 * 128_000 / MP3_SAMPLE_RATE;
+
+    /** Sync, MPEG-1, Layer III, no CRC / 128 kbps, 48 kHz, no padding / stereo */
+    private static final byte[] MP3_FRAME_HEADER = {(byte) 0xFF, (byte) 0xFB, (byte) 0x94, (byte) 0x00};
+
+    private static final int FRAMES_PER_BLOCK = 256;
+    private static final ByteBuffer MP3_BLOCK = mp3Block();
+    private static final ByteBuffer ZERO_BLOCK = ByteBuffer.allocateDirect(64 * 1024).asReadOnlyBuffer();
+
+    private SilentAudio() {
+    }
+
+    /**
+     * Write silent MP3 lasting at least the given duration (rounded up to whole frames).
+     *
+     * @param output file to create or truncate
+     * @param seconds duration
+     * @return number of MP3 frames written
+     * @throws IOException if the file cannot be written
+     */
+    static long writeMp3(Path output, double seconds) throws IOException {
+        long frames = (long) Math.ceil(seconds * MP3_SAMPLE_RATE / MP3_SAMPLES_PER_FRAME);
+        try (FileChannel channel = FileChannel.open(output,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long remaining = frames;
+            while (remaining > 0) {
+                int count = (int) Math.min(remaining, FRAMES_PER_BLOCK);
+                ByteBuffer block = MP3_BLOCK.duplicate().limit(count * MP3_FRAME_SIZE);
+                while (block.hasRemaining()) {
+                    channel.write(block);
+                }
+                remaining -= count;
+            }
+        }
+        return frames;
+    }
+
+    /**
+     * Write silent WAV of the given duration (rounded to whole samples).
+     *
+     * @param output file to create or truncate
+     * @param format sample layout
+     * @param seconds duration
+     * @return number of frames written
+     * @throws IOException if the file cannot be written
+     */
+    static long writeWav(Path output, PcmFormat format, double seconds) throws IOException {
+        long frames = format.framesFor(seconds);
+        int framesPerBlock = ZERO_BLOCK.capacity() / format.frameSize();
+        try (WavWriter writer = WavWriter.create(output, format)) {
+            long remaining = frames;
+            while (remaining > 0) {
+                int count = (int) Math.min(remaining, framesPerBlock);
+                writer.write(ZERO_BLOCK.duplicate().limit(count * format.frameSize()));
+                remaining -= count;
+            }
+        }
+        return frames;
+    }
+
+    private static ByteBuffer mp3Block() {
+        // Side info and main data stay zero: part2_3_length = 0 means no Huffman data, i.e. silence
+        ByteBuffer block = ByteBuffer.allocateDirect(FRAMES_PER_BLOCK * MP3_FRAME_SIZE);
+        for (int frame = 0; frame < FRAMES_PER_BLOCK; frame++) {
+            block.put(frame * MP3_FRAME_SIZE, MP3_FRAME_HEADER);
+        }
+        return block.asReadOnlyBuffer();
+    }
+}
@@ -0,0 +1,115 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.tts;
+
+import com.google.protobuf.ByteString;
+import com.hexagonal.meditation.generation.domain.model.CancellationToken;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm.WavFile;
+import com.hexagonal.meditation.generation.infrastructure.out.service.audio.MediaDurationProbe;
+import com.hexagonal.meditation.generation.infrastructure.out.service.process.CancellableProcesses;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Measures the duration of synthesized speech without writing it to disk.
+ *
+ * LINEAR16 responses are WAV: the duration is read from the header of the
+ * response bytes in place. Compressed responses (MP3, OGG_OPUS) are streamed
+ * into FFmpeg's stdin with {@link ByteString#writeTo(OutputStream)} and decoded
+ * to the null muxer; the duration is the last {@code out_time_us} it reports.
+ * With an in-process probe configured, compressed responses are read from
+ * memory by libav instead, and FFmpeg is only started if that fails.
+ */
+class SpeechDurationProbe {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpeechDurationProbe.class);
+
+    private static final String OUT_TIME_US = "out_time_us=";
+    private static final ByteString RIFF = ByteString.copyFrom("RIFF", StandardCharsets.US_ASCII);
+
+    private final String ffmpegPath;
+    private final Optional<MediaDurationProbe> inProcessProbe;
+
+    SpeechDurationProbe(String ffmpegPath) {
+        this(ffmpegPath, Optional.empty());
+    }
+
+    SpeechDurationProbe(String ffmpegPath, Optional<MediaDurationProbe> inProcessProbe) {
+        this.ffmpegPath = ffmpegPath;
+        this.inProcessProbe = inProcessProbe;
+    }
+
+    /**
+     * @param audio synthesized audio as returned by the TTS service
+     * @return duration in seconds
+     * @throws IOException if the audio cannot be decoded
+     */
+    double durationSeconds(ByteString audio) throws IOException {
+        if (audio.startsWith(RIFF)) {
+            // Zero-copy view of the response bytes
+            return WavFile.parse(audio.asReadOnlyByteBuffer()).durationSeconds();
+        }
+        if (inProcessProbe.isPresent()) {
+            try {
+                return inProcessProbe.get().durationSeconds(audio.asReadOnlyByteBuffer());
+            } catch (IOException e) {
+                logger.debug("In-process speech duration probe failed, decoding with FFmpeg: {}", e.getMessage());
+            }
+        }
+        try {
+            return decodeDuration(audio);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Speech duration probe interrupted", e);
+        }
+    }
+
+    private double decodeDuration(ByteString audio) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(List.of(
+                ffmpegPath, "-nostats", "-loglevel", "error",
+                "-progress", "pipe:1",
+                "-i", "pipe:0",
+                "-f", "null", "-"))
+            .redirectError(ProcessBuilder.Redirect.DISCARD)
+            .start();
+
+        try (CancellationToken.Registration cancellation = CancellableProcesses.register(process)) {
+            // Feed stdin on its own thread so progress output can never back up into a deadlock
+            Thread feeder = Thread.ofVirtual().name("tts-probe-feeder").start(() -> {
+                try (OutputStream stdin = process.getOutputStream()) {
+                    audio.writeTo(stdin);
+                } catch (IOException e) {
+                    // FFmpeg exited early; its exit code reports the failure
+                }
+            });
+
+            long outTimeMicros = -1;
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith(OUT_TIME_US)) {
+                        try {
+                            outTimeMicros = Math.max(outTimeMicros, Long.parseLong(line.substring(OUT_TIME_US.length()).trim()));
+                        } catch (NumberFormatException e) {
+                            // "N/A" before the first decoded frame
+                        }
+                    }
+                }
+            }
+            feeder.join();
+            int exitCode = process.waitFor();
+            CancellationToken.current().throwIfCancelled();
+            if (exitCode != 0 || outTimeMicros < 0) {
+                throw new IOException("FFmpeg could not decode synthesized speech (exit code " + exitCode + ")");
+            }
+            return outTimeMicros / 1_000_000.0;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.hexagonal.meditation.generation.infrastructure.out.persistence;
 
+import com.hexagonal.meditation.generation.domain.enums.GenerationStatus;
+import com.hexagonal.meditation.generation.domain.enums.RenderQualityTier;
 import com.hexagonal.meditation.generation.domain.model.GeneratedMeditationContent;
 import com.hexagonal.meditation.generation.domain.ports.out.ContentRepositoryPort;
 import com.hexagonal.meditation.generation.infrastructure.out.persistence.entity.MeditationOutputEntity;
@@ -10,6 +12,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -59,6 +62,14 @@ public class PostgresContentRepository implements ContentRepositoryPort {
         return mapper.toDomain(savedEntity);
     }
     
+    @Override
+    public boolean cancelIfProcessing(UUID meditationId, Instant cancelledAt) {
+        int updated = jpaRepository.updateStatusIf(
+            meditationId, GenerationStatus.PROCESSING, GenerationStatus.CANCELLED, cancelledAt);
+        logger.info("Cancelling meditation output: id={}, wasProcessing={}", meditationId, updated > 0);
+        return updated > 0;
+    }
+    
     @Override
     public Optional<GeneratedMeditationContent> findById(UUID meditationId) {
         logger.debug("Finding meditation output by ID: {}", meditationId);
@@ -83,4 +94,13 @@ public class PostgresContentRepository implements ContentRepositoryPort {
         return jpaRepository.findByIdempotencyKey(idempotencyKey)
             .map(mapper::toDomain);
     }
+    
+    @Override
+    public Optional<GeneratedMeditationContent> findReusableByContentKey(String contentKey) {
+        logger.debug("Finding reusable meditation output by content key: {}", contentKey);
+        
+        return jpaRepository.findFirstByContentKeyAndStatusAndRenderQualityOrderByCompletedAtDesc(
+                contentKey, GenerationStatus.COMPLETED, RenderQualityTier.FULL)
+            .map(mapper::toDomain);
+    }
 }
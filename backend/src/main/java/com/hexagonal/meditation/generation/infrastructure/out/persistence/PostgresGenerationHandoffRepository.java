@@ -0,0 +1,91 @@
+package com.hexagonal.meditation.generation.infrastructure.out.persistence;
+
+import com.hexagonal.meditation.generation.domain.enums.GenerationStage;
+import com.hexagonal.meditation.generation.domain.model.HandedOffGeneration;
+import com.hexagonal.meditation.generation.domain.ports.out.GenerationHandoffPort;
+import com.hexagonal.meditation.generation.infrastructure.out.persistence.entity.GenerationHandoffEntity;
+import com.hexagonal.meditation.generation.infrastructure.out.persistence.mapper.GenerationHandoffMapper;
+import com.hexagonal.meditation.generation.infrastructure.out.persistence.repository.JpaGenerationHandoffRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * PostgreSQL-based implementation of GenerationHandoffPort.
+ * Hand-offs are saved with Spring Data JPA. Entries are claimed with a single
+ * DELETE ... RETURNING over rows locked with SKIP LOCKED, so two nodes never
+ * resume the same generation; Spring Data only runs modifying queries that
+ * return a row count, so the claim is executed through JdbcTemplate.
+ */
+@Repository
+@Transactional
+public class PostgresGenerationHandoffRepository implements GenerationHandoffPort {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PostgresGenerationHandoffRepository.class);
+    
+    static final String CLAIM_OLDEST_SQL = """
+            DELETE FROM generation.generation_handoff
+            WHERE handoff_id IN (
+                SELECT handoff_id FROM generation.generation_handoff
+                ORDER BY handed_off_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            RETURNING handoff_id, meditation_id, composition_id, user_id, narration_text,
+                      music_reference, image_reference, checkpoint_stage, handed_off_at
+            """;
+    
+    private final JpaGenerationHandoffRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final GenerationHandoffMapper mapper;
+    
+    public PostgresGenerationHandoffRepository(JpaGenerationHandoffRepository jpaRepository,
+                                               JdbcTemplate jdbcTemplate,
+                                               GenerationHandoffMapper mapper) {
+        this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.mapper = mapper;
+    }
+    
+    @Override
+    public void handOff(HandedOffGeneration generation) {
+        logger.info("Saving generation hand-off: id={}, checkpoint={}", generation.id(), generation.checkpoint());
+        jpaRepository.save(mapper.toEntity(generation));
+    }
+    
+    @Override
+    public List<HandedOffGeneration> claim(int max) {
+        if (max <= 0) {
+            return List.of();
+        }
+        List<HandedOffGeneration> claimed = jdbcTemplate.query(CLAIM_OLDEST_SQL, this::toEntity, max).stream()
+            .map(mapper::toDomain)
+            // RETURNING does not keep the order of the subquery
+            .sorted(Comparator.comparing(HandedOffGeneration::handedOffAt))
+            .toList();
+        logger.debug("Claimed {} generation hand-off(s)", claimed.size());
+        return claimed;
+    }
+    
+    private GenerationHandoffEntity toEntity(ResultSet rs, int rowNum) throws SQLException {
+        String checkpoint = rs.getString("checkpoint_stage");
+        return new GenerationHandoffEntity(
+            rs.getObject("handoff_id", UUID.class),
+            rs.getObject("meditation_id", UUID.class),
+            rs.getObject("composition_id", UUID.class),
+            rs.getObject("user_id", UUID.class),
+            rs.getString("narration_text"),
+            rs.getString("music_reference"),
+            rs.getString("image_reference"),
+            checkpoint != null ? GenerationStage.valueOf(checkpoint) : null,
+            rs.getTimestamp("handed_off_at").toInstant()
+        );
+    }
+}
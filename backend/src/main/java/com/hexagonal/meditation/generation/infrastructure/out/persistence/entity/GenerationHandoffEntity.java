@@ -0,0 +1,100 @@
+package com.hexagonal.meditation.generation.infrastructure.out.persistence.entity;
+
+import com.hexagonal.meditation.generation.domain.enums.GenerationStage;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA entity for generations handed off by draining nodes.
+ * Maps to `generation_handoff` table.
+ */
+@Entity
+@Table(name = "generation_handoff", schema = "generation")
+public class GenerationHandoffEntity {
+
+    @Id
+    @Column(name = "handoff_id", nullable = false)
+    private UUID handoffId;
+
+    @Column(name = "meditation_id")
+    private UUID meditationId;
+
+    @Column(name = "composition_id", nullable = false)
+    private UUID compositionId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "narration_text", nullable = false, columnDefinition = "TEXT")
+    private String narrationText;
+
+    @Column(name = "music_reference", nullable = false, columnDefinition = "TEXT")
+    private String musicReference;
+
+    @Column(name = "image_reference", columnDefinition = "TEXT")
+    private String imageReference;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "checkpoint_stage", length = 20)
+    private GenerationStage checkpointStage;
+
+    @Column(name = "handed_off_at", nullable = false)
+    private Instant handedOffAt;
+
+    // Constructors
+    public GenerationHandoffEntity() {
+    }
+
+    public GenerationHandoffEntity(UUID handoffId, UUID meditationId, UUID compositionId, UUID userId,
+                                   String narrationText, String musicReference, String imageReference,
+                                   GenerationStage checkpointStage, Instant handedOffAt) {
+        this.handoffId = handoffId;
+        this.meditationId = meditationId;
+        this.compositionId = compositionId;
+        this.userId = userId;
+        this.narrationText = narrationText;
+        this.musicReference = musicReference;
+        this.imageReference = imageReference;
+        this.checkpointStage = checkpointStage;
+        this.handedOffAt = handedOffAt;
+    }
+
+    // Getters
+    public UUID getHandoffId() {
+        return handoffId;
+    }
+
+    public UUID getMeditationId() {
+        return meditationId;
+    }
+
+    public UUID getCompositionId() {
+        return compositionId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public String getNarrationText() {
+        return narrationText;
+    }
+
+    public String getMusicReference() {
+        return musicReference;
+    }
+
+    public String getImageReference() {
+        return imageReference;
+    }
+
+    public GenerationStage getCheckpointStage() {
+        return checkpointStage;
+    }
+
+    public Instant getHandedOffAt() {
+        return handedOffAt;
+    }
+}
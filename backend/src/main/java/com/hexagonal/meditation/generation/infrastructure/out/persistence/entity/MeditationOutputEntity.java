@@ -2,6 +2,7 @@ package com.hexagonal.meditation.generation.infrastructure.out.persistence.entit
 
 import com.hexagonal.meditation.generation.domain.enums.GenerationStatus;
 import com.hexagonal.meditation.generation.domain.enums.MediaType;
+import com.hexagonal.meditation.generation.domain.enums.RenderQualityTier;
 import jakarta.persistence.*;
 
 import java.time.Instant;
@@ -65,6 +66,28 @@ public class MeditationOutputEntity {
     
     @Column(name = "completed_at")
     private Instant completedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "render_quality", length = 20)
+    private RenderQualityTier renderQuality;
+
+    @Column(name = "preview_url", length = 500)
+    private String previewUrl;
+
+    @Column(name = "content_key", length = 64)
+    private String contentKey;
+
+    @Column(name = "streaming_url", length = 500)
+    private String streamingUrl;
+
+    @Column(name = "audio_track_url", length = 500)
+    private String audioTrackUrl;
+
+    @Column(name = "waveform_url", length = 500)
+    private String waveformUrl;
+
+    @Column(name = "poster_url", length = 500)
+    private String posterUrl;
     
     // Constructors
     public MeditationOutputEntity() {
@@ -213,4 +236,60 @@ public class MeditationOutputEntity {
     public void setCompletedAt(Instant completedAt) {
         this.completedAt = completedAt;
     }
+
+    public RenderQualityTier getRenderQuality() {
+        return renderQuality;
+    }
+
+    public void setRenderQuality(RenderQualityTier renderQuality) {
+        this.renderQuality = renderQuality;
+    }
+
+    public String getPreviewUrl() {
+        return previewUrl;
+    }
+
+    public void setPreviewUrl(String previewUrl) {
+        this.previewUrl = previewUrl;
+    }
+
+    public String getContentKey() {
+        return contentKey;
+    }
+
+    public void setContentKey(String contentKey) {
+        this.contentKey = contentKey;
+    }
+
+    public String getStreamingUrl() {
+        return streamingUrl;
+    }
+
+    public void setStreamingUrl(String streamingUrl) {
+        this.streamingUrl = streamingUrl;
+    }
+
+    public String getAudioTrackUrl() {
+        return audioTrackUrl;
+    }
+
+    public void setAudioTrackUrl(String audioTrackUrl) {
+        this.audioTrackUrl = audioTrackUrl;
+    }
+
+    public String getWaveformUrl() {
+        return waveformUrl;
+    }
+
+    public void setWaveformUrl(String waveformUrl) {
+        this.waveformUrl = waveformUrl;
+    }
+
+    public String getPosterUrl() {
+        return posterUrl;
+    }
+
+    public void setPosterUrl(String posterUrl) {
+        this.posterUrl = posterUrl;
+    }
 }
@@ -0,0 +1,52 @@
+package com.hexagonal.meditation.generation.infrastructure.out.persistence.mapper;
+
+import com.hexagonal.meditation.generation.domain.model.HandedOffGeneration;
+import com.hexagonal.meditation.generation.infrastructure.out.persistence.entity.GenerationHandoffEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper between domain HandedOffGeneration and persistence GenerationHandoffEntity.
+ */
+@Component
+public class GenerationHandoffMapper {
+    
+    /**
+     * Convert domain model to JPA entity.
+     * 
+     * @param domain domain model
+     * @return JPA entity
+     */
+    public GenerationHandoffEntity toEntity(HandedOffGeneration domain) {
+        return new GenerationHandoffEntity(
+            domain.id(),
+            domain.meditationId(),
+            domain.compositionId(),
+            domain.userId(),
+            domain.narrationText(),
+            domain.musicReference(),
+            domain.imageReference(),
+            domain.checkpoint(),
+            domain.handedOffAt()
+        );
+    }
+    
+    /**
+     * Convert JPA entity to domain model.
+     * 
+     * @param entity JPA entity
+     * @return domain model
+     */
+    public HandedOffGeneration toDomain(GenerationHandoffEntity entity) {
+        return new HandedOffGeneration(
+            entity.getHandoffId(),
+            entity.getMeditationId(),
+            entity.getCompositionId(),
+            entity.getUserId(),
+            entity.getNarrationText(),
+            entity.getMusicReference(),
+            entity.getImageReference(),
+            entity.getCheckpointStage(),
+            entity.getHandedOffAt()
+        );
+    }
+}
@@ -38,6 +38,13 @@ public class MeditationOutputMapper {
         if (domain.durationSeconds() != null) entity.setDurationSeconds(domain.durationSeconds());
         if (domain.errorMessage() != null) entity.setErrorMessage(domain.errorMessage());
         if (domain.completedAt() != null) entity.setCompletedAt(domain.completedAt());
+        if (domain.renderQuality() != null) entity.setRenderQuality(domain.renderQuality());
+        if (domain.previewMedia() != null) entity.setPreviewUrl(domain.previewMedia().url());
+        if (domain.contentKey() != null) entity.setContentKey(domain.contentKey());
+        if (domain.streamingMedia() != null) entity.setStreamingUrl(domain.streamingMedia().url());
+        if (domain.audioTrack() != null) entity.setAudioTrackUrl(domain.audioTrack().url());
+        if (domain.waveform() != null) entity.setWaveformUrl(domain.waveform().url());
+        if (domain.poster() != null) entity.setPosterUrl(domain.poster().url());
         
         return entity;
     }
@@ -63,6 +70,21 @@ public class MeditationOutputMapper {
         MediaReference backgroundMusic = entity.getBackgroundMusicUrl() != null
             ? new MediaReference(entity.getBackgroundMusicUrl()) : null;
         
+        MediaReference previewMedia = entity.getPreviewUrl() != null
+            ? new MediaReference(entity.getPreviewUrl()) : null;
+        
+        MediaReference streamingMedia = entity.getStreamingUrl() != null
+            ? new MediaReference(entity.getStreamingUrl()) : null;
+        
+        MediaReference audioTrack = entity.getAudioTrackUrl() != null
+            ? new MediaReference(entity.getAudioTrackUrl()) : null;
+        
+        MediaReference waveform = entity.getWaveformUrl() != null
+            ? new MediaReference(entity.getWaveformUrl()) : null;
+        
+        MediaReference poster = entity.getPosterUrl() != null
+            ? new MediaReference(entity.getPosterUrl()) : null;
+        
         return new GeneratedMeditationContent(
             entity.getMeditationId(),
             entity.getCompositionId(),
@@ -78,7 +100,14 @@ public class MeditationOutputMapper {
             entity.getDurationSeconds(),
             entity.getErrorMessage(),
             entity.getCreatedAt(),
-            entity.getCompletedAt()
+            entity.getCompletedAt(),
+            entity.getRenderQuality(),
+            previewMedia,
+            entity.getContentKey(),
+            streamingMedia,
+            audioTrack,
+            waveform,
+            poster
         );
     }
 }
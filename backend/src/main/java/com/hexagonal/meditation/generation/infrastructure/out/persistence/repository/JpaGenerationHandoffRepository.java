@@ -0,0 +1,15 @@
+package com.hexagonal.meditation.generation.infrastructure.out.persistence.repository;
+
+import com.hexagonal.meditation.generation.infrastructure.out.persistence.entity.GenerationHandoffEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for GenerationHandoffEntity.
+ * Claiming is done by PostgresGenerationHandoffRepository with an explicit DELETE ... RETURNING.
+ */
+@Repository
+public interface JpaGenerationHandoffRepository extends JpaRepository<GenerationHandoffEntity, UUID> {
+}
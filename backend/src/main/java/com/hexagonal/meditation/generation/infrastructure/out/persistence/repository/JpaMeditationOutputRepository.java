@@ -1,9 +1,15 @@
 package com.hexagonal.meditation.generation.infrastructure.out.persistence.repository;
 
+import com.hexagonal.meditation.generation.domain.enums.GenerationStatus;
+import com.hexagonal.meditation.generation.domain.enums.RenderQualityTier;
 import com.hexagonal.meditation.generation.infrastructure.out.persistence.entity.MeditationOutputEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -22,6 +28,24 @@ public interface JpaMeditationOutputRepository extends JpaRepository<MeditationO
      */
     Optional<MeditationOutputEntity> findByIdempotencyKey(String idempotencyKey);
     
+    /**
+     * Move an output from one status to another, only if it still has the expected status.
+     * Used for transitions that must not overwrite a concurrent result (cancellation).
+     * 
+     * @param meditationId the meditation ID
+     * @param expected status the row must have
+     * @param status new status
+     * @param completedAt completion time to record
+     * @return number of rows updated (0 if the row had another status)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MeditationOutputEntity e SET e.status = :status, e.completedAt = :completedAt, e.errorMessage = NULL "
+            + "WHERE e.meditationId = :meditationId AND e.status = :expected")
+    int updateStatusIf(@Param("meditationId") UUID meditationId,
+                       @Param("expected") GenerationStatus expected,
+                       @Param("status") GenerationStatus status,
+                       @Param("completedAt") Instant completedAt);
+    
     /**
      * Find all meditation outputs created by a specific user.
      * 
@@ -37,4 +61,16 @@ public interface JpaMeditationOutputRepository extends JpaRepository<MeditationO
      * @return true if exists, false otherwise
      */
     boolean existsByIdempotencyKey(String idempotencyKey);
+    
+    /**
+     * Find the most recently completed output with the given content key and quality.
+     * Used for cross-user reuse of identical renders.
+     * 
+     * @param contentKey user-independent hash of the rendered content
+     * @param status generation status (COMPLETED)
+     * @param renderQuality render quality tier (FULL)
+     * @return Optional containing found entity or empty
+     */
+    Optional<MeditationOutputEntity> findFirstByContentKeyAndStatusAndRenderQualityOrderByCompletedAtDesc(
+            String contentKey, GenerationStatus status, RenderQualityTier renderQuality);
 }
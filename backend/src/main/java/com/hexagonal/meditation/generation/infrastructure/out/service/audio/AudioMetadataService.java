@@ -1,7 +1,10 @@
 package com.hexagonal.meditation.generation.infrastructure.out.service.audio;
 
+import com.hexagonal.meditation.generation.domain.model.CancellationToken;
+import com.hexagonal.meditation.generation.infrastructure.out.service.process.CancellableProcesses;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.io.BufferedReader;
@@ -11,12 +14,16 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * Service to analyze audio file metadata using FFprobe.
  * Extracts duration, bitrate, sample rate, and other properties.
+ * 
+ * With an in-process probe configured (libav), durations are read without
+ * starting ffprobe; ffprobe remains the fallback.
  */
 @Service
 public class AudioMetadataService {
@@ -27,10 +34,17 @@ public class AudioMetadataService {
     private static final Pattern DURATION_PATTERN = Pattern.compile("Duration: (\\d{2}):(\\d{2}):(\\d{2})\\.(\\d{2})");
     
     private final String ffprobePath;
+    private final Optional<MediaDurationProbe> inProcessProbe;
     
     public AudioMetadataService() {
+        this(Optional.empty());
+    }
+    
+    @Autowired
+    public AudioMetadataService(Optional<MediaDurationProbe> inProcessProbe) {
         // ffprobe is typically installed alongside ffmpeg
         this.ffprobePath = System.getProperty("ffprobe.path", "ffprobe");
+        this.inProcessProbe = inProcessProbe;
     }
     
     /**
@@ -47,6 +61,16 @@ public class AudioMetadataService {
         
         logger.debug("Analyzing audio duration: {}", audioFile);
         
+        if (inProcessProbe.isPresent()) {
+            try {
+                double duration = inProcessProbe.get().durationSeconds(audioFile);
+                logger.info("Audio duration: {} seconds ({})", duration, audioFile.getFileName());
+                return duration;
+            } catch (IOException e) {
+                logger.debug("In-process duration probe failed, using ffprobe: {}", e.getMessage());
+            }
+        }
+        
         try {
             List<String> command = new ArrayList<>();
             command.add(ffprobePath);
@@ -64,7 +88,8 @@ public class AudioMetadataService {
             Process process = pb.start();
             
             String output;
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            try (CancellationToken.Registration cancellation = CancellableProcesses.register(process);
+                 BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
                 output = reader.readLine(); // First line should be the duration
             }
             
@@ -104,7 +129,8 @@ public class AudioMetadataService {
             Process process = pb.start();
             
             StringBuilder output = new StringBuilder();
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            try (CancellationToken.Registration cancellation = CancellableProcesses.register(process);
+                 BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
                 String line;
                 while ((line = reader.readLine()) != null) {
                     output.append(line).append("\n");
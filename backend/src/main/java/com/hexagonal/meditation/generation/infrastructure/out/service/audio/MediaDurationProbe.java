@@ -0,0 +1,28 @@
+package com.hexagonal.meditation.generation.infrastructure.out.service.audio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * Measures media durations without starting a process.
+ *
+ * Optional: callers keep their FFprobe/FFmpeg path for when no probe is
+ * configured or the probe fails.
+ */
+public interface MediaDurationProbe {
+
+    /**
+     * @param file media file
+     * @return container duration in seconds
+     * @throws IOException if the file cannot be read or has no duration
+     */
+    double durationSeconds(Path file) throws IOException;
+
+    /**
+     * @param data complete encoded media held in memory (read from its position, not consumed)
+     * @return duration in seconds
+     * @throws IOException if the data cannot be decoded or has no duration
+     */
+    double durationSeconds(ByteBuffer data) throws IOException;
+}
@@ -0,0 +1,46 @@
+package com.hexagonal.meditation.generation.infrastructure.out.service.process;
+
+import com.hexagonal.meditation.generation.domain.model.CancellationToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Ties external processes (FFmpeg, FFprobe) to the cancellation token of the
+ * generation running on the current thread.
+ * 
+ * On cancellation the whole process tree is destroyed forcibly, so blocked
+ * reads on its output return immediately and the pipeline unwinds.
+ */
+public final class CancellableProcesses {
+
+    private static final Logger logger = LoggerFactory.getLogger(CancellableProcesses.class);
+
+    private CancellableProcesses() {
+    }
+
+    /**
+     * Destroy the process when the current generation is cancelled.
+     * Close the returned handle once the process has exited.
+     * 
+     * @param process started process
+     * @return registration handle (no-op outside a generation)
+     */
+    public static CancellationToken.Registration register(Process process) {
+        CancellationToken token = CancellationToken.current();
+        return token.onCancel(() -> {
+            logger.info("Destroying process tree pid={} for cancelled meditationId={}",
+                process.pid(), token.meditationId());
+            destroyTree(process);
+        });
+    }
+
+    /**
+     * Forcibly destroy a process and all of its descendants.
+     * 
+     * @param process process to destroy
+     */
+    public static void destroyTree(Process process) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
+}
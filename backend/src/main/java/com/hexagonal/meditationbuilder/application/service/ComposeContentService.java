@@ -9,6 +9,7 @@ import com.hexagonal.meditationbuilder.domain.model.MusicReference;
 import com.hexagonal.meditationbuilder.domain.model.TextContent;
 import com.hexagonal.meditationbuilder.domain.ports.in.ComposeContentUseCase;
 import com.hexagonal.meditationbuilder.domain.ports.out.CompositionRepositoryPort;
+import com.hexagonal.meditationbuilder.domain.ports.out.GenerationPrecomputePort;
 import com.hexagonal.meditationbuilder.domain.ports.out.MediaCatalogPort;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -37,6 +38,8 @@ import java.util.UUID;
  * - Validate music exists via MediaCatalogPort
  * - Persist compositions via CompositionRepositoryPort
  * - Handle not-found scenarios with domain exceptions
+ * - Signal generation-ready compositions (text + music) via GenerationPrecomputePort,
+ *   so speculative TTS can start before the user presses generate
  */
 public class ComposeContentService implements ComposeContentUseCase {
 
@@ -46,19 +49,33 @@ public class ComposeContentService implements ComposeContentUseCase {
     private final CompositionRepositoryPort compositionRepositoryPort;
     private final Clock clock;
     private final MeterRegistry meterRegistry;
+    private final GenerationPrecomputePort generationPrecomputePort;
 
     /**
-     * Constructor with explicit Clock and MeterRegistry for testability.
+     * Constructor with explicit Clock, MeterRegistry and speculative precompute port.
      */
     public ComposeContentService(
             MediaCatalogPort mediaCatalogPort,
             CompositionRepositoryPort compositionRepositoryPort,
             Clock clock,
-            MeterRegistry meterRegistry) {
+            MeterRegistry meterRegistry,
+            GenerationPrecomputePort generationPrecomputePort) {
         this.mediaCatalogPort = Objects.requireNonNull(mediaCatalogPort, "mediaCatalogPort is required");
         this.compositionRepositoryPort = Objects.requireNonNull(compositionRepositoryPort, "compositionRepositoryPort is required");
         this.clock = Objects.requireNonNull(clock, "clock is required");
         this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry is required");
+        this.generationPrecomputePort = Objects.requireNonNull(generationPrecomputePort, "generationPrecomputePort is required");
+    }
+
+    /**
+     * Constructor with explicit Clock and MeterRegistry for testability (no speculative precompute).
+     */
+    public ComposeContentService(
+            MediaCatalogPort mediaCatalogPort,
+            CompositionRepositoryPort compositionRepositoryPort,
+            Clock clock,
+            MeterRegistry meterRegistry) {
+        this(mediaCatalogPort, compositionRepositoryPort, clock, meterRegistry, GenerationPrecomputePort.NONE);
     }
 
     /**
@@ -118,6 +135,7 @@ public class ComposeContentService implements ComposeContentUseCase {
             MDC.remove("compositionId");
         }
         
+        precomputeIfReady(saved);
         return saved;
     }
 
@@ -144,6 +162,7 @@ public class ComposeContentService implements ComposeContentUseCase {
             logger.info("composition.music.selected: compositionId={}, musicId={}", 
                 compositionId, musicReference.value());
             
+            precomputeIfReady(saved);
             return saved;
         } finally {
             MDC.remove("compositionId");
@@ -194,6 +213,16 @@ public class ComposeContentService implements ComposeContentUseCase {
         return composition.outputType();
     }
 
+    /**
+     * Text is mandatory, so a composition with music can be generated:
+     * let speculative work start on its current state.
+     */
+    private void precomputeIfReady(MeditationComposition composition) {
+        if (composition.hasMusic()) {
+            generationPrecomputePort.compositionReady(composition);
+        }
+    }
+
     private MeditationComposition findCompositionOrThrow(UUID compositionId) {
         return compositionRepositoryPort.findById(compositionId)
                 .orElseThrow(() -> new com.hexagonal.meditationbuilder.domain.exception.CompositionNotFoundException(compositionId));
@@ -2,6 +2,7 @@ package com.hexagonal.meditationbuilder.domain.ports.out;
 
 import com.hexagonal.meditationbuilder.domain.model.MeditationComposition;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -37,6 +38,13 @@ public interface CompositionRepositoryPort {
      */
     Optional<MeditationComposition> findById(UUID id);
 
+    /**
+     * Lists every stored composition.
+     * 
+     * @return snapshot of the compositions, empty if there are none
+     */
+    List<MeditationComposition> findAll();
+
     /**
      * Deletes a composition by its unique identifier.
      * 
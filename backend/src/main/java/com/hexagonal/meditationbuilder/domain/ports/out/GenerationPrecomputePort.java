@@ -0,0 +1,31 @@
+package com.hexagonal.meditationbuilder.domain.ports.out;
+
+import com.hexagonal.meditationbuilder.domain.model.MeditationComposition;
+
+/**
+ * GenerationPrecomputePort - Outbound Port for speculative generation work.
+ * 
+ * Tells the generation side that a composition is generation-ready
+ * (text and music), so expensive stages can start before the user presses
+ * generate. Purely an optimization: failures must never affect composing.
+ * 
+ * Implementation will be provided by infrastructure adapters.
+ * 
+ * @author Meditation Builder Team
+ */
+@FunctionalInterface
+public interface GenerationPrecomputePort {
+
+    /**
+     * No speculative work.
+     */
+    GenerationPrecomputePort NONE = composition -> { };
+
+    /**
+     * The composition has text and music in its current state; earlier
+     * speculative work for it is obsolete.
+     * 
+     * @param composition current composition state
+     */
+    void compositionReady(MeditationComposition composition);
+}
@@ -1,9 +1,12 @@
 package com.hexagonal.meditationbuilder.infrastructure.config;
 
+import com.hexagonal.meditation.generation.domain.ports.in.PrecomputeNarrationUseCase;
 import com.hexagonal.meditationbuilder.domain.ports.out.CompositionRepositoryPort;
+import com.hexagonal.meditationbuilder.domain.ports.out.GenerationPrecomputePort;
 import com.hexagonal.meditationbuilder.domain.ports.out.ImageGenerationPort;
 import com.hexagonal.meditationbuilder.domain.ports.out.MediaCatalogPort;
 import com.hexagonal.meditationbuilder.domain.ports.out.TextGenerationPort;
+import com.hexagonal.meditationbuilder.infrastructure.out.service.GenerationPrecomputeAdapter;
 import com.hexagonal.meditationbuilder.infrastructure.out.service.ImageGenerationAiAdapter;
 import com.hexagonal.meditationbuilder.infrastructure.out.service.MediaCatalogAdapter;
 import com.hexagonal.meditationbuilder.infrastructure.out.service.TextGenerationAiAdapter;
@@ -157,15 +160,27 @@ public class InfrastructureConfig {
             MediaCatalogPort mediaCatalogPort,
             CompositionRepositoryPort compositionRepositoryPort,
             java.time.Clock clock,
-            io.micrometer.core.instrument.MeterRegistry meterRegistry) {
+            io.micrometer.core.instrument.MeterRegistry meterRegistry,
+            GenerationPrecomputePort generationPrecomputePort) {
         return new com.hexagonal.meditationbuilder.application.service.ComposeContentService(
                 mediaCatalogPort,
                 compositionRepositoryPort,
                 clock,
-                meterRegistry
+                meterRegistry,
+                generationPrecomputePort
         );
     }
 
+    /**
+     * GenerationPrecomputePort bean.
+     * Forwards generation-ready compositions to the Generation BC's speculative
+     * narration use case (a no-op unless generation.speculative.enabled).
+     */
+    @Bean
+    public GenerationPrecomputePort generationPrecomputePort(PrecomputeNarrationUseCase precomputeNarrationUseCase) {
+        return new GenerationPrecomputeAdapter(precomputeNarrationUseCase);
+    }
+
     /**
      * GenerateTextService bean (implements GenerateTextUseCase).
      * Registers the application service as a Spring bean for controller injection.
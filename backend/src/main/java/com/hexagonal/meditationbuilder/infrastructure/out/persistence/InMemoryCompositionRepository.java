@@ -6,6 +6,7 @@ import org.springframework.stereotype.Repository;
 
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,6 +26,11 @@ public class InMemoryCompositionRepository implements CompositionRepositoryPort
         return Optional.ofNullable(store.get(id));
     }
 
+    @Override
+    public List<MeditationComposition> findAll() {
+        return List.copyOf(store.values());
+    }
+
     @Override
     public void deleteById(UUID id) {
         store.remove(id);
@@ -0,0 +1,46 @@
+package com.hexagonal.meditationbuilder.infrastructure.out.service;
+
+import com.hexagonal.meditation.generation.domain.ports.in.PrecomputeNarrationUseCase;
+import com.hexagonal.meditationbuilder.domain.model.MeditationComposition;
+import com.hexagonal.meditationbuilder.domain.ports.out.GenerationPrecomputePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+
+/**
+ * GenerationPrecomputeAdapter - Infrastructure adapter implementing GenerationPrecomputePort.
+ * 
+ * Bridges the Composition BC to the Generation BC's speculative narration
+ * use case (music preparation + TTS ahead of the generate call).
+ * Errors are logged and swallowed: composing never fails because of speculation.
+ * 
+ * @author Meditation Builder Team
+ */
+public class GenerationPrecomputeAdapter implements GenerationPrecomputePort {
+
+    private static final Logger log = LoggerFactory.getLogger(GenerationPrecomputeAdapter.class);
+
+    private final PrecomputeNarrationUseCase precomputeNarrationUseCase;
+
+    /**
+     * @param precomputeNarrationUseCase Generation BC speculative narration use case
+     */
+    public GenerationPrecomputeAdapter(PrecomputeNarrationUseCase precomputeNarrationUseCase) {
+        this.precomputeNarrationUseCase = Objects.requireNonNull(
+                precomputeNarrationUseCase, "precomputeNarrationUseCase is required");
+    }
+
+    @Override
+    public void compositionReady(MeditationComposition composition) {
+        try {
+            precomputeNarrationUseCase.schedule(
+                    composition.id(),
+                    composition.textContent().value(),
+                    composition.musicReference().value()
+            );
+        } catch (RuntimeException e) {
+            log.warn("Cannot schedule speculative narration for composition {}: {}", composition.id(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.hexagonal.playback.application.service;
+
+import com.hexagonal.playback.domain.exception.MediaUnavailableException;
+import com.hexagonal.playback.domain.model.ExportEntry;
+import com.hexagonal.playback.domain.model.MediaObject;
+import com.hexagonal.playback.domain.model.Meditation;
+import com.hexagonal.playback.domain.ports.in.ExportMeditationLibraryUseCase;
+import com.hexagonal.playback.domain.ports.out.MediaContentPort;
+import com.hexagonal.playback.domain.ports.out.MeditationRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Application service listing the files of a user's library export.
+ *
+ * Each playable meditation contributes its main media (the video, or the
+ * audio if there is none) and its subtitles, named after the creation date,
+ * the title and the meditation ID so the names are readable, sort
+ * chronologically and never collide. Subtitles share the base name of the
+ * media, so players pick them up next to it.
+ *
+ * Objects are described in parallel (one storage round trip each). A
+ * meditation whose media cannot be reached is left out of the export with a
+ * warning rather than failing the whole download.
+ */
+public class ExportMeditationLibraryService implements ExportMeditationLibraryUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportMeditationLibraryService.class);
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(ZoneOffset.UTC);
+    private static final int MAX_SLUG_LENGTH = 60;
+    private static final String DEFAULT_SLUG = "meditacion";
+
+    private final MeditationRepositoryPort meditationRepositoryPort;
+    private final MediaContentPort mediaContentPort;
+    private final Executor describePool;
+
+    /**
+     * @param meditationRepositoryPort the user's meditations
+     * @param mediaContentPort stored media
+     * @param describePool executor describing the stored objects in parallel
+     */
+    public ExportMeditationLibraryService(
+        MeditationRepositoryPort meditationRepositoryPort,
+        MediaContentPort mediaContentPort,
+        Executor describePool
+    ) {
+        this.meditationRepositoryPort = Objects.requireNonNull(meditationRepositoryPort, "meditationRepositoryPort cannot be null");
+        this.mediaContentPort = Objects.requireNonNull(mediaContentPort, "mediaContentPort cannot be null");
+        this.describePool = Objects.requireNonNull(describePool, "describePool cannot be null");
+    }
+
+    @Override
+    public List<ExportEntry> entries(UUID userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("userId cannot be null");
+        }
+        List<Meditation> meditations = meditationRepositoryPort.findAllByUserId(userId).stream()
+            .filter(Meditation::isPlayable)
+            .sorted(Comparator.comparing(Meditation::createdAt).thenComparing(Meditation::id))
+            .toList();
+
+        List<PendingFile> pending = new ArrayList<>();
+        for (Meditation meditation : meditations) {
+            String baseName = baseName(meditation);
+            boolean video = meditation.mediaUrls().hasVideo();
+            String mediaUrl = video ? meditation.mediaUrls().videoUrl() : meditation.mediaUrls().audioUrl();
+            pending.add(describe(meditation, baseName, mediaUrl, video ? "mp4" : "mp3"));
+            String subtitlesUrl = meditation.mediaUrls().subtitlesUrl();
+            if (subtitlesUrl != null && !subtitlesUrl.isBlank()) {
+                pending.add(describe(meditation, baseName, subtitlesUrl, "srt"));
+            }
+        }
+
+        List<ExportEntry> entries = new ArrayList<>(pending.size());
+        UUID skipped = null;
+        for (PendingFile file : pending) {
+            if (file.meditationId().equals(skipped)) {
+                continue;
+            }
+            try {
+                entries.add(new ExportEntry(file.name(), file.media().join()));
+            } catch (CompletionException e) {
+                if (!(e.getCause() instanceof MediaUnavailableException unavailable)) {
+                    throw e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+                // Drop the whole meditation: subtitles without their media are of no use
+                logger.warn("Leaving meditation {} out of the library export: {}",
+                    file.meditationId(), unavailable.getMessage());
+                entries.removeIf(entry -> entry.name().startsWith(file.baseName() + "."));
+                skipped = file.meditationId();
+            }
+        }
+        logger.debug("Library export of user {}: {} files from {} meditations", userId, entries.size(), meditations.size());
+        return entries;
+    }
+
+    @Override
+    public InputStream openRange(MediaObject media, long first, long last) {
+        if (first < 0 || last < first || last >= media.length()) {
+            throw new IllegalArgumentException("Invalid range " + first + "-" + last + " of " + media.length());
+        }
+        return mediaContentPort.openRange(media, first, last);
+    }
+
+    private PendingFile describe(Meditation meditation, String baseName, String url, String defaultExtension) {
+        CompletableFuture<MediaObject> media = CompletableFuture.supplyAsync(
+            () -> mediaContentPort.describe(url), describePool);
+        return new PendingFile(meditation.id(), baseName, baseName + "." + extension(url, defaultExtension), media);
+    }
+
+    /**
+     * {@code <date>_<title slug>_<first 8 chars of the ID>}, e.g. {@code 2026-01-05_respira-profundo_1a2b3c4d}.
+     */
+    static String baseName(Meditation meditation) {
+        return DATE.format(meditation.createdAt()) + "_" + slug(meditation.title()) + "_"
+            + meditation.id().toString().substring(0, 8);
+    }
+
+    /** Letters and digits of the title (accents kept), other runs collapsed to a dash */
+    static String slug(String title) {
+        if (title == null) {
+            return DEFAULT_SLUG;
+        }
+        String slug = title.toLowerCase(Locale.ROOT)
+            .replaceAll("[^\\p{L}\\p{N}]+", "-")
+            .replaceAll("^-+|-+$", "");
+        if (slug.length() > MAX_SLUG_LENGTH) {
+            slug = slug.substring(0, MAX_SLUG_LENGTH).replaceAll("-+$", "");
+        }
+        return slug.isEmpty() ? DEFAULT_SLUG : slug;
+    }
+
+    /** Extension of the last path segment of the URL, or the default when it has none */
+    static String extension(String url, String defaultExtension) {
+        String path = url;
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            path = path.substring(0, query);
+        }
+        String segment = path.substring(path.lastIndexOf('/') + 1);
+        int dot = segment.lastIndexOf('.');
+        if (dot < 0) {
+            return defaultExtension;
+        }
+        String extension = segment.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return extension.matches("[a-z0-9]{1,5}") ? extension : defaultExtension;
+    }
+
+    private record PendingFile(UUID meditationId, String baseName, String name, CompletableFuture<MediaObject> media) {
+    }
+}
@@ -0,0 +1,125 @@
+package com.hexagonal.playback.application.service;
+
+import com.hexagonal.playback.domain.model.MediaObject;
+import com.hexagonal.playback.domain.model.Meditation;
+import com.hexagonal.playback.domain.ports.in.GetPlaybackInfoUseCase;
+import com.hexagonal.playback.domain.ports.in.StreamMeditationMediaUseCase;
+import com.hexagonal.playback.domain.ports.out.MediaContentPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Application service that serves the media of a meditation range by range.
+ *
+ * A player issues many range requests for one playback (seeks, buffering).
+ * Access is checked through {@link GetPlaybackInfoUseCase} on the first one,
+ * and the resulting grant (which media the user may read) is reused for the
+ * following requests of the same user and meditation until it expires, so
+ * ownership and playability hit the database once per playback session
+ * rather than once per range.
+ */
+public class StreamMeditationMediaService implements StreamMeditationMediaUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamMeditationMediaService.class);
+
+    private final GetPlaybackInfoUseCase getPlaybackInfoUseCase;
+    private final MediaContentPort mediaContentPort;
+    private final Clock clock;
+    private final Duration grantTtl;
+    private final int maxGrants;
+
+    private final Map<GrantKey, Grant> grants = new ConcurrentHashMap<>();
+
+    /**
+     * @param getPlaybackInfoUseCase access check (existence, ownership, playability)
+     * @param mediaContentPort stored media
+     * @param clock time source for grant expiry
+     * @param grantTtl how long a granted access is reused
+     * @param maxGrants upper bound on remembered grants
+     */
+    public StreamMeditationMediaService(
+        GetPlaybackInfoUseCase getPlaybackInfoUseCase,
+        MediaContentPort mediaContentPort,
+        Clock clock,
+        Duration grantTtl,
+        int maxGrants
+    ) {
+        this.getPlaybackInfoUseCase = Objects.requireNonNull(getPlaybackInfoUseCase, "getPlaybackInfoUseCase cannot be null");
+        this.mediaContentPort = Objects.requireNonNull(mediaContentPort, "mediaContentPort cannot be null");
+        this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+        if (grantTtl == null || grantTtl.isNegative()) {
+            throw new IllegalArgumentException("grantTtl cannot be null or negative");
+        }
+        if (maxGrants <= 0) {
+            throw new IllegalArgumentException("maxGrants must be positive");
+        }
+        this.grantTtl = grantTtl;
+        this.maxGrants = maxGrants;
+    }
+
+    @Override
+    public MediaObject describe(UUID meditationId, UUID userId) {
+        if (meditationId == null) {
+            throw new IllegalArgumentException("meditationId cannot be null");
+        }
+        if (userId == null) {
+            throw new IllegalArgumentException("userId cannot be null");
+        }
+        return mediaContentPort.describe(grant(meditationId, userId).mediaUrl());
+    }
+
+    @Override
+    public InputStream openRange(MediaObject media, long first, long last) {
+        if (first < 0 || last < first || last >= media.length()) {
+            throw new IllegalArgumentException("Invalid range " + first + "-" + last + " of " + media.length());
+        }
+        return mediaContentPort.openRange(media, first, last);
+    }
+
+    private Grant grant(UUID meditationId, UUID userId) {
+        GrantKey key = new GrantKey(userId, meditationId);
+        Instant now = clock.instant();
+        Grant grant = grants.get(key);
+        if (grant != null && now.isBefore(grant.expiresAt())) {
+            return grant;
+        }
+        Meditation meditation = getPlaybackInfoUseCase.execute(meditationId, userId);
+        grant = new Grant(mediaUrl(meditation), now.plus(grantTtl));
+        if (grants.size() >= maxGrants) {
+            grants.values().removeIf(g -> !now.isBefore(g.expiresAt()));
+            if (grants.size() >= maxGrants) {
+                // Only live grants left: forgetting them costs a re-check, nothing more
+                grants.clear();
+            }
+        }
+        grants.put(key, grant);
+        logger.debug("Granted media access to meditation: {} for user: {}", meditationId, userId);
+        return grant;
+    }
+
+    int grantCount() {
+        return grants.size();
+    }
+
+    /** Video when there is one (it carries the audio too), the audio otherwise */
+    private static String mediaUrl(Meditation meditation) {
+        return meditation.mediaUrls().hasVideo()
+            ? meditation.mediaUrls().videoUrl()
+            : meditation.mediaUrls().audioUrl();
+    }
+
+    private record GrantKey(UUID userId, UUID meditationId) {
+    }
+
+    private record Grant(String mediaUrl, Instant expiresAt) {
+    }
+}
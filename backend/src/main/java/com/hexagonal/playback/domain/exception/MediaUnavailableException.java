@@ -0,0 +1,24 @@
+package com.hexagonal.playback.domain.exception;
+
+/**
+ * Domain exception thrown when the stored content of a playable meditation
+ * cannot be read (storage unreachable, object missing).
+ * Maps to HTTP 502 Bad Gateway in controllers.
+ */
+public class MediaUnavailableException extends RuntimeException {
+
+    private final String mediaUrl;
+
+    /**
+     * @param mediaUrl storage URL of the content
+     * @param cause underlying storage failure
+     */
+    public MediaUnavailableException(String mediaUrl, Throwable cause) {
+        super("Media unavailable: " + mediaUrl, cause);
+        this.mediaUrl = mediaUrl;
+    }
+
+    public String getMediaUrl() {
+        return mediaUrl;
+    }
+}
@@ -0,0 +1,33 @@
+package com.hexagonal.playback.domain.model;
+
+/**
+ * Value Object for one file of a library export: a stored media object and
+ * the name it takes inside the archive.
+ *
+ * Business Rules:
+ * - The name is relative (no leading slash) and never climbs out of the archive
+ * - The stored object is described up front (its length fixes the archive layout)
+ *
+ * @param name path of the file inside the archive
+ * @param media the stored object holding the file
+ */
+public record ExportEntry(String name, MediaObject media) {
+
+    /**
+     * Compact constructor with validation.
+     *
+     * @throws IllegalArgumentException if the name is blank, absolute or climbs up, or media is null
+     */
+    public ExportEntry {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Export entry name cannot be null or blank");
+        }
+        if (name.startsWith("/") || name.contains("\\") || name.equals("..")
+            || name.startsWith("../") || name.contains("/../") || name.endsWith("/..")) {
+            throw new IllegalArgumentException("Export entry name must be a relative path: " + name);
+        }
+        if (media == null) {
+            throw new IllegalArgumentException("Export entry media cannot be null");
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.hexagonal.playback.domain.model;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * Value Object describing the stored bytes of a meditation output, as needed
+ * to serve them over HTTP (validators and byte ranges).
+ * 
+ * Business Rules:
+ * - Length is known up front (ranges are resolved against it)
+ * - The ETag is a strong validator: equal ETags mean byte-identical content
+ * - A local file is present only while the object sits in the local cache
+ * 
+ * @param url storage URL of the object
+ * @param length size in bytes
+ * @param etag strong entity tag, quoted as sent over HTTP
+ * @param contentType MIME type of the content
+ * @param lastModified last modification time, nullable
+ * @param localFile complete local copy of the object, nullable when not cached
+ */
+public record MediaObject(
+    String url,
+    long length,
+    String etag,
+    String contentType,
+    Instant lastModified,
+    Path localFile
+) {
+
+    /**
+     * Compact constructor with validation.
+     * 
+     * @throws IllegalArgumentException if url or etag are missing or length is negative
+     */
+    public MediaObject {
+        if (url == null || url.isBlank()) {
+            throw new IllegalArgumentException("Media URL cannot be null or blank");
+        }
+        if (length < 0) {
+            throw new IllegalArgumentException("Media length cannot be negative");
+        }
+        if (etag == null || etag.isBlank()) {
+            throw new IllegalArgumentException("Media ETag cannot be null or blank");
+        }
+        if (contentType == null || contentType.isBlank()) {
+            contentType = "application/octet-stream";
+        }
+    }
+
+    /**
+     * Same object, served from a local copy.
+     * 
+     * @param file complete local copy
+     * @return a MediaObject pointing at the local file
+     */
+    public MediaObject withLocalFile(Path file) {
+        return new MediaObject(url, length, etag, contentType, lastModified, file);
+    }
+
+    /**
+     * Checks if the object can be served from local disk.
+     * 
+     * @return true if a local copy is present
+     */
+    public boolean isCached() {
+        return localFile != null;
+    }
+}
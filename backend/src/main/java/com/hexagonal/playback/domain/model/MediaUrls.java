@@ -7,17 +7,25 @@ package com.hexagonal.playback.domain.model;
  * - At least one of audioUrl or videoUrl must be provided
  * - URLs point to S3 storage (managed by meditation.generation BC)
  * - Subtitles are optional
+ * - The HLS master playlist is optional (outputs published before packaging have none)
+ * - Waveform peaks and poster frame are optional (precomputed at render time)
  * 
  * Immutability: Java 21 record ensures all fields are final
  * 
- * @param audioUrl URL to audio file (podcast format), nullable
+ * @param audioUrl URL to audio file (podcast format; for a video, its audio-only rendition), nullable
  * @param videoUrl URL to video file (video format), nullable
  * @param subtitlesUrl URL to subtitles file (SRT format), nullable
+ * @param streamingUrl URL to the HLS master playlist (fMP4 segments), nullable
+ * @param waveformUrl URL to the waveform peaks (audiowaveform JSON, min/max per window), nullable
+ * @param posterUrl URL to the poster frame of a video (JPEG), nullable
  */
 public record MediaUrls(
     String audioUrl,
     String videoUrl,
-    String subtitlesUrl
+    String subtitlesUrl,
+    String streamingUrl,
+    String waveformUrl,
+    String posterUrl
 ) {
     
     /**
@@ -29,6 +37,9 @@ public record MediaUrls(
         // Normalize blank strings to null for consistency
         audioUrl = (audioUrl != null && audioUrl.isBlank()) ? null : audioUrl;
         videoUrl = (videoUrl != null && videoUrl.isBlank()) ? null : videoUrl;
+        streamingUrl = (streamingUrl != null && streamingUrl.isBlank()) ? null : streamingUrl;
+        waveformUrl = (waveformUrl != null && waveformUrl.isBlank()) ? null : waveformUrl;
+        posterUrl = (posterUrl != null && posterUrl.isBlank()) ? null : posterUrl;
         
         // Business Rule: At least one media URL must be provided
         if (audioUrl == null && videoUrl == null) {
@@ -36,6 +47,20 @@ public record MediaUrls(
         }
     }
 
+    /**
+     * Media URLs of an output without an HLS presentation.
+     */
+    public MediaUrls(String audioUrl, String videoUrl, String subtitlesUrl) {
+        this(audioUrl, videoUrl, subtitlesUrl, null);
+    }
+
+    /**
+     * Media URLs of an output without playback assets.
+     */
+    public MediaUrls(String audioUrl, String videoUrl, String subtitlesUrl, String streamingUrl) {
+        this(audioUrl, videoUrl, subtitlesUrl, streamingUrl, null, null);
+    }
+
     /**
      * Checks if this meditation has audio content.
      * 
@@ -53,4 +78,13 @@ public record MediaUrls(
     public boolean hasVideo() {
         return videoUrl != null && !videoUrl.isBlank();
     }
+
+    /**
+     * Checks if this meditation can be streamed over HLS.
+     * 
+     * @return true if streamingUrl is present, false otherwise
+     */
+    public boolean hasStreaming() {
+        return streamingUrl != null;
+    }
 }
@@ -0,0 +1,38 @@
+package com.hexagonal.playback.domain.ports.in;
+
+import com.hexagonal.playback.domain.model.ExportEntry;
+import com.hexagonal.playback.domain.model.MediaObject;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use case port for exporting the whole meditation library of a user as files.
+ * Only playable meditations are exported; the archive itself is assembled by
+ * the caller from the entries, reading each object by byte range.
+ */
+public interface ExportMeditationLibraryUseCase {
+
+    /**
+     * Lists the files of the user's library, oldest meditation first.
+     * The order and names are stable while the library does not change,
+     * so a resumed download lines up with the interrupted one.
+     *
+     * @param userId the unique identifier of the user
+     * @return the files to export, never null (empty list if nothing is playable)
+     * @throws IllegalArgumentException if userId is null
+     */
+    List<ExportEntry> entries(UUID userId);
+
+    /**
+     * Opens a byte range of a media object previously returned by {@link #entries(UUID)}.
+     *
+     * @param media the media object
+     * @param first first byte (inclusive)
+     * @param last last byte (inclusive)
+     * @return stream over exactly the requested bytes, closed by the caller
+     * @throws com.hexagonal.playback.domain.exception.MediaUnavailableException if the range cannot be read
+     */
+    InputStream openRange(MediaObject media, long first, long last);
+}
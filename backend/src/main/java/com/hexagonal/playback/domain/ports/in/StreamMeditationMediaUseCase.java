@@ -0,0 +1,38 @@
+package com.hexagonal.playback.domain.ports.in;
+
+import com.hexagonal.playback.domain.model.MediaObject;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * Use case port for streaming the media of a meditation byte range by byte range.
+ * Access is validated like {@link GetPlaybackInfoUseCase}: the meditation must
+ * exist, belong to the requesting user and be playable.
+ */
+public interface StreamMeditationMediaUseCase {
+
+    /**
+     * Describes the media served for a meditation (the video, or the audio if there is none).
+     *
+     * @param meditationId the unique identifier of the meditation
+     * @param userId the unique identifier of the user requesting playback
+     * @return the stored media object
+     * @throws IllegalArgumentException if meditationId or userId is null
+     * @throws com.hexagonal.playback.domain.exception.MeditationNotFoundException if meditation doesn't exist or doesn't belong to user
+     * @throws com.hexagonal.playback.domain.exception.MeditationNotPlayableException if meditation is not in COMPLETED state
+     * @throws com.hexagonal.playback.domain.exception.MediaUnavailableException if the media cannot be reached
+     */
+    MediaObject describe(UUID meditationId, UUID userId);
+
+    /**
+     * Opens a byte range of a media object previously returned by {@link #describe(UUID, UUID)}.
+     *
+     * @param media the media object
+     * @param first first byte (inclusive)
+     * @param last last byte (inclusive)
+     * @return stream over exactly the requested bytes, closed by the caller
+     * @throws com.hexagonal.playback.domain.exception.MediaUnavailableException if the range cannot be read
+     */
+    InputStream openRange(MediaObject media, long first, long last);
+}
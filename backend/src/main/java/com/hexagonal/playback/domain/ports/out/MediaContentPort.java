@@ -0,0 +1,34 @@
+package com.hexagonal.playback.domain.ports.out;
+
+import com.hexagonal.playback.domain.model.MediaObject;
+
+import java.io.InputStream;
+
+/**
+ * Output port for reading the stored bytes of meditation outputs.
+ * Implementations fetch metadata and byte ranges from the storage holding
+ * the outputs, and may keep local copies to serve them from disk.
+ */
+public interface MediaContentPort {
+
+    /**
+     * Describes a stored object without reading its content.
+     *
+     * @param mediaUrl storage URL of the object
+     * @return length, validators and, if cached, the local copy
+     * @throws com.hexagonal.playback.domain.exception.MediaUnavailableException if the object cannot be reached
+     */
+    MediaObject describe(String mediaUrl);
+
+    /**
+     * Opens a byte range of a stored object.
+     * The caller closes the stream.
+     *
+     * @param media object as returned by {@link #describe(String)}
+     * @param first first byte (inclusive)
+     * @param last last byte (inclusive)
+     * @return stream over exactly the requested bytes
+     * @throws com.hexagonal.playback.domain.exception.MediaUnavailableException if the range cannot be read
+     */
+    InputStream openRange(MediaObject media, long first, long last);
+}
@@ -1,13 +1,37 @@
 package com.hexagonal.playback.infrastructure.config;
 
+import com.hexagonal.playback.application.service.ExportMeditationLibraryService;
 import com.hexagonal.playback.application.service.GetPlaybackInfoService;
 import com.hexagonal.playback.application.service.ListMeditationsService;
 import com.hexagonal.playback.application.service.PlaybackValidator;
+import com.hexagonal.playback.application.service.StreamMeditationMediaService;
+import com.hexagonal.playback.domain.ports.in.ExportMeditationLibraryUseCase;
 import com.hexagonal.playback.domain.ports.in.GetPlaybackInfoUseCase;
 import com.hexagonal.playback.domain.ports.in.ListMeditationsUseCase;
+import com.hexagonal.playback.domain.ports.in.StreamMeditationMediaUseCase;
+import com.hexagonal.playback.domain.ports.out.MediaContentPort;
 import com.hexagonal.playback.domain.ports.out.MeditationRepositoryPort;
+import com.hexagonal.playback.infrastructure.in.rest.export.StoredZipWriter;
+import com.hexagonal.playback.infrastructure.out.storage.CachingMediaContentAdapter;
+import com.hexagonal.playback.infrastructure.out.storage.FileSystemMediaContentAdapter;
+import com.hexagonal.playback.infrastructure.out.storage.S3MediaContentAdapter;
+import com.hexagonal.shared.storage.FileSystemObjectStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Spring configuration for Playback BC beans.
@@ -15,6 +39,8 @@ import org.springframework.context.annotation.Configuration;
  * Provides:
  * - Application use case implementations (services)
  * - Domain validators
+ * - Media content adapters (S3 ranged reads behind a local disk cache, or the filesystem storage)
+ * - Library export (ZIP writer and its read-ahead pool)
  * - Clock is provided by global ClockConfig
  */
 @Configuration
@@ -55,4 +81,158 @@ public class PlaybackConfig {
     ) {
         return new GetPlaybackInfoService(port, validator);
     }
+
+    /**
+     * Provides the use case for streaming meditation media by byte range.
+     * 
+     * @param getPlaybackInfoUseCase access check, reused for the grant TTL
+     * @param mediaContentPort the stored media
+     * @param clock time source for grant expiry
+     * @param grantTtlSeconds how long an access check is reused for the same user and meditation
+     * @param maxGrants upper bound on remembered access checks
+     * @return StreamMeditationMediaUseCase implementation
+     */
+    @Bean
+    public StreamMeditationMediaUseCase streamMeditationMediaUseCase(
+        GetPlaybackInfoUseCase getPlaybackInfoUseCase,
+        MediaContentPort mediaContentPort,
+        Clock clock,
+        @Value("${playback.media.grant-ttl-seconds:600}") long grantTtlSeconds,
+        @Value("${playback.media.max-grants:10000}") int maxGrants
+    ) {
+        return new StreamMeditationMediaService(
+            getPlaybackInfoUseCase, mediaContentPort, clock, Duration.ofSeconds(grantTtlSeconds), maxGrants);
+    }
+
+    /**
+     * Provides the use case listing the files of a library export.
+     * 
+     * @param port the repository port for data access
+     * @param mediaContentPort the stored media
+     * @param exportPool executor describing the stored objects in parallel
+     * @return ExportMeditationLibraryUseCase implementation
+     */
+    @Bean
+    public ExportMeditationLibraryUseCase exportMeditationLibraryUseCase(
+        MeditationRepositoryPort port,
+        MediaContentPort mediaContentPort,
+        @Qualifier("playbackExportPool") ExecutorService exportPool
+    ) {
+        return new ExportMeditationLibraryService(port, mediaContentPort, exportPool);
+    }
+
+    /**
+     * Provides the writer streaming library exports. Memory per export is
+     * bounded by prefetch-entries * chunks-per-entry * chunk-size-kb.
+     * 
+     * @param exportPool threads fetching entry data ahead of the writer
+     * @param prefetchEntries entries fetched at the same time by one export
+     * @param chunkSizeKb size of the chunks handed over by a fetch
+     * @param chunksPerEntry chunks buffered per fetch
+     * @param stallTimeoutSeconds how long a fetch waits for a client that stopped reading
+     * @param crcCacheEntries CRCs remembered to resume downloads without re-reading entries
+     * @return StoredZipWriter instance
+     */
+    @Bean
+    public StoredZipWriter storedZipWriter(
+        @Qualifier("playbackExportPool") ExecutorService exportPool,
+        @Value("${playback.export.prefetch-entries:3}") int prefetchEntries,
+        @Value("${playback.export.chunk-size-kb:64}") int chunkSizeKb,
+        @Value("${playback.export.chunks-per-entry:16}") int chunksPerEntry,
+        @Value("${playback.export.stall-timeout-seconds:60}") long stallTimeoutSeconds,
+        @Value("${playback.export.crc-cache-entries:100000}") int crcCacheEntries
+    ) {
+        return new StoredZipWriter(exportPool, prefetchEntries, chunkSizeKb * 1024, chunksPerEntry,
+            Duration.ofSeconds(stallTimeoutSeconds), crcCacheEntries);
+    }
+
+    /**
+     * Provides the media content port: ranged reads from the output bucket,
+     * behind a bounded local disk cache unless disabled.
+     * 
+     * @param s3Client S3 client (shared with the generation BC)
+     * @param bucketName bucket holding the outputs
+     * @param cacheEnabled whether media is cached on local disk
+     * @param cacheDirectory directory holding the cached media
+     * @param cacheMaxSizeMb upper bound on the total cached size
+     * @param downloads executor running the background cache downloads
+     * @param meterRegistry registry for hit/miss and size metrics
+     * @return MediaContentPort implementation
+     */
+    @Bean
+    @ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+    public MediaContentPort mediaContentPort(
+        S3Client s3Client,
+        @Value("${aws.s3.bucket-name:meditation-outputs}") String bucketName,
+        @Value("${playback.media.cache.enabled:true}") boolean cacheEnabled,
+        @Value("${playback.media.cache.dir:${java.io.tmpdir}/meditation-media-cache}") String cacheDirectory,
+        @Value("${playback.media.cache.max-size-mb:4096}") long cacheMaxSizeMb,
+        @Qualifier("playbackMediaDownloadPool") ExecutorService downloads,
+        MeterRegistry meterRegistry
+    ) {
+        MediaContentPort storage = new S3MediaContentAdapter(s3Client, bucketName);
+        if (!cacheEnabled) {
+            return storage;
+        }
+        return new CachingMediaContentAdapter(
+            storage, Path.of(cacheDirectory), cacheMaxSizeMb * 1024 * 1024, downloads, meterRegistry);
+    }
+
+    /**
+     * Provides the media content port of the filesystem storage: media is
+     * already on local disk, so there is nothing to cache.
+     * 
+     * @param fileSystemObjectStore the shared filesystem object store
+     * @return MediaContentPort implementation
+     */
+    @Bean
+    @ConditionalOnProperty(name = "storage.type", havingValue = "filesystem")
+    public MediaContentPort fileSystemMediaContentPort(FileSystemObjectStore fileSystemObjectStore) {
+        return new FileSystemMediaContentAdapter(fileSystemObjectStore);
+    }
+
+    /**
+     * Pool downloading media into the local cache. Bounded queue: when full,
+     * misses are served from the storage without being cached.
+     * Shut down with the context (inferred destroy method).
+     * 
+     * @param poolSize number of concurrent downloads
+     * @return ExecutorService for cache downloads
+     */
+    @Bean
+    public ExecutorService playbackMediaDownloadPool(
+        @Value("${playback.media.cache.download-pool-size:2}") int poolSize
+    ) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(64),
+            runnable -> {
+                Thread thread = new Thread(runnable, "playback-media-download-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    /**
+     * Pool of the library exports: describes the files and fetches their data
+     * ahead of the writer. Unbounded queue: a fetch is never rejected, it waits
+     * for a thread (each export runs at most prefetch-entries of them at a time).
+     * Shut down with the context (inferred destroy method).
+     * 
+     * @param poolSize number of concurrent storage reads
+     * @return ExecutorService for library exports
+     */
+    @Bean
+    public ExecutorService playbackExportPool(
+        @Value("${playback.export.pool-size:8}") int poolSize
+    ) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "playback-export-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
 }
@@ -0,0 +1,118 @@
+package com.hexagonal.playback.infrastructure.in.rest.controller;
+
+import com.hexagonal.playback.domain.model.ExportEntry;
+import com.hexagonal.playback.domain.model.MediaObject;
+import com.hexagonal.playback.domain.ports.in.ExportMeditationLibraryUseCase;
+import com.hexagonal.playback.infrastructure.in.rest.export.StoredZipLayout;
+import com.hexagonal.playback.infrastructure.in.rest.export.StoredZipWriter;
+import com.hexagonal.shared.security.SecurityContextHelper;
+import com.hexagonal.shared.web.ByteRangeResponses;
+import com.hexagonal.shared.web.ByteRangeResponses.Span;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST Controller exporting the whole meditation library of the user as one ZIP download.
+ *
+ * Implements OpenAPI specification: list-play-meditations.yaml
+ *
+ * Endpoints:
+ * - GET /api/v1/playback/meditations/export - Download the library (application/zip)
+ *
+ * The archive is never built on disk or in memory: its layout follows from
+ * the names and sizes of the files ({@link StoredZipLayout}), and the bytes
+ * are streamed from the storage by {@link StoredZipWriter}. Range and
+ * conditional requests are answered by {@link ByteRangeResponses}, so an
+ * interrupted download resumes where it stopped. The ETag derives from the
+ * names, versions and sizes of the files: any change to the library yields a
+ * different archive, and If-Range then restarts the download from scratch.
+ * No Last-Modified is sent: removing a meditation changes the archive
+ * without making any of its files newer.
+ *
+ * Security:
+ * - UserId extracted from authenticated JWT via {@link SecurityContextHelper}.
+ */
+@RestController
+@RequestMapping("/v1/playback/meditations")
+public class LibraryExportController {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+    private static final String CONTENT_TYPE = "application/zip";
+    private static final String FILENAME = "meditaciones.zip";
+
+    private final ExportMeditationLibraryUseCase exportMeditationLibraryUseCase;
+    private final StoredZipWriter storedZipWriter;
+
+    public LibraryExportController(
+        ExportMeditationLibraryUseCase exportMeditationLibraryUseCase,
+        StoredZipWriter storedZipWriter
+    ) {
+        this.exportMeditationLibraryUseCase = exportMeditationLibraryUseCase;
+        this.storedZipWriter = storedZipWriter;
+    }
+
+    /**
+     * GET /api/v1/playback/meditations/export
+     *
+     * Streams the library of the authenticated user, whole or by byte range.
+     *
+     * @param request servlet request (conditional and range headers)
+     * @param response servlet response the archive is written to
+     * @throws IOException if the client connection fails
+     */
+    @GetMapping("/export")
+    public void exportLibrary(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        UUID userId = SecurityContextHelper.getRequiredUserId();
+
+        List<ExportEntry> entries = exportMeditationLibraryUseCase.entries(userId);
+        StoredZipLayout layout = new StoredZipLayout(entries.stream()
+            .map(entry -> new StoredZipLayout.Entry(
+                entry.name(), entry.media().length(), entry.media().lastModified()))
+            .toList());
+        Span span = ByteRangeResponses.resolve(
+            request, response, layout.length(), etag(entries), null, CACHE_CONTROL);
+        if (span == null) {
+            return;
+        }
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(FILENAME).build().toString());
+        ByteRangeResponses.writeHeaders(response, span, CONTENT_TYPE);
+        if (ByteRangeResponses.isBodyless(request, span)) {
+            return;
+        }
+        List<MediaObject> media = entries.stream().map(ExportEntry::media).toList();
+        storedZipWriter.write(layout, media, exportMeditationLibraryUseCase::openRange,
+            span.first(), span.last(), response.getOutputStream());
+    }
+
+    /** Strong ETag over the name, ETag, size and modification time of every file, in order */
+    static String etag(List<ExportEntry> entries) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        for (ExportEntry entry : entries) {
+            // The modification time is part of the bytes too (entry timestamps)
+            String line = entry.name() + "\n" + entry.media().etag() + "\n" + entry.media().length()
+                + "\n" + entry.media().lastModified() + "\n";
+            digest.update(line.getBytes(StandardCharsets.UTF_8));
+        }
+        return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+}
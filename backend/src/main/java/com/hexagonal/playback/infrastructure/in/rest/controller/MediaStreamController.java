@@ -0,0 +1,89 @@
+package com.hexagonal.playback.infrastructure.in.rest.controller;
+
+import com.hexagonal.playback.domain.model.MediaObject;
+import com.hexagonal.playback.domain.ports.in.StreamMeditationMediaUseCase;
+import com.hexagonal.shared.security.SecurityContextHelper;
+import com.hexagonal.shared.web.ByteRangeResponses;
+import com.hexagonal.shared.web.ByteRangeResponses.Span;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * REST Controller streaming the media of a meditation with HTTP range support.
+ *
+ * Implements OpenAPI specification: list-play-meditations.yaml
+ *
+ * Endpoints:
+ * - GET /api/v1/playback/meditations/{id}/media - Stream the media (video, or audio if none)
+ *
+ * Range and conditional requests are answered by {@link ByteRangeResponses}.
+ * Media on local disk (cached, or stored on the filesystem) is sent from the
+ * file without copying it through the JVM; other media is copied from a
+ * ranged read of the storage.
+ *
+ * Security:
+ * - UserId extracted from authenticated JWT via {@link SecurityContextHelper}.
+ */
+@RestController
+@RequestMapping("/v1/playback/meditations")
+public class MediaStreamController {
+
+    private static final String CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePrivate().getHeaderValue();
+
+    private final StreamMeditationMediaUseCase streamMeditationMediaUseCase;
+
+    public MediaStreamController(StreamMeditationMediaUseCase streamMeditationMediaUseCase) {
+        this.streamMeditationMediaUseCase = streamMeditationMediaUseCase;
+    }
+
+    /**
+     * GET /api/v1/playback/meditations/{id}/media
+     *
+     * Streams the media of a completed meditation, whole or by byte range.
+     *
+     * @param meditationId UUID of the meditation
+     * @param request servlet request (conditional and range headers)
+     * @param response servlet response the media is written to
+     * @throws IOException if the client connection fails
+     */
+    @GetMapping("/{meditationId}/media")
+    public void streamMedia(
+        @PathVariable UUID meditationId,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        UUID userId = SecurityContextHelper.getRequiredUserId();
+
+        MediaObject media = streamMeditationMediaUseCase.describe(meditationId, userId);
+        Span span = ByteRangeResponses.resolve(
+            request, response, media.length(), media.etag(), media.lastModified(), CACHE_CONTROL);
+        if (span == null) {
+            return;
+        }
+        if (ByteRangeResponses.isBodyless(request, span)) {
+            ByteRangeResponses.writeHeaders(response, span, media.contentType());
+            return;
+        }
+        if (media.isCached()
+            && ByteRangeResponses.sendFile(request, response, media.localFile(), span, media.contentType())) {
+            return;
+        }
+        // Not cached, or evicted since described: nothing written yet, read it from the storage.
+        // Opened before the headers are written, so a storage failure still answers 502.
+        try (InputStream in = streamMeditationMediaUseCase.openRange(
+                media.withLocalFile(null), span.first(), span.last())) {
+            ByteRangeResponses.writeHeaders(response, span, media.contentType());
+            in.transferTo(response.getOutputStream());
+        }
+    }
+}
@@ -10,12 +10,18 @@ import com.fasterxml.jackson.annotation.JsonInclude;
  * JSON Serialization:
  * - Null fields omitted from JSON response
  * - At least one URL should be present for playable meditations
+ * - streamingUrl (HLS master playlist) only for outputs packaged for streaming
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public record MediaUrlsDto(
     String audioUrl,
     String videoUrl,
-    String subtitlesUrl
+    String subtitlesUrl,
+    String streamingUrl
 ) {
     // All fields can be null - validation in domain layer
+
+    public MediaUrlsDto(String audioUrl, String videoUrl, String subtitlesUrl) {
+        this(audioUrl, videoUrl, subtitlesUrl, null);
+    }
 }
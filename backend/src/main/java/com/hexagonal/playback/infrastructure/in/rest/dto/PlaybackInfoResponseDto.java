@@ -1,5 +1,7 @@
 package com.hexagonal.playback.infrastructure.in.rest.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.Instant;
 import java.util.UUID;
 
@@ -12,6 +14,7 @@ import java.util.UUID;
  * Business Rules:
  * - Only returned for COMPLETED meditations
  * - mediaUrls always present (non-null)
+ * - waveformUrl and posterUrl omitted when the output has none (posters are video only)
  */
 public record PlaybackInfoResponseDto(
     UUID id,
@@ -19,7 +22,9 @@ public record PlaybackInfoResponseDto(
     String state,
     String stateLabel,
     Instant createdAt,
-    MediaUrlsDto mediaUrls
+    MediaUrlsDto mediaUrls,
+    @JsonInclude(JsonInclude.Include.NON_NULL) String waveformUrl,
+    @JsonInclude(JsonInclude.Include.NON_NULL) String posterUrl
 ) {
     public PlaybackInfoResponseDto {
         if (id == null) throw new IllegalArgumentException("Id cannot be null");
@@ -29,4 +34,9 @@ public record PlaybackInfoResponseDto(
         if (createdAt == null) throw new IllegalArgumentException("CreatedAt cannot be null");
         if (mediaUrls == null) throw new IllegalArgumentException("MediaUrls cannot be null for playback info");
     }
+
+    public PlaybackInfoResponseDto(UUID id, String title, String state, String stateLabel,
+                                   Instant createdAt, MediaUrlsDto mediaUrls) {
+        this(id, title, state, stateLabel, createdAt, mediaUrls, null, null);
+    }
 }
@@ -1,9 +1,11 @@
 package com.hexagonal.playback.infrastructure.in.rest.exception;
 
+import com.hexagonal.playback.domain.exception.MediaUnavailableException;
 import com.hexagonal.playback.domain.exception.MeditationNotFoundException;
 import com.hexagonal.playback.domain.exception.MeditationNotPlayableException;
 import com.hexagonal.playback.infrastructure.in.rest.dto.ErrorResponseDto;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -17,6 +19,7 @@ import java.time.Instant;
  * Maps domain exceptions to HTTP responses:
  * - MeditationNotFoundException → 404 Not Found
  * - MeditationNotPlayableException → 409 Conflict
+ * - MediaUnavailableException → 502 Bad Gateway
  * 
  * Error Response Format (as per OpenAPI ErrorResponse schema):
  * - message: User-friendly error message (Spanish)
@@ -82,4 +85,30 @@ public class PlaybackExceptionHandler {
             .status(HttpStatus.CONFLICT)
             .body(error);
     }
+
+    /**
+     * Handles MediaUnavailableException.
+     * 
+     * Scenarios:
+     * - Storage unreachable while streaming the media
+     * - Stored object missing for a completed meditation
+     * 
+     * HTTP Response: 502 Bad Gateway
+     * 
+     * @param ex Domain exception
+     * @return 502 error response
+     */
+    @ExceptionHandler(MediaUnavailableException.class)
+    public ResponseEntity<ErrorResponseDto> handleMediaUnavailable(MediaUnavailableException ex) {
+        ErrorResponseDto error = new ErrorResponseDto(
+            "No se pudo obtener el contenido de la meditación",
+            Instant.now(clock),
+            null
+        );
+        
+        return ResponseEntity
+            .status(HttpStatus.BAD_GATEWAY)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(error);
+    }
 }
@@ -0,0 +1,307 @@
+package com.hexagonal.playback.infrastructure.in.rest.export;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Byte layout of a ZIP archive whose entries are STORED (not compressed).
+ *
+ * <p>Media is already compressed, so deflating it again costs CPU for nothing;
+ * stored entries also make every offset a function of the entry names and
+ * sizes alone. The whole layout (each header offset, the total length) is known
+ * before a byte of content is read, which is what lets the archive be sent with
+ * a Content-Length and resumed with a Range.</p>
+ *
+ * <p>The one value that does depend on content, the CRC-32, is kept out of the
+ * local headers: each entry sets general purpose bit 3 and carries its CRC in
+ * a data descriptor after its data (and again in the central directory).
+ * Sizes are still written in the local headers, since they are known.</p>
+ *
+ * <p>ZIP64 is used only where needed: an extra field on entries of 4 GiB or
+ * more, or whose header lies past 4 GiB, and the ZIP64 end records when the
+ * central directory or the entry count overflow the classic fields.
+ * Timestamps are encoded in UTC so the same library always yields the same
+ * bytes, whichever node serves it.</p>
+ */
+public final class StoredZipLayout {
+
+    private static final int LOCAL_HEADER = 0x04034b50;
+    private static final int DATA_DESCRIPTOR = 0x08074b50;
+    private static final int CENTRAL_HEADER = 0x02014b50;
+    private static final int ZIP64_END = 0x06064b50;
+    private static final int ZIP64_LOCATOR = 0x07064b50;
+    private static final int END = 0x06054b50;
+
+    private static final int LOCAL_HEADER_LENGTH = 30;
+    private static final int CENTRAL_HEADER_LENGTH = 46;
+    private static final int ZIP64_END_LENGTH = 56;
+    private static final int ZIP64_LOCATOR_LENGTH = 20;
+    private static final int END_LENGTH = 22;
+
+    /** Data descriptor follows the data; names are UTF-8 */
+    private static final int FLAGS = 0x0808;
+    private static final int METHOD_STORED = 0;
+    private static final int VERSION = 20;
+    private static final int VERSION_ZIP64 = 45;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+    private static final long MAX_32 = 0xFFFFFFFFL;
+    private static final int MAX_16 = 0xFFFF;
+    /** 1980-01-01 00:00, the earliest DOS timestamp */
+    private static final int DOS_EPOCH_DATE = (1 << 5) | 1;
+
+    /**
+     * One file of the archive.
+     *
+     * @param name path inside the archive
+     * @param size size in bytes
+     * @param lastModified modification time, nullable
+     */
+    public record Entry(String name, long size, Instant lastModified) {
+
+        public Entry {
+            if (name == null || name.isEmpty()) {
+                throw new IllegalArgumentException("Entry name cannot be null or empty");
+            }
+            if (size < 0) {
+                throw new IllegalArgumentException("Entry size cannot be negative");
+            }
+        }
+    }
+
+    private final List<Entry> entries;
+    private final byte[][] names;
+    private final long[] headerOffsets;
+    private final long centralDirectoryOffset;
+    private final long centralDirectoryLength;
+    private final boolean zip64;
+    private final long length;
+
+    /**
+     * @param entries files of the archive, in archive order
+     * @throws IllegalArgumentException if a name is longer than 65535 bytes in UTF-8
+     */
+    public StoredZipLayout(List<Entry> entries) {
+        this.entries = List.copyOf(entries);
+        int count = this.entries.size();
+        this.names = new byte[count][];
+        this.headerOffsets = new long[count];
+
+        long offset = 0;
+        for (int i = 0; i < count; i++) {
+            names[i] = this.entries.get(i).name().getBytes(StandardCharsets.UTF_8);
+            if (names[i].length > MAX_16) {
+                throw new IllegalArgumentException("Entry name too long: " + this.entries.get(i).name());
+            }
+            headerOffsets[i] = offset;
+            offset = entryEnd(i);
+        }
+        this.centralDirectoryOffset = offset;
+        long centralLength = 0;
+        for (int i = 0; i < count; i++) {
+            centralLength += centralHeaderLength(i);
+        }
+        this.centralDirectoryLength = centralLength;
+        this.zip64 = count >= MAX_16 || centralDirectoryOffset >= MAX_32 || centralDirectoryLength >= MAX_32;
+        this.length = centralDirectoryOffset + centralDirectoryLength
+            + (zip64 ? ZIP64_END_LENGTH + ZIP64_LOCATOR_LENGTH : 0) + END_LENGTH;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public Entry entry(int index) {
+        return entries.get(index);
+    }
+
+    /** Total length of the archive in bytes */
+    public long length() {
+        return length;
+    }
+
+    public long headerOffset(int index) {
+        return headerOffsets[index];
+    }
+
+    public long dataOffset(int index) {
+        return headerOffsets[index] + localHeaderLength(index);
+    }
+
+    public long descriptorOffset(int index) {
+        return dataOffset(index) + entries.get(index).size();
+    }
+
+    /** Offset right after the data descriptor of the entry */
+    public long entryEnd(int index) {
+        return descriptorOffset(index) + descriptorLength(index);
+    }
+
+    public long centralDirectoryOffset() {
+        return centralDirectoryOffset;
+    }
+
+    public int localHeaderLength(int index) {
+        return LOCAL_HEADER_LENGTH + names[index].length + (isLarge(index) ? 20 : 0);
+    }
+
+    public int descriptorLength(int index) {
+        return isLarge(index) ? 24 : 16;
+    }
+
+    public int centralHeaderLength(int index) {
+        int extra = centralExtraLength(index);
+        return CENTRAL_HEADER_LENGTH + names[index].length + (extra > 0 ? 4 + extra : 0);
+    }
+
+    /**
+     * @return the local file header of the entry
+     */
+    public byte[] localHeader(int index) {
+        Entry entry = entries.get(index);
+        boolean large = isLarge(index);
+        ByteBuffer buffer = buffer(localHeaderLength(index))
+            .putInt(LOCAL_HEADER)
+            .putShort((short) (large ? VERSION_ZIP64 : VERSION))
+            .putShort((short) FLAGS)
+            .putShort((short) METHOD_STORED);
+        putDosTime(buffer, entry.lastModified());
+        buffer.putInt(0); // CRC-32: in the data descriptor
+        if (large) {
+            buffer.putInt((int) MAX_32).putInt((int) MAX_32);
+        } else {
+            buffer.putInt((int) entry.size()).putInt((int) entry.size());
+        }
+        buffer.putShort((short) names[index].length)
+            .putShort((short) (large ? 20 : 0))
+            .put(names[index]);
+        if (large) {
+            buffer.putShort((short) ZIP64_EXTRA_ID).putShort((short) 16)
+                .putLong(entry.size()).putLong(entry.size());
+        }
+        return buffer.array();
+    }
+
+    /**
+     * @param crc CRC-32 of the entry data
+     * @return the data descriptor following the entry data
+     */
+    public byte[] dataDescriptor(int index, int crc) {
+        long size = entries.get(index).size();
+        ByteBuffer buffer = buffer(descriptorLength(index))
+            .putInt(DATA_DESCRIPTOR)
+            .putInt(crc);
+        if (isLarge(index)) {
+            buffer.putLong(size).putLong(size);
+        } else {
+            buffer.putInt((int) size).putInt((int) size);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * @param crc CRC-32 of the entry data
+     * @return the central directory header of the entry
+     */
+    public byte[] centralHeader(int index, int crc) {
+        Entry entry = entries.get(index);
+        boolean largeSize = isLarge(index);
+        boolean largeOffset = headerOffsets[index] >= MAX_32;
+        int extra = centralExtraLength(index);
+        int version = extra > 0 ? VERSION_ZIP64 : VERSION;
+        ByteBuffer buffer = buffer(centralHeaderLength(index))
+            .putInt(CENTRAL_HEADER)
+            .putShort((short) version)
+            .putShort((short) version)
+            .putShort((short) FLAGS)
+            .putShort((short) METHOD_STORED);
+        putDosTime(buffer, entry.lastModified());
+        buffer.putInt(crc);
+        if (largeSize) {
+            buffer.putInt((int) MAX_32).putInt((int) MAX_32);
+        } else {
+            buffer.putInt((int) entry.size()).putInt((int) entry.size());
+        }
+        buffer.putShort((short) names[index].length)
+            .putShort((short) (extra > 0 ? 4 + extra : 0))
+            .putShort((short) 0)  // comment length
+            .putShort((short) 0)  // disk number
+            .putShort((short) 0)  // internal attributes
+            .putInt(0)            // external attributes
+            .putInt((int) (largeOffset ? MAX_32 : headerOffsets[index]))
+            .put(names[index]);
+        if (extra > 0) {
+            buffer.putShort((short) ZIP64_EXTRA_ID).putShort((short) extra);
+            if (largeSize) {
+                buffer.putLong(entry.size()).putLong(entry.size());
+            }
+            if (largeOffset) {
+                buffer.putLong(headerOffsets[index]);
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * @return the end of the archive: ZIP64 end records when needed, then the end of central directory
+     */
+    public byte[] end() {
+        long endOffset = centralDirectoryOffset + centralDirectoryLength;
+        ByteBuffer buffer = buffer((int) (length - endOffset));
+        if (zip64) {
+            buffer.putInt(ZIP64_END)
+                .putLong(ZIP64_END_LENGTH - 12)
+                .putShort((short) VERSION_ZIP64)
+                .putShort((short) VERSION_ZIP64)
+                .putInt(0)
+                .putInt(0)
+                .putLong(entries.size())
+                .putLong(entries.size())
+                .putLong(centralDirectoryLength)
+                .putLong(centralDirectoryOffset);
+            buffer.putInt(ZIP64_LOCATOR)
+                .putInt(0)
+                .putLong(endOffset)
+                .putInt(1);
+        }
+        buffer.putInt(END)
+            .putShort((short) 0)
+            .putShort((short) 0)
+            .putShort((short) (zip64 ? MAX_16 : entries.size()))
+            .putShort((short) (zip64 ? MAX_16 : entries.size()))
+            .putInt((int) (zip64 ? MAX_32 : centralDirectoryLength))
+            .putInt((int) (zip64 ? MAX_32 : centralDirectoryOffset))
+            .putShort((short) 0);
+        return buffer.array();
+    }
+
+    private boolean isLarge(int index) {
+        return entries.get(index).size() >= MAX_32;
+    }
+
+    private int centralExtraLength(int index) {
+        return (isLarge(index) ? 16 : 0) + (headerOffsets[index] >= MAX_32 ? 8 : 0);
+    }
+
+    private static ByteBuffer buffer(int length) {
+        return ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static void putDosTime(ByteBuffer buffer, Instant instant) {
+        if (instant == null) {
+            buffer.putShort((short) 0).putShort((short) DOS_EPOCH_DATE);
+            return;
+        }
+        LocalDateTime time = LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+        if (time.getYear() < 1980 || time.getYear() > 2107) {
+            buffer.putShort((short) 0).putShort((short) DOS_EPOCH_DATE);
+            return;
+        }
+        buffer.putShort((short) ((time.getHour() << 11) | (time.getMinute() << 5) | (time.getSecond() / 2)))
+            .putShort((short) (((time.getYear() - 1980) << 9) | (time.getMonthValue() << 5) | time.getDayOfMonth()));
+    }
+}
@@ -0,0 +1,369 @@
+package com.hexagonal.playback.infrastructure.in.rest.export;
+
+import com.hexagonal.playback.domain.model.MediaObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Writes a byte range of a {@link StoredZipLayout} archive, reading entry data
+ * from the storage as it goes.
+ *
+ * <p>Read-ahead: the data of the next few entries is fetched in parallel
+ * while the current one is written, so per-object storage latency overlaps
+ * instead of adding up. Each fetch hands its bytes over through a bounded
+ * queue of chunks, so the memory held by one export is at most
+ * {@code prefetchEntries * chunksPerEntry * chunkSize}, whatever the size
+ * of the library. A fetch that cannot hand a chunk over within the stall
+ * timeout (the client stopped reading) gives up and frees its thread.</p>
+ *
+ * <p>CRC-32: computed while the data is streamed and remembered per object
+ * version (URL and ETag) in a bounded LRU. A range that skips an entry's data
+ * but includes its data descriptor or the central directory needs the CRC;
+ * when it is not remembered, the entry is read in full to compute it (bytes
+ * outside the range are not sent).</p>
+ */
+public class StoredZipWriter {
+
+    /** Marks the end of an entry's chunks (or a failed fetch, see {@link Fetch#failure}) */
+    private static final byte[] END = new byte[0];
+
+    /**
+     * Reads a byte range of a stored object.
+     */
+    @FunctionalInterface
+    public interface RangeReader {
+
+        /**
+         * @param media the stored object
+         * @param first first byte (inclusive)
+         * @param last last byte (inclusive)
+         * @return stream over exactly the requested bytes, closed by the caller
+         */
+        InputStream open(MediaObject media, long first, long last);
+    }
+
+    private final ExecutorService prefetchPool;
+    private final int prefetchEntries;
+    private final int chunkSize;
+    private final int chunksPerEntry;
+    private final Duration stallTimeout;
+    private final Map<String, Integer> crcCache;
+
+    /**
+     * @param prefetchPool threads fetching entry data ahead of the writer
+     * @param prefetchEntries entries fetched at the same time by one export
+     * @param chunkSize bytes per chunk handed over by a fetch
+     * @param chunksPerEntry chunks buffered per fetch
+     * @param stallTimeout how long a fetch or the writer waits for the other side
+     * @param crcCacheEntries CRCs remembered across exports
+     */
+    public StoredZipWriter(ExecutorService prefetchPool, int prefetchEntries, int chunkSize,
+                           int chunksPerEntry, Duration stallTimeout, int crcCacheEntries) {
+        if (prefetchEntries <= 0 || chunkSize <= 0 || chunksPerEntry <= 0 || crcCacheEntries <= 0) {
+            throw new IllegalArgumentException("Prefetch, chunk and CRC cache sizes must be positive");
+        }
+        if (stallTimeout == null || stallTimeout.isNegative() || stallTimeout.isZero()) {
+            throw new IllegalArgumentException("Stall timeout must be positive");
+        }
+        this.prefetchPool = prefetchPool;
+        this.prefetchEntries = prefetchEntries;
+        this.chunkSize = chunkSize;
+        this.chunksPerEntry = chunksPerEntry;
+        this.stallTimeout = stallTimeout;
+        this.crcCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                return size() > crcCacheEntries;
+            }
+        };
+    }
+
+    /**
+     * Writes bytes {@code first..last} (inclusive) of the archive.
+     *
+     * @param layout layout of the archive
+     * @param media stored object of each layout entry, in the same order
+     * @param reader ranged reads of the stored objects
+     * @param first first byte of the archive to write
+     * @param last last byte of the archive to write
+     * @param out destination
+     * @throws IOException if the destination fails, or a read stalls
+     */
+    public void write(StoredZipLayout layout, List<MediaObject> media, RangeReader reader,
+                      long first, long last, OutputStream out) throws IOException {
+        if (media.size() != layout.size()) {
+            throw new IllegalArgumentException("One stored object per layout entry expected");
+        }
+        Range span = new Range(first, last, out);
+        int count = layout.size();
+        int[] crcs = new int[count];
+        boolean[] known = new boolean[count];
+        boolean centralDirectoryWanted = span.overlaps(layout.centralDirectoryOffset(), layout.length());
+
+        List<Read> reads = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long size = layout.entry(i).size();
+            Integer cached = size == 0 ? Integer.valueOf(0) : cachedCrc(media.get(i));
+            if (cached != null) {
+                crcs[i] = cached;
+                known[i] = true;
+            }
+            boolean crcWanted = !known[i]
+                && (centralDirectoryWanted || span.overlaps(layout.descriptorOffset(i), layout.entryEnd(i)));
+            long dataOffset = layout.dataOffset(i);
+            if (crcWanted) {
+                reads.add(new Read(i, media.get(i), 0, size - 1, true));
+            } else if (size > 0 && span.overlaps(dataOffset, dataOffset + size)) {
+                long from = Math.max(first, dataOffset) - dataOffset;
+                long to = Math.min(last, dataOffset + size - 1) - dataOffset;
+                reads.add(new Read(i, media.get(i), from, to, false));
+            }
+        }
+
+        try (Prefetcher prefetcher = new Prefetcher(reads, reader)) {
+            for (int i = 0; i < count && span.pending(layout.headerOffset(i)); i++) {
+                if (span.overlaps(layout.headerOffset(i), layout.dataOffset(i))) {
+                    span.write(layout.headerOffset(i), layout.localHeader(i));
+                }
+                if (prefetcher.hasNext(i)) {
+                    Fetch fetch = prefetcher.next();
+                    int crc = copy(fetch, layout.dataOffset(i), span);
+                    if (fetch.read.crc()) {
+                        crcs[i] = crc;
+                        known[i] = true;
+                        rememberCrc(fetch.read.media(), crc);
+                    }
+                }
+                if (span.overlaps(layout.descriptorOffset(i), layout.entryEnd(i))) {
+                    span.write(layout.descriptorOffset(i), layout.dataDescriptor(i, crcs[i]));
+                }
+            }
+            long offset = layout.centralDirectoryOffset();
+            for (int i = 0; i < count && span.pending(offset); i++) {
+                int length = layout.centralHeaderLength(i);
+                if (span.overlaps(offset, offset + length)) {
+                    span.write(offset, layout.centralHeader(i, crcs[i]));
+                }
+                offset += length;
+            }
+            if (span.pending(offset)) {
+                span.write(offset, layout.end());
+            }
+        }
+    }
+
+    /**
+     * Writes the fetched bytes that fall within the span.
+     *
+     * @return CRC-32 of the fetched bytes when the fetch reads the whole entry for it, 0 otherwise
+     */
+    private int copy(Fetch fetch, long dataOffset, Range span) throws IOException {
+        CRC32 crc = fetch.read.crc() ? new CRC32() : null;
+        long position = dataOffset + fetch.read.from();
+        long expected = fetch.read.to() - fetch.read.from() + 1;
+        long received = 0;
+        for (byte[] chunk = fetch.take(); chunk != END; chunk = fetch.take()) {
+            if (crc != null) {
+                crc.update(chunk);
+            }
+            span.write(position, chunk);
+            position += chunk.length;
+            received += chunk.length;
+        }
+        if (received != expected) {
+            throw new IOException("Stored object truncated: " + fetch.read.media().url()
+                + " (" + received + " of " + expected + " bytes)");
+        }
+        return crc != null ? (int) crc.getValue() : 0;
+    }
+
+    private Integer cachedCrc(MediaObject media) {
+        synchronized (crcCache) {
+            return crcCache.get(crcKey(media));
+        }
+    }
+
+    private void rememberCrc(MediaObject media, int crc) {
+        synchronized (crcCache) {
+            crcCache.put(crcKey(media), crc);
+        }
+    }
+
+    private static String crcKey(MediaObject media) {
+        return media.url() + "#" + media.etag();
+    }
+
+    /**
+     * Bytes of one entry to read: {@code from..to} of the data, or all of it when the CRC is needed.
+     */
+    private record Read(int entry, MediaObject media, long from, long to, boolean crc) {
+    }
+
+    /**
+     * Bytes of the archive to write, and where.
+     */
+    private static final class Range {
+
+        private final long first;
+        private final long last;
+        private final OutputStream out;
+
+        Range(long first, long last, OutputStream out) {
+            this.first = first;
+            this.last = last;
+            this.out = out;
+        }
+
+        /** Whether {@code [start, end)} holds bytes of the range */
+        boolean overlaps(long start, long end) {
+            return start <= last && end > first;
+        }
+
+        /** Whether bytes from {@code offset} on are still to be written */
+        boolean pending(long offset) {
+            return offset <= last;
+        }
+
+        /** Writes the part of {@code bytes} (at archive offset {@code offset}) inside the range */
+        void write(long offset, byte[] bytes) throws IOException {
+            long start = Math.max(first, offset);
+            long end = Math.min(last + 1, offset + bytes.length);
+            if (start < end) {
+                out.write(bytes, (int) (start - offset), (int) (end - start));
+            }
+        }
+    }
+
+    /**
+     * Keeps up to {@code prefetchEntries} fetches running ahead of the writer.
+     */
+    private final class Prefetcher implements AutoCloseable {
+
+        private final List<Read> reads;
+        private final RangeReader reader;
+        private final ArrayDeque<Fetch> running = new ArrayDeque<>();
+        private int submitted;
+
+        Prefetcher(List<Read> reads, RangeReader reader) {
+            this.reads = reads;
+            this.reader = reader;
+            fill();
+        }
+
+        boolean hasNext(int entry) {
+            Fetch head = running.peek();
+            return head != null && head.read.entry() == entry;
+        }
+
+        /** Next fetch in archive order; a new one is started in its place */
+        Fetch next() {
+            Fetch fetch = running.poll();
+            fill();
+            return fetch;
+        }
+
+        private void fill() {
+            while (running.size() < prefetchEntries && submitted < reads.size()) {
+                Fetch fetch = new Fetch(reads.get(submitted++), reader);
+                fetch.future = prefetchPool.submit(fetch);
+                running.add(fetch);
+            }
+        }
+
+        @Override
+        public void close() {
+            for (Fetch fetch : running) {
+                fetch.cancel();
+            }
+            running.clear();
+        }
+    }
+
+    /**
+     * Reads one entry into a bounded queue of chunks.
+     */
+    private final class Fetch implements Runnable {
+
+        private final Read read;
+        private final RangeReader reader;
+        private final BlockingQueue<byte[]> chunks = new ArrayBlockingQueue<>(chunksPerEntry);
+        private volatile Throwable failure;
+        private volatile Future<?> future;
+
+        Fetch(Read read, RangeReader reader) {
+            this.read = read;
+            this.reader = reader;
+        }
+
+        @Override
+        public void run() {
+            try (InputStream in = reader.open(read.media(), read.from(), read.to())) {
+                while (true) {
+                    byte[] chunk = in.readNBytes(chunkSize);
+                    if (chunk.length == 0) {
+                        break;
+                    }
+                    hand(chunk);
+                }
+                hand(END);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                failure = e;
+                // The chunks are no use to anyone once the entry failed: make room for the marker
+                chunks.clear();
+                chunks.offer(END);
+            }
+        }
+
+        private void hand(byte[] chunk) throws IOException, InterruptedException {
+            if (!chunks.offer(chunk, stallTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IOException("Export stalled: the client stopped reading");
+            }
+        }
+
+        /** Next chunk, or {@link #END} */
+        byte[] take() throws IOException {
+            byte[] chunk;
+            try {
+                chunk = chunks.poll(stallTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Export interrupted");
+            }
+            if (chunk == null) {
+                throw new IOException("Export stalled reading " + read.media().url());
+            }
+            if (chunk == END && failure != null) {
+                if (failure instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IOException("Failed to read " + read.media().url() + ": " + failure.getMessage(), failure);
+            }
+            return chunk;
+        }
+
+        void cancel() {
+            Future<?> running = future;
+            if (running != null) {
+                running.cancel(true);
+            }
+            chunks.clear();
+        }
+    }
+}
@@ -63,13 +63,16 @@ public class DtoMapper {
      * @return DTO for GET /playback/meditations/{id} response
      */
     public PlaybackInfoResponseDto toPlaybackInfoResponse(Meditation meditation) {
+        MediaUrls mediaUrls = meditation.mediaUrls();
         return new PlaybackInfoResponseDto(
             meditation.id(),
             meditation.title(),
             meditation.processingState().name(),
             translateStateLabel(meditation.processingState()),
             meditation.createdAt(),
-            meditation.mediaUrls() != null ? toMediaUrlsDto(meditation.mediaUrls()) : null
+            mediaUrls != null ? toMediaUrlsDto(mediaUrls) : null,
+            mediaUrls != null ? mediaUrls.waveformUrl() : null,
+            mediaUrls != null ? mediaUrls.posterUrl() : null
         );
     }
 
@@ -83,7 +86,8 @@ public class DtoMapper {
         return new MediaUrlsDto(
             mediaUrls.audioUrl(),
             mediaUrls.videoUrl(),
-            mediaUrls.subtitlesUrl()
+            mediaUrls.subtitlesUrl(),
+            mediaUrls.streamingUrl()
         );
     }
 
@@ -41,7 +41,7 @@ public class EntityToDomainMapper {
     /**
      * Maps database status string to domain ProcessingState enum.
      * 
-     * @param dbStatus database status value (PROCESSING, COMPLETED, FAILED, TIMEOUT)
+     * @param dbStatus database status value (PROCESSING, COMPLETED, FAILED, TIMEOUT, CANCELLED)
      * @return corresponding ProcessingState
      * @throws IllegalArgumentException if status is null or unknown
      */
@@ -55,6 +55,7 @@ public class EntityToDomainMapper {
             case "COMPLETED" -> ProcessingState.COMPLETED;
             case "FAILED" -> ProcessingState.FAILED;
             case "TIMEOUT" -> ProcessingState.FAILED; // TIMEOUT is treated as FAILED in Playback BC
+            case "CANCELLED" -> ProcessingState.FAILED; // Cancelled generations are not playable either
             default -> throw new IllegalArgumentException("Unknown status: " + dbStatus);
         };
     }
@@ -82,6 +83,8 @@ public class EntityToDomainMapper {
             audioUrl = outputUrl;
         } else if ("VIDEO".equalsIgnoreCase(entity.getMediaType())) {
             videoUrl = outputUrl;
+            // Audio-only rendition of the video, for background listening
+            audioUrl = entity.getAudioTrackUrl();
         }
 
         // Return MediaUrls or null if both are missing
@@ -90,7 +93,8 @@ public class EntityToDomainMapper {
         }
 
         // MediaUrls constructor validates that at least one URL is provided
-        return new MediaUrls(audioUrl, videoUrl, subtitlesUrl);
+        return new MediaUrls(audioUrl, videoUrl, subtitlesUrl, entity.getStreamingUrl(),
+            entity.getWaveformUrl(), entity.getPosterUrl());
     }
 
     /**
@@ -47,6 +47,18 @@ public class MeditationEntity {
     @Column(name = "subtitle_url")
     private String subtitleUrl;
 
+    @Column(name = "streaming_url")
+    private String streamingUrl;
+
+    @Column(name = "audio_track_url")
+    private String audioTrackUrl;
+
+    @Column(name = "waveform_url")
+    private String waveformUrl;
+
+    @Column(name = "poster_url")
+    private String posterUrl;
+
     // JPA requires no-arg constructor
     protected MeditationEntity() {
     }
@@ -136,4 +148,36 @@ public class MeditationEntity {
     public void setSubtitleUrl(String subtitleUrl) {
         this.subtitleUrl = subtitleUrl;
     }
+
+    public String getStreamingUrl() {
+        return streamingUrl;
+    }
+
+    public void setStreamingUrl(String streamingUrl) {
+        this.streamingUrl = streamingUrl;
+    }
+
+    public String getAudioTrackUrl() {
+        return audioTrackUrl;
+    }
+
+    public void setAudioTrackUrl(String audioTrackUrl) {
+        this.audioTrackUrl = audioTrackUrl;
+    }
+
+    public String getWaveformUrl() {
+        return waveformUrl;
+    }
+
+    public void setWaveformUrl(String waveformUrl) {
+        this.waveformUrl = waveformUrl;
+    }
+
+    public String getPosterUrl() {
+        return posterUrl;
+    }
+
+    public void setPosterUrl(String posterUrl) {
+        this.posterUrl = posterUrl;
+    }
 }
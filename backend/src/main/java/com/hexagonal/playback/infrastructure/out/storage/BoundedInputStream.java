@@ -0,0 +1,47 @@
+package com.hexagonal.playback.infrastructure.out.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Stream limited to the first {@code remaining} bytes of another one.
+ */
+final class BoundedInputStream extends InputStream {
+
+    private final InputStream in;
+    private long remaining;
+
+    BoundedInputStream(InputStream in, long remaining) {
+        this.in = in;
+        this.remaining = remaining;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (remaining <= 0) {
+            return -1;
+        }
+        int b = in.read();
+        if (b >= 0) {
+            remaining--;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (remaining <= 0) {
+            return -1;
+        }
+        int read = in.read(buffer, offset, (int) Math.min(length, remaining));
+        if (read > 0) {
+            remaining -= read;
+        }
+        return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,287 @@
+package com.hexagonal.playback.infrastructure.out.storage;
+
+import com.hexagonal.playback.domain.exception.MediaUnavailableException;
+import com.hexagonal.playback.domain.model.MediaObject;
+import com.hexagonal.playback.domain.ports.out.MediaContentPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+
+/**
+ * Bounded local disk cache in front of the media storage, least recently used
+ * evicted first.
+ *
+ * A miss is served by the storage as is, and the whole object is downloaded
+ * in the background (to a partial file, then moved in place atomically), so
+ * the next requests for it are served from disk: {@link MediaObject#localFile()}
+ * is set and the REST layer can send the file without copying it through the
+ * JVM. Cached objects are served with the metadata described when they were
+ * downloaded; outputs are written once under their own key and never change.
+ *
+ * Each download gets its own file name, and an evicted file is only deleted
+ * after a grace period: with sendfile, Tomcat opens the file by name after the
+ * servlet has returned, so a response handed the path just before an eviction
+ * must still find it. Once opened, the descriptor outlives the deletion.
+ *
+ * The cache directory is emptied on startup: its metadata lives in memory only.
+ *
+ * Metrics:
+ * - playback.media.cache.lookups (counter, tag result=hit|miss)
+ * - playback.media.cache.bytes (gauge)
+ */
+public class CachingMediaContentAdapter implements MediaContentPort {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingMediaContentAdapter.class);
+
+    /** How long an evicted file stays on disk for responses that were already handed its path. */
+    static final Duration EVICTION_GRACE = Duration.ofSeconds(30);
+
+    private final MediaContentPort delegate;
+    private final Path root;
+    private final long maxBytes;
+    private final Executor downloads;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Duration evictionGrace;
+
+    /** Access-ordered index by URL, least recently used first. Guarded by {@code this}. */
+    private final LinkedHashMap<String, MediaObject> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+    /** Evicted files waiting for their grace period to end, oldest first. Guarded by {@code this}. */
+    private final Deque<Retired> retired = new ArrayDeque<>();
+    /** URLs being downloaded */
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param delegate storage serving misses and downloads
+     * @param root directory holding the cached objects (created if missing)
+     * @param maxBytes upper bound on the total cached size
+     * @param downloads executor running the background downloads
+     * @param meterRegistry registry for hit/miss and size metrics
+     */
+    public CachingMediaContentAdapter(MediaContentPort delegate, Path root, long maxBytes,
+                                      Executor downloads, MeterRegistry meterRegistry) {
+        this(delegate, root, maxBytes, downloads, meterRegistry, Clock.systemUTC(), EVICTION_GRACE);
+    }
+
+    CachingMediaContentAdapter(MediaContentPort delegate, Path root, long maxBytes, Executor downloads,
+                               MeterRegistry meterRegistry, Clock clock, Duration evictionGrace) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Max bytes must be positive");
+        }
+        this.delegate = delegate;
+        this.root = root;
+        this.maxBytes = maxBytes;
+        this.downloads = downloads;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.evictionGrace = evictionGrace;
+        try {
+            Files.createDirectories(root);
+            clearDirectory();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot prepare media cache directory " + root, e);
+        }
+        Gauge.builder("playback.media.cache.bytes", this, CachingMediaContentAdapter::totalBytes)
+                .description("Total size of locally cached meditation media")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        log.info("Media cache ready: dir={}, maxBytes={}", root, maxBytes);
+    }
+
+    @Override
+    public MediaObject describe(String mediaUrl) {
+        MediaObject cached;
+        synchronized (this) {
+            cached = entries.get(mediaUrl);
+            deleteRetired();
+        }
+        if (cached != null) {
+            if (Files.isRegularFile(cached.localFile())) {
+                countLookup(true);
+                return cached;
+            }
+            forget(cached);
+        }
+        countLookup(false);
+        MediaObject media = delegate.describe(mediaUrl);
+        scheduleDownload(media);
+        return media;
+    }
+
+    @Override
+    public InputStream openRange(MediaObject media, long first, long last) {
+        if (media.isCached()) {
+            try {
+                FileChannel channel = FileChannel.open(media.localFile(), StandardOpenOption.READ);
+                channel.position(first);
+                return new BoundedInputStream(Channels.newInputStream(channel), last - first + 1);
+            } catch (NoSuchFileException e) {
+                // Evicted since described: read it from the storage
+                forget(media);
+            } catch (IOException e) {
+                log.warn("Cannot read cached media {}: {}", media.localFile(), e.getMessage());
+            }
+            return delegate.openRange(media.withLocalFile(null), first, last);
+        }
+        return delegate.openRange(media, first, last);
+    }
+
+    synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void scheduleDownload(MediaObject media) {
+        if (media.length() == 0 || media.length() > maxBytes || !pending.add(media.url())) {
+            return;
+        }
+        try {
+            downloads.execute(() -> {
+                try {
+                    download(media);
+                } finally {
+                    pending.remove(media.url());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(media.url());
+            log.debug("Media download not scheduled: {}", e.getMessage());
+        }
+    }
+
+    void download(MediaObject media) {
+        Path target = root.resolve(fileName(media.url()) + "-" + UUID.randomUUID());
+        Path partial = root.resolve(target.getFileName() + ".partial");
+        try {
+            try (InputStream in = delegate.openRange(media, 0, media.length() - 1);
+                 OutputStream out = Files.newOutputStream(partial)) {
+                in.transferTo(out);
+            }
+            long size = Files.size(partial);
+            if (size != media.length()) {
+                throw new IOException("Downloaded " + size + " bytes, expected " + media.length());
+            }
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
+            synchronized (this) {
+                MediaObject previous = entries.put(media.url(), media.withLocalFile(target));
+                if (previous != null) {
+                    totalBytes -= previous.length();
+                    retire(previous);
+                }
+                totalBytes += size;
+                evictOverflow();
+                deleteRetired();
+            }
+            log.debug("Media cached: {} ({} bytes)", media.url(), size);
+        } catch (IOException | MediaUnavailableException e) {
+            log.warn("Cannot cache media {}: {}", media.url(), e.getMessage());
+            deleteQuietly(partial);
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<String, MediaObject>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            MediaObject evicted = eldest.next().getValue();
+            eldest.remove();
+            totalBytes -= evicted.length();
+            retire(evicted);
+            log.debug("Evicted cached media {}", evicted.url());
+        }
+    }
+
+    private void retire(MediaObject media) {
+        retired.addLast(new Retired(media.localFile(), clock.instant().plus(evictionGrace)));
+    }
+
+    /**
+     * Delete the evicted files whose grace period is over. Must hold the lock.
+     */
+    private void deleteRetired() {
+        Instant now = clock.instant();
+        while (!retired.isEmpty() && !retired.peekFirst().deleteAfter().isAfter(now)) {
+            deleteQuietly(retired.pollFirst().file());
+        }
+    }
+
+    synchronized int retiredCount() {
+        return retired.size();
+    }
+
+    private synchronized void forget(MediaObject media) {
+        MediaObject current = entries.get(media.url());
+        if (current != null && current.localFile().equals(media.localFile())) {
+            entries.remove(media.url());
+            totalBytes -= current.length();
+        }
+    }
+
+    private void clearDirectory() throws IOException {
+        try (Stream<Path> listing = Files.list(root)) {
+            listing.filter(Files::isRegularFile).forEach(CachingMediaContentAdapter::deleteQuietly);
+        }
+    }
+
+    private void countLookup(boolean hit) {
+        Counter.builder("playback.media.cache.lookups")
+                .description("Media cache lookups")
+                .tag("result", hit ? "hit" : "miss")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record Retired(Path file, Instant deleteAfter) {
+    }
+
+    private static String fileName(String url) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Cannot delete {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.hexagonal.playback.infrastructure.out.storage;
+
+import com.hexagonal.playback.domain.exception.MediaUnavailableException;
+import com.hexagonal.playback.domain.model.MediaObject;
+import com.hexagonal.playback.domain.ports.out.MediaContentPort;
+import com.hexagonal.shared.storage.FileSystemObjectStore;
+import com.hexagonal.shared.storage.FileSystemObjectStore.StoredObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads meditation outputs from the filesystem object storage.
+ *
+ * Objects are already on local disk: every described object carries its
+ * file, so the REST layer always sends it without copying it through the
+ * JVM. The ETag is the content SHA-256 of the checksum sidecar.
+ */
+public class FileSystemMediaContentAdapter implements MediaContentPort {
+
+    private final FileSystemObjectStore store;
+
+    public FileSystemMediaContentAdapter(FileSystemObjectStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public MediaObject describe(String mediaUrl) {
+        String key = store.keyOf(mediaUrl).orElseThrow(() -> new MediaUnavailableException(
+            mediaUrl, new IllegalArgumentException("Not a URL of the filesystem storage")));
+        StoredObject object = store.find(key).orElseThrow(() -> new MediaUnavailableException(
+            mediaUrl, new NoSuchFileException(key)));
+        return new MediaObject(mediaUrl, object.size(), "\"" + object.sha256() + "\"", object.contentType(),
+            object.lastModified(), object.file());
+    }
+
+    @Override
+    public InputStream openRange(MediaObject media, long first, long last) {
+        // Described objects always carry their file; look it up again otherwise
+        MediaObject local = media.isCached() ? media : describe(media.url());
+        try {
+            FileChannel channel = FileChannel.open(local.localFile(), StandardOpenOption.READ);
+            channel.position(first);
+            return new BoundedInputStream(Channels.newInputStream(channel), last - first + 1);
+        } catch (IOException e) {
+            throw new MediaUnavailableException(media.url(), e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.hexagonal.playback.infrastructure.out.storage;
+
+import com.hexagonal.playback.domain.exception.MediaUnavailableException;
+import com.hexagonal.playback.domain.model.MediaObject;
+import com.hexagonal.playback.domain.ports.out.MediaContentPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.io.InputStream;
+import java.net.URI;
+
+/**
+ * Reads meditation outputs from the S3 bucket the generation BC uploads them to.
+ *
+ * Output URLs are either LocalStack path-style ({@code endpoint/bucket/key})
+ * or AWS virtual-hosted-style ({@code https://bucket.s3.amazonaws.com/key});
+ * the object key is recovered from either. Ranges are ranged GETs
+ * conditioned on the described ETag, so an object replaced between the
+ * describe and the read fails instead of mixing two versions in one response.
+ */
+public class S3MediaContentAdapter implements MediaContentPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(S3MediaContentAdapter.class);
+
+    private final S3Client s3Client;
+    private final String bucketName;
+
+    public S3MediaContentAdapter(S3Client s3Client, String bucketName) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+    }
+
+    @Override
+    public MediaObject describe(String mediaUrl) {
+        String key = keyOf(mediaUrl, bucketName);
+        try {
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+            return new MediaObject(mediaUrl, head.contentLength(), head.eTag(), head.contentType(),
+                    head.lastModified(), null);
+        } catch (SdkException | IllegalArgumentException e) {
+            logger.warn("Cannot describe media {}: {}", key, e.getMessage());
+            throw new MediaUnavailableException(mediaUrl, e);
+        }
+    }
+
+    @Override
+    public InputStream openRange(MediaObject media, long first, long last) {
+        String key = keyOf(media.url(), bucketName);
+        try {
+            return s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .range("bytes=" + first + "-" + last)
+                    .ifMatch(media.etag())
+                    .build());
+        } catch (SdkException e) {
+            logger.warn("Cannot read bytes {}-{} of media {}: {}", first, last, key, e.getMessage());
+            throw new MediaUnavailableException(media.url(), e);
+        }
+    }
+
+    /**
+     * Object key of an output URL.
+     *
+     * @param mediaUrl path-style or virtual-hosted-style URL
+     * @param bucketName bucket holding the outputs
+     * @return the object key
+     * @throws IllegalArgumentException if the URL has no key
+     */
+    static String keyOf(String mediaUrl, String bucketName) {
+        String path = URI.create(mediaUrl).getPath();
+        String key = path != null && path.startsWith("/") ? path.substring(1) : path;
+        if (key != null && key.startsWith(bucketName + "/")) {
+            key = key.substring(bucketName.length() + 1);
+        }
+        if (key == null || key.isEmpty()) {
+            throw new IllegalArgumentException("No object key in media URL: " + mediaUrl);
+        }
+        return key;
+    }
+}
@@ -0,0 +1,482 @@
+package com.hexagonal.shared.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileSystemException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Object storage on a local filesystem, for single-node and offline deployments
+ * where S3 (or LocalStack) is not worth running.
+ *
+ * <p>Layout under the root directory:</p>
+ * <ul>
+ *   <li>{@code blobs/ab/cd/abcd…} — content, named by its SHA-256 and sharded by its
+ *       first two bytes; identical content is stored once</li>
+ *   <li>{@code objects/<shard>/<key>} — objects, hard links to their blob, with a
+ *       {@code <key>.sha256} sidecar in {@code sha256sum} format. The shard is derived
+ *       from the first two key segments ({@code generation/<userId>}), so the objects
+ *       of one owner stay together and no directory grows with the number of owners</li>
+ *   <li>{@code tmp/} — writes in progress, emptied on startup</li>
+ * </ul>
+ *
+ * <p>Writes are staged in {@code tmp/}, flushed to disk, and renamed into place
+ * atomically: readers see the previous object or the new one, never a partial
+ * file. Objects are only ever replaced by rename, never written in place, so
+ * the blob shared by several objects cannot change under any of them. Where
+ * hard links are not supported the blob is copied instead.</p>
+ *
+ * <p>Deleting the last object linked to a blob deletes the blob, and empty
+ * directories are removed with it. Publishing and pruning hold the same lock,
+ * so a blob or directory is never removed under a write in progress.</p>
+ *
+ * <p>Architecture: shared storage infrastructure — used by the Generation BC (writes)
+ * and the Playback BC (reads).</p>
+ */
+public class FileSystemObjectStore {
+
+    private static final Logger log = LoggerFactory.getLogger(FileSystemObjectStore.class);
+
+    static final String CHECKSUM_SUFFIX = ".sha256";
+    private static final Pattern KEY = Pattern.compile("[A-Za-z0-9_-][A-Za-z0-9._-]*(/[A-Za-z0-9_-][A-Za-z0-9._-]*)*");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path objects;
+    private final Path blobs;
+    private final Path staging;
+    private final String publicUrl;
+    private final Object publishLock = new Object();
+
+    /**
+     * Stored object, as found on disk.
+     *
+     * @param key object key
+     * @param file object file (read only: replace through the store)
+     * @param size size in bytes
+     * @param sha256 hex SHA-256 of the content
+     * @param lastModified time the object was stored
+     * @param contentType MIME type, by extension
+     */
+    public record StoredObject(String key, Path file, long size, String sha256, Instant lastModified,
+                               String contentType) {
+    }
+
+    /**
+     * Object as listed (no checksum read).
+     *
+     * @param key object key
+     * @param size size in bytes
+     * @param lastModified time the object was stored
+     */
+    public record ListedObject(String key, long size, Instant lastModified) {
+    }
+
+    /**
+     * @param root directory holding the store (created if missing)
+     * @param publicUrl base URL objects are served from; the object URL is {@code <publicUrl>/<key>}
+     */
+    public FileSystemObjectStore(Path root, String publicUrl) {
+        if (publicUrl == null || publicUrl.isBlank()) {
+            throw new IllegalArgumentException("Public URL cannot be null or blank");
+        }
+        this.objects = root.resolve("objects");
+        this.blobs = root.resolve("blobs");
+        this.staging = root.resolve("tmp");
+        this.publicUrl = publicUrl.endsWith("/") ? publicUrl.substring(0, publicUrl.length() - 1) : publicUrl;
+        try {
+            Files.createDirectories(objects);
+            Files.createDirectories(blobs);
+            Files.createDirectories(staging);
+            clearStaging();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot prepare object store directory " + root, e);
+        }
+        log.info("Filesystem object store ready: dir={}, publicUrl={}", root, this.publicUrl);
+    }
+
+    /**
+     * Stores a file under a key, replacing any previous object.
+     *
+     * @param source file to store (left in place)
+     * @param key object key
+     * @return URL of the object
+     * @throws IOException if the file cannot be read or stored
+     */
+    public String put(Path source, String key) throws IOException {
+        Path object = objectPath(key);
+        Path staged = staging.resolve(UUID.randomUUID().toString());
+        MessageDigest digest = sha256();
+        try {
+            try (InputStream in = Files.newInputStream(source);
+                 FileChannel out = FileChannel.open(staged, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                    ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                    while (chunk.hasRemaining()) {
+                        out.write(chunk);
+                    }
+                }
+                // Durable before it becomes visible under its name
+                out.force(true);
+            }
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            Path blob = blobPath(sha256);
+            synchronized (publishLock) {
+                if (Files.isRegularFile(blob)) {
+                    log.debug("Content already stored, linking: key={}, sha256={}", key, sha256);
+                    Files.delete(staged);
+                } else {
+                    Files.createDirectories(blob.getParent());
+                    Files.move(staged, blob, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                }
+                publish(blob, sha256, object);
+            }
+            return urlOf(key);
+        } finally {
+            Files.deleteIfExists(staged);
+        }
+    }
+
+    /**
+     * Stores an existing object under another key. The copy shares the content
+     * of the source (no bytes are copied where hard links are supported).
+     *
+     * @param sourceKey key of the existing object
+     * @param targetKey key of the copy
+     * @return URL of the copy
+     * @throws NoSuchFileException if the source object does not exist
+     * @throws IOException if the copy cannot be stored
+     */
+    public String copy(String sourceKey, String targetKey) throws IOException {
+        StoredObject source = find(sourceKey)
+            .orElseThrow(() -> new NoSuchFileException("No stored object: " + sourceKey));
+        publish(source.file(), source.sha256(), objectPath(targetKey));
+        return urlOf(targetKey);
+    }
+
+    /**
+     * Looks an object up.
+     *
+     * @param key object key
+     * @return the object, or empty if there is none (or the key is not valid)
+     */
+    public Optional<StoredObject> find(String key) {
+        if (!isValidKey(key)) {
+            return Optional.empty();
+        }
+        Path object = objectPath(key);
+        try {
+            long size = Files.size(object);
+            Instant lastModified = Files.getLastModifiedTime(object).toInstant();
+            return Optional.of(new StoredObject(key, object, size, checksum(object), lastModified, contentTypeOf(key)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("Cannot read stored object {}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Lists objects, one page at a time. Objects are ordered by shard, then by
+     * key, so the objects of one owner are contiguous; a page resumes after
+     * the last key of the previous one.
+     *
+     * @param prefix key prefix
+     * @param afterKey last key of the previous page, null for the first page
+     * @param limit maximum number of objects
+     * @return the objects, fewer than the limit only on the last page
+     * @throws IOException if the store cannot be read
+     */
+    public List<ListedObject> list(String prefix, String afterKey, int limit) throws IOException {
+        String afterShard = afterKey != null ? shardOf(afterKey) : null;
+        List<Path> shards;
+        try (Stream<Path> listing = Files.list(objects)) {
+            shards = listing.filter(Files::isDirectory)
+                .filter(shard -> afterShard == null || shard.getFileName().toString().compareTo(afterShard) >= 0)
+                .sorted()
+                .toList();
+        }
+        List<ListedObject> page = new ArrayList<>();
+        for (Path shard : shards) {
+            boolean resumed = shard.getFileName().toString().equals(afterShard);
+            List<ListedObject> entries = new ArrayList<>();
+            Files.walkFileTree(shard, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    String key = shard.relativize(file).toString().replace('\\', '/');
+                    if (attributes.isRegularFile() && isValidKey(key) && key.startsWith(prefix)
+                            && (!resumed || key.compareTo(afterKey) > 0)) {
+                        entries.add(new ListedObject(key, attributes.size(), attributes.lastModifiedTime().toInstant()));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    // Deleted while listed
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            entries.sort(Comparator.comparing(ListedObject::key));
+            for (ListedObject entry : entries) {
+                page.add(entry);
+                if (page.size() == limit) {
+                    return page;
+                }
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Deletes an object and its checksum sidecar. The blob goes with the last
+     * object linked to it, and the directories left empty are removed.
+     *
+     * @param key object key
+     * @return true if the object existed
+     * @throws IOException if the object cannot be deleted
+     */
+    public boolean delete(String key) throws IOException {
+        Path object = objectPath(key);
+        Path sidecar = checksumPath(object);
+        synchronized (publishLock) {
+            String sha256 = readChecksum(sidecar);
+            boolean deleted = Files.deleteIfExists(object);
+            Files.deleteIfExists(sidecar);
+            if (sha256 != null) {
+                pruneBlob(blobPath(sha256));
+            }
+            pruneEmptyDirectories(object.getParent(), objects);
+            return deleted;
+        }
+    }
+
+    /**
+     * URL of an object.
+     */
+    public String urlOf(String key) {
+        return publicUrl + "/" + key;
+    }
+
+    /**
+     * Key of an object URL of this store.
+     *
+     * @param url object URL (query string ignored)
+     * @return the key, or empty if the URL is not one of this store
+     */
+    public Optional<String> keyOf(String url) {
+        if (url == null || !url.startsWith(publicUrl + "/")) {
+            return Optional.empty();
+        }
+        String key = url.substring(publicUrl.length() + 1);
+        int query = key.indexOf('?');
+        key = query >= 0 ? key.substring(0, query) : key;
+        return isValidKey(key) ? Optional.of(key) : Optional.empty();
+    }
+
+    /**
+     * Content type by extension, including the streaming formats the JDK
+     * and Spring do not know.
+     */
+    static String contentTypeOf(String key) {
+        String name = key.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".m3u8")) {
+            return "application/vnd.apple.mpegurl";
+        }
+        if (name.endsWith(".m4s")) {
+            return "video/iso.segment";
+        }
+        if (name.endsWith(".srt")) {
+            return "text/srt";
+        }
+        return MediaTypeFactory.getMediaType(name)
+            .map(MediaType::toString)
+            .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+    }
+
+    /**
+     * Object keys are relative paths of plain segments: no {@code ..}, no
+     * hidden names, nothing that could resolve outside the store, and no
+     * name clashing with a checksum sidecar.
+     */
+    static boolean isValidKey(String key) {
+        return key != null && KEY.matcher(key).matches() && !key.endsWith(CHECKSUM_SUFFIX);
+    }
+
+    Path objectPath(String key) {
+        if (!isValidKey(key)) {
+            throw new IllegalArgumentException("Invalid object key: " + key);
+        }
+        return objects.resolve(shardOf(key)).resolve(key);
+    }
+
+    private static String shardOf(String key) {
+        String[] segments = key.split("/", 3);
+        String owner = segments.length > 1 ? segments[0] + "/" + segments[1] : segments[0];
+        return HexFormat.of().formatHex(sha256().digest(owner.getBytes(StandardCharsets.UTF_8)), 0, 1);
+    }
+
+    Path blobPath(String sha256) {
+        return blobs.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    /**
+     * Links the content under the object name, then writes its checksum
+     * sidecar, each through a staged file renamed into place. The blob of
+     * replaced content is pruned.
+     */
+    private void publish(Path content, String sha256, Path object) throws IOException {
+        Path staged = staging.resolve(UUID.randomUUID().toString());
+        synchronized (publishLock) {
+            try {
+                Files.createDirectories(object.getParent());
+                String previous = readChecksum(checksumPath(object));
+                linkOrCopy(content, staged);
+                Files.move(staged, object, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                Files.writeString(staged, sha256 + "  " + object.getFileName() + "\n", StandardCharsets.US_ASCII);
+                Files.move(staged, checksumPath(object), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                if (previous != null && !previous.equals(sha256)) {
+                    // Replaced content: its blob may have no object left
+                    pruneBlob(blobPath(previous));
+                }
+            } finally {
+                Files.deleteIfExists(staged);
+            }
+        }
+    }
+
+    /**
+     * Checksum of an object from its sidecar, recomputed (and the sidecar
+     * rewritten) when the sidecar is missing or unreadable.
+     */
+    private String checksum(Path object) throws IOException {
+        Path sidecar = checksumPath(object);
+        String recorded = readChecksum(sidecar);
+        if (recorded != null) {
+            return recorded;
+        }
+        // Interrupted between object and sidecar: recompute
+        MessageDigest digest = sha256();
+        try (InputStream in = Files.newInputStream(object)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        String sha256 = HexFormat.of().formatHex(digest.digest());
+        Path staged = staging.resolve(UUID.randomUUID().toString());
+        Files.writeString(staged, sha256 + "  " + object.getFileName() + "\n", StandardCharsets.US_ASCII);
+        Files.move(staged, sidecar, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        log.info("Checksum sidecar rebuilt: {}", object);
+        return sha256;
+    }
+
+    /**
+     * Checksum recorded in a sidecar, or null if there is no valid one.
+     */
+    private static String readChecksum(Path sidecar) throws IOException {
+        try {
+            String line = Files.readString(sidecar, StandardCharsets.US_ASCII);
+            if (line.length() >= 64 && line.substring(0, 64).matches("[0-9a-f]{64}")) {
+                return line.substring(0, 64);
+            }
+            return null;
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Deletes a blob no object links to any more. Without link counts (non-POSIX
+     * file stores, where objects are copies) the blob is left in place.
+     */
+    private void pruneBlob(Path blob) throws IOException {
+        try {
+            int links = (Integer) Files.getAttribute(blob, "unix:nlink");
+            if (links <= 1) {
+                Files.delete(blob);
+                pruneEmptyDirectories(blob.getParent(), blobs);
+                log.debug("Unreferenced blob deleted: {}", blob.getFileName());
+            }
+        } catch (NoSuchFileException e) {
+            // Already gone
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            log.debug("Link count not available, blob kept: {}", blob.getFileName());
+        }
+    }
+
+    private static void pruneEmptyDirectories(Path directory, Path root) throws IOException {
+        Path current = directory;
+        while (current != null && current.startsWith(root) && !current.equals(root)) {
+            try {
+                Files.delete(current);
+            } catch (DirectoryNotEmptyException | NoSuchFileException e) {
+                return;
+            }
+            current = current.getParent();
+        }
+    }
+
+    private void clearStaging() throws IOException {
+        try (Stream<Path> listing = Files.list(staging)) {
+            for (Path leftover : listing.toList()) {
+                Files.deleteIfExists(leftover);
+            }
+        }
+    }
+
+    private static Path checksumPath(Path object) {
+        return object.resolveSibling(object.getFileName() + CHECKSUM_SUFFIX);
+    }
+
+    private static void linkOrCopy(Path source, Path target) throws IOException {
+        try {
+            Files.createLink(target, source);
+        } catch (NoSuchFileException e) {
+            throw e;
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            // Different file store or no hard link support
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.hexagonal.shared.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Filesystem object storage, used instead of S3 when {@code storage.type=filesystem}.
+ * The Generation BC stores its media in it and the Playback BC reads it back
+ * from disk; {@link FileSystemStorageController} serves the object URLs.
+ */
+@Configuration
+@ConditionalOnProperty(name = "storage.type", havingValue = "filesystem")
+public class FileSystemStorageConfig {
+
+    /**
+     * @param directory directory holding the store
+     * @param publicUrl base URL of the storage endpoint, as reachable by clients
+     * @return the object store
+     */
+    @Bean
+    public FileSystemObjectStore fileSystemObjectStore(
+            @Value("${storage.filesystem.dir:${java.io.tmpdir}/meditation-storage}") String directory,
+            @Value("${storage.filesystem.public-url:http://localhost:8080/api/v1/storage}") String publicUrl) {
+        return new FileSystemObjectStore(Path.of(directory), publicUrl);
+    }
+}
@@ -0,0 +1,77 @@
+package com.hexagonal.shared.storage;
+
+import com.hexagonal.shared.storage.FileSystemObjectStore.StoredObject;
+import com.hexagonal.shared.web.ByteRangeResponses;
+import com.hexagonal.shared.web.ByteRangeResponses.Span;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * REST Controller serving the objects of the filesystem storage, the
+ * counterpart of a public-read bucket: object URLs point here.
+ *
+ * Endpoints:
+ * - GET /api/v1/storage/{key} - Object content, whole or by byte range
+ *
+ * Range and conditional requests are answered by {@link ByteRangeResponses};
+ * the ETag is the SHA-256 of the checksum sidecar, and files are sent without
+ * copying them through the JVM (Tomcat sendfile, or FileChannel.transferTo).
+ *
+ * Only registered when {@code storage.type=filesystem}.
+ */
+@RestController
+@RequestMapping("/v1/storage")
+@ConditionalOnProperty(name = "storage.type", havingValue = "filesystem")
+public class FileSystemStorageController {
+
+    private static final String CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePublic().getHeaderValue();
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final FileSystemObjectStore store;
+
+    public FileSystemStorageController(FileSystemObjectStore store) {
+        this.store = store;
+    }
+
+    /**
+     * GET /api/v1/storage/{key}
+     *
+     * @param request servlet request (object key, conditional and range headers)
+     * @param response servlet response the object is written to
+     * @throws IOException if the client connection fails
+     */
+    @GetMapping("/**")
+    public void getObject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String path = (String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+        String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String key = PATH_MATCHER.extractPathWithinPattern(pattern, path);
+
+        Optional<StoredObject> found = store.find(key);
+        if (found.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        StoredObject object = found.get();
+        Span span = ByteRangeResponses.resolve(
+            request, response, object.size(), "\"" + object.sha256() + "\"", object.lastModified(), CACHE_CONTROL);
+        if (span == null) {
+            return;
+        }
+        if (!ByteRangeResponses.sendFile(request, response, object.file(), span, object.contentType())) {
+            // Replaced or deleted since looked up
+            response.reset();
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+        }
+    }
+}
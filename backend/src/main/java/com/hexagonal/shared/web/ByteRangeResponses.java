@@ -0,0 +1,223 @@
+package com.hexagonal.shared.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Utility class answering HTTP range and conditional requests for binary content.
+ *
+ * <p>Semantics shared by every endpoint serving media bytes:</p>
+ * <ul>
+ *   <li>Strong ETag and Last-Modified; If-None-Match / If-Modified-Since answer 304</li>
+ *   <li>A single Range answers 206 with Content-Range; several ranges answer the full
+ *       content, as players only ever ask for one and multipart/byteranges buys them nothing</li>
+ *   <li>If-Range (strong ETag or date) that does not match answers the full content</li>
+ *   <li>Malformed or unsatisfiable ranges answer 416 with the current length</li>
+ * </ul>
+ *
+ * <p>Local files are handed to Tomcat's sendfile when the connector supports it (the
+ * bytes never enter the JVM), otherwise written with {@link FileChannel#transferTo}.</p>
+ *
+ * <p>Architecture: shared web utility — infrastructure layer only.</p>
+ */
+public final class ByteRangeResponses {
+
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private ByteRangeResponses() {
+        // utility class — no instances
+    }
+
+    /**
+     * Bytes to send.
+     *
+     * @param first first byte (inclusive)
+     * @param last last byte (inclusive), first - 1 for empty content
+     * @param total length of the whole content
+     * @param partial whether a range of the content is sent (206)
+     */
+    public record Span(long first, long last, long total, boolean partial) {
+
+        public long length() {
+            return last - first + 1;
+        }
+    }
+
+    /**
+     * Writes the validators, answers conditional requests and resolves the Range header.
+     *
+     * @param request request with the conditional and range headers
+     * @param response response the validators are written to
+     * @param length content length
+     * @param etag strong entity tag, quoted
+     * @param lastModified last modification time, nullable
+     * @param cacheControl Cache-Control header value
+     * @return bytes to send, or null when the response is complete (304, 412, 416)
+     */
+    public static Span resolve(HttpServletRequest request, HttpServletResponse response,
+                               long length, String etag, Instant lastModified, String cacheControl) {
+        long lastModifiedMillis = lastModified != null ? lastModified.toEpochMilli() : -1;
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        if (lastModifiedMillis >= 0) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModifiedMillis);
+        }
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModifiedMillis)) {
+            return null;
+        }
+
+        Span full = new Span(0, length - 1, length, false);
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range == null || !ifRangeMatches(request.getHeader(HttpHeaders.IF_RANGE), etag, lastModified)) {
+            return full;
+        }
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            return rangeNotSatisfiable(response, length);
+        }
+        if (ranges.size() != 1) {
+            return full;
+        }
+        long first;
+        long last;
+        try {
+            first = ranges.get(0).getRangeStart(length);
+            last = ranges.get(0).getRangeEnd(length);
+        } catch (IllegalArgumentException e) {
+            return rangeNotSatisfiable(response, length);
+        }
+        if (length == 0 || first >= length || last < first) {
+            return rangeNotSatisfiable(response, length);
+        }
+        return new Span(first, last, length, true);
+    }
+
+    /**
+     * Writes status, type, length and Content-Range of the bytes about to be sent.
+     *
+     * @param response response to write to
+     * @param span bytes to send
+     * @param contentType MIME type of the content
+     */
+    public static void writeHeaders(HttpServletResponse response, Span span, String contentType) {
+        response.setContentType(contentType);
+        response.setContentLengthLong(span.length());
+        if (span.partial()) {
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                "bytes " + span.first() + "-" + span.last() + "/" + span.total());
+        }
+    }
+
+    /**
+     * Whether the response carries no body (HEAD requests, empty content).
+     *
+     * @param request current request
+     * @param span bytes to send
+     * @return true if only the headers are sent
+     */
+    public static boolean isBodyless(HttpServletRequest request, Span span) {
+        return span.length() == 0 || HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    /**
+     * Sends bytes of a local file, headers included.
+     *
+     * With sendfile, Tomcat opens the file by name once the servlet has returned:
+     * callers that delete files must leave the path in place for a moment after
+     * handing it here (see CachingMediaContentAdapter).
+     *
+     * @param request current request (sendfile attributes)
+     * @param response response to write to
+     * @param file local file holding the content
+     * @param span bytes to send
+     * @param contentType MIME type of the content
+     * @return false if the file does not exist (nothing written), true once sent
+     * @throws IOException if the file or the client connection fails
+     */
+    public static boolean sendFile(HttpServletRequest request, HttpServletResponse response,
+                                   Path file, Span span, String contentType) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            writeHeaders(response, span, contentType);
+            if (isBodyless(request, span)) {
+                return true;
+            }
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                // Tomcat writes the file after the servlet returns; end is exclusive
+                request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, span.first());
+                request.setAttribute(SENDFILE_END, span.last() + 1);
+                return true;
+            }
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = span.first();
+            long remaining = span.length();
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    throw new IOException("File truncated while sending: " + file);
+                }
+                position += sent;
+                remaining -= sent;
+            }
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Whether a range request applies to the current representation:
+     * no If-Range, the same strong ETag, or exactly the Last-Modified date.
+     */
+    static boolean ifRangeMatches(String ifRange, String etag, Instant lastModified) {
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // Weak validators never match (strong comparison)
+            return ifRange.equals(etag);
+        }
+        if (lastModified == null) {
+            return false;
+        }
+        try {
+            Instant date = ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return date.getEpochSecond() == lastModified.getEpochSecond();
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static Span rangeNotSatisfiable(HttpServletResponse response, long length) {
+        response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+        response.setContentLength(0);
+        return null;
+    }
+}
@@ -0,0 +1,12 @@
+-- Flyway migration: Allow CANCELLED status on meditation_output
+-- Version: V005__add_cancelled_status_to_meditation_output.sql
+-- Schema: generation
+
+ALTER TABLE generation.meditation_output
+DROP CONSTRAINT IF EXISTS meditation_output_status_check;
+
+ALTER TABLE generation.meditation_output
+ADD CONSTRAINT meditation_output_status_check
+CHECK (status IN ('PROCESSING', 'COMPLETED', 'FAILED', 'TIMEOUT', 'CANCELLED'));
+
+COMMENT ON COLUMN generation.meditation_output.status IS 'Generation status: PROCESSING, COMPLETED, FAILED, TIMEOUT, CANCELLED';
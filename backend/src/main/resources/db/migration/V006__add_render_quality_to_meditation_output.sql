@@ -0,0 +1,14 @@
+-- Flyway migration: Record the render quality tier on meditation_output
+-- Version: V006__add_render_quality_to_meditation_output.sql
+-- Schema: generation
+
+ALTER TABLE generation.meditation_output
+ADD COLUMN render_quality VARCHAR(20)
+CHECK (render_quality IN ('FULL', 'REDUCED', 'LOW', 'AUDIO_ONLY'));
+
+-- Degraded outputs are re-rendered at full quality once load drops
+CREATE INDEX IF NOT EXISTS idx_meditation_output_degraded
+ON generation.meditation_output(created_at)
+WHERE render_quality IN ('REDUCED', 'LOW', 'AUDIO_ONLY');
+
+COMMENT ON COLUMN generation.meditation_output.render_quality IS 'Render quality tier: FULL, REDUCED, LOW, AUDIO_ONLY (NULL for rows rendered before tiering)';
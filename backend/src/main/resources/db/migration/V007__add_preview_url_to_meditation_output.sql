@@ -0,0 +1,8 @@
+-- Flyway migration: Store the low-fidelity preview URL on meditation_output
+-- Version: V007__add_preview_url_to_meditation_output.sql
+-- Schema: generation
+
+ALTER TABLE generation.meditation_output
+ADD COLUMN preview_url VARCHAR(500);
+
+COMMENT ON COLUMN generation.meditation_output.preview_url IS 'Low-bitrate audio preview of the opening seconds, published while the full render is in progress (NULL if no preview was produced)';
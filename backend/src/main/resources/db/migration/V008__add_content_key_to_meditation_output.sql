@@ -0,0 +1,13 @@
+-- Flyway migration: Store the user-independent content key on meditation_output
+-- Version: V008__add_content_key_to_meditation_output.sql
+-- Schema: generation
+
+ALTER TABLE generation.meditation_output
+ADD COLUMN content_key VARCHAR(64);
+
+-- Lookup of a reusable full-quality render for identical content of another user
+CREATE INDEX IF NOT EXISTS idx_meditation_output_content_key
+ON generation.meditation_output(content_key, completed_at DESC)
+WHERE content_key IS NOT NULL AND status = 'COMPLETED' AND render_quality = 'FULL';
+
+COMMENT ON COLUMN generation.meditation_output.content_key IS 'SHA-256 of narration text, music and image content and render profile, independent of the user (NULL if not computed)';
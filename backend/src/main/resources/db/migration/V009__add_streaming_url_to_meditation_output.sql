@@ -0,0 +1,8 @@
+-- Flyway migration: Store the HLS playlist URL on meditation_output
+-- Version: V009__add_streaming_url_to_meditation_output.sql
+-- Schema: generation
+
+ALTER TABLE generation.meditation_output
+ADD COLUMN streaming_url VARCHAR(500);
+
+COMMENT ON COLUMN generation.meditation_output.streaming_url IS 'HLS master playlist (fMP4 segments) published next to the progressive output (NULL if not packaged)';
@@ -0,0 +1,8 @@
+-- Flyway migration: Store the audio-only rendition URL on meditation_output
+-- Version: V010__add_audio_track_url_to_meditation_output.sql
+-- Schema: generation
+
+ALTER TABLE generation.meditation_output
+ADD COLUMN audio_track_url VARCHAR(500);
+
+COMMENT ON COLUMN generation.meditation_output.audio_track_url IS 'Audio-only AAC rendition of a VIDEO output, rendered in the same pass (NULL for AUDIO outputs and single-rendition renders)';
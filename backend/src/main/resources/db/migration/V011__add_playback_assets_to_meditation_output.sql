@@ -0,0 +1,10 @@
+-- Flyway migration: Store the waveform peaks and poster frame URLs on meditation_output
+-- Version: V011__add_playback_assets_to_meditation_output.sql
+-- Schema: generation
+
+ALTER TABLE generation.meditation_output
+ADD COLUMN waveform_url VARCHAR(500),
+ADD COLUMN poster_url VARCHAR(500);
+
+COMMENT ON COLUMN generation.meditation_output.waveform_url IS 'Waveform peaks of the output (audiowaveform JSON, min/max per window), computed at render time (NULL when disabled or failed)';
+COMMENT ON COLUMN generation.meditation_output.poster_url IS 'JPEG poster frame of a VIDEO output (NULL for AUDIO outputs)';
@@ -0,0 +1,25 @@
+-- Flyway migration: Queue of generations handed off by draining nodes
+-- Version: V012__create_generation_handoff_table.sql
+-- Schema: generation
+
+CREATE TABLE IF NOT EXISTS generation.generation_handoff (
+    handoff_id UUID PRIMARY KEY,
+    meditation_id UUID,
+    composition_id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    narration_text TEXT NOT NULL,
+    music_reference TEXT NOT NULL,
+    image_reference TEXT,
+    checkpoint_stage VARCHAR(20),
+    handed_off_at TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
+
+-- Claims take the oldest entries first
+CREATE INDEX IF NOT EXISTS idx_generation_handoff_handed_off_at ON generation.generation_handoff(handed_off_at);
+
+COMMENT ON TABLE generation.generation_handoff IS 'Generations stopped or never started by a draining node, resumed by any node (entries are deleted when claimed)';
+COMMENT ON COLUMN generation.generation_handoff.handoff_id IS 'Meditation ID for a started generation, random otherwise';
+COMMENT ON COLUMN generation.generation_handoff.meditation_id IS 'PROCESSING meditation to resume (NULL if the generation never started)';
+COMMENT ON COLUMN generation.generation_handoff.image_reference IS 'Original image reference of the request, unsanitized (NULL for AUDIO)';
+COMMENT ON COLUMN generation.generation_handoff.checkpoint_stage IS 'Pipeline stage the generation was stopped in; earlier stages are restored from the artifact store (NULL if never started)';
+COMMENT ON COLUMN generation.generation_handoff.handed_off_at IS 'When the draining node handed the generation off';
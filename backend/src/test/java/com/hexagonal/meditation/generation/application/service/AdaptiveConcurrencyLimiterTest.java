@@ -0,0 +1,261 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.domain.enums.GenerationStage;
+import com.hexagonal.meditation.generation.domain.enums.MediaType;
+import com.hexagonal.meditation.generation.domain.enums.RenderQualityTier;
+import com.hexagonal.meditation.generation.domain.ports.out.HostMetricsPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AdaptiveConcurrencyLimiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final Duration INTERVAL = Duration.ofMinutes(1);
+
+    /** Manual executor: jobs stay running until the test runs them. */
+    private final List<Runnable> workers = new ArrayList<>();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-01T10:00:00Z"));
+    private SimpleMeterRegistry meterRegistry;
+    private GenerationScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new GenerationScheduler(workers::add, 8, 8, 60, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should set the scheduler capacity to the initial limit and expose it as a gauge")
+    void shouldApplyInitialLimit() {
+        limiter(settings(1, 4, 2), HostMetricsPort.NONE);
+
+        assertThat(scheduler.capacity()).isEqualTo(2);
+        assertThat(meterRegistry.get("generation.concurrency.limit").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should grow by one while saturated and stages stay within tolerance")
+    void shouldIncreaseWhenSaturated() {
+        AdaptiveConcurrencyLimiter limiter = limiter(settings(1, 4, 1), HostMetricsPort.NONE);
+        saturate();
+        recordStages(limiter, 10, 10);
+
+        clock.advance(INTERVAL);
+        recordStages(limiter, 11, 1);
+
+        assertThat(limiter.limit()).isEqualTo(2);
+        assertThat(scheduler.capacity()).isEqualTo(2);
+        assertThat(workers).hasSize(2);
+        assertThat(meterRegistry.get("generation.concurrency.adjustments")
+                .tag("direction", "increase").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should take at most one decision per evaluation interval")
+    void shouldWaitForEvaluationInterval() {
+        AdaptiveConcurrencyLimiter limiter = limiter(settings(1, 4, 1), HostMetricsPort.NONE);
+        saturate();
+
+        recordStages(limiter, 10, 10);
+
+        assertThat(limiter.limit()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not grow when a stage slows down beyond tolerance")
+    void shouldNotIncreaseWhenStagesSlowDown() {
+        AdaptiveConcurrencyLimiter limiter = limiter(settings(1, 4, 1), HostMetricsPort.NONE);
+        recordStages(limiter, 10, 8);
+        clock.advance(INTERVAL);
+        // Not saturated: no decision, but the baseline is taken
+        recordStages(limiter, 10, 1);
+        saturate();
+        recordStages(limiter, 30, 8);
+
+        clock.advance(INTERVAL);
+        recordStages(limiter, 30, 1);
+
+        assertThat(limiter.limit()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not grow while CPU steal is above its ceiling")
+    void shouldNotIncreaseUnderCpuSteal() {
+        AdaptiveConcurrencyLimiter limiter = limiter(settings(1, 4, 1), () -> OptionalDouble.of(0.25));
+        saturate();
+        recordStages(limiter, 10, 10);
+
+        clock.advance(INTERVAL);
+        recordStages(limiter, 10, 1);
+
+        assertThat(limiter.limit()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not grow while jobs are not waiting for a slot")
+    void shouldNotIncreaseWithoutQueuedJobs() {
+        AdaptiveConcurrencyLimiter limiter = limiter(settings(1, 4, 1), HostMetricsPort.NONE);
+        recordStages(limiter, 10, 10);
+
+        clock.advance(INTERVAL);
+        recordStages(limiter, 10, 1);
+
+        assertThat(limiter.limit()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should cut the limit multiplicatively when a render kind degrades")
+    void shouldDecreaseOnRenderDegradation() {
+        AdaptiveConcurrencyLimiter limiter = limiter(settings(1, 4, 4), HostMetricsPort.NONE);
+        recordRenders(limiter, 30, 4);
+        clock.advance(INTERVAL);
+        recordRenders(limiter, 30, 1);
+        assertThat(limiter.limit()).isEqualTo(4);
+
+        recordRenders(limiter, 60, 4);
+        clock.advance(INTERVAL);
+        recordRenders(limiter, 60, 1);
+
+        assertThat(limiter.limit()).isEqualTo(2);
+        assertThat(scheduler.capacity()).isEqualTo(2);
+        assertThat(meterRegistry.get("generation.concurrency.adjustments")
+                .tag("direction", "decrease").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should not walk the limit down to min on noisy but stationary render costs")
+    void shouldKeepLimitOnStationaryNoise() {
+        AdaptiveConcurrencyLimiter limiter = limiter(settings(1, 4, 4), HostMetricsPort.NONE);
+        Random noise = new Random(42);
+        for (int interval = 0; interval < 100; interval++) {
+            for (int i = 0; i < 4; i++) {
+                // Same cost distribution throughout: around 0.1 s per output second, ±30%
+                double cost = 0.1 * Math.exp(0.3 * noise.nextGaussian());
+                limiter.recordRender(MediaType.VIDEO, RenderQualityTier.FULL, Duration.ofMillis(Math.round(cost * 300_000)), 300);
+            }
+            clock.advance(INTERVAL);
+        }
+
+        assertThat(limiter.limit()).isGreaterThan(1);
+        assertThat(scheduler.capacity()).isEqualTo(limiter.limit());
+    }
+
+    @Test
+    @DisplayName("Should compare renders per output second, so longer jobs do not look degraded")
+    void shouldNormalizeRenderTimes() {
+        AdaptiveConcurrencyLimiter limiter = limiter(settings(1, 4, 4), HostMetricsPort.NONE);
+        for (int i = 0; i < 5; i++) {
+            limiter.recordRender(MediaType.VIDEO, RenderQualityTier.FULL, Duration.ofSeconds(30), 300);
+        }
+        clock.advance(INTERVAL);
+        for (int i = 0; i < 5; i++) {
+            limiter.recordRender(MediaType.VIDEO, RenderQualityTier.FULL, Duration.ofSeconds(60), 600);
+        }
+        clock.advance(INTERVAL);
+        limiter.recordRender(MediaType.VIDEO, RenderQualityTier.FULL, Duration.ofSeconds(60), 600);
+
+        assertThat(limiter.limit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should never adjust a fixed limit")
+    void shouldKeepFixedLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(AdaptiveConcurrencyLimiter.Settings.fixed(3), HostMetricsPort.NONE);
+        limiter.recordRender(MediaType.AUDIO, RenderQualityTier.FULL, Duration.ofSeconds(1), 100);
+        clock.advance(INTERVAL);
+        limiter.recordRender(MediaType.AUDIO, RenderQualityTier.FULL, Duration.ofSeconds(100), 100);
+        clock.advance(INTERVAL);
+        limiter.recordRender(MediaType.AUDIO, RenderQualityTier.FULL, Duration.ofSeconds(100), 100);
+
+        assertThat(limiter.limit()).isEqualTo(3);
+        assertThat(scheduler.capacity()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should reject inconsistent settings")
+    void shouldRejectInvalidSettings() {
+        assertThatThrownBy(() -> settings(2, 1, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> settings(1, 4, 5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter.Settings(
+                1, 4, 1, INTERVAL, 4, 8, 1.5, 1.5, 0.5, 0.1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter.Settings(
+                1, 4, 1, INTERVAL, 8, 4, 1.5, 1.5, 1.0, 0.1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter.Settings(
+                1, 4, 1, INTERVAL, 8, 4, 0.9, 1.5, 0.5, 0.1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(AdaptiveConcurrencyLimiter.Settings settings, HostMetricsPort host) {
+        return new AdaptiveConcurrencyLimiter(scheduler, host, settings, clock, meterRegistry);
+    }
+
+    private static AdaptiveConcurrencyLimiter.Settings settings(int min, int max, int initial) {
+        return new AdaptiveConcurrencyLimiter.Settings(min, max, initial, INTERVAL, 8, 4, 1.5, 1.5, 0.5, 0.1);
+    }
+
+    /** More jobs than the limit: one running per slot and at least one queued */
+    private void saturate() {
+        for (int i = 0; i <= scheduler.capacity(); i++) {
+            scheduler.submit(UUID.randomUUID(), 30, () -> "job");
+        }
+    }
+
+    /** Runs of 300 s of output, the given seconds spent in each stage */
+    private static void recordStages(AdaptiveConcurrencyLimiter limiter, int stageSeconds, int runs) {
+        for (int i = 0; i < runs; i++) {
+            limiter.recordStages(Map.of(
+                    GenerationStage.VOICE_SYNTHESIS, Duration.ofSeconds(stageSeconds),
+                    GenerationStage.RENDERING, Duration.ofSeconds(stageSeconds * 3L)), 300);
+        }
+    }
+
+    /** Renders of 300 s of output taking the given seconds */
+    private static void recordRenders(AdaptiveConcurrencyLimiter limiter, int renderSeconds, int renders) {
+        for (int i = 0; i < renders; i++) {
+            limiter.recordRender(MediaType.VIDEO, RenderQualityTier.FULL, Duration.ofSeconds(renderSeconds), 300);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
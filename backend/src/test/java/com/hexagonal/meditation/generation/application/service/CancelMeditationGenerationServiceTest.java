@@ -0,0 +1,167 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.domain.enums.GenerationStatus;
+import com.hexagonal.meditation.generation.domain.model.GeneratedMeditationContent;
+import com.hexagonal.meditation.generation.domain.model.GenerationProgress;
+import com.hexagonal.meditation.generation.domain.model.MediaReference;
+import com.hexagonal.meditation.generation.domain.model.NarrationScript;
+import com.hexagonal.meditation.generation.domain.ports.in.CancelMeditationGenerationUseCase.CancellationResult;
+import com.hexagonal.meditation.generation.domain.ports.in.CancelMeditationGenerationUseCase.Outcome;
+import com.hexagonal.meditation.generation.domain.ports.out.ContentRepositoryPort;
+import com.hexagonal.meditation.generation.domain.ports.out.GenerationProgressPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CancelMeditationGenerationService Tests")
+class CancelMeditationGenerationServiceTest {
+
+    @Mock private ContentRepositoryPort contentRepositoryPort;
+    @Mock private GenerationProgressPort generationProgressPort;
+
+    @TempDir
+    Path tempDir;
+
+    private Clock clock;
+    private GenerationJobRegistry jobRegistry;
+    private CancelMeditationGenerationService service;
+    private UUID userId;
+    private UUID meditationId;
+    private GeneratedMeditationContent processing;
+
+    @BeforeEach
+    void setUp() {
+        clock = Clock.fixed(Instant.parse("2024-01-15T10:00:00Z"), ZoneId.of("UTC"));
+        jobRegistry = new GenerationJobRegistry();
+        service = new CancelMeditationGenerationService(contentRepositoryPort, jobRegistry, generationProgressPort, clock);
+        userId = UUID.randomUUID();
+        meditationId = UUID.randomUUID();
+        processing = GeneratedMeditationContent.createAudio(
+            meditationId, UUID.randomUUID(), userId, "key", new NarrationScript("Breathe in and relax."), clock);
+        lenient().when(contentRepositoryPort.cancelIfProcessing(eq(meditationId), any())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should signal running job, delete workspace and mark CANCELLED")
+    void shouldCancelRunningJob() throws IOException {
+        // Arrange
+        when(contentRepositoryPort.findById(meditationId)).thenReturn(Optional.of(processing));
+        GenerationJobRegistry.RunningJob job = jobRegistry.register(meditationId, null, null);
+        Path workspace = Files.createDirectory(tempDir.resolve("meditation-gen-" + meditationId));
+        Files.writeString(workspace.resolve("narration.mp3"), "partial");
+        job.attachWorkspace(workspace);
+        AtomicBoolean processKilled = new AtomicBoolean(false);
+        job.token().onCancel(() -> processKilled.set(true));
+
+        // Act
+        long start = System.nanoTime();
+        CancellationResult result = service.cancel(meditationId, userId);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        assertThat(result.outcome()).isEqualTo(Outcome.CANCELLED);
+        assertThat(result.status()).isEqualTo(GenerationStatus.CANCELLED);
+        assertThat(processKilled).isTrue();
+        assertThat(job.token().isCancelled()).isTrue();
+        assertThat(workspace).doesNotExist();
+        assertThat(elapsedMillis).isLessThan(1000);
+        verify(contentRepositoryPort).cancelIfProcessing(meditationId, clock.instant());
+        verify(generationProgressPort).publish(argThat(GenerationProgress::isTerminal));
+    }
+
+    @Test
+    @DisplayName("Should mark CANCELLED even when no job runs on this node")
+    void shouldCancelWithoutRunningJob() {
+        // Arrange
+        when(contentRepositoryPort.findById(meditationId)).thenReturn(Optional.of(processing));
+
+        // Act
+        CancellationResult result = service.cancel(meditationId, userId);
+
+        // Assert
+        assertThat(result.outcome()).isEqualTo(Outcome.CANCELLED);
+        verify(contentRepositoryPort).cancelIfProcessing(meditationId, clock.instant());
+    }
+
+    @Test
+    @DisplayName("Should keep a result the pipeline saved while the cancellation waited")
+    void shouldNotOverwriteResultSavedDuringWait() {
+        // Arrange
+        GeneratedMeditationContent completed = processing.markCompleted(
+            new MediaReference("https://s3.amazonaws.com/meditation/result.mp3"),
+            new MediaReference("https://s3.amazonaws.com/meditation/subs.srt"),
+            60,
+            clock
+        );
+        when(contentRepositoryPort.findById(meditationId))
+            .thenReturn(Optional.of(processing))
+            .thenReturn(Optional.of(completed));
+        when(contentRepositoryPort.cancelIfProcessing(eq(meditationId), any())).thenReturn(false);
+        GenerationJobRegistry.RunningJob job = jobRegistry.register(meditationId, null, null);
+
+        // Act
+        CancellationResult result = service.cancel(meditationId, userId);
+
+        // Assert
+        assertThat(job.token().isCancelled()).isTrue();
+        assertThat(result.outcome()).isEqualTo(Outcome.ALREADY_FINISHED);
+        assertThat(result.status()).isEqualTo(GenerationStatus.COMPLETED);
+        verify(contentRepositoryPort, never()).save(any());
+        verifyNoInteractions(generationProgressPort);
+    }
+
+    @Test
+    @DisplayName("Should report NOT_FOUND for meditation of another user")
+    void shouldNotCancelForeignMeditation() {
+        // Arrange
+        when(contentRepositoryPort.findById(meditationId)).thenReturn(Optional.of(processing));
+
+        // Act
+        CancellationResult result = service.cancel(meditationId, UUID.randomUUID());
+
+        // Assert
+        assertThat(result.outcome()).isEqualTo(Outcome.NOT_FOUND);
+        verify(contentRepositoryPort, never()).cancelIfProcessing(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should report ALREADY_FINISHED for completed generation")
+    void shouldNotCancelFinishedGeneration() {
+        // Arrange
+        GeneratedMeditationContent completed = processing.markCompleted(
+            new MediaReference("https://s3.amazonaws.com/meditation/result.mp3"),
+            new MediaReference("https://s3.amazonaws.com/meditation/subs.srt"),
+            60,
+            clock
+        );
+        when(contentRepositoryPort.findById(meditationId)).thenReturn(Optional.of(completed));
+
+        // Act
+        CancellationResult result = service.cancel(meditationId, userId);
+
+        // Assert
+        assertThat(result.outcome()).isEqualTo(Outcome.ALREADY_FINISHED);
+        assertThat(result.status()).isEqualTo(GenerationStatus.COMPLETED);
+        verify(contentRepositoryPort, never()).cancelIfProcessing(any(), any());
+        verifyNoInteractions(generationProgressPort);
+    }
+}
@@ -0,0 +1,256 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.application.validator.TextLengthEstimator;
+import com.hexagonal.meditation.generation.domain.enums.GenerationStage;
+import com.hexagonal.meditation.generation.domain.enums.GenerationStatus;
+import com.hexagonal.meditation.generation.domain.enums.MediaType;
+import com.hexagonal.meditation.generation.domain.exception.GenerationUnavailableException;
+import com.hexagonal.meditation.generation.domain.exception.InvalidContentException;
+import com.hexagonal.meditation.generation.domain.model.GenerationProgress;
+import com.hexagonal.meditation.generation.domain.model.HandedOffGeneration;
+import com.hexagonal.meditation.generation.domain.model.PreparedGenerationAssets;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationBatchUseCase.BatchState;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationBatchUseCase.BatchStatus;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationBatchUseCase.ItemState;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase.GenerationRequest;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase.GenerationResponse;
+import com.hexagonal.meditation.generation.domain.ports.out.ContentRepositoryPort;
+import com.hexagonal.meditation.generation.domain.ports.out.GenerationHandoffPort;
+import com.hexagonal.meditation.generation.domain.ports.out.GenerationProgressPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GenerateMeditationBatchService Tests")
+class GenerateMeditationBatchServiceTest {
+
+    private static final String OCEAN = "https://cdn.example.com/music/ocean.mp3";
+    private static final String FOREST = "https://cdn.example.com/music/forest.mp3";
+    private static final String SUNSET = "https://cdn.example.com/images/sunset.jpg";
+
+    @Mock private GenerateMeditationContentService contentService;
+    @Mock private ContentRepositoryPort contentRepositoryPort;
+    @Mock private GenerationProgressPort generationProgressPort;
+    @Mock private GenerationHandoffPort generationHandoffPort;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-01-15T10:00:00Z"), ZoneId.of("UTC"));
+    private final UUID userId = UUID.randomUUID();
+    private GenerationScheduler scheduler;
+    private GenerateMeditationBatchService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // Direct executor: the whole batch runs inside submit()
+        service = newService(Runnable::run);
+
+        lenient().when(contentService.prepareSharedAssets(anyString(), any(), anyDouble(), any()))
+                .thenAnswer(inv -> new PreparedGenerationAssets(Path.of("/tmp/music.mp3"), 60.0,
+                        inv.getArgument(1) != null ? Path.of("/tmp/background.png") : null));
+        lenient().when(contentService.generate(any(GenerationRequest.class), any(), any()))
+                .thenAnswer(inv -> {
+                    GenerationRequest request = inv.getArgument(0);
+                    UUID meditationId = UUID.randomUUID();
+                    inv.<Consumer<UUID>>getArgument(2).accept(meditationId);
+                    return completed(meditationId, request);
+                });
+    }
+
+    @Test
+    @DisplayName("Should prepare each shared music/image pair once and generate every item")
+    void shouldPrepareSharedAssetsOncePerGroup() throws IOException {
+        List<GenerationRequest> items = List.of(
+                request("First text", OCEAN, SUNSET),
+                request("Second text", FOREST, null),
+                request("Third text", OCEAN, SUNSET));
+
+        BatchStatus status = service.submit(userId, items);
+
+        verify(contentService, times(1)).prepareSharedAssets(eq(OCEAN), eq(SUNSET), anyDouble(), any());
+        verify(contentService, times(1)).prepareSharedAssets(eq(FOREST), isNull(), anyDouble(), any());
+        verify(contentService, times(3)).generate(any(GenerationRequest.class), any(), any());
+
+        assertThat(status.state()).isEqualTo(BatchState.COMPLETED);
+        assertThat(status.percent()).isEqualTo(100);
+        assertThat(status.completedAt()).isEqualTo(clock.instant());
+        assertThat(status.items()).extracting(item -> item.state()).containsOnly(ItemState.COMPLETED);
+        assertThat(status.items()).extracting(item -> item.index()).containsExactly(0, 1, 2);
+        assertThat(status.items().get(0).mediaType()).isEqualTo(MediaType.VIDEO);
+        assertThat(status.items().get(1).mediaType()).isEqualTo(MediaType.AUDIO);
+    }
+
+    @Test
+    @DisplayName("Should run identical items as a single generation")
+    void shouldShareGenerationForIdenticalItems() {
+        List<GenerationRequest> items = List.of(
+                request("Same text", OCEAN, null),
+                request("Same text", OCEAN, null));
+
+        BatchStatus status = service.submit(userId, items);
+
+        verify(contentService, times(1)).generate(any(GenerationRequest.class), any(), any());
+        assertThat(status.items()).extracting(item -> item.state()).containsOnly(ItemState.COMPLETED);
+        assertThat(status.items().get(0).meditationId()).isEqualTo(status.items().get(1).meditationId());
+    }
+
+    @Test
+    @DisplayName("Should fail only the items of a group whose shared assets cannot be prepared")
+    void shouldFailGroupWhenPreparationFails() throws IOException {
+        when(contentService.prepareSharedAssets(eq(FOREST), any(), anyDouble(), any()))
+                .thenThrow(new InvalidContentException("musicReference", "Music file not found"));
+        List<GenerationRequest> items = List.of(
+                request("First text", OCEAN, null),
+                request("Second text", FOREST, null));
+
+        BatchStatus status = service.submit(userId, items);
+
+        assertThat(status.state()).isEqualTo(BatchState.COMPLETED_WITH_ERRORS);
+        assertThat(status.items().get(0).state()).isEqualTo(ItemState.COMPLETED);
+        assertThat(status.items().get(1).state()).isEqualTo(ItemState.FAILED);
+        assertThat(status.items().get(1).errorMessage()).contains("Music file not found");
+        assertThat(status.countIn(ItemState.FAILED)).isEqualTo(1);
+        verify(contentService, times(1)).generate(any(GenerationRequest.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should keep items QUEUED until a worker picks them up")
+    void shouldKeepItemsQueuedUntilScheduled() {
+        service = newService(command -> { });
+
+        BatchStatus status = service.submit(userId, List.of(request("Queued text", OCEAN, null)));
+
+        assertThat(status.state()).isEqualTo(BatchState.PROCESSING);
+        assertThat(status.percent()).isZero();
+        assertThat(status.items().get(0).state()).isEqualTo(ItemState.QUEUED);
+        assertThat(status.items().get(0).meditationId()).isNull();
+        verifyNoInteractions(contentService);
+    }
+
+    @Test
+    @DisplayName("Should report running items with their pipeline progress")
+    void shouldReportProgressOfRunningItems() {
+        List<Runnable> tasks = new ArrayList<>();
+        service = newService(tasks::add);
+        UUID meditationId = UUID.randomUUID();
+        AtomicReference<UUID> batchId = new AtomicReference<>();
+        AtomicReference<BatchStatus> duringGeneration = new AtomicReference<>();
+        when(generationProgressPort.latest(meditationId)).thenReturn(Optional.of(
+                GenerationProgress.stageStarted(meditationId, GenerationStage.RENDERING, clock)));
+        when(contentService.generate(any(GenerationRequest.class), any(), any())).thenAnswer(inv -> {
+            inv.<Consumer<UUID>>getArgument(2).accept(meditationId);
+            duringGeneration.set(service.getStatus(batchId.get(), userId).orElseThrow());
+            return completed(meditationId, inv.getArgument(0));
+        });
+
+        batchId.set(service.submit(userId, List.of(request("Running text", OCEAN, null))).batchId());
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+
+        BatchStatus running = duringGeneration.get();
+        assertThat(running.state()).isEqualTo(BatchState.PROCESSING);
+        assertThat(running.items().get(0).state()).isEqualTo(ItemState.PROCESSING);
+        assertThat(running.items().get(0).meditationId()).isEqualTo(meditationId);
+        assertThat(running.percent()).isEqualTo(GenerationStage.RENDERING.getStartPercent());
+        assertThat(service.getStatus(batchId.get(), userId).orElseThrow().state()).isEqualTo(BatchState.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Should reject empty, oversized and foreign batches")
+    void shouldRejectInvalidBatches() {
+        assertThatThrownBy(() -> service.submit(userId, List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.submit(userId, List.of(
+                request("a", OCEAN, null), request("b", OCEAN, null),
+                request("c", OCEAN, null), request("d", OCEAN, null))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maximum size of 3");
+        GenerationRequest foreign = new GenerationRequest(UUID.randomUUID(), UUID.randomUUID(), "text", OCEAN, null);
+        assertThatThrownBy(() -> service.submit(userId, List.of(foreign)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(contentService);
+    }
+
+    @Test
+    @DisplayName("Should hand off generations not started when the node drains, and reject new batches")
+    void shouldHandOffQueuedGenerationsWhenDraining() {
+        List<Runnable> tasks = new ArrayList<>();
+        service = newService(tasks::add);
+        GenerationRequest first = request("First text", OCEAN, null);
+        GenerationRequest second = request("Second text", OCEAN, null);
+        BatchStatus accepted = service.submit(userId, List.of(first, second));
+
+        // Preparation is running; both generations would be queued behind it
+        scheduler.drain();
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+
+        ArgumentCaptor<HandedOffGeneration> handOffs = ArgumentCaptor.forClass(HandedOffGeneration.class);
+        verify(generationHandoffPort, times(2)).handOff(handOffs.capture());
+        assertThat(handOffs.getAllValues()).extracting(HandedOffGeneration::compositionId)
+                .containsExactlyInAnyOrder(first.compositionId(), second.compositionId());
+        assertThat(handOffs.getAllValues()).noneMatch(HandedOffGeneration::started);
+        verify(contentService, never()).generate(any(GenerationRequest.class), any(), any());
+        assertThat(service.getStatus(accepted.batchId(), userId).orElseThrow().items())
+                .extracting(item -> item.state()).containsOnly(ItemState.QUEUED);
+        assertThatThrownBy(() -> service.submit(userId, List.of(request("Late text", OCEAN, null))))
+                .isInstanceOf(GenerationUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("Should hide batches from other users")
+    void shouldHideBatchFromOtherUsers() {
+        BatchStatus status = service.submit(userId, List.of(request("Text", OCEAN, null)));
+
+        assertThat(service.getStatus(status.batchId(), userId)).isPresent();
+        assertThat(service.getStatus(status.batchId(), UUID.randomUUID())).isEmpty();
+        assertThat(service.getStatus(UUID.randomUUID(), userId)).isEmpty();
+    }
+
+    private GenerateMeditationBatchService newService(Executor workers) {
+        scheduler = new GenerationScheduler(workers, 1, 1, 60, new SimpleMeterRegistry());
+        return new GenerateMeditationBatchService(contentService, contentRepositoryPort, generationProgressPort,
+                scheduler, generationHandoffPort, new TextLengthEstimator(), clock, 3);
+    }
+
+    private GenerationRequest request(String text, String music, String image) {
+        return new GenerationRequest(UUID.randomUUID(), userId, text, music, image);
+    }
+
+    private GenerationResponse completed(UUID meditationId, GenerationRequest request) {
+        return new GenerationResponse(
+                meditationId,
+                request.compositionId(),
+                request.userId(),
+                GenerationStatus.COMPLETED,
+                request.imageReference() != null ? MediaType.VIDEO : MediaType.AUDIO,
+                "https://s3.amazonaws.com/meditation/" + meditationId + ".mp4",
+                "https://s3.amazonaws.com/meditation/" + meditationId + ".srt",
+                60,
+                clock.instant(),
+                clock.instant());
+    }
+}
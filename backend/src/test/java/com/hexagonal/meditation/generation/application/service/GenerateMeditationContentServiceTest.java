@@ -1,29 +1,41 @@
 package com.hexagonal.meditation.generation.application.service;
 
 import com.hexagonal.meditation.generation.application.validator.TextLengthEstimator;
+import com.hexagonal.meditation.generation.domain.enums.GenerationStage;
 import com.hexagonal.meditation.generation.domain.enums.GenerationStatus;
 import com.hexagonal.meditation.generation.domain.enums.MediaType;
+import com.hexagonal.meditation.generation.domain.enums.RenderQualityTier;
+import com.hexagonal.meditation.generation.domain.exception.GenerationCancelledException;
 import com.hexagonal.meditation.generation.domain.exception.GenerationTimeoutException;
 import com.hexagonal.meditation.generation.domain.exception.InvalidContentException;
 import com.hexagonal.meditation.generation.domain.model.*;
 import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase;
 import com.hexagonal.meditation.generation.domain.ports.out.*;
+import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort.AudioRenderRequest;
+import com.hexagonal.meditation.generation.domain.ports.out.VideoRenderingPort.VideoRenderRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -42,11 +54,17 @@ class GenerateMeditationContentServiceTest {
     @Mock private MediaStoragePort mediaStoragePort;
     @Mock private ContentRepositoryPort contentRepositoryPort;
     @Mock private com.hexagonal.meditation.generation.infrastructure.out.service.audio.AudioMetadataService audioMetadataService;
+    @Mock private GenerationProgressPort generationProgressPort;
+    @Mock private MusicBedPort musicBedPort;
+    @Mock private StreamPackagingPort streamPackagingPort;
+    @Mock private PlaybackAssetsPort playbackAssetsPort;
     
     @TempDir
     Path tempDir;
 
     private Clock clock;
+    private GenerationJobRegistry jobRegistry;
+    private final AtomicInteger queueDepth = new AtomicInteger();
     private GenerateMeditationContentService service;
     private Path dummyMusic;
     private Path dummyImage;
@@ -54,18 +72,8 @@ class GenerateMeditationContentServiceTest {
     @BeforeEach
     void setUp() throws IOException {
         clock = Clock.fixed(Instant.parse("2024-01-15T10:00:00Z"), ZoneId.of("UTC"));
-        service = new GenerateMeditationContentService(
-            textLengthEstimator,
-            idempotencyKeyGenerator,
-            voiceSynthesisPort,
-            subtitleSyncPort,
-            audioRenderingPort,
-            videoRenderingPort,
-            mediaStoragePort,
-            contentRepositoryPort,
-            audioMetadataService,
-            clock
-        );
+        jobRegistry = new GenerationJobRegistry();
+        service = createService(new PreviewRenderer(voiceSynthesisPort, audioRenderingPort, mediaStoragePort, 0));
         
         // Create dummy files for pipeline
         dummyMusic = tempDir.resolve("music.mp3");
@@ -92,9 +100,92 @@ class GenerateMeditationContentServiceTest {
         lenient().when(subtitleSyncPort.exportToSrt(any(), any())).thenReturn(dummySrt);
         lenient().when(audioRenderingPort.renderAudio(any())).thenReturn(dummyOutput);
         lenient().when(videoRenderingPort.renderVideo(any())).thenReturn(dummyOutput);
+        lenient().when(videoRenderingPort.prepareBackgroundImage(any(), any(), any())).thenAnswer(inv -> inv.getArgument(0));
         lenient().when(mediaStoragePort.uploadMedia(any())).thenReturn("https://s3.amazonaws.com/meditation/result.mp3");
     }
     
+    private GenerateMeditationContentService createService(PreviewRenderer previewRenderer) {
+        return createService(previewRenderer, ArtifactStorePort.NONE);
+    }
+    
+    private GenerateMeditationContentService createService(PreviewRenderer previewRenderer, ArtifactStorePort artifactStore) {
+        return createService(previewRenderer, artifactStore,
+            new RenderDeduplicator(contentRepositoryPort, mediaStoragePort, new SimpleMeterRegistry(), false));
+    }
+    
+    private GenerateMeditationContentService createService(
+            PreviewRenderer previewRenderer,
+            ArtifactStorePort artifactStore,
+            RenderDeduplicator renderDeduplicator) {
+        return createService(previewRenderer, artifactStore, renderDeduplicator, MusicBedPort.NONE);
+    }
+    
+    private GenerateMeditationContentService createService(
+            PreviewRenderer previewRenderer,
+            ArtifactStorePort artifactStore,
+            RenderDeduplicator renderDeduplicator,
+            MusicBedPort musicBeds) {
+        return createService(previewRenderer, artifactStore, renderDeduplicator, musicBeds, StreamPackagingPort.NONE);
+    }
+    
+    private GenerateMeditationContentService createService(
+            PreviewRenderer previewRenderer,
+            ArtifactStorePort artifactStore,
+            RenderDeduplicator renderDeduplicator,
+            MusicBedPort musicBeds,
+            StreamPackagingPort streamPackaging) {
+        return createService(previewRenderer, artifactStore, renderDeduplicator, musicBeds, streamPackaging,
+            AudioRenderingPort.AudioProfile.MP3);
+    }
+    
+    private GenerateMeditationContentService createService(
+            PreviewRenderer previewRenderer,
+            ArtifactStorePort artifactStore,
+            RenderDeduplicator renderDeduplicator,
+            MusicBedPort musicBeds,
+            StreamPackagingPort streamPackaging,
+            AudioRenderingPort.AudioProfile audioProfile) {
+        return createService(previewRenderer, artifactStore, renderDeduplicator, musicBeds, streamPackaging,
+            PlaybackAssetsPort.NONE, audioProfile);
+    }
+    
+    private GenerateMeditationContentService createService(
+            PreviewRenderer previewRenderer,
+            ArtifactStorePort artifactStore,
+            RenderDeduplicator renderDeduplicator,
+            MusicBedPort musicBeds,
+            StreamPackagingPort streamPackaging,
+            PlaybackAssetsPort playbackAssets,
+            AudioRenderingPort.AudioProfile audioProfile) {
+        return new GenerateMeditationContentService(
+            textLengthEstimator,
+            idempotencyKeyGenerator,
+            voiceSynthesisPort,
+            subtitleSyncPort,
+            audioRenderingPort,
+            videoRenderingPort,
+            mediaStoragePort,
+            contentRepositoryPort,
+            audioMetadataService,
+            generationProgressPort,
+            jobRegistry,
+            new RenderQualityPolicy(queueDepth::get,
+                new RenderQualityPolicy.Thresholds(4, 8, 16, 0.1, 0.15, 0.2), 50, java.time.Duration.ofMinutes(15),
+                clock, new SimpleMeterRegistry()),
+            new AdaptiveConcurrencyLimiter(new GenerationScheduler(Runnable::run, 1, 1, 60, new SimpleMeterRegistry()),
+                HostMetricsPort.NONE, AdaptiveConcurrencyLimiter.Settings.fixed(1), clock, new SimpleMeterRegistry()),
+            new SegmentedVideoRenderer(videoRenderingPort, subtitleSyncPort, Runnable::run, 1, 30),
+            previewRenderer,
+            artifactStore,
+            renderDeduplicator,
+            musicBeds,
+            streamPackaging,
+            playbackAssets,
+            audioProfile,
+            clock
+        );
+    }
+    
     @Test
     @DisplayName("Should generate audio meditation successfully")
     void shouldGenerateAudioMeditation() {
@@ -129,6 +220,228 @@ class GenerateMeditationContentServiceTest {
         verify(contentRepositoryPort).findByIdempotencyKey(idempotencyKey);
     }
     
+    @Test
+    @DisplayName("Should publish stage progress and completion for each generation")
+    void shouldPublishGenerationProgress() {
+        // Arrange
+        UUID compositionId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = dummyMusic.toString();
+        
+        GenerateMeditationContentUseCase.GenerationRequest request = 
+            new GenerateMeditationContentUseCase.GenerationRequest(
+                compositionId, userId, text, music, null
+            );
+        
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(20);
+        when(idempotencyKeyGenerator.generate(userId, text, music, null)).thenReturn("progress-key");
+        when(contentRepositoryPort.findByIdempotencyKey("progress-key")).thenReturn(Optional.empty());
+        
+        // Act
+        service.generate(request);
+        
+        // Assert
+        org.mockito.ArgumentCaptor<GenerationProgress> captor = org.mockito.ArgumentCaptor.forClass(GenerationProgress.class);
+        verify(generationProgressPort, atLeast(7)).publish(captor.capture());
+        assertThat(captor.getAllValues())
+            .extracting(GenerationProgress::stage)
+            .containsSubsequence(
+                com.hexagonal.meditation.generation.domain.enums.GenerationStage.MUSIC_RESOLUTION,
+                com.hexagonal.meditation.generation.domain.enums.GenerationStage.RENDERING,
+                com.hexagonal.meditation.generation.domain.enums.GenerationStage.SUBTITLE_UPLOAD
+            );
+        GenerationProgress last = captor.getAllValues().get(captor.getAllValues().size() - 1);
+        assertThat(last.status()).isEqualTo(GenerationStatus.COMPLETED);
+        assertThat(last.percent()).isEqualTo(100);
+    }
+    
+    @Test
+    @DisplayName("Should stop pipeline without marking FAILED when cancelled during rendering")
+    void shouldStopPipelineWhenCancelled() {
+        // Arrange
+        UUID compositionId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = dummyMusic.toString();
+        
+        GenerateMeditationContentUseCase.GenerationRequest request = 
+            new GenerateMeditationContentUseCase.GenerationRequest(
+                compositionId, userId, text, music, null
+            );
+        
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(20);
+        when(idempotencyKeyGenerator.generate(userId, text, music, null)).thenReturn("cancel-key");
+        when(contentRepositoryPort.findByIdempotencyKey("cancel-key")).thenReturn(Optional.empty());
+        when(audioRenderingPort.renderAudio(any())).thenAnswer(inv -> {
+            // Simulate DELETE arriving while FFmpeg runs
+            CancellationToken.current().cancel();
+            throw new RuntimeException("FFmpeg failed with exit code 255");
+        });
+        
+        // Act & Assert
+        assertThatThrownBy(() -> service.generate(request))
+            .isInstanceOf(GenerationCancelledException.class);
+        
+        verify(contentRepositoryPort, never()).save(argThat(content -> content.status() == GenerationStatus.FAILED));
+        verify(mediaStoragePort, never()).uploadMedia(any());
+        assertThat(jobRegistry.runningCount()).isZero();
+    }
+    
+    @Test
+    @DisplayName("Should answer PROCESSING without marking FAILED when the job is handed off during rendering")
+    void shouldLeaveMeditationProcessingWhenHandedOff() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = dummyMusic.toString();
+        
+        GenerateMeditationContentUseCase.GenerationRequest request = 
+            new GenerateMeditationContentUseCase.GenerationRequest(
+                UUID.randomUUID(), userId, text, music, null
+            );
+        
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(20);
+        when(idempotencyKeyGenerator.generate(userId, text, music, null)).thenReturn("handoff-key");
+        when(contentRepositoryPort.findByIdempotencyKey("handoff-key")).thenReturn(Optional.empty());
+        List<HandedOffGeneration> handOffs = new java.util.ArrayList<>();
+        when(audioRenderingPort.renderAudio(any())).thenAnswer(inv -> {
+            // Simulate the node draining while FFmpeg runs
+            handOffs.addAll(jobRegistry.handOffAll(0, clock.instant()));
+            throw new RuntimeException("FFmpeg failed with exit code 255");
+        });
+        
+        // Act
+        GenerateMeditationContentUseCase.GenerationResponse response = service.generate(request);
+        
+        // Assert
+        assertThat(response.status()).isEqualTo(GenerationStatus.PROCESSING);
+        assertThat(handOffs).singleElement().satisfies(handOff -> {
+            assertThat(handOff.meditationId()).isEqualTo(response.id());
+            assertThat(handOff.checkpoint()).isEqualTo(GenerationStage.RENDERING);
+            assertThat(handOff.narrationText()).isEqualTo(text);
+        });
+        verify(contentRepositoryPort, never()).save(argThat(content -> content.status() == GenerationStatus.FAILED));
+        verify(generationProgressPort, never()).publish(argThat(progress -> progress.status() == GenerationStatus.FAILED));
+        assertThat(jobRegistry.runningCount()).isZero();
+    }
+    
+    @Test
+    @DisplayName("Should resume a handed-off meditation without publishing the stages before its checkpoint")
+    void shouldResumeHandedOffGeneration() {
+        // Arrange
+        UUID meditationId = UUID.randomUUID();
+        UUID compositionId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        GeneratedMeditationContent processing = GeneratedMeditationContent.createAudio(
+            meditationId, compositionId, userId, "resume-key", new NarrationScript(text), clock);
+        when(contentRepositoryPort.findById(meditationId)).thenReturn(Optional.of(processing));
+        
+        // Act
+        service.resume(new HandedOffGeneration(meditationId, meditationId, compositionId, userId,
+            text, dummyMusic.toString(), null, GenerationStage.RENDERING, clock.instant()));
+        
+        // Assert
+        ArgumentCaptor<GenerationProgress> captor = ArgumentCaptor.forClass(GenerationProgress.class);
+        verify(generationProgressPort, atLeastOnce()).publish(captor.capture());
+        assertThat(captor.getAllValues())
+            .extracting(GenerationProgress::stage)
+            .doesNotContain(GenerationStage.MUSIC_RESOLUTION, GenerationStage.VOICE_SYNTHESIS, GenerationStage.SUBTITLES)
+            .contains(GenerationStage.RENDERING, GenerationStage.SUBTITLE_UPLOAD);
+        verify(contentRepositoryPort).save(argThat(content ->
+            content.meditationId().equals(meditationId) && content.status() == GenerationStatus.COMPLETED));
+        verify(contentRepositoryPort, never()).findByIdempotencyKey(any());
+    }
+    
+    @Test
+    @DisplayName("Should not resume a handed-off meditation that is no longer PROCESSING")
+    void shouldSkipResumeOfFinishedMeditation() {
+        UUID meditationId = UUID.randomUUID();
+        when(contentRepositoryPort.findById(meditationId)).thenReturn(Optional.empty());
+        
+        service.resume(new HandedOffGeneration(meditationId, meditationId, UUID.randomUUID(), UUID.randomUUID(),
+            "Breathe deeply and relax.", dummyMusic.toString(), null, GenerationStage.SUBTITLES, clock.instant()));
+        
+        verifyNoInteractions(voiceSynthesisPort, audioRenderingPort, generationProgressPort);
+        verify(contentRepositoryPort, never()).save(any());
+    }
+    
+    @Test
+    @DisplayName("Should accept a request by saving its PROCESSING meditation without running the pipeline")
+    void shouldAcceptWithoutRunningPipeline() {
+        // Arrange
+        UUID compositionId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = dummyMusic.toString();
+        GenerateMeditationContentUseCase.GenerationRequest request =
+            new GenerateMeditationContentUseCase.GenerationRequest(compositionId, userId, text, music, null);
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(20);
+        when(idempotencyKeyGenerator.generate(userId, text, music, null)).thenReturn("accept-key");
+        when(contentRepositoryPort.findByIdempotencyKey("accept-key")).thenReturn(Optional.empty());
+        
+        // Act
+        GenerateMeditationContentService.AcceptedGeneration accepted = service.accept(request);
+        
+        // Assert
+        assertThat(accepted.created()).isTrue();
+        assertThat(accepted.response().id()).isNotNull();
+        assertThat(accepted.response().status()).isEqualTo(GenerationStatus.PROCESSING);
+        assertThat(accepted.response().mediaUrl()).isNull();
+        verify(contentRepositoryPort).save(argThat(content ->
+            content.meditationId().equals(accepted.response().id()) && content.status() == GenerationStatus.PROCESSING
+                && content.backgroundMusic() != null && content.backgroundMusic().url().equals(music)));
+        verifyNoInteractions(voiceSynthesisPort, audioRenderingPort, generationProgressPort);
+    }
+    
+    @Test
+    @DisplayName("Should run the pipeline of an accepted meditation")
+    void shouldRunAcceptedGeneration() {
+        // Arrange
+        UUID meditationId = UUID.randomUUID();
+        UUID compositionId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        GeneratedMeditationContent processing = GeneratedMeditationContent.createAudio(
+            meditationId, compositionId, userId, "accepted-key", new NarrationScript(text), clock);
+        when(contentRepositoryPort.findById(meditationId)).thenReturn(Optional.of(processing));
+        
+        // Act
+        Optional<GenerateMeditationContentUseCase.GenerationResponse> response = service.runAccepted(meditationId,
+            new GenerateMeditationContentUseCase.GenerationRequest(compositionId, userId, text, dummyMusic.toString(), null));
+        
+        // Assert
+        assertThat(response).get()
+            .extracting(GenerateMeditationContentUseCase.GenerationResponse::status)
+            .isEqualTo(GenerationStatus.COMPLETED);
+        assertThat(response.get().id()).isEqualTo(meditationId);
+        verify(contentRepositoryPort, never()).findByIdempotencyKey(any());
+    }
+    
+    @Test
+    @DisplayName("Should not run an accepted meditation cancelled while it was queued")
+    void shouldSkipAcceptedGenerationCancelledWhileQueued() {
+        // Arrange
+        UUID meditationId = UUID.randomUUID();
+        UUID compositionId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        GeneratedMeditationContent cancelled = GeneratedMeditationContent.createAudio(
+            meditationId, compositionId, userId, "cancelled-key", new NarrationScript(text), clock)
+            .markCancelled(clock);
+        when(contentRepositoryPort.findById(meditationId)).thenReturn(Optional.of(cancelled));
+        
+        // Act
+        Optional<GenerateMeditationContentUseCase.GenerationResponse> response = service.runAccepted(meditationId,
+            new GenerateMeditationContentUseCase.GenerationRequest(compositionId, userId, text, dummyMusic.toString(), null));
+        
+        // Assert
+        assertThat(response).isEmpty();
+        verifyNoInteractions(voiceSynthesisPort, audioRenderingPort, generationProgressPort);
+        verify(contentRepositoryPort, never()).save(any());
+    }
+    
     @Test
     @DisplayName("Should generate video meditation successfully")
     void shouldGenerateVideoMeditation() {
@@ -164,6 +477,91 @@ class GenerateMeditationContentServiceTest {
         verify(contentRepositoryPort).findByIdempotencyKey(idempotencyKey);
     }
     
+    @Test
+    @DisplayName("Should prepare shared assets once: music probed and image scaled to render size")
+    void shouldPrepareSharedAssets() throws IOException {
+        // Arrange
+        Path workspace = Files.createDirectory(tempDir.resolve("batch-workspace"));
+        Path scaledImage = workspace.resolve("background-1280x720.png");
+        when(audioMetadataService.getDurationSeconds(dummyMusic)).thenReturn(120.0);
+        when(videoRenderingPort.prepareBackgroundImage(eq(dummyImage), any(), eq(scaledImage))).thenReturn(scaledImage);
+        
+        // Act
+        PreparedGenerationAssets assets = service.prepareSharedAssets(dummyMusic.toString(), dummyImage.toString(), 20, workspace);
+        
+        // Assert
+        assertThat(assets.musicPath()).isEqualTo(dummyMusic);
+        assertThat(assets.musicDurationSeconds()).isEqualTo(120.0);
+        assertThat(assets.imagePath()).isEqualTo(scaledImage);
+    }
+    
+    @Test
+    @DisplayName("Should mix the prepared music bed covering the narration instead of the track")
+    void shouldUsePreparedMusicBed() throws IOException {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = dummyMusic.toString();
+        Path bed = Files.writeString(tempDir.resolve("bed-300s.wav"), "normalized bed");
+        GenerateMeditationContentService bedService = createService(
+            new PreviewRenderer(voiceSynthesisPort, audioRenderingPort, mediaStoragePort, 0), ArtifactStorePort.NONE,
+            new RenderDeduplicator(contentRepositoryPort, mediaStoragePort, new SimpleMeterRegistry(), false),
+            musicBedPort);
+        
+        GenerateMeditationContentUseCase.GenerationRequest request = 
+            new GenerateMeditationContentUseCase.GenerationRequest(UUID.randomUUID(), userId, text, music, null);
+        
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(20);
+        when(textLengthEstimator.estimateDuration(text)).thenReturn(20);
+        when(idempotencyKeyGenerator.generate(userId, text, music, null)).thenReturn("bed-key");
+        when(contentRepositoryPort.findByIdempotencyKey("bed-key")).thenReturn(Optional.empty());
+        when(musicBedPort.findBed(dummyMusic, 20.0))
+            .thenReturn(Optional.of(new MusicBedPort.MusicBed("abc-300s", bed, 300.0)));
+        
+        // Act
+        GenerateMeditationContentUseCase.GenerationResponse response = bedService.generate(request);
+        
+        // Assert: bed mixed at its own duration, track never probed
+        assertThat(response.status()).isEqualTo(GenerationStatus.COMPLETED);
+        verify(audioRenderingPort).renderAudio(argThat(render ->
+            render.musicAudioPath().equals(bed) && render.expectedDurationSeconds() == 300.0));
+        verify(voiceSynthesisPort).synthesizeVoice(any(), any(), eq(300.0));
+        verify(audioMetadataService, never()).getDurationSeconds(dummyMusic);
+    }
+    
+    @Test
+    @DisplayName("Should reuse prepared assets instead of resolving music and image per generation")
+    void shouldReusePreparedAssets() throws IOException {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = "https://cdn.example.com/music/calm.mp3";
+        String image = "https://cdn.example.com/images/forest.jpg";
+        Path scaledImage = Files.writeString(tempDir.resolve("background.png"), "scaled image");
+        PreparedGenerationAssets assets = new PreparedGenerationAssets(dummyMusic, 90.0, scaledImage);
+        
+        GenerateMeditationContentUseCase.GenerationRequest request = 
+            new GenerateMeditationContentUseCase.GenerationRequest(UUID.randomUUID(), userId, text, music, image);
+        
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(25);
+        when(idempotencyKeyGenerator.generate(userId, text, music, image)).thenReturn("shared-key");
+        when(contentRepositoryPort.findByIdempotencyKey("shared-key")).thenReturn(Optional.empty());
+        java.util.List<UUID> started = new java.util.ArrayList<>();
+        
+        // Act
+        GenerateMeditationContentUseCase.GenerationResponse response = service.generate(request, assets, started::add);
+        
+        // Assert: no download attempted, render uses the shared files
+        assertThat(response.status()).isEqualTo(GenerationStatus.COMPLETED);
+        assertThat(started).containsExactly(response.id());
+        verify(videoRenderingPort).renderVideo(argThat(render -> 
+            render.imagePath().equals(scaledImage)
+                && render.musicAudioPath().equals(dummyMusic)
+                && render.expectedDurationSeconds() == 90.0));
+        verify(audioMetadataService, never()).getDurationSeconds(dummyMusic);
+        verify(voiceSynthesisPort).synthesizeVoice(any(), any(), eq(90.0));
+    }
+    
     @Test
     @DisplayName("Should return existing result when idempotency key matches")
     void shouldReturnExistingResultForIdempotentRequest() {
@@ -375,4 +773,544 @@ class GenerateMeditationContentServiceTest {
             output.backgroundImage() == null
         ));
     }
+    
+    @Test
+    @DisplayName("Should render at full quality and record the tier when idle")
+    void shouldRecordFullQualityWhenIdle() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = dummyMusic.toString();
+        String image = dummyImage.toString();
+        GenerateMeditationContentUseCase.GenerationRequest request = 
+            new GenerateMeditationContentUseCase.GenerationRequest(UUID.randomUUID(), userId, text, music, image);
+        
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(25);
+        when(idempotencyKeyGenerator.generate(userId, text, music, image)).thenReturn("full-key");
+        when(contentRepositoryPort.findByIdempotencyKey("full-key")).thenReturn(Optional.empty());
+        
+        // Act
+        service.generate(request);
+        
+        // Assert
+        verify(videoRenderingPort).renderVideo(argThat((VideoRenderRequest video) ->
+            video.config().width() == 1280 && video.config().burnSubtitles()));
+        verify(contentRepositoryPort).save(argThat(content ->
+            content.status() == GenerationStatus.COMPLETED && content.renderQuality() == RenderQualityTier.FULL));
+    }
+    
+    @Test
+    @DisplayName("Should fall back to audio only for a video request when the queue is very deep")
+    void shouldFallBackToAudioOnlyUnderLoad() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = dummyMusic.toString();
+        String image = dummyImage.toString();
+        GenerateMeditationContentUseCase.GenerationRequest request = 
+            new GenerateMeditationContentUseCase.GenerationRequest(UUID.randomUUID(), userId, text, music, image);
+        
+        queueDepth.set(20);
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(25);
+        when(idempotencyKeyGenerator.generate(userId, text, music, image)).thenReturn("degraded-key");
+        when(contentRepositoryPort.findByIdempotencyKey("degraded-key")).thenReturn(Optional.empty());
+        
+        // Act
+        GenerateMeditationContentUseCase.GenerationResponse response = service.generate(request);
+        
+        // Assert
+        assertThat(response.mediaType()).isEqualTo(MediaType.VIDEO);
+        verify(videoRenderingPort, never()).renderVideo(any());
+        verify(audioRenderingPort).renderAudio(argThat((AudioRenderRequest audio) -> audio.config().sampleRate() == 44100));
+        verify(mediaStoragePort).uploadMedia(argThat(upload -> upload.fileType() == MediaStoragePort.MediaFileType.AUDIO));
+        verify(contentRepositoryPort).save(argThat(content ->
+            content.status() == GenerationStatus.COMPLETED
+                && content.renderQuality() == RenderQualityTier.AUDIO_ONLY
+                && content.isDegraded()));
+    }
+    
+    @Test
+    @DisplayName("Should save the preview on the PROCESSING row before the full render and keep it once completed")
+    void shouldPublishPreviewBeforeFullRender() throws IOException {
+        // Arrange
+        service = createService(new PreviewRenderer(voiceSynthesisPort, audioRenderingPort, mediaStoragePort, 40));
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = dummyMusic.toString();
+        GenerateMeditationContentUseCase.GenerationRequest request = 
+            new GenerateMeditationContentUseCase.GenerationRequest(UUID.randomUUID(), userId, text, music, null);
+        
+        Path dummyPreview = tempDir.resolve("preview.mp3");
+        Files.writeString(dummyPreview, "dummy preview content");
+        String previewUrl = "https://s3.amazonaws.com/meditation/preview.mp3";
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(25);
+        when(idempotencyKeyGenerator.generate(userId, text, music, null)).thenReturn("preview-key");
+        when(contentRepositoryPort.findByIdempotencyKey("preview-key")).thenReturn(Optional.empty());
+        when(audioRenderingPort.renderPreview(any(), eq(40.0))).thenReturn(dummyPreview);
+        when(mediaStoragePort.uploadMedia(argThat(upload -> upload != null
+                && upload.fileType() == MediaStoragePort.MediaFileType.PREVIEW))).thenReturn(previewUrl);
+        
+        // Act
+        GenerateMeditationContentUseCase.GenerationResponse response = service.generate(request);
+        
+        // Assert
+        assertThat(response.status()).isEqualTo(GenerationStatus.COMPLETED);
+        var inOrder = inOrder(audioRenderingPort, contentRepositoryPort);
+        inOrder.verify(audioRenderingPort).renderPreview(any(), eq(40.0));
+        inOrder.verify(contentRepositoryPort).save(argThat(content ->
+            content.status() == GenerationStatus.PROCESSING
+                && content.previewMedia() != null
+                && content.previewMedia().url().equals(previewUrl)));
+        inOrder.verify(audioRenderingPort).renderAudio(any());
+        inOrder.verify(contentRepositoryPort).save(argThat(content ->
+            content.status() == GenerationStatus.COMPLETED
+                && content.previewMedia() != null
+                && content.previewMedia().url().equals(previewUrl)));
+    }
+    
+    @Test
+    @DisplayName("Should complete without a preview when the preview render fails")
+    void shouldIgnorePreviewFailure() {
+        // Arrange
+        service = createService(new PreviewRenderer(voiceSynthesisPort, audioRenderingPort, mediaStoragePort, 40));
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = dummyMusic.toString();
+        GenerateMeditationContentUseCase.GenerationRequest request = 
+            new GenerateMeditationContentUseCase.GenerationRequest(UUID.randomUUID(), userId, text, music, null);
+        
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(25);
+        when(idempotencyKeyGenerator.generate(userId, text, music, null)).thenReturn("preview-failure-key");
+        when(contentRepositoryPort.findByIdempotencyKey("preview-failure-key")).thenReturn(Optional.empty());
+        when(audioRenderingPort.renderPreview(any(), anyDouble())).thenThrow(new RuntimeException("FFmpeg exit code 1"));
+        
+        // Act
+        GenerateMeditationContentUseCase.GenerationResponse response = service.generate(request);
+        
+        // Assert
+        assertThat(response.status()).isEqualTo(GenerationStatus.COMPLETED);
+        verify(mediaStoragePort, never()).uploadMedia(argThat(upload ->
+            upload.fileType() == MediaStoragePort.MediaFileType.PREVIEW));
+        verify(contentRepositoryPort).save(argThat(content ->
+            content.status() == GenerationStatus.COMPLETED && content.previewMedia() == null));
+    }
+    
+    @Test
+    @DisplayName("Should publish the HLS presentation next to the progressive output")
+    void shouldPublishHlsPresentation() throws IOException {
+        // Arrange
+        GenerateMeditationContentService hlsService = createHlsService();
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = dummyMusic.toString();
+        GenerateMeditationContentUseCase.GenerationRequest request = 
+            new GenerateMeditationContentUseCase.GenerationRequest(UUID.randomUUID(), userId, text, music, null);
+        
+        Path hlsDir = Files.createDirectories(tempDir.resolve("hls"));
+        String playlistUrl = "https://s3.amazonaws.com/meditation/hls/master.m3u8";
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(25);
+        when(idempotencyKeyGenerator.generate(userId, text, music, null)).thenReturn("hls-key");
+        when(contentRepositoryPort.findByIdempotencyKey("hls-key")).thenReturn(Optional.empty());
+        when(streamPackagingPort.packageHls(argThat(packaging -> packaging.mediaType() == MediaType.AUDIO)))
+            .thenReturn(Optional.of(new StreamPackagingPort.HlsPackage(hlsDir,
+                java.util.List.of(Path.of("init.mp4"), Path.of("seg-00000.m4s"), Path.of("master.m3u8")),
+                Path.of("master.m3u8"))));
+        when(mediaStoragePort.uploadPackage(argThat(upload -> upload.packageName().equals("hls")
+                && upload.userId().equals(userId.toString())))).thenReturn(playlistUrl);
+        
+        // Act
+        GenerateMeditationContentUseCase.GenerationResponse response = hlsService.generate(request);
+        
+        // Assert
+        assertThat(response.status()).isEqualTo(GenerationStatus.COMPLETED);
+        verify(contentRepositoryPort).save(argThat(content ->
+            content.status() == GenerationStatus.COMPLETED
+                && content.streamingMedia() != null
+                && content.streamingMedia().url().equals(playlistUrl)));
+    }
+    
+    @Test
+    @DisplayName("Should complete with the progressive output only when HLS packaging fails")
+    void shouldIgnoreHlsPackagingFailure() {
+        // Arrange
+        GenerateMeditationContentService hlsService = createHlsService();
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = dummyMusic.toString();
+        GenerateMeditationContentUseCase.GenerationRequest request = 
+            new GenerateMeditationContentUseCase.GenerationRequest(UUID.randomUUID(), userId, text, music, null);
+        
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(25);
+        when(idempotencyKeyGenerator.generate(userId, text, music, null)).thenReturn("hls-failure-key");
+        when(contentRepositoryPort.findByIdempotencyKey("hls-failure-key")).thenReturn(Optional.empty());
+        when(streamPackagingPort.packageHls(any())).thenThrow(new RuntimeException("HLS packaging failed: FFmpeg exit code 1"));
+        
+        // Act
+        GenerateMeditationContentUseCase.GenerationResponse response = hlsService.generate(request);
+        
+        // Assert
+        assertThat(response.status()).isEqualTo(GenerationStatus.COMPLETED);
+        verify(mediaStoragePort, never()).uploadPackage(any());
+        verify(contentRepositoryPort).save(argThat(content ->
+            content.status() == GenerationStatus.COMPLETED
+                && content.outputMedia() != null
+                && content.streamingMedia() == null));
+    }
+    
+    @Test
+    @DisplayName("Should render the rendition ladder with a full-quality video and publish it")
+    void shouldPublishRenditionLadder() throws IOException {
+        // Arrange
+        GenerateMeditationContentService hlsService = createHlsService();
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = dummyMusic.toString();
+        String image = dummyImage.toString();
+        GenerateMeditationContentUseCase.GenerationRequest request = 
+            new GenerateMeditationContentUseCase.GenerationRequest(UUID.randomUUID(), userId, text, music, image);
+        
+        String trackUrl = "https://s3.amazonaws.com/meditation/audio.m4a";
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(25);
+        when(idempotencyKeyGenerator.generate(userId, text, music, image)).thenReturn("ladder-key");
+        when(contentRepositoryPort.findByIdempotencyKey("ladder-key")).thenReturn(Optional.empty());
+        when(videoRenderingPort.renderVideo(any())).thenAnswer(inv -> {
+            VideoRenderRequest render = inv.getArgument(0);
+            for (VideoRenderingPort.Rendition rendition : render.renditions()) {
+                Files.writeString(rendition.outputPath(), rendition.name());
+            }
+            return Files.writeString(render.outputPath(), "video");
+        });
+        when(mediaStoragePort.uploadMedia(argThat(upload -> upload != null
+                && upload.fileType() == MediaStoragePort.MediaFileType.AUDIO_AAC))).thenReturn(trackUrl);
+        when(streamPackagingPort.packageHls(any())).thenReturn(Optional.empty());
+        
+        // Act
+        GenerateMeditationContentUseCase.GenerationResponse response = hlsService.generate(request);
+        
+        // Assert
+        assertThat(response.status()).isEqualTo(GenerationStatus.COMPLETED);
+        verify(videoRenderingPort).renderVideo(argThat(render -> render.renditions().stream()
+            .map(VideoRenderingPort.Rendition::name).toList().equals(java.util.List.of("480p", "audio"))));
+        verify(streamPackagingPort).packageHls(argThat(packaging -> packaging.variants().size() == 2
+            && packaging.variants().get(1).audioOnly()));
+        verify(contentRepositoryPort).save(argThat(content ->
+            content.status() == GenerationStatus.COMPLETED
+                && content.audioTrack() != null
+                && content.audioTrack().url().equals(trackUrl)));
+    }
+    
+    @Test
+    @DisplayName("Should render a degraded video without renditions")
+    void shouldSkipRenditionLadderWhenDegraded() {
+        // Arrange
+        queueDepth.set(8);
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = dummyMusic.toString();
+        String image = dummyImage.toString();
+        GenerateMeditationContentUseCase.GenerationRequest request = 
+            new GenerateMeditationContentUseCase.GenerationRequest(UUID.randomUUID(), userId, text, music, image);
+        
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(25);
+        when(idempotencyKeyGenerator.generate(userId, text, music, image)).thenReturn("degraded-ladder-key");
+        when(contentRepositoryPort.findByIdempotencyKey("degraded-ladder-key")).thenReturn(Optional.empty());
+        
+        // Act
+        service.generate(request);
+        
+        // Assert
+        verify(videoRenderingPort).renderVideo(argThat(render -> render.renditions().isEmpty()));
+        verify(mediaStoragePort, never()).uploadMedia(argThat(upload ->
+            upload.fileType() == MediaStoragePort.MediaFileType.AUDIO_AAC));
+    }
+    
+    @Test
+    @DisplayName("Should encode audio with the configured profile and store it under its file type")
+    void shouldEncodeAudioWithConfiguredProfile() {
+        // Arrange
+        GenerateMeditationContentService aacService = createService(
+            new PreviewRenderer(voiceSynthesisPort, audioRenderingPort, mediaStoragePort, 0), ArtifactStorePort.NONE,
+            new RenderDeduplicator(contentRepositoryPort, mediaStoragePort, new SimpleMeterRegistry(), false),
+            MusicBedPort.NONE, StreamPackagingPort.NONE, AudioRenderingPort.AudioProfile.AAC_MP4);
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = dummyMusic.toString();
+        GenerateMeditationContentUseCase.GenerationRequest request = 
+            new GenerateMeditationContentUseCase.GenerationRequest(UUID.randomUUID(), userId, text, music, null);
+        
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(25);
+        when(idempotencyKeyGenerator.generate(userId, text, music, null)).thenReturn("aac-key");
+        when(contentRepositoryPort.findByIdempotencyKey("aac-key")).thenReturn(Optional.empty());
+        
+        // Act
+        GenerateMeditationContentUseCase.GenerationResponse response = aacService.generate(request);
+        
+        // Assert
+        assertThat(response.status()).isEqualTo(GenerationStatus.COMPLETED);
+        verify(audioRenderingPort).renderAudio(argThat(render ->
+            render.config().profile() == AudioRenderingPort.AudioProfile.AAC_MP4
+                && render.outputPath().getFileName().toString().endsWith(".m4a")));
+        verify(mediaStoragePort).uploadMedia(argThat(upload ->
+            upload.fileType() == MediaStoragePort.MediaFileType.AUDIO_AAC));
+    }
+    
+    @Test
+    @DisplayName("Should publish the waveform peaks and poster frame of a video")
+    void shouldPublishPlaybackAssets() throws IOException {
+        // Arrange
+        GenerateMeditationContentService assetsService = createAssetsService();
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = dummyMusic.toString();
+        String image = dummyImage.toString();
+        GenerateMeditationContentUseCase.GenerationRequest request = 
+            new GenerateMeditationContentUseCase.GenerationRequest(UUID.randomUUID(), userId, text, music, image);
+        
+        Path peaks = Files.writeString(tempDir.resolve("waveform.json"), "{}");
+        Path poster = Files.writeString(tempDir.resolve("poster.jpg"), "jpeg");
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(25);
+        when(idempotencyKeyGenerator.generate(userId, text, music, image)).thenReturn("assets-key");
+        when(contentRepositoryPort.findByIdempotencyKey("assets-key")).thenReturn(Optional.empty());
+        when(playbackAssetsPort.computeWaveform(any())).thenReturn(Optional.of(peaks));
+        when(playbackAssetsPort.extractPoster(any())).thenReturn(Optional.of(poster));
+        when(mediaStoragePort.uploadMedia(argThat(upload -> upload != null
+                && upload.fileType() == MediaStoragePort.MediaFileType.WAVEFORM)))
+            .thenReturn("https://s3.amazonaws.com/meditation/waveform.json");
+        when(mediaStoragePort.uploadMedia(argThat(upload -> upload != null
+                && upload.fileType() == MediaStoragePort.MediaFileType.POSTER)))
+            .thenReturn("https://s3.amazonaws.com/meditation/poster.jpg");
+        
+        // Act
+        GenerateMeditationContentUseCase.GenerationResponse response = assetsService.generate(request);
+        
+        // Assert
+        assertThat(response.status()).isEqualTo(GenerationStatus.COMPLETED);
+        verify(playbackAssetsPort).extractPoster(argThat(posterRequest -> posterRequest.durationSeconds() == 60.0));
+        verify(contentRepositoryPort).save(argThat(content ->
+            content.status() == GenerationStatus.COMPLETED
+                && content.waveform().url().equals("https://s3.amazonaws.com/meditation/waveform.json")
+                && content.poster().url().equals("https://s3.amazonaws.com/meditation/poster.jpg")));
+    }
+    
+    @Test
+    @DisplayName("Should complete an audio output without assets when the waveform fails")
+    void shouldIgnorePlaybackAssetFailure() {
+        // Arrange
+        GenerateMeditationContentService assetsService = createAssetsService();
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = dummyMusic.toString();
+        GenerateMeditationContentUseCase.GenerationRequest request = 
+            new GenerateMeditationContentUseCase.GenerationRequest(UUID.randomUUID(), userId, text, music, null);
+        
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(25);
+        when(idempotencyKeyGenerator.generate(userId, text, music, null)).thenReturn("assets-failure-key");
+        when(contentRepositoryPort.findByIdempotencyKey("assets-failure-key")).thenReturn(Optional.empty());
+        when(playbackAssetsPort.computeWaveform(any()))
+            .thenThrow(new RuntimeException("Waveform decoding failed: FFmpeg exit code 1"));
+        
+        // Act
+        GenerateMeditationContentUseCase.GenerationResponse response = assetsService.generate(request);
+        
+        // Assert
+        assertThat(response.status()).isEqualTo(GenerationStatus.COMPLETED);
+        verify(playbackAssetsPort, never()).extractPoster(any());
+        verify(contentRepositoryPort).save(argThat(content ->
+            content.status() == GenerationStatus.COMPLETED
+                && content.outputMedia() != null
+                && content.waveform() == null
+                && content.poster() == null));
+    }
+    
+    private GenerateMeditationContentService createAssetsService() {
+        return createService(new PreviewRenderer(voiceSynthesisPort, audioRenderingPort, mediaStoragePort, 0),
+            ArtifactStorePort.NONE,
+            new RenderDeduplicator(contentRepositoryPort, mediaStoragePort, new SimpleMeterRegistry(), false),
+            MusicBedPort.NONE, StreamPackagingPort.NONE, playbackAssetsPort, AudioRenderingPort.AudioProfile.MP3);
+    }
+    
+    private GenerateMeditationContentService createHlsService() {
+        return createService(new PreviewRenderer(voiceSynthesisPort, audioRenderingPort, mediaStoragePort, 0),
+            ArtifactStorePort.NONE,
+            new RenderDeduplicator(contentRepositoryPort, mediaStoragePort, new SimpleMeterRegistry(), false),
+            MusicBedPort.NONE, streamPackagingPort);
+    }
+    
+    @Test
+    @DisplayName("Should only recompute the stages downstream of an image change")
+    void shouldReuseUpstreamArtifactsWhenOnlyImageChanges() throws IOException {
+        // Arrange
+        service = createService(new PreviewRenderer(voiceSynthesisPort, audioRenderingPort, mediaStoragePort, 0),
+            new InMemoryArtifactStore());
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = dummyMusic.toString();
+        String firstImage = dummyImage.toString();
+        String secondImage = Files.writeString(tempDir.resolve("sunset.jpg"), "another image").toString();
+        
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(25);
+        when(idempotencyKeyGenerator.generate(userId, text, music, firstImage)).thenReturn("first-key");
+        when(idempotencyKeyGenerator.generate(userId, text, music, secondImage)).thenReturn("second-key");
+        when(contentRepositoryPort.findByIdempotencyKey(anyString())).thenReturn(Optional.empty());
+        
+        // Act
+        service.generate(new GenerateMeditationContentUseCase.GenerationRequest(UUID.randomUUID(), userId, text, music, firstImage));
+        service.generate(new GenerateMeditationContentUseCase.GenerationRequest(UUID.randomUUID(), userId, text, music, secondImage));
+        
+        // Assert: narration synthesized once, image prepared and video rendered per image
+        verify(voiceSynthesisPort, times(1)).synthesizeVoice(any(), any(), anyDouble());
+        verify(videoRenderingPort).prepareBackgroundImage(eq(dummyImage), any(), any());
+        verify(videoRenderingPort).prepareBackgroundImage(eq(Path.of(secondImage)), any(), any());
+        verify(videoRenderingPort, times(2)).renderVideo(any());
+    }
+    
+    @Test
+    @DisplayName("Should reuse the rendered output of identical inputs")
+    void shouldReuseRenderedOutputForIdenticalInputs() {
+        // Arrange
+        service = createService(new PreviewRenderer(voiceSynthesisPort, audioRenderingPort, mediaStoragePort, 0),
+            new InMemoryArtifactStore());
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = dummyMusic.toString();
+        
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(25);
+        when(idempotencyKeyGenerator.generate(any(), eq(text), eq(music), isNull())).thenReturn("key-a", "key-b");
+        when(contentRepositoryPort.findByIdempotencyKey(anyString())).thenReturn(Optional.empty());
+        
+        // Act: same inputs from two users (different idempotency keys)
+        service.generate(new GenerateMeditationContentUseCase.GenerationRequest(UUID.randomUUID(), UUID.randomUUID(), text, music, null));
+        GenerateMeditationContentUseCase.GenerationResponse second = service.generate(
+            new GenerateMeditationContentUseCase.GenerationRequest(UUID.randomUUID(), UUID.randomUUID(), text, music, null));
+        
+        // Assert
+        assertThat(second.status()).isEqualTo(GenerationStatus.COMPLETED);
+        verify(voiceSynthesisPort, times(1)).synthesizeVoice(any(), any(), anyDouble());
+        verify(audioRenderingPort, times(1)).renderAudio(any());
+        verify(mediaStoragePort, times(2)).uploadMedia(argThat(upload ->
+            upload.fileType() == MediaStoragePort.MediaFileType.AUDIO));
+    }
+    
+    @Test
+    @DisplayName("Should restore the speculatively synthesized narration on generate")
+    void shouldRestorePrecomputedNarration() throws IOException {
+        // Arrange
+        service = createService(new PreviewRenderer(voiceSynthesisPort, audioRenderingPort, mediaStoragePort, 0),
+            new InMemoryArtifactStore());
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = dummyMusic.toString();
+        
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(25);
+        when(idempotencyKeyGenerator.generate(userId, text, music, null)).thenReturn("speculative-key");
+        when(contentRepositoryPort.findByIdempotencyKey("speculative-key")).thenReturn(Optional.empty());
+        
+        // Act: speculation while composing, then the generate call
+        service.precomputeNarration(text, music);
+        GenerateMeditationContentUseCase.GenerationResponse response = service.generate(
+            new GenerateMeditationContentUseCase.GenerationRequest(UUID.randomUUID(), userId, text, music, null));
+        
+        // Assert: narration synthesized once, by the speculative run
+        assertThat(response.status()).isEqualTo(GenerationStatus.COMPLETED);
+        verify(voiceSynthesisPort, times(1)).synthesizeVoice(any(), any(), anyDouble());
+        verify(audioRenderingPort).renderAudio(any());
+    }
+    
+    @Test
+    @DisplayName("Should copy another user's identical render instead of rendering")
+    void shouldReuseIdenticalRenderOfAnotherUser() {
+        // Arrange
+        service = createService(new PreviewRenderer(voiceSynthesisPort, audioRenderingPort, mediaStoragePort, 40),
+            ArtifactStorePort.NONE,
+            new RenderDeduplicator(contentRepositoryPort, mediaStoragePort, new SimpleMeterRegistry(), true));
+        UUID userId = UUID.randomUUID();
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = dummyMusic.toString();
+        GeneratedMeditationContent source = GeneratedMeditationContent.createAudio(
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "other-user-key", new NarrationScript(text), clock)
+            .withRenderQuality(RenderQualityTier.FULL)
+            .markCompleted(new MediaReference("https://s3.amazonaws.com/meditation/a/audio.mp3"),
+                new MediaReference("https://s3.amazonaws.com/meditation/a/subs.srt"), 61, clock);
+        
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(25);
+        when(idempotencyKeyGenerator.generate(userId, text, music, null)).thenReturn("own-key");
+        when(contentRepositoryPort.findByIdempotencyKey("own-key")).thenReturn(Optional.empty());
+        when(contentRepositoryPort.findReusableByContentKey(matches("[0-9a-f]{64}"))).thenReturn(Optional.of(source));
+        when(mediaStoragePort.copyMedia(any())).thenAnswer(inv -> "https://s3.amazonaws.com/meditation/b/"
+            + inv.<MediaStoragePort.CopyRequest>getArgument(0).fileType().getFilename());
+        
+        // Act
+        GenerateMeditationContentUseCase.GenerationResponse response = service.generate(
+            new GenerateMeditationContentUseCase.GenerationRequest(UUID.randomUUID(), userId, text, music, null));
+        
+        // Assert: nothing synthesized, rendered or uploaded; the source's objects are copied
+        assertThat(response.status()).isEqualTo(GenerationStatus.COMPLETED);
+        assertThat(response.mediaUrl()).isEqualTo("https://s3.amazonaws.com/meditation/b/audio.mp3");
+        assertThat(response.subtitleUrl()).isEqualTo("https://s3.amazonaws.com/meditation/b/subs.srt");
+        assertThat(response.durationSeconds()).isEqualTo(61);
+        verify(mediaStoragePort).copyMedia(argThat(copy -> copy.sourceMeditationId().equals(source.meditationId())
+            && copy.targetUserId().equals(userId.toString())
+            && copy.fileType() == MediaStoragePort.MediaFileType.AUDIO));
+        verifyNoInteractions(voiceSynthesisPort, audioRenderingPort);
+        verify(mediaStoragePort, never()).uploadMedia(any());
+        verify(contentRepositoryPort).save(argThat(content -> content.status() == GenerationStatus.COMPLETED
+            && content.userId().equals(userId) && content.contentKey() != null));
+    }
+    
+    @Test
+    @DisplayName("Should render and record the content key when no identical render exists")
+    void shouldRecordContentKeyOnRender() {
+        // Arrange
+        service = createService(new PreviewRenderer(voiceSynthesisPort, audioRenderingPort, mediaStoragePort, 0),
+            ArtifactStorePort.NONE,
+            new RenderDeduplicator(contentRepositoryPort, mediaStoragePort, new SimpleMeterRegistry(), true));
+        String text = "Breathe deeply and relax. Feel the calm wash over you.";
+        String music = dummyMusic.toString();
+        
+        when(textLengthEstimator.validateAndEstimate(text)).thenReturn(25);
+        when(idempotencyKeyGenerator.generate(any(), eq(text), eq(music), isNull())).thenReturn("key-a", "key-b");
+        when(contentRepositoryPort.findByIdempotencyKey(anyString())).thenReturn(Optional.empty());
+        when(contentRepositoryPort.findReusableByContentKey(anyString())).thenReturn(Optional.empty());
+        
+        // Act: same content from two users
+        service.generate(new GenerateMeditationContentUseCase.GenerationRequest(UUID.randomUUID(), UUID.randomUUID(), text, music, null));
+        service.generate(new GenerateMeditationContentUseCase.GenerationRequest(UUID.randomUUID(), UUID.randomUUID(), text, music, null));
+        
+        // Assert: both lookups used the same user-independent key, which is stored on the output
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        verify(contentRepositoryPort, times(2)).findReusableByContentKey(keys.capture());
+        assertThat(keys.getAllValues().get(0)).matches("[0-9a-f]{64}").isEqualTo(keys.getAllValues().get(1));
+        verify(audioRenderingPort, times(2)).renderAudio(any());
+        verify(contentRepositoryPort, times(2)).save(argThat(content -> content.status() == GenerationStatus.COMPLETED
+            && keys.getAllValues().get(0).equals(content.contentKey())));
+    }
+    
+    /**
+     * Artifact store keeping artifact bytes in memory.
+     */
+    private static final class InMemoryArtifactStore implements ArtifactStorePort {
+        
+        private final Map<StageKey, byte[]> artifacts = new HashMap<>();
+        
+        @Override
+        public Optional<Path> restore(StageKey key, Path workDir) {
+            byte[] bytes = artifacts.get(key);
+            if (bytes == null) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(Files.write(workDir.resolve(key.stage() + "-" + key.inputHash()), bytes));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        
+        @Override
+        public void store(StageKey key, Path artifact) {
+            try {
+                artifacts.put(key, Files.readAllBytes(artifact));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
 }
@@ -0,0 +1,184 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.application.validator.TextLengthEstimator;
+import com.hexagonal.meditation.generation.domain.enums.GenerationStage;
+import com.hexagonal.meditation.generation.domain.model.HandedOffGeneration;
+import com.hexagonal.meditation.generation.domain.ports.in.DrainGenerationUseCase.DrainReport;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase.GenerationRequest;
+import com.hexagonal.meditation.generation.domain.ports.out.GenerationHandoffPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GenerationHandoffService Tests")
+class GenerationHandoffServiceTest {
+
+    private static final Executor THREADS = command -> Thread.ofPlatform().daemon(true).start(command);
+
+    @Mock private GenerateMeditationContentService contentService;
+    @Mock private GenerationHandoffPort generationHandoffPort;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-03-01T10:00:00Z"), ZoneId.of("UTC"));
+    private final UUID userId = UUID.randomUUID();
+    private final GenerationJobRegistry jobRegistry = new GenerationJobRegistry();
+    private SimpleMeterRegistry meterRegistry;
+    private GenerationScheduler scheduler;
+    private GenerationHandoffService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should reject queued jobs and let running ones finish within the timeout")
+    void shouldLetRunningJobsFinish() {
+        newService(THREADS, 1);
+        CompletableFuture<String> running = scheduler.submit(userId, 30, () -> {
+            pause(100);
+            return "done";
+        });
+        scheduler.submit(userId, 30, () -> "queued");
+
+        DrainReport report = service.drain(Duration.ofSeconds(5));
+
+        assertThat(report).isEqualTo(new DrainReport(1, 1, 0));
+        assertThat(running).isCompletedWithValue("done");
+        verifyNoInteractions(generationHandoffPort);
+        assertThat(meterRegistry.get("generation.drain.jobs").tag("outcome", "rejected").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should stop jobs still running after the timeout and hand them off with their stage")
+    void shouldHandOffJobsPastTimeout() throws InterruptedException {
+        newService(THREADS, 1);
+        UUID meditationId = UUID.randomUUID();
+        GenerationRequest request = new GenerationRequest(
+                UUID.randomUUID(), userId, "Breathe in and relax.", "https://cdn.example.com/music/ocean.mp3", null);
+        CountDownLatch rendering = new CountDownLatch(1);
+        scheduler.submit(userId, 30, () -> {
+            GenerationJobRegistry.RunningJob job = jobRegistry.register(meditationId, request, null);
+            try {
+                job.reach(GenerationStage.VOICE_SYNTHESIS);
+                job.reach(GenerationStage.RENDERING);
+                rendering.countDown();
+                while (!job.token().isCancelled()) {
+                    pause(5);
+                }
+                return null;
+            } finally {
+                jobRegistry.unregister(job);
+            }
+        });
+        assertThat(rendering.await(5, TimeUnit.SECONDS)).isTrue();
+
+        DrainReport report = service.drain(Duration.ofMillis(50));
+
+        assertThat(report).isEqualTo(new DrainReport(0, 0, 1));
+        ArgumentCaptor<HandedOffGeneration> handOff = ArgumentCaptor.forClass(HandedOffGeneration.class);
+        verify(generationHandoffPort).handOff(handOff.capture());
+        assertThat(handOff.getValue().meditationId()).isEqualTo(meditationId);
+        assertThat(handOff.getValue().compositionId()).isEqualTo(request.compositionId());
+        assertThat(handOff.getValue().checkpoint()).isEqualTo(GenerationStage.RENDERING);
+        assertThat(handOff.getValue().handedOffAt()).isEqualTo(clock.instant());
+        assertThat(scheduler.runningCount()).isZero();
+        assertThat(jobRegistry.runningCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should claim at most the free slots and resume the claimed generations")
+    void shouldResumeUpToFreeSlots() {
+        List<Runnable> tasks = new ArrayList<>();
+        newService(tasks::add, 2);
+        scheduler.submit(userId, 30, () -> "busy");
+        HandedOffGeneration handedOff = handedOff();
+        when(generationHandoffPort.claim(1)).thenReturn(List.of(handedOff));
+
+        int resumed = service.resumeHandedOff();
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+
+        assertThat(resumed).isEqualTo(1);
+        verify(generationHandoffPort).claim(1);
+        verify(contentService).resume(handedOff);
+        assertThat(meterRegistry.get("generation.handoff.resumed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should not claim anything while draining or without free slots")
+    void shouldNotClaimWithoutFreeSlots() {
+        List<Runnable> tasks = new ArrayList<>();
+        newService(tasks::add, 1);
+        scheduler.submit(userId, 30, () -> "busy");
+
+        assertThat(service.resumeHandedOff()).isZero();
+
+        scheduler.drain();
+        tasks.remove(0).run();
+
+        assertThat(service.resumeHandedOff()).isZero();
+        verifyNoInteractions(generationHandoffPort);
+    }
+
+    @Test
+    @DisplayName("Should give a claimed generation back when the node begins draining before it starts")
+    void shouldRequeueWhenDrainingAfterClaim() {
+        newService(command -> { }, 1);
+        HandedOffGeneration handedOff = handedOff();
+        when(generationHandoffPort.claim(anyInt())).thenAnswer(inv -> {
+            scheduler.drain();
+            return List.of(handedOff);
+        });
+
+        service.resumeHandedOff();
+
+        verify(generationHandoffPort).handOff(handedOff);
+        verify(contentService, never()).resume(any());
+    }
+
+    private void newService(Executor workers, int capacity) {
+        scheduler = new GenerationScheduler(workers, capacity, capacity, 60, meterRegistry);
+        service = new GenerationHandoffService(contentService, scheduler, jobRegistry, generationHandoffPort,
+                new TextLengthEstimator(), clock, meterRegistry);
+    }
+
+    private HandedOffGeneration handedOff() {
+        UUID meditationId = UUID.randomUUID();
+        return new HandedOffGeneration(meditationId, meditationId, UUID.randomUUID(), userId,
+                "Breathe in and relax.", "https://cdn.example.com/music/ocean.mp3", null,
+                GenerationStage.SUBTITLES, clock.instant());
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
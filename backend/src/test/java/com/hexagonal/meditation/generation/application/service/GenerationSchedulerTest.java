@@ -0,0 +1,211 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.domain.exception.GenerationUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("GenerationScheduler Tests")
+class GenerationSchedulerTest {
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+
+    /** Manual executor: tasks run only when the test says so. */
+    private final List<Runnable> workers = new ArrayList<>();
+    private final List<String> executed = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should alternate between users instead of draining one user's queue")
+    void shouldAlternateBetweenUsers() {
+        GenerationScheduler scheduler = scheduler(1, 4);
+        submit(scheduler, alice, "alice-1", 60);
+        submit(scheduler, alice, "alice-2", 60);
+        submit(scheduler, alice, "alice-3", 60);
+        submit(scheduler, bob, "bob-1", 60);
+        submit(scheduler, bob, "bob-2", 60);
+
+        runAll();
+
+        assertThat(executed).containsExactly("alice-1", "alice-2", "bob-1", "alice-3", "bob-2");
+    }
+
+    @Test
+    @DisplayName("Should give users with short jobs more jobs per round than users with long jobs")
+    void shouldShareByEstimatedDuration() {
+        GenerationScheduler scheduler = scheduler(1, 4);
+        submit(scheduler, alice, "blocker", 1);
+        submit(scheduler, alice, "alice-long-1", 120);
+        submit(scheduler, alice, "alice-long-2", 120);
+        submit(scheduler, bob, "bob-short-1", 20);
+        submit(scheduler, bob, "bob-short-2", 20);
+        submit(scheduler, bob, "bob-short-3", 20);
+
+        runAll();
+
+        assertThat(executed).containsExactly(
+                "blocker", "bob-short-1", "bob-short-2", "bob-short-3", "alice-long-1", "alice-long-2");
+    }
+
+    @Test
+    @DisplayName("Should run a user's shorter jobs first")
+    void shouldRunShortestJobFirstWithinUser() {
+        GenerationScheduler scheduler = scheduler(1, 4);
+        submit(scheduler, alice, "blocker", 10);
+        submit(scheduler, alice, "long", 150);
+        submit(scheduler, alice, "short", 15);
+        submit(scheduler, alice, "medium", 45);
+
+        runAll();
+
+        assertThat(executed).containsExactly("blocker", "short", "medium", "long");
+    }
+
+    @Test
+    @DisplayName("Should enforce the per-user concurrency cap even with idle workers")
+    void shouldEnforcePerUserConcurrencyCap() {
+        GenerationScheduler scheduler = scheduler(3, 1);
+        submit(scheduler, alice, "alice-1", 30);
+        submit(scheduler, alice, "alice-2", 30);
+
+        assertThat(workers).hasSize(1);
+        assertThat(scheduler.runningCount()).isEqualTo(1);
+        assertThat(scheduler.queuedCount()).isEqualTo(1);
+
+        submit(scheduler, bob, "bob-1", 30);
+
+        assertThat(workers).hasSize(2);
+        assertThat(scheduler.runningCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should record queue wait per job size and expose queue depth gauges")
+    void shouldRecordQueueWaitMetrics() {
+        GenerationScheduler scheduler = scheduler(1, 1);
+        submit(scheduler, alice, "alice-1", 30);
+        submit(scheduler, bob, "bob-1", 120);
+
+        assertThat(meterRegistry.get("generation.scheduler.queued").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("generation.scheduler.running").gauge().value()).isEqualTo(1.0);
+
+        runAll();
+
+        assertThat(meterRegistry.get("generation.scheduler.queue.wait").tag("size", "short").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("generation.scheduler.queue.wait").tag("size", "medium").timer().count())
+                .isEqualTo(1);
+        // No per-user series: the tag stays bounded
+        assertThat(meterRegistry.find("generation.scheduler.queue.wait").tagKeys("user").timers()).isEmpty();
+        assertThat(meterRegistry.get("generation.scheduler.running").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should bucket job costs into bounded size tags")
+    void shouldBucketJobSizes() {
+        assertThat(GenerationScheduler.sizeTag(1)).isEqualTo("short");
+        assertThat(GenerationScheduler.sizeTag(GenerationScheduler.SHORT_JOB_SECONDS)).isEqualTo("short");
+        assertThat(GenerationScheduler.sizeTag(GenerationScheduler.SHORT_JOB_SECONDS + 1)).isEqualTo("medium");
+        assertThat(GenerationScheduler.sizeTag(GenerationScheduler.MEDIUM_JOB_SECONDS)).isEqualTo("medium");
+        assertThat(GenerationScheduler.sizeTag(GenerationScheduler.MEDIUM_JOB_SECONDS + 1)).isEqualTo("long");
+    }
+
+    @Test
+    @DisplayName("Should skip jobs cancelled while queued and propagate task failures")
+    void shouldSkipCancelledJobsAndPropagateFailures() {
+        GenerationScheduler scheduler = scheduler(1, 1);
+        submit(scheduler, alice, "running", 30);
+        CompletableFuture<String> cancelled = submit(scheduler, alice, "cancelled", 30);
+        CompletableFuture<String> failing = scheduler.submit(alice, 30, () -> {
+            throw new IllegalStateException("render failed");
+        });
+
+        cancelled.cancel(false);
+        runAll();
+
+        assertThat(executed).containsExactly("running");
+        assertThat(failing).isCompletedExceptionally();
+        assertThatThrownBy(failing::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(scheduler.runningCount()).isZero();
+        assertThat(scheduler.queuedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should dispatch queued jobs when the capacity grows and hold them back when it shrinks")
+    void shouldApplyCapacityChanges() {
+        GenerationScheduler scheduler = scheduler(1, 4);
+        submit(scheduler, alice, "alice-1", 30);
+        submit(scheduler, bob, "bob-1", 30);
+        submit(scheduler, alice, "alice-2", 30);
+
+        scheduler.setCapacity(2);
+
+        assertThat(scheduler.capacity()).isEqualTo(2);
+        assertThat(workers).hasSize(2);
+        assertThat(scheduler.queuedCount()).isEqualTo(1);
+
+        scheduler.setCapacity(1);
+        workers.remove(0).run();
+
+        assertThat(workers).hasSize(1);
+        assertThat(scheduler.runningCount()).isEqualTo(1);
+        assertThat(scheduler.queuedCount()).isEqualTo(1);
+        assertThatThrownBy(() -> scheduler.setCapacity(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should fail queued and new jobs while draining and let running ones finish")
+    void shouldRejectJobsWhileDraining() throws InterruptedException {
+        GenerationScheduler scheduler = scheduler(1, 4);
+        CompletableFuture<String> running = submit(scheduler, alice, "running", 30);
+        CompletableFuture<String> queued = submit(scheduler, bob, "queued", 30);
+        CompletableFuture<String> cancelled = submit(scheduler, bob, "cancelled", 30);
+        cancelled.cancel(false);
+
+        assertThat(scheduler.drain()).isEqualTo(1);
+        CompletableFuture<String> late = submit(scheduler, alice, "late", 30);
+
+        assertThat(scheduler.isDraining()).isTrue();
+        assertThat(scheduler.queuedCount()).isZero();
+        assertThatThrownBy(queued::join).hasCauseInstanceOf(GenerationUnavailableException.class);
+        assertThatThrownBy(late::join).hasCauseInstanceOf(GenerationUnavailableException.class);
+        assertThat(scheduler.awaitIdle(Duration.ZERO)).isFalse();
+
+        runAll();
+
+        assertThat(running).isCompletedWithValue("running");
+        assertThat(executed).containsExactly("running");
+        assertThat(scheduler.awaitIdle(Duration.ZERO)).isTrue();
+    }
+
+    private GenerationScheduler scheduler(int capacity, int perUserConcurrency) {
+        return new GenerationScheduler(workers::add, capacity, perUserConcurrency, 60, meterRegistry);
+    }
+
+    private CompletableFuture<String> submit(GenerationScheduler scheduler, UUID userId, String name, int cost) {
+        return scheduler.submit(userId, cost, () -> {
+            executed.add(name);
+            return name;
+        });
+    }
+
+    private void runAll() {
+        while (!workers.isEmpty()) {
+            workers.remove(0).run();
+        }
+    }
+}
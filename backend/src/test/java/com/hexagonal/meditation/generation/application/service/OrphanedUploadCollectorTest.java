@@ -0,0 +1,244 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.domain.model.GeneratedMeditationContent;
+import com.hexagonal.meditation.generation.domain.model.MediaReference;
+import com.hexagonal.meditation.generation.domain.model.NarrationScript;
+import com.hexagonal.meditation.generation.domain.ports.in.CollectOrphanedUploadsUseCase.CollectionReport;
+import com.hexagonal.meditation.generation.domain.ports.out.CompositionReferencesPort;
+import com.hexagonal.meditation.generation.domain.ports.out.ContentRepositoryPort;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.ObjectPage;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.StoredObject;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OrphanedUploadCollector Tests")
+@ExtendWith(MockitoExtension.class)
+class OrphanedUploadCollectorTest {
+
+    private static final Instant NOW = Instant.parse("2026-02-16T10:30:00Z");
+    private static final Instant OLD = NOW.minus(Duration.ofDays(3));
+    private static final String BASE_URL = "http://localhost:4566/meditation-outputs/";
+
+    @Mock
+    private MediaStoragePort mediaStoragePort;
+
+    @Mock
+    private ContentRepositoryPort contentRepositoryPort;
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    private final UUID userId = UUID.randomUUID();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should delete only old uploads no meditation references")
+    void shouldDeleteUnreferencedUploads() {
+        UUID meditationId = UUID.randomUUID();
+        String output = key(meditationId, "audio.mp3");
+        String usedMusic = key(UUID.randomUUID(), "audio.mp3");
+        String usedImage = key(UUID.randomUUID(), "image.jpg");
+        String orphan = key(UUID.randomUUID(), "audio.mp3");
+        String recent = key(UUID.randomUUID(), "image.jpg");
+        String foreign = "generation/catalog/track.mp3";
+        when(mediaStoragePort.listObjects(eq("generation/"), isNull(), anyInt())).thenReturn(new ObjectPage(List.of(
+            object(output, OLD), object(usedMusic, OLD), object(usedImage, OLD),
+            object(orphan, OLD), object(recent, NOW.minusSeconds(60)), object(foreign, OLD)), null));
+        when(contentRepositoryPort.findByUserId(userId.toString()))
+            .thenReturn(List.of(meditation(meditationId, usedMusic, usedImage)));
+
+        CollectionReport report = collector(limits(1000, 100)).collect(false);
+
+        verify(mediaStoragePort).deleteObjects(List.of(orphan));
+        assertThat(report.objectsScanned()).isEqualTo(6);
+        assertThat(report.orphansFound()).isEqualTo(1);
+        assertThat(report.orphansDeleted()).isEqualTo(1);
+        assertThat(report.orphanBytes()).isEqualTo(10);
+        assertThat(report.complete()).isTrue();
+        assertThat(report.sampleKeys()).containsExactly(orphan);
+        assertThat(meterRegistry.counter("generation.uploads.gc.orphans", "action", "deleted").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep uploads a composition references before any meditation exists")
+    void shouldKeepUploadsReferencedByCompositions() {
+        String composedMusic = key(UUID.randomUUID(), "audio.mp3");
+        String composedImage = key(UUID.randomUUID(), "image.jpg");
+        String orphan = key(UUID.randomUUID(), "audio.mp3");
+        when(mediaStoragePort.listObjects(eq("generation/"), isNull(), anyInt())).thenReturn(new ObjectPage(List.of(
+            object(composedMusic, OLD), object(composedImage, OLD), object(orphan, OLD)), null));
+        when(contentRepositoryPort.findByUserId(userId.toString())).thenReturn(List.of());
+        CompositionReferencesPort compositions = () -> Set.of(
+            BASE_URL + composedMusic + "?X-Amz-Signature=abc", BASE_URL + composedImage, "calm-ocean");
+
+        CollectionReport report = collector(limits(1000, 100), compositions).collect(false);
+
+        verify(mediaStoragePort).deleteObjects(List.of(orphan));
+        assertThat(report.orphansFound()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should report orphans without deleting them in a dry run")
+    void shouldOnlyReportInDryRun() {
+        String orphan = key(UUID.randomUUID(), "audio.mp3");
+        when(mediaStoragePort.listObjects(eq("generation/"), isNull(), anyInt()))
+            .thenReturn(new ObjectPage(List.of(object(orphan, OLD)), null));
+        when(contentRepositoryPort.findByUserId(userId.toString())).thenReturn(List.of());
+
+        CollectionReport report = collector(limits(1000, 100)).collect(true);
+
+        verify(mediaStoragePort, never()).deleteObjects(any());
+        assertThat(report.dryRun()).isTrue();
+        assertThat(report.orphansFound()).isEqualTo(1);
+        assertThat(report.orphansDeleted()).isZero();
+        assertThat(report.sampleKeys()).containsExactly(orphan);
+        assertThat(meterRegistry.counter("generation.uploads.gc.orphans", "action", "reported").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should load the meditations of each user once per pass")
+    void shouldLoadOwnerOncePerPass() {
+        when(mediaStoragePort.listObjects(eq("generation/"), isNull(), anyInt())).thenReturn(new ObjectPage(List.of(
+            object(key(UUID.randomUUID(), "audio.mp3"), OLD),
+            object(key(UUID.randomUUID(), "image.jpg"), OLD)), null));
+        when(contentRepositoryPort.findByUserId(userId.toString())).thenReturn(List.of());
+
+        collector(limits(1000, 100)).collect(true);
+
+        verify(contentRepositoryPort, times(1)).findByUserId(anyString());
+    }
+
+    @Test
+    @DisplayName("Should delete in batches")
+    void shouldDeleteInBatches() {
+        String first = key(UUID.randomUUID(), "audio.mp3");
+        String second = key(UUID.randomUUID(), "audio.mp3");
+        String third = key(UUID.randomUUID(), "audio.mp3");
+        when(mediaStoragePort.listObjects(eq("generation/"), isNull(), anyInt())).thenReturn(new ObjectPage(List.of(
+            object(first, OLD), object(second, OLD), object(third, OLD)), null));
+        when(contentRepositoryPort.findByUserId(userId.toString())).thenReturn(List.of());
+
+        CollectionReport report = collector(limits(1000, 2)).collect(false);
+
+        verify(mediaStoragePort).deleteObjects(List.of(first, second));
+        verify(mediaStoragePort).deleteObjects(List.of(third));
+        assertThat(report.orphansDeleted()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should stop at the delete limit and resume on the same page")
+    void shouldResumeAfterDeleteLimit() {
+        String first = key(UUID.randomUUID(), "audio.mp3");
+        String second = key(UUID.randomUUID(), "audio.mp3");
+        when(mediaStoragePort.listObjects(eq("generation/"), isNull(), anyInt()))
+            .thenReturn(new ObjectPage(List.of(object(first, OLD), object(second, OLD)), "page-2"));
+        when(contentRepositoryPort.findByUserId(userId.toString())).thenReturn(List.of());
+        OrphanedUploadCollector collector = collector(limits(1, 100));
+
+        CollectionReport report = collector.collect(false);
+        collector.collect(false);
+
+        assertThat(report.orphansDeleted()).isEqualTo(1);
+        assertThat(report.complete()).isFalse();
+        // The second pass lists the first page again (the mocked storage still returns the deleted key)
+        verify(mediaStoragePort, times(2)).listObjects(eq("generation/"), isNull(), anyInt());
+        verify(mediaStoragePort, times(2)).deleteObjects(List.of(first));
+        verify(mediaStoragePort, never()).deleteObjects(List.of(second));
+    }
+
+    @Test
+    @DisplayName("Should resume the listing where the page limit stopped it")
+    void shouldResumeAfterPageLimit() {
+        when(mediaStoragePort.listObjects(eq("generation/"), isNull(), anyInt()))
+            .thenReturn(new ObjectPage(List.of(), "page-2"));
+        when(mediaStoragePort.listObjects(eq("generation/"), eq("page-2"), anyInt()))
+            .thenReturn(new ObjectPage(List.of(), null));
+        OrphanedUploadCollector collector = new OrphanedUploadCollector(mediaStoragePort, contentRepositoryPort,
+            CompositionReferencesPort.NONE,
+            new OrphanedUploadCollector.Limits(Duration.ofHours(48), 10, 1, 1000, 100, Duration.ZERO),
+            clock, meterRegistry);
+
+        CollectionReport first = collector.collect(true);
+        CollectionReport second = collector.collect(true);
+
+        assertThat(first.complete()).isFalse();
+        assertThat(second.complete()).isTrue();
+        verify(mediaStoragePort).listObjects(eq("generation/"), eq("page-2"), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should delete nothing when the meditations cannot be loaded")
+    void shouldDeleteNothingWhenRepositoryFails() {
+        when(mediaStoragePort.listObjects(eq("generation/"), isNull(), anyInt()))
+            .thenReturn(new ObjectPage(List.of(object(key(UUID.randomUUID(), "audio.mp3"), OLD)), null));
+        when(contentRepositoryPort.findByUserId(userId.toString())).thenThrow(new RuntimeException("db down"));
+
+        assertThatThrownBy(() -> collector(limits(1000, 100)).collect(false))
+            .hasMessageContaining("db down");
+        verify(mediaStoragePort, never()).deleteObjects(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a zero grace period")
+    void shouldRejectZeroGracePeriod() {
+        assertThatThrownBy(() -> new OrphanedUploadCollector.Limits(Duration.ZERO, 10, 1, 1, 1, Duration.ZERO))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private OrphanedUploadCollector collector(OrphanedUploadCollector.Limits limits) {
+        return collector(limits, CompositionReferencesPort.NONE);
+    }
+
+    private OrphanedUploadCollector collector(OrphanedUploadCollector.Limits limits,
+                                              CompositionReferencesPort compositionReferencesPort) {
+        return new OrphanedUploadCollector(mediaStoragePort, contentRepositoryPort, compositionReferencesPort,
+            limits, clock, meterRegistry);
+    }
+
+    private static OrphanedUploadCollector.Limits limits(int maxDeletes, int batchSize) {
+        return new OrphanedUploadCollector.Limits(Duration.ofHours(48), 500, 10, maxDeletes, batchSize, Duration.ZERO);
+    }
+
+    private String key(UUID id, String filename) {
+        return "generation/" + userId + "/" + id + "/" + filename;
+    }
+
+    private static StoredObject object(String key, Instant lastModified) {
+        return new StoredObject(key, 10, lastModified);
+    }
+
+    private GeneratedMeditationContent meditation(UUID meditationId, String musicKey, String imageKey) {
+        return GeneratedMeditationContent.createVideo(meditationId, UUID.randomUUID(), userId, "key",
+                new NarrationScript("Respira profundamente"), new MediaReference(BASE_URL + imageKey), clock)
+            .withBackgroundMusic(new MediaReference(BASE_URL + musicKey));
+    }
+}
@@ -0,0 +1,131 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.domain.exception.GenerationCancelledException;
+import com.hexagonal.meditation.generation.domain.model.CancellationToken;
+import com.hexagonal.meditation.generation.domain.model.GeneratedMeditationContent;
+import com.hexagonal.meditation.generation.domain.model.MediaReference;
+import com.hexagonal.meditation.generation.domain.model.NarrationScript;
+import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort;
+import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort.AudioRenderRequest;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.MediaFileType;
+import com.hexagonal.meditation.generation.domain.ports.out.VoiceSynthesisPort;
+import com.hexagonal.meditation.generation.domain.ports.out.VoiceSynthesisPort.VoiceConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PreviewRenderer Tests")
+class PreviewRendererTest {
+
+    private static final VoiceConfig VOICE = new VoiceConfig("es-ES", "es-ES-Neural2-Diana", 0.85, 0.0);
+
+    @Mock private VoiceSynthesisPort voiceSynthesisPort;
+    @Mock private AudioRenderingPort audioRenderingPort;
+    @Mock private MediaStoragePort mediaStoragePort;
+
+    @TempDir
+    Path workDir;
+
+    private GeneratedMeditationContent content;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2024-01-15T10:00:00Z"), ZoneOffset.UTC);
+        // 30 words, ~12 seconds of narration
+        content = GeneratedMeditationContent.createAudio(
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            "preview-key",
+            new NarrationScript("Welcome to your mindfulness meditation journey. "
+                + "Settle into a comfortable position and close your eyes. "
+                + "Begin by taking three deep breaths, feeling the air enter and leave your body."),
+            clock
+        );
+    }
+
+    @Test
+    @DisplayName("Should synthesize only the narration prefix, render a low-fidelity preview and upload it as PREVIEW")
+    void shouldRenderAndUploadPreview() {
+        PreviewRenderer renderer = new PreviewRenderer(voiceSynthesisPort, audioRenderingPort, mediaStoragePort, 4);
+        Path narration = workDir.resolve("prefix.mp3");
+        when(voiceSynthesisPort.synthesizeVoice(any(), eq(VOICE))).thenReturn(narration);
+        when(audioRenderingPort.renderPreview(any(), eq(4.0))).thenAnswer(inv -> inv.<AudioRenderRequest>getArgument(0).outputPath());
+        when(mediaStoragePort.uploadMedia(any())).thenReturn("https://s3.amazonaws.com/meditation/preview.mp3");
+
+        Optional<MediaReference> preview = renderer.render(content, VOICE, workDir.resolve("music.mp3"), workDir);
+
+        assertThat(preview).map(MediaReference::url).contains("https://s3.amazonaws.com/meditation/preview.mp3");
+        verify(voiceSynthesisPort).synthesizeVoice(
+            eq(new NarrationScript("Welcome to your mindfulness meditation journey.")), eq(VOICE));
+        verify(audioRenderingPort).renderPreview(argThat(request ->
+            request.narrationAudioPath().equals(narration)
+                && request.config().channels() == 1
+                && request.outputPath().equals(workDir.resolve("preview.mp3"))), eq(4.0));
+        verify(mediaStoragePort).uploadMedia(argThat(upload ->
+            upload.fileType() == MediaFileType.PREVIEW && upload.meditationId().equals(content.meditationId())));
+        verify(voiceSynthesisPort, never()).synthesizeVoice(any(), any(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when previews are disabled")
+    void shouldSkipWhenDisabled() {
+        PreviewRenderer renderer = new PreviewRenderer(voiceSynthesisPort, audioRenderingPort, mediaStoragePort, 0);
+
+        assertThat(renderer.isEnabled()).isFalse();
+        assertThat(renderer.render(content, VOICE, workDir.resolve("music.mp3"), workDir)).isEmpty();
+        verifyNoInteractions(voiceSynthesisPort, audioRenderingPort, mediaStoragePort);
+    }
+
+    @Test
+    @DisplayName("Should return no preview when rendering fails")
+    void shouldReturnEmptyOnFailure() {
+        PreviewRenderer renderer = new PreviewRenderer(voiceSynthesisPort, audioRenderingPort, mediaStoragePort, 40);
+        when(voiceSynthesisPort.synthesizeVoice(any(), any())).thenReturn(workDir.resolve("prefix.mp3"));
+        when(audioRenderingPort.renderPreview(any(), anyDouble())).thenThrow(new RuntimeException("FFmpeg exit code 1"));
+
+        assertThat(renderer.render(content, VOICE, workDir.resolve("music.mp3"), workDir)).isEmpty();
+        verifyNoInteractions(mediaStoragePort);
+    }
+
+    @Test
+    @DisplayName("Should propagate cancellation instead of skipping the preview")
+    void shouldPropagateCancellation() {
+        PreviewRenderer renderer = new PreviewRenderer(voiceSynthesisPort, audioRenderingPort, mediaStoragePort, 40);
+        CancellationToken token = new CancellationToken(content.meditationId());
+        when(voiceSynthesisPort.synthesizeVoice(any(), any())).thenAnswer(inv -> {
+            token.cancel();
+            return workDir.resolve("prefix.mp3");
+        });
+
+        try (CancellationToken.Registration binding = CancellationToken.bind(token)) {
+            assertThatThrownBy(() -> renderer.render(content, VOICE, workDir.resolve("music.mp3"), workDir))
+                .isInstanceOf(GenerationCancelledException.class);
+        }
+        verifyNoInteractions(audioRenderingPort, mediaStoragePort);
+    }
+
+    @Test
+    @DisplayName("Should reject a negative preview length")
+    void shouldRejectNegativePreviewSeconds() {
+        assertThatThrownBy(() -> new PreviewRenderer(voiceSynthesisPort, audioRenderingPort, mediaStoragePort, -1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,198 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.domain.enums.GenerationStatus;
+import com.hexagonal.meditation.generation.domain.enums.RenderQualityTier;
+import com.hexagonal.meditation.generation.domain.model.GeneratedMeditationContent;
+import com.hexagonal.meditation.generation.domain.model.MediaReference;
+import com.hexagonal.meditation.generation.domain.model.NarrationScript;
+import com.hexagonal.meditation.generation.domain.ports.out.ContentRepositoryPort;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.MediaFileType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RenderDeduplicator Tests")
+class RenderDeduplicatorTest {
+
+    private static final String TEXT = "Breathe deeply and relax.";
+    private static final String KEY = "c".repeat(64);
+
+    @Mock private ContentRepositoryPort contentRepositoryPort;
+    @Mock private MediaStoragePort mediaStoragePort;
+
+    @TempDir
+    Path tempDir;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-01-15T10:00:00Z"), ZoneOffset.UTC);
+    private SimpleMeterRegistry meterRegistry;
+    private RenderDeduplicator deduplicator;
+    private GeneratedMeditationContent content;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        deduplicator = new RenderDeduplicator(contentRepositoryPort, mediaStoragePort, meterRegistry, true);
+        content = GeneratedMeditationContent.createAudio(
+            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "own-key", new NarrationScript(TEXT), clock);
+    }
+
+    @Test
+    @DisplayName("Should derive the key from file contents, not file paths")
+    void shouldKeyByFileContent() throws IOException {
+        Path music = Files.writeString(tempDir.resolve("music.mp3"), "same bytes");
+        Path copy = Files.writeString(tempDir.resolve("elsewhere.mp3"), "same bytes");
+        Path other = Files.writeString(tempDir.resolve("other.mp3"), "other bytes");
+
+        String key = deduplicator.contentKey(TEXT, music, null, "AUDIO");
+
+        assertThat(key).matches("[0-9a-f]{64}");
+        assertThat(deduplicator.contentKey(TEXT, copy, null, "AUDIO")).isEqualTo(key);
+        assertThat(deduplicator.contentKey(TEXT, other, null, "AUDIO")).isNotEqualTo(key);
+        assertThat(deduplicator.contentKey(TEXT, music, null, "VIDEO")).isNotEqualTo(key);
+        assertThat(deduplicator.contentKey(TEXT, music, copy, "AUDIO")).isNotEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("Should complete the generation with copies of the matching output")
+    void shouldReuseMatchingOutput() {
+        GeneratedMeditationContent source = completedSource();
+        when(contentRepositoryPort.findReusableByContentKey(KEY)).thenReturn(Optional.of(source));
+        when(mediaStoragePort.copyMedia(any())).thenAnswer(inv ->
+            "https://bucket/" + inv.<MediaStoragePort.CopyRequest>getArgument(0).fileType().getFilename());
+
+        Optional<GeneratedMeditationContent> reused = deduplicator.reuse(content, KEY, 3600, clock);
+
+        assertThat(reused).isPresent();
+        assertThat(reused.get().meditationId()).isEqualTo(content.meditationId());
+        assertThat(reused.get().userId()).isEqualTo(content.userId());
+        assertThat(reused.get().status()).isEqualTo(GenerationStatus.COMPLETED);
+        assertThat(reused.get().outputMedia().url()).isEqualTo("https://bucket/audio.mp3");
+        assertThat(reused.get().subtitleFile().url()).isEqualTo("https://bucket/subs.srt");
+        assertThat(reused.get().contentKey()).isEqualTo(KEY);
+        assertThat(reused.get().renderQuality()).isEqualTo(RenderQualityTier.FULL);
+        verify(mediaStoragePort).copyMedia(argThat(copy -> copy.fileType() == MediaFileType.AUDIO
+            && copy.sourceUserId().equals(source.userId().toString())
+            && copy.targetMeditationId().equals(content.meditationId())));
+        assertThat(meterRegistry.counter("generation.dedup.lookups", "result", "hit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should copy the playback assets and drop the ones that fail")
+    void shouldCopyPlaybackAssets() {
+        GeneratedMeditationContent source = completedSource().withPlaybackAssets(
+            new MediaReference("https://bucket/a/waveform.json"), new MediaReference("https://bucket/a/poster.jpg"));
+        when(contentRepositoryPort.findReusableByContentKey(KEY)).thenReturn(Optional.of(source));
+        when(mediaStoragePort.copyMedia(any())).thenAnswer(inv -> {
+            MediaFileType fileType = inv.<MediaStoragePort.CopyRequest>getArgument(0).fileType();
+            if (fileType == MediaFileType.POSTER) {
+                throw new RuntimeException("NoSuchKey");
+            }
+            return "https://bucket/" + fileType.getFilename();
+        });
+
+        Optional<GeneratedMeditationContent> reused = deduplicator.reuse(content, KEY, 3600, clock);
+
+        assertThat(reused).isPresent();
+        assertThat(reused.get().waveform().url()).isEqualTo("https://bucket/waveform.json");
+        assertThat(reused.get().poster()).isNull();
+        assertThat(meterRegistry.counter("generation.dedup.lookups", "result", "hit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should copy the audio track and the HLS package from the playlist the source points at")
+    void shouldCopyAudioTrackAndHlsPackage() {
+        GeneratedMeditationContent base = completedSource();
+        GeneratedMeditationContent source = base
+            .withStreamingMedia(new MediaReference(
+                "https://bucket/generation/u/" + base.meditationId() + "/hls/master.m3u8?X-Amz-Signature=abc"))
+            .withAudioTrack(new MediaReference("https://bucket/a/audio.m4a"));
+        when(contentRepositoryPort.findReusableByContentKey(KEY)).thenReturn(Optional.of(source));
+        when(mediaStoragePort.copyMedia(any())).thenAnswer(inv ->
+            "https://bucket/" + inv.<MediaStoragePort.CopyRequest>getArgument(0).fileType().getFilename());
+        when(mediaStoragePort.copyPackage(any())).thenReturn("https://bucket/hls/master.m3u8");
+
+        Optional<GeneratedMeditationContent> reused = deduplicator.reuse(content, KEY, 3600, clock);
+
+        assertThat(reused).isPresent();
+        assertThat(reused.get().audioTrack().url()).isEqualTo("https://bucket/audio.m4a");
+        assertThat(reused.get().streamingMedia().url()).isEqualTo("https://bucket/hls/master.m3u8");
+        verify(mediaStoragePort).copyPackage(argThat(copy -> copy.packageName().equals("hls")
+            && copy.entryFile().equals("master.m3u8")
+            && copy.sourceMeditationId().equals(source.meditationId())
+            && copy.targetMeditationId().equals(content.meditationId())));
+    }
+
+    @Test
+    @DisplayName("Should render instead of reusing an output whose HLS package cannot be copied")
+    void shouldFallBackWhenHlsCopyFails() {
+        GeneratedMeditationContent base = completedSource();
+        GeneratedMeditationContent source = base.withStreamingMedia(new MediaReference(
+            "https://bucket/generation/u/" + base.meditationId() + "/hls/master.m3u8"));
+        when(contentRepositoryPort.findReusableByContentKey(KEY)).thenReturn(Optional.of(source));
+        when(mediaStoragePort.copyMedia(any())).thenAnswer(inv ->
+            "https://bucket/" + inv.<MediaStoragePort.CopyRequest>getArgument(0).fileType().getFilename());
+        when(mediaStoragePort.copyPackage(any())).thenThrow(new RuntimeException("NoSuchKey"));
+
+        assertThat(deduplicator.reuse(content, KEY, 3600, clock)).isEmpty();
+        assertThat(meterRegistry.counter("generation.dedup.lookups", "result", "copy_failed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should fall back to rendering when the copy fails")
+    void shouldFallBackWhenCopyFails() {
+        when(contentRepositoryPort.findReusableByContentKey(KEY)).thenReturn(Optional.of(completedSource()));
+        when(mediaStoragePort.copyMedia(any())).thenThrow(new RuntimeException("NoSuchKey"));
+
+        assertThat(deduplicator.reuse(content, KEY, 3600, clock)).isEmpty();
+        assertThat(meterRegistry.counter("generation.dedup.lookups", "result", "copy_failed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should count a miss when no output matches")
+    void shouldCountMiss() {
+        when(contentRepositoryPort.findReusableByContentKey(KEY)).thenReturn(Optional.empty());
+
+        assertThat(deduplicator.reuse(content, KEY, 3600, clock)).isEmpty();
+        assertThat(meterRegistry.counter("generation.dedup.lookups", "result", "miss").count()).isEqualTo(1.0);
+        verifyNoInteractions(mediaStoragePort);
+    }
+
+    @Test
+    @DisplayName("Should not look anything up when disabled")
+    void shouldDoNothingWhenDisabled() {
+        RenderDeduplicator disabled = new RenderDeduplicator(contentRepositoryPort, mediaStoragePort, meterRegistry, false);
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.reuse(content, KEY, 3600, clock)).isEmpty();
+        verifyNoInteractions(contentRepositoryPort, mediaStoragePort);
+    }
+
+    private GeneratedMeditationContent completedSource() {
+        return GeneratedMeditationContent.createAudio(
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "other-key", new NarrationScript(TEXT), clock)
+            .withRenderQuality(RenderQualityTier.FULL)
+            .withContentKey(KEY)
+            .markCompleted(new MediaReference("https://bucket/a/audio.mp3"),
+                new MediaReference("https://bucket/a/subs.srt"), 60, clock);
+    }
+}
@@ -0,0 +1,156 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.domain.enums.MediaType;
+import com.hexagonal.meditation.generation.domain.enums.RenderQualityTier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RenderQualityPolicy Tests")
+class RenderQualityPolicyTest {
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-01T10:00:00Z"));
+    private SimpleMeterRegistry meterRegistry;
+    private RenderQualityPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        policy = new RenderQualityPolicy(queueDepth::get,
+                new RenderQualityPolicy.Thresholds(4, 8, 16, 0.1, 0.15, 0.2), 20, Duration.ofMinutes(15),
+                clock, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should render at full quality when idle")
+    void shouldUseFullQualityWhenIdle() {
+        assertThat(policy.select(MediaType.VIDEO)).isEqualTo(RenderQualityTier.FULL);
+        assertThat(policy.select(MediaType.AUDIO)).isEqualTo(RenderQualityTier.FULL);
+    }
+
+    @Test
+    @DisplayName("Should degrade step by step as the queue grows")
+    void shouldDegradeWithQueueDepth() {
+        queueDepth.set(4);
+        assertThat(policy.select(MediaType.VIDEO)).isEqualTo(RenderQualityTier.REDUCED);
+        queueDepth.set(8);
+        assertThat(policy.select(MediaType.VIDEO)).isEqualTo(RenderQualityTier.LOW);
+        queueDepth.set(16);
+        assertThat(policy.select(MediaType.VIDEO)).isEqualTo(RenderQualityTier.AUDIO_ONLY);
+    }
+
+    @Test
+    @DisplayName("Should never pick AUDIO_ONLY for audio requests")
+    void shouldCapAudioRequestsAtLow() {
+        queueDepth.set(100);
+
+        assertThat(policy.select(MediaType.AUDIO)).isEqualTo(RenderQualityTier.LOW);
+    }
+
+    @Test
+    @DisplayName("Should degrade on slow recent renders and recover once they speed up")
+    void shouldFollowP95RenderTime() {
+        for (int i = 0; i < 20; i++) {
+            policy.recordRenderTime(RenderQualityTier.FULL, Duration.ofSeconds(i < 18 ? 30 : 100), 600);
+        }
+        assertThat(policy.p95RenderRatio()).isCloseTo(100.0 / 600, within(1e-9));
+        assertThat(policy.select(MediaType.VIDEO)).isEqualTo(RenderQualityTier.LOW);
+
+        // The window slides: fast renders push the slow ones out
+        for (int i = 0; i < 20; i++) {
+            policy.recordRenderTime(RenderQualityTier.LOW, Duration.ofSeconds(20), 600);
+        }
+        assertThat(policy.select(MediaType.VIDEO)).isEqualTo(RenderQualityTier.FULL);
+        assertThat(meterRegistry.get("generation.render.duration").tag("tier", "LOW").timer().count())
+                .isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Should judge render time per output second, not by wall time")
+    void shouldNormalizePerOutputSecond() {
+        // 100 s for a 30-minute meditation is fast; 100 s for 5 minutes is slow
+        for (int i = 0; i < 20; i++) {
+            policy.recordRenderTime(RenderQualityTier.FULL, Duration.ofSeconds(100), 1800);
+        }
+        assertThat(policy.select(MediaType.VIDEO)).isEqualTo(RenderQualityTier.FULL);
+
+        for (int i = 0; i < 20; i++) {
+            policy.recordRenderTime(RenderQualityTier.FULL, Duration.ofSeconds(100), 300);
+        }
+        assertThat(policy.select(MediaType.VIDEO)).isEqualTo(RenderQualityTier.AUDIO_ONLY);
+    }
+
+    @Test
+    @DisplayName("Should forget slow renders once they are older than the maximum age")
+    void shouldExpireOldRenders() {
+        for (int i = 0; i < 20; i++) {
+            policy.recordRenderTime(RenderQualityTier.FULL, Duration.ofSeconds(150), 600);
+        }
+        assertThat(policy.select(MediaType.VIDEO)).isEqualTo(RenderQualityTier.AUDIO_ONLY);
+
+        clock.advance(Duration.ofMinutes(16));
+
+        assertThat(policy.p95RenderRatio()).isZero();
+        assertThat(policy.select(MediaType.VIDEO)).isEqualTo(RenderQualityTier.FULL);
+    }
+
+    @Test
+    @DisplayName("Should not degrade on render time with too few renders for a p95")
+    void shouldIgnoreRenderTimeBelowMinimumSamples() {
+        for (int i = 0; i < RenderQualityPolicy.MIN_SAMPLES - 1; i++) {
+            policy.recordRenderTime(RenderQualityTier.FULL, Duration.ofSeconds(i == 0 ? 150 : 30), 600);
+        }
+        assertThat(policy.select(MediaType.VIDEO)).isEqualTo(RenderQualityTier.FULL);
+
+        policy.recordRenderTime(RenderQualityTier.FULL, Duration.ofSeconds(30), 600);
+        assertThat(policy.p95RenderRatio()).isCloseTo(30.0 / 600, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Should reject thresholds that are not increasing")
+    void shouldRejectInconsistentThresholds() {
+        assertThatThrownBy(() -> new RenderQualityPolicy.Thresholds(8, 4, 16, 0.1, 0.15, 0.2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RenderQualityPolicy.Thresholds(4, 8, 16, 0.1, 0.05, 0.2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
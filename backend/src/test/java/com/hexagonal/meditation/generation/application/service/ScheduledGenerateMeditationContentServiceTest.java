@@ -0,0 +1,163 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.application.service.GenerateMeditationContentService.AcceptedGeneration;
+import com.hexagonal.meditation.generation.application.validator.TextLengthEstimator;
+import com.hexagonal.meditation.generation.domain.enums.GenerationStatus;
+import com.hexagonal.meditation.generation.domain.enums.MediaType;
+import com.hexagonal.meditation.generation.domain.exception.GenerationUnavailableException;
+import com.hexagonal.meditation.generation.domain.exception.InvalidContentException;
+import com.hexagonal.meditation.generation.domain.model.HandedOffGeneration;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase.GenerationRequest;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase.GenerationResponse;
+import com.hexagonal.meditation.generation.domain.ports.out.GenerationHandoffPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduledGenerateMeditationContentService Tests")
+class ScheduledGenerateMeditationContentServiceTest {
+
+    private static final String NARRATION =
+            "Close your eyes and take a slow deep breath. Feel the air fill your lungs and let every thought drift away.";
+
+    @Mock private GenerateMeditationContentService delegate;
+    @Mock private GenerationHandoffPort generationHandoffPort;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-03-01T10:00:00Z"), ZoneId.of("UTC"));
+    // Dispatched jobs wait here until the test runs them
+    private final List<Runnable> workers = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private GenerationScheduler scheduler;
+    private ScheduledGenerateMeditationContentService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new GenerationScheduler(workers::add, 1, 1, 60, meterRegistry);
+        service = new ScheduledGenerateMeditationContentService(delegate, scheduler, new TextLengthEstimator(),
+                generationHandoffPort, clock);
+    }
+
+    @Test
+    @DisplayName("Should answer with the PROCESSING meditation before the pipeline runs")
+    void shouldAnswerBeforeThePipelineRuns() {
+        GenerationRequest request = request(NARRATION);
+        GenerationResponse processing = response(request, GenerationStatus.PROCESSING);
+        when(delegate.accept(request)).thenReturn(new AcceptedGeneration(processing, true));
+
+        assertThat(service.generate(request)).isEqualTo(processing);
+        verify(delegate, never()).runAccepted(any(), any());
+        assertThat(scheduler.runningCount()).isEqualTo(1);
+
+        workers.remove(0).run();
+
+        verify(delegate).runAccepted(processing.id(), request);
+        assertThat(scheduler.runningCount()).isZero();
+        assertThat(meterRegistry.get("generation.scheduler.queue.wait")
+                .tag("size", "short").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer with the existing result of an identical request without queueing")
+    void shouldNotQueueIdenticalRequest() {
+        GenerationRequest request = request(NARRATION);
+        GenerationResponse completed = response(request, GenerationStatus.COMPLETED);
+        when(delegate.accept(request)).thenReturn(new AcceptedGeneration(completed, false));
+
+        assertThat(service.generate(request)).isEqualTo(completed);
+        assertThat(workers).isEmpty();
+        assertThat(scheduler.queuedCount()).isZero();
+        verify(delegate, never()).runAccepted(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should keep pipeline failures off the caller")
+    void shouldKeepPipelineFailuresOffTheCaller() {
+        GenerationRequest request = request(NARRATION);
+        GenerationResponse processing = response(request, GenerationStatus.PROCESSING);
+        when(delegate.accept(request)).thenReturn(new AcceptedGeneration(processing, true));
+        when(delegate.runAccepted(processing.id(), request))
+                .thenThrow(new InvalidContentException("musicReference", "Music file not found"));
+
+        assertThat(service.generate(request)).isEqualTo(processing);
+        workers.remove(0).run();
+
+        assertThat(scheduler.runningCount()).isZero();
+        verifyNoInteractions(generationHandoffPort);
+    }
+
+    @Test
+    @DisplayName("Should hand off a generation still queued when the node starts draining")
+    void shouldHandOffQueuedGenerationOnDrain() {
+        GenerationRequest busy = request(NARRATION);
+        GenerationRequest queued = request(NARRATION);
+        GenerationResponse busyResponse = response(busy, GenerationStatus.PROCESSING);
+        GenerationResponse queuedResponse = response(queued, GenerationStatus.PROCESSING);
+        when(delegate.accept(busy)).thenReturn(new AcceptedGeneration(busyResponse, true));
+        when(delegate.accept(queued)).thenReturn(new AcceptedGeneration(queuedResponse, true));
+        service.generate(busy);
+        service.generate(queued);
+
+        scheduler.drain();
+
+        ArgumentCaptor<HandedOffGeneration> handOff = ArgumentCaptor.forClass(HandedOffGeneration.class);
+        verify(generationHandoffPort).handOff(handOff.capture());
+        assertThat(handOff.getValue().meditationId()).isEqualTo(queuedResponse.id());
+        assertThat(handOff.getValue().started()).isTrue();
+        assertThat(handOff.getValue().checkpoint()).isNull();
+        assertThat(handOff.getValue().narrationText()).isEqualTo(queued.narrationText());
+        assertThat(handOff.getValue().handedOffAt()).isEqualTo(clock.instant());
+        verify(delegate, never()).runAccepted(eq(queuedResponse.id()), any());
+    }
+
+    @Test
+    @DisplayName("Should refuse new generations without saving them while draining")
+    void shouldRefuseWhileDraining() {
+        scheduler.drain();
+
+        assertThatThrownBy(() -> service.generate(request(NARRATION)))
+                .isInstanceOf(GenerationUnavailableException.class);
+        verifyNoInteractions(delegate, generationHandoffPort);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid text without queueing a job")
+    void shouldRejectInvalidTextBeforeQueueing() {
+        assertThatThrownBy(() -> service.generate(request("Too short")))
+                .isInstanceOf(InvalidContentException.class);
+
+        verifyNoInteractions(delegate);
+        assertThat(meterRegistry.find("generation.scheduler.queue.wait").timer()).isNull();
+    }
+
+    private GenerationRequest request(String text) {
+        return new GenerationRequest(UUID.randomUUID(), UUID.randomUUID(), text,
+                "https://cdn.example.com/music/ocean.mp3", null);
+    }
+
+    private GenerationResponse response(GenerationRequest request, GenerationStatus status) {
+        boolean completed = status == GenerationStatus.COMPLETED;
+        return new GenerationResponse(UUID.randomUUID(), request.compositionId(), request.userId(), status,
+                MediaType.AUDIO,
+                completed ? "https://s3.amazonaws.com/meditation/audio.mp3" : null,
+                completed ? "https://s3.amazonaws.com/meditation/subs.srt" : null,
+                8, Instant.now(), completed ? Instant.now() : null);
+    }
+}
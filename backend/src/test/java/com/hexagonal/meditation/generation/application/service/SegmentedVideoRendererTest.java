@@ -0,0 +1,143 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.domain.model.RenderSegment;
+import com.hexagonal.meditation.generation.domain.model.SubtitleSegment;
+import com.hexagonal.meditation.generation.domain.ports.out.SubtitleSyncPort;
+import com.hexagonal.meditation.generation.domain.ports.out.VideoRenderingPort;
+import com.hexagonal.meditation.generation.domain.ports.out.VideoRenderingPort.Rendition;
+import com.hexagonal.meditation.generation.domain.ports.out.VideoRenderingPort.VideoConfig;
+import com.hexagonal.meditation.generation.domain.ports.out.VideoRenderingPort.VideoRenderRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SegmentedVideoRenderer Tests")
+class SegmentedVideoRendererTest {
+
+    private static final List<SubtitleSegment> SENTENCES = List.of(
+            new SubtitleSegment(1, 0.0, 30.0, "Close your eyes."),
+            new SubtitleSegment(2, 30.0, 60.0, "Breathe in slowly."),
+            new SubtitleSegment(3, 60.0, 90.0, "Hold."),
+            new SubtitleSegment(4, 90.0, 120.0, "Let go."));
+
+    @Mock private VideoRenderingPort videoRenderingPort;
+    @Mock private SubtitleSyncPort subtitleSyncPort;
+
+    @TempDir
+    Path workDir;
+
+    private final List<Double> progress = new ArrayList<>();
+    private SegmentedVideoRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        renderer = new SegmentedVideoRenderer(videoRenderingPort, subtitleSyncPort, Runnable::run, 4, 30);
+        lenient().when(videoRenderingPort.supportsSegmentedRendering()).thenReturn(true);
+        lenient().when(subtitleSyncPort.exportToSrt(anyList(), any())).thenAnswer(inv -> inv.getArgument(1));
+        lenient().when(videoRenderingPort.renderVideoSegment(any(), any())).thenAnswer(inv -> {
+            VideoRenderRequest request = inv.getArgument(0);
+            request.progressListener().onProgress(1.0);
+            return request.outputPath();
+        });
+        lenient().when(videoRenderingPort.concatSegments(anyList(), any())).thenAnswer(inv -> inv.getArgument(1));
+        lenient().when(videoRenderingPort.renderVideo(any())).thenAnswer(inv -> inv.<VideoRenderRequest>getArgument(0).outputPath());
+    }
+
+    @Test
+    @DisplayName("Should render sentence-aligned segments and join them in order")
+    void shouldRenderSegmentsAndJoinThem() {
+        Path output = renderer.render(request(120.0), SENTENCES, workDir);
+
+        ArgumentCaptor<RenderSegment> segments = ArgumentCaptor.forClass(RenderSegment.class);
+        verify(videoRenderingPort, times(4)).renderVideoSegment(any(), segments.capture());
+        assertThat(segments.getAllValues()).extracting(RenderSegment::startSeconds)
+                .containsExactlyInAnyOrder(0.0, 30.0, 60.0, 90.0);
+        verify(videoRenderingPort).concatSegments(eq(List.of(
+                workDir.resolve("segment-0.mp4"), workDir.resolve("segment-1.mp4"),
+                workDir.resolve("segment-2.mp4"), workDir.resolve("segment-3.mp4"))), eq(workDir.resolve("out.mp4")));
+        verify(subtitleSyncPort).exportToSrt(eq(List.of(new SubtitleSegment(1, 0.0, 30.0, "Hold."))),
+                eq(workDir.resolve("segment-2.srt")));
+        verify(videoRenderingPort, never()).renderVideo(any());
+        assertThat(output).isEqualTo(workDir.resolve("out.mp4"));
+        assertThat(progress).last().isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should render short videos in a single pass")
+    void shouldRenderShortVideoInSinglePass() {
+        renderer.render(request(45.0), SENTENCES.subList(0, 1), workDir);
+
+        verify(videoRenderingPort).renderVideo(any());
+        verify(videoRenderingPort, never()).renderVideoSegment(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should fall back to a single render when a segment fails")
+    void shouldFallBackWhenSegmentFails() {
+        doThrow(new RuntimeException("FFmpeg failed on segment 2 with exit code 1"))
+                .when(videoRenderingPort).renderVideoSegment(any(), argThat(segment -> segment.index() == 2));
+
+        Path output = renderer.render(request(120.0), SENTENCES, workDir);
+
+        verify(videoRenderingPort).renderVideo(any());
+        verify(videoRenderingPort, never()).concatSegments(anyList(), any());
+        assertThat(output).isEqualTo(workDir.resolve("out.mp4"));
+    }
+
+    @Test
+    @DisplayName("Should render in a single pass when the renderer cannot segment")
+    void shouldRenderSinglePassWithoutSegmentSupport() {
+        when(videoRenderingPort.supportsSegmentedRendering()).thenReturn(false);
+
+        renderer.render(request(120.0), SENTENCES, workDir);
+
+        verify(videoRenderingPort).renderVideo(any());
+        verifyNoInteractions(subtitleSyncPort);
+    }
+
+    @Test
+    @DisplayName("Should render renditions with each segment and join each rendition")
+    void shouldJoinRenditionsPerSegment() {
+        Rendition audio = Rendition.audioOnly("audio", workDir.resolve("out-audio.m4a"));
+        VideoRenderRequest base = request(120.0);
+        VideoRenderRequest request = new VideoRenderRequest(base.narrationAudioPath(), base.musicAudioPath(),
+                base.imagePath(), base.subtitlePath(), base.outputPath(), base.config(),
+                base.expectedDurationSeconds(), base.progressListener(), List.of(audio));
+
+        renderer.render(request, SENTENCES, workDir);
+
+        verify(videoRenderingPort).renderVideoSegment(argThat(segment ->
+                segment.renditions().equals(List.of(audio.withOutputPath(workDir.resolve("segment-1-audio.m4a"))))),
+                argThat(segment -> segment.index() == 1));
+        verify(videoRenderingPort).concatSegments(eq(List.of(
+                workDir.resolve("segment-0-audio.m4a"), workDir.resolve("segment-1-audio.m4a"),
+                workDir.resolve("segment-2-audio.m4a"), workDir.resolve("segment-3-audio.m4a"))),
+                eq(workDir.resolve("out-audio.m4a")));
+    }
+
+    private VideoRenderRequest request(double durationSeconds) {
+        return new VideoRenderRequest(
+                workDir.resolve("narration.mp3"),
+                workDir.resolve("music.mp3"),
+                workDir.resolve("image.png"),
+                workDir.resolve("subtitles.srt"),
+                workDir.resolve("out.mp4"),
+                VideoConfig.hdMeditationVideo(),
+                durationSeconds,
+                progress::add);
+    }
+}
@@ -0,0 +1,143 @@
+package com.hexagonal.meditation.generation.application.service;
+
+import com.hexagonal.meditation.generation.domain.model.CancellationToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SpeculativeNarrationService Tests")
+class SpeculativeNarrationServiceTest {
+
+    private static final Duration DEBOUNCE = Duration.ofMillis(100);
+
+    private ScheduledThreadPoolExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+    private final List<String> precomputed = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should precompute the composition state after the debounce delay")
+    void shouldPrecomputeAfterDebounce() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        SpeculativeNarrationService service = service((text, music) -> {
+            precomputed.add(text + "@" + music);
+            done.countDown();
+        });
+
+        service.schedule(UUID.randomUUID(), "Breathe in.", "music-001");
+
+        assertThat(precomputed).isEmpty();
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(precomputed).containsExactly("Breathe in.@music-001");
+        awaitCount("completed", 1.0);
+    }
+
+    @Test
+    @DisplayName("Should only precompute the latest state of a composition edited within the debounce delay")
+    void shouldDebounceEdits() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        SpeculativeNarrationService service = service((text, music) -> {
+            precomputed.add(text);
+            done.countDown();
+        });
+        UUID compositionId = UUID.randomUUID();
+
+        service.schedule(compositionId, "First draft.", "music-001");
+        service.schedule(compositionId, "Second draft.", "music-001");
+
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(precomputed).containsExactly("Second draft.");
+        assertThat(meterRegistry.counter("generation.speculative.jobs", "result", "dropped").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should cancel a running job when the composition changes again")
+    void shouldCancelRunningJobOnChange() throws InterruptedException {
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch secondDone = new CountDownLatch(1);
+        ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(2);
+        try {
+            SpeculativeNarrationService service = new SpeculativeNarrationService((text, music) -> {
+                if (text.equals("First draft.")) {
+                    firstStarted.countDown();
+                    // Stands in for a TTS call that stops when the bound token is cancelled
+                    while (!CancellationToken.current().isCancelled()) {
+                        Thread.onSpinWait();
+                    }
+                    CancellationToken.current().throwIfCancelled();
+                }
+                precomputed.add(text);
+                secondDone.countDown();
+            }, pool, DEBOUNCE, meterRegistry);
+            UUID compositionId = UUID.randomUUID();
+
+            service.schedule(compositionId, "First draft.", "music-001");
+            assertThat(firstStarted.await(2, TimeUnit.SECONDS)).isTrue();
+            service.schedule(compositionId, "Second draft.", "music-001");
+
+            assertThat(secondDone.await(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(precomputed).containsExactly("Second draft.");
+            awaitCount("dropped", 1.0);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should count a failed job without propagating the error")
+    void shouldCountFailures() {
+        SpeculativeNarrationService service = service((text, music) -> {
+            throw new IOException("TTS unavailable");
+        });
+
+        service.schedule(UUID.randomUUID(), "Breathe in.", "music-001");
+
+        awaitCount("failed", 1.0);
+    }
+
+    @Test
+    @DisplayName("Should reject a composition without music")
+    void shouldRejectMissingMusic() {
+        SpeculativeNarrationService service = service((text, music) -> { });
+
+        assertThatThrownBy(() -> service.schedule(UUID.randomUUID(), "Breathe in.", " "))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private SpeculativeNarrationService service(SpeculativeNarrationService.Precomputation precomputation) {
+        return new SpeculativeNarrationService(precomputation, executor, DEBOUNCE, meterRegistry);
+    }
+
+    private void awaitCount(String result, double expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (meterRegistry.counter("generation.speculative.jobs", "result", result).count() < expected
+                && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(meterRegistry.counter("generation.speculative.jobs", "result", result).count()).isEqualTo(expected);
+    }
+}
@@ -152,6 +152,18 @@ class TextLengthEstimatorTest {
             .isInstanceOf(com.hexagonal.meditation.generation.domain.exception.GenerationTimeoutException.class)
             .hasMessageContaining("exceed 187 seconds");
     }
+
+    @Test
+    @DisplayName("Should accept longer text when the maximum duration is raised")
+    void shouldAcceptLongerTextWithRaisedMaximum() {
+        // 500 words → 200 seconds (allowed with a 600s cap)
+        TextLengthEstimator segmentedEstimator = new TextLengthEstimator(600);
+        
+        assertThat(segmentedEstimator.validateAndEstimate(generateWords(500))).isEqualTo(200);
+        assertThatThrownBy(() -> segmentedEstimator.validateAndEstimate(generateWords(1600)))
+            .isInstanceOf(com.hexagonal.meditation.generation.domain.exception.GenerationTimeoutException.class)
+            .hasMessageContaining("600");
+    }
     
     /**
      * Helper to generate text with specific word count
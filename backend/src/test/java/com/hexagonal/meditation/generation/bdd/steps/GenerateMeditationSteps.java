@@ -11,6 +11,7 @@ import io.restassured.response.Response;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -23,6 +24,9 @@ import static org.hamcrest.Matchers.*;
  */
 public class GenerateMeditationSteps {
 
+    private static final Duration GENERATION_TIMEOUT = Duration.ofSeconds(187);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+
     private Response lastResponse;
     private String currentText;
     private String currentMusicReference;
@@ -90,6 +94,27 @@ public class GenerateMeditationSteps {
                 .body(body)
         .when()
                 .post("/v1/generation/meditations");
+
+        // Accepted generations run in the background: follow their status URL
+        if (lastResponse.statusCode() == 202) {
+            lastResponse = awaitFinished(lastResponse.header("Location"));
+        }
+    }
+
+    private Response awaitFinished(String location) {
+        long deadline = System.nanoTime() + GENERATION_TIMEOUT.toNanos();
+        while (true) {
+            Response response = given().when().get(location);
+            if (!"PROCESSING".equals(response.path("status")) || System.nanoTime() > deadline) {
+                return response;
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
     }
 
     @Then("the system produces high-quality narration from the text")
@@ -43,10 +43,18 @@ class GenerationStatusTest {
     }
 
     @Test
-    void shouldHaveExactlyFourValues() {
+    void shouldHaveCancelledValue() {
+        GenerationStatus status = GenerationStatus.CANCELLED;
+        
+        assertNotNull(status);
+        assertEquals("CANCELLED", status.name());
+    }
+
+    @Test
+    void shouldHaveExactlyFiveValues() {
         GenerationStatus[] values = GenerationStatus.values();
         
-        assertEquals(4, values.length);
+        assertEquals(5, values.length);
     }
 
     @Test
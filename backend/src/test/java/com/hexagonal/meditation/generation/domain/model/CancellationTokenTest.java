@@ -0,0 +1,102 @@
+package com.hexagonal.meditation.generation.domain.model;
+
+import com.hexagonal.meditation.generation.domain.exception.GenerationCancelledException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CancellationToken Tests")
+class CancellationTokenTest {
+
+    @Test
+    @DisplayName("Should run registered callbacks once on cancel")
+    void shouldRunCallbacksOnce() {
+        CancellationToken token = new CancellationToken(UUID.randomUUID());
+        AtomicInteger calls = new AtomicInteger();
+        token.onCancel(calls::incrementAndGet);
+
+        token.cancel();
+        token.cancel();
+
+        assertThat(token.isCancelled()).isTrue();
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should not run callbacks whose registration was closed")
+    void shouldSkipClosedRegistrations() {
+        CancellationToken token = new CancellationToken(UUID.randomUUID());
+        AtomicInteger calls = new AtomicInteger();
+        CancellationToken.Registration registration = token.onCancel(calls::incrementAndGet);
+
+        registration.close();
+        token.cancel();
+
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should run callback immediately when already cancelled")
+    void shouldRunLateCallbackImmediately() {
+        CancellationToken token = new CancellationToken(UUID.randomUUID());
+        token.cancel();
+        AtomicInteger calls = new AtomicInteger();
+
+        token.onCancel(calls::incrementAndGet);
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should throw at checkpoint once cancelled")
+    void shouldThrowAtCheckpoint() {
+        UUID meditationId = UUID.randomUUID();
+        CancellationToken token = new CancellationToken(meditationId);
+
+        assertThatCode(token::throwIfCancelled).doesNotThrowAnyException();
+        token.cancel();
+
+        assertThatThrownBy(token::throwIfCancelled)
+            .isInstanceOf(GenerationCancelledException.class)
+            .hasMessageContaining(meditationId.toString());
+    }
+
+    @Test
+    @DisplayName("Should isolate failing callbacks")
+    void shouldIsolateFailingCallbacks() {
+        CancellationToken token = new CancellationToken(UUID.randomUUID());
+        AtomicInteger calls = new AtomicInteger();
+        token.onCancel(() -> {
+            throw new IllegalStateException("process already gone");
+        });
+        token.onCancel(calls::incrementAndGet);
+
+        assertThatCode(token::cancel).doesNotThrowAnyException();
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should bind token to current thread and restore on close")
+    void shouldBindToCurrentThread() {
+        CancellationToken token = new CancellationToken(UUID.randomUUID());
+
+        try (CancellationToken.Registration binding = CancellationToken.bind(token)) {
+            assertThat(CancellationToken.current()).isSameAs(token);
+        }
+
+        assertThat(CancellationToken.current()).isSameAs(CancellationToken.NONE);
+    }
+
+    @Test
+    @DisplayName("NONE token should never be cancelled")
+    void noneTokenShouldIgnoreCancel() {
+        CancellationToken.NONE.cancel();
+
+        assertThat(CancellationToken.NONE.isCancelled()).isFalse();
+        assertThatCode(CancellationToken.NONE::throwIfCancelled).doesNotThrowAnyException();
+    }
+}
@@ -92,4 +92,37 @@ class NarrationScriptTest {
         
         assertTrue(duration >= 1, "Expected at least 1 second");
     }
+
+    @Test
+    void shouldReturnSameScriptWhenPrefixBudgetCoversIt() {
+        NarrationScript script = new NarrationScript("Close your eyes and breathe deeply now");
+        
+        assertSame(script, script.prefix(40));
+    }
+
+    @Test
+    void shouldCutPrefixAtSentenceBoundary() {
+        // 4 seconds → 10 words; the second sentence ends at word 9
+        NarrationScript script = new NarrationScript(
+            "Close your eyes. Breathe in slowly and feel calm. Let every thought drift away now.");
+        
+        NarrationScript prefix = script.prefix(4);
+        
+        assertEquals("Close your eyes. Breathe in slowly and feel calm.", prefix.text());
+    }
+
+    @Test
+    void shouldCutPrefixAtWordBudgetWithoutNearbySentenceEnd() {
+        // 2 seconds → 5 words, no sentence end in the second half
+        NarrationScript script = new NarrationScript("one two three four five six seven eight");
+        
+        assertEquals("one two three four five", script.prefix(2).text());
+    }
+
+    @Test
+    void shouldRejectNonPositivePrefixDuration() {
+        NarrationScript script = new NarrationScript("Breathe");
+        
+        assertThrows(IllegalArgumentException.class, () -> script.prefix(0));
+    }
 }
@@ -0,0 +1,69 @@
+package com.hexagonal.meditation.generation.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RenderSegment value object.
+ * Validates sentence-boundary planning and per-segment subtitle shifting.
+ */
+class RenderSegmentTest {
+
+    private static final List<SubtitleSegment> SENTENCES = List.of(
+        new SubtitleSegment(1, 0.0, 25.0, "Close your eyes."),
+        new SubtitleSegment(2, 25.0, 55.0, "Breathe in slowly."),
+        new SubtitleSegment(3, 55.0, 70.0, "Hold."),
+        new SubtitleSegment(4, 70.0, 120.0, "Let go.")
+    );
+
+    @Test
+    void shouldCutAtSentenceBoundaryNearestToEvenSplit() {
+        List<RenderSegment> segments = RenderSegment.plan(SENTENCES, 120.0, 2, 30.0);
+
+        assertEquals(List.of(
+            new RenderSegment(0, 0.0, 55.0),
+            new RenderSegment(1, 55.0, 120.0)
+        ), segments);
+    }
+
+    @Test
+    void shouldLimitSegmentCountByMinimumSegmentLength() {
+        List<RenderSegment> segments = RenderSegment.plan(SENTENCES, 120.0, 8, 40.0);
+
+        // 120s / 40s → at most 3 segments
+        assertEquals(3, segments.size());
+        assertEquals(0.0, segments.get(0).startSeconds());
+        assertEquals(120.0, segments.get(segments.size() - 1).endSeconds());
+        for (int i = 1; i < segments.size(); i++) {
+            assertEquals(segments.get(i - 1).endSeconds(), segments.get(i).startSeconds());
+        }
+    }
+
+    @Test
+    void shouldKeepSingleSegmentWhenTimelineCannotBeSplit() {
+        assertEquals(List.of(new RenderSegment(0, 0.0, 40.0)),
+            RenderSegment.plan(SENTENCES, 40.0, 4, 30.0));
+        assertEquals(List.of(new RenderSegment(0, 0.0, 120.0)),
+            RenderSegment.plan(List.of(new SubtitleSegment(1, 0.0, 120.0, "One long sentence.")), 120.0, 4, 30.0));
+    }
+
+    @Test
+    void shouldShiftSubtitlesToSegmentStart() {
+        RenderSegment segment = new RenderSegment(1, 55.0, 120.0);
+
+        List<SubtitleSegment> shifted = segment.subtitlesWithin(SENTENCES);
+
+        assertEquals(List.of(
+            new SubtitleSegment(1, 0.0, 15.0, "Hold."),
+            new SubtitleSegment(2, 15.0, 65.0, "Let go.")
+        ), shifted);
+    }
+
+    @Test
+    void shouldRejectEndTimeBeforeStartTime() {
+        assertThrows(IllegalArgumentException.class, () -> new RenderSegment(0, 10.0, 5.0));
+    }
+}
@@ -0,0 +1,81 @@
+package com.hexagonal.meditation.generation.domain.model;
+
+import com.hexagonal.meditation.generation.domain.enums.PipelineStage;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StageKey value object.
+ */
+class StageKeyTest {
+
+    private static final StageKey MUSIC = StageKey.derive(PipelineStage.MUSIC_PREP, List.of(), "https://cdn.example.com/calm.mp3");
+    private static final StageKey IMAGE = StageKey.derive(PipelineStage.IMAGE_PREP, List.of(), "https://cdn.example.com/forest.jpg");
+
+    @Test
+    void shouldDeriveSameKeyForSameInputs() {
+        StageKey first = StageKey.derive(PipelineStage.TTS, List.of(MUSIC), "Breathe in.", 120.0);
+        StageKey second = StageKey.derive(PipelineStage.TTS, List.of(MUSIC), "Breathe in.", 120.0);
+
+        assertEquals(first, second);
+        assertEquals(PipelineStage.TTS, first.stage());
+        assertEquals(64, first.inputHash().length());
+    }
+
+    @Test
+    void shouldDeriveDifferentKeyWhenInputChanges() {
+        StageKey first = StageKey.derive(PipelineStage.TTS, List.of(MUSIC), "Breathe in.", 120.0);
+        StageKey second = StageKey.derive(PipelineStage.TTS, List.of(MUSIC), "Breathe out.", 120.0);
+
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void shouldPropagateUpstreamChangeDownstream() {
+        StageKey otherMusic = StageKey.derive(PipelineStage.MUSIC_PREP, List.of(), "https://cdn.example.com/rain.mp3");
+        StageKey tts = StageKey.derive(PipelineStage.TTS, List.of(MUSIC), "Breathe in.", 120.0);
+        StageKey ttsOtherMusic = StageKey.derive(PipelineStage.TTS, List.of(otherMusic), "Breathe in.", 120.0);
+
+        assertNotEquals(tts, ttsOtherMusic);
+        assertNotEquals(
+            StageKey.derive(PipelineStage.AUDIO_MIX, List.of(MUSIC, tts), "48000"),
+            StageKey.derive(PipelineStage.AUDIO_MIX, List.of(otherMusic, ttsOtherMusic), "48000"));
+    }
+
+    @Test
+    void shouldIgnoreUpstreamOrder() {
+        StageKey tts = StageKey.derive(PipelineStage.TTS, List.of(MUSIC), "Breathe in.", 120.0);
+
+        assertEquals(
+            StageKey.derive(PipelineStage.AUDIO_MIX, List.of(MUSIC, tts), "48000"),
+            StageKey.derive(PipelineStage.AUDIO_MIX, List.of(tts, MUSIC), "48000"));
+    }
+
+    @Test
+    void shouldRejectMissingOrUnexpectedUpstream() {
+        StageKey tts = StageKey.derive(PipelineStage.TTS, List.of(MUSIC), "Breathe in.", 120.0);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> StageKey.derive(PipelineStage.AUDIO_MIX, List.of(tts), "48000"));
+        assertThrows(IllegalArgumentException.class,
+            () -> StageKey.derive(PipelineStage.AUDIO_MIX, List.of(MUSIC, tts, IMAGE), "48000"));
+        assertThrows(IllegalArgumentException.class,
+            () -> StageKey.derive(PipelineStage.AUDIO_MIX, List.of(MUSIC, MUSIC), "48000"));
+    }
+
+    @Test
+    void shouldAcceptNullInputs() {
+        assertEquals(
+            StageKey.derive(PipelineStage.IMAGE_PREP, List.of(), (Object) null),
+            StageKey.derive(PipelineStage.IMAGE_PREP, List.of(), ""));
+    }
+
+    @Test
+    void shouldRejectInvalidHash() {
+        assertThrows(IllegalArgumentException.class, () -> new StageKey(PipelineStage.TTS, "not-a-hash"));
+        assertThrows(IllegalArgumentException.class, () -> new StageKey(null, "a".repeat(64)));
+    }
+}
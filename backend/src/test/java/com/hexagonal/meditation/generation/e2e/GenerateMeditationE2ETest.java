@@ -7,6 +7,7 @@ import com.hexagonal.meditation.generation.infrastructure.in.rest.dto.GenerateMe
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.http.ContentType;
+import io.restassured.response.Response;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,6 +26,7 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
+import java.time.Duration;
 import java.util.UUID;
 
 import static io.restassured.RestAssured.given;
@@ -44,6 +46,9 @@ import static org.testcontainers.containers.localstack.LocalStackContainer.Servi
 @DisplayName("Generate Meditation E2E Tests")
 public class GenerateMeditationE2ETest {
 
+    private static final Duration GENERATION_TIMEOUT = Duration.ofSeconds(187);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+
     @LocalServerPort
     private int port;
 
@@ -122,12 +127,19 @@ public class GenerateMeditationE2ETest {
                 "image-catalog/forest-01.jpg"
         );
 
-        given()
+        String location = given()
                 .contentType(ContentType.JSON)
                 .header("X-Composition-ID", compositionId.toString())
                 .body(request)
         .when()
                 .post("/v1/generation/meditations")
+        .then()
+                .statusCode(202)
+                .body("status", is("PROCESSING"))
+                .body("meditationId", notNullValue())
+                .extract().header("Location");
+
+        awaitFinished(location)
         .then()
                 .statusCode(200)
                 .body("status", is("COMPLETED"))
@@ -149,12 +161,18 @@ public class GenerateMeditationE2ETest {
                 null
         );
 
-        given()
+        String location = given()
                 .contentType(ContentType.JSON)
                 .header("X-Composition-ID", compositionId.toString())
                 .body(request)
         .when()
                 .post("/v1/generation/meditations")
+        .then()
+                .statusCode(202)
+                .body("status", is("PROCESSING"))
+                .extract().header("Location");
+
+        awaitFinished(location)
         .then()
                 .statusCode(200)
                 .body("status", is("COMPLETED"))
@@ -181,9 +199,10 @@ public class GenerateMeditationE2ETest {
         .when()
                 .post("/v1/generation/meditations")
         .then()
-                .statusCode(200)
+                .statusCode(202)
                 .extract().path("meditationId");
 
+        // Same meditation while it is generated (202) or once finished (200)
         given()
                 .contentType(ContentType.JSON)
                 .header("X-Composition-ID", compositionId.toString())
@@ -191,7 +210,27 @@ public class GenerateMeditationE2ETest {
         .when()
                 .post("/v1/generation/meditations")
         .then()
-                .statusCode(200)
+                .statusCode(anyOf(is(200), is(202)))
                 .body("meditationId", is(firstMeditationId));
     }
+
+    /**
+     * Poll the status URL of an accepted generation until it leaves PROCESSING.
+     */
+    private Response awaitFinished(String location) {
+        long deadline = System.nanoTime() + GENERATION_TIMEOUT.toNanos();
+        while (true) {
+            Response response = given().when().get(location);
+            if (!GenerationStatus.PROCESSING.name().equals(response.path("status"))
+                    || System.nanoTime() > deadline) {
+                return response;
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
 }
@@ -40,6 +40,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.endsWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -118,6 +119,18 @@ public class GenerateMeditationContractTest {
     @MockBean
     private com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort mediaStoragePort;
 
+    @MockBean
+    private com.hexagonal.meditation.generation.domain.ports.out.MusicBedPort musicBedPort;
+
+    @MockBean
+    private com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationBatchUseCase generateMeditationBatchUseCase;
+
+    @MockBean
+    private com.hexagonal.meditation.generation.domain.ports.out.GenerationProgressPort generationProgressPort;
+
+    @MockBean
+    private com.hexagonal.meditation.generation.domain.ports.in.CancelMeditationGenerationUseCase cancelMeditationGenerationUseCase;
+
     private static final String OPENAPI_SPEC = "openapi/generation/generate-meditation.yaml";
     private static final Instant FIXED_NOW = Instant.parse("2026-01-01T00:00:00Z");
     private final OpenApiValidationFilter validationFilter = new OpenApiValidationFilter(OPENAPI_SPEC);
@@ -145,13 +158,13 @@ public class GenerateMeditationContractTest {
                 meditationId,
                 compositionId,
                 userId,
-                GenerationStatus.COMPLETED,
+                GenerationStatus.PROCESSING,
                 com.hexagonal.meditation.generation.domain.enums.MediaType.VIDEO,
-                "https://s3.amazonaws.com/meditation-outputs/video.mp4",
-                "https://s3.amazonaws.com/meditation-outputs/subs.srt",
+                null,
+                null,
                 10,
                 FIXED_NOW,
-                FIXED_NOW
+                null
         );
 
         when(generateMeditationContentUseCase.generate(any(GenerationRequest.class)))
@@ -166,6 +179,7 @@ public class GenerateMeditationContractTest {
         .when()
                 .post("/v1/generation/meditations")
         .then()
-                .statusCode(200);
+                .statusCode(202)
+                .header("Location", endsWith("/api/v1/generation/meditations/" + meditationId));
     }
 }
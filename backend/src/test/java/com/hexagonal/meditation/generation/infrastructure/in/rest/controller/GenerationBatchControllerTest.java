@@ -0,0 +1,172 @@
+package com.hexagonal.meditation.generation.infrastructure.in.rest.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hexagonal.meditation.generation.domain.enums.MediaType;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationBatchUseCase;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationBatchUseCase.BatchItemStatus;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationBatchUseCase.BatchState;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationBatchUseCase.BatchStatus;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationBatchUseCase.ItemState;
+import com.hexagonal.meditation.generation.infrastructure.in.rest.dto.GenerateMeditationBatchRequest;
+import com.hexagonal.meditation.generation.infrastructure.in.rest.dto.GenerateMeditationRequest;
+import com.hexagonal.meditation.generation.infrastructure.out.persistence.repository.JpaMeditationOutputRepository;
+import com.hexagonal.meditationbuilder.MeditationBuilderApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for GenerationBatchController.
+ *
+ * Test scenarios:
+ * - Submit batch (202) with per-item status
+ * - Oversized batch rejected by the use case (400)
+ * - Poll batch status (200) and unknown batch (404)
+ */
+@ContextConfiguration(classes = MeditationBuilderApplication.class)
+@WebMvcTest(controllers = GenerationBatchController.class)
+@DisplayName("GenerationBatchController Tests")
+class GenerationBatchControllerTest {
+
+    /**
+     * Test-specific security config (see MeditationGenerationControllerTest).
+     */
+    @TestConfiguration
+    static class TestSecurityConfig {
+        @Bean("testBatchSecurityFilterChain")
+        @Order(Integer.MIN_VALUE)
+        public SecurityFilterChain testFilterChain(HttpSecurity http) throws Exception {
+            http
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED))
+                .authorizeHttpRequests(auth -> auth.anyRequest().authenticated());
+            return http.build();
+        }
+    }
+
+    private static final Instant FIXED_NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private GenerateMeditationBatchUseCase generateMeditationBatchUseCase;
+
+    @MockBean
+    private JpaMeditationOutputRepository jpaMeditationOutputRepository;
+
+    @MockBean
+    private Clock clock;
+
+    @Test
+    @DisplayName("should accept batch and return per-item status")
+    void shouldAcceptBatch() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID batchId = UUID.randomUUID();
+        GenerateMeditationBatchRequest request = new GenerateMeditationBatchRequest(List.of(
+                new GenerateMeditationRequest("Breathe in", "calm-ocean-waves", "sunset"),
+                new GenerateMeditationRequest("Breathe out", "calm-ocean-waves", null)));
+        BatchStatus status = new BatchStatus(batchId, userId, BatchState.PROCESSING, 0, List.of(
+                new BatchItemStatus(0, null, ItemState.QUEUED, 0, MediaType.VIDEO, null, null, null),
+                new BatchItemStatus(1, null, ItemState.QUEUED, 0, MediaType.AUDIO, null, null, null)),
+                FIXED_NOW, null);
+        when(generateMeditationBatchUseCase.submit(eq(userId), anyList())).thenReturn(status);
+
+        mockMvc.perform(post("/v1/generation/batches")
+                        .with(csrf()).with(authentication(new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of())))
+                        .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.batchId").value(batchId.toString()))
+                .andExpect(jsonPath("$.status").value("PROCESSING"))
+                .andExpect(jsonPath("$.totalItems").value(2))
+                .andExpect(jsonPath("$.items[0].status").value("QUEUED"))
+                .andExpect(jsonPath("$.items[0].type").value("VIDEO"))
+                .andExpect(jsonPath("$.items[1].type").value("AUDIO"));
+    }
+
+    @Test
+    @DisplayName("should return 400 when the use case rejects the batch")
+    void shouldRejectInvalidBatch() throws Exception {
+        UUID userId = UUID.randomUUID();
+        GenerateMeditationBatchRequest request = new GenerateMeditationBatchRequest(List.of(
+                new GenerateMeditationRequest("Breathe in", "calm-ocean-waves", null)));
+        when(generateMeditationBatchUseCase.submit(any(), anyList()))
+                .thenThrow(new IllegalArgumentException("Batch exceeds maximum size of 0 items (got 1)"));
+
+        mockMvc.perform(post("/v1/generation/batches")
+                        .with(csrf()).with(authentication(new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of())))
+                        .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("INVALID_BATCH"));
+    }
+
+    @Test
+    @DisplayName("should return batch status with aggregate progress")
+    void shouldReturnBatchStatus() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID batchId = UUID.randomUUID();
+        UUID meditationId = UUID.randomUUID();
+        BatchStatus status = new BatchStatus(batchId, userId, BatchState.COMPLETED_WITH_ERRORS, 100, List.of(
+                new BatchItemStatus(0, meditationId, ItemState.COMPLETED, 100, MediaType.AUDIO,
+                        "https://s3.amazonaws.com/meditation/audio.mp3", "https://s3.amazonaws.com/meditation/subs.srt", null),
+                new BatchItemStatus(1, null, ItemState.FAILED, 100, MediaType.AUDIO, null, null, "Music file not found")),
+                FIXED_NOW, FIXED_NOW);
+        when(generateMeditationBatchUseCase.getStatus(batchId, userId)).thenReturn(Optional.of(status));
+
+        mockMvc.perform(get("/v1/generation/batches/{batchId}", batchId)
+                        .with(authentication(new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED_WITH_ERRORS"))
+                .andExpect(jsonPath("$.percent").value(100))
+                .andExpect(jsonPath("$.completedItems").value(1))
+                .andExpect(jsonPath("$.failedItems").value(1))
+                .andExpect(jsonPath("$.items[0].meditationId").value(meditationId.toString()))
+                .andExpect(jsonPath("$.items[1].message").value("Music file not found"));
+    }
+
+    @Test
+    @DisplayName("should return 404 for unknown batch")
+    void shouldReturn404ForUnknownBatch() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID batchId = UUID.randomUUID();
+        when(generateMeditationBatchUseCase.getStatus(batchId, userId)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/v1/generation/batches/{batchId}", batchId)
+                        .with(authentication(new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of()))))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("BATCH_NOT_FOUND"));
+    }
+}
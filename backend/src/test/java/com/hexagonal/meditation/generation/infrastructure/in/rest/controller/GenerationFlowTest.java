@@ -0,0 +1,315 @@
+package com.hexagonal.meditation.generation.infrastructure.in.rest.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hexagonal.meditation.generation.application.service.CancelMeditationGenerationService;
+import com.hexagonal.meditation.generation.application.service.GenerateMeditationContentService;
+import com.hexagonal.meditation.generation.application.service.GenerateMeditationContentService.AcceptedGeneration;
+import com.hexagonal.meditation.generation.application.service.GenerationJobRegistry;
+import com.hexagonal.meditation.generation.application.service.GenerationScheduler;
+import com.hexagonal.meditation.generation.application.service.ScheduledGenerateMeditationContentService;
+import com.hexagonal.meditation.generation.application.validator.TextLengthEstimator;
+import com.hexagonal.meditation.generation.domain.enums.GenerationStage;
+import com.hexagonal.meditation.generation.domain.enums.GenerationStatus;
+import com.hexagonal.meditation.generation.domain.enums.MediaType;
+import com.hexagonal.meditation.generation.domain.exception.GenerationCancelledException;
+import com.hexagonal.meditation.generation.domain.model.GeneratedMeditationContent;
+import com.hexagonal.meditation.generation.domain.model.GenerationProgress;
+import com.hexagonal.meditation.generation.domain.model.MediaReference;
+import com.hexagonal.meditation.generation.domain.model.NarrationScript;
+import com.hexagonal.meditation.generation.domain.ports.in.CancelMeditationGenerationUseCase;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase.GenerationRequest;
+import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase.GenerationResponse;
+import com.hexagonal.meditation.generation.domain.ports.out.ContentRepositoryPort;
+import com.hexagonal.meditation.generation.domain.ports.out.GenerationHandoffPort;
+import com.hexagonal.meditation.generation.domain.ports.out.GenerationProgressPort;
+import com.hexagonal.meditation.generation.infrastructure.in.rest.dto.GenerateMeditationRequest;
+import com.hexagonal.meditation.generation.infrastructure.in.rest.mapper.MeditationOutputDtoMapper;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.progress.InProcessProgressEventBus;
+import com.hexagonal.meditation.generation.infrastructure.out.persistence.repository.JpaMeditationOutputRepository;
+import com.hexagonal.meditationbuilder.MeditationBuilderApplication;
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Flow tests of an accepted generation across the generation endpoints.
+ *
+ * Both controllers run on the real scheduled use case, fair-share scheduler,
+ * job registry, progress bus and cancel service; only the pipeline
+ * ({@link GenerateMeditationContentService}) and the repository are mocked.
+ * Scheduled jobs wait in {@link #WORKERS} until the test runs them, so a
+ * client can act on the ID from the POST while the generation is PROCESSING.
+ *
+ * Test scenarios:
+ * - Progress: SSE subscribed after the POST receives stage and percentage events
+ * - Cancel: DELETE with the ID from the POST stops the generation while it renders
+ *
+ * Authentication: Bypassed via SecurityMockMvcRequestPostProcessors in each test.
+ */
+@ContextConfiguration(classes = MeditationBuilderApplication.class)
+@WebMvcTest(controllers = {MeditationGenerationController.class, GenerationProgressController.class})
+@Import({MeditationOutputDtoMapper.class, GenerationFlowTest.FlowConfig.class})
+@DisplayName("Generation flow Tests")
+class GenerationFlowTest {
+
+    private static final String NARRATION =
+            "Close your eyes and take a slow deep breath. Feel the air fill your lungs and let every thought drift away.";
+
+    /** Jobs dispatched by the scheduler, run by the test. */
+    private static final BlockingQueue<Runnable> WORKERS = new LinkedBlockingQueue<>();
+
+    @TestConfiguration
+    static class FlowConfig {
+
+        @Bean("testGenerationSecurityFilterChain")
+        @Order(Integer.MIN_VALUE)
+        public SecurityFilterChain testFilterChain(HttpSecurity http) throws Exception {
+            http
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED))
+                .authorizeHttpRequests(auth -> auth.anyRequest().authenticated());
+            return http.build();
+        }
+
+        @Bean
+        public Clock clock() {
+            return Clock.systemUTC();
+        }
+
+        @Bean
+        public GenerationProgressPort generationProgressPort() {
+            return new InProcessProgressEventBus();
+        }
+
+        @Bean
+        public GenerationJobRegistry generationJobRegistry() {
+            return new GenerationJobRegistry();
+        }
+
+        @Bean
+        public GenerationScheduler generationScheduler() {
+            return new GenerationScheduler(WORKERS::add, 2, 1, 60, new SimpleMeterRegistry());
+        }
+
+        @Bean
+        public GenerateMeditationContentUseCase generateMeditationContentUseCase(
+                GenerateMeditationContentService pipeline,
+                GenerationScheduler generationScheduler,
+                GenerationHandoffPort generationHandoffPort,
+                Clock clock) {
+            return new ScheduledGenerateMeditationContentService(pipeline, generationScheduler,
+                    new TextLengthEstimator(), generationHandoffPort, clock);
+        }
+
+        @Bean
+        public CancelMeditationGenerationUseCase cancelMeditationGenerationUseCase(
+                ContentRepositoryPort contentRepositoryPort,
+                GenerationJobRegistry generationJobRegistry,
+                GenerationProgressPort generationProgressPort,
+                Clock clock) {
+            return new CancelMeditationGenerationService(contentRepositoryPort, generationJobRegistry,
+                    generationProgressPort, clock);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private GenerationProgressPort generationProgressPort;
+
+    @Autowired
+    private GenerationJobRegistry generationJobRegistry;
+
+    @Autowired
+    private Clock clock;
+
+    @MockBean
+    private GenerateMeditationContentService pipeline;
+
+    @MockBean
+    private ContentRepositoryPort contentRepositoryPort;
+
+    @MockBean
+    private GenerationHandoffPort generationHandoffPort;
+
+    @MockBean
+    private JpaMeditationOutputRepository jpaMeditationOutputRepository;
+
+    private final UUID userId = UUID.randomUUID();
+    private final Map<UUID, GeneratedMeditationContent> rows = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        WORKERS.clear();
+        when(contentRepositoryPort.save(any())).thenAnswer(inv -> {
+            GeneratedMeditationContent content = inv.getArgument(0);
+            rows.put(content.meditationId(), content);
+            return content;
+        });
+        when(contentRepositoryPort.findById(any()))
+                .thenAnswer(inv -> Optional.ofNullable(rows.get(inv.<UUID>getArgument(0))));
+        when(contentRepositoryPort.cancelIfProcessing(any(), any())).thenAnswer(inv -> {
+            GeneratedMeditationContent row = rows.get(inv.<UUID>getArgument(0));
+            if (row == null || row.status() != GenerationStatus.PROCESSING) {
+                return false;
+            }
+            rows.put(row.meditationId(), row.markCancelled(clock));
+            return true;
+        });
+        when(pipeline.accept(any())).thenAnswer(inv -> {
+            GenerationRequest request = inv.getArgument(0);
+            GeneratedMeditationContent saved = contentRepositoryPort.save(GeneratedMeditationContent.createAudio(
+                    UUID.randomUUID(), request.compositionId(), request.userId(), "flow-" + UUID.randomUUID(),
+                    new NarrationScript(request.narrationText()), clock));
+            return new AcceptedGeneration(new GenerationResponse(saved.meditationId(), saved.compositionId(),
+                    saved.userId(), GenerationStatus.PROCESSING, MediaType.AUDIO, null, null, 8,
+                    saved.createdAt(), null), true);
+        });
+    }
+
+    @Test
+    @DisplayName("should stream stage and percentage events to a client subscribed with the ID from the POST")
+    void shouldStreamProgressOfAcceptedGeneration() throws Exception {
+        // Given: the generation is accepted and waits for a worker
+        UUID meditationId = postGeneration();
+        doAnswer(inv -> {
+            generationProgressPort.publish(GenerationProgress.stageStarted(meditationId, GenerationStage.VOICE_SYNTHESIS, clock));
+            generationProgressPort.publish(GenerationProgress.stageProgress(meditationId, GenerationStage.RENDERING, 0.5, clock));
+            contentRepositoryPort.save(rows.get(meditationId).markCompleted(
+                    new MediaReference("https://s3.amazonaws.com/meditation/audio.mp3"),
+                    new MediaReference("https://s3.amazonaws.com/meditation/subs.srt"), 30, clock));
+            generationProgressPort.publish(GenerationProgress.completed(meditationId, clock));
+            return Optional.empty();
+        }).when(pipeline).runAccepted(eq(meditationId), any());
+
+        // When: the client subscribes while the meditation is PROCESSING, then the job runs
+        MvcResult stream = mockMvc.perform(get("/v1/generation/meditations/{id}/events", meditationId)
+                        .with(user()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(rows.get(meditationId).status()).isEqualTo(GenerationStatus.PROCESSING);
+        WORKERS.take().run();
+        stream.getAsyncResult(5_000);
+
+        // Then
+        String events = stream.getResponse().getContentAsString();
+        assertThat(events)
+                .contains("event:progress")
+                .contains("\"stage\":\"VOICE_SYNTHESIS\"")
+                .contains("\"percent\":" + GenerationStage.VOICE_SYNTHESIS.percentAt(0.0))
+                .contains("\"stage\":\"RENDERING\"")
+                .contains("\"percent\":" + GenerationStage.RENDERING.percentAt(0.5))
+                .contains("\"status\":\"COMPLETED\"");
+        assertThat(events.indexOf("VOICE_SYNTHESIS")).isLessThan(events.indexOf("RENDERING"));
+        assertThat(events.indexOf("RENDERING")).isLessThan(events.indexOf("COMPLETED"));
+    }
+
+    @Test
+    @DisplayName("should cancel a generation still rendering, identified by the ID from the POST")
+    void shouldCancelRunningGenerationByAcceptedId() throws Exception {
+        // Given: the accepted generation is rendering on a worker
+        UUID meditationId = postGeneration();
+        CountDownLatch rendering = new CountDownLatch(1);
+        doAnswer(inv -> {
+            GenerationJobRegistry.RunningJob job = generationJobRegistry.register(meditationId, inv.getArgument(1), null);
+            try {
+                job.reach(GenerationStage.RENDERING);
+                generationProgressPort.publish(GenerationProgress.stageStarted(meditationId, GenerationStage.RENDERING, clock));
+                rendering.countDown();
+                while (!job.token().isCancelled()) {
+                    Thread.sleep(5);
+                }
+                throw new GenerationCancelledException(meditationId);
+            } finally {
+                generationJobRegistry.unregister(job);
+            }
+        }).when(pipeline).runAccepted(eq(meditationId), any());
+        Thread worker = new Thread(WORKERS.take());
+        worker.setDaemon(true);
+        worker.start();
+        assertThat(rendering.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        mockMvc.perform(delete("/v1/generation/meditations/{id}", meditationId)
+                        .with(csrf()).with(user()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.meditationId").value(meditationId.toString()))
+                .andExpect(jsonPath("$.status").value("CANCELLED"));
+
+        // Then: the pipeline has stopped and the meditation stays CANCELLED
+        worker.join(5_000);
+        assertThat(worker.isAlive()).isFalse();
+        assertThat(generationJobRegistry.runningCount()).isZero();
+        assertThat(rows.get(meditationId).status()).isEqualTo(GenerationStatus.CANCELLED);
+        mockMvc.perform(get("/v1/generation/meditations/{id}", meditationId).with(user()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CANCELLED"));
+    }
+
+    /**
+     * POST a generation and return the meditation ID it was accepted with.
+     */
+    private UUID postGeneration() throws Exception {
+        MvcResult accepted = mockMvc.perform(post("/v1/generation/meditations")
+                        .with(csrf()).with(user())
+                        .header("X-Composition-ID", UUID.randomUUID().toString())
+                        .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new GenerateMeditationRequest(NARRATION, "calm-ocean-waves", null))))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.status").value("PROCESSING"))
+                .andReturn();
+        return UUID.fromString(JsonPath.read(accepted.getResponse().getContentAsString(), "$.meditationId"));
+    }
+
+    private RequestPostProcessor user() {
+        return authentication(new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of()));
+    }
+}
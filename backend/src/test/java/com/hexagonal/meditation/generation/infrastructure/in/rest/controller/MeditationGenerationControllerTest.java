@@ -3,7 +3,14 @@ package com.hexagonal.meditation.generation.infrastructure.in.rest.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hexagonal.meditation.generation.domain.enums.GenerationStatus;
 import com.hexagonal.meditation.generation.domain.exception.GenerationTimeoutException;
+import com.hexagonal.meditation.generation.domain.exception.GenerationUnavailableException;
 import com.hexagonal.meditation.generation.domain.exception.InvalidContentException;
+import com.hexagonal.meditation.generation.domain.model.GeneratedMeditationContent;
+import com.hexagonal.meditation.generation.domain.model.MediaReference;
+import com.hexagonal.meditation.generation.domain.model.NarrationScript;
+import com.hexagonal.meditation.generation.domain.ports.in.CancelMeditationGenerationUseCase;
+import com.hexagonal.meditation.generation.domain.ports.in.CancelMeditationGenerationUseCase.CancellationResult;
+import com.hexagonal.meditation.generation.domain.ports.in.CancelMeditationGenerationUseCase.Outcome;
 import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase;
 import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase.GenerationRequest;
 import com.hexagonal.meditation.generation.domain.ports.in.GenerateMeditationContentUseCase.GenerationResponse;
@@ -32,13 +39,18 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.endsWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -49,11 +61,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Mocks GenerateMeditationContentUseCase to isolate controller logic.
  * 
  * Test scenarios:
- * - Happy path: VIDEO generation (with image)
- * - Happy path: AUDIO generation (without image)
+ * - Happy path: VIDEO generation accepted (202 with Location, PROCESSING)
+ * - Idempotent: finished AUDIO generation of an identical request (200)
  * - Error: Processing timeout (408)
  * - Error: Invalid content (400)
  * - Error: External service failure (503)
+ * - Error: Node draining before shutdown (503 with Retry-After)
+ * - Cancel: DELETE in-flight generation (200), unknown (404), finished (409)
+ * - Status: GET in-progress generation exposes the preview URL
  * 
  * Authentication: Bypassed via SecurityMockMvcRequestPostProcessors in each test.
  */
@@ -92,6 +107,9 @@ class MeditationGenerationControllerTest {
     @MockBean
     private GenerateMeditationContentUseCase generateMeditationContentUseCase;
 
+    @MockBean
+    private CancelMeditationGenerationUseCase cancelMeditationGenerationUseCase;
+
     @MockBean
     private ContentRepositoryPort contentRepositoryPort;
 
@@ -106,7 +124,7 @@ class MeditationGenerationControllerTest {
     class GenerateMeditationContent {
 
         @Test
-        @DisplayName("should generate VIDEO when image reference is provided")
+        @DisplayName("should accept VIDEO generation with 202, the meditation ID and its Location")
         void shouldGenerateVideoWhenImageReferenceIsProvided() throws Exception {
             // Given
             UUID userId = UUID.randomUUID();
@@ -123,13 +141,13 @@ class MeditationGenerationControllerTest {
                     meditationId,
                     compositionId,
                     userId,
-                    GenerationStatus.COMPLETED,
+                    GenerationStatus.PROCESSING,
                     com.hexagonal.meditation.generation.domain.enums.MediaType.VIDEO,
-                    "https://s3.amazonaws.com/meditation-outputs/generation/user-123/video.mp4",
-                    "https://s3.amazonaws.com/meditation-outputs/generation/user-123/subs.srt",
+                    null,
+                    null,
                     180,
                     FIXED_NOW,
-                    FIXED_NOW
+                    null
             );
 
             when(generateMeditationContentUseCase.generate(any(GenerationRequest.class)))
@@ -141,18 +159,18 @@ class MeditationGenerationControllerTest {
                             .header("X-Composition-ID", compositionId.toString())
                             .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(request)))
-                    .andExpect(status().isOk())
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string("Location", endsWith("/v1/generation/meditations/" + meditationId)))
                     .andExpect(jsonPath("$.meditationId").value(meditationId.toString()))
                     .andExpect(jsonPath("$.type").value("VIDEO"))
-                    .andExpect(jsonPath("$.mediaUrl").value(domainResponse.mediaUrl()))
-                    .andExpect(jsonPath("$.subtitleUrl").value(domainResponse.subtitleUrl()))
+                    .andExpect(jsonPath("$.mediaUrl").doesNotExist())
                     .andExpect(jsonPath("$.durationSeconds").value(180))
-                    .andExpect(jsonPath("$.status").value("COMPLETED"))
-                    .andExpect(jsonPath("$.message").value("Generation completed successfully"));
+                    .andExpect(jsonPath("$.status").value("PROCESSING"))
+                    .andExpect(jsonPath("$.message").value("Generation in progress"));
         }
 
         @Test
-        @DisplayName("should generate AUDIO when image reference is null")
+        @DisplayName("should return 200 with the finished AUDIO meditation of an identical request")
         void shouldGenerateAudioWhenImageReferenceIsNull() throws Exception {
             // Given
             UUID userId = UUID.randomUUID();
@@ -188,6 +206,7 @@ class MeditationGenerationControllerTest {
                             .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(request)))
                     .andExpect(status().isOk())
+                    .andExpect(header().string("Location", endsWith("/v1/generation/meditations/" + meditationId)))
                     .andExpect(jsonPath("$.meditationId").value(meditationId.toString()))
                     .andExpect(jsonPath("$.type").value("AUDIO"))
                     .andExpect(jsonPath("$.mediaUrl").value(domainResponse.mediaUrl()))
@@ -277,6 +296,33 @@ class MeditationGenerationControllerTest {
                     .andExpect(jsonPath("$.message").value("An error occurred during generation: TTS service unavailable"));
         }
 
+        @Test
+        @DisplayName("should return 503 with Retry-After when the node is draining")
+        void shouldReturn503WithRetryAfterWhenDraining() throws Exception {
+            // Given
+            UUID userId = UUID.randomUUID();
+            UUID compositionId = UUID.randomUUID();
+
+            GenerateMeditationRequest request = new GenerateMeditationRequest(
+                    "Meditation text",
+                    "calm-music",
+                    null
+            );
+
+            when(generateMeditationContentUseCase.generate(any(GenerationRequest.class)))
+                    .thenThrow(new GenerationUnavailableException());
+
+            // When/Then
+            mockMvc.perform(post("/v1/generation/meditations")
+                            .with(csrf()).with(authentication(new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of())))
+                            .header("X-Composition-ID", compositionId.toString())
+                            .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", String.valueOf(GenerationUnavailableException.RETRY_AFTER_SECONDS)))
+                    .andExpect(jsonPath("$.error").value("GENERATION_UNAVAILABLE"));
+        }
+
         @Test
         @DisplayName("should return 400 bad request when request validation fails (blank text)")
         void shouldReturn400BadRequestWhenRequestValidationFails() throws Exception {
@@ -299,4 +345,105 @@ class MeditationGenerationControllerTest {
                     .andExpect(status().isBadRequest());
         }
     }
+
+    @Nested
+    @DisplayName("DELETE /v1/generation/meditations/{meditationId}")
+    class CancelMeditationGeneration {
+
+        @Test
+        @DisplayName("should return 200 with CANCELLED status when generation is in flight")
+        void shouldCancelInFlightGeneration() throws Exception {
+            // Given
+            UUID userId = UUID.randomUUID();
+            UUID meditationId = UUID.randomUUID();
+            Clock fixedClock = Clock.fixed(FIXED_NOW, ZoneOffset.UTC);
+            GeneratedMeditationContent cancelled = GeneratedMeditationContent.createAudio(
+                    meditationId,
+                    UUID.randomUUID(),
+                    userId,
+                    "cancel-key",
+                    new NarrationScript("Breathe in slowly and let your shoulders relax."),
+                    fixedClock
+            ).markCancelled(fixedClock);
+
+            when(cancelMeditationGenerationUseCase.cancel(meditationId, userId))
+                    .thenReturn(new CancellationResult(meditationId, Outcome.CANCELLED, GenerationStatus.CANCELLED));
+            when(contentRepositoryPort.findById(meditationId)).thenReturn(Optional.of(cancelled));
+
+            // When/Then
+            mockMvc.perform(delete("/v1/generation/meditations/{id}", meditationId)
+                            .with(csrf()).with(authentication(new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of()))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.meditationId").value(meditationId.toString()))
+                    .andExpect(jsonPath("$.status").value("CANCELLED"))
+                    .andExpect(jsonPath("$.message").value("Generation cancelled"));
+        }
+
+        @Test
+        @DisplayName("should return 404 when meditation does not exist")
+        void shouldReturn404WhenMeditationNotFound() throws Exception {
+            // Given
+            UUID userId = UUID.randomUUID();
+            UUID meditationId = UUID.randomUUID();
+
+            when(cancelMeditationGenerationUseCase.cancel(meditationId, userId))
+                    .thenReturn(new CancellationResult(meditationId, Outcome.NOT_FOUND, null));
+
+            // When/Then
+            mockMvc.perform(delete("/v1/generation/meditations/{id}", meditationId)
+                            .with(csrf()).with(authentication(new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of()))))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.error").value("MEDITATION_NOT_FOUND"));
+        }
+
+        @Test
+        @DisplayName("should return 409 when generation already finished")
+        void shouldReturn409WhenAlreadyFinished() throws Exception {
+            // Given
+            UUID userId = UUID.randomUUID();
+            UUID meditationId = UUID.randomUUID();
+
+            when(cancelMeditationGenerationUseCase.cancel(meditationId, userId))
+                    .thenReturn(new CancellationResult(meditationId, Outcome.ALREADY_FINISHED, GenerationStatus.COMPLETED));
+
+            // When/Then
+            mockMvc.perform(delete("/v1/generation/meditations/{id}", meditationId)
+                            .with(csrf()).with(authentication(new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of()))))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.error").value("GENERATION_ALREADY_FINISHED"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/generation/meditations/{meditationId}")
+    class GetMeditationStatus {
+
+        @Test
+        @DisplayName("should return preview URL while the full render is in progress")
+        void shouldReturnPreviewUrlWhileProcessing() throws Exception {
+            // Given
+            UUID userId = UUID.randomUUID();
+            UUID meditationId = UUID.randomUUID();
+            Clock fixedClock = Clock.fixed(FIXED_NOW, ZoneOffset.UTC);
+            GeneratedMeditationContent processing = GeneratedMeditationContent.createAudio(
+                    meditationId,
+                    UUID.randomUUID(),
+                    userId,
+                    "preview-key",
+                    new NarrationScript("Breathe in slowly and let your shoulders relax."),
+                    fixedClock
+            ).withPreviewMedia(new MediaReference("https://s3.amazonaws.com/meditation-outputs/generation/preview.mp3"));
+
+            when(contentRepositoryPort.findById(meditationId)).thenReturn(Optional.of(processing));
+
+            // When/Then
+            mockMvc.perform(get("/v1/generation/meditations/{id}", meditationId)
+                            .with(authentication(new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of()))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("PROCESSING"))
+                    .andExpect(jsonPath("$.mediaUrl").doesNotExist())
+                    .andExpect(jsonPath("$.previewUrl").value("https://s3.amazonaws.com/meditation-outputs/generation/preview.mp3"))
+                    .andExpect(jsonPath("$.message").value("Generation in progress, preview available"));
+        }
+    }
 }
@@ -0,0 +1,131 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.artifact;
+
+import com.hexagonal.meditation.generation.domain.enums.PipelineStage;
+import com.hexagonal.meditation.generation.domain.model.StageKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FileSystemArtifactStoreAdapter Tests")
+class FileSystemArtifactStoreAdapterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path root;
+    private Path workDir;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        root = tempDir.resolve("artifacts");
+        workDir = Files.createDirectory(tempDir.resolve("work"));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should restore a stored artifact into the workspace")
+    void shouldRestoreStoredArtifact() throws IOException {
+        FileSystemArtifactStoreAdapter store = new FileSystemArtifactStoreAdapter(root, 1024, meterRegistry);
+        StageKey key = key("narration");
+        Path narration = Files.writeString(tempDir.resolve("narration.mp3"), "narration bytes");
+
+        store.store(key, narration);
+        Optional<Path> restored = store.restore(key, workDir);
+
+        assertThat(restored).isPresent();
+        assertThat(restored.get().getParent()).isEqualTo(workDir);
+        assertThat(restored.get().getFileName().toString()).endsWith(".mp3");
+        assertThat(Files.readString(restored.get())).isEqualTo("narration bytes");
+        assertThat(narration).exists();
+        assertThat(meterRegistry.get("generation.artifacts.lookups").tag("result", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should report a miss for unknown keys")
+    void shouldMissUnknownKey() {
+        FileSystemArtifactStoreAdapter store = new FileSystemArtifactStoreAdapter(root, 1024, meterRegistry);
+
+        assertThat(store.restore(key("unknown"), workDir)).isEmpty();
+        assertThat(meterRegistry.get("generation.artifacts.lookups").tag("result", "miss").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used artifact beyond the size bound")
+    void shouldEvictLeastRecentlyUsed() throws IOException {
+        FileSystemArtifactStoreAdapter store = new FileSystemArtifactStoreAdapter(root, 25, meterRegistry);
+        StageKey first = key("first");
+        StageKey second = key("second");
+        StageKey third = key("third");
+
+        store.store(first, Files.writeString(tempDir.resolve("first.mp3"), "0123456789"));
+        store.store(second, Files.writeString(tempDir.resolve("second.mp3"), "0123456789"));
+        store.restore(first, workDir); // first is now more recent than second
+        store.store(third, Files.writeString(tempDir.resolve("third.mp3"), "0123456789"));
+
+        assertThat(store.restore(second, workDir)).isEmpty();
+        assertThat(store.restore(first, workDir)).isPresent();
+        assertThat(store.restore(third, workDir)).isPresent();
+        assertThat(store.totalBytes()).isEqualTo(20);
+        assertThat(meterRegistry.get("generation.artifacts.bytes").gauge().value()).isEqualTo(20.0);
+    }
+
+    @Test
+    @DisplayName("Should skip artifacts larger than the whole store")
+    void shouldSkipOversizedArtifact() throws IOException {
+        FileSystemArtifactStoreAdapter store = new FileSystemArtifactStoreAdapter(root, 5, meterRegistry);
+        StageKey key = key("render");
+
+        store.store(key, Files.writeString(tempDir.resolve("render.mp4"), "0123456789"));
+
+        assertThat(store.restore(key, workDir)).isEmpty();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep artifacts across restarts and drop leftovers of interrupted stores")
+    void shouldReloadIndexOnStartup() throws IOException {
+        StageKey key = key("music");
+        new FileSystemArtifactStoreAdapter(root, 1024, meterRegistry)
+                .store(key, Files.writeString(tempDir.resolve("music.mp3"), "music bytes"));
+        Path leftover = Files.writeString(root.resolve("TTS-abc.mp3.partial-123"), "partial");
+
+        FileSystemArtifactStoreAdapter restarted = new FileSystemArtifactStoreAdapter(root, 1024, new SimpleMeterRegistry());
+
+        assertThat(restarted.size()).isEqualTo(1);
+        assertThat(restarted.totalBytes()).isEqualTo("music bytes".length());
+        assertThat(restarted.restore(key, workDir)).map(Files::exists).contains(true);
+        assertThat(leftover).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should forget artifacts deleted from disk")
+    void shouldForgetArtifactDeletedFromDisk() throws IOException {
+        FileSystemArtifactStoreAdapter store = new FileSystemArtifactStoreAdapter(root, 1024, meterRegistry);
+        StageKey key = key("image");
+        store.store(key, Files.writeString(tempDir.resolve("image.png"), "image bytes"));
+        try (var files = Files.list(root)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+
+        assertThat(store.restore(key, workDir)).isEmpty();
+        assertThat(store.size()).isZero();
+        assertThat(store.totalBytes()).isZero();
+    }
+
+    private static StageKey key(String input) {
+        return StageKey.derive(PipelineStage.MUSIC_PREP, List.of(), input);
+    }
+}
@@ -3,12 +3,16 @@ package com.hexagonal.meditation.generation.infrastructure.out.adapter.ffmpeg;
 import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort.AudioRenderRequest;
 import com.hexagonal.meditation.generation.infrastructure.config.FfmpegConfig;
 import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort.AudioConfig;
+import com.hexagonal.meditation.generation.domain.ports.out.AudioRenderingPort.AudioProfile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -104,4 +108,82 @@ class FfmpegAudioRendererAdapterTest {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessageContaining("Output path cannot be null");
     }
+
+    @Test
+    @DisplayName("Should reject non-positive preview duration")
+    void shouldRejectNonPositivePreviewDuration() {
+        AudioRenderRequest request = new AudioRenderRequest(
+            tempDir.resolve("narration.mp3"),
+            tempDir.resolve("music.mp3"),
+            tempDir.resolve("preview.mp3"),
+            AudioConfig.previewAudio()
+        );
+        
+        assertThatThrownBy(() -> adapter.renderPreview(request, 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Preview duration must be positive");
+    }
+
+    @Test
+    @DisplayName("Should mix WAV inputs in the JVM and remove the intermediate mix")
+    void shouldMixWavInputsInJvm() throws Exception {
+        Path narrationPath = tempDir.resolve("narration.wav");
+        Path musicPath = tempDir.resolve("music.wav");
+        createDummyWav(narrationPath, "mono");
+        createDummyWav(musicPath, "stereo");
+        Path outputPath = tempDir.resolve("output-pcm.mp3");
+        
+        Path result = adapter.renderAudio(new AudioRenderRequest(
+            narrationPath,
+            musicPath,
+            outputPath,
+            AudioConfig.meditationAudio()
+        ));
+        
+        assertThat(result).isEqualTo(outputPath);
+        assertThat(outputPath).exists();
+        assertThat(tempDir.resolve("output-pcm.mp3.mix.wav")).doesNotExist();
+    }
+    
+    private void createDummyWav(Path path, String layout) throws Exception {
+        new ProcessBuilder(
+            "ffmpeg", "-y", "-f", "lavfi", "-i", "anullsrc=r=48000:cl=" + layout, "-t", "0.5",
+            "-c:a", "pcm_s16le", path.toAbsolutePath().toString()
+        ).start().waitFor();
+        assertThat(Files.exists(path)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep the encoder defaults for MP3")
+    void shouldKeepMp3Defaults() {
+        List<String> command = new ArrayList<>();
+        
+        FfmpegAudioRendererAdapter.addEncoding(command, AudioConfig.meditationAudio());
+        
+        assertThat(command).containsExactly("-ar", "48000", "-ac", "2");
+    }
+    
+    @Test
+    @DisplayName("Should encode AAC in MP4 with the index up front")
+    void shouldEncodeFastStartAac() {
+        List<String> command = new ArrayList<>();
+        
+        FfmpegAudioRendererAdapter.addEncoding(command,
+            AudioConfig.meditationAudio().withProfile(AudioProfile.AAC_MP4));
+        
+        assertThat(command).containsExactly("-ar", "48000", "-ac", "2",
+            "-c:a", "aac", "-b:a", "96k", "-movflags", "+faststart");
+    }
+    
+    @Test
+    @DisplayName("Should encode Opus at 48kHz whatever the configured rate")
+    void shouldEncodeOpusAt48kHz() {
+        List<String> command = new ArrayList<>();
+        
+        FfmpegAudioRendererAdapter.addEncoding(command,
+            new AudioConfig(44100, 1, -12.0, AudioProfile.OPUS_WEBM));
+        
+        assertThat(command).containsExactly("-ar", "48000", "-ac", "1",
+            "-c:a", "libopus", "-b:a", "40k", "-application", "audio");
+    }
 }
@@ -0,0 +1,109 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.ffmpeg;
+
+import com.hexagonal.meditation.generation.domain.enums.MediaType;
+import com.hexagonal.meditation.generation.domain.ports.out.StreamPackagingPort.PackagingRequest;
+import com.hexagonal.meditation.generation.domain.ports.out.StreamPackagingPort.Variant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FfmpegHlsPackagerAdapter Tests")
+class FfmpegHlsPackagerAdapterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final FfmpegHlsPackagerAdapter adapter = new FfmpegHlsPackagerAdapter("ffmpeg", 6);
+
+    @Test
+    @DisplayName("Should stream-copy video into fMP4 segments")
+    void shouldStreamCopyVideo() {
+        List<String> command = adapter.command(new PackagingRequest(
+            tempDir.resolve("output.mp4"), MediaType.VIDEO, tempDir.resolve("hls")));
+
+        String joined = String.join(" ", command);
+        assertThat(joined).contains("-map 0:v -map 0:a -c copy");
+        assertThat(joined).contains("-f hls -hls_time 6.000 -hls_playlist_type vod -hls_segment_type fmp4");
+        assertThat(joined).contains("-hls_fmp4_init_filename init.mp4");
+        assertThat(joined).contains("-master_pl_name master.m3u8");
+        assertThat(command).contains(tempDir.resolve("hls").resolve("seg-%05d.m4s").toAbsolutePath().toString());
+        assertThat(command.get(command.size() - 1))
+            .isEqualTo(tempDir.resolve("hls").resolve("index.m3u8").toAbsolutePath().toString());
+    }
+
+    @Test
+    @DisplayName("Should re-encode MP3 audio to AAC")
+    void shouldReencodeAudio() {
+        List<String> command = adapter.command(new PackagingRequest(
+            tempDir.resolve("output.mp3"), MediaType.AUDIO, tempDir.resolve("hls")));
+
+        assertThat(String.join(" ", command)).contains("-map 0:a -c:a aac -b:a 128k");
+        assertThat(command).doesNotContain("0:v", "copy");
+    }
+
+    @Test
+    @DisplayName("Should stream-copy AAC audio")
+    void shouldStreamCopyAacAudio() {
+        List<String> command = adapter.command(new PackagingRequest(
+            tempDir.resolve("output.m4a"), MediaType.AUDIO, tempDir.resolve("hls")));
+
+        assertThat(String.join(" ", command)).contains("-map 0:a -c copy");
+        assertThat(command).doesNotContain("aac");
+    }
+
+    @Test
+    @DisplayName("Should remux every rendition as a variant stream of one master playlist")
+    void shouldPackageRenditionLadder() {
+        List<String> command = adapter.command(new PackagingRequest(
+            tempDir.resolve("output.mp4"), MediaType.VIDEO, tempDir.resolve("hls"), List.of(
+                new Variant("480p", tempDir.resolve("output-480p.mp4"), false),
+                new Variant("audio", tempDir.resolve("output-audio.m4a"), true))));
+
+        String joined = String.join(" ", command);
+        assertThat(joined).contains("-i " + tempDir.resolve("output-480p.mp4").toAbsolutePath()
+            + " -i " + tempDir.resolve("output-audio.m4a").toAbsolutePath());
+        assertThat(joined).contains("-map 0:v -map 0:a -map 1:v -map 1:a -map 2:a -c copy");
+        assertThat(command.get(command.indexOf("-var_stream_map") + 1))
+            .isEqualTo("v:0,a:0,name:main v:1,a:1,name:480p a:2,name:audio");
+        assertThat(joined).contains("-hls_fmp4_init_filename init-%v.mp4");
+        assertThat(command).contains(tempDir.resolve("hls").resolve("seg-%v-%05d.m4s").toAbsolutePath().toString());
+        assertThat(command.get(command.size() - 1))
+            .isEqualTo(tempDir.resolve("hls").resolve("index-%v.m3u8").toAbsolutePath().toString());
+    }
+
+    @Test
+    @DisplayName("Should list segments first and the master playlist last")
+    void shouldOrderPackageFiles() throws IOException {
+        for (String name : List.of("master.m3u8", "seg-00001.m4s", "index.m3u8", "init.mp4", "seg-00000.m4s")) {
+            Files.writeString(tempDir.resolve(name), name);
+        }
+
+        assertThat(FfmpegHlsPackagerAdapter.packageFiles(tempDir)).containsExactly(
+            Path.of("init.mp4"), Path.of("seg-00000.m4s"), Path.of("seg-00001.m4s"),
+            Path.of("index.m3u8"), Path.of("master.m3u8"));
+    }
+
+    @Test
+    @DisplayName("Should fail when no master playlist was written")
+    void shouldFailWithoutMasterPlaylist() throws IOException {
+        Files.writeString(tempDir.resolve("seg-00000.m4s"), "segment");
+
+        assertThatThrownBy(() -> FfmpegHlsPackagerAdapter.packageFiles(tempDir))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("master playlist");
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive segment durations")
+    void shouldRejectInvalidSegmentDuration() {
+        assertThatThrownBy(() -> new FfmpegHlsPackagerAdapter("ffmpeg", 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
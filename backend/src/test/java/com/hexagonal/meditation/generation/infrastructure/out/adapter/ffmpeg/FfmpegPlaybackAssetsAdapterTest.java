@@ -0,0 +1,60 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.ffmpeg;
+
+import com.hexagonal.meditation.generation.domain.ports.out.PlaybackAssetsPort.PosterRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FfmpegPlaybackAssetsAdapter Tests")
+class FfmpegPlaybackAssetsAdapterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final FfmpegPlaybackAssetsAdapter adapter = new FfmpegPlaybackAssetsAdapter("ffmpeg", 100, 640);
+
+    @Test
+    @DisplayName("Should decode the first audio stream to low-rate mono PCM on stdout")
+    void shouldDecodeToMonoPcm() {
+        List<String> command = adapter.waveformCommand(tempDir.resolve("output.mp4"));
+
+        assertThat(String.join(" ", command))
+            .contains("-map 0:a:0 -ac 1 -ar 8000 -f s16le pipe:1");
+        assertThat(command.get(command.size() - 1)).isEqualTo("pipe:1");
+    }
+
+    @Test
+    @DisplayName("Should grab one scaled JPEG frame a little into the video")
+    void shouldGrabOneFrame() {
+        List<String> command = adapter.posterCommand(new PosterRequest(
+            tempDir.resolve("output.mp4"), tempDir.resolve("poster.jpg"), 600));
+
+        String joined = String.join(" ", command);
+        assertThat(joined).contains("-ss 5.000 -i " + tempDir.resolve("output.mp4").toAbsolutePath());
+        assertThat(joined).contains("-frames:v 1 -vf scale=640:-2 -q:v 3");
+        assertThat(command.get(command.size() - 1))
+            .isEqualTo(tempDir.resolve("poster.jpg").toAbsolutePath().toString());
+    }
+
+    @Test
+    @DisplayName("Should pick the poster position from the duration")
+    void shouldPickPosterPosition() {
+        assertThat(FfmpegPlaybackAssetsAdapter.posterSeconds(600)).isEqualTo(5.0);
+        assertThat(FfmpegPlaybackAssetsAdapter.posterSeconds(20)).isEqualTo(2.0);
+        assertThat(FfmpegPlaybackAssetsAdapter.posterSeconds(0)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive settings")
+    void shouldRejectInvalidSettings() {
+        assertThatThrownBy(() -> new FfmpegPlaybackAssetsAdapter("ffmpeg", 0, 640))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FfmpegPlaybackAssetsAdapter("ffmpeg", 100, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
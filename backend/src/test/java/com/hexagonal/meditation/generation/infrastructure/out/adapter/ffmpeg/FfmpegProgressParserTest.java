@@ -0,0 +1,88 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.ffmpeg;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FfmpegProgressParser Tests")
+class FfmpegProgressParserTest {
+
+    @Test
+    @DisplayName("Should convert out_time_us into fraction of expected duration")
+    void shouldConvertOutTimeToFraction() {
+        List<Double> reported = new ArrayList<>();
+        FfmpegProgressParser parser = new FfmpegProgressParser(100.0, reported::add);
+
+        parser.accept("frame=10");
+        parser.accept("out_time_us=25000000");
+        parser.accept("progress=continue");
+        parser.accept("out_time_ms=50000000");
+
+        assertThat(reported).containsExactly(0.25, 0.5);
+    }
+
+    @Test
+    @DisplayName("Should report at most once per percent")
+    void shouldThrottleReports() {
+        List<Double> reported = new ArrayList<>();
+        FfmpegProgressParser parser = new FfmpegProgressParser(100.0, reported::add);
+
+        parser.accept("out_time_us=10000000");
+        parser.accept("out_time_us=10500000");
+        parser.accept("out_time_us=12000000");
+
+        assertThat(reported).containsExactly(0.10, 0.12);
+    }
+
+    @Test
+    @DisplayName("Should report completion on progress=end")
+    void shouldReportCompletionOnEnd() {
+        List<Double> reported = new ArrayList<>();
+        FfmpegProgressParser parser = new FfmpegProgressParser(100.0, reported::add);
+
+        parser.accept("out_time_us=99500000");
+        parser.accept("progress=end");
+
+        assertThat(reported).last().isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should ignore N/A values and regular log lines")
+    void shouldIgnoreUnparseableLines() {
+        List<Double> reported = new ArrayList<>();
+        FfmpegProgressParser parser = new FfmpegProgressParser(100.0, reported::add);
+
+        parser.accept("out_time_us=N/A");
+        parser.accept("out_time_us=-9223372036854775807");
+        parser.accept("Input #0, mp3, from 'music.mp3':");
+        parser.accept(null);
+
+        assertThat(reported).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should only report completion when expected duration is unknown")
+    void shouldOnlyReportEndWithoutDuration() {
+        List<Double> reported = new ArrayList<>();
+        FfmpegProgressParser parser = new FfmpegProgressParser(0.0, reported::add);
+
+        parser.accept("out_time_us=25000000");
+        parser.accept("progress=end");
+
+        assertThat(reported).containsExactly(1.0);
+    }
+
+    @Test
+    @DisplayName("Should swallow listener failures")
+    void shouldSwallowListenerFailures() {
+        FfmpegProgressParser parser = new FfmpegProgressParser(100.0, fraction -> {
+            throw new IllegalStateException("client gone");
+        });
+
+        assertThatCode(() -> parser.accept("out_time_us=50000000")).doesNotThrowAnyException();
+    }
+}
@@ -1,5 +1,7 @@
 package com.hexagonal.meditation.generation.infrastructure.out.adapter.ffmpeg;
 
+import com.hexagonal.meditation.generation.domain.ports.out.RenderProgressListener;
+import com.hexagonal.meditation.generation.domain.ports.out.VideoRenderingPort.Rendition;
 import com.hexagonal.meditation.generation.domain.ports.out.VideoRenderingPort.VideoRenderRequest;
 import com.hexagonal.meditation.generation.infrastructure.config.FfmpegConfig;
 import com.hexagonal.meditation.generation.domain.ports.out.VideoRenderingPort.VideoConfig;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -169,4 +172,55 @@ class FfmpegVideoRendererAdapterTest {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessageContaining("Output path cannot be null");
     }
+    
+    @Test
+    @DisplayName("Should write every rendition from one split filter graph")
+    void shouldRenderRenditionLadderInOnePass() {
+        Path rendition480 = tempDir.resolve("output-480p.mp4");
+        Path audioTrack = tempDir.resolve("output-audio.m4a");
+        VideoRenderRequest request = new VideoRenderRequest(
+            tempDir.resolve("narration.mp3"),
+            tempDir.resolve("music.mp3"),
+            tempDir.resolve("background.jpg"),
+            tempDir.resolve("subtitles.srt"),
+            tempDir.resolve("output.mp4"),
+            VideoConfig.hdMeditationVideo(),
+            0.0,
+            RenderProgressListener.NONE,
+            List.of(Rendition.video("480p", 854, 480, rendition480), Rendition.audioOnly("audio", audioTrack))
+        );
+        
+        List<String> command = adapter.buildRenderCommand(request, null);
+        
+        assertThat(command).doesNotContain("-vf");
+        assertThat(command).containsOnlyOnce("-filter_complex");
+        String graph = command.get(command.indexOf("-filter_complex") + 1);
+        assertThat(graph).startsWith("[0:v]scale=1280:720,format=yuv420p,subtitles=");
+        assertThat(graph).contains("split=2[v0][vs1];[vs1]scale=854:480[v1]");
+        assertThat(graph).contains("amix=inputs=2:duration=first:dropout_transition=0,asplit=3[a0][a1][a2]");
+        String joined = String.join(" ", command);
+        assertThat(joined).contains("-map [v0] -map [a0] -ar 48000 -ac 2 -shortest "
+            + tempDir.resolve("output.mp4").toAbsolutePath());
+        assertThat(joined).contains("-map [v1] -map [a1] -ar 48000 -ac 2 -shortest " + rendition480.toAbsolutePath());
+        assertThat(joined).endsWith("-map [a2] -c:a aac -b:a 128k -ar 48000 -ac 2 " + audioTrack.toAbsolutePath());
+    }
+    
+    @Test
+    @DisplayName("Should keep the single-output command without renditions")
+    void shouldKeepSingleOutputCommandWithoutRenditions() {
+        VideoRenderRequest request = new VideoRenderRequest(
+            tempDir.resolve("narration.mp3"),
+            tempDir.resolve("music.mp3"),
+            tempDir.resolve("background.jpg"),
+            tempDir.resolve("subtitles.srt"),
+            tempDir.resolve("output.mp4"),
+            VideoConfig.hdMeditationVideo()
+        );
+        
+        List<String> command = adapter.buildRenderCommand(request, null);
+        
+        assertThat(command).contains("-vf");
+        assertThat(String.join(" ", command)).doesNotContain("split");
+        assertThat(command.get(command.size() - 1)).isEqualTo(tempDir.resolve("output.mp4").toAbsolutePath().toString());
+    }
 }
@@ -0,0 +1,63 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.host;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ProcStatHostMetricsAdapter Tests")
+class ProcStatHostMetricsAdapterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should report the steal fraction between two readings")
+    void shouldReportStealDelta() throws IOException {
+        Path procStat = tempDir.resolve("stat");
+        ProcStatHostMetricsAdapter adapter = new ProcStatHostMetricsAdapter(procStat);
+        write(procStat, "cpu  1000 0 500 8000 100 0 0 400 50 0");
+
+        assertThat(adapter.cpuStealFraction()).isEmpty();
+
+        // +600 user, +200 system, +1000 idle, +200 steal; guest (+50) is already in user
+        write(procStat, "cpu  1600 0 700 9000 100 0 0 600 100 0");
+
+        assertThat(adapter.cpuStealFraction().getAsDouble()).isCloseTo(0.1, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Should report nothing when the counters did not move")
+    void shouldReportNothingWithoutProgress() throws IOException {
+        Path procStat = tempDir.resolve("stat");
+        ProcStatHostMetricsAdapter adapter = new ProcStatHostMetricsAdapter(procStat);
+        write(procStat, "cpu  1000 0 500 8000 100 0 0 400 0 0");
+
+        adapter.cpuStealFraction();
+
+        assertThat(adapter.cpuStealFraction()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should report nothing when the file is missing or has no steal column")
+    void shouldReportNothingWhenUnavailable() throws IOException {
+        assertThat(new ProcStatHostMetricsAdapter(tempDir.resolve("missing")).cpuStealFraction()).isEmpty();
+
+        Path procStat = tempDir.resolve("stat");
+        ProcStatHostMetricsAdapter adapter = new ProcStatHostMetricsAdapter(procStat);
+        write(procStat, "cpu  1000 0 500 8000");
+        adapter.cpuStealFraction();
+        write(procStat, "cpu  2000 0 900 9000");
+
+        assertThat(adapter.cpuStealFraction()).isEmpty();
+    }
+
+    private static void write(Path procStat, String cpuLine) throws IOException {
+        Files.writeString(procStat, cpuLine + "\ncpu0 1 2 3 4 5 6 7 8 9 10\nintr 12345\n");
+    }
+}
@@ -0,0 +1,161 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.musicbed;
+
+import com.hexagonal.meditation.generation.domain.ports.out.MusicBedPort.MusicBed;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FfmpegMusicBedAdapter Tests")
+class FfmpegMusicBedAdapterTest {
+
+    private static final String ANALYSIS_OUTPUT = """
+        Input #0, mp3, from 'calm.mp3':
+          Duration: 00:16:40.52, start: 0.025057, bitrate: 192 kb/s
+          Stream #0:0: Audio: mp3, 44100 Hz, stereo, fltp, 192 kb/s
+        [Parsed_loudnorm_0 @ 0x5581] 
+        {
+        \t"input_i" : "-23.41",
+        \t"input_tp" : "-4.02",
+        \t"input_lra" : "6.70",
+        \t"input_thresh" : "-33.86",
+        \t"output_i" : "-16.02",
+        \t"output_tp" : "-1.50",
+        \t"output_lra" : "5.10",
+        \t"output_thresh" : "-26.42",
+        \t"normalization_type" : "dynamic",
+        \t"target_offset" : "0.02"
+        }
+        """;
+
+    @TempDir
+    Path tempDir;
+
+    private final List<Runnable> queued = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private FfmpegMusicBedAdapter adapter;
+    private Path track;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        FfmpegMusicBedAdapter.Settings settings = new FfmpegMusicBedAdapter.Settings(
+            -16, -1.5, 11, List.of(600, 300, 900), 8, 44100, 2);
+        adapter = new FfmpegMusicBedAdapter(tempDir.resolve("beds"), "ffmpeg", settings, queued::add, meterRegistry);
+        track = Files.writeString(tempDir.resolve("calm.mp3"), "track bytes");
+    }
+
+    @Test
+    @DisplayName("Should read the loudnorm measurement and track duration from the analysis pass")
+    void shouldParseAnalysis() throws IOException {
+        FfmpegMusicBedAdapter.LoudnessProfile profile = adapter.parseAnalysis(ANALYSIS_OUTPUT);
+
+        assertThat(profile.integratedLufs()).isEqualTo(-23.41);
+        assertThat(profile.truePeakDb()).isEqualTo(-4.02);
+        assertThat(profile.loudnessRange()).isEqualTo(6.70);
+        assertThat(profile.thresholdLufs()).isEqualTo(-33.86);
+        assertThat(profile.targetOffsetDb()).isEqualTo(0.02);
+        assertThat(profile.sourceDurationSeconds()).isCloseTo(1000.52, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Should reject an analysis without a usable measurement")
+    void shouldRejectSilentAnalysis() {
+        String silent = ANALYSIS_OUTPUT.replace("\"-23.41\"", "\"-inf\"");
+
+        assertThatThrownBy(() -> adapter.parseAnalysis(silent))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("input_i");
+    }
+
+    @Test
+    @DisplayName("Should cut beds to every bucket the track covers, or keep a shorter track whole")
+    void shouldSelectBucketsCoveredByTrack() {
+        assertThat(adapter.bedDurations(1000.52)).containsExactly(300.0, 600.0, 900.0);
+        assertThat(adapter.bedDurations(600.0)).containsExactly(300.0, 600.0);
+        assertThat(adapter.bedDurations(120.0)).containsExactly(120.0);
+    }
+
+    @Test
+    @DisplayName("Should pick the shortest bed covering the narration, else the longest")
+    void shouldPickShortestCoveringBed() {
+        List<Double> beds = List.of(300.0, 600.0, 900.0);
+
+        assertThat(FfmpegMusicBedAdapter.selectBed(beds, 187)).isEqualTo(300.0);
+        assertThat(FfmpegMusicBedAdapter.selectBed(beds, 300)).isEqualTo(300.0);
+        assertThat(FfmpegMusicBedAdapter.selectBed(beds, 700)).isEqualTo(900.0);
+        assertThat(FfmpegMusicBedAdapter.selectBed(beds, 1200)).isEqualTo(900.0);
+    }
+
+    @Test
+    @DisplayName("Should render all beds from a single decode with a fade-out each")
+    void shouldBuildSingleDecodeBedCommand() {
+        FfmpegMusicBedAdapter.LoudnessProfile profile = new FfmpegMusicBedAdapter.LoudnessProfile(
+            -23.41, -4.02, 6.7, -33.86, 0.02, 1000.52, List.of(300.0, 600.0));
+
+        List<String> command = adapter.bedCommand(track, profile,
+            List.of(tempDir.resolve("a.wav"), tempDir.resolve("b.wav")));
+
+        assertThat(command.stream().filter("-i"::equals)).hasSize(1);
+        String filter = command.get(command.indexOf("-filter_complex") + 1);
+        assertThat(filter)
+            .contains("measured_I=-23.41", "linear=true", "asplit=2[s0][s1]")
+            .contains("[s0]atrim=0:300.000,afade=t=out:st=292.000:d=8.000[b0]")
+            .contains("[s1]atrim=0:600.000,afade=t=out:st=592.000:d=8.000[b1]");
+        assertThat(command).containsSubsequence("-map", "[b0]", "pcm_s16le", tempDir.resolve("a.wav").toString());
+        assertThat(command).containsSubsequence("-map", "[b1]", "pcm_s16le", tempDir.resolve("b.wav").toString());
+    }
+
+    @Test
+    @DisplayName("Should find a published bed by track content")
+    void shouldFindPublishedBed() throws IOException {
+        Path directory = Files.createDirectories(tempDir.resolve("beds").resolve(adapter.bedId(track)));
+        Files.writeString(directory.resolve("bed-300s.wav"), "bed");
+        Files.writeString(directory.resolve("bed-600s.wav"), "bed");
+        Files.writeString(directory.resolve(FfmpegMusicBedAdapter.PROFILE_FILE), """
+            {"integratedLufs":-23.41,"truePeakDb":-4.02,"loudnessRange":6.7,"thresholdLufs":-33.86,
+             "targetOffsetDb":0.02,"sourceDurationSeconds":700.0,"bedDurationsSeconds":[300.0,600.0]}
+            """);
+        Path copy = Files.copy(track, tempDir.resolve("downloaded.mp3"));
+
+        Optional<MusicBed> bed = adapter.findBed(copy, 400);
+
+        assertThat(bed).isPresent();
+        assertThat(bed.get().path()).isEqualTo(directory.resolve("bed-600s.wav"));
+        assertThat(bed.get().durationSeconds()).isEqualTo(600.0);
+        assertThat(bed.get().id()).isEqualTo(adapter.bedId(track) + "-600s");
+        assertThat(meterRegistry.get("generation.music_beds.lookups").tag("result", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should miss a track whose beds are not published")
+    void shouldMissUnpreparedTrack() {
+        assertThat(adapter.findBed(track, 60)).isEmpty();
+        assertThat(meterRegistry.get("generation.music_beds.lookups").tag("result", "miss").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should queue a track once and keep a staged copy the caller cannot delete")
+    void shouldQueueTrackOnce() throws IOException {
+        adapter.prepare(track);
+        adapter.prepare(track);
+        Files.delete(track);
+
+        assertThat(queued).hasSize(1);
+        try (var files = Files.list(tempDir.resolve("beds"))) {
+            assertThat(files.map(path -> path.getFileName().toString()))
+                .singleElement()
+                .satisfies(name -> assertThat(name).contains(".source-").endsWith(".mp3"));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm;
+
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm.PcmFormat.SampleEncoding;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm.PcmMixer.MixSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * JMH benchmark: in-JVM PCM mix vs. the FFmpeg {@code amix} filter used by
+ * {@code FfmpegAudioRendererAdapter}, both producing a 16-bit stereo WAV
+ * (the final encode is the same for both and left out).
+ *
+ * Not a unit test (no *Test suffix). Run after {@code mvn test-compile}:
+ * <pre>
+ * mvn -q dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) org.openjdk.jmh.Main PcmMixBenchmark
+ * </pre>
+ * The FFmpeg benchmark needs {@code ffmpeg} on the PATH.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PcmMixBenchmark {
+
+    private static final int SAMPLE_RATE = 48000;
+    private static final PcmFormat OUTPUT_FORMAT = new PcmFormat(SAMPLE_RATE, 2, SampleEncoding.PCM_16);
+    private static final MixSettings AMIX_EQUIVALENT = new MixSettings(
+        20 * Math.log10(0.25), 20 * Math.log10(0.5), 0.0, 0.0);
+
+    @Param({"60", "600"})
+    public int durationSeconds;
+
+    private Path workDir;
+    private Path musicPath;
+    private Path narrationPath;
+    private WavFile music;
+    private WavFile narration;
+    private PcmMixer mixer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        workDir = Files.createTempDirectory("pcm-mix-benchmark-");
+        musicPath = workDir.resolve("music.wav");
+        narrationPath = workDir.resolve("narration.wav");
+        writeSine(musicPath, new PcmFormat(SAMPLE_RATE, 2, SampleEncoding.PCM_16), 220.0, durationSeconds);
+        // LINEAR16 TTS is mono
+        writeSine(narrationPath, new PcmFormat(SAMPLE_RATE, 1, SampleEncoding.PCM_16), 440.0, durationSeconds * 0.8);
+        music = WavFile.map(musicPath);
+        narration = WavFile.map(narrationPath);
+        mixer = new PcmMixer();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(workDir)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public long jvmMix() throws IOException {
+        return mixer.mix(music, narration, workDir.resolve("jvm-mix.wav"), OUTPUT_FORMAT, AMIX_EQUIVALENT);
+    }
+
+    @Benchmark
+    public int ffmpegMix() throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(
+                "ffmpeg", "-y", "-nostats", "-loglevel", "error",
+                "-i", musicPath.toString(),
+                "-i", narrationPath.toString(),
+                "-filter_complex",
+                "[0:a]volume=0.5[music];[1:a]volume=1.0[speech];[music][speech]amix=inputs=2:duration=first:dropout_transition=0[aout]",
+                "-map", "[aout]",
+                "-ar", String.valueOf(SAMPLE_RATE),
+                "-ac", "2",
+                "-c:a", "pcm_s16le",
+                workDir.resolve("ffmpeg-mix.wav").toString())
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        int exitCode = process.waitFor();
+        if (exitCode != 0) {
+            throw new IllegalStateException("FFmpeg exited with " + exitCode);
+        }
+        return exitCode;
+    }
+
+    private static void writeSine(Path path, PcmFormat format, double frequency, double seconds) throws IOException {
+        long frames = format.framesFor(seconds);
+        ByteBuffer block = ByteBuffer.allocate(PcmMixer.DEFAULT_BLOCK_FRAMES * format.frameSize())
+            .order(ByteOrder.LITTLE_ENDIAN);
+        try (WavWriter writer = WavWriter.create(path, format)) {
+            for (long frame = 0; frame < frames; frame++) {
+                short sample = (short) (Math.sin(2 * Math.PI * frequency * frame / format.sampleRate()) * 16000);
+                for (int channel = 0; channel < format.channels(); channel++) {
+                    block.putShort(sample);
+                }
+                if (!block.hasRemaining()) {
+                    block.flip();
+                    writer.write(block);
+                    block.clear();
+                }
+            }
+            block.flip();
+            writer.write(block);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm;
+
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm.PcmFormat.SampleEncoding;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm.PcmMixer.MixSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PcmMixer Tests")
+class PcmMixerTest {
+
+    private static final int RATE = 8000;
+    private static final PcmFormat STEREO_16 = new PcmFormat(RATE, 2, SampleEncoding.PCM_16);
+    private static final MixSettings UNITY = new MixSettings(0.0, 0.0, 0.0, 0.0);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should sum scaled narration over music for the music duration")
+    void shouldMixForMusicDuration() throws IOException {
+        WavFile music = constant("music.wav", new PcmFormat(RATE, 2, SampleEncoding.PCM_16), 100, 0.5f);
+        WavFile narration = constant("narration.wav", new PcmFormat(RATE, 1, SampleEncoding.FLOAT_32), 40, 0.25f);
+        Path output = tempDir.resolve("mix.wav");
+
+        long frames = new PcmMixer(16).mix(music, narration, output, STEREO_16,
+            new MixSettings(-6.0, 0.0, 0.0, 0.0));
+
+        WavFile mixed = WavFile.map(output);
+        assertThat(frames).isEqualTo(100);
+        assertThat(mixed.frames()).isEqualTo(100);
+        assertThat(mixed.format()).isEqualTo(STEREO_16);
+        // -6 dB music under unity narration, mono narration on both channels
+        float musicLevel = (float) (0.5 * PcmMixer.dbToGain(-6.0));
+        assertThat(sampleAt(mixed, 10, 0)).isCloseTo(musicLevel + 0.25f, within(1e-3f));
+        assertThat(sampleAt(mixed, 10, 1)).isCloseTo(musicLevel + 0.25f, within(1e-3f));
+        // Narration ended: music only
+        assertThat(sampleAt(mixed, 80, 0)).isCloseTo(musicLevel, within(1e-3f));
+    }
+
+    @Test
+    @DisplayName("Should cut narration longer than the music")
+    void shouldCutLongNarration() throws IOException {
+        WavFile music = constant("music.wav", STEREO_16, 10, 0.1f);
+        WavFile narration = constant("narration.wav", STEREO_16, 50, 0.1f);
+
+        long frames = new PcmMixer(4).mix(music, narration, tempDir.resolve("mix.wav"), STEREO_16, UNITY);
+
+        assertThat(frames).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should downmix stereo inputs to a mono output")
+    void shouldDownmixToMono() throws IOException {
+        WavFile music = stereo("music.wav", 0.4f, 0.0f, 8);
+        WavFile narration = constant("narration.wav", STEREO_16, 8, 0.0f);
+        PcmFormat mono = new PcmFormat(RATE, 1, SampleEncoding.FLOAT_32);
+        Path output = tempDir.resolve("mix.wav");
+
+        new PcmMixer().mix(music, narration, output, mono, UNITY);
+
+        assertThat(sampleAt(WavFile.map(output), 3, 0)).isCloseTo(0.2f, within(1e-4f));
+    }
+
+    @Test
+    @DisplayName("Should fade the music bed in and out in dB")
+    void shouldFadeMusicBed() throws IOException {
+        WavFile music = constant("music.wav", STEREO_16, RATE, 0.5f);
+        WavFile narration = constant("narration.wav", STEREO_16, 1, 0.0f);
+        Path output = tempDir.resolve("mix.wav");
+
+        new PcmMixer(256).mix(music, narration, output, STEREO_16, new MixSettings(0.0, 0.0, 0.25, 0.25));
+
+        WavFile mixed = WavFile.map(output);
+        int fadeFrames = RATE / 4;
+        assertThat(sampleAt(mixed, 0, 0)).isCloseTo(0.0f, within(1e-3f));
+        // Halfway through the fade: -30 dB
+        assertThat(sampleAt(mixed, fadeFrames / 2, 0))
+            .isCloseTo((float) (0.5 * PcmMixer.dbToGain(-30.0)), within(1e-3f));
+        assertThat(sampleAt(mixed, RATE / 2, 0)).isCloseTo(0.5f, within(1e-3f));
+        assertThat(sampleAt(mixed, RATE - 1, 1)).isCloseTo(0.0f, within(1e-3f));
+    }
+
+    @Test
+    @DisplayName("Should clip instead of wrapping around on overload")
+    void shouldClipOverload() throws IOException {
+        WavFile music = constant("music.wav", STEREO_16, 4, 0.9f);
+        WavFile narration = constant("narration.wav", STEREO_16, 4, 0.9f);
+        Path output = tempDir.resolve("mix.wav");
+
+        new PcmMixer().mix(music, narration, output, STEREO_16, UNITY);
+
+        assertThat(WavFile.map(output).samples().getShort(0)).isEqualTo(Short.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("Should reject inputs at another sample rate")
+    void shouldRejectSampleRateMismatch() throws IOException {
+        WavFile music = constant("music.wav", new PcmFormat(44100, 2, SampleEncoding.PCM_16), 4, 0.1f);
+        WavFile narration = constant("narration.wav", STEREO_16, 4, 0.1f);
+
+        assertThatThrownBy(() -> new PcmMixer().mix(music, narration, tempDir.resolve("mix.wav"), STEREO_16, UNITY))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("44100 Hz");
+    }
+
+    @Test
+    @DisplayName("Should reject negative fades")
+    void shouldRejectNegativeFades() {
+        assertThatThrownBy(() -> new MixSettings(0.0, 0.0, -1.0, 0.0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private WavFile constant(String name, PcmFormat format, int frames, float value) throws IOException {
+        ByteBuffer block = ByteBuffer.allocate(frames * format.frameSize()).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < frames * format.channels(); i++) {
+            if (format.encoding() == SampleEncoding.PCM_16) {
+                block.putShort((short) Math.round(value * 32767));
+            } else {
+                block.putFloat(value);
+            }
+        }
+        return write(name, format, block);
+    }
+
+    private WavFile stereo(String name, float left, float right, int frames) throws IOException {
+        PcmFormat format = new PcmFormat(RATE, 2, SampleEncoding.FLOAT_32);
+        ByteBuffer block = ByteBuffer.allocate(frames * format.frameSize()).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < frames; i++) {
+            block.putFloat(left).putFloat(right);
+        }
+        return write(name, format, block);
+    }
+
+    private WavFile write(String name, PcmFormat format, ByteBuffer block) throws IOException {
+        Path path = tempDir.resolve(name);
+        block.flip();
+        try (WavWriter writer = WavWriter.create(path, format)) {
+            writer.write(block);
+        }
+        return WavFile.map(path);
+    }
+
+    private static float sampleAt(WavFile wav, int frame, int channel) {
+        PcmFormat format = wav.format();
+        int offset = frame * format.frameSize() + channel * format.encoding().bytesPerSample();
+        return format.encoding() == SampleEncoding.PCM_16
+            ? wav.samples().getShort(offset) / 32768f
+            : wav.samples().getFloat(offset);
+    }
+}
@@ -0,0 +1,126 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm;
+
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm.PcmFormat.SampleEncoding;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("WavFile Tests")
+class WavFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should read back what the writer wrote")
+    void shouldRoundTripWriterOutput() throws IOException {
+        Path path = tempDir.resolve("tone.wav");
+        PcmFormat format = new PcmFormat(48000, 2, SampleEncoding.PCM_16);
+        ByteBuffer block = ByteBuffer.allocate(3 * format.frameSize()).order(ByteOrder.LITTLE_ENDIAN);
+        for (short sample : new short[] {1, -1, 1000, -1000, Short.MAX_VALUE, Short.MIN_VALUE}) {
+            block.putShort(sample);
+        }
+        block.flip();
+        try (WavWriter writer = WavWriter.create(path, format)) {
+            writer.write(block);
+        }
+
+        WavFile wav = WavFile.map(path);
+
+        assertThat(wav.format()).isEqualTo(format);
+        assertThat(wav.frames()).isEqualTo(3);
+        assertThat(wav.samples().getShort(8)).isEqualTo(Short.MAX_VALUE);
+        assertThat(Files.size(path)).isEqualTo(WavWriter.HEADER_SIZE + 12);
+        assertThat(WavFile.isWav(path)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should skip unknown chunks before the data chunk")
+    void shouldSkipUnknownChunks() throws IOException {
+        Path path = tempDir.resolve("list.wav");
+        ByteBuffer file = ByteBuffer.allocate(12 + 24 + 14 + 8 + 8).order(ByteOrder.LITTLE_ENDIAN);
+        file.put(ascii("RIFF")).putInt(file.capacity() - 8).put(ascii("WAVE"));
+        file.put(ascii("fmt ")).putInt(16).putShort((short) 3).putShort((short) 1)
+            .putInt(24000).putInt(24000 * 4).putShort((short) 4).putShort((short) 32);
+        // Odd-sized chunk followed by its pad byte
+        file.put(ascii("LIST")).putInt(5).put(new byte[6]);
+        file.put(ascii("data")).putInt(8).putFloat(0.5f).putFloat(-0.25f);
+        Files.write(path, file.array());
+
+        WavFile wav = WavFile.map(path);
+
+        assertThat(wav.format()).isEqualTo(new PcmFormat(24000, 1, SampleEncoding.FLOAT_32));
+        assertThat(wav.frames()).isEqualTo(2);
+        assertThat(wav.samples().getFloat(4)).isEqualTo(-0.25f);
+    }
+
+    @Test
+    @DisplayName("Should clamp an unset data size to the end of the file")
+    void shouldClampStreamedDataSize() throws IOException {
+        Path path = tempDir.resolve("streamed.wav");
+        PcmFormat format = new PcmFormat(16000, 1, SampleEncoding.PCM_16);
+        try (WavWriter writer = WavWriter.create(path, format)) {
+            writer.write(ByteBuffer.allocate(10));
+        }
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(40, -1);
+        Files.write(path, bytes);
+
+        assertThat(WavFile.map(path).frames()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should parse WAV bytes held in memory")
+    void shouldParseInMemoryBytes() throws IOException {
+        Path path = tempDir.resolve("speech.wav");
+        try (WavWriter writer = WavWriter.create(path, new PcmFormat(24000, 1, SampleEncoding.PCM_16))) {
+            writer.write(ByteBuffer.allocate(48000));
+        }
+
+        WavFile wav = WavFile.parse(ByteBuffer.wrap(Files.readAllBytes(path)).asReadOnlyBuffer());
+
+        assertThat(wav.path()).isNull();
+        assertThat(wav.durationSeconds()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not PCM WAV")
+    void shouldRejectNonWav() throws IOException {
+        Path mp3 = Files.write(tempDir.resolve("narration.mp3"), new byte[] {'I', 'D', '3', 4, 0, 0, 0, 0, 0, 0, 0, 0});
+
+        assertThat(WavFile.isWav(mp3)).isFalse();
+        assertThat(WavFile.isWav(tempDir.resolve("missing.wav"))).isFalse();
+        assertThatThrownBy(() -> WavFile.map(mp3))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("Not a WAV file");
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported sample encodings")
+    void shouldRejectUnsupportedEncoding() throws IOException {
+        Path path = tempDir.resolve("mulaw.wav");
+        ByteBuffer file = ByteBuffer.allocate(12 + 24 + 8).order(ByteOrder.LITTLE_ENDIAN);
+        file.put(ascii("RIFF")).putInt(file.capacity() - 8).put(ascii("WAVE"));
+        file.put(ascii("fmt ")).putInt(16).putShort((short) 7).putShort((short) 1)
+            .putInt(8000).putInt(8000).putShort((short) 1).putShort((short) 8);
+        file.put(ascii("data")).putInt(0);
+        Files.write(path, file.array());
+
+        assertThatThrownBy(() -> WavFile.map(path))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("Unsupported WAV encoding");
+    }
+
+    private static byte[] ascii(String id) {
+        return id.getBytes(StandardCharsets.US_ASCII);
+    }
+}
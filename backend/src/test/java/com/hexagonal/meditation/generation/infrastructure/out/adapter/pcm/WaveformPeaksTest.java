@@ -0,0 +1,76 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("WaveformPeaks Tests")
+class WaveformPeaksTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should keep the 8-bit min and max of every window")
+    void shouldKeepMinMaxPerWindow() {
+        // 1 kHz, 2 ms windows: 2 samples per peak, the last window is partial
+        WaveformPeaks peaks = new WaveformPeaks(1000, 2);
+        byte[] pcm = samples((short) 256, (short) -512, Short.MAX_VALUE, Short.MIN_VALUE, (short) 1024);
+
+        peaks.accept(pcm, pcm.length);
+
+        assertThat(peaks.samplesPerPeak()).isEqualTo(2);
+        assertThat(peaks.length()).isEqualTo(3);
+        assertThat(peaks.data()).containsExactly(-2, 1, -128, 127, 4, 4);
+    }
+
+    @Test
+    @DisplayName("Should join samples split across blocks")
+    void shouldJoinSplitSamples() {
+        WaveformPeaks peaks = new WaveformPeaks(1000, 2);
+        byte[] pcm = samples((short) -25600, (short) 12800);
+
+        peaks.accept(new byte[] {pcm[0]}, 1);
+        peaks.accept(new byte[] {pcm[1], pcm[2], pcm[3]}, 3);
+
+        assertThat(peaks.data()).containsExactly(-100, 50);
+    }
+
+    @Test
+    @DisplayName("Should write audiowaveform JSON")
+    void shouldWriteAudiowaveformJson() throws IOException {
+        WaveformPeaks peaks = new WaveformPeaks(8000, 100);
+        byte[] pcm = samples(new short[800]);
+        peaks.accept(pcm, pcm.length);
+        Path json = tempDir.resolve("waveform.json");
+
+        peaks.writeJson(json);
+
+        assertThat(Files.readString(json)).isEqualTo(
+            "{\"version\":2,\"channels\":1,\"sample_rate\":8000,\"samples_per_pixel\":800,"
+                + "\"bits\":8,\"length\":1,\"data\":[0,0]}");
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive windows")
+    void shouldRejectInvalidWindow() {
+        assertThatThrownBy(() -> new WaveformPeaks(8000, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] samples(short... values) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * 2).order(ByteOrder.LITTLE_ENDIAN);
+        for (short value : values) {
+            buffer.putShort(value);
+        }
+        return buffer.array();
+    }
+}
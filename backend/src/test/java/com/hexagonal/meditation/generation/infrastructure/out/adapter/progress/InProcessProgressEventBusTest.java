@@ -0,0 +1,116 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.progress;
+
+import com.hexagonal.meditation.generation.domain.enums.GenerationStage;
+import com.hexagonal.meditation.generation.domain.model.GenerationProgress;
+import com.hexagonal.meditation.generation.domain.ports.out.GenerationProgressPort.Subscription;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("InProcessProgressEventBus Tests")
+class InProcessProgressEventBusTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-01-15T10:00:00Z"), ZoneId.of("UTC"));
+    private InProcessProgressEventBus bus;
+    private UUID meditationId;
+
+    @BeforeEach
+    void setUp() {
+        bus = new InProcessProgressEventBus();
+        meditationId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should deliver published snapshots to subscribers of the same meditation")
+    void shouldDeliverToSubscribers() {
+        List<GenerationProgress> received = new ArrayList<>();
+        List<GenerationProgress> other = new ArrayList<>();
+        bus.subscribe(meditationId, received::add);
+        bus.subscribe(UUID.randomUUID(), other::add);
+
+        bus.publish(GenerationProgress.stageStarted(meditationId, GenerationStage.RENDERING, clock));
+
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).stage()).isEqualTo(GenerationStage.RENDERING);
+        assertThat(other).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should replay latest snapshot to late subscribers")
+    void shouldReplayLatestSnapshot() {
+        bus.publish(GenerationProgress.stageStarted(meditationId, GenerationStage.VOICE_SYNTHESIS, clock));
+        bus.publish(GenerationProgress.stageStarted(meditationId, GenerationStage.SUBTITLES, clock));
+
+        List<GenerationProgress> received = new ArrayList<>();
+        bus.subscribe(meditationId, received::add);
+
+        assertThat(received).singleElement()
+            .extracting(GenerationProgress::stage)
+            .isEqualTo(GenerationStage.SUBTITLES);
+    }
+
+    @Test
+    @DisplayName("Should forget snapshot once generation is terminal")
+    void shouldForgetTerminalSnapshot() {
+        bus.publish(GenerationProgress.stageStarted(meditationId, GenerationStage.RENDERING, clock));
+        bus.publish(GenerationProgress.completed(meditationId, clock));
+
+        List<GenerationProgress> received = new ArrayList<>();
+        bus.subscribe(meditationId, received::add);
+
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should stop delivering after subscription is closed")
+    void shouldStopAfterClose() {
+        List<GenerationProgress> received = new ArrayList<>();
+        Subscription subscription = bus.subscribe(meditationId, received::add);
+
+        subscription.close();
+        bus.publish(GenerationProgress.stageStarted(meditationId, GenerationStage.RENDERING, clock));
+
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should isolate failing listeners and relays")
+    void shouldIsolateFailures() {
+        List<GenerationProgress> received = new ArrayList<>();
+        bus.subscribe(meditationId, progress -> {
+            throw new IllegalStateException("client gone");
+        });
+        bus.subscribe(meditationId, received::add);
+        bus.addRelay(progress -> {
+            throw new IllegalStateException("database down");
+        });
+
+        assertThatCode(() -> bus.publish(GenerationProgress.failed(meditationId, "boom", clock)))
+            .doesNotThrowAnyException();
+        assertThat(received).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should relay local events but not remotely dispatched ones")
+    void shouldRelayOnlyLocalEvents() {
+        List<GenerationProgress> relayed = new ArrayList<>();
+        List<GenerationProgress> received = new ArrayList<>();
+        bus.addRelay(relayed::add);
+        bus.subscribe(meditationId, received::add);
+
+        bus.publish(GenerationProgress.stageStarted(meditationId, GenerationStage.RENDERING, clock));
+        bus.dispatchLocal(GenerationProgress.stageStarted(meditationId, GenerationStage.MEDIA_UPLOAD, clock));
+
+        assertThat(relayed).hasSize(1);
+        assertThat(received).hasSize(2);
+    }
+}
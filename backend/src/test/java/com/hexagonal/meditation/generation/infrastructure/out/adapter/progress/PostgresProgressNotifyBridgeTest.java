@@ -0,0 +1,104 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.progress;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hexagonal.meditation.generation.domain.enums.GenerationStage;
+import com.hexagonal.meditation.generation.domain.model.GenerationProgress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostgresProgressNotifyBridge Tests")
+class PostgresProgressNotifyBridgeTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-01-15T10:00:00Z"), ZoneId.of("UTC"));
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private Connection connection;
+    private PreparedStatement statement;
+    private PostgresProgressNotifyBridge bridge;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = mock(Connection.class);
+        statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        bridge = new PostgresProgressNotifyBridge(() -> connection, new InProcessProgressEventBus(), objectMapper, 2);
+    }
+
+    @Test
+    @DisplayName("Should send only the latest pending snapshot of a meditation")
+    void shouldCoalescePerMeditation() throws Exception {
+        UUID meditationId = UUID.randomUUID();
+        bridge.relay(GenerationProgress.stageStarted(meditationId, GenerationStage.VOICE_SYNTHESIS, clock));
+        bridge.relay(GenerationProgress.stageStarted(meditationId, GenerationStage.SUBTITLES, clock));
+        bridge.relay(GenerationProgress.stageStarted(meditationId, GenerationStage.RENDERING, clock));
+
+        assertThat(bridge.flush()).isTrue();
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(statement).setString(eq(2), payload.capture());
+        assertThat(payload.getValue()).contains("RENDERING").doesNotContain("SUBTITLES");
+        assertThat(bridge.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not touch the database when relaying")
+    void shouldNotNotifyOnPublishingThread() {
+        bridge.relay(GenerationProgress.stageStarted(UUID.randomUUID(), GenerationStage.RENDERING, clock));
+
+        verifyNoInteractions(connection);
+        assertThat(bridge.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop new meditations when the queue is full but keep terminal snapshots")
+    void shouldBoundPendingQueue() throws Exception {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        bridge.relay(GenerationProgress.stageStarted(first, GenerationStage.RENDERING, clock));
+        bridge.relay(GenerationProgress.stageStarted(second, GenerationStage.RENDERING, clock));
+
+        bridge.relay(GenerationProgress.stageStarted(UUID.randomUUID(), GenerationStage.RENDERING, clock));
+        assertThat(bridge.pendingCount()).isEqualTo(2);
+
+        UUID finished = UUID.randomUUID();
+        bridge.relay(GenerationProgress.completed(finished, clock));
+        assertThat(bridge.pendingCount()).isEqualTo(2);
+
+        bridge.flush();
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(statement, times(2)).setString(eq(2), payload.capture());
+        assertThat(payload.getAllValues())
+            .noneMatch(p -> p.contains(first.toString()))
+            .anyMatch(p -> p.contains(second.toString()))
+            .anyMatch(p -> p.contains(finished.toString()));
+    }
+
+    @Test
+    @DisplayName("Should requeue unsent snapshots and reconnect after a failure")
+    void shouldRequeueOnFailure() throws Exception {
+        when(statement.execute()).thenThrow(new SQLException("connection reset")).thenReturn(true);
+        bridge.relay(GenerationProgress.stageStarted(UUID.randomUUID(), GenerationStage.RENDERING, clock));
+
+        assertThat(bridge.flush()).isFalse();
+        verify(connection).close();
+        assertThat(bridge.pendingCount()).isEqualTo(1);
+
+        assertThat(bridge.flush()).isTrue();
+        assertThat(bridge.pendingCount()).isZero();
+        verify(statement, times(2)).execute();
+    }
+}
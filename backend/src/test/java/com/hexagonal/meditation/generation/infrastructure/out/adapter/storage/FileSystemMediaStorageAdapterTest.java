@@ -0,0 +1,174 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.storage;
+
+import com.hexagonal.meditation.generation.domain.exception.GenerationCancelledException;
+import com.hexagonal.meditation.generation.domain.model.CancellationToken;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.CopyRequest;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.MediaFileType;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.ObjectPage;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.PackageCopyRequest;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.PackageUploadRequest;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.UploadRequest;
+import com.hexagonal.shared.storage.FileSystemObjectStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FileSystemMediaStorageAdapter Tests")
+class FileSystemMediaStorageAdapterTest {
+
+    private static final String PUBLIC_URL = "http://localhost:8080/api/v1/storage";
+
+    @TempDir
+    Path tempDir;
+
+    private FileSystemObjectStore store;
+    private FileSystemMediaStorageAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        store = new FileSystemObjectStore(tempDir.resolve("store"), PUBLIC_URL);
+        adapter = new FileSystemMediaStorageAdapter(store);
+    }
+
+    @Test
+    @DisplayName("Should store media under the generation key and return its storage URL")
+    void shouldUploadMedia() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("video.mp4"), "test video content");
+        UUID meditationId = UUID.randomUUID();
+
+        String url = adapter.uploadMedia(new UploadRequest(file, "user-123", meditationId, MediaFileType.VIDEO, 3600));
+
+        String key = "generation/user-123/" + meditationId + "/video.mp4";
+        assertThat(url).isEqualTo(PUBLIC_URL + "/" + key);
+        assertThat(Files.readString(store.find(key).orElseThrow().file())).isEqualTo("test video content");
+    }
+
+    @Test
+    @DisplayName("Should copy media to another meditation")
+    void shouldCopyMedia() throws IOException {
+        UUID source = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+        adapter.uploadMedia(new UploadRequest(
+            Files.writeString(tempDir.resolve("audio.mp3"), "audio"), "user-1", source, MediaFileType.AUDIO, 3600));
+
+        String url = adapter.copyMedia(new CopyRequest("user-1", source, "user-2", target, MediaFileType.AUDIO, 3600));
+
+        assertThat(url).isEqualTo(PUBLIC_URL + "/generation/user-2/" + target + "/audio.mp3");
+        assertThat(store.find("generation/user-2/" + target + "/audio.mp3")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should fail to copy a missing source")
+    void shouldFailToCopyMissingSource() {
+        CopyRequest request = new CopyRequest(
+            "user-1", UUID.randomUUID(), "user-2", UUID.randomUUID(), MediaFileType.AUDIO, 3600);
+
+        assertThatThrownBy(() -> adapter.copyMedia(request))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("Failed to copy media");
+    }
+
+    @Test
+    @DisplayName("Should store package files in order and return the entry file URL")
+    void shouldUploadPackage() throws IOException {
+        Path dir = Files.createDirectories(tempDir.resolve("hls"));
+        Files.writeString(dir.resolve("seg-00000.m4s"), "segment");
+        Files.writeString(dir.resolve("master.m3u8"), "#EXTM3U");
+        UUID meditationId = UUID.randomUUID();
+
+        String url = adapter.uploadPackage(new PackageUploadRequest(
+            dir, List.of(Path.of("seg-00000.m4s"), Path.of("master.m3u8")), "user-1", meditationId, "hls", 3600));
+
+        String prefix = "generation/user-1/" + meditationId + "/hls/";
+        assertThat(url).isEqualTo(PUBLIC_URL + "/" + prefix + "master.m3u8");
+        assertThat(store.find(prefix + "seg-00000.m4s")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should copy a stored package to another meditation and return the copied entry file URL")
+    void shouldCopyPackage() throws IOException {
+        Path dir = Files.createDirectories(tempDir.resolve("hls/720p"));
+        Files.writeString(dir.resolve("seg-00000.m4s"), "segment");
+        Files.writeString(tempDir.resolve("hls/master.m3u8"), "#EXTM3U");
+        UUID source = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+        adapter.uploadPackage(new PackageUploadRequest(tempDir.resolve("hls"),
+            List.of(Path.of("720p/seg-00000.m4s"), Path.of("master.m3u8")), "user-1", source, "hls", 3600));
+
+        String url = adapter.copyPackage(new PackageCopyRequest(
+            "user-1", source, "user-2", target, "hls", "master.m3u8", 3600));
+
+        String prefix = "generation/user-2/" + target + "/hls/";
+        assertThat(url).isEqualTo(PUBLIC_URL + "/" + prefix + "master.m3u8");
+        assertThat(store.find(prefix + "720p/seg-00000.m4s")).isPresent();
+        assertThat(store.find(prefix + "master.m3u8")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should fail to copy a package without its entry file")
+    void shouldFailToCopyPackageWithoutEntry() {
+        PackageCopyRequest request = new PackageCopyRequest(
+            "user-1", UUID.randomUUID(), "user-2", UUID.randomUUID(), "hls", "master.m3u8", 3600);
+
+        assertThatThrownBy(() -> adapter.copyPackage(request))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("Failed to copy package");
+    }
+
+    @Test
+    @DisplayName("Should stop storing a package once the generation is cancelled")
+    void shouldStopPackageWhenCancelled() throws IOException {
+        Path dir = Files.createDirectories(tempDir.resolve("hls"));
+        Files.writeString(dir.resolve("master.m3u8"), "#EXTM3U");
+        UUID meditationId = UUID.randomUUID();
+        CancellationToken token = new CancellationToken(meditationId);
+        token.cancel();
+
+        try (CancellationToken.Registration binding = CancellationToken.bind(token)) {
+            assertThatThrownBy(() -> adapter.uploadPackage(new PackageUploadRequest(
+                dir, List.of(Path.of("master.m3u8")), "user-1", meditationId, "hls", 3600)))
+                .isInstanceOf(GenerationCancelledException.class);
+        }
+        assertThat(store.find("generation/user-1/" + meditationId + "/hls/master.m3u8")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should list stored media page by page")
+    void shouldListMediaInPages() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("audio.mp3"), "audio");
+        for (int i = 0; i < 3; i++) {
+            adapter.uploadMedia(new UploadRequest(file, "user-1", UUID.randomUUID(), MediaFileType.AUDIO, 3600));
+        }
+
+        ObjectPage first = adapter.listObjects("generation/", null, 2);
+        ObjectPage second = adapter.listObjects("generation/", first.nextPageToken(), 2);
+
+        assertThat(first.objects()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.objects()).hasSize(1);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.objects().get(0).sizeBytes()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should delete stored media, ignoring missing keys")
+    void shouldDeleteMedia() throws IOException {
+        UUID meditationId = UUID.randomUUID();
+        adapter.uploadMedia(new UploadRequest(
+            Files.writeString(tempDir.resolve("audio.mp3"), "audio"), "user-1", meditationId, MediaFileType.AUDIO, 3600));
+        String key = "generation/user-1/" + meditationId + "/audio.mp3";
+
+        adapter.deleteObjects(List.of(key, "generation/user-1/missing/audio.mp3"));
+
+        assertThat(store.find(key)).isEmpty();
+    }
+}
@@ -1,7 +1,10 @@
 package com.hexagonal.meditation.generation.infrastructure.out.adapter.storage;
 
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.CopyRequest;
 import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.UploadRequest;
 import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.MediaFileType;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.ObjectPage;
+import com.hexagonal.meditation.generation.domain.ports.out.MediaStoragePort.PackageCopyRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,18 +12,34 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Object;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @DisplayName("S3MediaStorageAdapter Tests")
@@ -193,4 +212,124 @@ class S3MediaStorageAdapterTest {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessageContaining("TTL must be positive");
     }
+    
+    @Test
+    @DisplayName("Should copy media server-side between meditation prefixes")
+    void shouldCopyMediaServerSide() {
+        UUID sourceMeditation = UUID.randomUUID();
+        UUID targetMeditation = UUID.randomUUID();
+        when(s3Client.copyObject(any(CopyObjectRequest.class))).thenReturn(CopyObjectResponse.builder().build());
+        
+        String url = adapter.copyMedia(new CopyRequest(
+            "user-a", sourceMeditation, "user-b", targetMeditation, MediaFileType.VIDEO, 3600L));
+        
+        assertThat(url).isEqualTo("http://localhost:4566/meditation-media/generation/user-b/" + targetMeditation + "/video.mp4");
+        verify(s3Client).copyObject(argThat((CopyObjectRequest copy) ->
+            copy.sourceKey().equals("generation/user-a/" + sourceMeditation + "/video.mp4")
+                && copy.destinationKey().equals("generation/user-b/" + targetMeditation + "/video.mp4")
+                && copy.sourceBucket().equals("meditation-media")));
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(software.amazon.awssdk.core.sync.RequestBody.class));
+    }
+    
+    @Test
+    @DisplayName("Should wrap a failed copy in a RuntimeException")
+    void shouldWrapCopyFailure() {
+        when(s3Client.copyObject(any(CopyObjectRequest.class))).thenThrow(NoSuchKeyException.builder().message("missing").build());
+        
+        assertThatThrownBy(() -> adapter.copyMedia(new CopyRequest(
+            "user-a", UUID.randomUUID(), "user-b", UUID.randomUUID(), MediaFileType.AUDIO, 3600L)))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("Failed to copy media in S3");
+    }
+    
+    @Test
+    @DisplayName("Should copy a package server-side with its entry playlist last")
+    void shouldCopyPackageEntryLast() {
+        UUID sourceMeditation = UUID.randomUUID();
+        UUID targetMeditation = UUID.randomUUID();
+        String source = "generation/user-a/" + sourceMeditation + "/hls/";
+        String target = "generation/user-b/" + targetMeditation + "/hls/";
+        Instant modified = Instant.parse("2026-02-16T10:30:00Z");
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(ListObjectsV2Response.builder()
+            .contents(
+                S3Object.builder().key(source + "720p/seg-00000.m4s").size(10L).lastModified(modified).build(),
+                S3Object.builder().key(source + "master.m3u8").size(1L).lastModified(modified).build(),
+                S3Object.builder().key(source + "video/seg-00000.m4s").size(10L).lastModified(modified).build())
+            .isTruncated(false)
+            .build());
+        when(s3Client.copyObject(any(CopyObjectRequest.class))).thenReturn(CopyObjectResponse.builder().build());
+        
+        String url = adapter.copyPackage(new PackageCopyRequest(
+            "user-a", sourceMeditation, "user-b", targetMeditation, "hls", "master.m3u8", 3600L));
+        
+        assertThat(url).isEqualTo("http://localhost:4566/meditation-media/" + target + "master.m3u8");
+        InOrder order = inOrder(s3Client);
+        order.verify(s3Client).copyObject(argThat((CopyObjectRequest copy) ->
+            copy.destinationKey().equals(target + "720p/seg-00000.m4s")));
+        order.verify(s3Client).copyObject(argThat((CopyObjectRequest copy) ->
+            copy.destinationKey().equals(target + "video/seg-00000.m4s")));
+        order.verify(s3Client).copyObject(argThat((CopyObjectRequest copy) ->
+            copy.sourceKey().equals(source + "master.m3u8") && copy.destinationKey().equals(target + "master.m3u8")));
+    }
+    
+    @Test
+    @DisplayName("Should fail to copy a package whose entry playlist is missing")
+    void shouldFailToCopyPackageWithoutEntry() {
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
+            .thenReturn(ListObjectsV2Response.builder().isTruncated(false).build());
+        
+        assertThatThrownBy(() -> adapter.copyPackage(new PackageCopyRequest(
+            "user-a", UUID.randomUUID(), "user-b", UUID.randomUUID(), "hls", "master.m3u8", 3600L)))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("Failed to copy package in S3");
+        verify(s3Client, never()).copyObject(any(CopyObjectRequest.class));
+    }
+    
+    @Test
+    @DisplayName("Should list a page of objects with its continuation token")
+    void shouldListObjects() {
+        Instant modified = Instant.parse("2026-02-16T10:30:00Z");
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(ListObjectsV2Response.builder()
+            .contents(S3Object.builder().key("generation/user-a/m1/audio.mp3").size(42L).lastModified(modified).build())
+            .isTruncated(true)
+            .nextContinuationToken("next")
+            .build());
+        
+        ObjectPage page = adapter.listObjects("generation/", "current", 500);
+        
+        assertThat(page.objects()).singleElement().satisfies(object -> {
+            assertThat(object.key()).isEqualTo("generation/user-a/m1/audio.mp3");
+            assertThat(object.sizeBytes()).isEqualTo(42);
+            assertThat(object.lastModified()).isEqualTo(modified);
+        });
+        assertThat(page.nextPageToken()).isEqualTo("next");
+        verify(s3Client).listObjectsV2(argThat((ListObjectsV2Request list) ->
+            list.bucket().equals("meditation-media") && list.prefix().equals("generation/")
+                && list.continuationToken().equals("current") && list.maxKeys() == 500));
+    }
+    
+    @Test
+    @DisplayName("Should delete objects in a single quiet request")
+    void shouldDeleteObjects() {
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(DeleteObjectsResponse.builder().build());
+        
+        adapter.deleteObjects(List.of("generation/user-a/m1/audio.mp3", "generation/user-a/m2/image.jpg"));
+        
+        verify(s3Client).deleteObjects(argThat((DeleteObjectsRequest delete) ->
+            delete.bucket().equals("meditation-media")
+                && delete.delete().quiet()
+                && delete.delete().objects().size() == 2));
+    }
+    
+    @Test
+    @DisplayName("Should fail when some objects could not be deleted")
+    void shouldFailOnDeleteErrors() {
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(DeleteObjectsResponse.builder()
+            .errors(S3Error.builder().key("generation/user-a/m1/audio.mp3").code("AccessDenied").build())
+            .build());
+        
+        assertThatThrownBy(() -> adapter.deleteObjects(List.of("generation/user-a/m1/audio.mp3")))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("AccessDenied");
+    }
 }
@@ -4,6 +4,7 @@ import com.hexagonal.meditation.generation.domain.model.NarrationScript;
 import com.hexagonal.meditation.generation.domain.ports.out.VoiceSynthesisPort.VoiceConfig;
 import com.hexagonal.meditation.generation.infrastructure.config.FfmpegConfig;
 import com.hexagonal.meditation.generation.infrastructure.config.GoogleCloudTtsConfig;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm.WavFile;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Optional;
@@ -38,8 +40,9 @@ class GoogleTtsAdapterTest {
     @BeforeEach
     void setUp() {
         lenient().when(ttsConfig.isEnabled()).thenReturn(false); // Default to FFmpeg fallback for tests
+        lenient().when(ttsConfig.getAudio()).thenReturn(new GoogleCloudTtsConfig.AudioSettings()); // MP3
         lenient().when(ffmpegConfig.getPath()).thenReturn("ffmpeg");
-        adapter = new GoogleTtsAdapter(Optional.empty(), ttsConfig, ffmpegConfig);
+        adapter = new GoogleTtsAdapter(Optional.empty(), ttsConfig, ffmpegConfig, Optional.empty());
     }
     
     @Test
@@ -103,4 +106,39 @@ class GoogleTtsAdapterTest {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessageContaining("Speaking rate must be between 0 and 4.0");
     }
+
+    @Test
+    @DisplayName("Should produce silent MP3 frames of the estimated duration without FFmpeg")
+    void shouldProduceSilentMp3Fallback() throws Exception {
+        // 75 chars at 15 chars/s = 5 s
+        NarrationScript script = new NarrationScript("a".repeat(75));
+        
+        Path result = adapter.synthesizeVoice(script, VoiceConfig.spanishMeditationVoice());
+        
+        long expectedFrames = (long) Math.ceil(5.0 * SilentAudio.MP3_SAMPLE_RATE / SilentAudio.MP3_SAMPLES_PER_FRAME);
+        assertThat(Files.size(result)).isEqualTo(expectedFrames * SilentAudio.MP3_FRAME_SIZE);
+    }
+    
+    @Test
+    @DisplayName("Should produce silent WAV when TTS is configured for LINEAR16")
+    void shouldProduceSilentWavFallbackForLinear16() throws Exception {
+        GoogleCloudTtsConfig.AudioSettings audio = new GoogleCloudTtsConfig.AudioSettings();
+        audio.setEncoding("LINEAR16");
+        audio.setSampleRate(24000);
+        when(ttsConfig.getAudio()).thenReturn(audio);
+        
+        Path result = adapter.synthesizeVoice(new NarrationScript("Breathe."), VoiceConfig.spanishMeditationVoice(), 2.0);
+        
+        assertThat(result.toString()).endsWith(".wav");
+        assertThat(WavFile.map(result).durationSeconds()).isEqualTo(2.0);
+    }
+    
+    @Test
+    @DisplayName("Should name narration files after the configured TTS encoding")
+    void shouldPickExtensionForEncoding() {
+        assertThat(GoogleTtsAdapter.extensionFor("MP3")).isEqualTo(".mp3");
+        assertThat(GoogleTtsAdapter.extensionFor("LINEAR16")).isEqualTo(".wav");
+        assertThat(GoogleTtsAdapter.extensionFor("OGG_OPUS")).isEqualTo(".ogg");
+        assertThat(GoogleTtsAdapter.extensionFor(null)).isEqualTo(".mp3");
+    }
 }
@@ -0,0 +1,66 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.tts;
+
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm.PcmFormat;
+import com.hexagonal.meditation.generation.infrastructure.out.adapter.pcm.WavFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SilentAudio Tests")
+class SilentAudioTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should write whole silent MP3 frames covering the duration")
+    void shouldWriteSilentMp3Frames() throws IOException {
+        Path output = tempDir.resolve("silence.mp3");
+
+        // 10 minutes: more frames than one cached block
+        long frames = SilentAudio.writeMp3(output, 600);
+
+        byte[] bytes = Files.readAllBytes(output);
+        assertThat(frames).isEqualTo(25000);
+        assertThat(bytes).hasSize(25000 * SilentAudio.MP3_FRAME_SIZE);
+        for (long frame : new long[] {0, 255, 256, frames - 1}) {
+            int offset = (int) frame * SilentAudio.MP3_FRAME_SIZE;
+            assertThat(bytes[offset]).isEqualTo((byte) 0xFF);
+            assertThat(bytes[offset + 1]).isEqualTo((byte) 0xFB);
+            assertThat(bytes[offset + 2]).isEqualTo((byte) 0x94);
+            assertThat(bytes[offset + 4]).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Should round MP3 duration up to the next frame")
+    void shouldRoundMp3DurationUp() throws IOException {
+        assertThat(SilentAudio.writeMp3(tempDir.resolve("short.mp3"), 0.01)).isEqualTo(1);
+        assertThat(SilentAudio.writeMp3(tempDir.resolve("empty.mp3"), 0)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should write a silent WAV of the exact duration")
+    void shouldWriteSilentWav() throws IOException {
+        Path output = tempDir.resolve("silence.wav");
+        PcmFormat format = new PcmFormat(48000, 2, PcmFormat.SampleEncoding.PCM_16);
+
+        long frames = SilentAudio.writeWav(output, format, 3.5);
+
+        WavFile wav = WavFile.map(output);
+        assertThat(frames).isEqualTo(168000);
+        assertThat(wav.format()).isEqualTo(format);
+        assertThat(wav.durationSeconds()).isEqualTo(3.5);
+        ByteBuffer samples = wav.samples();
+        while (samples.hasRemaining()) {
+            assertThat(samples.get()).isZero();
+        }
+    }
+}
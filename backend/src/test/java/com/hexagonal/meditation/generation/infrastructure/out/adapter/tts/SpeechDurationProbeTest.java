@@ -0,0 +1,71 @@
+package com.hexagonal.meditation.generation.infrastructure.out.adapter.tts;
+
+import com.google.protobuf.ByteString;
+import com.hexagonal.meditation.generation.infrastructure.out.service.audio.MediaDurationProbe;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SpeechDurationProbe Tests")
+class SpeechDurationProbeTest {
+
+    @Test
+    @DisplayName("Should read the duration of LINEAR16 speech from the WAV header without FFmpeg")
+    void shouldMeasureLinear16InMemory() throws IOException {
+        SpeechDurationProbe probe = new SpeechDurationProbe("/nonexistent/ffmpeg");
+
+        // 1.5 s of 24 kHz mono 16-bit
+        double duration = probe.durationSeconds(linear16(24000, 36000));
+
+        assertThat(duration).isEqualTo(1.5);
+    }
+
+    @Test
+    @DisplayName("Should report an IOException when compressed speech cannot be decoded")
+    void shouldFailWithoutDecoder() {
+        SpeechDurationProbe probe = new SpeechDurationProbe("/nonexistent/ffmpeg");
+        ByteString mp3 = ByteString.copyFrom(new byte[] {'I', 'D', '3', 4, 0, 0, 0, 0, 0, 0});
+
+        assertThatThrownBy(() -> probe.durationSeconds(mp3))
+            .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("Should measure compressed speech in-process when a probe is configured")
+    void shouldUseInProcessProbe() throws IOException {
+        MediaDurationProbe inProcess = new MediaDurationProbe() {
+            @Override
+            public double durationSeconds(Path file) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public double durationSeconds(ByteBuffer data) {
+                return data.remaining() / 10.0;
+            }
+        };
+        SpeechDurationProbe probe = new SpeechDurationProbe("/nonexistent/ffmpeg", Optional.of(inProcess));
+        ByteString mp3 = ByteString.copyFrom(new byte[] {'I', 'D', '3', 4, 0, 0, 0, 0, 0, 0});
+
+        assertThat(probe.durationSeconds(mp3)).isEqualTo(1.0);
+    }
+
+    private static ByteString linear16(int sampleRate, int frames) {
+        ByteBuffer wav = ByteBuffer.allocate(44 + frames * 2).order(ByteOrder.LITTLE_ENDIAN);
+        wav.put("RIFF".getBytes(StandardCharsets.US_ASCII)).putInt(36 + frames * 2)
+            .put("WAVE".getBytes(StandardCharsets.US_ASCII))
+            .put("fmt ".getBytes(StandardCharsets.US_ASCII)).putInt(16)
+            .putShort((short) 1).putShort((short) 1).putInt(sampleRate).putInt(sampleRate * 2)
+            .putShort((short) 2).putShort((short) 16)
+            .put("data".getBytes(StandardCharsets.US_ASCII)).putInt(frames * 2);
+        return ByteString.copyFrom(wav.array());
+    }
+}
@@ -2,6 +2,7 @@ package com.hexagonal.meditation.generation.infrastructure.out.persistence;
 
 import com.hexagonal .meditation.generation.domain.enums.GenerationStatus;
 import com.hexagonal.meditation.generation.domain.enums.MediaType;
+import com.hexagonal.meditation.generation.domain.enums.RenderQualityTier;
 import com.hexagonal.meditation.generation.domain.model.GeneratedMeditationContent;
 import com.hexagonal.meditation.generation.domain.model.NarrationScript;
 import com.hexagonal.meditation.generation.infrastructure.out.persistence.entity.MeditationOutputEntity;
@@ -137,4 +138,42 @@ class PostgresContentRepositoryTest {
         assertThat(result).isEmpty();
         verify(jpaRepository, times(1)).findByIdempotencyKey(idempotencyKey);
     }
+    
+    @Test
+    @DisplayName("Should find a reusable full-quality output by content key")
+    void shouldFindReusableByContentKey() {
+        String contentKey = "a".repeat(64);
+        MeditationOutputEntity entity = new MeditationOutputEntity(
+            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "other-user-key", MediaType.AUDIO,
+            GenerationStatus.COMPLETED, "Shared script", 10.0, fixedClock.instant()
+        );
+        entity.setCompletedAt(fixedClock.instant());
+        entity.setRenderQuality(RenderQualityTier.FULL);
+        entity.setContentKey(contentKey);
+        
+        when(jpaRepository.findFirstByContentKeyAndStatusAndRenderQualityOrderByCompletedAtDesc(
+            contentKey, GenerationStatus.COMPLETED, RenderQualityTier.FULL)).thenReturn(Optional.of(entity));
+        
+        Optional<GeneratedMeditationContent> result = repository.findReusableByContentKey(contentKey);
+        
+        assertThat(result).isPresent();
+        assertThat(result.get().contentKey()).isEqualTo(contentKey);
+        assertThat(result.get().renderQuality()).isEqualTo(RenderQualityTier.FULL);
+    }
+    
+    @Test
+    @DisplayName("Should cancel only a meditation still processing")
+    void shouldCancelOnlyWhileProcessing() {
+        UUID processing = UUID.randomUUID();
+        UUID completed = UUID.randomUUID();
+        Instant now = fixedClock.instant();
+        when(jpaRepository.updateStatusIf(processing, GenerationStatus.PROCESSING, GenerationStatus.CANCELLED, now))
+            .thenReturn(1);
+        when(jpaRepository.updateStatusIf(completed, GenerationStatus.PROCESSING, GenerationStatus.CANCELLED, now))
+            .thenReturn(0);
+        
+        assertThat(repository.cancelIfProcessing(processing, now)).isTrue();
+        assertThat(repository.cancelIfProcessing(completed, now)).isFalse();
+        verify(jpaRepository, never()).save(any(MeditationOutputEntity.class));
+    }
 }
@@ -0,0 +1,229 @@
+package com.hexagonal.meditation.generation.infrastructure.out.persistence;
+
+import com.hexagonal.meditation.generation.domain.enums.GenerationStage;
+import com.hexagonal.meditation.generation.domain.model.HandedOffGeneration;
+import com.hexagonal.meditationbuilder.MeditationBuilderApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for PostgreSQL Generation Hand-off Repository.
+ * Uses Testcontainers PostgreSQL to verify the DELETE ... RETURNING claim
+ * on generation.generation_handoff, including concurrent claims.
+ */
+@SpringBootTest(classes = MeditationBuilderApplication.class)
+@Testcontainers
+@ActiveProfiles("test")
+@DisplayName("PostgreSQL Generation Hand-off Repository Integration Tests")
+class PostgresGenerationHandoffRepositoryIT {
+
+    private static final Instant FIXED_NOW = Instant.parse("2026-03-01T10:00:00Z");
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("meditation_builder_test")
+            .withUsername("testuser")
+            .withPassword("testpass");
+
+    static {
+        postgres.start();
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+        // Keep the background resume from claiming the entries under test
+        registry.add("generation.handoff.enabled", () -> "false");
+    }
+
+    @Autowired
+    private PostgresGenerationHandoffRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        // Clean database before each test
+        jdbcTemplate.execute("DELETE FROM generation.generation_handoff");
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should claim handed-off generations oldest first and remove them")
+    void shouldClaimHandedOffGenerations() {
+        // Given
+        HandedOffGeneration newer = notStarted(5);
+        HandedOffGeneration older = started(0, GenerationStage.RENDERING);
+        repository.handOff(newer);
+        repository.handOff(older);
+
+        // When
+        List<HandedOffGeneration> claimed = repository.claim(10);
+
+        // Then
+        assertThat(claimed).containsExactly(older, newer);
+        assertThat(claimed.get(0).checkpoint()).isEqualTo(GenerationStage.RENDERING);
+        assertThat(claimed.get(1).started()).isFalse();
+        assertThat(countRows()).isZero();
+        assertThat(repository.claim(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should claim at most the requested number of entries")
+    void shouldClaimUpToMax() {
+        // Given
+        HandedOffGeneration first = notStarted(0);
+        HandedOffGeneration second = notStarted(1);
+        HandedOffGeneration third = notStarted(2);
+        repository.handOff(third);
+        repository.handOff(first);
+        repository.handOff(second);
+
+        // When
+        List<HandedOffGeneration> claimed = repository.claim(2);
+
+        // Then
+        assertThat(claimed).containsExactly(first, second);
+        assertThat(countRows()).isEqualTo(1);
+        assertThat(repository.claim(2)).containsExactly(third);
+    }
+
+    @Test
+    @DisplayName("Should skip entries held by a concurrent claim instead of returning them twice")
+    void shouldNotReturnEntriesClaimedConcurrently() throws Exception {
+        // Given
+        List<HandedOffGeneration> handedOff = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            HandedOffGeneration generation = notStarted(i);
+            handedOff.add(generation);
+            repository.handOff(generation);
+        }
+        CountDownLatch firstClaimed = new CountDownLatch(1);
+        CountDownLatch secondDone = new CountDownLatch(1);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // When - the first claim keeps its rows locked until the second claim has run
+        Future<List<HandedOffGeneration>> first = executor.submit(() -> transaction.execute(status -> {
+            List<HandedOffGeneration> claimed = repository.claim(2);
+            firstClaimed.countDown();
+            await(secondDone);
+            return claimed;
+        }));
+        assertThat(firstClaimed.await(10, TimeUnit.SECONDS)).isTrue();
+        Future<List<HandedOffGeneration>> second = executor.submit(() -> repository.claim(4));
+        List<HandedOffGeneration> secondClaimed = second.get(10, TimeUnit.SECONDS);
+        secondDone.countDown();
+        List<HandedOffGeneration> firstClaimedEntries = first.get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(firstClaimedEntries).containsExactly(handedOff.get(0), handedOff.get(1));
+        assertThat(secondClaimed).containsExactly(handedOff.get(2), handedOff.get(3));
+        assertThat(countRows()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should hand each entry to exactly one of several racing claims")
+    void shouldSplitEntriesBetweenRacingClaims() throws Exception {
+        // Given
+        List<HandedOffGeneration> handedOff = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            HandedOffGeneration generation = notStarted(i);
+            handedOff.add(generation);
+            repository.handOff(generation);
+        }
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<List<HandedOffGeneration>>> claims = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            claims.add(executor.submit(() -> {
+                await(start);
+                List<HandedOffGeneration> claimed = new ArrayList<>();
+                List<HandedOffGeneration> batch;
+                while (!(batch = repository.claim(3)).isEmpty()) {
+                    claimed.addAll(batch);
+                }
+                return claimed;
+            }));
+        }
+        start.countDown();
+        List<HandedOffGeneration> all = new ArrayList<>();
+        for (Future<List<HandedOffGeneration>> claim : claims) {
+            all.addAll(claim.get(30, TimeUnit.SECONDS));
+        }
+
+        // Then
+        assertThat(all).containsExactlyInAnyOrderElementsOf(handedOff);
+        assertThat(countRows()).isZero();
+    }
+
+    private HandedOffGeneration notStarted(int secondsAfterNow) {
+        return HandedOffGeneration.notStarted(UUID.randomUUID(), UUID.randomUUID(),
+                "Breathe in and relax.", "https://cdn.example.com/music/ocean.mp3", null,
+                FIXED_NOW.plusSeconds(secondsAfterNow));
+    }
+
+    private HandedOffGeneration started(int secondsAfterNow, GenerationStage checkpoint) {
+        UUID meditationId = UUID.randomUUID();
+        return new HandedOffGeneration(meditationId, meditationId, UUID.randomUUID(), UUID.randomUUID(),
+                "Breathe in and relax.", "https://cdn.example.com/music/ocean.mp3",
+                "https://cdn.example.com/images/sunset.jpg", checkpoint, FIXED_NOW.plusSeconds(secondsAfterNow));
+    }
+
+    private int countRows() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM generation.generation_handoff", Integer.class);
+        return count != null ? count : 0;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for the other claim");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
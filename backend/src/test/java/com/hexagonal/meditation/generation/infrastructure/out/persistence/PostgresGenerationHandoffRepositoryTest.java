@@ -0,0 +1,87 @@
+package com.hexagonal.meditation.generation.infrastructure.out.persistence;
+
+import com.hexagonal.meditation.generation.domain.enums.GenerationStage;
+import com.hexagonal.meditation.generation.domain.model.HandedOffGeneration;
+import com.hexagonal.meditation.generation.infrastructure.out.persistence.entity.GenerationHandoffEntity;
+import com.hexagonal.meditation.generation.infrastructure.out.persistence.mapper.GenerationHandoffMapper;
+import com.hexagonal.meditation.generation.infrastructure.out.persistence.repository.JpaGenerationHandoffRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostgresGenerationHandoffRepository Tests")
+class PostgresGenerationHandoffRepositoryTest {
+    
+    @Mock
+    private JpaGenerationHandoffRepository jpaRepository;
+    
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    
+    private GenerationHandoffMapper mapper;
+    private PostgresGenerationHandoffRepository repository;
+    
+    @BeforeEach
+    void setUp() {
+        mapper = new GenerationHandoffMapper();
+        repository = new PostgresGenerationHandoffRepository(jpaRepository, jdbcTemplate, mapper);
+    }
+    
+    @Test
+    @DisplayName("Should save a started generation with its checkpoint")
+    void shouldSaveHandOff() {
+        UUID meditationId = UUID.randomUUID();
+        HandedOffGeneration handOff = new HandedOffGeneration(meditationId, meditationId, UUID.randomUUID(),
+            UUID.randomUUID(), "Breathe in.", "ocean.mp3", "sunset.jpg", GenerationStage.RENDERING,
+            Instant.parse("2026-03-01T10:00:00Z"));
+        
+        repository.handOff(handOff);
+        
+        ArgumentCaptor<GenerationHandoffEntity> saved = ArgumentCaptor.forClass(GenerationHandoffEntity.class);
+        verify(jpaRepository).save(saved.capture());
+        assertThat(saved.getValue().getHandoffId()).isEqualTo(meditationId);
+        assertThat(saved.getValue().getCheckpointStage()).isEqualTo(GenerationStage.RENDERING);
+        assertThat(mapper.toDomain(saved.getValue())).isEqualTo(handOff);
+    }
+    
+    @Test
+    @DisplayName("Should return claimed generations oldest first")
+    void shouldClaimOldestFirst() {
+        HandedOffGeneration older = HandedOffGeneration.notStarted(UUID.randomUUID(), UUID.randomUUID(),
+            "First text.", "ocean.mp3", null, Instant.parse("2026-03-01T10:00:00Z"));
+        HandedOffGeneration newer = HandedOffGeneration.notStarted(UUID.randomUUID(), UUID.randomUUID(),
+            "Second text.", "forest.mp3", null, Instant.parse("2026-03-01T10:00:05Z"));
+        when(jdbcTemplate.query(eq(PostgresGenerationHandoffRepository.CLAIM_OLDEST_SQL),
+            ArgumentMatchers.<RowMapper<GenerationHandoffEntity>>any(), eq(2)))
+            .thenReturn(List.of(mapper.toEntity(newer), mapper.toEntity(older)));
+        
+        List<HandedOffGeneration> claimed = repository.claim(2);
+        
+        assertThat(claimed).containsExactly(older, newer);
+        assertThat(claimed).noneMatch(HandedOffGeneration::started);
+    }
+    
+    @Test
+    @DisplayName("Should not query when there is no room to claim")
+    void shouldNotClaimWithoutRoom() {
+        assertThat(repository.claim(0)).isEmpty();
+        
+        verifyNoInteractions(jpaRepository, jdbcTemplate);
+    }
+}
@@ -7,6 +7,7 @@ import com.hexagonal.meditationbuilder.domain.model.MeditationComposition;
 import com.hexagonal.meditationbuilder.domain.model.MusicReference;
 import com.hexagonal.meditationbuilder.domain.model.TextContent;
 import com.hexagonal.meditationbuilder.domain.ports.out.CompositionRepositoryPort;
+import com.hexagonal.meditationbuilder.domain.ports.out.GenerationPrecomputePort;
 import com.hexagonal.meditationbuilder.domain.ports.out.MediaCatalogPort;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
@@ -26,7 +27,9 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -160,6 +163,63 @@ class ComposeContentServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("speculative precompute")
+    class SpeculativePrecomputeTests {
+
+        @Mock
+        private GenerationPrecomputePort generationPrecomputePort;
+
+        @BeforeEach
+        void setUpPrecompute() {
+            service = new ComposeContentService(
+                mediaCatalogPort, compositionRepositoryPort, FIXED_CLOCK, meterRegistry, generationPrecomputePort);
+        }
+
+        @Test
+        @DisplayName("should signal a generation-ready composition when music is selected")
+        void shouldSignalReadyWhenMusicSelected() {
+            UUID compositionId = UUID.randomUUID();
+            MusicReference music = new MusicReference("music-001");
+            MeditationComposition existing = MeditationComposition.create(compositionId, new TextContent("Text"), FIXED_CLOCK);
+            when(compositionRepositoryPort.findById(compositionId)).thenReturn(java.util.Optional.of(existing));
+            when(mediaCatalogPort.musicExists(music)).thenReturn(true);
+            when(compositionRepositoryPort.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+            MeditationComposition result = service.selectMusic(compositionId, music);
+
+            verify(generationPrecomputePort).compositionReady(result);
+        }
+
+        @Test
+        @DisplayName("should signal the new state when text of a composition with music changes")
+        void shouldSignalReadyWhenTextUpdatedWithMusic() {
+            UUID compositionId = UUID.randomUUID();
+            MeditationComposition existing = MeditationComposition.create(compositionId, new TextContent("Text"), FIXED_CLOCK)
+                .withMusic(new MusicReference("music-001"), FIXED_CLOCK);
+            when(compositionRepositoryPort.findById(compositionId)).thenReturn(java.util.Optional.of(existing));
+            when(compositionRepositoryPort.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+            service.updateText(compositionId, new TextContent("Updated text"));
+
+            verify(generationPrecomputePort).compositionReady(argThat(composition ->
+                composition.textContent().value().equals("Updated text")));
+        }
+
+        @Test
+        @DisplayName("should not signal while the composition has no music")
+        void shouldNotSignalWithoutMusic() {
+            UUID compositionId = UUID.randomUUID();
+            MeditationComposition existing = MeditationComposition.create(compositionId, new TextContent("Text"), FIXED_CLOCK);
+            when(compositionRepositoryPort.findById(compositionId)).thenReturn(java.util.Optional.of(existing));
+            when(compositionRepositoryPort.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+            service.updateText(compositionId, new TextContent("Updated text"));
+
+            verifyNoInteractions(generationPrecomputePort);
+        }
+    }
+
     @Nested
     @DisplayName("setImage()")
     class SetImageTests {
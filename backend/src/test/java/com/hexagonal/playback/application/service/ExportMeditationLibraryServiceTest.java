@@ -0,0 +1,142 @@
+package com.hexagonal.playback.application.service;
+
+import com.hexagonal.playback.domain.exception.MediaUnavailableException;
+import com.hexagonal.playback.domain.model.ExportEntry;
+import com.hexagonal.playback.domain.model.MediaObject;
+import com.hexagonal.playback.domain.model.MediaUrls;
+import com.hexagonal.playback.domain.model.Meditation;
+import com.hexagonal.playback.domain.model.ProcessingState;
+import com.hexagonal.playback.domain.ports.out.MediaContentPort;
+import com.hexagonal.playback.domain.ports.out.MeditationRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportMeditationLibraryService Tests")
+class ExportMeditationLibraryServiceTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final String BASE_URL = "https://meditation-outputs.s3.amazonaws.com/generation/u/";
+
+    @Mock
+    private MeditationRepositoryPort meditationRepositoryPort;
+
+    @Mock
+    private MediaContentPort mediaContentPort;
+
+    private ExportMeditationLibraryService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ExportMeditationLibraryService(meditationRepositoryPort, mediaContentPort, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("Should export media and subtitles of playable meditations, oldest first")
+    void shouldExportPlayableMeditationsOldestFirst() {
+        UUID olderId = UUID.fromString("1a2b3c4d-0000-0000-0000-000000000001");
+        UUID newerId = UUID.fromString("5e6f7a8b-0000-0000-0000-000000000002");
+        Meditation newer = meditation(newerId, "Respira, profundo!", "2026-02-16T10:00:00Z",
+            ProcessingState.COMPLETED, new MediaUrls(BASE_URL + "b/output.mp3", BASE_URL + "b/output.mp4", BASE_URL + "b/subs.srt"));
+        Meditation older = meditation(olderId, "Calma", "2026-01-05T10:00:00Z",
+            ProcessingState.COMPLETED, new MediaUrls(BASE_URL + "a/output.mp3", null, null));
+        Meditation processing = meditation(UUID.randomUUID(), "Pendiente", "2026-02-17T10:00:00Z",
+            ProcessingState.PROCESSING, null);
+        when(meditationRepositoryPort.findAllByUserId(USER_ID)).thenReturn(List.of(processing, newer, older));
+        describe(BASE_URL + "a/output.mp3");
+        describe(BASE_URL + "b/output.mp4");
+        describe(BASE_URL + "b/subs.srt");
+
+        List<ExportEntry> entries = service.entries(USER_ID);
+
+        assertThat(entries).extracting(ExportEntry::name).containsExactly(
+            "2026-01-05_calma_1a2b3c4d.mp3",
+            "2026-02-16_respira-profundo_5e6f7a8b.mp4",
+            "2026-02-16_respira-profundo_5e6f7a8b.srt");
+        assertThat(entries.get(1).media().url()).isEqualTo(BASE_URL + "b/output.mp4");
+    }
+
+    @Test
+    @DisplayName("Should leave out a meditation whose media cannot be reached")
+    void shouldSkipUnavailableMeditation() {
+        UUID brokenId = UUID.randomUUID();
+        UUID okId = UUID.randomUUID();
+        when(meditationRepositoryPort.findAllByUserId(USER_ID)).thenReturn(List.of(
+            meditation(brokenId, "Rota", "2026-01-01T10:00:00Z", ProcessingState.COMPLETED,
+                new MediaUrls(null, BASE_URL + "x/output.mp4", BASE_URL + "x/subs.srt")),
+            meditation(okId, "Bien", "2026-01-02T10:00:00Z", ProcessingState.COMPLETED,
+                new MediaUrls(BASE_URL + "y/output.mp3", null, null))));
+        describe(BASE_URL + "x/output.mp4");
+        when(mediaContentPort.describe(BASE_URL + "x/subs.srt"))
+            .thenThrow(new MediaUnavailableException(BASE_URL + "x/subs.srt", new RuntimeException("404")));
+        describe(BASE_URL + "y/output.mp3");
+
+        List<ExportEntry> entries = service.entries(USER_ID);
+
+        assertThat(entries).extracting(ExportEntry::name).containsExactly(
+            "2026-01-02_bien_" + okId.toString().substring(0, 8) + ".mp3");
+    }
+
+    @Test
+    @DisplayName("Should return an empty export when nothing is playable")
+    void shouldReturnEmptyExport() {
+        when(meditationRepositoryPort.findAllByUserId(USER_ID)).thenReturn(List.of());
+
+        assertThat(service.entries(USER_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should derive slugs and extensions from titles and URLs")
+    void shouldDeriveSlugsAndExtensions() {
+        assertThat(ExportMeditationLibraryService.slug("  Paz Interior: Día 1 ")).isEqualTo("paz-interior-día-1");
+        assertThat(ExportMeditationLibraryService.slug("¡¡¡")).isEqualTo("meditacion");
+        assertThat(ExportMeditationLibraryService.slug("a".repeat(100))).hasSize(60);
+        assertThat(ExportMeditationLibraryService.extension(BASE_URL + "output.MP4?X-Amz-Signature=1", "mp3")).isEqualTo("mp4");
+        assertThat(ExportMeditationLibraryService.extension(BASE_URL + "output", "srt")).isEqualTo("srt");
+    }
+
+    @Test
+    @DisplayName("Should reject a range outside the media")
+    void shouldRejectInvalidRange() {
+        MediaObject media = media(BASE_URL + "a/output.mp3");
+
+        assertThatThrownBy(() -> service.openRange(media, 5, 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        verify(mediaContentPort, never()).openRange(eq(media), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should reject a null userId")
+    void shouldRejectNullUserId() {
+        assertThatThrownBy(() -> service.entries(null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void describe(String url) {
+        when(mediaContentPort.describe(url)).thenReturn(media(url));
+    }
+
+    private static MediaObject media(String url) {
+        return new MediaObject(url, 10, "\"" + url.hashCode() + "\"", "application/octet-stream", null, null);
+    }
+
+    private static Meditation meditation(UUID id, String title, String createdAt, ProcessingState state, MediaUrls urls) {
+        return new Meditation(id, USER_ID, title, Instant.parse(createdAt), state, urls);
+    }
+}
@@ -0,0 +1,175 @@
+package com.hexagonal.playback.application.service;
+
+import com.hexagonal.playback.domain.exception.MeditationNotFoundException;
+import com.hexagonal.playback.domain.model.MediaObject;
+import com.hexagonal.playback.domain.model.MediaUrls;
+import com.hexagonal.playback.domain.model.Meditation;
+import com.hexagonal.playback.domain.model.ProcessingState;
+import com.hexagonal.playback.domain.ports.in.GetPlaybackInfoUseCase;
+import com.hexagonal.playback.domain.ports.out.MediaContentPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StreamMeditationMediaService Tests")
+class StreamMeditationMediaServiceTest {
+
+    private static final Instant FIXED_NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final UUID MEDITATION_ID = UUID.randomUUID();
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final String AUDIO_URL = "https://meditation-outputs.s3.amazonaws.com/generation/u/m/output.mp3";
+    private static final String VIDEO_URL = "https://meditation-outputs.s3.amazonaws.com/generation/u/m/output.mp4";
+
+    @Mock
+    private GetPlaybackInfoUseCase getPlaybackInfoUseCase;
+
+    @Mock
+    private MediaContentPort mediaContentPort;
+
+    @Mock
+    private Clock clock;
+
+    private StreamMeditationMediaService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.instant()).thenReturn(FIXED_NOW);
+        service = new StreamMeditationMediaService(
+            getPlaybackInfoUseCase, mediaContentPort, clock, Duration.ofMinutes(10), 100);
+    }
+
+    @Test
+    @DisplayName("Should serve the video when the meditation has one")
+    void shouldPreferVideo() {
+        when(getPlaybackInfoUseCase.execute(MEDITATION_ID, USER_ID))
+            .thenReturn(meditation(new MediaUrls(AUDIO_URL, VIDEO_URL, null)));
+        MediaObject video = media(VIDEO_URL);
+        when(mediaContentPort.describe(VIDEO_URL)).thenReturn(video);
+
+        assertThat(service.describe(MEDITATION_ID, USER_ID)).isEqualTo(video);
+    }
+
+    @Test
+    @DisplayName("Should serve the audio when the meditation has no video")
+    void shouldServeAudioWithoutVideo() {
+        when(getPlaybackInfoUseCase.execute(MEDITATION_ID, USER_ID))
+            .thenReturn(meditation(new MediaUrls(AUDIO_URL, null, null)));
+        MediaObject audio = media(AUDIO_URL);
+        when(mediaContentPort.describe(AUDIO_URL)).thenReturn(audio);
+
+        assertThat(service.describe(MEDITATION_ID, USER_ID)).isEqualTo(audio);
+    }
+
+    @Test
+    @DisplayName("Should check access once per session and reuse the grant")
+    void shouldReuseGrantWithinTtl() {
+        when(getPlaybackInfoUseCase.execute(MEDITATION_ID, USER_ID))
+            .thenReturn(meditation(new MediaUrls(AUDIO_URL, null, null)));
+        when(mediaContentPort.describe(AUDIO_URL)).thenReturn(media(AUDIO_URL));
+
+        service.describe(MEDITATION_ID, USER_ID);
+        when(clock.instant()).thenReturn(FIXED_NOW.plus(Duration.ofMinutes(9)));
+        service.describe(MEDITATION_ID, USER_ID);
+
+        verify(getPlaybackInfoUseCase, times(1)).execute(MEDITATION_ID, USER_ID);
+        verify(mediaContentPort, times(2)).describe(AUDIO_URL);
+    }
+
+    @Test
+    @DisplayName("Should check access again once the grant expired")
+    void shouldRecheckAfterTtl() {
+        when(getPlaybackInfoUseCase.execute(MEDITATION_ID, USER_ID))
+            .thenReturn(meditation(new MediaUrls(AUDIO_URL, null, null)));
+        when(mediaContentPort.describe(AUDIO_URL)).thenReturn(media(AUDIO_URL));
+
+        service.describe(MEDITATION_ID, USER_ID);
+        when(clock.instant()).thenReturn(FIXED_NOW.plus(Duration.ofMinutes(10)));
+        service.describe(MEDITATION_ID, USER_ID);
+
+        verify(getPlaybackInfoUseCase, times(2)).execute(MEDITATION_ID, USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should not grant access to another user")
+    void shouldNotShareGrantsBetweenUsers() {
+        UUID otherUser = UUID.randomUUID();
+        when(getPlaybackInfoUseCase.execute(MEDITATION_ID, USER_ID))
+            .thenReturn(meditation(new MediaUrls(AUDIO_URL, null, null)));
+        when(mediaContentPort.describe(AUDIO_URL)).thenReturn(media(AUDIO_URL));
+        when(getPlaybackInfoUseCase.execute(MEDITATION_ID, otherUser))
+            .thenThrow(new MeditationNotFoundException(MEDITATION_ID, otherUser));
+
+        service.describe(MEDITATION_ID, USER_ID);
+
+        assertThatThrownBy(() -> service.describe(MEDITATION_ID, otherUser))
+            .isInstanceOf(MeditationNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep no more grants than the configured maximum")
+    void shouldBoundGrants() {
+        service = new StreamMeditationMediaService(
+            getPlaybackInfoUseCase, mediaContentPort, clock, Duration.ofMinutes(10), 2);
+        when(mediaContentPort.describe(AUDIO_URL)).thenReturn(media(AUDIO_URL));
+        for (int i = 0; i < 5; i++) {
+            UUID meditationId = UUID.randomUUID();
+            when(getPlaybackInfoUseCase.execute(meditationId, USER_ID))
+                .thenReturn(meditation(new MediaUrls(AUDIO_URL, null, null)));
+            service.describe(meditationId, USER_ID);
+        }
+
+        assertThat(service.grantCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should open valid ranges and reject the others")
+    void shouldValidateRanges() {
+        MediaObject audio = media(AUDIO_URL);
+        InputStream stream = new ByteArrayInputStream(new byte[10]);
+        when(mediaContentPort.openRange(audio, 0, 9)).thenReturn(stream);
+
+        assertThat(service.openRange(audio, 0, 9)).isSameAs(stream);
+        assertThatThrownBy(() -> service.openRange(audio, 5, 1000))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.openRange(audio, 5, 4))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject null ids before checking access")
+    void shouldRejectNullIds() {
+        assertThatThrownBy(() -> service.describe(null, USER_ID))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.describe(MEDITATION_ID, null))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(getPlaybackInfoUseCase, mediaContentPort);
+    }
+
+    private static Meditation meditation(MediaUrls mediaUrls) {
+        return new Meditation(MEDITATION_ID, USER_ID, "Morning Meditation", FIXED_NOW.minusSeconds(3600),
+            ProcessingState.COMPLETED, mediaUrls);
+    }
+
+    private static MediaObject media(String url) {
+        return new MediaObject(url, 1000, "\"abc\"", "audio/mpeg", FIXED_NOW, null);
+    }
+}
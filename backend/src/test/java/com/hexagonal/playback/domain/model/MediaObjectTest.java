@@ -0,0 +1,46 @@
+package com.hexagonal.playback.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for MediaObject value object.
+ */
+class MediaObjectTest {
+
+    private static final String URL = "https://example.com/video.mp4";
+
+    @Test
+    void shouldDefaultMissingContentType() {
+        MediaObject media = new MediaObject(URL, 10, "\"abc\"", null, null, null);
+
+        assertThat(media.contentType()).isEqualTo("application/octet-stream");
+        assertThat(media.isCached()).isFalse();
+    }
+
+    @Test
+    void shouldPointAtLocalFileWhenCached() {
+        MediaObject media = new MediaObject(URL, 10, "\"abc\"", "video/mp4", Instant.EPOCH, null);
+
+        MediaObject cached = media.withLocalFile(Path.of("/tmp/cached"));
+
+        assertThat(cached.isCached()).isTrue();
+        assertThat(cached.localFile()).isEqualTo(Path.of("/tmp/cached"));
+        assertThat(cached.etag()).isEqualTo(media.etag());
+    }
+
+    @Test
+    void shouldRejectInvalidValues() {
+        assertThatThrownBy(() -> new MediaObject(" ", 10, "\"abc\"", null, null, null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MediaObject(URL, -1, "\"abc\"", null, null, null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MediaObject(URL, 10, null, null, null, null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -167,4 +167,42 @@ class MediaUrlsTest {
         assertThat(toString).contains("videoUrl=");
         assertThat(toString).contains("subtitlesUrl=");
     }
+
+    @Test
+    void shouldExposeHlsPlaylistWhenPackaged() {
+        // When
+        MediaUrls packaged = new MediaUrls(
+            "https://example.com/audio.mp3",
+            null,
+            null,
+            "https://example.com/hls/master.m3u8"
+        );
+        MediaUrls progressiveOnly = new MediaUrls("https://example.com/audio.mp3", null, null, "  ");
+        
+        // Then
+        assertThat(packaged.hasStreaming()).isTrue();
+        assertThat(packaged.streamingUrl()).isEqualTo("https://example.com/hls/master.m3u8");
+        assertThat(progressiveOnly.hasStreaming()).isFalse();
+        assertThat(progressiveOnly.streamingUrl()).isNull();
+    }
+
+    @Test
+    void shouldCarryOptionalPlaybackAssets() {
+        // When
+        MediaUrls withAssets = new MediaUrls(
+            null,
+            "https://example.com/video.mp4",
+            null,
+            null,
+            "https://example.com/waveform.json",
+            " "
+        );
+        MediaUrls withoutAssets = new MediaUrls("https://example.com/audio.mp3", null, null);
+        
+        // Then
+        assertThat(withAssets.waveformUrl()).isEqualTo("https://example.com/waveform.json");
+        assertThat(withAssets.posterUrl()).isNull();
+        assertThat(withoutAssets.waveformUrl()).isNull();
+        assertThat(withoutAssets.posterUrl()).isNull();
+    }
 }
@@ -0,0 +1,172 @@
+package com.hexagonal.playback.infrastructure.in.rest.controller;
+
+import com.hexagonal.playback.domain.model.ExportEntry;
+import com.hexagonal.playback.domain.model.MediaObject;
+import com.hexagonal.playback.domain.ports.in.ExportMeditationLibraryUseCase;
+import com.hexagonal.playback.infrastructure.in.rest.exception.PlaybackExceptionHandler;
+import com.hexagonal.playback.infrastructure.in.rest.export.StoredZipWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for LibraryExportController REST API.
+ * Uses MockMvc with a real ZIP writer to test archive, range and conditional responses.
+ */
+@ContextConfiguration(classes = com.hexagonal.meditationbuilder.MeditationBuilderApplication.class)
+@WebMvcTest(
+    controllers = LibraryExportController.class,
+    excludeFilters = @Filter(
+        type = FilterType.ASSIGNABLE_TYPE,
+        classes = com.hexagonal.meditationbuilder.infrastructure.in.rest.controller.GlobalExceptionHandler.class
+    )
+)
+@Import({PlaybackExceptionHandler.class, LibraryExportControllerTest.WriterConfig.class})
+@DisplayName("LibraryExportController REST API Tests")
+class LibraryExportControllerTest {
+
+    private static final UUID USER_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+    private static final String URL = "https://meditation-outputs.s3.amazonaws.com/generation/u/m/output.mp3";
+    private static final String NAME = "2026-02-16_calma_550e8400.mp3";
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+    @TestConfiguration
+    static class WriterConfig {
+
+        @Bean
+        StoredZipWriter storedZipWriter() {
+            return new StoredZipWriter(Executors.newFixedThreadPool(2), 2, 4096, 4, Duration.ofSeconds(5), 100);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ExportMeditationLibraryUseCase exportMeditationLibraryUseCase;
+
+    @MockBean
+    private Clock clock; // For PlaybackExceptionHandler
+
+    @TempDir
+    Path tempDir;
+
+    private final MediaObject media = new MediaObject(
+        URL, CONTENT.length, "\"v1\"", "audio/mpeg", Instant.parse("2026-02-16T10:30:00Z"), null);
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.instant()).thenReturn(Instant.parse("2026-02-17T00:00:00Z"));
+        when(exportMeditationLibraryUseCase.entries(USER_ID)).thenReturn(List.of(new ExportEntry(NAME, media)));
+        lenient().when(exportMeditationLibraryUseCase.openRange(eq(media), anyLong(), anyLong()))
+            .thenAnswer(invocation -> {
+                int first = (int) (long) invocation.getArgument(1);
+                int last = (int) (long) invocation.getArgument(2);
+                return new ByteArrayInputStream(CONTENT, first, last - first + 1);
+            });
+    }
+
+    @Test
+    @DisplayName("GET /export - Should stream the library as a ZIP attachment")
+    void shouldStreamLibrary() throws Exception {
+        MvcResult result = mockMvc.perform(exportRequest())
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "application/zip"))
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"meditaciones.zip\""))
+            .andExpect(header().string("Accept-Ranges", "bytes"))
+            .andExpect(header().exists("ETag"))
+            .andReturn();
+
+        byte[] archive = result.getResponse().getContentAsByteArray();
+        assertThat(result.getResponse().getHeader("Content-Length")).isEqualTo(String.valueOf(archive.length));
+        Path file = Files.write(tempDir.resolve("library.zip"), archive);
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            assertThat(zip.size()).isEqualTo(1);
+            assertThat(zip.getInputStream(zip.getEntry(NAME)).readAllBytes()).isEqualTo(CONTENT);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /export - Should resume with a range of the same archive")
+    void shouldResumeWithRange() throws Exception {
+        MvcResult full = mockMvc.perform(exportRequest()).andReturn();
+        byte[] archive = full.getResponse().getContentAsByteArray();
+        String etag = full.getResponse().getHeader("ETag");
+
+        mockMvc.perform(exportRequest().header("Range", "bytes=40-").header("If-Range", etag))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string("Content-Range", "bytes 40-" + (archive.length - 1) + "/" + archive.length))
+            .andExpect(content().bytes(Arrays.copyOfRange(archive, 40, archive.length)));
+    }
+
+    @Test
+    @DisplayName("GET /export - Should return the whole archive when the library changed since")
+    void shouldRestartWhenLibraryChanged() throws Exception {
+        mockMvc.perform(exportRequest().header("Range", "bytes=40-").header("If-Range", "\"stale\""))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("Content-Range"));
+    }
+
+    @Test
+    @DisplayName("GET /export - Should return 304 when the library did not change")
+    void shouldReturnNotModified() throws Exception {
+        String etag = mockMvc.perform(exportRequest()).andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(exportRequest().header("If-None-Match", etag))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("GET /export - Should return an empty archive for an empty library")
+    void shouldReturnEmptyArchive() throws Exception {
+        when(exportMeditationLibraryUseCase.entries(USER_ID)).thenReturn(List.of());
+
+        mockMvc.perform(exportRequest())
+            .andExpect(status().isOk())
+            .andExpect(header().longValue("Content-Length", 22));
+        verify(exportMeditationLibraryUseCase, never()).openRange(eq(media), anyLong(), anyLong());
+    }
+
+    private MockHttpServletRequestBuilder exportRequest() {
+        return get("/v1/playback/meditations/export")
+            .with(authentication(new UsernamePasswordAuthenticationToken(USER_ID.toString(), null, List.of())));
+    }
+}
@@ -0,0 +1,212 @@
+package com.hexagonal.playback.infrastructure.in.rest.controller;
+
+import com.hexagonal.playback.domain.exception.MediaUnavailableException;
+import com.hexagonal.playback.domain.exception.MeditationNotFoundException;
+import com.hexagonal.playback.domain.model.MediaObject;
+import com.hexagonal.playback.domain.ports.in.StreamMeditationMediaUseCase;
+import com.hexagonal.playback.infrastructure.in.rest.exception.PlaybackExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for MediaStreamController REST API.
+ * Uses MockMvc to test range, conditional and error responses.
+ */
+@ContextConfiguration(classes = com.hexagonal.meditationbuilder.MeditationBuilderApplication.class)
+@WebMvcTest(
+    controllers = MediaStreamController.class,
+    excludeFilters = @Filter(
+        type = FilterType.ASSIGNABLE_TYPE,
+        classes = com.hexagonal.meditationbuilder.infrastructure.in.rest.controller.GlobalExceptionHandler.class
+    )
+)
+@Import(PlaybackExceptionHandler.class)
+@DisplayName("MediaStreamController REST API Tests")
+class MediaStreamControllerTest {
+
+    private static final UUID USER_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+    private static final UUID MEDITATION_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    private static final String URL = "https://meditation-outputs.s3.amazonaws.com/generation/u/m/output.mp3";
+    private static final String ETAG = "\"d41d8cd98f00b204\"";
+    private static final Instant MODIFIED = Instant.parse("2026-02-16T10:30:00Z");
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private StreamMeditationMediaUseCase streamMeditationMediaUseCase;
+
+    @MockBean
+    private Clock clock; // For PlaybackExceptionHandler
+
+    @TempDir
+    Path tempDir;
+
+    private final MediaObject media = new MediaObject(URL, CONTENT.length, ETAG, "audio/mpeg", MODIFIED, null);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(Instant.parse("2026-02-17T00:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("GET /media - Should return the full content with validators")
+    void shouldReturnFullContent() throws Exception {
+        when(streamMeditationMediaUseCase.describe(MEDITATION_ID, USER_ID)).thenReturn(media);
+        when(streamMeditationMediaUseCase.openRange(media, 0, 9)).thenReturn(new ByteArrayInputStream(CONTENT));
+
+        mockMvc.perform(mediaRequest())
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", ETAG))
+            .andExpect(header().string("Accept-Ranges", "bytes"))
+            .andExpect(header().string("Content-Type", "audio/mpeg"))
+            .andExpect(header().longValue("Content-Length", 10))
+            .andExpect(header().exists("Last-Modified"))
+            .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    @DisplayName("GET /media - Should return 206 with Content-Range for a single range")
+    void shouldReturnPartialContent() throws Exception {
+        when(streamMeditationMediaUseCase.describe(MEDITATION_ID, USER_ID)).thenReturn(media);
+        when(streamMeditationMediaUseCase.openRange(media, 2, 5))
+            .thenReturn(new ByteArrayInputStream(CONTENT, 2, 4));
+
+        mockMvc.perform(mediaRequest().header("Range", "bytes=2-5"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string("Content-Range", "bytes 2-5/10"))
+            .andExpect(header().longValue("Content-Length", 4))
+            .andExpect(content().string("2345"));
+    }
+
+    @Test
+    @DisplayName("GET /media - Should resolve suffix ranges against the length")
+    void shouldReturnSuffixRange() throws Exception {
+        when(streamMeditationMediaUseCase.describe(MEDITATION_ID, USER_ID)).thenReturn(media);
+        when(streamMeditationMediaUseCase.openRange(media, 7, 9))
+            .thenReturn(new ByteArrayInputStream(CONTENT, 7, 3));
+
+        mockMvc.perform(mediaRequest().header("Range", "bytes=-3"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string("Content-Range", "bytes 7-9/10"))
+            .andExpect(content().string("789"));
+    }
+
+    @Test
+    @DisplayName("GET /media - Should return the full content when If-Range does not match")
+    void shouldIgnoreRangeOnIfRangeMismatch() throws Exception {
+        when(streamMeditationMediaUseCase.describe(MEDITATION_ID, USER_ID)).thenReturn(media);
+        when(streamMeditationMediaUseCase.openRange(media, 0, 9)).thenReturn(new ByteArrayInputStream(CONTENT));
+
+        mockMvc.perform(mediaRequest().header("Range", "bytes=2-5").header("If-Range", "\"stale\""))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("Content-Range"))
+            .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    @DisplayName("GET /media - Should return the full content for several ranges")
+    void shouldServeMultipleRangesInFull() throws Exception {
+        when(streamMeditationMediaUseCase.describe(MEDITATION_ID, USER_ID)).thenReturn(media);
+        when(streamMeditationMediaUseCase.openRange(media, 0, 9)).thenReturn(new ByteArrayInputStream(CONTENT));
+
+        mockMvc.perform(mediaRequest().header("Range", "bytes=0-1,5-6"))
+            .andExpect(status().isOk())
+            .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    @DisplayName("GET /media - Should return 416 for an unsatisfiable range")
+    void shouldRejectUnsatisfiableRange() throws Exception {
+        when(streamMeditationMediaUseCase.describe(MEDITATION_ID, USER_ID)).thenReturn(media);
+
+        mockMvc.perform(mediaRequest().header("Range", "bytes=20-"))
+            .andExpect(status().isRequestedRangeNotSatisfiable())
+            .andExpect(header().string("Content-Range", "bytes */10"));
+        verify(streamMeditationMediaUseCase, never()).openRange(eq(media), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("GET /media - Should return 304 when the client copy is current")
+    void shouldReturnNotModified() throws Exception {
+        when(streamMeditationMediaUseCase.describe(MEDITATION_ID, USER_ID)).thenReturn(media);
+
+        mockMvc.perform(mediaRequest().header("If-None-Match", ETAG))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", ETAG));
+        verify(streamMeditationMediaUseCase, never()).openRange(eq(media), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("GET /media - Should send cached media from the local file")
+    void shouldSendCachedFile() throws Exception {
+        Path file = tempDir.resolve("cached");
+        Files.write(file, CONTENT);
+        MediaObject cached = media.withLocalFile(file);
+        when(streamMeditationMediaUseCase.describe(MEDITATION_ID, USER_ID)).thenReturn(cached);
+
+        mockMvc.perform(mediaRequest().header("Range", "bytes=4-"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string("Content-Range", "bytes 4-9/10"))
+            .andExpect(content().string("456789"));
+        verify(streamMeditationMediaUseCase, never()).openRange(eq(cached), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("GET /media - Should return 404 when the meditation is not found")
+    void shouldReturnNotFound() throws Exception {
+        when(streamMeditationMediaUseCase.describe(MEDITATION_ID, USER_ID))
+            .thenThrow(new MeditationNotFoundException(MEDITATION_ID, USER_ID));
+
+        mockMvc.perform(mediaRequest())
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.message").value("Meditación no encontrada"));
+    }
+
+    @Test
+    @DisplayName("GET /media - Should return 502 when the storage cannot be read")
+    void shouldReturnBadGatewayWhenStorageFails() throws Exception {
+        when(streamMeditationMediaUseCase.describe(MEDITATION_ID, USER_ID))
+            .thenThrow(new MediaUnavailableException(URL, new RuntimeException("timeout")));
+
+        mockMvc.perform(mediaRequest())
+            .andExpect(status().isBadGateway())
+            .andExpect(jsonPath("$.message").value("No se pudo obtener el contenido de la meditación"));
+    }
+
+    private MockHttpServletRequestBuilder mediaRequest() {
+        return get("/v1/playback/meditations/{id}/media", MEDITATION_ID)
+            .with(authentication(new UsernamePasswordAuthenticationToken(USER_ID.toString(), null, List.of())));
+    }
+}
@@ -6,8 +6,10 @@ import com.hexagonal.playback.domain.exception.MeditationNotPlayableException;
 import com.hexagonal.playback.domain.model.MediaUrls;
 import com.hexagonal.playback.domain.model.Meditation;
 import com.hexagonal.playback.domain.model.ProcessingState;
+import com.hexagonal.playback.domain.ports.in.ExportMeditationLibraryUseCase;
 import com.hexagonal.playback.domain.ports.in.GetPlaybackInfoUseCase;
 import com.hexagonal.playback.domain.ports.in.ListMeditationsUseCase;
+import com.hexagonal.playback.domain.ports.in.StreamMeditationMediaUseCase;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import org.junit.jupiter.api.BeforeEach;
@@ -104,6 +106,12 @@ public class PlaybackContractTest {
     @MockBean
     private GetPlaybackInfoUseCase getPlaybackInfoUseCase;
 
+    @MockBean
+    private StreamMeditationMediaUseCase streamMeditationMediaUseCase;
+
+    @MockBean
+    private ExportMeditationLibraryUseCase exportMeditationLibraryUseCase;
+
     private static final String OPENAPI_SPEC = "openapi/playback/list-play-meditations.yaml";
     private final OpenApiValidationFilter validationFilter = new OpenApiValidationFilter(OPENAPI_SPEC);
 
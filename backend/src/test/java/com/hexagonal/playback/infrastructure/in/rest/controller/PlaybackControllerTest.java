@@ -203,7 +203,40 @@ class PlaybackControllerTest {
             .andExpect(jsonPath("$.createdAt").value("2026-02-16T10:30:00Z"))
             .andExpect(jsonPath("$.mediaUrls.audioUrl").value("https://meditation-outputs.s3.amazonaws.com/audio.mp3"))
             .andExpect(jsonPath("$.mediaUrls.videoUrl").doesNotExist())
-            .andExpect(jsonPath("$.mediaUrls.subtitlesUrl").value("https://meditation-outputs.s3.amazonaws.com/subs.srt"));
+            .andExpect(jsonPath("$.mediaUrls.subtitlesUrl").value("https://meditation-outputs.s3.amazonaws.com/subs.srt"))
+            .andExpect(jsonPath("$.waveformUrl").doesNotExist())
+            .andExpect(jsonPath("$.posterUrl").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /playback/meditations/{id} - Should reference the precomputed waveform and poster")
+    void shouldReturnPlaybackAssets() throws Exception {
+        // Given
+        Meditation meditation = createMeditation(
+            MEDITATION_ID_1,
+            "Morning Mindfulness",
+            ProcessingState.COMPLETED,
+            Instant.parse("2026-02-16T10:30:00Z"),
+            new MediaUrls(
+                null,
+                "https://meditation-outputs.s3.amazonaws.com/video.mp4",
+                null,
+                null,
+                "https://meditation-outputs.s3.amazonaws.com/waveform.json",
+                "https://meditation-outputs.s3.amazonaws.com/poster.jpg"
+            )
+        );
+
+        when(getPlaybackInfoUseCase.execute(MEDITATION_ID_1, USER_ID))
+            .thenReturn(meditation);
+
+        // When/Then
+        mockMvc.perform(get("/v1/playback/meditations/{id}", MEDITATION_ID_1)
+                .with(authentication(new UsernamePasswordAuthenticationToken(USER_ID.toString(), null, List.of())))
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.waveformUrl").value("https://meditation-outputs.s3.amazonaws.com/waveform.json"))
+            .andExpect(jsonPath("$.posterUrl").value("https://meditation-outputs.s3.amazonaws.com/poster.jpg"));
     }
 
     @Test
@@ -0,0 +1,105 @@
+package com.hexagonal.playback.infrastructure.in.rest.export;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StoredZipLayout Tests")
+class StoredZipLayoutTest {
+
+    private static final Instant MODIFIED = Instant.parse("2026-02-16T10:30:10Z");
+
+    @Test
+    @DisplayName("Should lay entries out back to back from names and sizes")
+    void shouldComputeOffsets() {
+        StoredZipLayout layout = new StoredZipLayout(List.of(
+            new StoredZipLayout.Entry("a.mp3", 100, MODIFIED),
+            new StoredZipLayout.Entry("bb.srt", 7, MODIFIED)));
+
+        assertThat(layout.headerOffset(0)).isZero();
+        assertThat(layout.dataOffset(0)).isEqualTo(30 + 5);
+        assertThat(layout.descriptorOffset(0)).isEqualTo(135);
+        assertThat(layout.headerOffset(1)).isEqualTo(135 + 16);
+        assertThat(layout.centralDirectoryOffset()).isEqualTo(151 + 30 + 6 + 7 + 16);
+        assertThat(layout.length()).isEqualTo(layout.centralDirectoryOffset() + (46 + 5) + (46 + 6) + 22);
+    }
+
+    @Test
+    @DisplayName("Should write sizes and UTC DOS time in the local header, CRC in the descriptor")
+    void shouldEncodeLocalHeader() {
+        StoredZipLayout layout = new StoredZipLayout(List.of(new StoredZipLayout.Entry("a.mp3", 100, MODIFIED)));
+
+        ByteBuffer header = ByteBuffer.wrap(layout.localHeader(0)).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(header.getInt(0)).isEqualTo(0x04034b50);
+        assertThat(header.getShort(6)).isEqualTo((short) 0x0808);
+        assertThat(header.getShort(8)).isZero();
+        assertThat(header.getShort(10)).isEqualTo((short) ((10 << 11) | (30 << 5) | 5));
+        assertThat(header.getShort(12)).isEqualTo((short) ((46 << 9) | (2 << 5) | 16));
+        assertThat(header.getInt(14)).isZero();
+        assertThat(header.getInt(18)).isEqualTo(100);
+        assertThat(header.getInt(22)).isEqualTo(100);
+
+        ByteBuffer descriptor = ByteBuffer.wrap(layout.dataDescriptor(0, 0xCAFEBABE)).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(descriptor.getInt(0)).isEqualTo(0x08074b50);
+        assertThat(descriptor.getInt(4)).isEqualTo(0xCAFEBABE);
+    }
+
+    @Test
+    @DisplayName("Should use ZIP64 fields for entries of 4 GiB or more")
+    void shouldUseZip64ForLargeEntries() {
+        long size = 5_000_000_000L;
+        StoredZipLayout layout = new StoredZipLayout(List.of(
+            new StoredZipLayout.Entry("big.mp4", size, MODIFIED),
+            new StoredZipLayout.Entry("small.srt", 3, MODIFIED)));
+
+        assertThat(layout.localHeaderLength(0)).isEqualTo(30 + 7 + 20);
+        assertThat(layout.descriptorLength(0)).isEqualTo(24);
+        assertThat(layout.headerOffset(1)).isEqualTo(57 + size + 24);
+        // Second entry: sizes fit, its offset does not
+        assertThat(layout.centralHeaderLength(1)).isEqualTo(46 + 9 + 4 + 8);
+        ByteBuffer central = ByteBuffer.wrap(layout.centralHeader(1, 0)).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(central.getInt(42)).isEqualTo(-1);
+        assertThat(central.getLong(46 + 9 + 4)).isEqualTo(layout.headerOffset(1));
+        // Central directory past 4 GiB: ZIP64 end record and locator before the classic end
+        assertThat(layout.end()).hasSize(56 + 20 + 22);
+    }
+
+    @Test
+    @DisplayName("Should use the ZIP64 end records beyond 65534 entries")
+    void shouldUseZip64ForManyEntries() {
+        List<StoredZipLayout.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 65535; i++) {
+            entries.add(new StoredZipLayout.Entry("f" + i, 0, null));
+        }
+
+        StoredZipLayout layout = new StoredZipLayout(entries);
+
+        ByteBuffer end = ByteBuffer.wrap(layout.end()).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(end.getInt(0)).isEqualTo(0x06064b50);
+        assertThat(end.getLong(24)).isEqualTo(65535);
+    }
+
+    @Test
+    @DisplayName("Should produce just the end record for an empty archive")
+    void shouldLayOutEmptyArchive() {
+        StoredZipLayout layout = new StoredZipLayout(List.of());
+
+        assertThat(layout.length()).isEqualTo(22);
+        assertThat(layout.end()).hasSize(22);
+    }
+
+    @Test
+    @DisplayName("Should reject a negative size")
+    void shouldRejectNegativeSize() {
+        assertThatThrownBy(() -> new StoredZipLayout.Entry("a", -1, null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,159 @@
+package com.hexagonal.playback.infrastructure.in.rest.export;
+
+import com.hexagonal.playback.domain.exception.MediaUnavailableException;
+import com.hexagonal.playback.domain.model.MediaObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StoredZipWriter Tests")
+class StoredZipWriterTest {
+
+    private static final Instant MODIFIED = Instant.parse("2026-02-16T10:30:10Z");
+
+    @TempDir
+    Path tempDir;
+
+    private ExecutorService pool;
+    private final List<byte[]> contents = new ArrayList<>();
+    private final List<MediaObject> media = new ArrayList<>();
+    private final AtomicInteger reads = new AtomicInteger();
+    private StoredZipLayout layout;
+
+    @BeforeEach
+    void setUp() {
+        pool = Executors.newFixedThreadPool(4);
+        Random random = new Random(42);
+        int[] sizes = {1000, 0, 300_000, 5, 70_000};
+        List<StoredZipLayout.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < sizes.length; i++) {
+            byte[] content = new byte[sizes[i]];
+            random.nextBytes(content);
+            contents.add(content);
+            media.add(new MediaObject("s3://bucket/" + i, content.length, "\"v" + i + "\"", "audio/mpeg", MODIFIED, null));
+            entries.add(new StoredZipLayout.Entry("2026-02-16_meditación_" + i + ".mp3", content.length, MODIFIED));
+        }
+        layout = new StoredZipLayout(entries);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should write an archive standard readers extract byte for byte")
+    void shouldWriteReadableArchive() throws IOException {
+        byte[] archive = write(writer(), 0, layout.length() - 1);
+
+        assertThat(archive).hasSize((int) layout.length());
+        Path file = Files.write(tempDir.resolve("library.zip"), archive);
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            List<? extends ZipEntry> entries = zip.stream().toList();
+            assertThat(entries).hasSize(contents.size());
+            for (int i = 0; i < entries.size(); i++) {
+                ZipEntry entry = entries.get(i);
+                assertThat(entry.getName()).isEqualTo("2026-02-16_meditación_" + i + ".mp3");
+                assertThat(entry.getMethod()).isEqualTo(ZipEntry.STORED);
+                assertThat(entry.getLastModifiedTime().toInstant()).isEqualTo(MODIFIED);
+                assertThat(zip.getInputStream(entry).readAllBytes()).isEqualTo(contents.get(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should write exactly the requested range of the archive")
+    void shouldWriteRanges() throws IOException {
+        byte[] archive = write(writer(), 0, layout.length() - 1);
+        long[][] ranges = {{0, 10}, {1100, 1200}, {5000, layout.length() - 1},
+            {layout.length() - 30, layout.length() - 1}, {layout.dataOffset(2), layout.dataOffset(2)}};
+
+        for (long[] range : ranges) {
+            byte[] part = write(writer(), range[0], range[1]);
+
+            assertThat(part).as("bytes %d-%d", range[0], range[1])
+                .isEqualTo(Arrays.copyOfRange(archive, (int) range[0], (int) range[1] + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Should not read entries again for their CRC once it is known")
+    void shouldReuseKnownCrcs() throws IOException {
+        StoredZipWriter writer = writer();
+        write(writer, 0, layout.length() - 1);
+        reads.set(0);
+
+        write(writer, layout.centralDirectoryOffset(), layout.length() - 1);
+
+        assertThat(reads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should read only the data inside the range when no CRC is needed")
+    void shouldSkipDataOutsideRange() throws IOException {
+        write(writer(), layout.dataOffset(2), layout.dataOffset(2) + 99);
+
+        assertThat(reads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should propagate a storage failure")
+    void shouldPropagateStorageFailure() {
+        StoredZipWriter.RangeReader failing = (object, first, last) -> {
+            throw new MediaUnavailableException(object.url(), new RuntimeException("timeout"));
+        };
+
+        assertThatThrownBy(() -> writer().write(layout, media, failing, 0, layout.length() - 1,
+                new ByteArrayOutputStream()))
+            .isInstanceOf(MediaUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("Should fail when the storage returns fewer bytes than described")
+    void shouldDetectTruncatedObject() {
+        StoredZipWriter.RangeReader truncated = (object, first, last) -> new ByteArrayInputStream(new byte[1]);
+
+        assertThatThrownBy(() -> writer().write(layout, media, truncated, 0, layout.length() - 1,
+                new ByteArrayOutputStream()))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("truncated");
+    }
+
+    private StoredZipWriter writer() {
+        return new StoredZipWriter(pool, 2, 4096, 4, Duration.ofSeconds(5), 100);
+    }
+
+    private byte[] write(StoredZipWriter writer, long first, long last) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(layout, media, this::read, first, last, out);
+        return out.toByteArray();
+    }
+
+    private ByteArrayInputStream read(MediaObject object, long first, long last) {
+        reads.incrementAndGet();
+        byte[] content = contents.get(media.indexOf(object));
+        return new ByteArrayInputStream(content, (int) first, (int) (last - first + 1));
+    }
+}
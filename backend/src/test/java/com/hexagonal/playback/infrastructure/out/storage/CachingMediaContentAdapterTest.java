@@ -0,0 +1,185 @@
+package com.hexagonal.playback.infrastructure.out.storage;
+
+import com.hexagonal.playback.domain.model.MediaObject;
+import com.hexagonal.playback.domain.ports.out.MediaContentPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CachingMediaContentAdapter Tests")
+class CachingMediaContentAdapterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final Map<String, byte[]> objects = new HashMap<>();
+    private final AtomicInteger describes = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /** In-memory storage */
+    private final MediaContentPort storage = new MediaContentPort() {
+        @Override
+        public MediaObject describe(String mediaUrl) {
+            describes.incrementAndGet();
+            return new MediaObject(mediaUrl, objects.get(mediaUrl).length, "\"" + mediaUrl.hashCode() + "\"",
+                "audio/mpeg", Instant.EPOCH, null);
+        }
+
+        @Override
+        public InputStream openRange(MediaObject media, long first, long last) {
+            return new ByteArrayInputStream(objects.get(media.url()), (int) first, (int) (last - first + 1));
+        }
+    };
+
+    private CachingMediaContentAdapter cache;
+
+    @BeforeEach
+    void setUp() {
+        objects.put("a", "0123456789".getBytes(StandardCharsets.UTF_8));
+        objects.put("b", "abcdefghij".getBytes(StandardCharsets.UTF_8));
+        objects.put("big", new byte[100]);
+        // Downloads run inline so the test sees them complete
+        cache = new CachingMediaContentAdapter(storage, tempDir.resolve("cache"), 15, Runnable::run, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should serve a miss from storage and the next lookup from disk")
+    void shouldCacheAfterMiss() throws IOException {
+        MediaObject first = cache.describe("a");
+        MediaObject second = cache.describe("a");
+
+        assertThat(first.isCached()).isFalse();
+        assertThat(second.isCached()).isTrue();
+        assertThat(Files.readString(second.localFile())).isEqualTo("0123456789");
+        assertThat(describes.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("playback.media.cache.lookups", "result", "hit").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("playback.media.cache.lookups", "result", "miss").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should read ranges of a cached object from disk")
+    void shouldReadRangeFromDisk() throws IOException {
+        cache.describe("a");
+        MediaObject cached = cache.describe("a");
+        objects.remove("a");
+
+        try (InputStream in = cache.openRange(cached, 3, 6)) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("3456");
+        }
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used object beyond the size bound")
+    void shouldEvictLeastRecentlyUsed() {
+        cache.describe("a");
+        cache.describe("a");
+        cache.describe("b");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.totalBytes()).isEqualTo(10);
+        assertThat(cache.describe("b").isCached()).isTrue();
+        assertThat(cache.describe("a").isCached()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep an evicted file until responses handed its path had time to open it")
+    void shouldDeleteEvictedFileAfterGrace() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-03-01T10:00:00Z"));
+        cache = new CachingMediaContentAdapter(storage, tempDir.resolve("graced"), 15, Runnable::run,
+            meterRegistry, clock, Duration.ofSeconds(30));
+        cache.describe("a");
+        Path evicted = cache.describe("a").localFile();
+
+        cache.describe("b");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(evicted).exists();
+        assertThat(cache.retiredCount()).isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(31));
+        cache.describe("b");
+
+        assertThat(evicted).doesNotExist();
+        assertThat(cache.retiredCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not cache objects larger than the cache")
+    void shouldSkipOversizedObjects() {
+        cache.describe("big");
+
+        assertThat(cache.describe("big").isCached()).isFalse();
+        assertThat(cache.totalBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should read from storage when the cached file disappeared")
+    void shouldFallBackWhenFileRemoved() throws IOException {
+        cache.describe("a");
+        MediaObject cached = cache.describe("a");
+        Files.delete(cached.localFile());
+
+        try (InputStream in = cache.openRange(cached, 0, 1)) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("01");
+        }
+        assertThat(cache.describe("a").isCached()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should start empty, dropping files left by a previous run")
+    void shouldClearDirectoryOnStartup() throws IOException {
+        Path dir = tempDir.resolve("cache");
+        Files.writeString(dir.resolve("leftover"), "stale");
+
+        new CachingMediaContentAdapter(storage, dir, 15, Runnable::run, new SimpleMeterRegistry());
+
+        assertThat(dir).isEmptyDirectory();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.hexagonal.playback.infrastructure.out.storage;
+
+import com.hexagonal.playback.domain.exception.MediaUnavailableException;
+import com.hexagonal.playback.domain.model.MediaObject;
+import com.hexagonal.shared.storage.FileSystemObjectStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FileSystemMediaContentAdapter Tests")
+class FileSystemMediaContentAdapterTest {
+
+    private static final String PUBLIC_URL = "http://localhost:8080/api/v1/storage";
+    private static final String KEY = "generation/user-1/med-1/audio.mp3";
+
+    @TempDir
+    Path tempDir;
+
+    private FileSystemMediaContentAdapter adapter;
+    private String url;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        FileSystemObjectStore store = new FileSystemObjectStore(tempDir.resolve("store"), PUBLIC_URL);
+        url = store.put(Files.writeString(tempDir.resolve("audio.mp3"), "0123456789"), KEY);
+        adapter = new FileSystemMediaContentAdapter(store);
+    }
+
+    @Test
+    @DisplayName("Should describe stored media with its local file and checksum ETag")
+    void shouldDescribeWithLocalFile() {
+        MediaObject media = adapter.describe(url);
+
+        assertThat(media.length()).isEqualTo(10);
+        assertThat(media.isCached()).isTrue();
+        assertThat(media.contentType()).isEqualTo("audio/mpeg");
+        assertThat(media.etag()).matches("\"[0-9a-f]{64}\"");
+    }
+
+    @Test
+    @DisplayName("Should read a byte range of the stored file")
+    void shouldReadRange() throws IOException {
+        MediaObject media = adapter.describe(url);
+
+        try (InputStream in = adapter.openRange(media.withLocalFile(null), 2, 4)) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("234");
+        }
+    }
+
+    @Test
+    @DisplayName("Should report missing media and foreign URLs as unavailable")
+    void shouldReportUnavailableMedia() {
+        assertThatThrownBy(() -> adapter.describe(PUBLIC_URL + "/generation/user-1/med-2/audio.mp3"))
+            .isInstanceOf(MediaUnavailableException.class);
+        assertThatThrownBy(() -> adapter.describe("https://meditation-outputs.s3.amazonaws.com/" + KEY))
+            .isInstanceOf(MediaUnavailableException.class);
+    }
+}
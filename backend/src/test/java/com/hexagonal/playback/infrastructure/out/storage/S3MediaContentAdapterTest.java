@@ -0,0 +1,96 @@
+package com.hexagonal.playback.infrastructure.out.storage;
+
+import com.hexagonal.playback.domain.exception.MediaUnavailableException;
+import com.hexagonal.playback.domain.model.MediaObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("S3MediaContentAdapter Tests")
+@ExtendWith(MockitoExtension.class)
+class S3MediaContentAdapterTest {
+
+    private static final String BUCKET = "meditation-outputs";
+    private static final String KEY = "generation/user-1/med-1/output.mp4";
+    private static final String URL = "https://meditation-outputs.s3.amazonaws.com/" + KEY;
+
+    @Mock
+    private S3Client s3Client;
+
+    private S3MediaContentAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new S3MediaContentAdapter(s3Client, BUCKET);
+    }
+
+    @Test
+    @DisplayName("Should recover the object key from both URL styles")
+    void shouldExtractKey() {
+        assertThat(S3MediaContentAdapter.keyOf(URL, BUCKET)).isEqualTo(KEY);
+        assertThat(S3MediaContentAdapter.keyOf("http://localhost:4566/meditation-outputs/" + KEY, BUCKET))
+            .isEqualTo(KEY);
+        assertThat(S3MediaContentAdapter.keyOf(URL + "?X-Amz-Algorithm=AWS4-HMAC-SHA256", BUCKET))
+            .isEqualTo(KEY);
+        assertThatThrownBy(() -> S3MediaContentAdapter.keyOf("https://meditation-outputs.s3.amazonaws.com/", BUCKET))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should describe an object from its metadata")
+    void shouldDescribeObject() {
+        Instant modified = Instant.parse("2026-01-01T00:00:00Z");
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder()
+            .contentLength(1234L)
+            .eTag("\"abc\"")
+            .contentType("video/mp4")
+            .lastModified(modified)
+            .build());
+
+        MediaObject media = adapter.describe(URL);
+
+        assertThat(media).isEqualTo(new MediaObject(URL, 1234L, "\"abc\"", "video/mp4", modified, null));
+        verify(s3Client).headObject(argThat((HeadObjectRequest request) ->
+            request.bucket().equals(BUCKET) && request.key().equals(KEY)));
+    }
+
+    @Test
+    @DisplayName("Should report missing objects as unavailable")
+    void shouldReportMissingObject() {
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+            .thenThrow(NoSuchKeyException.builder().message("missing").build());
+
+        assertThatThrownBy(() -> adapter.describe(URL))
+            .isInstanceOf(MediaUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("Should read ranges conditioned on the described ETag")
+    void shouldReadRangeIfMatch() {
+        when(s3Client.getObject(any(GetObjectRequest.class)))
+            .thenThrow(NoSuchKeyException.builder().message("missing").build());
+        MediaObject media = new MediaObject(URL, 1234L, "\"abc\"", "video/mp4", null, null);
+
+        assertThatThrownBy(() -> adapter.openRange(media, 100, 199))
+            .isInstanceOf(MediaUnavailableException.class);
+        verify(s3Client).getObject(argThat((GetObjectRequest request) ->
+            request.key().equals(KEY) && request.range().equals("bytes=100-199")
+                && request.ifMatch().equals("\"abc\"")));
+    }
+}
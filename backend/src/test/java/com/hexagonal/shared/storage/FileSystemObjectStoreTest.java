@@ -0,0 +1,257 @@
+package com.hexagonal.shared.storage;
+
+import com.hexagonal.shared.storage.FileSystemObjectStore.ListedObject;
+import com.hexagonal.shared.storage.FileSystemObjectStore.StoredObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FileSystemObjectStore Tests")
+class FileSystemObjectStoreTest {
+
+    private static final String PUBLIC_URL = "http://localhost:8080/api/v1/storage";
+    private static final String KEY = "generation/user-1/med-1/audio.mp3";
+
+    @TempDir
+    Path tempDir;
+
+    private Path root;
+    private FileSystemObjectStore store;
+
+    @BeforeEach
+    void setUp() {
+        root = tempDir.resolve("store");
+        store = new FileSystemObjectStore(root, PUBLIC_URL + "/");
+    }
+
+    @Test
+    @DisplayName("Should store a file and find it with its checksum")
+    void shouldPutAndFind() throws Exception {
+        Path source = Files.writeString(tempDir.resolve("audio.mp3"), "audio content");
+
+        String url = store.put(source, KEY);
+
+        assertThat(url).isEqualTo(PUBLIC_URL + "/" + KEY);
+        StoredObject object = store.find(KEY).orElseThrow();
+        assertThat(Files.readString(object.file())).isEqualTo("audio content");
+        assertThat(object.size()).isEqualTo(13);
+        assertThat(object.sha256()).isEqualTo(sha256("audio content"));
+        assertThat(object.contentType()).isEqualTo("audio/mpeg");
+        assertThat(object.file()).startsWith(root.resolve("objects"));
+        assertThat(Files.exists(source)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should write a sha256sum-compatible sidecar next to the object")
+    void shouldWriteChecksumSidecar() throws Exception {
+        store.put(Files.writeString(tempDir.resolve("audio.mp3"), "audio content"), KEY);
+
+        Path object = store.find(KEY).orElseThrow().file();
+        assertThat(Files.readString(object.resolveSibling("audio.mp3.sha256")))
+            .isEqualTo(sha256("audio content") + "  audio.mp3\n");
+    }
+
+    @Test
+    @DisplayName("Should store identical content once, under a sharded blob")
+    void shouldDeduplicateIdenticalContent() throws Exception {
+        Path source = Files.writeString(tempDir.resolve("audio.mp3"), "same content");
+        store.put(source, KEY);
+        store.put(source, "generation/user-2/med-2/audio.mp3");
+
+        Path first = store.find(KEY).orElseThrow().file();
+        Path second = store.find("generation/user-2/med-2/audio.mp3").orElseThrow().file();
+        String hash = sha256("same content");
+        Path blob = root.resolve("blobs").resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+        assertThat(blob).exists();
+        assertThat(Files.isSameFile(first, blob)).isTrue();
+        assertThat(Files.isSameFile(second, blob)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep the objects of one owner in the same shard")
+    void shouldShardByOwner() {
+        Path audio = store.objectPath("generation/user-1/med-1/audio.mp3");
+        Path video = store.objectPath("generation/user-1/med-2/video.mp4");
+
+        assertThat(audio.getParent().getParent().getParent().getParent())
+            .isEqualTo(video.getParent().getParent().getParent().getParent());
+        assertThat(root.resolve("objects").relativize(audio).getName(0).toString()).matches("[0-9a-f]{2}");
+    }
+
+    @Test
+    @DisplayName("Should replace an object atomically, leaving no staged files")
+    void shouldReplaceObject() throws Exception {
+        store.put(Files.writeString(tempDir.resolve("v1"), "first"), KEY);
+        store.put(Files.writeString(tempDir.resolve("v2"), "second"), KEY);
+
+        StoredObject object = store.find(KEY).orElseThrow();
+        assertThat(Files.readString(object.file())).isEqualTo("second");
+        assertThat(object.sha256()).isEqualTo(sha256("second"));
+        assertThat(root.resolve("tmp")).isEmptyDirectory();
+    }
+
+    @Test
+    @DisplayName("Should copy an object by linking its content")
+    void shouldCopyObject() throws Exception {
+        store.put(Files.writeString(tempDir.resolve("video.mp4"), "video"), "generation/user-1/med-1/video.mp4");
+
+        String url = store.copy("generation/user-1/med-1/video.mp4", "generation/user-2/med-2/video.mp4");
+
+        assertThat(url).isEqualTo(PUBLIC_URL + "/generation/user-2/med-2/video.mp4");
+        StoredObject copy = store.find("generation/user-2/med-2/video.mp4").orElseThrow();
+        assertThat(copy.sha256()).isEqualTo(sha256("video"));
+        assertThat(Files.isSameFile(copy.file(), store.find("generation/user-1/med-1/video.mp4").orElseThrow().file()))
+            .isTrue();
+        assertThatThrownBy(() -> store.copy("generation/user-9/med-9/video.mp4", "generation/user-3/med-3/video.mp4"))
+            .isInstanceOf(NoSuchFileException.class);
+    }
+
+    @Test
+    @DisplayName("Should rebuild a missing checksum sidecar")
+    void shouldRebuildMissingSidecar() throws Exception {
+        store.put(Files.writeString(tempDir.resolve("audio.mp3"), "audio content"), KEY);
+        Path object = store.find(KEY).orElseThrow().file();
+        Files.delete(object.resolveSibling("audio.mp3.sha256"));
+
+        assertThat(store.find(KEY).orElseThrow().sha256()).isEqualTo(sha256("audio content"));
+        assertThat(object.resolveSibling("audio.mp3.sha256")).exists();
+    }
+
+    @Test
+    @DisplayName("Should reject keys escaping the store or clashing with sidecars")
+    void shouldRejectInvalidKeys() throws IOException {
+        Path source = Files.writeString(tempDir.resolve("file"), "x");
+
+        assertThatThrownBy(() -> store.put(source, "generation/../../etc/passwd"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.put(source, "/absolute/key"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.put(source, KEY + ".sha256"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(store.find("generation/.hidden/file")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should map object URLs back to keys")
+    void shouldResolveKeyOfUrl() {
+        assertThat(store.keyOf(PUBLIC_URL + "/" + KEY)).contains(KEY);
+        assertThat(store.keyOf(PUBLIC_URL + "/" + KEY + "?v=1")).contains(KEY);
+        assertThat(store.keyOf("https://meditation-outputs.s3.amazonaws.com/" + KEY)).isEmpty();
+        assertThat(store.keyOf(PUBLIC_URL + "/generation/../secret")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should list objects page by page, without sidecars")
+    void shouldListObjectsInPages() throws Exception {
+        Path source = Files.writeString(tempDir.resolve("audio.mp3"), "audio content");
+        List<String> keys = List.of(
+            "generation/user-1/med-1/audio.mp3", "generation/user-1/med-2/audio.mp3",
+            "generation/user-2/med-3/audio.mp3", "generation/user-3/med-4/audio.mp3", "other/user-1/file.txt");
+        for (String key : keys) {
+            store.put(source, key);
+        }
+
+        List<ListedObject> first = store.list("generation/", null, 3);
+        List<ListedObject> second = store.list("generation/", first.get(2).key(), 3);
+
+        assertThat(first).hasSize(3);
+        assertThat(second).hasSize(1);
+        assertThat(Stream.concat(first.stream(), second.stream()).map(ListedObject::key))
+            .containsExactlyInAnyOrderElementsOf(keys.subList(0, 4));
+        assertThat(first.get(0).size()).isEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("Should list the objects of one owner contiguously")
+    void shouldListOwnerContiguously() throws Exception {
+        Path source = Files.writeString(tempDir.resolve("audio.mp3"), "audio content");
+        for (int owner = 0; owner < 5; owner++) {
+            for (int item = 0; item < 3; item++) {
+                store.put(source, "generation/user-" + owner + "/med-" + item + "/audio.mp3");
+            }
+        }
+
+        List<String> owners = store.list("generation/", null, 100).stream()
+            .map(object -> object.key().split("/")[1])
+            .toList();
+
+        assertThat(owners).hasSize(15);
+        assertThat(owners.stream().distinct().count()).isEqualTo(5);
+        for (int i = 1; i < owners.size(); i++) {
+            if (!owners.get(i).equals(owners.get(i - 1))) {
+                assertThat(owners.subList(0, i)).doesNotContain(owners.get(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should delete an object, its sidecar and its empty directories")
+    void shouldDeleteObject() throws Exception {
+        store.put(Files.writeString(tempDir.resolve("audio.mp3"), "audio content"), KEY);
+        Path object = store.find(KEY).orElseThrow().file();
+
+        assertThat(store.delete(KEY)).isTrue();
+
+        assertThat(store.find(KEY)).isEmpty();
+        assertThat(object.resolveSibling("audio.mp3.sha256")).doesNotExist();
+        assertThat(object.getParent()).doesNotExist();
+        assertThat(store.delete(KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should delete a blob with the last object linked to it")
+    void shouldPruneUnreferencedBlob() throws Exception {
+        Path source = Files.writeString(tempDir.resolve("audio.mp3"), "same content");
+        store.put(source, KEY);
+        store.put(source, "generation/user-2/med-2/audio.mp3");
+        String hash = sha256("same content");
+        Path blob = root.resolve("blobs").resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+
+        store.delete(KEY);
+        assertThat(blob).exists();
+        assertThat(store.find("generation/user-2/med-2/audio.mp3")).isPresent();
+
+        store.delete("generation/user-2/med-2/audio.mp3");
+        assertThat(blob).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should delete the blob of replaced content")
+    void shouldPruneReplacedBlob() throws Exception {
+        store.put(Files.writeString(tempDir.resolve("old.mp3"), "old content"), KEY);
+        String hash = sha256("old content");
+        Path blob = root.resolve("blobs").resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+
+        store.put(Files.writeString(tempDir.resolve("new.mp3"), "new content"), KEY);
+
+        assertThat(blob).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should drop writes left in progress by a previous run")
+    void shouldClearStagingOnStartup() throws IOException {
+        Files.writeString(root.resolve("tmp").resolve("leftover"), "partial");
+
+        new FileSystemObjectStore(root, PUBLIC_URL);
+
+        assertThat(root.resolve("tmp")).isEmptyDirectory();
+    }
+
+    private static String sha256(String content) throws Exception {
+        return HexFormat.of().formatHex(
+            MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
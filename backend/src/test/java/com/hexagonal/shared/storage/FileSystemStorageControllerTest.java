@@ -0,0 +1,109 @@
+package com.hexagonal.shared.storage;
+
+import com.hexagonal.shared.storage.FileSystemObjectStore.StoredObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for FileSystemStorageController REST API.
+ * Uses MockMvc; the object store is mocked over real files.
+ */
+@ContextConfiguration(classes = com.hexagonal.meditationbuilder.MeditationBuilderApplication.class)
+@WebMvcTest(
+    controllers = FileSystemStorageController.class,
+    properties = "storage.type=filesystem",
+    excludeFilters = @Filter(
+        type = FilterType.ASSIGNABLE_TYPE,
+        classes = {
+            com.hexagonal.meditationbuilder.infrastructure.in.rest.controller.GlobalExceptionHandler.class,
+            com.hexagonal.playback.infrastructure.in.rest.exception.PlaybackExceptionHandler.class
+        }
+    )
+)
+@Import(FileSystemStorageControllerTest.PublicReadSecurityConfig.class)
+@DisplayName("FileSystemStorageController REST API Tests")
+class FileSystemStorageControllerTest {
+
+    /** Objects are public-read, as SecurityConfig leaves /v1/storage open. */
+    @TestConfiguration
+    static class PublicReadSecurityConfig {
+
+        @Bean("testStorageSecurityFilterChain")
+        @Order(Integer.MIN_VALUE)
+        public SecurityFilterChain testFilterChain(HttpSecurity http) throws Exception {
+            http.authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+            return http.build();
+        }
+    }
+
+    private static final String KEY = "generation/user-1/med-1/hls/master.m3u8";
+    private static final String SHA256 = "a".repeat(64);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private FileSystemObjectStore store;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("GET /storage/{key} - Should serve the object with its checksum ETag")
+    void shouldServeObject() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("master.m3u8"), "#EXTM3U\n");
+        when(store.find(KEY)).thenReturn(Optional.of(new StoredObject(
+            KEY, file, 8, SHA256, Instant.parse("2026-02-16T10:30:00Z"), "application/vnd.apple.mpegurl")));
+
+        mockMvc.perform(get("/v1/storage/" + KEY))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"" + SHA256 + "\""))
+            .andExpect(header().string("Content-Type", "application/vnd.apple.mpegurl"))
+            .andExpect(content().string("#EXTM3U\n"));
+    }
+
+    @Test
+    @DisplayName("GET /storage/{key} - Should serve a byte range")
+    void shouldServeRange() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("master.m3u8"), "#EXTM3U\n");
+        when(store.find(KEY)).thenReturn(Optional.of(new StoredObject(
+            KEY, file, 8, SHA256, Instant.parse("2026-02-16T10:30:00Z"), "application/vnd.apple.mpegurl")));
+
+        mockMvc.perform(get("/v1/storage/" + KEY).header("Range", "bytes=1-3"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string("Content-Range", "bytes 1-3/8"))
+            .andExpect(content().string("EXT"));
+    }
+
+    @Test
+    @DisplayName("GET /storage/{key} - Should return 404 for a missing object")
+    void shouldReturnNotFound() throws Exception {
+        when(store.find(KEY)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/v1/storage/" + KEY))
+            .andExpect(status().isNotFound());
+    }
+}
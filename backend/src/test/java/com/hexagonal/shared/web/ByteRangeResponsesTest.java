@@ -0,0 +1,140 @@
+package com.hexagonal.shared.web;
+
+import com.hexagonal.shared.web.ByteRangeResponses.Span;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ByteRangeResponses Tests")
+class ByteRangeResponsesTest {
+
+    private static final String ETAG = "\"d41d8cd98f00b204\"";
+    private static final Instant MODIFIED = Instant.parse("2026-02-16T10:30:00Z");
+    private static final String CACHE_CONTROL = "private, max-age=3600";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should resolve the full content without a Range header")
+    void shouldResolveFullContent() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        Span span = ByteRangeResponses.resolve(request(), response, 10, ETAG, MODIFIED, CACHE_CONTROL);
+
+        assertThat(span).isEqualTo(new Span(0, 9, 10, false));
+        assertThat(response.getHeader("ETag")).isEqualTo(ETAG);
+        assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        assertThat(response.getHeader("Cache-Control")).isEqualTo(CACHE_CONTROL);
+        assertThat(response.getDateHeader("Last-Modified")).isEqualTo(MODIFIED.toEpochMilli());
+    }
+
+    @Test
+    @DisplayName("Should resolve a single range and write its headers")
+    void shouldResolveSingleRange() {
+        MockHttpServletRequest request = request();
+        request.addHeader("Range", "bytes=2-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        Span span = ByteRangeResponses.resolve(request, response, 10, ETAG, MODIFIED, CACHE_CONTROL);
+        ByteRangeResponses.writeHeaders(response, span, "audio/mpeg");
+
+        assertThat(span).isEqualTo(new Span(2, 9, 10, true));
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 2-9/10");
+        assertThat(response.getContentLengthLong()).isEqualTo(8);
+        assertThat(response.getContentType()).isEqualTo("audio/mpeg");
+    }
+
+    @Test
+    @DisplayName("Should answer 416 for malformed and unsatisfiable ranges")
+    void shouldRejectBadRanges() {
+        for (String range : new String[] {"bytes=10-", "bytes=-0", "items=0-1"}) {
+            MockHttpServletRequest request = request();
+            request.addHeader("Range", range);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            assertThat(ByteRangeResponses.resolve(request, response, 10, ETAG, MODIFIED, CACHE_CONTROL)).isNull();
+            assertThat(response.getStatus()).isEqualTo(416);
+            assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */10");
+        }
+    }
+
+    @Test
+    @DisplayName("Should answer 304 when the client copy is current")
+    void shouldAnswerNotModified() {
+        MockHttpServletRequest request = request();
+        request.addHeader("If-None-Match", ETAG);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(ByteRangeResponses.resolve(request, response, 10, ETAG, MODIFIED, CACHE_CONTROL)).isNull();
+        assertThat(response.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("Should transfer a file range when sendfile is not available")
+    void shouldTransferFileRange() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("media"), "0123456789");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean sent = ByteRangeResponses.sendFile(request(), response, file, new Span(3, 6, 10, true), "audio/mpeg");
+
+        assertThat(sent).isTrue();
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("3456");
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 3-6/10");
+    }
+
+    @Test
+    @DisplayName("Should hand the file to Tomcat sendfile when supported")
+    void shouldUseSendfile() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("media"), "0123456789");
+        MockHttpServletRequest request = request();
+        request.setAttribute(ByteRangeResponses.SENDFILE_SUPPORT, Boolean.TRUE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ByteRangeResponses.sendFile(request, response, file, new Span(3, 6, 10, true), "audio/mpeg");
+
+        assertThat(request.getAttribute(ByteRangeResponses.SENDFILE_FILENAME))
+            .isEqualTo(file.toAbsolutePath().toString());
+        assertThat(request.getAttribute(ByteRangeResponses.SENDFILE_START)).isEqualTo(3L);
+        assertThat(request.getAttribute(ByteRangeResponses.SENDFILE_END)).isEqualTo(7L);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should report a missing file without writing anything")
+    void shouldReportMissingFile() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean sent = ByteRangeResponses.sendFile(
+            request(), response, tempDir.resolve("missing"), new Span(0, 9, 10, false), "audio/mpeg");
+
+        assertThat(sent).isFalse();
+        assertThat(response.getContentType()).isNull();
+    }
+
+    @Test
+    @DisplayName("If-Range should match the strong ETag or the exact Last-Modified date")
+    void shouldMatchIfRangeValidators() {
+        assertThat(ByteRangeResponses.ifRangeMatches(null, ETAG, MODIFIED)).isTrue();
+        assertThat(ByteRangeResponses.ifRangeMatches(ETAG, ETAG, MODIFIED)).isTrue();
+        assertThat(ByteRangeResponses.ifRangeMatches("W/" + ETAG, ETAG, MODIFIED)).isFalse();
+        assertThat(ByteRangeResponses.ifRangeMatches("Mon, 16 Feb 2026 10:30:00 GMT", ETAG, MODIFIED)).isTrue();
+        assertThat(ByteRangeResponses.ifRangeMatches("Mon, 16 Feb 2026 10:29:59 GMT", ETAG, MODIFIED)).isFalse();
+        assertThat(ByteRangeResponses.ifRangeMatches("yesterday", ETAG, MODIFIED)).isFalse();
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/media");
+    }
+}